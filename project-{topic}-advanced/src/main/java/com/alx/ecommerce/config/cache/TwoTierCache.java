@@ -0,0 +1,187 @@
+```java
+package com.alx.ecommerce.config.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+
+/**
+ * A {@link Cache} served from a bounded local Caffeine cache (L1) in front of a shared Redis cache (L2).
+ * <p>
+ * Reads try L1, then L2 (copying the value into L1), then the loader. Writes go to both tiers and are announced
+ * through {@code invalidationPublisher} so that other nodes drop their L1 copy; L1 entries also expire after a
+ * short TTL in case an announcement is lost. L1 is keyed by the string form of the key, which is what Redis keys
+ * are made of too, so an eviction announced as a string removes the same entry everywhere.
+ */
+public class TwoTierCache implements Cache {
+
+    private static final Logger logger = LoggerFactory.getLogger(TwoTierCache.class);
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> local;
+    private final Cache remote;
+    private final BiConsumer<String, String> invalidationPublisher; // (cacheName, key or null for clear)
+
+    private final LongAdder localHits = new LongAdder();
+    private final LongAdder remoteHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder puts = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public TwoTierCache(String name, com.github.benmanes.caffeine.cache.Cache<String, Object> local, Cache remote,
+                        BiConsumer<String, String> invalidationPublisher) {
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.invalidationPublisher = invalidationPublisher;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = localKey(key);
+        Object value = local.getIfPresent(localKey);
+        if (value != null) {
+            localHits.increment();
+            return () -> value;
+        }
+        ValueWrapper remoteValue = getRemote(key);
+        if (remoteValue != null && remoteValue.get() != null) {
+            remoteHits.increment();
+            local.put(localKey, remoteValue.get());
+            return remoteValue;
+        }
+        misses.increment();
+        return null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper cached = get(key);
+        if (cached != null) {
+            return (T) cached.get();
+        }
+        // Caffeine runs the loader once per key on this node; concurrent callers wait for it
+        return (T) local.get(localKey(key), k -> {
+            try {
+                T value = valueLoader.call();
+                if (value != null) {
+                    remote.put(key, value);
+                    puts.increment();
+                    invalidationPublisher.accept(name, k);
+                }
+                return value;
+            } catch (Exception e) {
+                throw new ValueRetrievalException(key, valueLoader, e);
+            }
+        });
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (value == null) {
+            evict(key); // Null values are not cached
+            return;
+        }
+        String localKey = localKey(key);
+        remote.put(key, value);
+        local.put(localKey, value);
+        puts.increment();
+        invalidationPublisher.accept(name, localKey);
+    }
+
+    @Override
+    public void evict(Object key) {
+        String localKey = localKey(key);
+        remote.evict(key);
+        local.invalidate(localKey);
+        evictions.increment();
+        invalidationPublisher.accept(name, localKey);
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        local.invalidateAll();
+        invalidationPublisher.accept(name, null);
+    }
+
+    /**
+     * Drops a local entry on behalf of another node.
+     *
+     * @param key the string form of the key, or {@code null} to drop every local entry.
+     */
+    void invalidateLocal(String key) {
+        if (key == null) {
+            local.invalidateAll();
+        } else {
+            local.invalidate(key);
+        }
+    }
+
+    long localHitCount() {
+        return localHits.sum();
+    }
+
+    long hitCount() {
+        return localHits.sum() + remoteHits.sum();
+    }
+
+    long missCount() {
+        return misses.sum();
+    }
+
+    long putCount() {
+        return puts.sum();
+    }
+
+    long evictionCount() {
+        return evictions.sum();
+    }
+
+    long localSize() {
+        return local.estimatedSize();
+    }
+
+    private ValueWrapper getRemote(Object key) {
+        try {
+            return remote.get(key);
+        } catch (SerializationException e) {
+            // Written by an incompatible version of a class; treat as a miss so it gets recomputed
+            logger.warn("Dropping unreadable entry {} from cache {}: {}", key, name, e.getMessage());
+            remote.evict(key);
+            return null;
+        }
+    }
+
+    static String localKey(Object key) {
+        return key instanceof String ? (String) key : String.valueOf(key);
+    }
+}
+```
@@ -0,0 +1,101 @@
+```java
+package com.alx.ecommerce.config.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link CacheManager} creating a {@link TwoTierCache} per cache name: a local Caffeine L1 sized and timed per
+ * cache, over the corresponding {@link RedisCacheManager} L2 cache.
+ * <p>
+ * Writes and evictions are published on a Redis channel as {@code nodeId|cacheName|key} ({@code key} empty for a
+ * clear). Every node listens on the channel and drops the matching L1 entries, skipping its own messages.
+ */
+public class TwoTierCacheManager implements CacheManager, MessageListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(TwoTierCacheManager.class);
+    private static final String SEPARATOR = "|";
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final TwoTierCacheProperties properties;
+    private final RedisCacheManager remoteCacheManager;
+    private final StringRedisTemplate redisTemplate;
+    private final Map<String, TwoTierCache> caches = new ConcurrentHashMap<>();
+
+    public TwoTierCacheManager(TwoTierCacheProperties properties, RedisConnectionFactory connectionFactory,
+                               RedisCacheConfiguration remoteDefaults, StringRedisTemplate redisTemplate) {
+        this.properties = properties;
+        this.redisTemplate = redisTemplate;
+        Map<String, RedisCacheConfiguration> remoteConfigs = new HashMap<>();
+        properties.getCaches().keySet().forEach(name ->
+                remoteConfigs.put(name, remoteDefaults.entryTtl(properties.remoteTtl(name))));
+        this.remoteCacheManager = RedisCacheManager.builder(RedisCacheWriter.nonLockingRedisCacheWriter(connectionFactory))
+                .cacheDefaults(remoteDefaults.entryTtl(properties.remoteTtl(null)))
+                .withInitialCacheConfigurations(remoteConfigs)
+                .build();
+        this.remoteCacheManager.initializeCaches();
+        properties.getCaches().keySet().forEach(this::getCache); // So their metrics are bound at startup
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+
+    /**
+     * Handles an invalidation published by another node.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 3);
+        if (parts.length < 3 || nodeId.equals(parts[0])) {
+            return;
+        }
+        TwoTierCache cache = caches.get(parts[1]);
+        if (cache != null) {
+            cache.invalidateLocal(parts[2].isEmpty() ? null : parts[2]);
+        }
+    }
+
+    private TwoTierCache createCache(String name) {
+        com.github.benmanes.caffeine.cache.Cache<String, Object> local = Caffeine.newBuilder()
+                .maximumSize(properties.localMaxSize(name))
+                .expireAfterWrite(properties.localTtl(name))
+                .build();
+        return new TwoTierCache(name, local, remoteCacheManager.getCache(name), this::publishInvalidation);
+    }
+
+    private void publishInvalidation(String cacheName, String key) {
+        try {
+            redisTemplate.convertAndSend(properties.getInvalidationChannel(),
+                    nodeId + SEPARATOR + cacheName + SEPARATOR + (key != null ? key : ""));
+        } catch (RuntimeException e) {
+            // Other nodes then serve their local copy until it expires
+            logger.warn("Failed to publish invalidation of {} in cache {}: {}", key, cacheName, e.getMessage());
+        }
+    }
+}
+```
@@ -0,0 +1,56 @@
+```java
+package com.alx.ecommerce.config.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CacheMeterBinder;
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+
+/**
+ * Exposes the standard cache metrics ({@code cache.gets} hit/miss, {@code cache.puts}, {@code cache.evictions},
+ * {@code cache.size} of L1) for {@link TwoTierCache}s, plus {@code cache.gets.local} counting the hits served
+ * from L1 without a Redis round-trip.
+ */
+public class TwoTierCacheMeterBinderProvider implements CacheMeterBinderProvider<TwoTierCache> {
+
+    @Override
+    public MeterBinder getMeterBinder(TwoTierCache cache, Iterable<Tag> tags) {
+        return new CacheMeterBinder<>(cache, cache.getName(), tags) {
+            @Override
+            protected Long size() {
+                return cache.localSize();
+            }
+
+            @Override
+            protected long hitCount() {
+                return cache.hitCount();
+            }
+
+            @Override
+            protected Long missCount() {
+                return cache.missCount();
+            }
+
+            @Override
+            protected Long evictionCount() {
+                return cache.evictionCount();
+            }
+
+            @Override
+            protected long putCount() {
+                return cache.putCount();
+            }
+
+            @Override
+            protected void bindImplementationSpecificMetrics(MeterRegistry registry) {
+                FunctionCounter.builder("cache.gets.local", cache, TwoTierCache::localHitCount)
+                        .tags(getTagsWithCacheName())
+                        .description("Cache hits served from the local tier")
+                        .register(registry);
+            }
+        };
+    }
+}
+```
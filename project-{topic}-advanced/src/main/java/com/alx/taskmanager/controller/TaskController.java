@@ -1,5 +1,7 @@
 package com.alx.taskmanager.controller;
 
+import com.alx.taskmanager.dto.TaskBulkAssignRequest;
+import com.alx.taskmanager.dto.TaskBulkStatusRequest;
 import com.alx.taskmanager.dto.TaskDTO;
 import com.alx.taskmanager.service.TaskService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -63,6 +65,22 @@ public class TaskController {
         return ResponseEntity.ok(updatedTask);
     }
 
+    @Operation(summary = "Set the status of several tasks at once")
+    @PutMapping("/bulk/status")
+    @PreAuthorize("hasRole('ADMIN') or @taskSecurity.canModifyTasks(#request.taskIds)")
+    public ResponseEntity<Void> updateTaskStatuses(@Valid @RequestBody TaskBulkStatusRequest request) {
+        taskService.updateTaskStatuses(request);
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(summary = "Assign or unassign several tasks at once")
+    @PutMapping("/bulk/assignee")
+    @PreAuthorize("hasRole('ADMIN') or @taskSecurity.canModifyTasks(#request.taskIds)")
+    public ResponseEntity<Void> updateTaskAssignees(@Valid @RequestBody TaskBulkAssignRequest request) {
+        taskService.updateTaskAssignees(request);
+        return ResponseEntity.noContent().build();
+    }
+
     @Operation(summary = "Delete a task")
     @DeleteMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN') or @taskSecurity.canModifyTask(#id)")
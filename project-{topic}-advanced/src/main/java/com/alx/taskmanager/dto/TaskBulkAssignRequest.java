@@ -0,0 +1,16 @@
+package com.alx.taskmanager.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class TaskBulkAssignRequest {
+    @NotEmpty
+    @Size(max = 1000)
+    private List<@NotNull Long> taskIds;
+    private Long assigneeId; // Null unassigns the tasks
+}
@@ -0,0 +1,18 @@
+package com.alx.taskmanager.dto;
+
+import com.alx.taskmanager.model.TaskStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class TaskBulkStatusRequest {
+    @NotEmpty
+    @Size(max = 1000)
+    private List<@NotNull Long> taskIds;
+    @NotNull
+    private TaskStatus status;
+}
@@ -12,4 +12,8 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
     // Find projects by a user assigned to them
     @Query("SELECT p FROM Project p JOIN p.assignedUsers u WHERE u.id = :userId")
     List<Project> findByAssignedUsers_Id(Long userId);
+
+    // Member ids only, for the ACL index; does not load the users
+    @Query("SELECT u.id FROM Project p JOIN p.assignedUsers u WHERE p.id = :projectId")
+    List<Long> findAssignedUserIds(Long projectId);
 }
\ No newline at end of file
@@ -2,10 +2,16 @@ package com.alx.taskmanager.repository;
 
 import com.alx.taskmanager.model.Task;
 import com.alx.taskmanager.model.TaskStatus;
+import com.alx.taskmanager.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface TaskRepository extends JpaRepository<Task, Long> {
@@ -13,4 +19,34 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     List<Task> findByAssigneeId(Long assigneeId);
     List<Task> findByReporterId(Long reporterId);
     List<Task> findByProjectIdAndStatus(Long projectId, TaskStatus status);
+
+    // Ids only, for the ACL index; LEFT JOINs keep tasks without a reporter or assignee
+    @Query("SELECT p.id AS projectId, r.id AS reporterId, a.id AS assigneeId FROM Task t " +
+            "JOIN t.project p LEFT JOIN t.reporter r LEFT JOIN t.assignee a WHERE t.id = :taskId")
+    Optional<TaskAccessView> findAccessById(Long taskId);
+
+    // The same for a batch of tasks, in one query; missing tasks have no row
+    @Query("SELECT t.id AS taskId, p.id AS projectId, r.id AS reporterId, a.id AS assigneeId FROM Task t " +
+            "JOIN t.project p LEFT JOIN t.reporter r LEFT JOIN t.assignee a WHERE t.id IN :taskIds")
+    List<TaskAccessRow> findAccessByIdIn(Collection<Long> taskIds);
+
+    // Set-based bulk updates: one statement for the whole batch, returning how many tasks matched.
+    // They bypass @UpdateTimestamp, so the caller passes the time.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.status = :status, t.updatedAt = :updatedAt WHERE t.id IN :taskIds")
+    int updateStatusByIdIn(Collection<Long> taskIds, TaskStatus status, LocalDateTime updatedAt);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.assignee = :assignee, t.updatedAt = :updatedAt WHERE t.id IN :taskIds")
+    int updateAssigneeByIdIn(Collection<Long> taskIds, User assignee, LocalDateTime updatedAt);
+
+    interface TaskAccessView {
+        Long getProjectId();
+        Long getReporterId();
+        Long getAssigneeId();
+    }
+
+    interface TaskAccessRow extends TaskAccessView {
+        Long getTaskId();
+    }
 }
\ No newline at end of file
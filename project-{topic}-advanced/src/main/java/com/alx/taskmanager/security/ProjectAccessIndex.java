@@ -0,0 +1,141 @@
+package com.alx.taskmanager.security;
+
+import com.alx.taskmanager.model.Project;
+import com.alx.taskmanager.model.Task;
+import com.alx.taskmanager.model.User;
+import com.alx.taskmanager.repository.ProjectRepository;
+import com.alx.taskmanager.repository.TaskRepository;
+import com.alx.taskmanager.util.TransactionCallbacks;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory ACL for the {@code @PreAuthorize} checks: project id to the sorted member user ids, and task id to
+ * the task's project, reporter and assignee. A missing entry is loaded once with an id-only query; after that a
+ * check touches no entities. The services keep entries current after their transactions commit.
+ * <p>
+ * Each instance only sees writes made through itself; entries expire after ten minutes so that, with several
+ * instances, changes made on another one are picked up within that time.
+ */
+@Component
+public class ProjectAccessIndex {
+
+    private final ProjectRepository projectRepository;
+    private final TaskRepository taskRepository;
+    private final Cache<Long, long[]> projectMembers; // Never mutated once cached, replaced as a whole
+    private final Cache<Long, TaskAccess> taskAccess;
+
+    public ProjectAccessIndex(ProjectRepository projectRepository,
+                              TaskRepository taskRepository,
+                              @Value("${taskmanager.acl.max-projects:100000}") long maxProjects,
+                              @Value("${taskmanager.acl.max-tasks:1000000}") long maxTasks) {
+        this.projectRepository = projectRepository;
+        this.taskRepository = taskRepository;
+        this.projectMembers = Caffeine.newBuilder()
+                .maximumSize(maxProjects)
+                .expireAfterWrite(10, TimeUnit.MINUTES)
+                .build();
+        this.taskAccess = Caffeine.newBuilder()
+                .maximumSize(maxTasks)
+                .expireAfterWrite(10, TimeUnit.MINUTES)
+                .build();
+    }
+
+    public boolean isProjectMember(Long projectId, Long userId) {
+        if (projectId == null || userId == null) {
+            return false;
+        }
+        long[] members = projectMembers.get(projectId, id -> toSortedArray(projectRepository.findAssignedUserIds(id)));
+        return Arrays.binarySearch(members, userId) >= 0;
+    }
+
+    // Reporter, assignee or member of the task's project; unknown tasks are denied and not remembered
+    public boolean canAccessTask(Long taskId, Long userId) {
+        if (taskId == null || userId == null) {
+            return false;
+        }
+        TaskAccess access = taskAccess.get(taskId, id -> taskRepository.findAccessById(id)
+                .map(view -> new TaskAccess(view.getProjectId(), view.getReporterId(), view.getAssigneeId()))
+                .orElse(null));
+        if (access == null) {
+            return false;
+        }
+        return userId.equals(access.reporterId())
+                || userId.equals(access.assigneeId())
+                || isProjectMember(access.projectId(), userId);
+    }
+
+    // The same for every task of a batch; entries not yet cached are loaded together in one query
+    public boolean canAccessTasks(Collection<Long> taskIds, Long userId) {
+        if (taskIds == null || taskIds.isEmpty() || userId == null || taskIds.contains(null)) {
+            return false;
+        }
+        Map<Long, TaskAccess> accesses = taskAccess.getAll(taskIds, ids ->
+                taskRepository.findAccessByIdIn(List.copyOf(ids)).stream()
+                        .collect(Collectors.toMap(TaskRepository.TaskAccessRow::getTaskId,
+                                row -> new TaskAccess(row.getProjectId(), row.getReporterId(), row.getAssigneeId()))));
+        if (accesses.size() < taskIds.stream().distinct().count()) {
+            return false;
+        }
+        return accesses.values().stream().allMatch(access -> userId.equals(access.reporterId())
+                || userId.equals(access.assigneeId())
+                || isProjectMember(access.projectId(), userId));
+    }
+
+    // Call with the saved project; the members are captured now and published once the transaction commits
+    public void projectChanged(Project project) {
+        if (project == null || project.getId() == null) {
+            return;
+        }
+        Long projectId = project.getId();
+        long[] members = toSortedArray(project.getAssignedUsers().stream().map(User::getId).toList());
+        TransactionCallbacks.afterCommit(() -> projectMembers.put(projectId, members));
+    }
+
+    public void projectDeleted(Long projectId) {
+        TransactionCallbacks.afterCommit(() -> {
+            projectMembers.invalidate(projectId);
+            // Tasks go with their project; deleting a project is rare enough to scan for them
+            taskAccess.asMap().values().removeIf(access -> projectId.equals(access.projectId()));
+        });
+    }
+
+    // Call with the saved task; reading the related ids does not initialize the lazy associations
+    public void taskChanged(Task task) {
+        if (task == null || task.getId() == null) {
+            return;
+        }
+        Long taskId = task.getId();
+        TaskAccess access = new TaskAccess(
+                task.getProject() != null ? task.getProject().getId() : null,
+                task.getReporter() != null ? task.getReporter().getId() : null,
+                task.getAssignee() != null ? task.getAssignee().getId() : null);
+        TransactionCallbacks.afterCommit(() -> taskAccess.put(taskId, access));
+    }
+
+    public void taskDeleted(Long taskId) {
+        TransactionCallbacks.afterCommit(() -> taskAccess.invalidate(taskId));
+    }
+
+    // For bulk updates that bypass the entities; the tasks are reloaded on their next check
+    public void tasksChanged(Collection<Long> taskIds) {
+        TransactionCallbacks.afterCommit(() -> taskAccess.invalidateAll(taskIds));
+    }
+
+    // Eight bytes per member whatever the user ids; a bitset would grow with the largest id instead
+    private static long[] toSortedArray(Collection<Long> userIds) {
+        return userIds.stream().mapToLong(Long::longValue).sorted().distinct().toArray();
+    }
+
+    record TaskAccess(Long projectId, Long reporterId, Long assigneeId) {
+    }
+}
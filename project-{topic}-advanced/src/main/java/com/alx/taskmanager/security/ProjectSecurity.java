@@ -1,8 +1,6 @@
 package com.alx.taskmanager.security;
 
-import com.alx.taskmanager.model.Project;
 import com.alx.taskmanager.model.UserRole;
-import com.alx.taskmanager.repository.ProjectRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -12,7 +10,7 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class ProjectSecurity {
 
-    private final ProjectRepository projectRepository;
+    private final ProjectAccessIndex projectAccessIndex;
 
     private UserDetailsImpl getCurrentUser() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
@@ -30,12 +28,8 @@ public class ProjectSecurity {
             return true; // Admin can access any project
         }
 
-        Project project = projectRepository.findById(projectId).orElse(null);
-        if (project == null) return false;
-
         // Check if the user is assigned to the project
-        return project.getAssignedUsers().stream()
-                .anyMatch(user -> user.getId().equals(currentUser.getId()));
+        return projectAccessIndex.isProjectMember(projectId, currentUser.getId());
     }
 
     public boolean canModifyProject(Long projectId) {
@@ -46,13 +40,9 @@ public class ProjectSecurity {
             return true; // Admin can modify any project
         }
 
-        Project project = projectRepository.findById(projectId).orElse(null);
-        if (project == null) return false;
-
         // For simplicity, let's say only admin or users assigned to the project can modify.
         // A more complex rule might be "project creator" or "project lead".
-        return project.getAssignedUsers().stream()
-                .anyMatch(user -> user.getId().equals(currentUser.getId()));
+        return projectAccessIndex.isProjectMember(projectId, currentUser.getId());
     }
 
     public boolean canDeleteProject(Long projectId) {
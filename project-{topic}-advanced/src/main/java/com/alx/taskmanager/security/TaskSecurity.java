@@ -1,18 +1,18 @@
 package com.alx.taskmanager.security;
 
-import com.alx.taskmanager.model.Task;
 import com.alx.taskmanager.model.UserRole;
-import com.alx.taskmanager.repository.TaskRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+
 @Component("taskSecurity")
 @RequiredArgsConstructor
 public class TaskSecurity {
 
-    private final TaskRepository taskRepository;
+    private final ProjectAccessIndex projectAccessIndex;
 
     private UserDetailsImpl getCurrentUser() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
@@ -30,16 +30,8 @@ public class TaskSecurity {
             return true; // Admin can access any task
         }
 
-        Task task = taskRepository.findById(taskId).orElse(null);
-        if (task == null) return false;
-
         // User can access if they are the reporter, assignee, or assigned to the project the task belongs to
-        boolean isReporter = task.getReporter() != null && task.getReporter().getId().equals(currentUser.getId());
-        boolean isAssignee = task.getAssignee() != null && task.getAssignee().getId().equals(currentUser.getId());
-        boolean isProjectMember = task.getProject().getAssignedUsers().stream()
-                .anyMatch(user -> user.getId().equals(currentUser.getId()));
-
-        return isReporter || isAssignee || isProjectMember;
+        return projectAccessIndex.canAccessTask(taskId, currentUser.getId());
     }
 
     public boolean canModifyTask(Long taskId) {
@@ -50,15 +42,19 @@ public class TaskSecurity {
             return true; // Admin can modify any task
         }
 
-        Task task = taskRepository.findById(taskId).orElse(null);
-        if (task == null) return false;
-
         // User can modify if they are the reporter or assignee, or project member
-        boolean isReporter = task.getReporter() != null && task.getReporter().getId().equals(currentUser.getId());
-        boolean isAssignee = task.getAssignee() != null && task.getAssignee().getId().equals(currentUser.getId());
-        boolean isProjectMember = task.getProject().getAssignedUsers().stream()
-                .anyMatch(user -> user.getId().equals(currentUser.getId()));
+        return projectAccessIndex.canAccessTask(taskId, currentUser.getId());
+    }
+
+    public boolean canModifyTasks(Collection<Long> taskIds) {
+        UserDetailsImpl currentUser = getCurrentUser();
+        if (currentUser == null) return false;
+
+        if (currentUser.getAuthorities().stream().anyMatch(a -> a.getAuthority().equals(UserRole.ROLE_ADMIN.name()))) {
+            return true; // Admin can modify any task
+        }
 
-        return isReporter || isAssignee || isProjectMember;
+        // Every task must be modifiable, as with canModifyTask; unknown tasks deny the whole batch
+        return projectAccessIndex.canAccessTasks(taskIds, currentUser.getId());
     }
 }
\ No newline at end of file
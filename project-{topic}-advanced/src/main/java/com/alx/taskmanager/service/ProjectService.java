@@ -7,6 +7,7 @@ import com.alx.taskmanager.model.Project;
 import com.alx.taskmanager.model.User;
 import com.alx.taskmanager.repository.ProjectRepository;
 import com.alx.taskmanager.repository.UserRepository;
+import com.alx.taskmanager.security.ProjectAccessIndex;
 import com.alx.taskmanager.util.MapperUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.CacheEvict;
@@ -26,6 +27,7 @@ public class ProjectService {
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
     private final MapperUtil mapperUtil;
+    private final ProjectAccessIndex projectAccessIndex;
 
     @Transactional
     public ProjectDTO createProject(ProjectDTO projectDTO) {
@@ -42,7 +44,9 @@ public class ProjectService {
             project.setAssignedUsers(assignedUsers);
         }
 
-        return mapperUtil.toProjectDTO(projectRepository.save(project));
+        Project savedProject = projectRepository.save(project);
+        projectAccessIndex.projectChanged(savedProject);
+        return mapperUtil.toProjectDTO(savedProject);
     }
 
     @Cacheable(value = "projects", key = "#id")
@@ -81,7 +85,9 @@ public class ProjectService {
             project.getAssignedUsers().clear(); // If assignedUserIds is null, clear all assignments
         }
 
-        return mapperUtil.toProjectDTO(projectRepository.save(project));
+        Project savedProject = projectRepository.save(project);
+        projectAccessIndex.projectChanged(savedProject);
+        return mapperUtil.toProjectDTO(savedProject);
     }
 
     @CacheEvict(value = "projects", key = "#id")
@@ -91,6 +97,7 @@ public class ProjectService {
             throw new ResourceNotFoundException("Project not found with id: " + id);
         }
         projectRepository.deleteById(id);
+        projectAccessIndex.projectDeleted(id);
     }
 
     @Transactional
@@ -104,7 +111,9 @@ public class ProjectService {
                 .collect(Collectors.toSet());
 
         project.getAssignedUsers().addAll(usersToAssign);
-        return mapperUtil.toProjectDTO(projectRepository.save(project));
+        Project savedProject = projectRepository.save(project);
+        projectAccessIndex.projectChanged(savedProject);
+        return mapperUtil.toProjectDTO(savedProject);
     }
 
     @Transactional
@@ -113,6 +122,8 @@ public class ProjectService {
                 .orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + projectId));
 
         project.getAssignedUsers().removeIf(user -> userIds.contains(user.getId()));
-        return mapperUtil.toProjectDTO(projectRepository.save(project));
+        Project savedProject = projectRepository.save(project);
+        projectAccessIndex.projectChanged(savedProject);
+        return mapperUtil.toProjectDTO(savedProject);
     }
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.alx.taskmanager.service;
 
+import com.alx.taskmanager.dto.TaskBulkAssignRequest;
+import com.alx.taskmanager.dto.TaskBulkStatusRequest;
 import com.alx.taskmanager.dto.TaskDTO;
 import com.alx.taskmanager.exception.ResourceNotFoundException;
 import com.alx.taskmanager.model.Project;
@@ -8,6 +10,7 @@ import com.alx.taskmanager.model.User;
 import com.alx.taskmanager.repository.ProjectRepository;
 import com.alx.taskmanager.repository.TaskRepository;
 import com.alx.taskmanager.repository.UserRepository;
+import com.alx.taskmanager.security.ProjectAccessIndex;
 import com.alx.taskmanager.security.UserDetailsImpl;
 import com.alx.taskmanager.util.MapperUtil;
 import lombok.RequiredArgsConstructor;
@@ -18,6 +21,7 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -29,6 +33,7 @@ public class TaskService {
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
     private final MapperUtil mapperUtil;
+    private final ProjectAccessIndex projectAccessIndex;
 
     @Transactional
     public TaskDTO createTask(TaskDTO taskDTO) {
@@ -57,7 +62,9 @@ public class TaskService {
             task.setAssignee(assignee);
         }
 
-        return mapperUtil.toTaskDTO(taskRepository.save(task));
+        Task savedTask = taskRepository.save(task);
+        projectAccessIndex.taskChanged(savedTask);
+        return mapperUtil.toTaskDTO(savedTask);
     }
 
     @Cacheable(value = "tasks", key = "#id")
@@ -109,7 +116,39 @@ public class TaskService {
             task.setAssignee(null); // Unassign
         }
 
-        return mapperUtil.toTaskDTO(taskRepository.save(task));
+        Task savedTask = taskRepository.save(task);
+        projectAccessIndex.taskChanged(savedTask);
+        return mapperUtil.toTaskDTO(savedTask);
+    }
+
+    // One UPDATE for the whole batch; the "tasks" cache is cleared once instead of per task
+    @CacheEvict(value = "tasks", allEntries = true)
+    @Transactional
+    public void updateTaskStatuses(TaskBulkStatusRequest request) {
+        List<Long> taskIds = request.getTaskIds().stream().distinct().toList();
+        int updated = taskRepository.updateStatusByIdIn(taskIds, request.getStatus(), LocalDateTime.now());
+        requireAllUpdated(taskIds, updated);
+    }
+
+    @CacheEvict(value = "tasks", allEntries = true)
+    @Transactional
+    public void updateTaskAssignees(TaskBulkAssignRequest request) {
+        List<Long> taskIds = request.getTaskIds().stream().distinct().toList();
+        User assignee = null;
+        if (request.getAssigneeId() != null) {
+            assignee = userRepository.findById(request.getAssigneeId())
+                    .orElseThrow(() -> new ResourceNotFoundException("Assignee user not found with id: " + request.getAssigneeId()));
+        }
+        int updated = taskRepository.updateAssigneeByIdIn(taskIds, assignee, LocalDateTime.now());
+        requireAllUpdated(taskIds, updated);
+        projectAccessIndex.tasksChanged(taskIds);
+    }
+
+    // The tasks were checked by @PreAuthorize; one deleted since then rolls back the whole batch
+    private static void requireAllUpdated(List<Long> taskIds, int updated) {
+        if (updated != taskIds.size()) {
+            throw new ResourceNotFoundException("Tasks not found: " + (taskIds.size() - updated) + " of " + taskIds.size());
+        }
     }
 
     @CacheEvict(value = "tasks", key = "#id")
@@ -119,5 +158,6 @@ public class TaskService {
             throw new ResourceNotFoundException("Task not found with id: " + id);
         }
         taskRepository.deleteById(id);
+        projectAccessIndex.taskDeleted(id);
     }
 }
\ No newline at end of file
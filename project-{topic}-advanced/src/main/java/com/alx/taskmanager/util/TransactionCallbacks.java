@@ -0,0 +1,32 @@
+package com.alx.taskmanager.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Deferral of in-memory updates to the end of the current transaction.
+ * The access index applies membership changes through it, so a rolled-back write never changes what it grants.
+ */
+public final class TransactionCallbacks {
+
+    private TransactionCallbacks() {
+    }
+
+    /**
+     * Runs an action once the current transaction commits, or right away outside a transaction.
+     * The action is dropped when the transaction rolls back.
+     * @param action The action to run.
+     */
+    public static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
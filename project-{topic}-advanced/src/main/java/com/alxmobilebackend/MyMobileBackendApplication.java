@@ -6,10 +6,12 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.EnableAspectJAutoProxy;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableCaching // Enables Spring's caching abstraction
 @EnableAsync   // Enables Spring's async method execution
+@EnableScheduling // Periodic flush of the sales rollups
 @EnableAspectJAutoProxy(proxyTargetClass = true) // Needed for AOP features like caching, transactions, etc.
 public class MyMobileBackendApplication {
 
@@ -0,0 +1,52 @@
+```java
+package com.alxmobilebackend.controller;
+
+import com.alxmobilebackend.dto.SalesReportDto;
+import com.alxmobilebackend.model.RollupGranularity;
+import com.alxmobilebackend.service.SalesRollupService;
+import com.alxmobilebackend.util.Constants;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RestController
+@RequestMapping(Constants.ANALYTICS_PATH)
+@RequiredArgsConstructor
+@SecurityRequirement(name = "bearerAuth")
+@Tag(name = "Sales Analytics", description = "Pre-aggregated sales reports for admin dashboards")
+public class AnalyticsController {
+
+    private final SalesRollupService salesRollupService;
+
+    @Operation(summary = "Sales summary for a period", description = "Revenue, units, top products and order counts by status. Requires ADMIN role")
+    @GetMapping("/sales")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<SalesReportDto.SalesReport> getSalesReport(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "10") int top) {
+        return ResponseEntity.ok(salesRollupService.getSalesReport(from, to, top));
+    }
+
+    @Operation(summary = "Sales per hour, day or month", description = "Requires ADMIN role")
+    @GetMapping("/sales/series")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<SalesReportDto.SalesBucket>> getSalesSeries(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "DAY") RollupGranularity granularity) {
+        return ResponseEntity.ok(salesRollupService.getSalesSeries(granularity, from, to));
+    }
+}
+```
@@ -2,6 +2,9 @@
 package com.alxmobilebackend.controller;
 
 import com.alxmobilebackend.dto.OrderDto;
+import com.alxmobilebackend.exception.ResourceNotFoundException;
+import com.alxmobilebackend.security.AuthenticatedUser;
+import com.alxmobilebackend.service.OrderReader;
 import com.alxmobilebackend.service.OrderService;
 import com.alxmobilebackend.util.Constants;
 import io.swagger.v3.oas.annotations.Operation;
@@ -14,6 +17,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Service;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -78,20 +82,19 @@ public class OrderController {
 // Custom Security Service for Order ownership check
 @Service("orderSecurityService")
 class OrderSecurityService {
-    private final OrderRepository orderRepository;
-    private final UserRepository userRepository;
+    private final OrderReader orderReader;
 
-    public OrderSecurityService(OrderRepository orderRepository, UserRepository userRepository) {
-        this.orderRepository = orderRepository;
-        this.userRepository = userRepository;
+    public OrderSecurityService(OrderReader orderReader) {
+        this.orderReader = orderReader;
     }
 
     public boolean isOrderOwner(Long orderId) {
-        String authenticatedUserEmail = SecurityContextHolder.getContext().getAuthentication().getName();
-        return userRepository.findByEmail(authenticatedUserEmail)
-                .flatMap(user -> orderRepository.findById(orderId)
-                        .map(order -> order.getUser().getId().equals(user.getId())))
-                .orElse(false);
+        // Principal comes from the token and the order from the cache, so this check costs no queries when warm
+        try {
+            return AuthenticatedUser.current().isSelf(orderReader.getOrder(orderId).getUserId());
+        } catch (ResourceNotFoundException e) {
+            return false;
+        }
     }
 }
 ```
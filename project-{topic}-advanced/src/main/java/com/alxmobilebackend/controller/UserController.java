@@ -3,6 +3,7 @@ package com.alxmobilebackend.controller;
 
 import com.alxmobilebackend.dto.UserDto;
 import com.alxmobilebackend.model.Role;
+import com.alxmobilebackend.security.AuthenticatedUser;
 import com.alxmobilebackend.service.UserService;
 import com.alxmobilebackend.util.Constants;
 import io.swagger.v3.oas.annotations.Operation;
@@ -15,6 +16,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Service;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -60,32 +62,11 @@ public class UserController {
     }
 }
 
-// Dummy SecurityService for @PreAuthorize
-// In a real app, this might be more complex, checking if the authenticated user's ID matches the resource ID.
+// Owner check for @PreAuthorize, answered from the principal resolved at authentication
 @Service("securityService")
 class SecurityService {
     public boolean isOwner(Long userId) {
-        Long authenticatedUserId = ((com.alxmobilebackend.model.User) SecurityContextHolder.getContext().getAuthentication().getPrincipal()).getId(); // Assuming CustomUserDetailsService returns User entity
-        return authenticatedUserId.equals(userId);
-    }
-    // Note: The CustomUserDetailsService currently returns `org.springframework.security.core.userdetails.User`.
-    // For `((User) SecurityContextHolder.getContext().getAuthentication().getPrincipal()).getId()`,
-    // you would need to return your custom User object that extends UserDetails in CustomUserDetailsService.
-    // For simplicity, for now, we'll assume `authentication.getName()` gives us the email and we fetch the user from there.
-    // A better approach would be to have a custom `UserPrincipal` object.
-    // For the given context, `authentication.getName()` (which is email) can be used to fetch the User and check its ID.
-    // Let's adjust this for the current setup:
-     private final UserRepository userRepository;
-
-    public SecurityService(UserRepository userRepository) {
-        this.userRepository = userRepository;
-    }
-
-    public boolean isOwner(Long userId) {
-        String authenticatedUserEmail = SecurityContextHolder.getContext().getAuthentication().getName();
-        return userRepository.findByEmail(authenticatedUserEmail)
-                .map(user -> user.getId().equals(userId))
-                .orElse(false);
+        return AuthenticatedUser.current().isSelf(userId);
     }
 }
 ```
\ No newline at end of file
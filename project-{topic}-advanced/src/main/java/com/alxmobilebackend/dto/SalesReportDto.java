@@ -0,0 +1,61 @@
+```java
+package com.alxmobilebackend.dto;
+
+import com.alxmobilebackend.model.Order;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class SalesReportDto {
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class SalesBucket {
+        private LocalDateTime bucketStart;
+        private long orderCount;
+        private long units;
+        private BigDecimal revenue;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class ProductSales {
+        private Long productId;
+        private String productName;
+        private long units;
+        private BigDecimal revenue;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class StatusCount {
+        private Order.OrderStatus status;
+        private long orderCount; // Orders placed in the period that are now in this status
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class SalesReport {
+        private LocalDateTime from;
+        private LocalDateTime to;
+        private long orderCount;
+        private long units;
+        private BigDecimal revenue;
+        private List<ProductSales> topProducts;
+        private List<StatusCount> statusCounts;
+    }
+}
+```
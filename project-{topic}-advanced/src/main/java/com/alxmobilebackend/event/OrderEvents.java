@@ -0,0 +1,53 @@
+```java
+package com.alxmobilebackend.event;
+
+import com.alxmobilebackend.model.Order;
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Application events published by {@code OrderService}. Listeners that keep derived data should use
+ * {@code @TransactionalEventListener(phase = AFTER_COMMIT)} so they only see committed changes.
+ */
+public final class OrderEvents {
+
+    private OrderEvents() {
+    }
+
+    @Value
+    public static class Line {
+        Long productId;
+        int quantity;
+        BigDecimal unitPrice;
+    }
+
+    @Value
+    public static class OrderPlaced {
+        Long orderId;
+        LocalDateTime orderDate;
+        BigDecimal totalAmount;
+        List<Line> lines;
+    }
+
+    @Value
+    public static class OrderStatusChanged {
+        Long orderId;
+        LocalDateTime orderDate;
+        Order.OrderStatus previousStatus;
+        Order.OrderStatus status;
+        LocalDateTime changedAt;
+    }
+
+    @Value
+    public static class OrderDeleted {
+        Long orderId;
+        LocalDateTime orderDate;
+        Order.OrderStatus status;
+        BigDecimal totalAmount;
+        List<Line> lines;
+    }
+}
+```
@@ -3,6 +3,10 @@ package com.alxmobilebackend.model;
 
 import org.springframework.security.core.GrantedAuthority;
 
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+
 public enum Role implements GrantedAuthority {
     ROLE_USER,
     ROLE_ADMIN;
@@ -11,5 +15,28 @@ public enum Role implements GrantedAuthority {
     public String getAuthority() {
         return name();
     }
+
+    // Bit used for this role in the compact role set carried by tokens and principals
+    public int mask() {
+        return 1 << ordinal();
+    }
+
+    public static int toMask(Collection<Role> roles) {
+        int mask = 0;
+        for (Role role : roles) {
+            mask |= role.mask();
+        }
+        return mask;
+    }
+
+    public static Set<Role> fromMask(int mask) {
+        Set<Role> roles = EnumSet.noneOf(Role.class);
+        for (Role role : values()) {
+            if ((mask & role.mask()) != 0) {
+                roles.add(role);
+            }
+        }
+        return roles;
+    }
 }
 ```
\ No newline at end of file
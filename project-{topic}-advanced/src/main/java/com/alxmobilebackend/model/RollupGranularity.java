@@ -0,0 +1,75 @@
+```java
+package com.alxmobilebackend.model;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bucket sizes of the sales rollups. Every order is counted in one bucket of each size.
+ */
+public enum RollupGranularity {
+    HOUR,
+    DAY,
+    MONTH;
+
+    public LocalDateTime floor(LocalDateTime time) {
+        return switch (this) {
+            case HOUR -> time.truncatedTo(ChronoUnit.HOURS);
+            case DAY -> time.truncatedTo(ChronoUnit.DAYS);
+            case MONTH -> time.truncatedTo(ChronoUnit.DAYS).withDayOfMonth(1);
+        };
+    }
+
+    public LocalDateTime ceil(LocalDateTime time) {
+        LocalDateTime floor = floor(time);
+        return floor.equals(time) ? floor : next(floor);
+    }
+
+    public LocalDateTime next(LocalDateTime bucketStart) {
+        return switch (this) {
+            case HOUR -> bucketStart.plusHours(1);
+            case DAY -> bucketStart.plusDays(1);
+            case MONTH -> bucketStart.plusMonths(1);
+        };
+    }
+
+    /**
+     * Covers {@code [from, to)}, widened to whole hours, with as few buckets as possible: whole months in the
+     * middle, whole days around them and hours at the edges. A year is then about 12 + 60 + 48 buckets instead of
+     * 8760.
+     */
+    public static List<Range> cover(LocalDateTime from, LocalDateTime to) {
+        List<Range> ranges = new ArrayList<>();
+        cover(HOUR.floor(from), HOUR.ceil(to), MONTH, ranges);
+        return ranges;
+    }
+
+    private static void cover(LocalDateTime from, LocalDateTime to, RollupGranularity granularity, List<Range> ranges) {
+        if (!from.isBefore(to)) {
+            return;
+        }
+        if (granularity == HOUR) {
+            ranges.add(new Range(HOUR, from, to));
+            return;
+        }
+        RollupGranularity finer = values()[granularity.ordinal() - 1];
+        LocalDateTime innerFrom = granularity.ceil(from);
+        LocalDateTime innerTo = granularity.floor(to);
+        if (innerFrom.isBefore(innerTo)) {
+            cover(from, innerFrom, finer, ranges);
+            ranges.add(new Range(granularity, innerFrom, innerTo));
+            cover(innerTo, to, finer, ranges);
+        } else {
+            cover(from, to, finer, ranges);
+        }
+    }
+
+    /**
+     * Buckets of one granularity starting in {@code [from, to)}.
+     */
+    public record Range(RollupGranularity granularity, LocalDateTime from, LocalDateTime to) {
+    }
+}
+```
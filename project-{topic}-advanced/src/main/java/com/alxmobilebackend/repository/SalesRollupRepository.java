@@ -0,0 +1,137 @@
+```java
+package com.alxmobilebackend.repository;
+
+import com.alxmobilebackend.dto.SalesReportDto;
+import com.alxmobilebackend.model.Order;
+import com.alxmobilebackend.model.RollupGranularity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Reads and increments the pre-aggregated sales tables. Increments are upserts that add to the stored values, so
+ * several nodes can flush into the same bucket.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SalesRollupRepository {
+
+    private static final String ADD_TOTALS_SQL =
+            "INSERT INTO sales_rollup (granularity, bucket_start, order_count, units, revenue) VALUES (?, ?, ?, ?, ?) " +
+            "ON CONFLICT (granularity, bucket_start) DO UPDATE SET " +
+            "order_count = sales_rollup.order_count + EXCLUDED.order_count, " +
+            "units = sales_rollup.units + EXCLUDED.units, " +
+            "revenue = sales_rollup.revenue + EXCLUDED.revenue";
+    private static final String ADD_PRODUCTS_SQL =
+            "INSERT INTO sales_rollup_product (granularity, bucket_start, product_id, units, revenue) VALUES (?, ?, ?, ?, ?) " +
+            "ON CONFLICT (granularity, bucket_start, product_id) DO UPDATE SET " +
+            "units = sales_rollup_product.units + EXCLUDED.units, " +
+            "revenue = sales_rollup_product.revenue + EXCLUDED.revenue";
+    private static final String ADD_STATUSES_SQL =
+            "INSERT INTO sales_rollup_status (granularity, bucket_start, status, order_count) VALUES (?, ?, ?, ?) " +
+            "ON CONFLICT (granularity, bucket_start, status) DO UPDATE SET " +
+            "order_count = sales_rollup_status.order_count + EXCLUDED.order_count";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void addTotals(List<TotalsRow> rows) {
+        jdbcTemplate.batchUpdate(ADD_TOTALS_SQL, rows.stream()
+                .map(r -> new Object[]{r.granularity().name(), Timestamp.valueOf(r.bucketStart()), r.orderCount(), r.units(), r.revenue()})
+                .collect(Collectors.toList()));
+    }
+
+    public void addProducts(List<ProductRow> rows) {
+        jdbcTemplate.batchUpdate(ADD_PRODUCTS_SQL, rows.stream()
+                .map(r -> new Object[]{r.granularity().name(), Timestamp.valueOf(r.bucketStart()), r.productId(), r.units(), r.revenue()})
+                .collect(Collectors.toList()));
+    }
+
+    public void addStatuses(List<StatusRow> rows) {
+        jdbcTemplate.batchUpdate(ADD_STATUSES_SQL, rows.stream()
+                .map(r -> new Object[]{r.granularity().name(), Timestamp.valueOf(r.bucketStart()), r.status().name(), r.orderCount()})
+                .collect(Collectors.toList()));
+    }
+
+    public List<SalesReportDto.SalesBucket> findTotals(RollupGranularity granularity, LocalDateTime from, LocalDateTime to) {
+        return jdbcTemplate.query(
+                "SELECT bucket_start, order_count, units, revenue FROM sales_rollup " +
+                "WHERE granularity = ? AND bucket_start >= ? AND bucket_start < ? ORDER BY bucket_start",
+                (rs, rowNum) -> SalesReportDto.SalesBucket.builder()
+                        .bucketStart(rs.getTimestamp("bucket_start").toLocalDateTime())
+                        .orderCount(rs.getLong("order_count"))
+                        .units(rs.getLong("units"))
+                        .revenue(rs.getBigDecimal("revenue"))
+                        .build(),
+                granularity.name(), Timestamp.valueOf(from), Timestamp.valueOf(to));
+    }
+
+    /**
+     * @return order count, units and revenue summed over the ranges, as a bucket without start.
+     */
+    public SalesReportDto.SalesBucket sumTotals(List<RollupGranularity.Range> ranges) {
+        List<Object> args = new ArrayList<>();
+        String sql = "SELECT COALESCE(SUM(order_count), 0) AS order_count, COALESCE(SUM(units), 0) AS units, " +
+                "COALESCE(SUM(revenue), 0) AS revenue FROM sales_rollup WHERE " + rangeCondition(ranges, args);
+        return jdbcTemplate.queryForObject(sql, (rs, rowNum) -> SalesReportDto.SalesBucket.builder()
+                .orderCount(rs.getLong("order_count"))
+                .units(rs.getLong("units"))
+                .revenue(rs.getBigDecimal("revenue"))
+                .build(), args.toArray());
+    }
+
+    public List<SalesReportDto.ProductSales> findTopProducts(List<RollupGranularity.Range> ranges, int limit) {
+        List<Object> args = new ArrayList<>();
+        String sql = "SELECT r.product_id, p.name, SUM(r.units) AS units, SUM(r.revenue) AS revenue " +
+                "FROM sales_rollup_product r LEFT JOIN products p ON p.id = r.product_id WHERE " +
+                rangeCondition(ranges, args) + " GROUP BY r.product_id, p.name ORDER BY revenue DESC, r.product_id LIMIT ?";
+        args.add(limit);
+        return jdbcTemplate.query(sql, (rs, rowNum) -> SalesReportDto.ProductSales.builder()
+                .productId(rs.getLong("product_id"))
+                .productName(rs.getString("name")) // null once the product is deleted
+                .units(rs.getLong("units"))
+                .revenue(rs.getBigDecimal("revenue"))
+                .build(), args.toArray());
+    }
+
+    public List<SalesReportDto.StatusCount> sumStatuses(List<RollupGranularity.Range> ranges) {
+        List<Object> args = new ArrayList<>();
+        String sql = "SELECT status, SUM(order_count) AS order_count FROM sales_rollup_status WHERE " +
+                rangeCondition(ranges, args) + " GROUP BY status ORDER BY status";
+        return jdbcTemplate.query(sql, (rs, rowNum) -> SalesReportDto.StatusCount.builder()
+                .status(Order.OrderStatus.valueOf(rs.getString("status")))
+                .orderCount(rs.getLong("order_count"))
+                .build(), args.toArray());
+    }
+
+    // One primary key range scan per range
+    private static String rangeCondition(List<RollupGranularity.Range> ranges, List<Object> args) {
+        if (ranges.isEmpty()) {
+            return "FALSE";
+        }
+        List<String> conditions = new ArrayList<>();
+        for (RollupGranularity.Range range : ranges) {
+            conditions.add("(granularity = ? AND bucket_start >= ? AND bucket_start < ?)");
+            args.add(range.granularity().name());
+            args.add(Timestamp.valueOf(range.from()));
+            args.add(Timestamp.valueOf(range.to()));
+        }
+        return "(" + String.join(" OR ", conditions) + ")";
+    }
+
+    public record TotalsRow(RollupGranularity granularity, LocalDateTime bucketStart, long orderCount, long units, BigDecimal revenue) {
+    }
+
+    public record ProductRow(RollupGranularity granularity, LocalDateTime bucketStart, long productId, long units, BigDecimal revenue) {
+    }
+
+    public record StatusRow(RollupGranularity granularity, LocalDateTime bucketStart, Order.OrderStatus status, long orderCount) {
+    }
+}
+```
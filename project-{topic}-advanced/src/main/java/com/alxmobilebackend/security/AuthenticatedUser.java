@@ -0,0 +1,99 @@
+```java
+package com.alxmobilebackend.security;
+
+import com.alxmobilebackend.model.Role;
+import com.alxmobilebackend.model.User;
+import lombok.Getter;
+import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Principal resolved once per request: the user id and a role bitset, so services can authorize
+ * without looking the user up again. Built from the database at login and from the JWT claims afterwards.
+ */
+@Getter
+public class AuthenticatedUser implements UserDetails {
+
+    private final Long id;
+    private final String email;
+    private final String password; // Only set while authenticating with credentials, never taken from a token
+    private final int roleMask;
+    private final Set<Role> authorities;
+
+    public AuthenticatedUser(Long id, String email, String password, int roleMask) {
+        this.id = Objects.requireNonNull(id, "id");
+        this.email = Objects.requireNonNull(email, "email");
+        this.password = password;
+        this.roleMask = roleMask;
+        this.authorities = Role.fromMask(roleMask);
+    }
+
+    public static AuthenticatedUser from(User user) {
+        return new AuthenticatedUser(user.getId(), user.getEmail(), user.getPassword(), Role.toMask(user.getRoles()));
+    }
+
+    public static AuthenticatedUser fromToken(Long id, String email, int roleMask) {
+        return new AuthenticatedUser(id, email, null, roleMask);
+    }
+
+    /**
+     * Principal of the current request. Fails if the request was not authenticated with an {@link AuthenticatedUser}.
+     */
+    public static AuthenticatedUser current() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof AuthenticatedUser user)) {
+            throw new AuthenticationCredentialsNotFoundException("No authenticated user in the security context.");
+        }
+        return user;
+    }
+
+    public boolean hasRole(Role role) {
+        return (roleMask & role.mask()) != 0;
+    }
+
+    public boolean isAdmin() {
+        return hasRole(Role.ROLE_ADMIN);
+    }
+
+    public boolean isSelf(Long userId) {
+        return id.equals(userId);
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public String getUsername() {
+        return email; // Email is the principal name everywhere in this application
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return true;
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+}
+```
@@ -0,0 +1,67 @@
+```java
+package com.alxmobilebackend.security;
+
+import com.alxmobilebackend.service.JwtService;
+import com.alxmobilebackend.util.Constants;
+import io.jsonwebtoken.JwtException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.NonNull;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Authenticates bearer tokens. The token is parsed once and the {@link AuthenticatedUser} is rebuilt from its claims,
+ * so an authenticated request costs no database lookup. Runs in the security filter chain, before
+ * {@code UsernamePasswordAuthenticationFilter}; see {@link com.alxmobilebackend.config.SecurityConfig}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+    private final JwtService jwtService;
+    private final UserDetailsService userDetailsService;
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        String authHeader = request.getHeader(Constants.HEADER_STRING);
+        if (authHeader == null || !authHeader.startsWith(Constants.TOKEN_PREFIX)
+                || SecurityContextHolder.getContext().getAuthentication() != null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String token = authHeader.substring(Constants.TOKEN_PREFIX.length());
+        try {
+            UserDetails principal = jwtService.parseAuthenticatedUser(token);
+            if (principal == null) {
+                // Token issued before the principal claims existed: resolve the user the old way until it expires
+                principal = userDetailsService.loadUserByUsername(jwtService.extractUsername(token));
+            }
+            UsernamePasswordAuthenticationToken authentication =
+                    new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+            authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+            SecurityContextHolder.getContext().setAuthentication(authentication);
+        } catch (JwtException | IllegalArgumentException | UsernameNotFoundException e) {
+            log.debug("Rejected bearer token: {}", e.getMessage());
+        }
+
+        filterChain.doFilter(request, response);
+    }
+}
+```
@@ -72,7 +72,7 @@ public class AuthService {
         // We can then generate a token for this user.
         // UserDetails from CustomUserDetailsService uses email as username in SecurityContext
         String principalUsername = authentication.getName();
-        UserDetails userDetails = userDetailsService.loadUserByUsername(principalUsername);
+        UserDetails userDetails = (UserDetails) authentication.getPrincipal(); // Already loaded by CustomUserDetailsService
         User user = userRepository.findByEmail(principalUsername)
                 .or(() -> userRepository.findByUsername(principalUsername)) // Fallback if email not used as principal
                 .orElseThrow(() -> new ValidationException("Authenticated user not found in database."));
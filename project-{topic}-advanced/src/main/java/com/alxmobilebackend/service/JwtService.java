@@ -1,6 +1,7 @@
 ```java
 package com.alxmobilebackend.service;
 
+import com.alxmobilebackend.security.AuthenticatedUser;
 import com.alxmobilebackend.util.Constants;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
@@ -19,6 +20,9 @@ import java.util.function.Function;
 @Service
 public class JwtService {
 
+    private static final String USER_ID_CLAIM = "uid";
+    private static final String ROLES_CLAIM = "roles";
+
     private final String SECRET_KEY = Constants.JWT_SECRET;
     private final long EXPIRATION_TIME = Constants.JWT_EXPIRATION_MS;
 
@@ -32,7 +36,13 @@ public class JwtService {
     }
 
     public String generateToken(UserDetails userDetails) {
-        return generateToken(new HashMap<>(), userDetails);
+        Map<String, Object> claims = new HashMap<>();
+        if (userDetails instanceof AuthenticatedUser user) {
+            // Carry the resolved principal so requests can be authorized without a user lookup
+            claims.put(USER_ID_CLAIM, user.getId());
+            claims.put(ROLES_CLAIM, user.getRoleMask());
+        }
+        return generateToken(claims, userDetails);
     }
 
     public String generateToken(Map<String, Object> extraClaims, UserDetails userDetails) {
@@ -46,6 +56,22 @@ public class JwtService {
                 .compact();
     }
 
+    /**
+     * Verifies the token once and rebuilds the principal from its claims.
+     * Returns {@code null} for older tokens issued without the user id and role claims.
+     *
+     * @throws io.jsonwebtoken.JwtException if the token is malformed, tampered with or expired
+     */
+    public AuthenticatedUser parseAuthenticatedUser(String token) {
+        Claims claims = extractAllClaims(token); // The parser already rejects bad signatures and expired tokens
+        Number userId = claims.get(USER_ID_CLAIM, Number.class);
+        Number roleMask = claims.get(ROLES_CLAIM, Number.class);
+        if (userId == null || roleMask == null || claims.getSubject() == null) {
+            return null;
+        }
+        return AuthenticatedUser.fromToken(userId.longValue(), claims.getSubject(), roleMask.intValue());
+    }
+
     public boolean isTokenValid(String token, UserDetails userDetails) {
         final String username = extractUsername(token);
         return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
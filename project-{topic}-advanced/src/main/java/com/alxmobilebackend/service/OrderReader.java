@@ -0,0 +1,66 @@
+```java
+package com.alxmobilebackend.service;
+
+import com.alxmobilebackend.dto.OrderDto;
+import com.alxmobilebackend.exception.ResourceNotFoundException;
+import com.alxmobilebackend.model.Order;
+import com.alxmobilebackend.repository.OrderRepository;
+import com.alxmobilebackend.util.Constants;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Cached, caller-independent order reads. Nothing here looks at the security context: callers apply their
+ * authorization checks to the returned response, after the cache, so a cached entry is never served unchecked.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderReader {
+
+    private final OrderRepository orderRepository;
+
+    @Transactional(readOnly = true)
+    @Cacheable(value = Constants.CACHE_ORDERS, key = "#id")
+    public OrderDto.OrderResponse getOrder(Long id) {
+        return orderRepository.findById(id)
+                .map(this::toResponse)
+                .orElseThrow(() -> new ResourceNotFoundException("Order not found with id: " + id));
+    }
+
+    @Transactional(readOnly = true)
+    @Cacheable(value = Constants.CACHE_ORDERS, unless = "#result.empty")
+    public Page<OrderDto.OrderResponse> getAllOrders(Pageable pageable) {
+        return orderRepository.findAll(pageable)
+                .map(this::toResponse);
+    }
+
+    public OrderDto.OrderResponse toResponse(Order order) {
+        List<OrderDto.OrderItemResponse> itemResponses = order.getItems().stream()
+                .map(item -> OrderDto.OrderItemResponse.builder()
+                        .id(item.getId())
+                        .productId(item.getProduct().getId())
+                        .productName(item.getProduct().getName())
+                        .quantity(item.getQuantity())
+                        .unitPrice(item.getUnitPrice())
+                        .build())
+                .collect(Collectors.toList());
+
+        return OrderDto.OrderResponse.builder()
+                .id(order.getId())
+                .userId(order.getUser().getId())
+                .username(order.getUser().getUsername())
+                .orderDate(order.getOrderDate())
+                .totalAmount(order.getTotalAmount())
+                .status(order.getStatus())
+                .items(itemResponses)
+                .build();
+    }
+}
+```
@@ -2,6 +2,7 @@
 package com.alxmobilebackend.service;
 
 import com.alxmobilebackend.dto.OrderDto;
+import com.alxmobilebackend.event.OrderEvents;
 import com.alxmobilebackend.exception.ResourceNotFoundException;
 import com.alxmobilebackend.exception.ValidationException;
 import com.alxmobilebackend.model.Order;
@@ -11,21 +12,23 @@ import com.alxmobilebackend.model.User;
 import com.alxmobilebackend.repository.OrderRepository;
 import com.alxmobilebackend.repository.ProductRepository;
 import com.alxmobilebackend.repository.UserRepository;
+import com.alxmobilebackend.security.AuthenticatedUser;
 import com.alxmobilebackend.util.Constants;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.CachePut;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.AccessDeniedException;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
-import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Service
@@ -35,22 +38,28 @@ public class OrderService {
     private final OrderRepository orderRepository;
     private final UserRepository userRepository;
     private final ProductRepository productRepository;
+    private final OrderReader orderReader;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public OrderDto.OrderResponse createOrder(OrderDto.OrderCreateRequest request) {
         // Get authenticated user
-        String userEmail = SecurityContextHolder.getContext().getAuthentication().getName();
-        User user = userRepository.findByEmail(userEmail)
+        User user = userRepository.findById(AuthenticatedUser.current().getId())
                 .orElseThrow(() -> new ResourceNotFoundException("Authenticated user not found."));
 
         BigDecimal totalAmount = BigDecimal.ZERO;
-        List<OrderItem> orderItems = new java.util.ArrayList<>();
+        List<OrderItem> orderItems = new ArrayList<>();
 
-        for (OrderDto.OrderItemRequest itemRequest : request.getItems()) {
+        // Lock product rows in ascending id order so concurrent orders cannot deadlock on each other
+        List<OrderDto.OrderItemRequest> itemRequests = new ArrayList<>(request.getItems());
+        itemRequests.sort(Comparator.comparing(OrderDto.OrderItemRequest::getProductId));
+
+        for (OrderDto.OrderItemRequest itemRequest : itemRequests) {
             Product product = productRepository.findById(itemRequest.getProductId())
                     .orElseThrow(() -> new ResourceNotFoundException("Product not found with id: " + itemRequest.getProductId()));
 
-            if (product.getStockQuantity() < itemRequest.getQuantity()) {
+            // Reserve stock with a single conditional UPDATE; the transaction rolls back if any item is short
+            if (productRepository.decrementStock(product.getId(), itemRequest.getQuantity()) == 0) {
                 throw new ValidationException("Insufficient stock for product: " + product.getName());
             }
 
@@ -62,10 +71,6 @@ public class OrderService {
             orderItems.add(orderItem);
 
             totalAmount = totalAmount.add(product.getPrice().multiply(BigDecimal.valueOf(itemRequest.getQuantity())));
-
-            // Reduce stock
-            product.setStockQuantity(product.getStockQuantity() - itemRequest.getQuantity());
-            productRepository.save(product); // Update product stock
         }
 
         Order order = Order.builder()
@@ -78,51 +83,37 @@ public class OrderService {
         orderItems.forEach(item -> item.setOrder(order)); // Link items back to order
 
         Order savedOrder = orderRepository.save(order);
+        eventPublisher.publishEvent(new OrderEvents.OrderPlaced(savedOrder.getId(), savedOrder.getOrderDate(),
+                savedOrder.getTotalAmount(), toEventLines(savedOrder)));
         return mapToOrderResponse(savedOrder);
     }
 
-    @Transactional(readOnly = true)
-    @Cacheable(value = Constants.CACHE_ORDERS, key = "#id", unless = "#result == null")
     public OrderDto.OrderResponse getOrderById(Long id) {
-        Order order = orderRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Order not found with id: " + id));
-
-        // Authorization check: Only admin or the order owner can view the order
-        String userEmail = SecurityContextHolder.getContext().getAuthentication().getName();
-        User authenticatedUser = userRepository.findByEmail(userEmail).orElseThrow(() -> new ResourceNotFoundException("Authenticated user not found."));
-        boolean isAdmin = authenticatedUser.getRoles().stream().anyMatch(role -> role.equals(com.alxmobilebackend.model.Role.ROLE_ADMIN));
+        OrderDto.OrderResponse order = orderReader.getOrder(id);
 
-        if (!isAdmin && !Objects.equals(order.getUser().getId(), authenticatedUser.getId())) {
+        // Authorization check runs on every call, outside the cache: only admin or the order owner can view the order
+        AuthenticatedUser currentUser = AuthenticatedUser.current();
+        if (!currentUser.isAdmin() && !currentUser.isSelf(order.getUserId())) {
             throw new AccessDeniedException("You are not authorized to view this order.");
         }
 
-        return mapToOrderResponse(order);
+        return order;
     }
 
-    @Transactional(readOnly = true)
-    @Cacheable(value = Constants.CACHE_ORDERS, unless = "#result.empty")
     public Page<OrderDto.OrderResponse> getAllOrders(Pageable pageable) {
-        // Only admin can view all orders
-        String userEmail = SecurityContextHolder.getContext().getAuthentication().getName();
-        User authenticatedUser = userRepository.findByEmail(userEmail).orElseThrow(() -> new ResourceNotFoundException("Authenticated user not found."));
-        boolean isAdmin = authenticatedUser.getRoles().stream().anyMatch(role -> role.equals(com.alxmobilebackend.model.Role.ROLE_ADMIN));
-
-        if (!isAdmin) {
+        // Only admin can view all orders; checked before the cached read
+        if (!AuthenticatedUser.current().isAdmin()) {
             throw new AccessDeniedException("You are not authorized to view all orders.");
         }
 
-        return orderRepository.findAll(pageable)
-                .map(this::mapToOrderResponse);
+        return orderReader.getAllOrders(pageable);
     }
 
     @Transactional(readOnly = true)
     public Page<OrderDto.OrderResponse> getUserOrders(Long userId, Pageable pageable) {
         // Authorization check: User can only view their own orders unless they are an admin
-        String userEmail = SecurityContextHolder.getContext().getAuthentication().getName();
-        User authenticatedUser = userRepository.findByEmail(userEmail).orElseThrow(() -> new ResourceNotFoundException("Authenticated user not found."));
-        boolean isAdmin = authenticatedUser.getRoles().stream().anyMatch(role -> role.equals(com.alxmobilebackend.model.Role.ROLE_ADMIN));
-
-        if (!isAdmin && !Objects.equals(userId, authenticatedUser.getId())) {
+        AuthenticatedUser currentUser = AuthenticatedUser.current();
+        if (!currentUser.isAdmin() && !currentUser.isSelf(userId)) {
             throw new AccessDeniedException("You are not authorized to view orders for this user.");
         }
 
@@ -133,20 +124,19 @@ public class OrderService {
     @Transactional
     @CachePut(value = Constants.CACHE_ORDERS, key = "#id")
     public OrderDto.OrderResponse updateOrderStatus(Long id, OrderDto.OrderUpdateRequest request) {
-        Order order = orderRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Order not found with id: " + id));
-
         // Authorization check: Only admin can update order status
-        String userEmail = SecurityContextHolder.getContext().getAuthentication().getName();
-        User authenticatedUser = userRepository.findByEmail(userEmail).orElseThrow(() -> new ResourceNotFoundException("Authenticated user not found."));
-        boolean isAdmin = authenticatedUser.getRoles().stream().anyMatch(role -> role.equals(com.alxmobilebackend.model.Role.ROLE_ADMIN));
-
-        if (!isAdmin) {
+        if (!AuthenticatedUser.current().isAdmin()) {
             throw new AccessDeniedException("You are not authorized to update order status.");
         }
 
-        if (request.getStatus() != null) {
+        Order order = orderRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Order not found with id: " + id));
+
+        if (request.getStatus() != null && request.getStatus() != order.getStatus()) {
+            Order.OrderStatus previousStatus = order.getStatus();
             order.setStatus(request.getStatus());
+            eventPublisher.publishEvent(new OrderEvents.OrderStatusChanged(id, order.getOrderDate(), previousStatus,
+                    request.getStatus(), LocalDateTime.now()));
         }
 
         Order updatedOrder = orderRepository.save(order);
@@ -160,11 +150,10 @@ public class OrderService {
                 .orElseThrow(() -> new ResourceNotFoundException("Order not found with id: " + id));
 
         // Authorization check: Only admin or the order owner can delete the order (if pending)
-        String userEmail = SecurityContextHolder.getContext().getAuthentication().getName();
-        User authenticatedUser = userRepository.findByEmail(userEmail).orElseThrow(() -> new ResourceNotFoundException("Authenticated user not found."));
-        boolean isAdmin = authenticatedUser.getRoles().stream().anyMatch(role -> role.equals(com.alxmobilebackend.model.Role.ROLE_ADMIN));
+        AuthenticatedUser currentUser = AuthenticatedUser.current();
+        boolean isAdmin = currentUser.isAdmin();
 
-        if (!isAdmin && !Objects.equals(order.getUser().getId(), authenticatedUser.getId())) {
+        if (!isAdmin && !currentUser.isSelf(order.getUser().getId())) {
             throw new AccessDeniedException("You are not authorized to delete this order.");
         }
 
@@ -174,35 +163,21 @@ public class OrderService {
         }
 
         // Restore stock for items
-        order.getItems().forEach(item -> {
-            Product product = item.getProduct();
-            product.setStockQuantity(product.getStockQuantity() + item.getQuantity());
-            productRepository.save(product);
-        });
+        order.getItems().forEach(item -> productRepository.incrementStock(item.getProduct().getId(), item.getQuantity()));
 
         orderRepository.deleteById(id);
+        eventPublisher.publishEvent(new OrderEvents.OrderDeleted(id, order.getOrderDate(), order.getStatus(),
+                order.getTotalAmount(), toEventLines(order)));
     }
 
-    private OrderDto.OrderResponse mapToOrderResponse(Order order) {
-        List<OrderDto.OrderItemResponse> itemResponses = order.getItems().stream()
-                .map(item -> OrderDto.OrderItemResponse.builder()
-                        .id(item.getId())
-                        .productId(item.getProduct().getId())
-                        .productName(item.getProduct().getName())
-                        .quantity(item.getQuantity())
-                        .unitPrice(item.getUnitPrice())
-                        .build())
+    private List<OrderEvents.Line> toEventLines(Order order) {
+        return order.getItems().stream()
+                .map(item -> new OrderEvents.Line(item.getProduct().getId(), item.getQuantity(), item.getUnitPrice()))
                 .collect(Collectors.toList());
+    }
 
-        return OrderDto.OrderResponse.builder()
-                .id(order.getId())
-                .userId(order.getUser().getId())
-                .username(order.getUser().getUsername())
-                .orderDate(order.getOrderDate())
-                .totalAmount(order.getTotalAmount())
-                .status(order.getStatus())
-                .items(itemResponses)
-                .build();
+    private OrderDto.OrderResponse mapToOrderResponse(Order order) {
+        return orderReader.toResponse(order);
     }
 }
 ```
@@ -0,0 +1,287 @@
+```java
+package com.alxmobilebackend.service;
+
+import com.alxmobilebackend.dto.SalesReportDto;
+import com.alxmobilebackend.event.OrderEvents;
+import com.alxmobilebackend.exception.ValidationException;
+import com.alxmobilebackend.model.Order;
+import com.alxmobilebackend.model.RollupGranularity;
+import com.alxmobilebackend.repository.SalesRollupRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+
+/**
+ * Keeps hourly, daily and monthly sales aggregates (revenue, units, order counts per product and per status) and
+ * serves dashboard reports from them, so a report over a year reads a few hundred rows regardless of order volume.
+ * <p>
+ * Committed order events are added to in-memory deltas, which are written to the rollup tables every few seconds
+ * as batched upserts; reports are therefore up to one flush interval behind. Revenue counts every placed order,
+ * including ones cancelled later; deleting an order removes it again. Status counts are the orders placed in the
+ * period by their current status, so a status change moves the order between counters of its order date bucket
+ * and a delete removes it, as the V3 backfill computed them.
+ * <p>
+ * Deltas live only in memory until flushed. A graceful shutdown flushes them, but a crash or a kill loses the
+ * changes of at most one flush interval (plus any flush that kept failing). To repair the tables after that, empty
+ * them and re-run the V3 backfill statements while no node is running; they recompute every rollup from the orders
+ * table.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SalesRollupService {
+
+    static final int MAX_SERIES_BUCKETS = 1000;
+
+    private final SalesRollupRepository salesRollupRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ReadWriteLock bufferLock = new ReentrantReadWriteLock(); // Recorders share it, the flush swaps the buffer
+    private volatile Deltas pending = new Deltas();
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onOrderPlaced(OrderEvents.OrderPlaced event) {
+        record(deltas -> {
+            deltas.addOrder(event.getOrderDate(), event.getTotalAmount(), event.getLines(), 1);
+            deltas.addStatus(event.getOrderDate(), Order.OrderStatus.PENDING, 1);
+        });
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onOrderStatusChanged(OrderEvents.OrderStatusChanged event) {
+        record(deltas -> {
+            deltas.addStatus(event.getOrderDate(), event.getPreviousStatus(), -1);
+            deltas.addStatus(event.getOrderDate(), event.getStatus(), 1);
+        });
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onOrderDeleted(OrderEvents.OrderDeleted event) {
+        record(deltas -> {
+            deltas.addOrder(event.getOrderDate(), event.getTotalAmount(), event.getLines(), -1);
+            deltas.addStatus(event.getOrderDate(), event.getStatus(), -1);
+        });
+    }
+
+    /**
+     * Writes the pending deltas in one transaction. If that fails they are kept for the next flush.
+     */
+    @Scheduled(fixedDelayString = "${analytics.rollup.flush-interval-ms:5000}")
+    public void flush() {
+        Deltas drained;
+        bufferLock.writeLock().lock();
+        try {
+            drained = pending;
+            pending = new Deltas();
+        } finally {
+            bufferLock.writeLock().unlock();
+        }
+        if (drained.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.execute(status -> {
+                // Sorted so concurrent flushes from several nodes lock rows in the same order
+                salesRollupRepository.addTotals(drained.totalsRows());
+                salesRollupRepository.addProducts(drained.productRows());
+                salesRollupRepository.addStatuses(drained.statusRows());
+                return null;
+            });
+        } catch (RuntimeException e) {
+            log.warn("Could not write sales rollups, keeping {} buckets for the next flush", drained.size(), e);
+            record(deltas -> deltas.merge(drained));
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * Revenue, units and order counts per bucket of {@code [from, to)}; buckets without orders are included with
+     * zeros.
+     */
+    public List<SalesReportDto.SalesBucket> getSalesSeries(RollupGranularity granularity, LocalDateTime from, LocalDateTime to) {
+        validateRange(from, to);
+        LocalDateTime start = granularity.floor(from);
+        LocalDateTime end = granularity.ceil(to);
+        long buckets = switch (granularity) {
+            case HOUR -> ChronoUnit.HOURS.between(start, end);
+            case DAY -> ChronoUnit.DAYS.between(start, end);
+            case MONTH -> ChronoUnit.MONTHS.between(start, end);
+        };
+        if (buckets > MAX_SERIES_BUCKETS) {
+            throw new ValidationException("Range has " + buckets + " " + granularity + " buckets, at most "
+                    + MAX_SERIES_BUCKETS + " are allowed. Use a coarser granularity.");
+        }
+
+        Map<LocalDateTime, SalesReportDto.SalesBucket> stored = new HashMap<>();
+        salesRollupRepository.findTotals(granularity, start, end).forEach(bucket -> stored.put(bucket.getBucketStart(), bucket));
+        List<SalesReportDto.SalesBucket> series = new ArrayList<>((int) buckets);
+        for (LocalDateTime bucketStart = start; bucketStart.isBefore(end); bucketStart = granularity.next(bucketStart)) {
+            SalesReportDto.SalesBucket bucket = stored.get(bucketStart);
+            series.add(bucket != null ? bucket : new SalesReportDto.SalesBucket(bucketStart, 0, 0, BigDecimal.ZERO));
+        }
+        return series;
+    }
+
+    /**
+     * Totals, top products and status counts for {@code [from, to)}, widened to whole hours.
+     */
+    public SalesReportDto.SalesReport getSalesReport(LocalDateTime from, LocalDateTime to, int topProducts) {
+        validateRange(from, to);
+        if (topProducts < 1 || topProducts > 100) {
+            throw new ValidationException("Number of top products must be between 1 and 100.");
+        }
+        List<RollupGranularity.Range> ranges = RollupGranularity.cover(from, to);
+        SalesReportDto.SalesBucket totals = salesRollupRepository.sumTotals(ranges);
+        return SalesReportDto.SalesReport.builder()
+                .from(RollupGranularity.HOUR.floor(from))
+                .to(RollupGranularity.HOUR.ceil(to))
+                .orderCount(totals.getOrderCount())
+                .units(totals.getUnits())
+                .revenue(totals.getRevenue())
+                .topProducts(salesRollupRepository.findTopProducts(ranges, topProducts))
+                .statusCounts(salesRollupRepository.sumStatuses(ranges))
+                .build();
+    }
+
+    private void validateRange(LocalDateTime from, LocalDateTime to) {
+        if (from == null || to == null || !from.isBefore(to)) {
+            throw new ValidationException("'from' must be before 'to'.");
+        }
+    }
+
+    private void record(Consumer<Deltas> change) {
+        bufferLock.readLock().lock();
+        try {
+            change.accept(pending);
+        } finally {
+            bufferLock.readLock().unlock();
+        }
+    }
+
+    private record BucketKey(RollupGranularity granularity, LocalDateTime bucketStart) {
+    }
+
+    private record ProductKey(RollupGranularity granularity, LocalDateTime bucketStart, long productId) {
+    }
+
+    private record StatusKey(RollupGranularity granularity, LocalDateTime bucketStart, Order.OrderStatus status) {
+    }
+
+    private static final class Counters {
+        final LongAdder orders = new LongAdder();
+        final LongAdder units = new LongAdder();
+        final LongAdder revenueCents = new LongAdder();
+
+        void add(Counters other) {
+            orders.add(other.orders.sum());
+            units.add(other.units.sum());
+            revenueCents.add(other.revenueCents.sum());
+        }
+
+        BigDecimal revenue() {
+            return BigDecimal.valueOf(revenueCents.sum(), 2);
+        }
+    }
+
+    /**
+     * Unflushed changes per bucket. Safe for concurrent recorders.
+     */
+    private static final class Deltas {
+        final Map<BucketKey, Counters> totals = new ConcurrentHashMap<>();
+        final Map<ProductKey, Counters> products = new ConcurrentHashMap<>();
+        final Map<StatusKey, Counters> statuses = new ConcurrentHashMap<>();
+
+        void addOrder(LocalDateTime orderDate, BigDecimal totalAmount, List<OrderEvents.Line> lines, int sign) {
+            for (RollupGranularity granularity : RollupGranularity.values()) {
+                LocalDateTime bucketStart = granularity.floor(orderDate);
+                Counters bucket = totals.computeIfAbsent(new BucketKey(granularity, bucketStart), k -> new Counters());
+                bucket.orders.add(sign);
+                bucket.revenueCents.add(sign * cents(totalAmount));
+                for (OrderEvents.Line line : lines) {
+                    bucket.units.add((long) sign * line.getQuantity());
+                    Counters product = products.computeIfAbsent(
+                            new ProductKey(granularity, bucketStart, line.getProductId()), k -> new Counters());
+                    product.units.add((long) sign * line.getQuantity());
+                    product.revenueCents.add(sign * cents(line.getUnitPrice().multiply(BigDecimal.valueOf(line.getQuantity()))));
+                }
+            }
+        }
+
+        void addStatus(LocalDateTime orderDate, Order.OrderStatus status, int sign) {
+            for (RollupGranularity granularity : RollupGranularity.values()) {
+                statuses.computeIfAbsent(new StatusKey(granularity, granularity.floor(orderDate), status), k -> new Counters())
+                        .orders.add(sign);
+            }
+        }
+
+        void merge(Deltas other) {
+            other.totals.forEach((key, counters) -> totals.computeIfAbsent(key, k -> new Counters()).add(counters));
+            other.products.forEach((key, counters) -> products.computeIfAbsent(key, k -> new Counters()).add(counters));
+            other.statuses.forEach((key, counters) -> statuses.computeIfAbsent(key, k -> new Counters()).add(counters));
+        }
+
+        boolean isEmpty() {
+            return totals.isEmpty() && statuses.isEmpty();
+        }
+
+        int size() {
+            return totals.size() + products.size() + statuses.size();
+        }
+
+        List<SalesRollupRepository.TotalsRow> totalsRows() {
+            return sorted(totals, Comparator.comparing(BucketKey::granularity).thenComparing(BucketKey::bucketStart),
+                    (key, c) -> new SalesRollupRepository.TotalsRow(key.granularity(), key.bucketStart(),
+                            c.orders.sum(), c.units.sum(), c.revenue()));
+        }
+
+        List<SalesRollupRepository.ProductRow> productRows() {
+            return sorted(products, Comparator.comparing(ProductKey::granularity).thenComparing(ProductKey::bucketStart)
+                            .thenComparingLong(ProductKey::productId),
+                    (key, c) -> new SalesRollupRepository.ProductRow(key.granularity(), key.bucketStart(),
+                            key.productId(), c.units.sum(), c.revenue()));
+        }
+
+        List<SalesRollupRepository.StatusRow> statusRows() {
+            return sorted(statuses, Comparator.comparing(StatusKey::granularity).thenComparing(StatusKey::bucketStart)
+                            .thenComparing(StatusKey::status),
+                    (key, c) -> new SalesRollupRepository.StatusRow(key.granularity(), key.bucketStart(),
+                            key.status(), c.orders.sum()));
+        }
+
+        private static <K, R> List<R> sorted(Map<K, Counters> map, Comparator<K> order,
+                                             BiFunction<K, Counters, R> toRow) {
+            List<R> rows = new ArrayList<>(map.size());
+            map.keySet().stream().sorted(order).forEach(key -> rows.add(toRow.apply(key, map.get(key))));
+            return rows;
+        }
+
+        private static long cents(BigDecimal amount) {
+            return amount.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+        }
+    }
+}
+```
@@ -19,6 +19,7 @@ public final class Constants {
     public static final String USERS_PATH = API_V1_PREFIX + "/users";
     public static final String PRODUCTS_PATH = API_V1_PREFIX + "/products";
     public static final String ORDERS_PATH = API_V1_PREFIX + "/orders";
+    public static final String ANALYTICS_PATH = API_V1_PREFIX + "/analytics";
 
     // Logging
     public static final String LOG_REQUEST_ID = "requestId";
@@ -0,0 +1,199 @@
+package com.alx.taskmanager.security;
+
+import com.alx.taskmanager.model.Project;
+import com.alx.taskmanager.model.Task;
+import com.alx.taskmanager.model.User;
+import com.alx.taskmanager.repository.ProjectRepository;
+import com.alx.taskmanager.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ProjectAccessIndexTest {
+
+    @Mock
+    private ProjectRepository projectRepository;
+    @Mock
+    private TaskRepository taskRepository;
+
+    private ProjectAccessIndex projectAccessIndex;
+
+    @BeforeEach
+    void setUp() {
+        projectAccessIndex = new ProjectAccessIndex(projectRepository, taskRepository, 100, 100);
+    }
+
+    @Test
+    void isProjectMember_LoadsMemberIdsOnceThenAnswersFromMemory() {
+        when(projectRepository.findAssignedUserIds(10L)).thenReturn(List.of(1L, 2L));
+
+        assertTrue(projectAccessIndex.isProjectMember(10L, 1L));
+        assertTrue(projectAccessIndex.isProjectMember(10L, 2L));
+        assertFalse(projectAccessIndex.isProjectMember(10L, 3L));
+        assertFalse(projectAccessIndex.isProjectMember(10L, null));
+
+        verify(projectRepository, times(1)).findAssignedUserIds(10L);
+        verify(projectRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    void isProjectMember_UserIdsBeyondTheIntRange() {
+        long large = 5_000_000_000L;
+        when(projectRepository.findAssignedUserIds(10L)).thenReturn(List.of(large, Integer.MAX_VALUE + 1L, 7L));
+
+        assertTrue(projectAccessIndex.isProjectMember(10L, large));
+        assertTrue(projectAccessIndex.isProjectMember(10L, Integer.MAX_VALUE + 1L));
+        assertTrue(projectAccessIndex.isProjectMember(10L, 7L));
+        assertFalse(projectAccessIndex.isProjectMember(10L, large - 1));
+        assertFalse(projectAccessIndex.isProjectMember(10L, -1L));
+    }
+
+    @Test
+    void canAccessTask_ReporterAssigneeOrProjectMember() {
+        when(taskRepository.findAccessById(100L)).thenReturn(Optional.of(view(10L, 1L, null)));
+        when(projectRepository.findAssignedUserIds(10L)).thenReturn(List.of(2L));
+
+        assertTrue(projectAccessIndex.canAccessTask(100L, 1L)); // Reporter
+        assertTrue(projectAccessIndex.canAccessTask(100L, 2L)); // Project member
+        assertFalse(projectAccessIndex.canAccessTask(100L, 3L));
+
+        verify(taskRepository, times(1)).findAccessById(100L);
+        verify(taskRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    void canAccessTask_UnknownTask_DeniedAndNotRemembered() {
+        when(taskRepository.findAccessById(999L)).thenReturn(Optional.empty());
+
+        assertFalse(projectAccessIndex.canAccessTask(999L, 1L));
+        assertFalse(projectAccessIndex.canAccessTask(999L, 1L));
+
+        verify(taskRepository, times(2)).findAccessById(999L);
+    }
+
+    @Test
+    void projectChanged_ReplacesMembersWithoutReloading() {
+        User alice = new User(1L, "alice", "pass", "alice@example.com", new HashSet<>(), new HashSet<>(), new HashSet<>());
+        User bob = new User(2L, "bob", "pass", "bob@example.com", new HashSet<>(), new HashSet<>(), new HashSet<>());
+        when(projectRepository.findAssignedUserIds(10L)).thenReturn(List.of(1L));
+        assertFalse(projectAccessIndex.isProjectMember(10L, 2L));
+
+        projectAccessIndex.projectChanged(new Project(10L, "P", null, null, null, new HashSet<>(), new HashSet<>(Set.of(bob))));
+
+        assertTrue(projectAccessIndex.isProjectMember(10L, 2L));
+        assertFalse(projectAccessIndex.isProjectMember(10L, alice.getId()));
+        verify(projectRepository, times(1)).findAssignedUserIds(10L);
+    }
+
+    @Test
+    void taskChangedAndDeleted_UpdateTaskEntries() {
+        User reporter = new User(1L, "reporter", "pass", "reporter@example.com", new HashSet<>(), new HashSet<>(), new HashSet<>());
+        User assignee = new User(2L, "assignee", "pass", "assignee@example.com", new HashSet<>(), new HashSet<>(), new HashSet<>());
+        Project project = new Project(10L, "P", null, null, null, new HashSet<>(), new HashSet<>());
+        Task task = new Task(100L, "T", null, null, null, null, project, assignee, reporter, null, null);
+
+        projectAccessIndex.taskChanged(task);
+        assertTrue(projectAccessIndex.canAccessTask(100L, 2L));
+        verify(taskRepository, never()).findAccessById(anyLong());
+
+        projectAccessIndex.taskDeleted(100L);
+        when(taskRepository.findAccessById(100L)).thenReturn(Optional.empty());
+        assertFalse(projectAccessIndex.canAccessTask(100L, 2L));
+    }
+
+    @Test
+    void canAccessTasks_LoadsMissingEntriesInOneQuery() {
+        when(taskRepository.findAccessById(100L)).thenReturn(Optional.of(view(10L, 1L, null)));
+        assertTrue(projectAccessIndex.canAccessTask(100L, 1L));
+        when(taskRepository.findAccessByIdIn(List.of(101L))).thenReturn(List.of(row(101L, 10L, null, 1L)));
+        when(taskRepository.findAccessByIdIn(List.of(102L))).thenReturn(List.of(row(102L, 20L, 3L, null)));
+        when(projectRepository.findAssignedUserIds(20L)).thenReturn(List.of(4L));
+
+        assertTrue(projectAccessIndex.canAccessTasks(List.of(100L, 101L), 1L)); // Reporter of one, assignee of the other
+        assertFalse(projectAccessIndex.canAccessTasks(List.of(100L, 102L), 1L)); // Not allowed on 102
+        assertTrue(projectAccessIndex.canAccessTasks(List.of(102L), 4L)); // Project member
+
+        verify(taskRepository, times(1)).findAccessById(100L);
+        verify(taskRepository, times(1)).findAccessByIdIn(List.of(101L));
+        verify(taskRepository, times(1)).findAccessByIdIn(List.of(102L));
+    }
+
+    @Test
+    void canAccessTasks_UnknownTask_DeniesTheBatch() {
+        when(taskRepository.findAccessByIdIn(anyCollection())).thenReturn(List.of(row(100L, 10L, 1L, null)));
+
+        assertFalse(projectAccessIndex.canAccessTasks(List.of(100L, 999L), 1L));
+        assertFalse(projectAccessIndex.canAccessTasks(List.of(), 1L));
+    }
+
+    @Test
+    void tasksChanged_ReloadsTheTasks() {
+        when(taskRepository.findAccessByIdIn(anyCollection()))
+                .thenReturn(List.of(row(100L, 10L, 1L, 2L)))
+                .thenReturn(List.of(row(100L, 10L, 1L, 3L)));
+        when(projectRepository.findAssignedUserIds(10L)).thenReturn(List.of());
+        assertTrue(projectAccessIndex.canAccessTasks(List.of(100L), 2L));
+
+        projectAccessIndex.tasksChanged(List.of(100L));
+
+        assertFalse(projectAccessIndex.canAccessTasks(List.of(100L), 2L));
+        assertTrue(projectAccessIndex.canAccessTasks(List.of(100L), 3L));
+    }
+
+    private static TaskRepository.TaskAccessRow row(Long taskId, Long projectId, Long reporterId, Long assigneeId) {
+        TaskRepository.TaskAccessView view = view(projectId, reporterId, assigneeId);
+        return new TaskRepository.TaskAccessRow() {
+            @Override
+            public Long getTaskId() {
+                return taskId;
+            }
+
+            @Override
+            public Long getProjectId() {
+                return view.getProjectId();
+            }
+
+            @Override
+            public Long getReporterId() {
+                return view.getReporterId();
+            }
+
+            @Override
+            public Long getAssigneeId() {
+                return view.getAssigneeId();
+            }
+        };
+    }
+
+    private static TaskRepository.TaskAccessView view(Long projectId, Long reporterId, Long assigneeId) {
+        return new TaskRepository.TaskAccessView() {
+            @Override
+            public Long getProjectId() {
+                return projectId;
+            }
+
+            @Override
+            public Long getReporterId() {
+                return reporterId;
+            }
+
+            @Override
+            public Long getAssigneeId() {
+                return assigneeId;
+            }
+        };
+    }
+}
@@ -6,6 +6,7 @@ import com.alx.taskmanager.model.Project;
 import com.alx.taskmanager.model.User;
 import com.alx.taskmanager.repository.ProjectRepository;
 import com.alx.taskmanager.repository.UserRepository;
+import com.alx.taskmanager.security.ProjectAccessIndex;
 import com.alx.taskmanager.util.MapperUtil;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -33,6 +34,8 @@ public class ProjectServiceTest {
     private UserRepository userRepository;
     @Mock
     private MapperUtil mapperUtil;
+    @Mock
+    private ProjectAccessIndex projectAccessIndex;
 
     @InjectMocks
     private ProjectService projectService;
@@ -167,6 +170,7 @@ public class ProjectServiceTest {
 
         verify(projectRepository, times(1)).existsById(1L);
         verify(projectRepository, times(1)).deleteById(1L);
+        verify(projectAccessIndex, times(1)).projectDeleted(1L);
     }
 
     @Test
@@ -201,5 +205,6 @@ public class ProjectServiceTest {
         verify(projectRepository, times(1)).findById(1L);
         verify(userRepository, times(1)).findById(2L);
         verify(projectRepository, times(1)).save(project);
+        verify(projectAccessIndex, times(1)).projectChanged(updatedProjectEntity);
     }
 }
\ No newline at end of file
@@ -1,11 +1,14 @@
 package com.alx.taskmanager.service;
 
+import com.alx.taskmanager.dto.TaskBulkAssignRequest;
+import com.alx.taskmanager.dto.TaskBulkStatusRequest;
 import com.alx.taskmanager.dto.TaskDTO;
 import com.alx.taskmanager.exception.ResourceNotFoundException;
 import com.alx.taskmanager.model.*;
 import com.alx.taskmanager.repository.ProjectRepository;
 import com.alx.taskmanager.repository.TaskRepository;
 import com.alx.taskmanager.repository.UserRepository;
+import com.alx.taskmanager.security.ProjectAccessIndex;
 import com.alx.taskmanager.security.UserDetailsImpl;
 import com.alx.taskmanager.util.MapperUtil;
 import org.junit.jupiter.api.BeforeEach;
@@ -30,6 +33,7 @@ import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -43,6 +47,8 @@ public class TaskServiceTest {
     private UserRepository userRepository;
     @Mock
     private MapperUtil mapperUtil;
+    @Mock
+    private ProjectAccessIndex projectAccessIndex;
 
     @InjectMocks
     private TaskService taskService;
@@ -130,6 +136,7 @@ public class TaskServiceTest {
         verify(projectRepository, times(1)).findById(99L);
         verify(userRepository, never()).findById(anyLong());
         verify(taskRepository, never()).save(any(Task.class));
+        verifyNoInteractions(projectAccessIndex);
     }
 
     @Test
@@ -238,6 +245,69 @@ public class TaskServiceTest {
         assertThrows(ResourceNotFoundException.class, () -> taskService.updateTask(999L, updateRequest));
         verify(taskRepository, times(1)).findById(999L);
         verify(taskRepository, never()).save(any(Task.class));
+        verifyNoInteractions(projectAccessIndex);
+    }
+
+    @Test
+    void updateTaskStatuses_UpdatesTheBatchInOneStatement() {
+        TaskBulkStatusRequest request = new TaskBulkStatusRequest();
+        request.setTaskIds(List.of(100L, 101L, 100L));
+        request.setStatus(TaskStatus.DONE);
+        when(taskRepository.updateStatusByIdIn(eq(List.of(100L, 101L)), eq(TaskStatus.DONE), any(LocalDateTime.class))).thenReturn(2);
+
+        taskService.updateTaskStatuses(request);
+
+        verify(taskRepository, times(1)).updateStatusByIdIn(eq(List.of(100L, 101L)), eq(TaskStatus.DONE), any(LocalDateTime.class));
+        verify(taskRepository, never()).findById(anyLong());
+        verifyNoInteractions(projectAccessIndex);
+    }
+
+    @Test
+    void updateTaskStatuses_TaskGoneMeanwhile_ThrowsResourceNotFoundException() {
+        TaskBulkStatusRequest request = new TaskBulkStatusRequest();
+        request.setTaskIds(List.of(100L, 101L));
+        request.setStatus(TaskStatus.DONE);
+        when(taskRepository.updateStatusByIdIn(eq(List.of(100L, 101L)), eq(TaskStatus.DONE), any(LocalDateTime.class))).thenReturn(1);
+
+        assertThrows(ResourceNotFoundException.class, () -> taskService.updateTaskStatuses(request));
+    }
+
+    @Test
+    void updateTaskAssignees_AssignsTheBatchAndRefreshesTheAcl() {
+        TaskBulkAssignRequest request = new TaskBulkAssignRequest();
+        request.setTaskIds(List.of(100L, 101L));
+        request.setAssigneeId(2L);
+        when(userRepository.findById(2L)).thenReturn(Optional.of(assignee));
+        when(taskRepository.updateAssigneeByIdIn(eq(List.of(100L, 101L)), eq(assignee), any(LocalDateTime.class))).thenReturn(2);
+
+        taskService.updateTaskAssignees(request);
+
+        verify(taskRepository, times(1)).updateAssigneeByIdIn(eq(List.of(100L, 101L)), eq(assignee), any(LocalDateTime.class));
+        verify(projectAccessIndex, times(1)).tasksChanged(List.of(100L, 101L));
+    }
+
+    @Test
+    void updateTaskAssignees_NullAssignee_UnassignsWithoutLookingUpAUser() {
+        TaskBulkAssignRequest request = new TaskBulkAssignRequest();
+        request.setTaskIds(List.of(100L));
+        when(taskRepository.updateAssigneeByIdIn(eq(List.of(100L)), eq(null), any(LocalDateTime.class))).thenReturn(1);
+
+        taskService.updateTaskAssignees(request);
+
+        verify(userRepository, never()).findById(anyLong());
+        verify(projectAccessIndex, times(1)).tasksChanged(List.of(100L));
+    }
+
+    @Test
+    void updateTaskAssignees_NonExistingAssignee_ThrowsResourceNotFoundException() {
+        TaskBulkAssignRequest request = new TaskBulkAssignRequest();
+        request.setTaskIds(List.of(100L));
+        request.setAssigneeId(99L);
+        when(userRepository.findById(99L)).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> taskService.updateTaskAssignees(request));
+        verify(taskRepository, never()).updateAssigneeByIdIn(any(), any(), any());
+        verifyNoInteractions(projectAccessIndex);
     }
 
     @Test
@@ -249,6 +319,7 @@ public class TaskServiceTest {
 
         verify(taskRepository, times(1)).existsById(100L);
         verify(taskRepository, times(1)).deleteById(100L);
+        verify(projectAccessIndex, times(1)).taskDeleted(100L);
     }
 
     @Test
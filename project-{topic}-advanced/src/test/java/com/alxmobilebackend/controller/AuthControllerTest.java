@@ -6,6 +6,7 @@ import com.alxmobilebackend.dto.AuthResponse;
 import com.alxmobilebackend.dto.RegisterRequest;
 import com.alxmobilebackend.exception.ValidationException;
 import com.alxmobilebackend.service.AuthService;
+import com.alxmobilebackend.service.JwtService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -13,6 +14,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
+import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -36,6 +38,12 @@ class AuthControllerTest {
     @MockBean
     private AuthService authService;
 
+    // Needed by JwtAuthenticationFilter, which the web slice picks up as a servlet filter
+    @MockBean
+    private JwtService jwtService;
+    @MockBean
+    private UserDetailsService userDetailsService;
+
     @Test
     @DisplayName("Should register a new user successfully")
     void registerUser_success() throws Exception {
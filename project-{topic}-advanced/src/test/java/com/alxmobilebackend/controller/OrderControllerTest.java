@@ -0,0 +1,102 @@
+```java
+package com.alxmobilebackend.controller;
+
+import com.alxmobilebackend.config.SecurityConfig;
+import com.alxmobilebackend.dto.OrderDto;
+import com.alxmobilebackend.model.Role;
+import com.alxmobilebackend.repository.OrderRepository;
+import com.alxmobilebackend.repository.ProductRepository;
+import com.alxmobilebackend.repository.UserRepository;
+import com.alxmobilebackend.security.AuthenticatedUser;
+import com.alxmobilebackend.service.CustomUserDetailsService;
+import com.alxmobilebackend.service.JwtService;
+import com.alxmobilebackend.service.OrderReader;
+import com.alxmobilebackend.service.OrderService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.alxmobilebackend.util.Constants.ORDERS_PATH;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Runs order requests through the real security filter chain, so the bearer token is authenticated by
+ * {@code JwtAuthenticationFilter} rather than by {@code @WithMockUser}.
+ */
+@WebMvcTest(OrderController.class)
+@Import({SecurityConfig.class, OrderService.class, OrderSecurityService.class})
+@ActiveProfiles("test")
+class OrderControllerTest {
+
+    private static final String TOKEN = "owner-token";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private JwtService jwtService;
+    @MockBean
+    private CustomUserDetailsService userDetailsService;
+    @MockBean
+    private OrderReader orderReader;
+    @MockBean
+    private OrderRepository orderRepository;
+    @MockBean
+    private UserRepository userRepository;
+    @MockBean
+    private ProductRepository productRepository;
+
+    @Test
+    @DisplayName("Should authenticate the bearer token once and hand its principal to the order reads")
+    void getOrderById_Token_ReachesOrderReaderWithPrincipal() throws Exception {
+        AuthenticatedUser owner = AuthenticatedUser.fromToken(1L, "owner@example.com", Role.ROLE_USER.mask());
+        when(jwtService.parseAuthenticatedUser(TOKEN)).thenReturn(owner);
+        List<AuthenticatedUser> principals = new ArrayList<>();
+        when(orderReader.getOrder(7L)).thenAnswer(invocation -> {
+            principals.add(AuthenticatedUser.current());
+            return OrderDto.OrderResponse.builder().id(7L).userId(1L).build();
+        });
+
+        mockMvc.perform(get(ORDERS_PATH + "/7").header("Authorization", "Bearer " + TOKEN))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(7L));
+
+        // Once for the @PreAuthorize ownership check, once in OrderService
+        assertThat(principals).hasSize(2).allSatisfy(principal -> assertThat(principal).isSameAs(owner));
+        verify(jwtService, times(1)).parseAuthenticatedUser(TOKEN);
+        verifyNoInteractions(userDetailsService, userRepository);
+    }
+
+    @Test
+    @DisplayName("Should refuse another user's order")
+    void getOrderById_OtherUsersToken_Forbidden() throws Exception {
+        when(jwtService.parseAuthenticatedUser(TOKEN))
+                .thenReturn(AuthenticatedUser.fromToken(2L, "other@example.com", Role.ROLE_USER.mask()));
+        when(orderReader.getOrder(7L)).thenReturn(OrderDto.OrderResponse.builder().id(7L).userId(1L).build());
+
+        mockMvc.perform(get(ORDERS_PATH + "/7").header("Authorization", "Bearer " + TOKEN))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("Should reject a request without a token before any order is read")
+    void getOrderById_NoToken_Unauthorized() throws Exception {
+        mockMvc.perform(get(ORDERS_PATH + "/7"))
+                .andExpect(status().isUnauthorized());
+
+        verifyNoInteractions(orderReader);
+    }
+}
+```
@@ -4,6 +4,7 @@ package com.alxmobilebackend.controller;
 import com.alxmobilebackend.dto.ProductDto;
 import com.alxmobilebackend.exception.ResourceNotFoundException;
 import com.alxmobilebackend.exception.ValidationException;
+import com.alxmobilebackend.service.JwtService;
 import com.alxmobilebackend.service.ProductService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.DisplayName;
@@ -15,6 +16,7 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
+import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
@@ -44,6 +46,12 @@ class ProductControllerTest {
     @MockBean
     private ProductService productService;
 
+    // Needed by JwtAuthenticationFilter, which the web slice picks up as a servlet filter
+    @MockBean
+    private JwtService jwtService;
+    @MockBean
+    private UserDetailsService userDetailsService;
+
     // Mock the SecurityService because it's referenced in @PreAuthorize, even if not directly used in ProductController
     @MockBean(name = "securityService")
     private SecurityService securityService;
@@ -0,0 +1,97 @@
+```java
+package com.alxmobilebackend.service;
+
+import com.alxmobilebackend.dto.OrderDto;
+import com.alxmobilebackend.model.Role;
+import com.alxmobilebackend.repository.OrderRepository;
+import com.alxmobilebackend.repository.ProductRepository;
+import com.alxmobilebackend.repository.UserRepository;
+import com.alxmobilebackend.security.AuthenticatedUser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderServiceTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private OrderReader orderReader;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private OrderService orderService;
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Should serve a cached order to its owner without looking the user up")
+    void getOrderById_Owner_ReturnsOrder() {
+        OrderDto.OrderResponse order = OrderDto.OrderResponse.builder().id(7L).userId(1L).build();
+        when(orderReader.getOrder(7L)).thenReturn(order);
+        authenticate(1L, Role.ROLE_USER);
+
+        assertThat(orderService.getOrderById(7L)).isSameAs(order);
+        verifyNoInteractions(userRepository, orderRepository);
+    }
+
+    @Test
+    @DisplayName("Should check ownership on every call, even when the order comes from the cache")
+    void getOrderById_OtherUser_ThrowsAccessDenied() {
+        OrderDto.OrderResponse order = OrderDto.OrderResponse.builder().id(7L).userId(1L).build();
+        when(orderReader.getOrder(7L)).thenReturn(order);
+
+        authenticate(1L, Role.ROLE_USER);
+        orderService.getOrderById(7L);
+
+        authenticate(2L, Role.ROLE_USER);
+        assertThatThrownBy(() -> orderService.getOrderById(7L)).isInstanceOf(AccessDeniedException.class);
+
+        authenticate(3L, Role.ROLE_USER, Role.ROLE_ADMIN);
+        assertThat(orderService.getOrderById(7L)).isSameAs(order);
+    }
+
+    @Test
+    @DisplayName("Should reject non-admins before reading the cached order list")
+    void getAllOrders_NonAdmin_ThrowsAccessDenied() {
+        authenticate(1L, Role.ROLE_USER);
+
+        assertThatThrownBy(() -> orderService.getAllOrders(PageRequest.of(0, 20))).isInstanceOf(AccessDeniedException.class);
+        verifyNoInteractions(orderReader);
+    }
+
+    private void authenticate(Long userId, Role... roles) {
+        AuthenticatedUser principal = AuthenticatedUser.fromToken(userId, "user" + userId + "@example.com", Role.toMask(List.of(roles)));
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+}
+```
@@ -0,0 +1,152 @@
+```java
+package com.alxmobilebackend.service;
+
+import com.alxmobilebackend.dto.SalesReportDto;
+import com.alxmobilebackend.event.OrderEvents;
+import com.alxmobilebackend.model.Order;
+import com.alxmobilebackend.model.RollupGranularity;
+import com.alxmobilebackend.repository.SalesRollupRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SalesRollupServiceTest {
+
+    private static final LocalDateTime ORDER_TIME = LocalDateTime.of(2024, 3, 15, 10, 20);
+
+    @Mock
+    private SalesRollupRepository salesRollupRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private SalesRollupService salesRollupService;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @Test
+    @DisplayName("Should add placed orders to the hour, day and month buckets in one flush")
+    @SuppressWarnings("unchecked")
+    void flush_AggregatesOrdersPerGranularity() {
+        salesRollupService.onOrderPlaced(placed(1L, ORDER_TIME, 2, "10.00"));
+        salesRollupService.onOrderPlaced(placed(2L, ORDER_TIME.plusMinutes(30), 1, "10.00"));
+
+        salesRollupService.flush();
+
+        ArgumentCaptor<List<SalesRollupRepository.TotalsRow>> totals = ArgumentCaptor.forClass(List.class);
+        verify(salesRollupRepository).addTotals(totals.capture());
+        assertThat(totals.getValue()).containsExactly(
+                new SalesRollupRepository.TotalsRow(RollupGranularity.HOUR, LocalDateTime.of(2024, 3, 15, 10, 0), 2, 3, new BigDecimal("30.00")),
+                new SalesRollupRepository.TotalsRow(RollupGranularity.DAY, LocalDateTime.of(2024, 3, 15, 0, 0), 2, 3, new BigDecimal("30.00")),
+                new SalesRollupRepository.TotalsRow(RollupGranularity.MONTH, LocalDateTime.of(2024, 3, 1, 0, 0), 2, 3, new BigDecimal("30.00")));
+
+        ArgumentCaptor<List<SalesRollupRepository.StatusRow>> statuses = ArgumentCaptor.forClass(List.class);
+        verify(salesRollupRepository).addStatuses(statuses.capture());
+        assertThat(statuses.getValue()).allMatch(row -> row.status() == Order.OrderStatus.PENDING && row.orderCount() == 2);
+
+        salesRollupService.flush(); // Nothing left to write
+        verify(salesRollupRepository, times(1)).addTotals(any());
+    }
+
+    @Test
+    @DisplayName("Should subtract a deleted order from its original buckets")
+    @SuppressWarnings("unchecked")
+    void flush_DeletedOrderIsSubtracted() {
+        salesRollupService.onOrderDeleted(new OrderEvents.OrderDeleted(1L, ORDER_TIME, Order.OrderStatus.CANCELLED,
+                new BigDecimal("20.00"), List.of(new OrderEvents.Line(7L, 2, new BigDecimal("10.00")))));
+
+        salesRollupService.flush();
+
+        ArgumentCaptor<List<SalesRollupRepository.ProductRow>> products = ArgumentCaptor.forClass(List.class);
+        verify(salesRollupRepository).addProducts(products.capture());
+        assertThat(products.getValue()).hasSize(3)
+                .allMatch(row -> row.productId() == 7L && row.units() == -2 && row.revenue().compareTo(new BigDecimal("-20.00")) == 0);
+        ArgumentCaptor<List<SalesRollupRepository.StatusRow>> statuses = ArgumentCaptor.forClass(List.class);
+        verify(salesRollupRepository).addStatuses(statuses.capture());
+        assertThat(statuses.getValue()).hasSize(3)
+                .allMatch(row -> row.status() == Order.OrderStatus.CANCELLED && row.orderCount() == -1);
+    }
+
+    @Test
+    @DisplayName("Should move an order between status counters of its order date")
+    @SuppressWarnings("unchecked")
+    void flush_StatusChangeMovesOrder() {
+        salesRollupService.onOrderStatusChanged(new OrderEvents.OrderStatusChanged(1L, ORDER_TIME,
+                Order.OrderStatus.PENDING, Order.OrderStatus.SHIPPED, ORDER_TIME.plusDays(40)));
+
+        salesRollupService.flush();
+
+        ArgumentCaptor<List<SalesRollupRepository.StatusRow>> statuses = ArgumentCaptor.forClass(List.class);
+        verify(salesRollupRepository).addStatuses(statuses.capture());
+        assertThat(statuses.getValue()).contains(
+                new SalesRollupRepository.StatusRow(RollupGranularity.MONTH, LocalDateTime.of(2024, 3, 1, 0, 0), Order.OrderStatus.PENDING, -1),
+                new SalesRollupRepository.StatusRow(RollupGranularity.MONTH, LocalDateTime.of(2024, 3, 1, 0, 0), Order.OrderStatus.SHIPPED, 1));
+        assertThat(statuses.getValue()).hasSize(6);
+    }
+
+    @Test
+    @DisplayName("Should keep deltas for the next flush when writing fails")
+    void flush_FailureKeepsDeltas() {
+        salesRollupService.onOrderPlaced(placed(1L, ORDER_TIME, 1, "5.00"));
+        doThrow(new IllegalStateException("database down")).doNothing().when(salesRollupRepository).addTotals(any());
+
+        salesRollupService.flush();
+        salesRollupService.flush();
+
+        verify(salesRollupRepository, times(2)).addTotals(argThat(rows -> rows.size() == 3 && rows.get(0).orderCount() == 1));
+    }
+
+    @Test
+    @DisplayName("Should cover a range with months, days and hours")
+    void cover_UsesCoarsestBuckets() {
+        List<RollupGranularity.Range> ranges = RollupGranularity.cover(
+                LocalDateTime.of(2024, 1, 30, 22, 15), LocalDateTime.of(2024, 4, 2, 3, 0));
+
+        assertThat(ranges).containsExactly(
+                new RollupGranularity.Range(RollupGranularity.HOUR, LocalDateTime.of(2024, 1, 30, 22, 0), LocalDateTime.of(2024, 1, 31, 0, 0)),
+                new RollupGranularity.Range(RollupGranularity.DAY, LocalDateTime.of(2024, 1, 31, 0, 0), LocalDateTime.of(2024, 2, 1, 0, 0)),
+                new RollupGranularity.Range(RollupGranularity.MONTH, LocalDateTime.of(2024, 2, 1, 0, 0), LocalDateTime.of(2024, 4, 1, 0, 0)),
+                new RollupGranularity.Range(RollupGranularity.DAY, LocalDateTime.of(2024, 4, 1, 0, 0), LocalDateTime.of(2024, 4, 2, 0, 0)),
+                new RollupGranularity.Range(RollupGranularity.HOUR, LocalDateTime.of(2024, 4, 2, 0, 0), LocalDateTime.of(2024, 4, 2, 3, 0)));
+    }
+
+    @Test
+    @DisplayName("Should fill buckets without orders with zeros")
+    void getSalesSeries_FillsEmptyBuckets() {
+        LocalDateTime from = LocalDateTime.of(2024, 3, 1, 0, 0);
+        when(salesRollupRepository.findTotals(RollupGranularity.DAY, from, from.plusDays(3))).thenReturn(List.of(
+                new SalesReportDto.SalesBucket(from.plusDays(1), 4, 6, new BigDecimal("60.00"))));
+
+        List<SalesReportDto.SalesBucket> series = salesRollupService.getSalesSeries(RollupGranularity.DAY, from, from.plusDays(3));
+
+        assertThat(series).extracting(SalesReportDto.SalesBucket::getOrderCount).containsExactly(0L, 4L, 0L);
+    }
+
+    private static OrderEvents.OrderPlaced placed(Long orderId, LocalDateTime orderDate, int quantity, String unitPrice) {
+        BigDecimal price = new BigDecimal(unitPrice);
+        return new OrderEvents.OrderPlaced(orderId, orderDate, price.multiply(BigDecimal.valueOf(quantity)),
+                List.of(new OrderEvents.Line(7L, quantity, price)));
+    }
+}
+```
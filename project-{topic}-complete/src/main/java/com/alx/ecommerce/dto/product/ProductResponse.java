@@ -20,6 +20,7 @@ public class ProductResponse {
     private String categoryName;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
-    private Double averageRating; // Calculated from reviews
+    private Double averageRating; // From the product's review summary
     private Long reviewCount; // Number of reviews
+    private long[] ratingHistogram; // Number of reviews per star rating, 1 to 5 stars
 }
\ No newline at end of file
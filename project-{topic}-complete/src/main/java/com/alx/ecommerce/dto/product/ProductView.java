@@ -0,0 +1,18 @@
+package com.alx.ecommerce.dto.product;
+
+import com.alx.ecommerce.model.Category;
+import com.alx.ecommerce.model.Product;
+import com.alx.ecommerce.model.ProductReviewSummary;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * A product with everything needed to render it, loaded by one query (see {@code ProductRepository}).
+ */
+@Getter
+@AllArgsConstructor
+public class ProductView {
+    private final Product product;
+    private final Category category;
+    private final ProductReviewSummary reviewSummary; // null if the product has no reviews
+}
@@ -0,0 +1,63 @@
+package com.alx.ecommerce.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * Review aggregates of a product. Read-only: the row is maintained by a database trigger on {@code reviews}, and a
+ * product without reviews has no row.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Immutable
+@Table(name = "product_review_summaries")
+public class ProductReviewSummary {
+    @Id
+    @Column(name = "product_id")
+    private Long productId;
+
+    @Column(nullable = false)
+    private long reviewCount;
+
+    @Column(nullable = false)
+    private long ratingSum;
+
+    @Column(name = "rating_1_count", nullable = false)
+    private long rating1Count;
+
+    @Column(name = "rating_2_count", nullable = false)
+    private long rating2Count;
+
+    @Column(name = "rating_3_count", nullable = false)
+    private long rating3Count;
+
+    @Column(name = "rating_4_count", nullable = false)
+    private long rating4Count;
+
+    @Column(name = "rating_5_count", nullable = false)
+    private long rating5Count;
+
+    /**
+     * @return the average rating rounded to 2 decimal places, or 0 without reviews.
+     */
+    public double getAverageRating() {
+        return reviewCount == 0 ? 0.0 : Math.round(ratingSum * 100.0 / reviewCount) / 100.0;
+    }
+
+    /**
+     * @return the number of reviews per star rating, 1 to 5 stars.
+     */
+    public long[] getRatingHistogram() {
+        return new long[]{rating1Count, rating2Count, rating3Count, rating4Count, rating5Count};
+    }
+}
@@ -1,22 +1,34 @@
 package com.alx.ecommerce.repository;
 
+import com.alx.ecommerce.dto.product.ProductView;
 import com.alx.ecommerce.model.Product;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ProductRepository extends JpaRepository<Product, Long> {
     List<Product> findByCategoryId(Long categoryId);
 
-    // Example of a custom query for searching products
-    @Query("SELECT p FROM Product p WHERE " +
+    // Example of a custom query for searching products (with category and review summary, see findAllAsViews)
+    @Query("SELECT new com.alx.ecommerce.dto.product.ProductView(p, c, s) FROM Product p JOIN p.category c " +
+           "LEFT JOIN ProductReviewSummary s ON s.productId = p.id WHERE " +
            "LOWER(p.name) LIKE LOWER(CONCAT('%', :query, '%')) OR " +
            "LOWER(p.description) LIKE LOWER(CONCAT('%', :query, '%'))")
-    List<Product> searchProducts(@Param("query") String query);
+    List<ProductView> searchProducts(@Param("query") String query);
+
+    // Catalog page with categories and review aggregates in a single query, whatever the number of reviews
+    @Query(value = "SELECT new com.alx.ecommerce.dto.product.ProductView(p, c, s) FROM Product p JOIN p.category c " +
+                   "LEFT JOIN ProductReviewSummary s ON s.productId = p.id",
+           countQuery = "SELECT COUNT(p) FROM Product p")
+    Page<ProductView> findAllAsViews(Pageable pageable);
 
     // For query optimization: Fetch product with its category to avoid N+1 problem
     @Query("SELECT p FROM Product p JOIN FETCH p.category WHERE p.id = :id")
@@ -25,4 +37,9 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     // Another query optimization: Fetch products with their categories for a list view
     @Query("SELECT p FROM Product p JOIN FETCH p.category")
     List<Product> findAllWithCategories();
+
+    // Atomic stock deduction for order placement: returns 0 instead of overselling when stock is short
+    @Modifying
+    @Query("UPDATE Product p SET p.stockQuantity = p.stockQuantity - :quantity WHERE p.id = :id AND p.stockQuantity >= :quantity")
+    int decrementStock(@Param("id") Long id, @Param("quantity") int quantity);
 }
\ No newline at end of file
@@ -0,0 +1,9 @@
+package com.alx.ecommerce.repository;
+
+import com.alx.ecommerce.model.ProductReviewSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ProductReviewSummaryRepository extends JpaRepository<ProductReviewSummary, Long> {
+}
@@ -21,6 +21,7 @@ import java.math.BigDecimal;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 /**
@@ -64,7 +65,8 @@ public class OrderService {
         order.setShippingAddress(shippingAddress);
         BigDecimal totalAmount = BigDecimal.ZERO;
 
-        for (Map.Entry<Long, Integer> entry : productQuantities.entrySet()) {
+        // Ascending product id order: concurrent orders lock product rows in the same order and cannot deadlock
+        for (Map.Entry<Long, Integer> entry : new TreeMap<>(productQuantities).entrySet()) {
             Long productId = entry.getKey();
             Integer quantity = entry.getValue();
 
@@ -83,9 +85,11 @@ public class OrderService {
                 throw new IllegalArgumentException("Insufficient stock for product: " + product.getName());
             }
 
-            // Deduct stock
-            product.setStockQuantity(product.getStockQuantity() - quantity);
-            productRepository.save(product); // Save updated product stock
+            // Deduct stock with a conditional UPDATE instead of read-modify-write, so concurrent orders cannot oversell
+            if (productRepository.decrementStock(productId, quantity) == 0) {
+                log.warn("Order creation failed: Stock for product ID {} was taken by a concurrent order.", productId);
+                throw new IllegalArgumentException("Insufficient stock for product: " + product.getName());
+            }
 
             OrderItem orderItem = OrderItem.builder()
                     .product(product)
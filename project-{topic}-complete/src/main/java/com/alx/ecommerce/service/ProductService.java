@@ -2,11 +2,14 @@ package com.alx.ecommerce.service;
 
 import com.alx.ecommerce.dto.product.ProductRequest;
 import com.alx.ecommerce.dto.product.ProductResponse;
+import com.alx.ecommerce.dto.product.ProductView;
 import com.alx.ecommerce.exception.ResourceNotFoundException;
 import com.alx.ecommerce.model.Category;
 import com.alx.ecommerce.model.Product;
+import com.alx.ecommerce.model.ProductReviewSummary;
 import com.alx.ecommerce.repository.CategoryRepository;
 import com.alx.ecommerce.repository.ProductRepository;
+import com.alx.ecommerce.repository.ProductReviewSummaryRepository;
 import com.alx.ecommerce.util.AppConstants;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -33,6 +36,7 @@ public class ProductService {
 
     private final ProductRepository productRepository;
     private final CategoryRepository categoryRepository;
+    private final ProductReviewSummaryRepository productReviewSummaryRepository;
 
     /**
      * Creates a new product.
@@ -61,7 +65,7 @@ public class ProductService {
                 .build();
 
         Product savedProduct = productRepository.save(product);
-        return mapToProductResponse(savedProduct);
+        return mapToProductResponse(new ProductView(savedProduct, category, null)); // No reviews yet
     }
 
     /**
@@ -78,7 +82,7 @@ public class ProductService {
         log.debug("Fetching all products with pageNo: {}, pageSize: {}, sortBy: {}, sortDir: {}", pageNo, pageSize, sortBy, sortDir);
         Sort sort = sortDir.equalsIgnoreCase(Sort.Direction.ASC.name()) ? Sort.by(sortBy).ascending() : Sort.by(sortBy).descending();
         Pageable pageable = PageRequest.of(pageNo, pageSize, sort);
-        Page<Product> products = productRepository.findAll(pageable); // Can optimize with findAllWithCategories() if needed
+        Page<ProductView> products = productRepository.findAllAsViews(pageable); // Categories and review aggregates joined in
         return products.map(this::mapToProductResponse);
     }
 
@@ -97,7 +101,8 @@ public class ProductService {
                     log.warn("Product not found with ID: {}", id);
                     return new ResourceNotFoundException("Product", "id", id);
                 });
-        return mapToProductResponse(product);
+        return mapToProductResponse(new ProductView(product, product.getCategory(),
+                productReviewSummaryRepository.findById(id).orElse(null)));
     }
 
     /**
@@ -133,7 +138,8 @@ public class ProductService {
 
         log.info("Updating product with ID: {}", id);
         Product updatedProduct = productRepository.save(product);
-        return mapToProductResponse(updatedProduct);
+        return mapToProductResponse(new ProductView(updatedProduct, category,
+                productReviewSummaryRepository.findById(id).orElse(null)));
     }
 
     /**
@@ -162,17 +168,19 @@ public class ProductService {
      */
     public List<ProductResponse> searchProducts(String query) {
         log.debug("Searching products with query: {}", query);
-        List<Product> products = productRepository.searchProducts(query);
+        List<ProductView> products = productRepository.searchProducts(query);
         return products.stream().map(this::mapToProductResponse).collect(Collectors.toList());
     }
 
     /**
-     * Maps a Product entity to a ProductResponse DTO.
+     * Maps a product view to a ProductResponse DTO. Ratings come from the precomputed review summary, never from the
+     * product's review collection.
      *
-     * @param product The Product entity.
+     * @param view The product with its category and review summary.
      * @return The corresponding ProductResponse DTO.
      */
-    private ProductResponse mapToProductResponse(Product product) {
+    ProductResponse mapToProductResponse(ProductView view) {
+        Product product = view.getProduct();
         ProductResponse response = new ProductResponse();
         response.setId(product.getId());
         response.setName(product.getName());
@@ -180,23 +188,21 @@ public class ProductService {
         response.setPrice(product.getPrice());
         response.setStockQuantity(product.getStockQuantity());
         response.setImageUrl(product.getImageUrl());
-        response.setCategoryId(product.getCategory().getId());
-        response.setCategoryName(product.getCategory().getName());
+        response.setCategoryId(view.getCategory().getId());
+        response.setCategoryName(view.getCategory().getName());
         response.setCreatedAt(product.getCreatedAt());
         response.setUpdatedAt(product.getUpdatedAt());
 
-        // Calculate average rating and review count
-        if (product.getReviews() != null && !product.getReviews().isEmpty()) {
-            Double averageRating = product.getReviews().stream()
-                    .mapToInt(review -> review.getRating())
-                    .average()
-                    .orElse(0.0);
-            response.setAverageRating(Math.round(averageRating * 100.0) / 100.0); // Round to 2 decimal places
-            response.setReviewCount((long) product.getReviews().size());
+        ProductReviewSummary summary = view.getReviewSummary();
+        if (summary != null && summary.getReviewCount() > 0) {
+            response.setAverageRating(summary.getAverageRating());
+            response.setReviewCount(summary.getReviewCount());
+            response.setRatingHistogram(summary.getRatingHistogram());
         } else {
             response.setAverageRating(0.0);
             response.setReviewCount(0L);
+            response.setRatingHistogram(new long[5]);
         }
         return response;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,66 @@
+-- V3__Add_product_review_summaries.sql
+
+-- Per-product review aggregates, so product listings never have to load review rows.
+-- Maintained by a trigger on reviews, which covers every write path (JPA cascades, bulk SQL, seed scripts).
+CREATE TABLE product_review_summaries (
+    product_id BIGINT PRIMARY KEY,
+    review_count BIGINT NOT NULL DEFAULT 0,
+    rating_sum BIGINT NOT NULL DEFAULT 0,
+    rating_1_count BIGINT NOT NULL DEFAULT 0,
+    rating_2_count BIGINT NOT NULL DEFAULT 0,
+    rating_3_count BIGINT NOT NULL DEFAULT 0,
+    rating_4_count BIGINT NOT NULL DEFAULT 0,
+    rating_5_count BIGINT NOT NULL DEFAULT 0,
+    FOREIGN KEY (product_id) REFERENCES products (id) ON DELETE CASCADE
+);
+
+-- Adds delta (+1 or -1) reviews with the given rating to a product's summary
+CREATE OR REPLACE FUNCTION apply_review_to_summary(p_product_id BIGINT, p_rating INTEGER, delta INTEGER) RETURNS VOID AS $$
+BEGIN
+    INSERT INTO product_review_summaries AS s (product_id, review_count, rating_sum,
+                                               rating_1_count, rating_2_count, rating_3_count, rating_4_count, rating_5_count)
+    SELECT p_product_id, delta, delta * p_rating,
+           CASE WHEN p_rating = 1 THEN delta ELSE 0 END,
+           CASE WHEN p_rating = 2 THEN delta ELSE 0 END,
+           CASE WHEN p_rating = 3 THEN delta ELSE 0 END,
+           CASE WHEN p_rating = 4 THEN delta ELSE 0 END,
+           CASE WHEN p_rating = 5 THEN delta ELSE 0 END
+    WHERE EXISTS (SELECT 1 FROM products WHERE id = p_product_id) -- Product is gone when its reviews are cascade-deleted
+    ON CONFLICT (product_id) DO UPDATE SET
+        review_count = s.review_count + EXCLUDED.review_count,
+        rating_sum = s.rating_sum + EXCLUDED.rating_sum,
+        rating_1_count = s.rating_1_count + EXCLUDED.rating_1_count,
+        rating_2_count = s.rating_2_count + EXCLUDED.rating_2_count,
+        rating_3_count = s.rating_3_count + EXCLUDED.rating_3_count,
+        rating_4_count = s.rating_4_count + EXCLUDED.rating_4_count,
+        rating_5_count = s.rating_5_count + EXCLUDED.rating_5_count;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION reviews_maintain_summary() RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        PERFORM apply_review_to_summary(OLD.product_id, OLD.rating, -1);
+    END IF;
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        PERFORM apply_review_to_summary(NEW.product_id, NEW.rating, 1);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_reviews_maintain_summary
+    AFTER INSERT OR DELETE OR UPDATE OF product_id, rating ON reviews
+    FOR EACH ROW EXECUTE FUNCTION reviews_maintain_summary();
+
+-- Backfill from existing reviews
+INSERT INTO product_review_summaries (product_id, review_count, rating_sum,
+                                      rating_1_count, rating_2_count, rating_3_count, rating_4_count, rating_5_count)
+SELECT product_id, COUNT(*), SUM(rating),
+       COUNT(*) FILTER (WHERE rating = 1),
+       COUNT(*) FILTER (WHERE rating = 2),
+       COUNT(*) FILTER (WHERE rating = 3),
+       COUNT(*) FILTER (WHERE rating = 4),
+       COUNT(*) FILTER (WHERE rating = 5)
+FROM reviews
+GROUP BY product_id;
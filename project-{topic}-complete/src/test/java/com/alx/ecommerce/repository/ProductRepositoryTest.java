@@ -1,5 +1,6 @@
 package com.alx.ecommerce.repository;
 
+import com.alx.ecommerce.dto.product.ProductView;
 import com.alx.ecommerce.model.Category;
 import com.alx.ecommerce.model.Product;
 import org.junit.jupiter.api.BeforeEach;
@@ -132,13 +133,15 @@ class ProductRepositoryTest {
         entityManager.persistAndFlush(product2);
         entityManager.persistAndFlush(product3);
 
-        List<Product> searchResults = productRepository.searchProducts("smart");
+        List<ProductView> searchResults = productRepository.searchProducts("smart");
         assertThat(searchResults).hasSize(2);
-        assertThat(searchResults).extracting(Product::getName).containsExactlyInAnyOrder("Smart TV 55", "Smartwatch");
+        assertThat(searchResults).extracting(v -> v.getProduct().getName()).containsExactlyInAnyOrder("Smart TV 55", "Smartwatch");
 
         searchResults = productRepository.searchProducts("audio");
         assertThat(searchResults).hasSize(1);
-        assertThat(searchResults.get(0).getName()).isEqualTo("Bluetooth Speaker");
+        assertThat(searchResults.get(0).getProduct().getName()).isEqualTo("Bluetooth Speaker");
+        assertThat(searchResults.get(0).getCategory().getName()).isEqualTo("Test Category");
+        assertThat(searchResults.get(0).getReviewSummary()).isNull(); // No reviews
     }
 
     @Test
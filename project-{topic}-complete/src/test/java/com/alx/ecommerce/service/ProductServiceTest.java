@@ -2,11 +2,14 @@ package com.alx.ecommerce.service;
 
 import com.alx.ecommerce.dto.product.ProductRequest;
 import com.alx.ecommerce.dto.product.ProductResponse;
+import com.alx.ecommerce.dto.product.ProductView;
 import com.alx.ecommerce.exception.ResourceNotFoundException;
 import com.alx.ecommerce.model.Category;
 import com.alx.ecommerce.model.Product;
+import com.alx.ecommerce.model.ProductReviewSummary;
 import com.alx.ecommerce.repository.CategoryRepository;
 import com.alx.ecommerce.repository.ProductRepository;
+import com.alx.ecommerce.repository.ProductReviewSummaryRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -41,6 +44,9 @@ class ProductServiceTest {
     @Mock
     private CategoryRepository categoryRepository;
 
+    @Mock
+    private ProductReviewSummaryRepository productReviewSummaryRepository;
+
     @InjectMocks
     private ProductService productService;
 
@@ -98,15 +104,15 @@ class ProductServiceTest {
     @DisplayName("Should get all products successfully")
     void shouldGetAllProductsSuccessfully() {
         Pageable pageable = PageRequest.of(0, 10);
-        Page<Product> productPage = new PageImpl<>(List.of(product), pageable, 1);
-        when(productRepository.findAll(any(Pageable.class))).thenReturn(productPage);
+        Page<ProductView> productPage = new PageImpl<>(List.of(new ProductView(product, category, null)), pageable, 1);
+        when(productRepository.findAllAsViews(any(Pageable.class))).thenReturn(productPage);
 
         Page<ProductResponse> responsePage = productService.getAllProducts(0, 10, "id", "asc");
 
         assertThat(responsePage).isNotNull();
         assertThat(responsePage.getContent()).hasSize(1);
         assertThat(responsePage.getContent().get(0).getName()).isEqualTo("Laptop");
-        verify(productRepository, times(1)).findAll(any(Pageable.class));
+        verify(productRepository, times(1)).findAllAsViews(any(Pageable.class));
     }
 
     @Test
@@ -216,7 +222,7 @@ class ProductServiceTest {
     @Test
     @DisplayName("Should search products by query")
     void shouldSearchProductsByQuery() {
-        when(productRepository.searchProducts(anyString())).thenReturn(List.of(product));
+        when(productRepository.searchProducts(anyString())).thenReturn(List.of(new ProductView(product, category, null)));
 
         List<ProductResponse> results = productService.searchProducts("laptop");
 
@@ -227,22 +233,20 @@ class ProductServiceTest {
     }
 
     @Test
-    @DisplayName("ProductResponse should correctly calculate average rating and review count")
-    void productResponseShouldCalculateAverageRatingAndReviewCount() {
+    @DisplayName("ProductResponse should take average rating and review count from the review summary")
+    void productResponseShouldUseReviewSummary() {
         // Test with no reviews
-        product.setReviews(Collections.emptySet());
-        ProductResponse responseWithoutReviews = productService.mapToProductResponse(product);
+        ProductResponse responseWithoutReviews = productService.mapToProductResponse(new ProductView(product, category, null));
         assertThat(responseWithoutReviews.getAverageRating()).isEqualTo(0.0);
         assertThat(responseWithoutReviews.getReviewCount()).isEqualTo(0L);
 
-        // Test with reviews
-        product.setReviews(Set.of(
-                Review.builder().rating(5).build(),
-                Review.builder().rating(4).build(),
-                Review.builder().rating(3).build()
-        ));
-        ProductResponse responseWithReviews = productService.mapToProductResponse(product);
-        assertThat(responseWithReviews.getAverageRating()).isEqualTo(4.0); // (5+4+3)/3 = 4
+        // Test with reviews: 5, 4, 4
+        ProductReviewSummary summary = ProductReviewSummary.builder()
+                .productId(1L).reviewCount(3).ratingSum(13).rating4Count(2).rating5Count(1).build();
+        ProductResponse responseWithReviews = productService.mapToProductResponse(new ProductView(product, category, summary));
+        assertThat(responseWithReviews.getAverageRating()).isEqualTo(4.33);
         assertThat(responseWithReviews.getReviewCount()).isEqualTo(3L);
+        assertThat(responseWithReviews.getRatingHistogram()).containsExactly(0, 0, 0, 2, 1);
+        verifyNoInteractions(productRepository); // Reviews are never loaded
     }
-}
\ No newline at end of file
+}
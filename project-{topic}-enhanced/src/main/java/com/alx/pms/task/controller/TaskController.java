@@ -2,6 +2,8 @@
 package com.alx.pms.task.controller;
 
 import com.alx.pms.model.User;
+import com.alx.pms.task.dto.TaskBulkAssignRequest;
+import com.alx.pms.task.dto.TaskBulkStatusRequest;
 import com.alx.pms.task.dto.TaskRequest;
 import com.alx.pms.task.dto.TaskResponse;
 import com.alx.pms.task.service.TaskService;
@@ -75,6 +77,26 @@ public class TaskController {
         return ResponseEntity.ok(taskService.updateTask(taskId, request, currentUser.getId()));
     }
 
+    @Operation(summary = "Set the status of several tasks within a project at once (project owner only)")
+    @PutMapping("/bulk/status")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void updateTaskStatuses(@PathVariable Long projectId,
+                                   @AuthenticationPrincipal User currentUser,
+                                   @Valid @RequestBody TaskBulkStatusRequest request) {
+        log.info("User {} updating the status of {} tasks for project {}.", currentUser.getUsername(), request.getTaskIds().size(), projectId);
+        taskService.updateTaskStatuses(projectId, request, currentUser.getId());
+    }
+
+    @Operation(summary = "Assign or unassign several tasks within a project at once (project owner only)")
+    @PutMapping("/bulk/assignee")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void updateTaskAssignees(@PathVariable Long projectId,
+                                    @AuthenticationPrincipal User currentUser,
+                                    @Valid @RequestBody TaskBulkAssignRequest request) {
+        log.info("User {} reassigning {} tasks for project {}.", currentUser.getUsername(), request.getTaskIds().size(), projectId);
+        taskService.updateTaskAssignees(projectId, request, currentUser.getId());
+    }
+
     @Operation(summary = "Delete a task by ID within a project (project owner only)")
     @DeleteMapping("/{taskId}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
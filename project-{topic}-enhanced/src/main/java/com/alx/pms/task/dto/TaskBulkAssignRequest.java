@@ -0,0 +1,19 @@
+```java
+package com.alx.pms.task.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class TaskBulkAssignRequest {
+    @NotEmpty(message = "Task IDs cannot be empty")
+    @Size(max = 1000, message = "At most 1000 tasks can be updated at once")
+    private List<@NotNull Long> taskIds;
+
+    private Long assignedToUserId; // Null unassigns the tasks
+}
+```
@@ -0,0 +1,21 @@
+```java
+package com.alx.pms.task.dto;
+
+import com.alx.pms.model.TaskStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class TaskBulkStatusRequest {
+    @NotEmpty(message = "Task IDs cannot be empty")
+    @Size(max = 1000, message = "At most 1000 tasks can be updated at once")
+    private List<@NotNull Long> taskIds;
+
+    @NotNull(message = "Status cannot be null")
+    private TaskStatus status;
+}
+```
@@ -3,10 +3,16 @@ package com.alx.pms.task.repository;
 
 import com.alx.pms.model.Project;
 import com.alx.pms.model.Task;
+import com.alx.pms.model.TaskStatus;
 import com.alx.pms.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,5 +21,17 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     List<Task> findByProject(Project project);
     List<Task> findByAssignedTo(User assignedTo);
     Optional<Task> findByIdAndProject_Owner(Long taskId, User owner); // Task must belong to a project owned by the user
+
+    // Bulk updates in one statement, limited to the tasks of one project; they return how many tasks matched.
+    // @PreUpdate does not run for them, so the caller passes the update time.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.status = :status, t.updatedAt = :updatedAt WHERE t.project.id = :projectId AND t.id IN :taskIds")
+    int updateStatusByProjectIdAndIdIn(@Param("projectId") Long projectId, @Param("taskIds") Collection<Long> taskIds,
+                                       @Param("status") TaskStatus status, @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.assignedTo = :assignedTo, t.updatedAt = :updatedAt WHERE t.project.id = :projectId AND t.id IN :taskIds")
+    int updateAssignedToByProjectIdAndIdIn(@Param("projectId") Long projectId, @Param("taskIds") Collection<Long> taskIds,
+                                           @Param("assignedTo") User assignedTo, @Param("updatedAt") LocalDateTime updatedAt);
 }
 ```
\ No newline at end of file
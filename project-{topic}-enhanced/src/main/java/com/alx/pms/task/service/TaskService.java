@@ -8,6 +8,8 @@ import com.alx.pms.model.Project;
 import com.alx.pms.model.Task;
 import com.alx.pms.model.TaskStatus;
 import com.alx.pms.model.User;
+import com.alx.pms.task.dto.TaskBulkAssignRequest;
+import com.alx.pms.task.dto.TaskBulkStatusRequest;
 import com.alx.pms.task.dto.TaskRequest;
 import com.alx.pms.task.dto.TaskResponse;
 import com.alx.pms.task.repository.TaskRepository;
@@ -21,6 +23,7 @@ import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
@@ -132,6 +135,42 @@ public class TaskService {
         return convertToDto(updatedTask);
     }
 
+    @Transactional
+    @CacheEvict(value = "tasks", allEntries = true) // One eviction for the whole batch
+    public void updateTaskStatuses(Long projectId, TaskBulkStatusRequest request, Long currentUserId) {
+        log.info("Updating status of {} tasks in project ID: {} by user ID: {}", request.getTaskIds().size(), projectId, currentUserId);
+        projectService.findProjectEntityById(projectId, currentUserId); // Validates ownership
+
+        List<Long> taskIds = request.getTaskIds().stream().distinct().toList();
+        int updated = taskRepository.updateStatusByProjectIdAndIdIn(projectId, taskIds, request.getStatus(), LocalDateTime.now());
+        requireAllUpdated(projectId, taskIds, updated);
+        log.info("Status of {} tasks in project ID {} set to {}.", updated, projectId, request.getStatus());
+    }
+
+    @Transactional
+    @CacheEvict(value = "tasks", allEntries = true) // One eviction for the whole batch
+    public void updateTaskAssignees(Long projectId, TaskBulkAssignRequest request, Long currentUserId) {
+        log.info("Reassigning {} tasks in project ID: {} by user ID: {}", request.getTaskIds().size(), projectId, currentUserId);
+        projectService.findProjectEntityById(projectId, currentUserId); // Validates ownership
+
+        User assignedToUser = null;
+        if (request.getAssignedToUserId() != null) {
+            assignedToUser = userService.findUserEntityById(request.getAssignedToUserId());
+        }
+        List<Long> taskIds = request.getTaskIds().stream().distinct().toList();
+        int updated = taskRepository.updateAssignedToByProjectIdAndIdIn(projectId, taskIds, assignedToUser, LocalDateTime.now());
+        requireAllUpdated(projectId, taskIds, updated);
+        log.info("{} tasks in project ID {} reassigned.", updated, projectId);
+    }
+
+    // A task that does not exist or belongs to another project matches no row; the whole batch is rolled back
+    private void requireAllUpdated(Long projectId, List<Long> taskIds, int updated) {
+        if (updated != taskIds.size()) {
+            log.warn("{} of {} tasks not found in project ID: {}", taskIds.size() - updated, taskIds.size(), projectId);
+            throw new ResourceNotFoundException("Not all tasks were found in project with ID: " + projectId);
+        }
+    }
+
     @Transactional
     @CacheEvict(value = "tasks", key = "#id") // Evict task from cache on deletion
     public void deleteTask(Long id, Long currentUserId) {
@@ -1,6 +1,7 @@
 ```java
 package com.alx.taskmgr.controller;
 
+import com.alx.taskmgr.dto.TaskBulkCompleteRequest;
 import com.alx.taskmgr.dto.TaskDTO;
 import com.alx.taskmgr.security.UserInfo;
 import com.alx.taskmgr.service.TaskService;
@@ -89,5 +90,13 @@ public class TaskController {
     public ResponseEntity<TaskDTO> markTaskComplete(@PathVariable Long id, @RequestParam boolean completed) {
         return ResponseEntity.ok(taskService.markTaskComplete(id, getCurrentUserId(), completed));
     }
+
+    @Operation(summary = "Mark several tasks as complete or incomplete for the current user")
+    @PutMapping("/bulk/complete")
+    @PreAuthorize("hasRole('ROLE_USER')")
+    public ResponseEntity<Void> markTasksComplete(@Valid @RequestBody TaskBulkCompleteRequest request) {
+        taskService.markTasksComplete(request, getCurrentUserId());
+        return ResponseEntity.noContent().build();
+    }
 }
 ```
\ No newline at end of file
@@ -0,0 +1,25 @@
+```java
+package com.alx.taskmgr.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBulkCompleteRequest {
+    @NotEmpty(message = "Task ids cannot be empty")
+    @Size(max = 1000, message = "At most 1000 tasks can be updated at once")
+    private List<@NotNull Long> taskIds;
+
+    private boolean completed;
+}
+```
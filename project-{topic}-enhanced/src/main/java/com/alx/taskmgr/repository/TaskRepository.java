@@ -3,9 +3,13 @@ package com.alx.taskmgr.repository;
 
 import com.alx.taskmgr.model.Task;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,5 +20,11 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     List<Task> findByUserIdAndCompleted(Long userId, boolean completed);
     List<Task> findByUserIdAndDueDateBefore(Long userId, LocalDate date);
     List<Task> findByUserIdAndCategoryId(Long userId, Long categoryId);
+
+    // One statement for a batch of the user's tasks; returns how many of them matched
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.completed = :completed WHERE t.user.id = :userId AND t.id IN :ids")
+    int updateCompletedByUserIdAndIdIn(@Param("userId") Long userId, @Param("ids") Collection<Long> ids,
+                                       @Param("completed") boolean completed);
 }
 ```
\ No newline at end of file
@@ -1,6 +1,7 @@
 ```java
 package com.alx.taskmgr.service;
 
+import com.alx.taskmgr.dto.TaskBulkCompleteRequest;
 import com.alx.taskmgr.dto.TaskDTO;
 import com.alx.taskmgr.exception.ResourceNotFoundException;
 import com.alx.taskmgr.model.Category;
@@ -103,6 +104,17 @@ public class TaskService {
         return mapTaskToDTO(taskRepository.save(existingTask));
     }
 
+    @Transactional
+    @CacheEvict(value = {"tasks", "task"}, allEntries = true)
+    public void markTasksComplete(TaskBulkCompleteRequest request, Long userId) {
+        List<Long> taskIds = request.getTaskIds().stream().distinct().toList();
+        int updated = taskRepository.updateCompletedByUserIdAndIdIn(userId, taskIds, request.isCompleted());
+        if (updated != taskIds.size()) {
+            // Some ids are not this user's tasks; the whole batch is rolled back
+            throw new ResourceNotFoundException("Tasks not found: " + (taskIds.size() - updated) + " of " + taskIds.size());
+        }
+    }
+
     @Transactional(readOnly = true)
     public List<TaskDTO> getTasksByCompletionStatus(Long userId, boolean completed) {
         return taskRepository.findByUserIdAndCompleted(userId, completed).stream()
@@ -7,6 +7,8 @@ import com.alx.pms.model.Project;
 import com.alx.pms.model.Task;
 import com.alx.pms.model.TaskStatus;
 import com.alx.pms.model.User;
+import com.alx.pms.task.dto.TaskBulkAssignRequest;
+import com.alx.pms.task.dto.TaskBulkStatusRequest;
 import com.alx.pms.task.dto.TaskRequest;
 import com.alx.pms.task.dto.TaskResponse;
 import com.alx.pms.task.repository.TaskRepository;
@@ -28,6 +30,7 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -297,5 +300,74 @@ class TaskServiceTest {
         verify(taskRepository, times(1)).findById(task.getId());
         verify(taskRepository, never()).delete(any(Task.class));
     }
+
+    @Test
+    @DisplayName("Should set the status of several tasks in one update when current user is project owner")
+    void updateTaskStatuses_OwnerMatches_Success() {
+        TaskBulkStatusRequest request = new TaskBulkStatusRequest();
+        request.setTaskIds(List.of(100L, 101L, 100L));
+        request.setStatus(TaskStatus.DONE);
+        when(projectService.findProjectEntityById(project.getId(), owner.getId())).thenReturn(project);
+        when(taskRepository.updateStatusByProjectIdAndIdIn(eq(10L), eq(List.of(100L, 101L)), eq(TaskStatus.DONE), any(LocalDateTime.class)))
+                .thenReturn(2);
+
+        assertDoesNotThrow(() -> taskService.updateTaskStatuses(project.getId(), request, owner.getId()));
+        verify(taskRepository, times(1)).updateStatusByProjectIdAndIdIn(eq(10L), eq(List.of(100L, 101L)), eq(TaskStatus.DONE), any(LocalDateTime.class));
+        verify(taskRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("Should throw ResourceNotFoundException when a task is not in the project")
+    void updateTaskStatuses_TaskNotInProject_ThrowsException() {
+        TaskBulkStatusRequest request = new TaskBulkStatusRequest();
+        request.setTaskIds(List.of(100L, 200L));
+        request.setStatus(TaskStatus.DONE);
+        when(projectService.findProjectEntityById(project.getId(), owner.getId())).thenReturn(project);
+        when(taskRepository.updateStatusByProjectIdAndIdIn(eq(10L), eq(List.of(100L, 200L)), eq(TaskStatus.DONE), any(LocalDateTime.class)))
+                .thenReturn(1);
+
+        assertThrows(ResourceNotFoundException.class, () -> taskService.updateTaskStatuses(project.getId(), request, owner.getId()));
+    }
+
+    @Test
+    @DisplayName("Should throw ForbiddenException when updating tasks of a project not owned by current user")
+    void updateTaskStatuses_NotOwner_ThrowsException() {
+        TaskBulkStatusRequest request = new TaskBulkStatusRequest();
+        request.setTaskIds(List.of(100L));
+        request.setStatus(TaskStatus.DONE);
+        when(projectService.findProjectEntityById(project.getId(), otherUser.getId()))
+                .thenThrow(new ForbiddenException("You are not authorized to access tasks in this project."));
+
+        assertThrows(ForbiddenException.class, () -> taskService.updateTaskStatuses(project.getId(), request, otherUser.getId()));
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    @DisplayName("Should reassign several tasks in one update when current user is project owner")
+    void updateTaskAssignees_OwnerMatches_Success() {
+        TaskBulkAssignRequest request = new TaskBulkAssignRequest();
+        request.setTaskIds(List.of(100L, 101L));
+        request.setAssignedToUserId(assignedUser.getId());
+        when(projectService.findProjectEntityById(project.getId(), owner.getId())).thenReturn(project);
+        when(userService.findUserEntityById(assignedUser.getId())).thenReturn(assignedUser);
+        when(taskRepository.updateAssignedToByProjectIdAndIdIn(eq(10L), eq(List.of(100L, 101L)), eq(assignedUser), any(LocalDateTime.class)))
+                .thenReturn(2);
+
+        assertDoesNotThrow(() -> taskService.updateTaskAssignees(project.getId(), request, owner.getId()));
+        verify(taskRepository, times(1)).updateAssignedToByProjectIdAndIdIn(eq(10L), eq(List.of(100L, 101L)), eq(assignedUser), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("Should unassign several tasks if assignedToUserId is null in the bulk request")
+    void updateTaskAssignees_Unassign_Success() {
+        TaskBulkAssignRequest request = new TaskBulkAssignRequest();
+        request.setTaskIds(List.of(100L));
+        when(projectService.findProjectEntityById(project.getId(), owner.getId())).thenReturn(project);
+        when(taskRepository.updateAssignedToByProjectIdAndIdIn(eq(10L), eq(List.of(100L)), eq(null), any(LocalDateTime.class)))
+                .thenReturn(1);
+
+        assertDoesNotThrow(() -> taskService.updateTaskAssignees(project.getId(), request, owner.getId()));
+        verify(userService, never()).findUserEntityById(anyLong());
+    }
 }
-```
\ No newline at end of file
+```
@@ -4,6 +4,7 @@ package com.alx.taskmgr.controller;
 import com.alx.taskmgr.dto.AuthRequest;
 import com.alx.taskmgr.dto.AuthResponse;
 import com.alx.taskmgr.dto.CategoryDTO;
+import com.alx.taskmgr.dto.TaskBulkCompleteRequest;
 import com.alx.taskmgr.dto.TaskDTO;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
@@ -20,6 +21,7 @@ import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.List;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -203,6 +205,50 @@ public class TaskControllerIntegrationTest {
                 .andExpect(jsonPath("$.completed").value(true));
     }
 
+    @Test
+    @DisplayName("Should mark several tasks as complete at once")
+    void shouldMarkTasksAsComplete() throws Exception {
+        TaskDTO first = createTask("Incomplete A", "", null, false);
+        TaskDTO second = createTask("Incomplete B", "", null, false);
+        createTask("Incomplete C", "", null, false);
+
+        TaskBulkCompleteRequest request = TaskBulkCompleteRequest.builder()
+                .taskIds(List.of(first.getId(), second.getId()))
+                .completed(true)
+                .build();
+
+        mockMvc.perform(put("/api/tasks/bulk/complete")
+                        .header("Authorization", createAuthorizationHeader(jwtToken))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/tasks")
+                        .param("completed", "true")
+                        .header("Authorization", createAuthorizationHeader(jwtToken)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].title").value("Incomplete A"))
+                .andExpect(jsonPath("$[1].title").value("Incomplete B"));
+    }
+
+    @Test
+    @DisplayName("Should return 404 when marking a batch containing an unknown task")
+    void shouldReturn404ForUnknownTaskInBatch() throws Exception {
+        TaskDTO task = createTask("Incomplete A", "", null, false);
+
+        TaskBulkCompleteRequest request = TaskBulkCompleteRequest.builder()
+                .taskIds(List.of(task.getId(), 999999L))
+                .completed(true)
+                .build();
+
+        mockMvc.perform(put("/api/tasks/bulk/complete")
+                        .header("Authorization", createAuthorizationHeader(jwtToken))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     @DisplayName("Should filter tasks by completion status")
     void shouldFilterTasksByCompletionStatus() throws Exception {
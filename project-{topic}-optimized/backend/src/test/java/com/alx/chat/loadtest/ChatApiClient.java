@@ -0,0 +1,114 @@
+package com.alx.chat.loadtest;
+
+import com.alx.chat.dto.AuthRequest;
+import com.alx.chat.dto.AuthResponse;
+import com.alx.chat.dto.ChannelDto;
+import com.alx.chat.dto.CreateChannelRequest;
+import com.alx.chat.dto.RegisterRequest;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Minimal REST client for the setup phase of a load test: accounts, tokens and channel membership.
+ * <p>
+ * Every call carries an {@code X-Forwarded-For} address derived from the virtual user, because the
+ * per-IP {@code RateLimitFilter} (10 requests/minute) would otherwise throttle a setup of thousands of users
+ * coming from one machine.
+ */
+public class ChatApiClient {
+
+    private static final int CONFLICT = 409;
+
+    private final String baseUrl;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+    public ChatApiClient(String baseUrl, ObjectMapper objectMapper) {
+        this.baseUrl = baseUrl;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Registers the user, or logs in if the account already exists from a previous run.
+     * @return JWT access token.
+     */
+    public String registerOrLogin(int userIndex, String username, String password) throws IOException, InterruptedException {
+        RegisterRequest register = RegisterRequest.builder()
+                .username(username)
+                .email(username + "@loadtest.local")
+                .password(password)
+                .build();
+        HttpResponse<String> response = post(userIndex, "/api/auth/register", register, null);
+        if (response.statusCode() == CONFLICT) {
+            response = post(userIndex, "/api/auth/login", AuthRequest.builder().username(username).password(password).build(), null);
+        }
+        return read(response, AuthResponse.class).getAccessToken();
+    }
+
+    public List<ChannelDto> getChannels(int userIndex, String token) throws IOException, InterruptedException {
+        HttpRequest request = request(userIndex, "/api/channels", token).GET().build();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        expectSuccess(response);
+        return objectMapper.readValue(response.body(), new TypeReference<List<ChannelDto>>() { });
+    }
+
+    public ChannelDto createChannel(int userIndex, String token, String name) throws IOException, InterruptedException {
+        return read(post(userIndex, "/api/channels", CreateChannelRequest.builder().name(name).build(), token), ChannelDto.class);
+    }
+
+    /**
+     * Joins the channel; already being a member (from a previous run) is not an error.
+     */
+    public void joinChannel(int userIndex, String token, Long channelId) throws IOException, InterruptedException {
+        HttpResponse<String> response = post(userIndex, "/api/channels/" + channelId + "/join", null, token);
+        if (response.statusCode() != CONFLICT) {
+            expectSuccess(response);
+        }
+    }
+
+    private HttpResponse<String> post(int userIndex, String path, Object body, String token) throws IOException, InterruptedException {
+        HttpRequest request = request(userIndex, path, token)
+                .header("Content-Type", "application/json")
+                .POST(body != null
+                        ? HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body))
+                        : HttpRequest.BodyPublishers.noBody())
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpRequest.Builder request(int userIndex, String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("X-Forwarded-For", virtualAddress(userIndex));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private <T> T read(HttpResponse<String> response, Class<T> type) throws IOException {
+        expectSuccess(response);
+        return objectMapper.readValue(response.body(), type);
+    }
+
+    private void expectSuccess(HttpResponse<String> response) {
+        if (response.statusCode() / 100 != 2) {
+            throw new IllegalStateException(response.request().method() + " " + response.request().uri()
+                    + " failed with " + response.statusCode() + ": " + response.body());
+        }
+    }
+
+    private static String virtualAddress(int userIndex) {
+        return "10." + ((userIndex >> 16) & 0xFF) + "." + ((userIndex >> 8) & 0xFF) + "." + (userIndex & 0xFF);
+    }
+}
@@ -0,0 +1,143 @@
+package com.alx.chat.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+import org.HdrHistogram.Recorder;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects end-to-end delivery latency (in microseconds) and message counters, prints a line per reporting
+ * interval and writes the files used to compare runs:
+ * <ul>
+ *     <li>{@code latency.hlog} - one histogram per interval, readable by HdrHistogram's HistogramLogProcessor</li>
+ *     <li>{@code latency-percentiles.txt} - full percentile distribution of the measured phase, in ms</li>
+ *     <li>{@code summary.txt} - settings, throughput and p50/p99/p999/max of the measured phase</li>
+ * </ul>
+ * Intervals that fall in the warm-up are printed and logged but left out of the summary.
+ */
+public class LatencyReport {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+
+    private final Recorder recorder = new Recorder(HIGHEST_TRACKABLE_MICROS, 3);
+    private final Histogram measured = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final PrintStream out;
+    private final HistogramLogWriter logWriter;
+    private final long startNanos = System.nanoTime();
+
+    private Histogram intervalHistogram;
+    private long lastReportNanos = startNanos;
+    private long lastSent;
+    private long lastDelivered;
+    private long measuredSent;
+    private long measuredDelivered;
+    private long measuredNanos;
+
+    public LatencyReport(Path outputDir, PrintStream out) throws IOException {
+        Files.createDirectories(outputDir);
+        this.out = out;
+        this.logWriter = new HistogramLogWriter(outputDir.resolve("latency.hlog").toFile());
+        this.logWriter.outputLogFormatVersion();
+        this.logWriter.outputStartTime(System.currentTimeMillis());
+        this.logWriter.outputLegend();
+    }
+
+    public void recordSent() {
+        sent.increment();
+    }
+
+    public void recordDelivery(long latencyNanos) {
+        delivered.increment();
+        recorder.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(Math.max(latencyNanos, 0)), HIGHEST_TRACKABLE_MICROS));
+    }
+
+    public void recordError() {
+        errors.increment();
+    }
+
+    public long getSent() {
+        return sent.sum();
+    }
+
+    public long getDelivered() {
+        return delivered.sum();
+    }
+
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    /**
+     * Closes the current interval, prints it and adds it to the summary unless it is part of the warm-up.
+     * Called from a single reporting thread.
+     */
+    public synchronized void reportInterval(boolean warmup) {
+        long now = System.nanoTime();
+        intervalHistogram = recorder.getIntervalHistogram(intervalHistogram);
+        intervalHistogram.setStartTimeStamp(TimeUnit.NANOSECONDS.toMillis(lastReportNanos - startNanos));
+        intervalHistogram.setEndTimeStamp(TimeUnit.NANOSECONDS.toMillis(now - startNanos));
+        logWriter.outputIntervalHistogram(intervalHistogram);
+
+        long sentNow = sent.sum();
+        long deliveredNow = delivered.sum();
+        double seconds = (now - lastReportNanos) / 1e9;
+        out.printf("[%6.1fs]%s sent %8.1f/s  delivered %9.1f/s  p50 %8.2f ms  p99 %8.2f ms  p999 %8.2f ms  max %8.2f ms  errors %d%n",
+                (now - startNanos) / 1e9, warmup ? " warmup" : "       ",
+                (sentNow - lastSent) / seconds, (deliveredNow - lastDelivered) / seconds,
+                millis(intervalHistogram, 50), millis(intervalHistogram, 99), millis(intervalHistogram, 99.9),
+                intervalHistogram.getMaxValue() / 1000.0, errors.sum());
+
+        if (!warmup) {
+            measured.add(intervalHistogram);
+            measuredSent += sentNow - lastSent;
+            measuredDelivered += deliveredNow - lastDelivered;
+            measuredNanos += now - lastReportNanos;
+        }
+        lastReportNanos = now;
+        lastSent = sentNow;
+        lastDelivered = deliveredNow;
+    }
+
+    /**
+     * Prints the summary of the measured phase and writes the report files.
+     */
+    public synchronized void finish(LoadTestSettings settings, long expectedDeliveries, Path outputDir) throws FileNotFoundException {
+        logWriter.close();
+        double seconds = Math.max(measuredNanos / 1e9, 1e-9);
+        String summary = String.format(
+                "settings:   %s%n" +
+                "sent:       %d (%.1f msg/s)%n" +
+                "delivered:  %d (%.1f msg/s), %d of %d expected deliveries over the whole run%n" +
+                "errors:     %d%n" +
+                "latency ms: p50 %.2f  p90 %.2f  p99 %.2f  p999 %.2f  max %.2f  (%d samples)%n",
+                settings, measuredSent, measuredSent / seconds,
+                measuredDelivered, measuredDelivered / seconds, delivered.sum(), expectedDeliveries,
+                errors.sum(),
+                millis(measured, 50), millis(measured, 90), millis(measured, 99), millis(measured, 99.9),
+                measured.getMaxValue() / 1000.0, measured.getTotalCount());
+        out.println();
+        out.print(summary);
+
+        try (PrintStream file = new PrintStream(outputDir.resolve("summary.txt").toFile())) {
+            file.print(summary);
+        }
+        try (PrintStream file = new PrintStream(outputDir.resolve("latency-percentiles.txt").toFile())) {
+            measured.outputPercentileDistribution(file, 1000.0);
+        }
+        out.println("Reports written to " + outputDir.toAbsolutePath());
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+}
@@ -0,0 +1,76 @@
+package com.alx.chat.loadtest;
+
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Settings for a {@link StompLoadHarness} run, read from {@code -Dloadtest.*} system properties.
+ */
+@Getter
+public class LoadTestSettings {
+
+    private final String baseUrl;
+    private final int users;
+    private final int channels;
+    private final double messagesPerSecondPerUser;
+    private final int payloadBytes;
+    private final Duration rampUp;
+    private final Duration warmup;
+    private final Duration duration;
+    private final Duration reportInterval;
+    private final String userPrefix;
+    private final String password;
+    private final int setupThreads;
+    private final Path outputDir;
+
+    private LoadTestSettings() {
+        this.baseUrl = property("base-url", "http://localhost:8080");
+        this.users = Integer.parseInt(property("users", "1000"));
+        this.channels = Integer.parseInt(property("channels", "50"));
+        this.messagesPerSecondPerUser = Double.parseDouble(property("rate-per-user", "0.2"));
+        this.payloadBytes = Integer.parseInt(property("payload-bytes", "64"));
+        this.rampUp = Duration.ofSeconds(Long.parseLong(property("ramp-up-seconds", "30")));
+        this.warmup = Duration.ofSeconds(Long.parseLong(property("warmup-seconds", "30")));
+        this.duration = Duration.ofSeconds(Long.parseLong(property("duration-seconds", "120")));
+        this.reportInterval = Duration.ofSeconds(Long.parseLong(property("report-interval-seconds", "5")));
+        this.userPrefix = property("user-prefix", "lt-user-");
+        this.password = property("password", "loadtest123");
+        this.setupThreads = Integer.parseInt(property("setup-threads", "32"));
+        this.outputDir = Path.of(property("output-dir", "target/loadtest"));
+        if (users < 1 || channels < 1 || channels > users) {
+            throw new IllegalArgumentException("Need at least one user per channel (users=" + users + ", channels=" + channels + ")");
+        }
+    }
+
+    public static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings();
+    }
+
+    public String username(int userIndex) {
+        return userPrefix + userIndex;
+    }
+
+    public String channelName(int channelIndex) {
+        return "lt-channel-" + channelIndex;
+    }
+
+    /**
+     * Users are spread round-robin over the channels, so user {@code i < channels} creates channel {@code i}.
+     */
+    public int channelOf(int userIndex) {
+        return userIndex % channels;
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty("loadtest." + name, defaultValue);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("baseUrl=%s users=%d channels=%d ratePerUser=%.3f/s payload=%dB rampUp=%ds warmup=%ds duration=%ds",
+                baseUrl, users, channels, messagesPerSecondPerUser, payloadBytes,
+                rampUp.toSeconds(), warmup.toSeconds(), duration.toSeconds());
+    }
+}
@@ -0,0 +1,321 @@
+package com.alx.chat.loadtest;
+
+import com.alx.chat.dto.ChannelDto;
+import com.alx.chat.dto.MessageDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import org.springframework.web.socket.sockjs.client.SockJsClient;
+import org.springframework.web.socket.sockjs.client.WebSocketTransport;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Standalone load generator for the STOMP chat path of a locally running {@code RealtimeChatBackendApplication}.
+ * <p>
+ * The run has four phases:
+ * <ol>
+ *     <li>Setup over REST: every virtual user registers (or logs in) via /api/auth, channels are created and each
+ *     user joins one channel (users are spread round-robin).</li>
+ *     <li>Ramp-up: one STOMP-over-WebSocket (SockJS) session per user, authenticated with the JWT on CONNECT and
+ *     subscribed to /topic/channels/{id}.</li>
+ *     <li>Load: every user sends to /app/chat/{id} at a fixed rate. Each message carries its <em>intended</em> send
+ *     time, so a stalled sender or server shows up as latency instead of silently lowering the offered load.</li>
+ *     <li>Drain and report: senders stop, in-flight messages are awaited and a {@link LatencyReport} is written.</li>
+ * </ol>
+ * End-to-end latency is measured on every subscriber that receives the broadcast, i.e. it covers the inbound
+ * channel, persistence, serialization and the broker fan-out.
+ * <p>
+ * Run it against a started backend with the {@code load-test} profile, e.g.
+ * {@code mvn -Pload-test test-compile exec:java -Dloadtest.users=2000 -Dloadtest.rate-per-user=0.5};
+ * see {@link LoadTestSettings} for all properties.
+ */
+@Slf4j
+public class StompLoadHarness {
+
+    private static final String CONTENT_MARKER = "lt|";
+
+    private final LoadTestSettings settings;
+    private final ObjectMapper objectMapper;
+    private final LatencyReport report;
+    private final LongAdder expectedDeliveries = new LongAdder();
+    private final AtomicIntegerArray subscribersPerChannel;
+
+    public StompLoadHarness(LoadTestSettings settings, ObjectMapper objectMapper, LatencyReport report) {
+        this.settings = settings;
+        this.objectMapper = objectMapper;
+        this.report = report;
+        this.subscribersPerChannel = new AtomicIntegerArray(settings.getChannels());
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        ObjectMapper objectMapper = new ObjectMapper()
+                .findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        LatencyReport report = new LatencyReport(settings.getOutputDir(), System.out);
+        log.info("Starting STOMP load test: {}", settings);
+
+        new StompLoadHarness(settings, objectMapper, report).run();
+        System.exit(0); // WebSocket client threads are not daemons
+    }
+
+    public void run() throws Exception {
+        String[] tokens = authenticateUsers();
+        long[] channelIds = prepareChannels(tokens);
+
+        ThreadPoolTaskScheduler heartbeatScheduler = new ThreadPoolTaskScheduler();
+        heartbeatScheduler.setPoolSize(2);
+        heartbeatScheduler.setThreadNamePrefix("lt-heartbeat-");
+        heartbeatScheduler.initialize();
+        WebSocketStompClient stompClient = createStompClient(heartbeatScheduler);
+
+        List<VirtualUser> users = connectUsers(stompClient, tokens, channelIds);
+        ScheduledExecutorService senders = Executors.newScheduledThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors()));
+        ScheduledExecutorService reporter = Executors.newSingleThreadScheduledExecutor();
+        try {
+            long loadStart = System.nanoTime();
+            long warmupEnd = loadStart + settings.getWarmup().toNanos();
+            users.forEach(user -> user.startSending(senders, loadStart));
+
+            long intervalMillis = settings.getReportInterval().toMillis();
+            reporter.scheduleAtFixedRate(() -> report.reportInterval(System.nanoTime() < warmupEnd),
+                    intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+
+            TimeUnit.NANOSECONDS.sleep(settings.getWarmup().plus(settings.getDuration()).toNanos());
+            senders.shutdownNow();
+            senders.awaitTermination(10, TimeUnit.SECONDS);
+            awaitDrain();
+            reporter.shutdown();
+            reporter.awaitTermination(10, TimeUnit.SECONDS);
+            report.reportInterval(false);
+            report.finish(settings, expectedDeliveries.sum(), settings.getOutputDir());
+        } finally {
+            reporter.shutdownNow();
+            users.forEach(VirtualUser::disconnect);
+            stompClient.stop();
+            heartbeatScheduler.shutdown();
+        }
+    }
+
+    private String[] authenticateUsers() throws Exception {
+        ChatApiClient api = new ChatApiClient(settings.getBaseUrl(), objectMapper);
+        String[] tokens = new String[settings.getUsers()];
+        runInParallel(settings.getUsers(), i -> tokens[i] = api.registerOrLogin(i, settings.username(i), settings.getPassword()));
+        log.info("Authenticated {} users", tokens.length);
+        return tokens;
+    }
+
+    /**
+     * Creates the channels that do not exist yet and joins every user to its channel.
+     */
+    private long[] prepareChannels(String[] tokens) throws Exception {
+        ChatApiClient api = new ChatApiClient(settings.getBaseUrl(), objectMapper);
+        Map<String, Long> existing = new HashMap<>();
+        for (ChannelDto channel : api.getChannels(0, tokens[0])) {
+            existing.put(channel.getName(), channel.getId());
+        }
+
+        long[] channelIds = new long[settings.getChannels()];
+        runInParallel(settings.getChannels(), c -> {
+            Long id = existing.get(settings.channelName(c));
+            channelIds[c] = id != null ? id : api.createChannel(c, tokens[c], settings.channelName(c)).getId();
+        });
+        // Creators are members already; a 409 for them (or for users left over from a previous run) is ignored
+        runInParallel(settings.getUsers(), i -> api.joinChannel(i, tokens[i], channelIds[settings.channelOf(i)]));
+        log.info("Prepared {} channels", channelIds.length);
+        return channelIds;
+    }
+
+    private WebSocketStompClient createStompClient(ThreadPoolTaskScheduler heartbeatScheduler) {
+        SockJsClient sockJsClient = new SockJsClient(List.of(new WebSocketTransport(new StandardWebSocketClient())));
+        WebSocketStompClient stompClient = new WebSocketStompClient(sockJsClient);
+        MappingJackson2MessageConverter converter = new MappingJackson2MessageConverter();
+        converter.setObjectMapper(objectMapper);
+        stompClient.setMessageConverter(converter);
+        stompClient.setTaskScheduler(heartbeatScheduler);
+        stompClient.setDefaultHeartbeat(new long[]{10_000, 10_000});
+        return stompClient;
+    }
+
+    /**
+     * Opens one session per user, spread evenly over the ramp-up period, and waits until all are subscribed.
+     */
+    private List<VirtualUser> connectUsers(WebSocketStompClient stompClient, String[] tokens, long[] channelIds) throws InterruptedException {
+        long pauseNanos = settings.getRampUp().toNanos() / settings.getUsers();
+        List<VirtualUser> users = new ArrayList<>(settings.getUsers());
+        List<CompletableFuture<StompSession>> connections = new ArrayList<>(settings.getUsers());
+        String url = settings.getBaseUrl() + "/websocket";
+
+        for (int i = 0; i < settings.getUsers(); i++) {
+            int channel = settings.channelOf(i);
+            VirtualUser user = new VirtualUser(channel, channelIds[channel]);
+            StompHeaders connectHeaders = new StompHeaders();
+            connectHeaders.add("Authorization", "Bearer " + tokens[i]);
+            users.add(user);
+            connections.add(stompClient.connectAsync(url, new WebSocketHttpHeaders(), connectHeaders, user));
+            TimeUnit.NANOSECONDS.sleep(pauseNanos);
+        }
+
+        int failed = 0;
+        for (CompletableFuture<StompSession> connection : connections) {
+            try {
+                connection.get(60, TimeUnit.SECONDS);
+            } catch (Exception e) {
+                failed++;
+                report.recordError();
+            }
+        }
+        log.info("Connected {} of {} STOMP sessions", settings.getUsers() - failed, settings.getUsers());
+        return users;
+    }
+
+    /**
+     * Waits (up to 30s) for messages still in flight once the senders stopped.
+     */
+    private void awaitDrain() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (report.getDelivered() < expectedDeliveries.sum() && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(100);
+        }
+    }
+
+    private void runInParallel(int count, IndexedTask task) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(settings.getSetupThreads());
+        try {
+            List<Future<?>> futures = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                int index = i;
+                futures.add(pool.submit(() -> {
+                    task.run(index);
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private String padding() {
+        int length = Math.max(0, settings.getPayloadBytes() - 24);
+        return "x".repeat(length);
+    }
+
+    @FunctionalInterface
+    private interface IndexedTask {
+        void run(int index) throws Exception;
+    }
+
+    /**
+     * One simulated client: a STOMP session subscribed to its channel that also sends to it at a fixed rate.
+     */
+    private class VirtualUser extends StompSessionHandlerAdapter {
+
+        private final int channel;
+        private final long channelId;
+        private final AtomicLong sequence = new AtomicLong();
+        private volatile StompSession session;
+
+        private VirtualUser(int channel, long channelId) {
+            this.channel = channel;
+            this.channelId = channelId;
+        }
+
+        @Override
+        public void afterConnected(StompSession session, StompHeaders connectedHeaders) {
+            this.session = session;
+            session.subscribe("/topic/channels/" + channelId, this);
+            subscribersPerChannel.incrementAndGet(channel);
+        }
+
+        @Override
+        public Type getPayloadType(StompHeaders headers) {
+            return MessageDto.class;
+        }
+
+        @Override
+        public void handleFrame(StompHeaders headers, Object payload) {
+            long receivedAt = System.nanoTime();
+            String content = ((MessageDto) payload).getContent();
+            if (content != null && content.startsWith(CONTENT_MARKER)) {
+                int end = content.indexOf('|', CONTENT_MARKER.length());
+                long intendedAt = Long.parseLong(content.substring(CONTENT_MARKER.length(), end));
+                report.recordDelivery(receivedAt - intendedAt);
+            }
+        }
+
+        @Override
+        public void handleException(StompSession session, StompCommand command, StompHeaders headers, byte[] payload, Throwable exception) {
+            report.recordError();
+            log.debug("STOMP error on channel {}: {}", channelId, exception.getMessage());
+        }
+
+        @Override
+        public void handleTransportError(StompSession session, Throwable exception) {
+            report.recordError();
+            log.debug("Transport error on channel {}: {}", channelId, exception.getMessage());
+        }
+
+        private void startSending(ScheduledExecutorService senders, long loadStart) {
+            if (session == null || settings.getMessagesPerSecondPerUser() <= 0) {
+                return;
+            }
+            long periodNanos = (long) (1e9 / settings.getMessagesPerSecondPerUser());
+            // Random phase so users do not all fire in the same instant
+            long firstAt = loadStart + ThreadLocalRandom.current().nextLong(periodNanos);
+            String destination = "/app/chat/" + channelId;
+            String padding = padding();
+            senders.scheduleAtFixedRate(() -> {
+                long intendedAt = firstAt + sequence.getAndIncrement() * periodNanos;
+                StompSession current = session;
+                if (current == null || !current.isConnected()) {
+                    report.recordError();
+                    return;
+                }
+                MessageDto message = MessageDto.builder()
+                        .content(CONTENT_MARKER + intendedAt + "|" + padding)
+                        .build();
+                try {
+                    current.send(destination, message);
+                    report.recordSent();
+                    expectedDeliveries.add(subscribersPerChannel.get(channel));
+                } catch (RuntimeException e) {
+                    report.recordError();
+                }
+            }, firstAt - System.nanoTime(), periodNanos, TimeUnit.NANOSECONDS);
+        }
+
+        private void disconnect() {
+            StompSession current = session;
+            if (current != null && current.isConnected()) {
+                current.disconnect();
+            }
+        }
+    }
+}
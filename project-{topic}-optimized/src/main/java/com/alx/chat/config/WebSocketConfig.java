@@ -1,16 +1,29 @@
 ```java
 package com.alx.chat.config;
 
+import com.alx.chat.interceptor.StompRateLimitInterceptor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
 @Configuration
 @EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private final StompRateLimitInterceptor stompRateLimitInterceptor;
+
+    @Value("${chat.websocket.rate-limit.max-payload-bytes:4096}")
+    private int maxPayloadBytes;
+
+    public WebSocketConfig(StompRateLimitInterceptor stompRateLimitInterceptor) {
+        this.stompRateLimitInterceptor = stompRateLimitInterceptor;
+    }
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
         // Enable a simple in-memory message broker
@@ -31,5 +44,17 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
                 .setAllowedOriginPatterns("*") // Allow all origins for development, restrict in production
                 .withSockJS();
     }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        // Per-session / per-user flood control for frames sent to /app/**
+        registration.interceptors(stompRateLimitInterceptor);
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        // Hard cap on a raw frame (payload plus STOMP headers); the interceptor enforces the payload limit itself
+        registration.setMessageSizeLimit(maxPayloadBytes + 8 * 1024);
+    }
 }
 ```
\ No newline at end of file
@@ -2,8 +2,10 @@
 package com.alx.chat.controller;
 
 import com.alx.chat.dto.ChatRoomDTO;
+import com.alx.chat.dto.RoomUnreadDTO;
 import com.alx.chat.dto.UserDTO;
 import com.alx.chat.service.ChatRoomService;
+import com.alx.chat.service.ReadStateService;
 import com.alx.chat.service.UserDetailsImpl;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
@@ -22,9 +24,11 @@ import java.util.Set;
 public class ChatRoomController {
 
     private final ChatRoomService chatRoomService;
+    private final ReadStateService readStateService;
 
-    public ChatRoomController(ChatRoomService chatRoomService) {
+    public ChatRoomController(ChatRoomService chatRoomService, ReadStateService readStateService) {
         this.chatRoomService = chatRoomService;
+        this.readStateService = readStateService;
     }
 
     @PostMapping
@@ -99,5 +103,21 @@ public class ChatRoomController {
         List<ChatRoomDTO> rooms = chatRoomService.getChatRoomsForUser(userId);
         return ResponseEntity.ok(rooms);
     }
+
+    @GetMapping("/inbox")
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    public ResponseEntity<List<RoomUnreadDTO>> getInbox(@AuthenticationPrincipal UserDetailsImpl currentUser) {
+        log.debug("Request to get inbox summary for user ID: {}", currentUser.getId());
+        return ResponseEntity.ok(readStateService.getInbox(currentUser.getId()));
+    }
+
+    @PostMapping("/{roomId}/read")
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    public ResponseEntity<RoomUnreadDTO> markRoomRead(@PathVariable Long roomId,
+                                                      @RequestParam(required = false) Long messageId,
+                                                      @AuthenticationPrincipal UserDetailsImpl currentUser) {
+        log.debug("Request to mark room ID {} read up to message {} for user ID {}", roomId, messageId, currentUser.getId());
+        return ResponseEntity.ok(readStateService.markRead(currentUser.getId(), roomId, messageId));
+    }
 }
 ```
\ No newline at end of file
@@ -2,12 +2,16 @@
 package com.alx.chat.controller;
 
 import com.alx.chat.dto.MessageDTO;
+import com.alx.chat.service.MessageSearchService;
 import com.alx.chat.service.MessageService;
+import com.alx.chat.service.UserDetailsImpl;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -20,9 +24,11 @@ import java.util.List;
 public class MessageController {
 
     private final MessageService messageService;
+    private final MessageSearchService messageSearchService;
 
-    public MessageController(MessageService messageService) {
+    public MessageController(MessageService messageService, MessageSearchService messageSearchService) {
         this.messageService = messageService;
+        this.messageSearchService = messageSearchService;
     }
 
     @GetMapping("/room/{roomId}")
@@ -35,5 +41,25 @@ public class MessageController {
         List<MessageDTO> messages = messageService.getMessagesByRoomId(roomId, page, size);
         return ResponseEntity.ok(messages);
     }
+
+    @GetMapping("/search")
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    public ResponseEntity<List<MessageDTO>> searchMessages(
+            @RequestParam("q") String query,
+            @RequestParam(required = false) Long roomId,
+            @RequestParam(required = false) Long senderId,
+            @RequestParam(defaultValue = "20") int limit,
+            @AuthenticationPrincipal UserDetailsImpl currentUser) {
+        log.debug("Request to search messages for '{}' (room: {}, sender: {})", query, roomId, senderId);
+        return ResponseEntity.ok(messageSearchService.search(query, roomId, senderId, limit, currentUser.getId()));
+    }
+
+    @PostMapping("/search/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<String> rebuildSearchIndex() {
+        log.info("Request to rebuild the message search index");
+        messageSearchService.rebuildIndex();
+        return ResponseEntity.ok("Message search index rebuilt.");
+    }
 }
 ```
\ No newline at end of file
@@ -0,0 +1,14 @@
+package com.alx.chat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReadReceiptDTO {
+    private Long roomId;
+    private Long userId;
+    private Long lastReadMessageId;
+}
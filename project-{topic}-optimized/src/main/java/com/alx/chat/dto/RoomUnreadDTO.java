@@ -0,0 +1,15 @@
+package com.alx.chat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RoomUnreadDTO {
+    private Long roomId;
+    private Long unreadCount;
+    private Long lastReadMessageId;
+    private Long lastMessageId; // Newest message in the room, 0 if the room is empty
+}
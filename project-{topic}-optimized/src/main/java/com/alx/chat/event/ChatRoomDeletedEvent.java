@@ -0,0 +1,10 @@
+package com.alx.chat.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class ChatRoomDeletedEvent {
+    private Long roomId;
+}
@@ -0,0 +1,11 @@
+package com.alx.chat.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class MessageDeletedEvent {
+    private Long messageId;
+    private Long roomId;
+}
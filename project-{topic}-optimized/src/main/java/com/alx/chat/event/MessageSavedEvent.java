@@ -0,0 +1,20 @@
+package com.alx.chat.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published inside {@code MessageService.saveMessage}; listeners that only care about committed data
+ * should use {@code @TransactionalEventListener}.
+ */
+@Data
+@AllArgsConstructor
+public class MessageSavedEvent {
+    private Long messageId;
+    private Long roomId;
+    private Long senderId;
+    private String content;
+    private LocalDateTime sentAt;
+}
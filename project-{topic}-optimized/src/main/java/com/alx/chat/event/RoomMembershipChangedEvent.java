@@ -0,0 +1,12 @@
+package com.alx.chat.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class RoomMembershipChangedEvent {
+    private Long roomId;
+    private Long userId;
+    private boolean joined; // false when the user left or was removed
+}
@@ -1,9 +1,9 @@
 ```java
 package com.alx.chat.interceptor;
 
+import com.alx.chat.ratelimit.BucketStore;
 import io.github.bucket4j.Bandwidth;
 import io.github.bucket4j.Bucket;
-import io.github.bucket4j.Bucket4j;
 import io.github.bucket4j.Refill;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -13,22 +13,24 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
 
 import java.time.Duration;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 @Component
 @Slf4j
 public class RateLimitInterceptor implements HandlerInterceptor {
 
-    private final Map<String, Bucket> cache = new ConcurrentHashMap<>();
+    private final BucketStore bucketStore;
 
     // Define rate limit: 10 requests per 1 minute
     private final Bandwidth limit = Bandwidth.classic(10, Refill.intervally(10, Duration.ofMinutes(1)));
 
+    public RateLimitInterceptor(BucketStore bucketStore) {
+        this.bucketStore = bucketStore;
+    }
+
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
         String ipAddress = getClientIpAddress(request);
-        Bucket bucket = cache.computeIfAbsent(ipAddress, k -> Bucket4j.builder().addLimit(limit).build());
+        Bucket bucket = bucketStore.resolve("http-ip:" + ipAddress, limit); // Bounded, expiring store instead of an ever-growing map
 
         if (bucket.tryConsume(1)) {
             log.debug("Rate limit OK for IP: {}", ipAddress);
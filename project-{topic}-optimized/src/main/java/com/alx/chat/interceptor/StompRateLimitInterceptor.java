@@ -0,0 +1,150 @@
+package com.alx.chat.interceptor;
+
+import com.alx.chat.ratelimit.BucketStore;
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.EstimationProbe;
+import io.github.bucket4j.Refill;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+import java.security.Principal;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Flood control for STOMP frames on the client inbound channel (the HTTP {@link RateLimitInterceptor} does not
+ * see WebSocket traffic).
+ * <p>
+ * Every SEND frame must fit under the payload size limit and take a token from both the session bucket and the
+ * user bucket. When the buckets are empty but would refill within the soft-throttle window, the frame is not
+ * rejected: the tokens are reserved and the frame is re-injected into the channel once they are due, so a
+ * bursty client just sees its messages (and their receipts) arrive later. Frames beyond that window are dropped
+ * and the client gets a notice on /user/queue/errors.
+ */
+@Component
+@Slf4j
+public class StompRateLimitInterceptor implements ChannelInterceptor {
+
+    private static final String RELEASED_HEADER = "rateLimitReleased";
+
+    private final BucketStore bucketStore;
+    private final SimpMessageSendingOperations messagingTemplate;
+    private final ScheduledExecutorService releaseScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "stomp-throttle");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Bandwidth sessionLimit;
+    private final Bandwidth userLimit;
+    private final int maxPayloadBytes;
+    private final long maxThrottleDelayNanos;
+
+    public StompRateLimitInterceptor(BucketStore bucketStore,
+                                     @Lazy SimpMessageSendingOperations messagingTemplate,
+                                     @Value("${chat.websocket.rate-limit.session-per-second:5}") long sessionPerSecond,
+                                     @Value("${chat.websocket.rate-limit.session-burst:20}") long sessionBurst,
+                                     @Value("${chat.websocket.rate-limit.user-per-minute:120}") long userPerMinute,
+                                     @Value("${chat.websocket.rate-limit.max-payload-bytes:4096}") int maxPayloadBytes,
+                                     @Value("${chat.websocket.rate-limit.max-throttle-delay:2s}") Duration maxThrottleDelay) {
+        this.bucketStore = bucketStore;
+        this.messagingTemplate = messagingTemplate;
+        this.sessionLimit = Bandwidth.classic(sessionBurst, Refill.greedy(sessionPerSecond, Duration.ofSeconds(1)));
+        this.userLimit = Bandwidth.classic(userPerMinute, Refill.greedy(userPerMinute, Duration.ofMinutes(1)));
+        this.maxPayloadBytes = maxPayloadBytes;
+        this.maxThrottleDelayNanos = maxThrottleDelay.toNanos();
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null) {
+            return message;
+        }
+        if (StompCommand.DISCONNECT.equals(accessor.getCommand())) {
+            bucketStore.evict(sessionKey(accessor.getSessionId()));
+            return message;
+        }
+        if (!StompCommand.SEND.equals(accessor.getCommand()) || Boolean.TRUE.equals(accessor.getHeader(RELEASED_HEADER))) {
+            return message;
+        }
+
+        Object payload = message.getPayload();
+        if (payload instanceof byte[] && ((byte[]) payload).length > maxPayloadBytes) {
+            log.warn("STOMP frame of {} bytes from session {} exceeds the {} byte limit", ((byte[]) payload).length, accessor.getSessionId(), maxPayloadBytes);
+            throw new MessageDeliveryException(message, "Message exceeds the maximum size of " + maxPayloadBytes + " bytes");
+        }
+
+        Principal user = accessor.getUser();
+        Bucket sessionBucket = bucketStore.resolve(sessionKey(accessor.getSessionId()), sessionLimit);
+        Bucket userBucket = user != null ? bucketStore.resolve("ws-user:" + user.getName(), userLimit) : null;
+
+        boolean sessionAllowed = sessionBucket.tryConsume(1);
+        boolean userAllowed = userBucket == null || userBucket.tryConsume(1);
+        if (sessionAllowed && userAllowed) {
+            return message;
+        }
+        // Give back the token taken from the bucket that did have one, the frame is handled as a whole below
+        if (sessionAllowed) {
+            sessionBucket.addTokens(1);
+        } else if (userAllowed && userBucket != null) {
+            userBucket.addTokens(1);
+        }
+
+        long waitNanos = Math.max(waitForToken(sessionBucket), userBucket != null ? waitForToken(userBucket) : 0);
+        if (waitNanos > maxThrottleDelayNanos) {
+            log.warn("Dropping STOMP frame from session {} (user {}): rate limit exceeded", accessor.getSessionId(),
+                    user != null ? user.getName() : "anonymous");
+            notifyUser(user, "Rate limit exceeded, message dropped. Retry in " + TimeUnit.NANOSECONDS.toMillis(waitNanos) + " ms.");
+            return null;
+        }
+
+        // Soft throttle: reserve the tokens now (going into debt) and deliver the frame once they are due
+        long delayNanos = sessionBucket.consumeIgnoringRateLimits(1);
+        if (userBucket != null) {
+            delayNanos = Math.max(delayNanos, userBucket.consumeIgnoringRateLimits(1));
+        }
+        StompHeaderAccessor releasedAccessor = StompHeaderAccessor.wrap(message);
+        releasedAccessor.setHeader(RELEASED_HEADER, true);
+        Message<?> released = MessageBuilder.createMessage(message.getPayload(), releasedAccessor.getMessageHeaders());
+        releaseScheduler.schedule(() -> channel.send(released), delayNanos, TimeUnit.NANOSECONDS);
+        log.debug("Throttling STOMP frame from session {} by {} ms", accessor.getSessionId(), TimeUnit.NANOSECONDS.toMillis(delayNanos));
+        return null;
+    }
+
+    private long waitForToken(Bucket bucket) {
+        EstimationProbe probe = bucket.estimateAbilityToConsume(1);
+        return probe.canBeConsumed() ? 0 : probe.getNanosToWaitForRefill();
+    }
+
+    private String sessionKey(String sessionId) {
+        return "ws-session:" + sessionId;
+    }
+
+    private void notifyUser(Principal user, String text) {
+        if (user != null) {
+            messagingTemplate.convertAndSendToUser(user.getName(), "/queue/errors", Map.of("error", text));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        releaseScheduler.shutdownNow();
+    }
+}
@@ -0,0 +1,18 @@
+package com.alx.chat.ratelimit;
+
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+
+/**
+ * Resolves the token bucket for a rate-limit key, creating it with the given limits on first use.
+ * <p>
+ * {@link LocalBucketStore} keeps buckets on the local node. To share limits across nodes, declare a {@code @Primary}
+ * {@code BucketStore} backed by a bucket4j {@code ProxyManager} (Redis, JCache, ...), which resolves buckets by the
+ * same "key + configuration" pair.
+ */
+public interface BucketStore {
+
+    Bucket resolve(String key, Bandwidth... limits);
+
+    void evict(String key);
+}
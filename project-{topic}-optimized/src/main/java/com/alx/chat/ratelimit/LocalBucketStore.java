@@ -0,0 +1,58 @@
+package com.alx.chat.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.TimeMeter;
+import io.github.bucket4j.local.LocalBucketBuilder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Node-local {@link BucketStore}. Buckets live in a size-bounded Caffeine cache and expire after a period without
+ * use, so clients that come and go (or spoofed IPs) cannot grow the store without limit.
+ */
+@Component
+public class LocalBucketStore implements BucketStore {
+
+    private final Cache<String, Bucket> buckets;
+    private final TimeMeter timeMeter;
+
+    @Autowired
+    public LocalBucketStore(@Value("${chat.rate-limit.store.maximum-size:100000}") long maximumSize,
+                            @Value("${chat.rate-limit.store.expire-after-access:10m}") Duration expireAfterAccess) {
+        this(maximumSize, expireAfterAccess, TimeMeter.SYSTEM_MILLISECONDS);
+    }
+
+    LocalBucketStore(long maximumSize, Duration expireAfterAccess, TimeMeter timeMeter) {
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(expireAfterAccess)
+                .build();
+        this.timeMeter = timeMeter;
+    }
+
+    @Override
+    public Bucket resolve(String key, Bandwidth... limits) {
+        return buckets.get(key, k -> {
+            LocalBucketBuilder builder = Bucket.builder().withCustomTimePrecision(timeMeter);
+            for (Bandwidth limit : limits) {
+                builder.addLimit(limit);
+            }
+            return builder.build();
+        });
+    }
+
+    @Override
+    public void evict(String key) {
+        buckets.invalidate(key);
+    }
+
+    public long size() {
+        return buckets.estimatedSize();
+    }
+}
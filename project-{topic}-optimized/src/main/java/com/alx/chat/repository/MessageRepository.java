@@ -4,13 +4,23 @@ package com.alx.chat.repository;
 import com.alx.chat.entity.Message;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface MessageRepository extends JpaRepository<Message, Long> {
     List<Message> findByRoomIdOrderBySentAtAsc(Long roomId, Pageable pageable);
     Long countByRoomId(Long roomId);
+
+    @Query("SELECT m FROM Message m JOIN FETCH m.sender JOIN FETCH m.room WHERE m.id IN :ids")
+    List<Message> findAllWithSenderAndRoomByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Keyset page of [id, roomId, senderId, content, sentAt] rows for rebuilding the search index
+    @Query("SELECT m.id, m.room.id, m.sender.id, m.content, m.sentAt FROM Message m WHERE m.id > :afterId ORDER BY m.id ASC")
+    List<Object[]> findIndexRowsAfter(@Param("afterId") Long afterId, Pageable pageable);
 }
 ```
\ No newline at end of file
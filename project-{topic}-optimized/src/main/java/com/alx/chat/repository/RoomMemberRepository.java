@@ -5,15 +5,23 @@ import com.alx.chat.entity.ChatRoom;
 import com.alx.chat.entity.RoomMember;
 import com.alx.chat.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
 public interface RoomMemberRepository extends JpaRepository<RoomMember, RoomMember.RoomMemberId> {
     Optional<RoomMember> findByUserAndChatRoom(User user, ChatRoom chatRoom);
     List<RoomMember> findByChatRoom(ChatRoom chatRoom);
     boolean existsByUserAndChatRoom(User user, ChatRoom chatRoom);
+
+    @Query("SELECT rm.chatRoom.id FROM RoomMember rm WHERE rm.user.id = :userId")
+    Set<Long> findRoomIdsByUserId(@Param("userId") Long userId);
+
+    boolean existsByUserIdAndChatRoomId(Long userId, Long chatRoomId);
 }
 ```
\ No newline at end of file
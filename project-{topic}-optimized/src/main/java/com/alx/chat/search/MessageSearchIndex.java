@@ -0,0 +1,356 @@
+package com.alx.chat.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * Embedded inverted index over chat message content.
+ * <p>
+ * Postings are kept per room: within a room, each term maps to a list of message ids (kept sorted, ids are
+ * append-mostly) with term frequencies. A query only visits the rooms it is scoped to, so its cost follows the
+ * history of those rooms rather than of the whole server. In each room, terms are AND-matched by walking the
+ * shortest postings list and probing the others by binary search; hits are ranked with BM25 using server-wide
+ * document frequencies (newest message wins ties). The sender filter is checked against per-message metadata held
+ * next to the postings, so a search never touches the database.
+ * <p>
+ * The index reports itself {@linkplain #isReady() ready} once its first rebuild has completed.
+ */
+@Component
+public class MessageSearchIndex {
+
+    private static final double BM25_K1 = 1.2;
+    private static final double BM25_B = 0.75;
+    private static final int MIN_TOKEN_LENGTH = 2;
+    private static final int MAX_TOKEN_LENGTH = 64;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private State state = new State();
+    private List<Consumer<State>> pendingDuringRebuild; // non-null while a rebuild is running
+    private volatile boolean ready;
+
+    public void add(long messageId, long roomId, long senderId, long sentAtMillis, String content) {
+        lock.writeLock().lock();
+        try {
+            state.add(messageId, roomId, senderId, sentAtMillis, content);
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(s -> s.add(messageId, roomId, senderId, sentAtMillis, content));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long messageId) {
+        lock.writeLock().lock();
+        try {
+            state.remove(messageId);
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(s -> s.remove(messageId));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Replaces the index contents with whatever {@code loader} feeds into the given sink. The current index keeps
+     * serving searches while the new one is built; writes that happen in the meantime are replayed onto the new
+     * index before it is swapped in.
+     */
+    public void rebuild(Consumer<DocumentSink> loader) {
+        lock.writeLock().lock();
+        try {
+            if (pendingDuringRebuild != null) {
+                throw new IllegalStateException("A message index rebuild is already running");
+            }
+            pendingDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        State fresh = new State();
+        try {
+            loader.accept(fresh::add);
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendingDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            pendingDuringRebuild.forEach(op -> op.accept(fresh));
+            pendingDuringRebuild = null;
+            state = fresh;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @param roomIds  rooms to search in, or {@code null} for any room
+     * @param senderId sender to restrict to, or {@code null} for any sender
+     */
+    public List<Hit> search(String query, Collection<Long> roomIds, Long senderId, int limit) {
+        List<String> terms = new ArrayList<>(countTerms(query).keySet());
+        if (terms.isEmpty() || limit <= 0 || (roomIds != null && roomIds.isEmpty())) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            return state.search(terms, roomIds, senderId, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns whether a rebuild has completed, so the index holds the full message history rather than only what was
+     * written since startup.
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return state.docs.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static Map<String, Integer> countTerms(String text) {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        if (text == null) {
+            return counts;
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= lower.length(); i++) {
+            boolean wordChar = i < lower.length() && Character.isLetterOrDigit(lower.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                int length = i - start;
+                if (length >= MIN_TOKEN_LENGTH && length <= MAX_TOKEN_LENGTH) {
+                    counts.merge(lower.substring(start, i), 1, Integer::sum);
+                }
+                start = -1;
+            }
+        }
+        return counts;
+    }
+
+    @FunctionalInterface
+    public interface DocumentSink {
+        void add(long messageId, long roomId, long senderId, long sentAtMillis, String content);
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class Hit {
+        private long messageId;
+        private double score;
+        private long sentAtMillis;
+    }
+
+    private static final class Doc {
+        private final long roomId;
+        private final long senderId;
+        private final long sentAtMillis;
+        private final String[] terms; // kept so a delete can drop the message from its postings
+        private final int length;
+
+        private Doc(long roomId, long senderId, long sentAtMillis, String[] terms, int length) {
+            this.roomId = roomId;
+            this.senderId = senderId;
+            this.sentAtMillis = sentAtMillis;
+            this.terms = terms;
+            this.length = length;
+        }
+    }
+
+    private static final class Postings {
+        private long[] ids = new long[4];
+        private int[] freqs = new int[4];
+        private int size;
+
+        private void add(long id, int freq) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                freqs = Arrays.copyOf(freqs, size * 2);
+            }
+            int pos = size == 0 || ids[size - 1] < id ? size : -(Arrays.binarySearch(ids, 0, size, id) + 1);
+            if (pos < 0) {
+                return; // Already present
+            }
+            System.arraycopy(ids, pos, ids, pos + 1, size - pos);
+            System.arraycopy(freqs, pos, freqs, pos + 1, size - pos);
+            ids[pos] = id;
+            freqs[pos] = freq;
+            size++;
+        }
+
+        private void remove(long id) {
+            int pos = Arrays.binarySearch(ids, 0, size, id);
+            if (pos >= 0) {
+                System.arraycopy(ids, pos + 1, ids, pos, size - pos - 1);
+                System.arraycopy(freqs, pos + 1, freqs, pos, size - pos - 1);
+                size--;
+            }
+        }
+
+        private int freqOf(long id) {
+            int pos = Arrays.binarySearch(ids, 0, size, id);
+            return pos >= 0 ? freqs[pos] : 0;
+        }
+    }
+
+    private static final class State {
+        private final Map<Long, Map<String, Postings>> rooms = new HashMap<>();
+        private final Map<String, Integer> docFreqs = new HashMap<>(); // Across all rooms, for the idf
+        private final Map<Long, Doc> docs = new HashMap<>();
+        private long totalLength;
+
+        private void add(long messageId, long roomId, long senderId, long sentAtMillis, String content) {
+            if (docs.containsKey(messageId)) {
+                return;
+            }
+            Map<String, Integer> counts = countTerms(content);
+            int length = counts.values().stream().mapToInt(Integer::intValue).sum();
+            Map<String, Postings> roomPostings = rooms.computeIfAbsent(roomId, r -> new HashMap<>());
+            counts.forEach((term, freq) -> {
+                roomPostings.computeIfAbsent(term, t -> new Postings()).add(messageId, freq);
+                docFreqs.merge(term, 1, Integer::sum);
+            });
+            docs.put(messageId, new Doc(roomId, senderId, sentAtMillis, counts.keySet().toArray(new String[0]), length));
+            totalLength += length;
+        }
+
+        private void remove(long messageId) {
+            Doc doc = docs.remove(messageId);
+            if (doc == null) {
+                return;
+            }
+            Map<String, Postings> roomPostings = rooms.get(doc.roomId);
+            for (String term : doc.terms) {
+                Postings p = roomPostings.get(term);
+                if (p != null) {
+                    p.remove(messageId);
+                    if (p.size == 0) {
+                        roomPostings.remove(term);
+                    }
+                }
+                docFreqs.computeIfPresent(term, (t, df) -> df == 1 ? null : df - 1);
+            }
+            if (roomPostings.isEmpty()) {
+                rooms.remove(doc.roomId);
+            }
+            totalLength -= doc.length;
+        }
+
+        private List<Hit> search(List<String> terms, Collection<Long> roomIds, Long senderId, int limit) {
+            int docCount = docs.size();
+            Map<String, Double> idf = new HashMap<>();
+            for (String term : terms) {
+                Integer df = docFreqs.get(term);
+                if (df == null) {
+                    return List.of(); // AND semantics: a missing term means no match
+                }
+                idf.put(term, Math.log(1 + (docCount - df + 0.5) / (df + 0.5)));
+            }
+            double avgLength = docCount == 0 ? 1 : (double) totalLength / docCount;
+
+            Comparator<Hit> worstFirst = Comparator.comparingDouble(Hit::getScore).thenComparingLong(Hit::getSentAtMillis);
+            PriorityQueue<Hit> top = new PriorityQueue<>(limit + 1, worstFirst);
+            for (Long roomId : roomIds != null ? roomIds : rooms.keySet()) {
+                Map<String, Postings> roomPostings = rooms.get(roomId);
+                if (roomPostings != null) {
+                    searchRoom(roomPostings, terms, idf, avgLength, senderId, limit, top);
+                }
+            }
+
+            List<Hit> hits = new ArrayList<>(top);
+            hits.sort(worstFirst.reversed());
+            return hits;
+        }
+
+        private void searchRoom(Map<String, Postings> roomPostings, List<String> terms, Map<String, Double> idf,
+                                double avgLength, Long senderId, int limit, PriorityQueue<Hit> top) {
+            Postings[] lists = new Postings[terms.size()];
+            double[] weights = new double[terms.size()];
+            for (int i = 0; i < lists.length; i++) {
+                lists[i] = roomPostings.get(terms.get(i));
+                if (lists[i] == null) {
+                    return;
+                }
+                weights[i] = idf.get(terms.get(i));
+            }
+            sortBySize(lists, weights);
+
+            Postings driver = lists[0];
+            candidates:
+            for (int c = 0; c < driver.size; c++) {
+                long id = driver.ids[c];
+                Doc doc = docs.get(id);
+                if (doc == null || (senderId != null && doc.senderId != senderId)) {
+                    continue;
+                }
+                double lengthNorm = BM25_K1 * (1 - BM25_B + BM25_B * doc.length / avgLength);
+                double score = 0;
+                for (int i = 0; i < lists.length; i++) {
+                    int tf = i == 0 ? driver.freqs[c] : lists[i].freqOf(id);
+                    if (tf == 0) {
+                        continue candidates;
+                    }
+                    score += weights[i] * tf * (BM25_K1 + 1) / (tf + lengthNorm);
+                }
+                top.offer(new Hit(id, score, doc.sentAtMillis));
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+        }
+
+        /**
+         * Orders the lists shortest first, keeping each term's weight next to its list. Queries have a handful of
+         * terms, so an insertion sort does.
+         */
+        private static void sortBySize(Postings[] lists, double[] weights) {
+            for (int i = 1; i < lists.length; i++) {
+                Postings list = lists[i];
+                double weight = weights[i];
+                int j = i - 1;
+                while (j >= 0 && lists[j].size > list.size) {
+                    lists[j + 1] = lists[j];
+                    weights[j + 1] = weights[j];
+                    j--;
+                }
+                lists[j + 1] = list;
+                weights[j + 1] = weight;
+            }
+        }
+    }
+}
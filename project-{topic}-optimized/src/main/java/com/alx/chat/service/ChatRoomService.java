@@ -6,6 +6,8 @@ import com.alx.chat.dto.UserDTO;
 import com.alx.chat.entity.ChatRoom;
 import com.alx.chat.entity.RoomMember;
 import com.alx.chat.entity.User;
+import com.alx.chat.event.ChatRoomDeletedEvent;
+import com.alx.chat.event.RoomMembershipChangedEvent;
 import com.alx.chat.exception.BadRequestException;
 import com.alx.chat.exception.ResourceNotFoundException;
 import com.alx.chat.repository.ChatRoomRepository;
@@ -14,6 +16,7 @@ import com.alx.chat.repository.UserRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,11 +31,13 @@ public class ChatRoomService {
     private final ChatRoomRepository chatRoomRepository;
     private final UserRepository userRepository;
     private final RoomMemberRepository roomMemberRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public ChatRoomService(ChatRoomRepository chatRoomRepository, UserRepository userRepository, RoomMemberRepository roomMemberRepository) {
+    public ChatRoomService(ChatRoomRepository chatRoomRepository, UserRepository userRepository, RoomMemberRepository roomMemberRepository, ApplicationEventPublisher eventPublisher) {
         this.chatRoomRepository = chatRoomRepository;
         this.userRepository = userRepository;
         this.roomMemberRepository = roomMemberRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -55,6 +60,7 @@ public class ChatRoomService {
         RoomMember creatorMember = new RoomMember(creator, savedRoom, null, true); // Creator is admin
         roomMemberRepository.save(creatorMember);
         savedRoom.getMembers().add(creatorMember); // Add to the entity's collection
+        eventPublisher.publishEvent(new RoomMembershipChangedEvent(savedRoom.getId(), creatorId, true));
 
         log.info("Chat room '{}' created by user ID: {}", chatRoomDTO.getName(), creatorId);
         return ChatRoomDTO.fromEntity(savedRoom);
@@ -103,6 +109,7 @@ public class ChatRoomService {
             throw new ResourceNotFoundException("Chat room not found with ID: " + id);
         }
         chatRoomRepository.deleteById(id);
+        eventPublisher.publishEvent(new ChatRoomDeletedEvent(id));
         log.info("Chat room with ID: {} deleted.", id);
     }
 
@@ -120,7 +127,9 @@ public class ChatRoomService {
 
         RoomMember member = new RoomMember(user, chatRoom, null, false); // New members are not admins by default
         log.info("User ID {} added to chat room ID {}", userId, roomId);
-        return roomMemberRepository.save(member);
+        RoomMember savedMember = roomMemberRepository.save(member);
+        eventPublisher.publishEvent(new RoomMembershipChangedEvent(roomId, userId, true));
+        return savedMember;
     }
 
     @CacheEvict(value = "chatRooms", key = "#roomId")
@@ -135,6 +144,7 @@ public class ChatRoomService {
                 .orElseThrow(() -> new ResourceNotFoundException("User is not a member of this chat room."));
 
         roomMemberRepository.delete(member);
+        eventPublisher.publishEvent(new RoomMembershipChangedEvent(roomId, userId, false));
         log.info("User ID {} removed from chat room ID {}", userId, roomId);
     }
 
@@ -0,0 +1,137 @@
+package com.alx.chat.service;
+
+import com.alx.chat.dto.MessageDTO;
+import com.alx.chat.entity.Message;
+import com.alx.chat.event.MessageDeletedEvent;
+import com.alx.chat.event.MessageSavedEvent;
+import com.alx.chat.exception.AccessDeniedException;
+import com.alx.chat.exception.BadRequestException;
+import com.alx.chat.exception.ServiceUnavailableException;
+import com.alx.chat.repository.MessageRepository;
+import com.alx.chat.repository.RoomMemberRepository;
+import com.alx.chat.search.MessageSearchIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@Slf4j
+public class MessageSearchService {
+
+    private static final int MAX_RESULTS = 100;
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    private final MessageSearchIndex messageSearchIndex;
+    private final MessageRepository messageRepository;
+    private final RoomMemberRepository roomMemberRepository;
+
+    public MessageSearchService(MessageSearchIndex messageSearchIndex, MessageRepository messageRepository, RoomMemberRepository roomMemberRepository) {
+        this.messageSearchIndex = messageSearchIndex;
+        this.messageRepository = messageRepository;
+        this.roomMemberRepository = roomMemberRepository;
+    }
+
+    /**
+     * Searches the messages visible to {@code userId}: a single room if {@code roomId} is given (the user must be a
+     * member), otherwise all rooms the user belongs to. Results are ordered by relevance. Until the startup build of
+     * the index has completed, searches are refused as unavailable rather than answered from a partial index.
+     */
+    @Transactional(readOnly = true)
+    public List<MessageDTO> search(String query, Long roomId, Long senderId, int limit, Long userId) {
+        if (query == null || query.isBlank()) {
+            throw new BadRequestException("Search query cannot be empty");
+        }
+        if (!messageSearchIndex.isReady()) {
+            throw new ServiceUnavailableException("Message search index is warming up, please retry shortly");
+        }
+        Set<Long> roomIds;
+        if (roomId != null) {
+            if (!roomMemberRepository.existsByUserIdAndChatRoomId(userId, roomId)) {
+                throw new AccessDeniedException("User is not a member of chat room ID: " + roomId);
+            }
+            roomIds = Set.of(roomId);
+        } else {
+            roomIds = roomMemberRepository.findRoomIdsByUserId(userId);
+        }
+
+        List<MessageSearchIndex.Hit> hits = messageSearchIndex.search(query, roomIds, senderId, Math.min(Math.max(limit, 1), MAX_RESULTS));
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Message> messagesById = messageRepository.findAllWithSenderAndRoomByIdIn(
+                        hits.stream().map(MessageSearchIndex.Hit::getMessageId).collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.toMap(Message::getId, Function.identity()));
+        log.debug("Search '{}' by user {} matched {} messages", query, userId, hits.size());
+        return hits.stream()
+                .map(hit -> messagesById.get(hit.getMessageId()))
+                .filter(Objects::nonNull) // Deleted between the index lookup and the fetch
+                .map(MessageDTO::fromEntity)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Rebuilds the index from the messages table in keyset-paginated batches. Searches keep being served from the
+     * previous index until the new one is complete. Each batch runs in its own short read transaction.
+     */
+    public void rebuildIndex() {
+        long started = System.currentTimeMillis();
+        messageSearchIndex.rebuild(sink -> {
+            long afterId = 0;
+            List<Object[]> rows;
+            do {
+                rows = messageRepository.findIndexRowsAfter(afterId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+                for (Object[] row : rows) {
+                    sink.add((Long) row[0], (Long) row[1], (Long) row[2], toEpochMillis((LocalDateTime) row[4]), (String) row[3]);
+                    afterId = (Long) row[0];
+                }
+            } while (rows.size() == REBUILD_BATCH_SIZE);
+        });
+        log.info("Message search index rebuilt with {} messages in {} ms", messageSearchIndex.size(), System.currentTimeMillis() - started);
+    }
+
+    /**
+     * Builds the index on a background thread, so a large message history does not hold up readiness. Messages
+     * committed in the meantime are replayed onto the new index by {@link MessageSearchIndex#rebuild}.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIndexOnStartup() {
+        Thread builder = new Thread(() -> {
+            try {
+                rebuildIndex();
+            } catch (RuntimeException e) {
+                log.error("Initial message search index build failed; searches stay unavailable until an admin rebuild", e);
+            }
+        }, "message-index-warmup");
+        builder.setDaemon(true);
+        builder.start();
+    }
+
+    @TransactionalEventListener
+    public void onMessageSaved(MessageSavedEvent event) {
+        messageSearchIndex.add(event.getMessageId(), event.getRoomId(), event.getSenderId(),
+                toEpochMillis(event.getSentAt()), event.getContent());
+    }
+
+    @TransactionalEventListener
+    public void onMessageDeleted(MessageDeletedEvent event) {
+        messageSearchIndex.remove(event.getMessageId());
+    }
+
+    private static long toEpochMillis(LocalDateTime time) {
+        return time == null ? 0 : time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
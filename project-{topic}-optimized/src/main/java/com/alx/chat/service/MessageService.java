@@ -5,6 +5,8 @@ import com.alx.chat.dto.MessageDTO;
 import com.alx.chat.entity.ChatRoom;
 import com.alx.chat.entity.Message;
 import com.alx.chat.entity.User;
+import com.alx.chat.event.MessageDeletedEvent;
+import com.alx.chat.event.MessageSavedEvent;
 import com.alx.chat.exception.AccessDeniedException;
 import com.alx.chat.exception.ResourceNotFoundException;
 import com.alx.chat.repository.ChatRoomRepository;
@@ -14,6 +16,7 @@ import com.alx.chat.repository.UserRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -31,12 +34,14 @@ public class MessageService {
     private final ChatRoomRepository chatRoomRepository;
     private final UserRepository userRepository;
     private final RoomMemberRepository roomMemberRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public MessageService(MessageRepository messageRepository, ChatRoomRepository chatRoomRepository, UserRepository userRepository, RoomMemberRepository roomMemberRepository) {
+    public MessageService(MessageRepository messageRepository, ChatRoomRepository chatRoomRepository, UserRepository userRepository, RoomMemberRepository roomMemberRepository, ApplicationEventPublisher eventPublisher) {
         this.messageRepository = messageRepository;
         this.chatRoomRepository = chatRoomRepository;
         this.userRepository = userRepository;
         this.roomMemberRepository = roomMemberRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @CacheEvict(value = "messages", key = "#messageDTO.roomId") // Evict cache for the specific room when new message is added
@@ -58,6 +63,9 @@ public class MessageService {
         message.setContent(messageDTO.getContent());
 
         Message savedMessage = messageRepository.save(message);
+        // Delivered to @TransactionalEventListener beans (e.g. search indexing) once this transaction commits
+        eventPublisher.publishEvent(new MessageSavedEvent(savedMessage.getId(), chatRoom.getId(), sender.getId(),
+                savedMessage.getContent(), savedMessage.getSentAt()));
         log.info("Message sent by user {} to room {}: {}", sender.getUsername(), chatRoom.getName(), savedMessage.getContent());
         return MessageDTO.fromEntity(savedMessage);
     }
@@ -102,6 +110,7 @@ public class MessageService {
         }
 
         messageRepository.delete(message);
+        eventPublisher.publishEvent(new MessageDeletedEvent(messageId, message.getRoom().getId()));
         log.info("Message ID {} deleted by user ID {}", messageId, userId);
     }
 }
@@ -0,0 +1,142 @@
+package com.alx.chat.service;
+
+import com.alx.chat.dto.ReadReceiptDTO;
+import com.alx.chat.dto.RoomUnreadDTO;
+import com.alx.chat.event.ChatRoomDeletedEvent;
+import com.alx.chat.event.MessageDeletedEvent;
+import com.alx.chat.event.MessageSavedEvent;
+import com.alx.chat.event.RoomMembershipChangedEvent;
+import com.alx.chat.exception.AccessDeniedException;
+import com.alx.chat.unread.UnreadCounters;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Read markers and unread counts per (user, room).
+ * <p>
+ * Counts live in {@link UnreadCounters} and are updated as messages are committed, so the inbox summary for a user
+ * is a single memory lookup instead of one COUNT(*) per room. State is reconciled from the database on startup and
+ * written back to {@code room_members} in JDBC batches every few seconds.
+ */
+@Service
+@Slf4j
+public class ReadStateService {
+
+    private static final String LOAD_MARKERS_SQL =
+            "SELECT rm.user_id, rm.room_id, COALESCE(rm.last_read_message_id, 0) AS last_read, rm.unread_count, " +
+            "(SELECT COUNT(*) FROM messages m WHERE m.room_id = rm.room_id " +
+            "AND m.id > COALESCE(rm.last_read_message_id, 0) AND m.sender_id <> rm.user_id) AS unread " +
+            "FROM room_members rm";
+    private static final String LOAD_LAST_MESSAGE_IDS_SQL = "SELECT room_id, MAX(id) FROM messages GROUP BY room_id";
+    private static final String COUNT_READ_BETWEEN_SQL =
+            "SELECT COUNT(*) FROM messages WHERE room_id = ? AND id > ? AND id <= ? AND sender_id <> ?";
+    private static final String FLUSH_MARKER_SQL =
+            "UPDATE room_members SET last_read_message_id = ?, unread_count = ? WHERE user_id = ? AND room_id = ?";
+
+    private final UnreadCounters unreadCounters;
+    private final JdbcTemplate jdbcTemplate;
+    private final SimpMessageSendingOperations messagingTemplate;
+
+    public ReadStateService(UnreadCounters unreadCounters, JdbcTemplate jdbcTemplate, SimpMessageSendingOperations messagingTemplate) {
+        this.unreadCounters = unreadCounters;
+        this.jdbcTemplate = jdbcTemplate;
+        this.messagingTemplate = messagingTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadFromDatabase() {
+        long started = System.currentTimeMillis();
+        unreadCounters.clear();
+        jdbcTemplate.query(LOAD_LAST_MESSAGE_IDS_SQL, rs -> {
+            unreadCounters.setLastMessageId(rs.getLong(1), rs.getLong(2));
+        });
+        jdbcTemplate.query(LOAD_MARKERS_SQL, rs -> {
+            long unread = rs.getLong("unread");
+            // Only rows whose stored count drifted (e.g. messages after the last flush before a restart) are rewritten
+            unreadCounters.putMember(rs.getLong("user_id"), rs.getLong("room_id"),
+                    rs.getLong("last_read"), unread, unread != rs.getLong("unread_count"));
+        });
+        log.info("Unread counters loaded in {} ms", System.currentTimeMillis() - started);
+    }
+
+    public List<RoomUnreadDTO> getInbox(Long userId) {
+        return unreadCounters.getInbox(userId);
+    }
+
+    /**
+     * Moves the user's read marker in the room forward to {@code messageId} and broadcasts a read receipt to
+     * /topic/rooms/{roomId}/receipts. Marking an older message than the current marker is a no-op.
+     */
+    public RoomUnreadDTO markRead(Long userId, Long roomId, Long messageId) {
+        if (!unreadCounters.isMember(userId, roomId)) {
+            throw new AccessDeniedException("User is not a member of chat room ID: " + roomId);
+        }
+        long lastMessageId = unreadCounters.getLastMessageId(roomId);
+        long readUpTo = messageId != null ? Math.min(messageId, lastMessageId) : lastMessageId;
+        // Reading up to the newest message is the common case and needs no query
+        boolean moved = unreadCounters.markRead(userId, roomId, readUpTo, (afterId, upToId) ->
+                jdbcTemplate.queryForObject(COUNT_READ_BETWEEN_SQL, Long.class, roomId, afterId, upToId, userId));
+
+        if (moved) {
+            messagingTemplate.convertAndSend(String.format("/topic/rooms/%d/receipts", roomId),
+                    new ReadReceiptDTO(roomId, userId, readUpTo));
+        }
+        return unreadCounters.getInbox(userId).stream()
+                .filter(room -> room.getRoomId().equals(roomId))
+                .findFirst()
+                .orElseThrow(() -> new AccessDeniedException("User is not a member of chat room ID: " + roomId));
+    }
+
+    @Scheduled(fixedDelayString = "${chat.unread.flush-interval-ms:5000}")
+    public void flush() {
+        List<UnreadCounters.DirtyMarker> dirty = unreadCounters.drainDirty();
+        if (dirty.isEmpty()) {
+            return;
+        }
+        try {
+            jdbcTemplate.batchUpdate(FLUSH_MARKER_SQL, dirty.stream()
+                    .map(m -> new Object[]{m.getLastReadMessageId(), m.getUnreadCount(), m.getUserId(), m.getRoomId()})
+                    .collect(Collectors.toList()));
+            log.debug("Flushed {} read markers", dirty.size());
+        } catch (DataAccessException e) {
+            unreadCounters.markDirty(dirty);
+            log.warn("Failed to flush {} read markers, will retry: {}", dirty.size(), e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener
+    public void onMessageSaved(MessageSavedEvent event) {
+        unreadCounters.onMessage(event.getRoomId(), event.getMessageId(), event.getSenderId());
+    }
+
+    @TransactionalEventListener
+    public void onMessageDeleted(MessageDeletedEvent event) {
+        unreadCounters.onMessageDeleted(event.getRoomId(), event.getMessageId());
+    }
+
+    @TransactionalEventListener
+    public void onMembershipChanged(RoomMembershipChangedEvent event) {
+        if (event.isJoined()) {
+            // History from before joining does not count as unread
+            unreadCounters.putMember(event.getUserId(), event.getRoomId(),
+                    unreadCounters.getLastMessageId(event.getRoomId()), 0, true);
+        } else {
+            unreadCounters.removeMember(event.getUserId(), event.getRoomId());
+        }
+    }
+
+    @TransactionalEventListener
+    public void onChatRoomDeleted(ChatRoomDeletedEvent event) {
+        unreadCounters.removeRoom(event.getRoomId());
+    }
+}
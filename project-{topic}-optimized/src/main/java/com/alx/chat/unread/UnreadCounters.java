@@ -0,0 +1,266 @@
+package com.alx.chat.unread;
+
+import com.alx.chat.dto.RoomUnreadDTO;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory unread state per (user, room).
+ * <p>
+ * Every membership holds the id of the last message the user has read and an unread counter, both guarded by
+ * the membership's own lock so a new message and a read marker moving past it cannot interleave. A new message
+ * increments the counter of every other member of its room; marking messages as read subtracts them. Changed entries
+ * are flagged dirty so they can be written back to {@code room_members} in periodic batches.
+ */
+@Component
+public class UnreadCounters {
+
+    private final Map<Long, Map<Long, Marker>> markersByUser = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Long>> membersByRoom = new ConcurrentHashMap<>();
+    private final Map<Long, AtomicLong> lastMessageIdByRoom = new ConcurrentHashMap<>();
+
+    public void clear() {
+        markersByUser.clear();
+        membersByRoom.clear();
+        lastMessageIdByRoom.clear();
+    }
+
+    /**
+     * Registers a membership. Used both when loading persisted state (not dirty) and when a user joins a room.
+     */
+    public void putMember(long userId, long roomId, long lastReadMessageId, long unreadCount, boolean dirty) {
+        Marker marker = new Marker(lastReadMessageId, unreadCount);
+        marker.dirty = dirty;
+        markersByUser.computeIfAbsent(userId, id -> new ConcurrentHashMap<>()).put(roomId, marker);
+        membersByRoom.computeIfAbsent(roomId, id -> ConcurrentHashMap.newKeySet()).add(userId);
+    }
+
+    public void removeMember(long userId, long roomId) {
+        Map<Long, Marker> markers = markersByUser.get(userId);
+        if (markers != null) {
+            markers.remove(roomId);
+        }
+        Set<Long> members = membersByRoom.get(roomId);
+        if (members != null) {
+            members.remove(userId);
+        }
+    }
+
+    public void removeRoom(long roomId) {
+        Set<Long> members = membersByRoom.remove(roomId);
+        if (members != null) {
+            members.forEach(userId -> {
+                Map<Long, Marker> markers = markersByUser.get(userId);
+                if (markers != null) {
+                    markers.remove(roomId);
+                }
+            });
+        }
+        lastMessageIdByRoom.remove(roomId);
+    }
+
+    public void setLastMessageId(long roomId, long messageId) {
+        lastMessageIdByRoom.computeIfAbsent(roomId, id -> new AtomicLong()).accumulateAndGet(messageId, Math::max);
+    }
+
+    public long getLastMessageId(long roomId) {
+        AtomicLong last = lastMessageIdByRoom.get(roomId);
+        return last != null ? last.get() : 0;
+    }
+
+    /**
+     * Counts a new message as unread for every room member except its sender, for whom the room becomes read.
+     */
+    public void onMessage(long roomId, long messageId, long senderId) {
+        setLastMessageId(roomId, messageId);
+        Set<Long> members = membersByRoom.get(roomId);
+        if (members == null) {
+            return;
+        }
+        for (Long userId : members) {
+            Marker marker = getMarker(userId, roomId);
+            if (marker == null) {
+                continue;
+            }
+            if (userId == senderId) {
+                marker.markRead(messageId, 0);
+            } else {
+                marker.onMessage(messageId);
+            }
+        }
+    }
+
+    /**
+     * Undoes the unread increment of a deleted message for members that had not read it yet.
+     */
+    public void onMessageDeleted(long roomId, long messageId) {
+        Set<Long> members = membersByRoom.get(roomId);
+        if (members == null) {
+            return;
+        }
+        for (Long userId : members) {
+            Marker marker = getMarker(userId, roomId);
+            if (marker != null) {
+                marker.onMessageDeleted(messageId);
+            }
+        }
+    }
+
+    /**
+     * Moves the read marker forward to {@code messageId}. Returns {@code false} if the user is not a member or the
+     * marker would move back.
+     * <p>
+     * Reading up to the newest message of the room clears the counter. Otherwise the messages read since the
+     * current marker are counted through {@code readCounter} without holding the marker's lock, then subtracted
+     * under it, so messages posted meanwhile stay counted; if the marker moved in between, the count is redone.
+     */
+    public boolean markRead(long userId, long roomId, long messageId, ReadCounter readCounter) {
+        Marker marker = getMarker(userId, roomId);
+        if (marker == null) {
+            return false;
+        }
+        while (true) {
+            long readAfter;
+            synchronized (marker) {
+                if (messageId < marker.lastReadMessageId) {
+                    return false;
+                }
+                // onMessage publishes the room's last id before counting, so no newer message is counted here yet
+                if (messageId >= getLastMessageId(roomId)) {
+                    return marker.markRead(messageId, 0);
+                }
+                readAfter = marker.lastReadMessageId;
+            }
+            long read = readAfter == messageId ? 0 : readCounter.countRead(readAfter, messageId);
+            synchronized (marker) {
+                if (marker.lastReadMessageId == readAfter) {
+                    return marker.markRead(messageId, Math.max(0, marker.unread - read));
+                }
+            }
+        }
+    }
+
+    public Long getLastReadMessageId(long userId, long roomId) {
+        Marker marker = getMarker(userId, roomId);
+        return marker != null ? marker.getLastReadMessageId() : null;
+    }
+
+    public boolean isMember(long userId, long roomId) {
+        return getMarker(userId, roomId) != null;
+    }
+
+    /**
+     * Unread state for every room of the user, straight from memory.
+     */
+    public List<RoomUnreadDTO> getInbox(long userId) {
+        Map<Long, Marker> markers = markersByUser.getOrDefault(userId, Map.of());
+        List<RoomUnreadDTO> inbox = new ArrayList<>(markers.size());
+        markers.forEach((roomId, marker) -> {
+            synchronized (marker) {
+                inbox.add(new RoomUnreadDTO(roomId, marker.unread, marker.lastReadMessageId, getLastMessageId(roomId)));
+            }
+        });
+        return inbox;
+    }
+
+    /**
+     * Returns and clears all dirty markers. A marker changed again after being drained is simply drained again
+     * on the next call.
+     */
+    public List<DirtyMarker> drainDirty() {
+        List<DirtyMarker> dirty = new ArrayList<>();
+        markersByUser.forEach((userId, markers) -> markers.forEach((roomId, marker) -> {
+            synchronized (marker) {
+                if (marker.dirty) {
+                    marker.dirty = false;
+                    dirty.add(new DirtyMarker(userId, roomId, marker.lastReadMessageId, marker.unread));
+                }
+            }
+        }));
+        return dirty;
+    }
+
+    /**
+     * Puts markers back after a failed flush so they are retried.
+     */
+    public void markDirty(List<DirtyMarker> markers) {
+        markers.forEach(m -> {
+            Marker marker = getMarker(m.getUserId(), m.getRoomId());
+            if (marker != null) {
+                synchronized (marker) {
+                    marker.dirty = true;
+                }
+            }
+        });
+    }
+
+    private Marker getMarker(long userId, long roomId) {
+        Map<Long, Marker> markers = markersByUser.get(userId);
+        return markers != null ? markers.get(roomId) : null;
+    }
+
+    @FunctionalInterface
+    public interface ReadCounter {
+        /**
+         * Counts the messages of the room after {@code afterId} up to and including {@code upToId} that the user
+         * did not send.
+         */
+        long countRead(long afterId, long upToId);
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class DirtyMarker {
+        private long userId;
+        private long roomId;
+        private long lastReadMessageId;
+        private long unreadCount;
+    }
+
+    private static final class Marker {
+        private long lastReadMessageId;
+        private long unread;
+        private boolean dirty;
+
+        private Marker(long lastReadMessageId, long unread) {
+            this.lastReadMessageId = lastReadMessageId;
+            this.unread = unread;
+        }
+
+        private synchronized long getLastReadMessageId() {
+            return lastReadMessageId;
+        }
+
+        private synchronized void onMessage(long messageId) {
+            if (messageId > lastReadMessageId) {
+                unread++;
+                dirty = true;
+            }
+        }
+
+        private synchronized void onMessageDeleted(long messageId) {
+            if (messageId > lastReadMessageId && unread > 0) {
+                unread--;
+                dirty = true;
+            }
+        }
+
+        private synchronized boolean markRead(long messageId, long remainingUnread) {
+            if (messageId < lastReadMessageId) {
+                return false;
+            }
+            lastReadMessageId = messageId;
+            unread = remainingUnread;
+            dirty = true;
+            return true;
+        }
+    }
+}
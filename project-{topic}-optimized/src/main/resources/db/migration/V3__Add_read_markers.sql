@@ -0,0 +1,8 @@
+-- V3__Add_read_markers.sql
+
+-- Per-membership read marker and persisted unread counter (maintained in memory, flushed periodically)
+ALTER TABLE room_members ADD COLUMN last_read_message_id BIGINT;
+ALTER TABLE room_members ADD COLUMN unread_count INTEGER DEFAULT 0 NOT NULL;
+
+-- Supports "messages in room after id X" counts used when reconciling unread counters
+CREATE INDEX idx_messages_room_id_id ON messages(room_id, id);
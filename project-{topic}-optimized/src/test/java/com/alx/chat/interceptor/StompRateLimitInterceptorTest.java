@@ -0,0 +1,116 @@
+package com.alx.chat.interceptor;
+
+import com.alx.chat.ratelimit.LocalBucketStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.security.Principal;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Runs against a real LocalBucketStore. The session bucket holds two frames and refills one per second; the
+ * throttle window is zero, so a frame over the limit is dropped instead of delayed.
+ */
+@ExtendWith(MockitoExtension.class)
+public class StompRateLimitInterceptorTest {
+
+    private static final Principal ALICE = () -> "alice";
+
+    @Mock
+    private SimpMessageSendingOperations messagingTemplate;
+
+    @Mock
+    private MessageChannel channel;
+
+    private StompRateLimitInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        interceptor = new StompRateLimitInterceptor(new LocalBucketStore(100, Duration.ofMinutes(10)), messagingTemplate,
+                1, 2, 120, 16, Duration.ZERO);
+    }
+
+    @AfterEach
+    void tearDown() {
+        interceptor.shutdown();
+    }
+
+    @Test
+    void preSend_DropsSendFrameOverTheLimitAndNotifiesUser() {
+        assertNotNull(interceptor.preSend(frame(StompCommand.SEND, "s1", "hi"), channel));
+        assertNotNull(interceptor.preSend(frame(StompCommand.SEND, "s1", "hi"), channel));
+
+        assertNull(interceptor.preSend(frame(StompCommand.SEND, "s1", "hi"), channel));
+
+        verify(messagingTemplate).convertAndSendToUser(eq("alice"), eq("/queue/errors"), any(Map.class));
+        verifyNoInteractions(channel);
+    }
+
+    @Test
+    void preSend_LimitsEachSessionSeparately() {
+        interceptor.preSend(frame(StompCommand.SEND, "s1", "hi"), channel);
+        interceptor.preSend(frame(StompCommand.SEND, "s1", "hi"), channel);
+
+        assertNotNull(interceptor.preSend(frame(StompCommand.SEND, "s2", "hi"), channel));
+    }
+
+    @Test
+    void preSend_RejectsOversizedPayload() {
+        assertThrows(MessageDeliveryException.class,
+                () -> interceptor.preSend(frame(StompCommand.SEND, "s1", "a message over sixteen bytes"), channel));
+    }
+
+    @Test
+    void preSend_ExemptsOtherCommandsAndReleasedFrames() {
+        interceptor.preSend(frame(StompCommand.SEND, "s1", "hi"), channel);
+        interceptor.preSend(frame(StompCommand.SEND, "s1", "hi"), channel);
+
+        assertNotNull(interceptor.preSend(frame(StompCommand.SUBSCRIBE, "s1", ""), channel));
+        assertNotNull(interceptor.preSend(frame(StompCommand.CONNECT, "s1", ""), channel));
+
+        StompHeaderAccessor released = StompHeaderAccessor.create(StompCommand.SEND);
+        released.setSessionId("s1");
+        released.setHeader("rateLimitReleased", true); // A throttled frame coming back through the channel
+        released.setLeaveMutable(true);
+        assertNotNull(interceptor.preSend(MessageBuilder.createMessage("hi".getBytes(), released.getMessageHeaders()), channel));
+
+        Message<byte[]> plain = MessageBuilder.withPayload("hi".getBytes()).build(); // Not a STOMP frame
+        assertSame(plain, interceptor.preSend(plain, channel));
+        verifyNoInteractions(messagingTemplate);
+    }
+
+    @Test
+    void preSend_DisconnectResetsTheSessionBucket() {
+        interceptor.preSend(frame(StompCommand.SEND, "s1", "hi"), channel);
+        interceptor.preSend(frame(StompCommand.SEND, "s1", "hi"), channel);
+
+        interceptor.preSend(frame(StompCommand.DISCONNECT, "s1", ""), channel);
+
+        assertNotNull(interceptor.preSend(frame(StompCommand.SEND, "s1", "hi"), channel));
+    }
+
+    private static Message<byte[]> frame(StompCommand command, String sessionId, String body) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setSessionId(sessionId);
+        accessor.setUser(ALICE);
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(body.getBytes(), accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,80 @@
+package com.alx.chat.ratelimit;
+
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.Refill;
+import io.github.bucket4j.TimeMeter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LocalBucketStoreTest {
+
+    private static final Bandwidth LIMIT = Bandwidth.classic(3, Refill.greedy(1, Duration.ofSeconds(1)));
+
+    private final ManualTimeMeter time = new ManualTimeMeter();
+    private LocalBucketStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new LocalBucketStore(100, Duration.ofMinutes(10), time);
+    }
+
+    @Test
+    void resolve_ExhaustsBurstThenRefillsOverTime() {
+        Bucket bucket = store.resolve("ws-session:1", LIMIT);
+
+        assertTrue(bucket.tryConsume(3));
+        assertFalse(bucket.tryConsume(1));
+
+        time.advance(Duration.ofMillis(999));
+        assertFalse(bucket.tryConsume(1));
+        time.advance(Duration.ofMillis(1));
+        assertTrue(bucket.tryConsume(1));
+        assertFalse(bucket.tryConsume(1));
+
+        time.advance(Duration.ofMinutes(1));
+        assertEquals(3, bucket.getAvailableTokens()); // Never refills past the capacity
+    }
+
+    @Test
+    void resolve_ReturnsSameBucketPerKey() {
+        Bucket first = store.resolve("ws-user:alice", LIMIT);
+        first.tryConsume(3);
+
+        assertSame(first, store.resolve("ws-user:alice", LIMIT));
+        assertEquals(3, store.resolve("ws-user:bob", LIMIT).getAvailableTokens());
+        assertEquals(2, store.size());
+    }
+
+    @Test
+    void evict_StartsOverWithFullBucket() {
+        store.resolve("ws-session:1", LIMIT).tryConsume(3);
+
+        store.evict("ws-session:1");
+
+        assertEquals(3, store.resolve("ws-session:1", LIMIT).getAvailableTokens());
+    }
+
+    private static final class ManualTimeMeter implements TimeMeter {
+        private long nanos;
+
+        void advance(Duration duration) {
+            nanos += duration.toNanos();
+        }
+
+        @Override
+        public long currentTimeNanos() {
+            return nanos;
+        }
+
+        @Override
+        public boolean isWallClockBased() {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.alx.chat.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MessageSearchIndexTest {
+
+    private MessageSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new MessageSearchIndex();
+        index.add(1L, 10L, 100L, 1_000L, "Deploy is scheduled for Friday");
+        index.add(2L, 10L, 101L, 2_000L, "Friday deploy moved, deploy on Monday instead");
+        index.add(3L, 20L, 100L, 3_000L, "Lunch on Friday?");
+    }
+
+    private List<Long> ids(List<MessageSearchIndex.Hit> hits) {
+        return hits.stream().map(MessageSearchIndex.Hit::getMessageId).collect(Collectors.toList());
+    }
+
+    @Test
+    void search_MatchesAllTermsCaseInsensitive() {
+        assertEquals(Set.of(1L, 2L), Set.copyOf(ids(index.search("friday DEPLOY", null, null, 10))));
+        assertTrue(index.search("friday tuesday", null, null, 10).isEmpty());
+    }
+
+    @Test
+    void search_RanksHigherTermFrequencyFirst() {
+        assertEquals(List.of(2L, 1L), ids(index.search("deploy", null, null, 10)));
+    }
+
+    @Test
+    void search_AppliesRoomAndSenderFilters() {
+        assertEquals(List.of(3L), ids(index.search("friday", Set.of(20L), null, 10)));
+        assertEquals(Set.of(1L, 3L), Set.copyOf(ids(index.search("friday", null, 100L, 10))));
+        assertTrue(index.search("friday", Set.of(), null, 10).isEmpty());
+    }
+
+    @Test
+    void search_MergesHitsAcrossTheGivenRooms() {
+        index.add(4L, 30L, 102L, 4_000L, "Friday friday standup");
+
+        assertEquals(List.of(4L, 3L), ids(index.search("friday", Set.of(20L, 30L, 99L), null, 10)));
+        assertEquals(List.of(4L), ids(index.search("friday", Set.of(30L, 20L), null, 1)));
+    }
+
+    @Test
+    void search_RespectsLimit() {
+        assertEquals(1, index.search("friday", null, null, 1).size());
+    }
+
+    @Test
+    void remove_DropsMessageFromResults() {
+        index.remove(2L);
+
+        assertEquals(List.of(1L), ids(index.search("deploy", null, null, 10)));
+        assertTrue(index.search("monday", null, null, 10).isEmpty());
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    void isReady_OnceARebuildHasCompleted() {
+        assertFalse(index.isReady());
+
+        assertThrows(IllegalStateException.class, () -> index.rebuild(sink -> {
+            throw new IllegalStateException("database unavailable");
+        }));
+        assertFalse(index.isReady());
+
+        index.rebuild(sink -> sink.add(5L, 30L, 100L, 5_000L, "release notes"));
+        assertTrue(index.isReady());
+    }
+
+    @Test
+    void rebuild_ReplacesContentsAndKeepsConcurrentWrites() {
+        index.rebuild(sink -> {
+            sink.add(5L, 30L, 100L, 5_000L, "release notes");
+            index.add(6L, 30L, 101L, 6_000L, "release party"); // Committed while the rebuild is running
+        });
+
+        assertEquals(2, index.size());
+        assertEquals(Set.of(5L, 6L), Set.copyOf(ids(index.search("release", null, null, 10))));
+        assertTrue(index.search("friday", null, null, 10).isEmpty());
+    }
+}
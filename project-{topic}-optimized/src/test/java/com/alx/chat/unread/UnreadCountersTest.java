@@ -0,0 +1,120 @@
+package com.alx.chat.unread;
+
+import com.alx.chat.dto.RoomUnreadDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UnreadCountersTest {
+
+    private UnreadCounters counters;
+
+    @BeforeEach
+    void setUp() {
+        counters = new UnreadCounters();
+        counters.putMember(1L, 10L, 0, 0, false);
+        counters.putMember(2L, 10L, 0, 0, false);
+    }
+
+    private long unread(long userId, long roomId) {
+        return counters.getInbox(userId).stream()
+                .filter(room -> room.getRoomId() == roomId)
+                .mapToLong(RoomUnreadDTO::getUnreadCount)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static long notExpected(long afterId, long upToId) {
+        throw new AssertionError("Reading up to the newest message needs no count");
+    }
+
+    @Test
+    void onMessage_IncrementsOtherMembersOnly() {
+        counters.onMessage(10L, 100L, 1L);
+        counters.onMessage(10L, 101L, 1L);
+
+        assertEquals(0, unread(1L, 10L));
+        assertEquals(2, unread(2L, 10L));
+        assertEquals(101L, counters.getLastReadMessageId(1L, 10L));
+        assertEquals(101L, counters.getLastMessageId(10L));
+    }
+
+    @Test
+    void markRead_ResetsCounterAndNeverMovesBack() {
+        counters.onMessage(10L, 100L, 1L);
+        counters.onMessage(10L, 101L, 1L);
+
+        assertTrue(counters.markRead(2L, 10L, 101L, UnreadCountersTest::notExpected));
+        assertEquals(0, unread(2L, 10L));
+        assertFalse(counters.markRead(2L, 10L, 100L, UnreadCountersTest::notExpected));
+        assertEquals(101L, counters.getLastReadMessageId(2L, 10L));
+    }
+
+    @Test
+    void markRead_SubtractsTheMessagesReadUpToTheMarker() {
+        counters.onMessage(10L, 100L, 1L);
+        counters.onMessage(10L, 101L, 1L);
+        counters.onMessage(10L, 102L, 1L);
+
+        assertTrue(counters.markRead(2L, 10L, 101L, (afterId, upToId) -> {
+            assertEquals(0L, afterId);
+            assertEquals(101L, upToId);
+            counters.onMessage(10L, 103L, 1L); // Posted while the read messages are being counted
+            return 2;
+        }));
+        assertEquals(2, unread(2L, 10L));
+        assertEquals(101L, counters.getLastReadMessageId(2L, 10L));
+    }
+
+    @Test
+    void markRead_DoesNotLoseMessagesPostedConcurrently() throws Exception {
+        int messages = 10_000;
+        Thread sender = new Thread(() -> {
+            for (long id = 1; id <= messages; id++) {
+                counters.onMessage(10L, id, 1L);
+            }
+        });
+        sender.start();
+        for (long id = 1; id <= messages; id += 100) {
+            counters.markRead(2L, 10L, id, (afterId, upToId) -> upToId - afterId); // Every message is from user 1
+        }
+        sender.join();
+        long lastRead = counters.getLastReadMessageId(2L, 10L);
+
+        // Exactly the messages after the final marker still count as unread
+        assertEquals(messages - lastRead, unread(2L, 10L));
+    }
+
+    @Test
+    void onMessageDeleted_DecrementsOnlyUnreadMembers() {
+        counters.onMessage(10L, 100L, 1L);
+        counters.onMessageDeleted(10L, 100L);
+
+        assertEquals(0, unread(2L, 10L));
+        assertEquals(0, unread(1L, 10L));
+    }
+
+    @Test
+    void drainDirty_ReturnsEachChangedMarkerOnce() {
+        counters.onMessage(10L, 100L, 1L);
+
+        List<UnreadCounters.DirtyMarker> dirty = counters.drainDirty();
+        assertEquals(2, dirty.size());
+        assertTrue(counters.drainDirty().isEmpty());
+
+        counters.markDirty(dirty);
+        assertEquals(2, counters.drainDirty().size());
+    }
+
+    @Test
+    void removeMember_StopsCounting() {
+        counters.removeMember(2L, 10L);
+        counters.onMessage(10L, 100L, 1L);
+
+        assertFalse(counters.isMember(2L, 10L));
+        assertTrue(counters.getInbox(2L).isEmpty());
+    }
+}
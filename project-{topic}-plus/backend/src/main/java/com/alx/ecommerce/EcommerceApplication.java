@@ -3,9 +3,11 @@ package com.alx.ecommerce;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableCaching // Enable Spring's caching abstraction
+@EnableScheduling // Stock reservation expiry and ledger reconciliation
 public class EcommerceApplication {
 
     public static void main(String[] args) {
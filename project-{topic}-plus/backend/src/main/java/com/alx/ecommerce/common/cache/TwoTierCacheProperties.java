@@ -0,0 +1,59 @@
+package com.alx.ecommerce.common.cache;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Sizes and TTLs of the two cache tiers, with per-cache overrides:
+ * <pre>
+ * cache:
+ *   two-tier:
+ *     defaults: { local-max-size: 10000, local-ttl: 60s, remote-ttl: 60m }
+ *     caches:
+ *       productById: { local-max-size: 50000 }
+ * </pre>
+ */
+@Data
+@ConfigurationProperties(prefix = "cache.two-tier")
+public class TwoTierCacheProperties {
+
+    /** Redis pub/sub channel used to tell other nodes to drop local entries. */
+    private String invalidationChannel = "cache:invalidation";
+
+    private Spec defaults = new Spec();
+
+    /** Per-cache overrides; caches listed here are also created at startup. */
+    private Map<String, Spec> caches = new LinkedHashMap<>();
+
+    /**
+     * Settings of one cache. Unset fields fall back to {@link #defaults}.
+     */
+    @Data
+    public static class Spec {
+        private Long localMaxSize;
+        private Duration localTtl;
+        private Duration remoteTtl;
+    }
+
+    public long localMaxSize(String cacheName) {
+        Spec spec = caches.get(cacheName);
+        return spec != null && spec.getLocalMaxSize() != null ? spec.getLocalMaxSize()
+                : defaults.getLocalMaxSize() != null ? defaults.getLocalMaxSize() : 10_000;
+    }
+
+    public Duration localTtl(String cacheName) {
+        Spec spec = caches.get(cacheName);
+        return spec != null && spec.getLocalTtl() != null ? spec.getLocalTtl()
+                : defaults.getLocalTtl() != null ? defaults.getLocalTtl() : Duration.ofSeconds(60);
+    }
+
+    public Duration remoteTtl(String cacheName) {
+        Spec spec = caches.get(cacheName);
+        return spec != null && spec.getRemoteTtl() != null ? spec.getRemoteTtl()
+                : defaults.getRemoteTtl() != null ? defaults.getRemoteTtl() : Duration.ofMinutes(60);
+    }
+}
@@ -0,0 +1,214 @@
+package com.alx.ecommerce.inventory.service;
+
+import com.alx.ecommerce.product.repository.ProductRepository;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reserves stock at checkout without read-modify-write on {@code Product.stockQuantity}.
+ * <p>
+ * A reservation is first taken from the {@link StockLedger} (CAS, no database access), then the stock is deducted
+ * in the caller's transaction with one batched {@code UPDATE ... WHERE stock_quantity >= ?} per product. The
+ * conditional update is the final guard against overselling; the ledger only keeps sold-out traffic away from the
+ * product rows. When the transaction commits the reservation is confirmed, when it rolls back the stock is returned.
+ * Reservations taken without a transaction that are never completed expire after a TTL, and the ledger is
+ * periodically reconciled with the database.
+ */
+@Service
+@RequiredArgsConstructor
+public class InventoryReservationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(InventoryReservationService.class);
+    private static final String DEDUCT_STOCK_SQL =
+            "UPDATE products SET stock_quantity = stock_quantity - ?, updated_at = CURRENT_TIMESTAMP " +
+            "WHERE id = ? AND stock_quantity >= ?";
+    private static final int RECONCILE_CHUNK_SIZE = 500;
+
+    private final StockLedger stockLedger;
+    private final ProductRepository productRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<String, Reservation> pending = new ConcurrentHashMap<>();
+
+    @Value("${inventory.reservation.ttl-ms:120000}")
+    private long reservationTtlMs;
+
+    @Value("${inventory.ledger.idle-eviction-ms:600000}")
+    private long idleEvictionMs;
+
+    /**
+     * Reserves the quantities and deducts them from {@code products} inside the current transaction. The
+     * reservation completes (or is released) together with the transaction and never expires on its own: releasing
+     * it while the transaction may still commit its deduction would make the stock available twice.
+     *
+     * @param quantities product id to quantity.
+     * @throws IllegalArgumentException if any product does not have enough stock.
+     * @throws IllegalStateException if no transaction is active.
+     */
+    public void reserveForCurrentTransaction(Map<Long, Integer> quantities) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Stock can only be reserved inside a transaction");
+        }
+        Reservation reservation = reserve(quantities, Long.MAX_VALUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    confirm(reservation.getId());
+                } else {
+                    release(reservation.getId());
+                }
+            }
+        });
+        deductStock(reservation);
+    }
+
+    /**
+     * Takes the quantities from the in-memory ledger. The reservation must be confirmed or released, otherwise it
+     * expires after the configured TTL.
+     */
+    public Reservation reserve(Map<Long, Integer> quantities) {
+        return reserve(quantities, System.currentTimeMillis() + reservationTtlMs);
+    }
+
+    private Reservation reserve(Map<Long, Integer> quantities, long expiresAt) {
+        quantities.forEach((productId, quantity) -> {
+            if (quantity == null || quantity <= 0) {
+                throw new IllegalArgumentException("Quantity for product ID " + productId + " must be positive.");
+            }
+        });
+        Long shortOf = stockLedger.reserve(quantities, this::loadStock);
+        if (shortOf != null) {
+            logger.debug("Reservation rejected, not enough stock for product {}", shortOf);
+            throw new IllegalArgumentException("Not enough stock for product ID: " + shortOf);
+        }
+        Reservation reservation = new Reservation(UUID.randomUUID().toString(), Map.copyOf(quantities), expiresAt);
+        pending.put(reservation.getId(), reservation);
+        return reservation;
+    }
+
+    /**
+     * Deducts a reservation from the database with one conditional update per product, in ascending product id
+     * order so concurrent orders lock rows in the same order.
+     *
+     * @throws IllegalArgumentException if the database has less stock than the ledger assumed.
+     */
+    public void deductStock(Reservation reservation) {
+        Map<Long, Integer> sorted = new TreeMap<>(reservation.getQuantities());
+        List<Object[]> args = new ArrayList<>(sorted.size());
+        sorted.forEach((productId, quantity) -> args.add(new Object[]{quantity, productId, quantity}));
+
+        int[] updated = jdbcTemplate.batchUpdate(DEDUCT_STOCK_SQL, args);
+        int i = 0;
+        for (Long productId : sorted.keySet()) {
+            // Drivers may report SUCCESS_NO_INFO (-2) for batched statements; only an explicit 0 means "not enough"
+            if (updated[i++] == 0) {
+                logger.warn("Stock ledger out of sync for product {}, database has less stock than reserved", productId);
+                stockLedger.evict(productId);
+                throw new IllegalArgumentException("Not enough stock for product ID: " + productId);
+            }
+        }
+    }
+
+    public void confirm(String reservationId) {
+        Reservation reservation = pending.remove(reservationId);
+        if (reservation != null) {
+            stockLedger.commit(reservation.getQuantities());
+        }
+    }
+
+    public void release(String reservationId) {
+        Reservation reservation = pending.remove(reservationId);
+        if (reservation != null) {
+            stockLedger.release(reservation.getQuantities());
+        }
+    }
+
+    /**
+     * Reloads a product's stock on next use, after the current transaction commits. Call when stock is changed
+     * outside of reservations (product update or delete).
+     */
+    public void refreshAfterCommit(Long productId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    stockLedger.evict(productId);
+                    reconcile(Set.of(productId));
+                }
+            });
+        } else {
+            stockLedger.evict(productId);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${inventory.reservation.expiry-check-ms:10000}")
+    public void expireReservations() {
+        long now = System.currentTimeMillis();
+        int expired = 0;
+        for (Reservation reservation : pending.values()) {
+            if (reservation.getExpiresAt() <= now) {
+                release(reservation.getId());
+                expired++;
+            }
+        }
+        if (expired > 0) {
+            logger.info("Released {} expired stock reservations", expired);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${inventory.ledger.reconcile-interval-ms:30000}")
+    public void reconcileLedger() {
+        int evicted = stockLedger.evictIdle(System.currentTimeMillis(), idleEvictionMs);
+        Set<Long> tracked = stockLedger.trackedProductIds();
+        int reset = reconcile(tracked);
+        logger.debug("Reconciled {} of {} products with the database, evicted {} idle", reset, tracked.size(), evicted);
+    }
+
+    private int reconcile(Collection<Long> productIds) {
+        List<Long> ids = new ArrayList<>(productIds);
+        int reset = 0;
+        for (int from = 0; from < ids.size(); from += RECONCILE_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + RECONCILE_CHUNK_SIZE, ids.size()));
+            reset += stockLedger.reconcile(chunk, this::loadStock);
+        }
+        return reset;
+    }
+
+    private Map<Long, Integer> loadStock(Collection<Long> productIds) {
+        Map<Long, Integer> stock = new HashMap<>();
+        for (Object[] row : productRepository.findStockByIdIn(productIds)) {
+            stock.put((Long) row[0], (Integer) row[1]);
+        }
+        return stock;
+    }
+
+    /**
+     * Stock held for a checkout until it is confirmed, released or expired.
+     */
+    @Getter
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    public static final class Reservation {
+        private final String id;
+        private final Map<Long, Integer> quantities;
+        private final long expiresAt;
+    }
+}
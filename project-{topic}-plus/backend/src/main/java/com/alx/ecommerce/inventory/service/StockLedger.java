@@ -0,0 +1,219 @@
+package com.alx.ecommerce.inventory.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory stock counters per product, used as a lock-free admission check before an order touches the database.
+ * <p>
+ * Each product keeps the stock still available for new reservations and the quantity held by reservations that are
+ * not committed yet. Reserving is a CAS loop on the available counter, so concurrent checkouts of a hot product never
+ * block each other and sold-out requests are rejected without a database round trip. The invariant is
+ * {@code available = stock in DB - held}; {@link #reconcile} re-establishes it from fresh database values.
+ * <p>
+ * Both counters of a product live in one {@code long} and change together in a single CAS, so no reader ever sees
+ * one updated without the other. {@link #reconcile} writes only if the counters are unchanged since before the
+ * database was read; a snapshot that went stale in the meantime is skipped and corrected by the next reconcile.
+ */
+@Component
+public class StockLedger {
+
+    private final Map<Long, Sku> skus = new ConcurrentHashMap<>();
+
+    /**
+     * Reserves all quantities or none. Products not tracked yet are loaded in one call to {@code stockLoader}; a
+     * product the loader does not return is treated as out of stock.
+     *
+     * @return {@code null} on success, otherwise the id of the first product without enough stock.
+     */
+    public Long reserve(Map<Long, Integer> quantities, Function<Collection<Long>, Map<Long, Integer>> stockLoader) {
+        loadMissing(quantities.keySet(), stockLoader);
+
+        // Ascending product order keeps partial reservations (and their rollback) deterministic
+        Map<Long, Integer> sorted = new TreeMap<>(quantities);
+        List<Map.Entry<Long, Integer>> reserved = new ArrayList<>(sorted.size());
+        for (Map.Entry<Long, Integer> entry : sorted.entrySet()) {
+            Sku sku = skus.get(entry.getKey());
+            if (sku == null || !sku.tryReserve(entry.getValue())) {
+                reserved.forEach(done -> skus.get(done.getKey()).release(done.getValue()));
+                return entry.getKey();
+            }
+            reserved.add(entry);
+        }
+        return null;
+    }
+
+    /**
+     * Returns reserved quantities to the available stock (order rolled back or reservation expired).
+     */
+    public void release(Map<Long, Integer> quantities) {
+        quantities.forEach((productId, quantity) -> {
+            Sku sku = skus.get(productId);
+            if (sku != null) {
+                sku.release(quantity);
+            }
+        });
+    }
+
+    /**
+     * Marks reserved quantities as deducted in the database: they stop being held and stay unavailable.
+     */
+    public void commit(Map<Long, Integer> quantities) {
+        quantities.forEach((productId, quantity) -> {
+            Sku sku = skus.get(productId);
+            if (sku != null) {
+                sku.commit(quantity);
+            }
+        });
+    }
+
+    /**
+     * Resets the available stock of the given products from database values loaded by {@code stockLoader}.
+     * Products the loader does not return (deleted) are dropped. A product reserved, released or committed while
+     * the loader ran keeps its counters: the loaded stock may predate that change.
+     *
+     * @return the number of products whose counters were reset.
+     */
+    public int reconcile(Collection<Long> productIds, Function<Collection<Long>, Map<Long, Integer>> stockLoader) {
+        // Counters are read before the database, so a commit that lands in the database after this read changes them
+        Map<Long, Long> before = new HashMap<>();
+        for (Long productId : productIds) {
+            Sku sku = skus.get(productId);
+            if (sku != null) {
+                before.put(productId, sku.state.get());
+            }
+        }
+        if (before.isEmpty()) {
+            return 0;
+        }
+        Map<Long, Integer> stock = stockLoader.apply(before.keySet());
+        int reset = 0;
+        for (Map.Entry<Long, Long> entry : before.entrySet()) {
+            Long productId = entry.getKey();
+            Integer dbStock = stock.get(productId);
+            if (dbStock == null) {
+                skus.remove(productId);
+                continue;
+            }
+            Sku sku = skus.get(productId);
+            if (sku != null && sku.reset(entry.getValue(), dbStock)) {
+                reset++;
+            }
+        }
+        return reset;
+    }
+
+    /**
+     * Forgets a product so its stock is reloaded on next use, e.g. after an admin changed the stock level.
+     * Products with reservations in flight are reconciled instead of dropped.
+     */
+    public void evict(Long productId) {
+        skus.computeIfPresent(productId, (id, sku) -> sku.held() == 0 ? null : sku);
+    }
+
+    /**
+     * Drops products that have not been reserved for {@code idleMillis} and hold nothing, to bound memory.
+     */
+    public int evictIdle(long nowMillis, long idleMillis) {
+        int before = skus.size();
+        skus.entrySet().removeIf(e -> e.getValue().held() == 0 && nowMillis - e.getValue().lastReservedAt > idleMillis);
+        return before - skus.size();
+    }
+
+    public Set<Long> trackedProductIds() {
+        return Set.copyOf(skus.keySet());
+    }
+
+    /**
+     * Stock available for new reservations, or {@code null} if the product is not tracked.
+     */
+    public Integer getAvailable(Long productId) {
+        Sku sku = skus.get(productId);
+        return sku != null ? sku.available() : null;
+    }
+
+    public Integer getHeld(Long productId) {
+        Sku sku = skus.get(productId);
+        return sku != null ? sku.held() : null;
+    }
+
+    private void loadMissing(Collection<Long> productIds, Function<Collection<Long>, Map<Long, Integer>> stockLoader) {
+        List<Long> missing = productIds.stream().filter(id -> !skus.containsKey(id)).collect(Collectors.toList());
+        if (missing.isEmpty()) {
+            return;
+        }
+        stockLoader.apply(missing).forEach((productId, stock) -> skus.putIfAbsent(productId, new Sku(stock)));
+    }
+
+    private static final class Sku {
+        // Available stock in the high 32 bits, held quantity in the low 32 bits
+        private final AtomicLong state;
+        private volatile long lastReservedAt = System.currentTimeMillis();
+
+        private Sku(int available) {
+            this.state = new AtomicLong(pack(available, 0));
+        }
+
+        private int available() {
+            return available(state.get());
+        }
+
+        private int held() {
+            return held(state.get());
+        }
+
+        private boolean tryReserve(int quantity) {
+            lastReservedAt = System.currentTimeMillis();
+            while (true) {
+                long current = state.get();
+                int available = available(current);
+                if (available < quantity) {
+                    return false;
+                }
+                if (state.compareAndSet(current, pack(available - quantity, held(current) + quantity))) {
+                    return true;
+                }
+            }
+        }
+
+        private void release(int quantity) {
+            state.getAndUpdate(s -> pack(available(s) + quantity, held(s) - quantity));
+        }
+
+        private void commit(int quantity) {
+            state.getAndUpdate(s -> pack(available(s), held(s) - quantity));
+        }
+
+        /**
+         * Sets available to {@code dbStock - held} if the counters still equal {@code expected}. Reserve, release and
+         * commit never bring both counters back to an earlier pair once a commit happened in between, so an
+         * unchanged pair means no reservation reached the database since {@code expected} was read.
+         */
+        private boolean reset(long expected, int dbStock) {
+            return state.compareAndSet(expected, pack(dbStock - held(expected), held(expected)));
+        }
+
+        private static long pack(int available, int held) {
+            return ((long) available << 32) | (held & 0xFFFFFFFFL);
+        }
+
+        private static int available(long state) {
+            return (int) (state >> 32);
+        }
+
+        private static int held(long state) {
+            return (int) state;
+        }
+    }
+}
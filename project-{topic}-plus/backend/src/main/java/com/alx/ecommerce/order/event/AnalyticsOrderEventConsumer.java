@@ -0,0 +1,27 @@
+package com.alx.ecommerce.order.event;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Order metrics: {@code orders.placed}, {@code orders.revenue} and {@code orders.status.transitions}.
+ */
+@Component
+@RequiredArgsConstructor
+public class AnalyticsOrderEventConsumer implements OrderEventConsumer {
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public void onOrderEvent(OrderEvent event) {
+        switch (event.getType()) {
+            case ORDER_PLACED -> {
+                meterRegistry.counter("orders.placed").increment();
+                meterRegistry.summary("orders.revenue").record(event.getTotalAmount().doubleValue());
+            }
+            case ORDER_STATUS_CHANGED -> meterRegistry.counter("orders.status.transitions",
+                    "from", event.getPreviousStatus().name(), "to", event.getStatus().name()).increment();
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.alx.ecommerce.order.event;
+
+import com.alx.ecommerce.order.model.OrderStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hands paid orders over to fulfillment. Orders are only picked once paid; shipping is then confirmed through a
+ * PAID -> SHIPPED status change. Until a warehouse system is connected the hand-over is logged.
+ */
+@Component
+public class FulfillmentOrderEventConsumer implements OrderEventConsumer {
+
+    private static final Logger logger = LoggerFactory.getLogger(FulfillmentOrderEventConsumer.class);
+
+    @Override
+    public void onOrderEvent(OrderEvent event) {
+        if (event.getType() == OrderEventType.ORDER_STATUS_CHANGED && event.getStatus() == OrderStatus.PAID) {
+            logger.info("Order {} paid, released to fulfillment", event.getOrderId());
+        } else if (event.getType() == OrderEventType.ORDER_STATUS_CHANGED && event.getStatus() == OrderStatus.CANCELLED
+                && event.getPreviousStatus() != OrderStatus.PENDING) {
+            logger.info("Order {} cancelled after payment, withdrawn from fulfillment", event.getOrderId());
+        }
+    }
+}
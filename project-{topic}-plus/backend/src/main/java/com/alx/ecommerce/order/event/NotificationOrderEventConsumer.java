@@ -0,0 +1,25 @@
+package com.alx.ecommerce.order.event;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Tells the customer about order milestones. There is no mail or push gateway in this service yet, so the
+ * notification is only logged; a gateway call belongs here, not in the order request path.
+ */
+@Component
+public class NotificationOrderEventConsumer implements OrderEventConsumer {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationOrderEventConsumer.class);
+
+    @Override
+    public void onOrderEvent(OrderEvent event) {
+        switch (event.getType()) {
+            case ORDER_PLACED -> logger.info("Notify user {}: order {} received, total {}", event.getUserId(),
+                    event.getOrderId(), event.getTotalAmount());
+            case ORDER_STATUS_CHANGED -> logger.info("Notify user {}: order {} is now {}", event.getUserId(),
+                    event.getOrderId(), event.getStatus());
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.alx.ecommerce.order.event;
+
+import com.alx.ecommerce.order.model.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderEvent {
+    private Long eventId; // Outbox row id, set on delivery; consumers can use it to drop redeliveries
+    private OrderEventType type;
+    private Long orderId;
+    private Long userId;
+    private OrderStatus previousStatus; // null for ORDER_PLACED
+    private OrderStatus status;
+    private BigDecimal totalAmount;
+    private List<Line> lines; // Only set for ORDER_PLACED
+    private LocalDateTime occurredAt;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Line {
+        private Long productId;
+        private Integer quantity;
+        private BigDecimal priceAtPurchase;
+    }
+}
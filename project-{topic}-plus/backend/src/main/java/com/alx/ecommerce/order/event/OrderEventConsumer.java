@@ -0,0 +1,14 @@
+package com.alx.ecommerce.order.event;
+
+/**
+ * Receives order events from the {@link OrderOutboxRelay}, after the transaction that produced them has committed.
+ * <p>
+ * Delivery is at least once: if a consumer throws, the event is retried for every consumer, so implementations must
+ * tolerate redelivery (see {@link OrderEvent#getEventId()}). Consumers run on the relay thread inside its
+ * transaction; one that writes to the database should use its own transaction so its failure does not roll back
+ * the relay's bookkeeping.
+ */
+public interface OrderEventConsumer {
+
+    void onOrderEvent(OrderEvent event);
+}
@@ -0,0 +1,6 @@
+package com.alx.ecommerce.order.event;
+
+public enum OrderEventType {
+    ORDER_PLACED,
+    ORDER_STATUS_CHANGED
+}
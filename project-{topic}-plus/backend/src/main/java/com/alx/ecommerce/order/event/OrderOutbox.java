@@ -0,0 +1,51 @@
+package com.alx.ecommerce.order.event;
+
+import com.alx.ecommerce.order.model.OrderOutboxEvent;
+import com.alx.ecommerce.order.model.OutboxStatus;
+import com.alx.ecommerce.order.repository.OrderOutboxRepository;
+import com.alx.ecommerce.util.TransactionCallbacks;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+
+/**
+ * Writes order events to the {@code order_outbox} table as part of the caller's transaction, so an event exists
+ * if and only if the order change it describes was committed. The relay is woken up after the commit; its poll
+ * picks up anything the wake-up missed.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderOutbox {
+
+    private final OrderOutboxRepository outboxRepository;
+    private final OrderOutboxRelay relay;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * @throws IllegalStateException if no transaction is active.
+     */
+    public void append(OrderEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Order events can only be written inside a transaction");
+        }
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize order event for order " + event.getOrderId(), e);
+        }
+        outboxRepository.save(OrderOutboxEvent.builder()
+                .orderId(event.getOrderId())
+                .eventType(event.getType())
+                .payload(payload)
+                .status(OutboxStatus.PENDING)
+                .nextAttemptAt(LocalDateTime.now())
+                .build());
+
+        TransactionCallbacks.afterCommit(relay::wakeUp);
+    }
+}
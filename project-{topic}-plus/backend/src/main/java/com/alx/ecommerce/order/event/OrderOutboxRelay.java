@@ -0,0 +1,170 @@
+package com.alx.ecommerce.order.event;
+
+import com.alx.ecommerce.order.model.OrderOutboxEvent;
+import com.alx.ecommerce.order.model.OutboxStatus;
+import com.alx.ecommerce.order.repository.OrderOutboxRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Delivers committed order events from the outbox to every {@link OrderEventConsumer}, off the request thread.
+ * <p>
+ * All deliveries on a node run on one relay thread, started right after a commit that wrote events and
+ * periodically as a fallback. Each batch is read with {@code SELECT ... FOR UPDATE}, so relays on several nodes
+ * take turns. A failed event is retried with exponential backoff and marked {@code FAILED} after the maximum number
+ * of attempts. Delivered events are deleted after the retention period.
+ * <p>
+ * Events of one order are delivered in the order they were written: an event waits until every earlier event of its
+ * order is delivered, so an order's events stop at the first one being retried, and stay stopped behind a
+ * {@code FAILED} one until it is set back to {@code PENDING}. Events of different orders carry no ordering guarantee
+ * once one of them is retried.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderOutboxRelay {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderOutboxRelay.class);
+    private static final long MAX_RETRY_BACKOFF_MS = 300_000;
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final OrderOutboxRepository outboxRepository;
+    private final List<OrderEventConsumer> consumers;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "order-outbox-relay");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean runQueued = new AtomicBoolean();
+
+    @Value("${order.outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${order.outbox.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${order.outbox.retry-backoff-ms:1000}")
+    private long retryBackoffMs;
+
+    @Value("${order.outbox.retention-hours:72}")
+    private long retentionHours;
+
+    /**
+     * Schedules a delivery run on the relay thread. Calls made while a run is queued are folded into it.
+     */
+    public void wakeUp() {
+        if (runQueued.compareAndSet(false, true)) {
+            executor.execute(() -> {
+                runQueued.set(false); // Events committed from now on queue another run
+                try {
+                    publishPending();
+                } catch (RuntimeException e) {
+                    logger.error("Order outbox relay run failed", e);
+                }
+            });
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${order.outbox.poll-interval-ms:5000}",
+            initialDelayString = "${order.outbox.poll-interval-ms:5000}")
+    public void poll() {
+        wakeUp();
+    }
+
+    /**
+     * Delivers all due events, one batch per transaction.
+     *
+     * @return the number of events delivered.
+     */
+    public int publishPending() {
+        int published = 0;
+        int[] batch;
+        do {
+            batch = transactionTemplate.execute(status -> publishBatch());
+            published += batch[1];
+        } while (batch[0] == batchSize);
+        if (published > 0) {
+            logger.debug("Delivered {} order events", published);
+        }
+        return published;
+    }
+
+    /**
+     * @return the number of events claimed and the number of those delivered.
+     */
+    private int[] publishBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<OrderOutboxEvent> events = outboxRepository.findDueForUpdate(now, PageRequest.of(0, batchSize));
+        int published = 0;
+        Set<Long> stoppedOrders = new HashSet<>(); // Orders with an event that failed in this batch
+        for (OrderOutboxEvent outboxEvent : events) {
+            if (stoppedOrders.contains(outboxEvent.getOrderId())) {
+                continue;
+            }
+            try {
+                OrderEvent event = objectMapper.readValue(outboxEvent.getPayload(), OrderEvent.class);
+                event.setEventId(outboxEvent.getId());
+                for (OrderEventConsumer consumer : consumers) {
+                    consumer.onOrderEvent(event);
+                }
+                outboxEvent.setStatus(OutboxStatus.PUBLISHED);
+                outboxEvent.setPublishedAt(now);
+                published++;
+            } catch (Exception e) {
+                recordFailure(outboxEvent, e, now);
+                stoppedOrders.add(outboxEvent.getOrderId());
+            }
+        }
+        return new int[]{events.size(), published};
+    }
+
+    private void recordFailure(OrderOutboxEvent outboxEvent, Exception e, LocalDateTime now) {
+        int attempts = outboxEvent.getAttempts() + 1;
+        outboxEvent.setAttempts(attempts);
+        String error = e.getClass().getSimpleName() + ": " + e.getMessage();
+        outboxEvent.setLastError(error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error);
+        if (attempts >= maxAttempts) {
+            outboxEvent.setStatus(OutboxStatus.FAILED);
+            logger.error("Giving up on order event {} for order {} after {} attempts", outboxEvent.getId(),
+                    outboxEvent.getOrderId(), attempts, e);
+        } else {
+            long backoffMs = Math.min(retryBackoffMs << Math.min(attempts - 1, 20), MAX_RETRY_BACKOFF_MS);
+            outboxEvent.setNextAttemptAt(now.plus(backoffMs, ChronoUnit.MILLIS));
+            logger.warn("Delivery of order event {} failed (attempt {}), retrying in {} ms: {}", outboxEvent.getId(),
+                    attempts, backoffMs, error);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${order.outbox.cleanup-interval-ms:3600000}")
+    public void deletePublished() {
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(retentionHours);
+        Integer deleted = transactionTemplate.execute(status ->
+                outboxRepository.deleteByStatusAndPublishedAtBefore(OutboxStatus.PUBLISHED, cutoff));
+        if (deleted != null && deleted > 0) {
+            logger.info("Deleted {} delivered order events older than {} hours", deleted, retentionHours);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -45,9 +45,10 @@ public class Order {
     @Column(nullable = false)
     private String shippingAddress;
 
-    @NotBlank
+    @NotNull
+    @Enumerated(EnumType.STRING)
     @Column(nullable = false)
-    private String orderStatus; // E.g., PENDING, PROCESSING, SHIPPED, DELIVERED, CANCELLED
+    private OrderStatus orderStatus; // Changed only through allowed transitions, see OrderStatus
 
     @CreationTimestamp
     @Column(nullable = false, updatable = false)
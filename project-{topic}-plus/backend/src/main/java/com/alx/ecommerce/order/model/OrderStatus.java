@@ -0,0 +1,49 @@
+package com.alx.ecommerce.order.model;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Order lifecycle. The main path is PENDING -> PAID -> SHIPPED -> DELIVERED; an order can be cancelled until it
+ * has shipped. {@code PROCESSING} is an optional step between payment and shipping.
+ */
+public enum OrderStatus {
+    PENDING,
+    PAID,
+    PROCESSING,
+    SHIPPED,
+    DELIVERED,
+    CANCELLED;
+
+    private static final Map<OrderStatus, Set<OrderStatus>> TRANSITIONS = new EnumMap<>(OrderStatus.class);
+
+    static {
+        TRANSITIONS.put(PENDING, EnumSet.of(PAID, CANCELLED));
+        TRANSITIONS.put(PAID, EnumSet.of(PROCESSING, SHIPPED, CANCELLED));
+        TRANSITIONS.put(PROCESSING, EnumSet.of(SHIPPED, CANCELLED));
+        TRANSITIONS.put(SHIPPED, EnumSet.of(DELIVERED));
+        TRANSITIONS.put(DELIVERED, EnumSet.noneOf(OrderStatus.class));
+        TRANSITIONS.put(CANCELLED, EnumSet.noneOf(OrderStatus.class));
+    }
+
+    public boolean canTransitionTo(OrderStatus next) {
+        return TRANSITIONS.get(this).contains(next);
+    }
+
+    /**
+     * @throws IllegalArgumentException if the value is not a known status.
+     */
+    public static OrderStatus from(String value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Order status is required.");
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid order status: " + value);
+        }
+    }
+}
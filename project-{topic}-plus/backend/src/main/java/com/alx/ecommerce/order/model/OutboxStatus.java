@@ -0,0 +1,7 @@
+package com.alx.ecommerce.order.model;
+
+public enum OutboxStatus {
+    PENDING,   // Waiting to be delivered (or retried)
+    PUBLISHED, // Delivered to every consumer
+    FAILED     // Gave up after the maximum number of attempts
+}
@@ -4,12 +4,23 @@ import com.alx.ecommerce.order.model.Cart;
 import com.alx.ecommerce.order.model.CartItem;
 import com.alx.ecommerce.product.model.Product;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface CartItemRepository extends JpaRepository<CartItem, Long> {
     Optional<CartItem> findByCartAndProduct(Cart cart, Product product);
     void deleteByCartAndProduct(Cart cart, Product product);
-}
\ No newline at end of file
+
+    @Modifying
+    @Query("DELETE FROM CartItem i WHERE i.cart.id IN (SELECT c.id FROM Cart c WHERE c.user.id = :userId)")
+    int deleteAllByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT DISTINCT c.user.id FROM CartItem i JOIN i.cart c WHERE i.product.id = :productId")
+    List<Long> findCartUserIdsByProductId(@Param("productId") Long productId);
+}
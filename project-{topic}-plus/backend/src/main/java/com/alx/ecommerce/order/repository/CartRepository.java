@@ -3,6 +3,8 @@ package com.alx.ecommerce.order.repository;
 import com.alx.ecommerce.order.model.Cart;
 import com.alx.ecommerce.user.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -10,4 +12,9 @@ import java.util.Optional;
 @Repository
 public interface CartRepository extends JpaRepository<Cart, Long> {
     Optional<Cart> findByUser(User user);
-}
\ No newline at end of file
+
+    // The whole cart aggregate (cart, items and their products) in one query
+    @Query("SELECT DISTINCT c FROM Cart c LEFT JOIN FETCH c.cartItems i LEFT JOIN FETCH i.product " +
+           "WHERE c.user.id = :userId")
+    Optional<Cart> findWithItemsByUserId(@Param("userId") Long userId);
+}
@@ -0,0 +1,55 @@
+package com.alx.ecommerce.order.repository;
+
+import com.alx.ecommerce.order.model.OrderItem;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.List;
+
+/**
+ * Inserts the lines of an order as one JDBC batch. JPA cannot batch inserts for {@code IDENTITY} ids, so saving
+ * the items through the {@link com.alx.ecommerce.order.model.Order} cascade costs one statement per line.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderItemBatchRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO order_items (order_id, product_id, quantity, price_at_purchase, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Inserts the items for an already persisted order and sets their generated ids. Runs on the connection of the
+     * current transaction. The items are not attached to the order's persistence context.
+     */
+    public void insertAll(Long orderId, List<OrderItem> items) {
+        if (items.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_SQL, new String[]{"id"})) {
+                for (OrderItem item : items) {
+                    statement.setLong(1, orderId);
+                    statement.setLong(2, item.getProduct().getId());
+                    statement.setInt(3, item.getQuantity());
+                    statement.setBigDecimal(4, item.getPriceAtPurchase());
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+                try (ResultSet keys = statement.getGeneratedKeys()) {
+                    int i = 0;
+                    while (i < items.size() && keys.next()) {
+                        items.get(i++).setId(keys.getLong(1));
+                    }
+                }
+            }
+            return null;
+        });
+    }
+}
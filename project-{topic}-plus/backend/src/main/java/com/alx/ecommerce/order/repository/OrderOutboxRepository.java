@@ -0,0 +1,32 @@
+package com.alx.ecommerce.order.repository;
+
+import com.alx.ecommerce.order.model.OrderOutboxEvent;
+import com.alx.ecommerce.order.model.OutboxStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface OrderOutboxRepository extends JpaRepository<OrderOutboxEvent, Long> {
+
+    // Locks the batch so relays on other nodes wait instead of delivering the same events, in id order.
+    // An event is only due once every earlier event of its order is delivered, so one order's events never overtake
+    // each other.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM OrderOutboxEvent e WHERE e.status = com.alx.ecommerce.order.model.OutboxStatus.PENDING " +
+           "AND e.nextAttemptAt <= :now AND NOT EXISTS (SELECT p.id FROM OrderOutboxEvent p WHERE p.orderId = e.orderId " +
+           "AND p.id < e.id AND p.status <> com.alx.ecommerce.order.model.OutboxStatus.PUBLISHED) ORDER BY e.id")
+    List<OrderOutboxEvent> findDueForUpdate(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM OrderOutboxEvent e WHERE e.status = :status AND e.publishedAt < :before")
+    int deleteByStatusAndPublishedAtBefore(@Param("status") OutboxStatus status, @Param("before") LocalDateTime before);
+}
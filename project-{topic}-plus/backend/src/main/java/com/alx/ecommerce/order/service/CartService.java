@@ -14,28 +14,43 @@ import com.alx.ecommerce.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+/**
+ * Cart operations. Each operation loads the cart aggregate (cart, items, products) with one query, and the
+ * resulting cart is kept in the per-user {@value #CARTS_CACHE} cache so reads do not go to the database.
+ * <p>
+ * Writes update the cache only once their transaction has committed, so a rolled-back change never shows up in a
+ * cached cart. A read that loaded the cart before such a commit can still cache the older version afterwards; the
+ * cache TTL bounds how long it stays.
+ */
 @Service
 @RequiredArgsConstructor
 public class CartService {
 
+    public static final String CARTS_CACHE = "carts";
+
     private static final Logger logger = LoggerFactory.getLogger(CartService.class);
     private final CartRepository cartRepository;
     private final CartItemRepository cartItemRepository;
     private final ProductRepository productRepository;
     private final UserRepository userRepository;
+    private final CacheManager cacheManager;
 
     @Transactional
     public CartDTO addToCart(Long userId, AddToCartRequest request) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
         Product product = productRepository.findById(request.getProductId())
                 .orElseThrow(() -> new ResourceNotFoundException("Product", "id", request.getProductId()));
 
@@ -43,12 +58,14 @@ public class CartService {
             throw new IllegalArgumentException("Not enough stock for product: " + product.getName() + ". Available: " + product.getStockQuantity());
         }
 
-        Cart cart = cartRepository.findByUser(user).orElseGet(() -> {
-            Cart newCart = Cart.builder().user(user).build();
+        Cart cart = cartRepository.findWithItemsByUserId(userId).orElseGet(() -> {
+            User user = userRepository.findById(userId)
+                    .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
+            Cart newCart = Cart.builder().user(user).cartItems(new ArrayList<>()).build();
             return cartRepository.save(newCart);
         });
 
-        Optional<CartItem> existingCartItem = cartItemRepository.findByCartAndProduct(cart, product);
+        Optional<CartItem> existingCartItem = findItem(cart, product.getId());
 
         if (existingCartItem.isPresent()) {
             CartItem item = existingCartItem.get();
@@ -69,16 +86,19 @@ public class CartService {
             logger.info("Added product {} to cart {} for user {}", product.getName(), cart.getId(), userId);
         }
 
-        return getCartByUserId(userId);
+        return cache(convertToDto(cart));
     }
 
+    @Transactional(readOnly = true)
+    @Cacheable(value = CARTS_CACHE, key = "#userId")
     public CartDTO getCartByUserId(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
-        Cart cart = cartRepository.findByUser(user)
+        Cart cart = cartRepository.findWithItemsByUserId(userId)
                 .orElse(null); // Return null if cart doesn't exist yet for the user
 
         if (cart == null) {
+            if (!userRepository.existsById(userId)) {
+                throw new ResourceNotFoundException("User", "id", userId);
+            }
             return CartDTO.builder()
                     .userId(userId)
                     .cartItems(List.of())
@@ -94,15 +114,10 @@ public class CartService {
             return removeCartItem(userId, productId);
         }
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
-        Cart cart = cartRepository.findByUser(user)
-                .orElseThrow(() -> new ResourceNotFoundException("Cart", "user id", userId));
-        Product product = productRepository.findById(productId)
-                .orElseThrow(() -> new ResourceNotFoundException("Product", "id", productId));
-
-        CartItem cartItem = cartItemRepository.findByCartAndProduct(cart, product)
+        Cart cart = findCart(userId);
+        CartItem cartItem = findItem(cart, productId)
                 .orElseThrow(() -> new ResourceNotFoundException("CartItem", "product id", productId));
+        Product product = cartItem.getProduct(); // Fetched with the cart
 
         if (product.getStockQuantity() < quantity) {
             throw new IllegalArgumentException("Not enough stock for product: " + product.getName() + ". Available: " + product.getStockQuantity());
@@ -111,37 +126,64 @@ public class CartService {
         cartItem.setQuantity(quantity);
         cartItemRepository.save(cartItem);
         logger.info("Updated quantity of product {} in cart {} to {}", product.getName(), cart.getId(), quantity);
-        return convertToDto(cart);
+        return cache(convertToDto(cart));
     }
 
     @Transactional
     public CartDTO removeCartItem(Long userId, Long productId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
-        Cart cart = cartRepository.findByUser(user)
-                .orElseThrow(() -> new ResourceNotFoundException("Cart", "user id", userId));
-        Product product = productRepository.findById(productId)
-                .orElseThrow(() -> new ResourceNotFoundException("Product", "id", productId));
-
-        CartItem cartItem = cartItemRepository.findByCartAndProduct(cart, product)
+        Cart cart = findCart(userId);
+        CartItem cartItem = findItem(cart, productId)
                 .orElseThrow(() -> new ResourceNotFoundException("CartItem", "product id", productId));
 
         cart.getCartItems().remove(cartItem); // Remove from collection to ensure orphanRemoval works
         cartItemRepository.delete(cartItem);
-        logger.info("Removed product {} from cart {} for user {}", product.getName(), cart.getId(), userId);
-        return convertToDto(cart);
+        logger.info("Removed product {} from cart {} for user {}", cartItem.getProduct().getName(), cart.getId(), userId);
+        return cache(convertToDto(cart));
     }
 
+    /**
+     * Deletes all items of the user's cart with a single statement. Does nothing if the user has no cart.
+     */
     @Transactional
     public void clearCart(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
-        Cart cart = cartRepository.findByUser(user)
+        int deleted = cartItemRepository.deleteAllByUserId(userId);
+        cartsCache().evict(userId);
+        logger.info("Cleared {} items from the cart of user {}", deleted, userId);
+    }
+
+    /**
+     * Drops the cached carts that contain the product, after the current transaction commits. Call when a product
+     * changes in a way carts show (name, image, price) or is deleted.
+     */
+    @Transactional(readOnly = true)
+    public void evictCartsContaining(Long productId) {
+        Cache cache = cartsCache();
+        List<Long> userIds = cartItemRepository.findCartUserIdsByProductId(productId);
+        userIds.forEach(cache::evict);
+        logger.debug("Evicted {} cached carts containing product {}", userIds.size(), productId);
+    }
+
+    /**
+     * The carts cache with writes deferred until the current transaction commits, and dropped if it rolls back.
+     */
+    private Cache cartsCache() {
+        return new TransactionAwareCacheDecorator(Objects.requireNonNull(cacheManager.getCache(CARTS_CACHE)));
+    }
+
+    private CartDTO cache(CartDTO cart) {
+        cartsCache().put(cart.getUserId(), cart);
+        return cart;
+    }
+
+    private Cart findCart(Long userId) {
+        return cartRepository.findWithItemsByUserId(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("Cart", "user id", userId));
+    }
 
-        cartItemRepository.deleteAll(cart.getCartItems()); // Delete all items associated with this cart
-        cart.getCartItems().clear(); // Clear the collection
-        logger.info("Cleared cart {} for user {}", cart.getId(), userId);
+    private Optional<CartItem> findItem(Cart cart, Long productId) {
+        return cart.getCartItems().stream()
+                .filter(item -> item.getProduct().getId().equals(productId))
+                .findFirst();
     }
 
     private CartDTO convertToDto(Cart cart) {
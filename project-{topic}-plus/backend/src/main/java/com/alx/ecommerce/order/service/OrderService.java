@@ -1,15 +1,20 @@
 package com.alx.ecommerce.order.service;
 
 import com.alx.ecommerce.common.exceptions.ResourceNotFoundException;
+import com.alx.ecommerce.inventory.service.InventoryReservationService;
 import com.alx.ecommerce.order.dto.OrderDTO;
+import com.alx.ecommerce.order.event.OrderEvent;
+import com.alx.ecommerce.order.event.OrderEventType;
+import com.alx.ecommerce.order.event.OrderOutbox;
 import com.alx.ecommerce.order.model.Cart;
 import com.alx.ecommerce.order.model.CartItem;
 import com.alx.ecommerce.order.model.Order;
 import com.alx.ecommerce.order.model.OrderItem;
+import com.alx.ecommerce.order.model.OrderStatus;
 import com.alx.ecommerce.order.repository.CartRepository;
+import com.alx.ecommerce.order.repository.OrderItemBatchRepository;
 import com.alx.ecommerce.order.repository.OrderRepository;
 import com.alx.ecommerce.product.model.Product;
-import com.alx.ecommerce.product.repository.ProductRepository;
 import com.alx.ecommerce.user.model.User;
 import com.alx.ecommerce.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -19,8 +24,11 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -30,32 +38,37 @@ public class OrderService {
     private static final Logger logger = LoggerFactory.getLogger(OrderService.class);
     private final OrderRepository orderRepository;
     private final CartRepository cartRepository;
+    private final OrderItemBatchRepository orderItemBatchRepository;
     private final UserRepository userRepository;
-    private final ProductRepository productRepository;
     private final CartService cartService; // To clear cart after order
+    private final InventoryReservationService inventoryReservationService;
+    private final OrderOutbox orderOutbox;
 
     @Transactional
     public OrderDTO placeOrder(Long userId, String shippingAddress) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
 
-        Cart cart = cartRepository.findByUser(user)
+        // Cart, items and products in one query
+        Cart cart = cartRepository.findWithItemsByUserId(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("Cart", "user id", userId));
 
         if (cart.getCartItems().isEmpty()) {
             throw new IllegalArgumentException("Cannot place order with an empty cart.");
         }
 
-        // Validate stock and prepare order items
+        // Reserve stock for the whole cart at once (one IN query for uncached stock, one batched update);
+        // deducted in this transaction, returned if it rolls back
+        Map<Long, Integer> quantities = new HashMap<>();
+        cart.getCartItems().forEach(item -> quantities.merge(item.getProduct().getId(), item.getQuantity(), Integer::sum));
+        inventoryReservationService.reserveForCurrentTransaction(quantities);
+
+        // Prepare order items
         List<OrderItem> orderItems = new ArrayList<>();
         BigDecimal totalAmount = BigDecimal.ZERO;
 
         for (CartItem cartItem : cart.getCartItems()) {
             Product product = cartItem.getProduct();
-            if (product.getStockQuantity() < cartItem.getQuantity()) {
-                throw new IllegalArgumentException("Not enough stock for product: " + product.getName() + ". Available: " + product.getStockQuantity());
-            }
-
             OrderItem orderItem = OrderItem.builder()
                     .product(product)
                     .quantity(cartItem.getQuantity())
@@ -63,29 +76,37 @@ public class OrderService {
                     .build();
             orderItems.add(orderItem);
             totalAmount = totalAmount.add(orderItem.getTotalPrice());
-
-            // Reduce product stock
-            product.setStockQuantity(product.getStockQuantity() - cartItem.getQuantity());
-            productRepository.save(product); // Save updated product stock
         }
 
         Order order = Order.builder()
                 .user(user)
+                .orderItems(new ArrayList<>())
                 .totalAmount(totalAmount)
                 .shippingAddress(shippingAddress)
-                .orderStatus("PENDING") // Initial status
+                .orderStatus(OrderStatus.PENDING) // Initial status
                 .build();
 
-        orderItems.forEach(item -> item.setOrder(order)); // Link order items to the new order
-        order.setOrderItems(orderItems);
-
         Order savedOrder = orderRepository.save(order);
+        // Items go in as one JDBC batch instead of one insert per line through the cascade
+        orderItemBatchRepository.insertAll(savedOrder.getId(), orderItems);
 
         // Clear the user's cart after placing the order
         cartService.clearCart(userId);
+        // Everything downstream (fulfillment, notification, analytics) runs from the outbox after commit
+        orderOutbox.append(OrderEvent.builder()
+                .type(OrderEventType.ORDER_PLACED)
+                .orderId(savedOrder.getId())
+                .userId(userId)
+                .status(OrderStatus.PENDING)
+                .totalAmount(totalAmount)
+                .lines(orderItems.stream()
+                        .map(item -> new OrderEvent.Line(item.getProduct().getId(), item.getQuantity(), item.getPriceAtPurchase()))
+                        .collect(Collectors.toList()))
+                .occurredAt(LocalDateTime.now())
+                .build());
         logger.info("Order placed successfully for user {}. Order ID: {}", userId, savedOrder.getId());
 
-        return convertToDto(savedOrder);
+        return convertToDto(savedOrder, orderItems);
     }
 
     public List<OrderDTO> getUserOrders(Long userId) {
@@ -104,28 +125,44 @@ public class OrderService {
         return convertToDto(order);
     }
 
+    /**
+     * Moves an order to a new status if {@link OrderStatus} allows the transition, and records the change in the
+     * order outbox.
+     *
+     * @throws IllegalArgumentException if the status is unknown or the transition is not allowed.
+     */
     @Transactional
     public OrderDTO updateOrderStatus(Long orderId, String newStatus) {
-        Order order = orderRepository.findById(orderId)
+        OrderStatus target = OrderStatus.from(newStatus);
+        Order order = orderRepository.findByIdForUpdate(orderId)
                 .orElseThrow(() -> new ResourceNotFoundException("Order", "id", orderId));
 
-        // Basic validation for status (can be enhanced with enum or state machine)
-        if (!isValidStatus(newStatus)) {
-            throw new IllegalArgumentException("Invalid order status: " + newStatus);
+        OrderStatus current = order.getOrderStatus();
+        if (!current.canTransitionTo(target)) {
+            throw new IllegalArgumentException("Cannot change order status from " + current + " to " + target);
         }
 
-        order.setOrderStatus(newStatus);
+        order.setOrderStatus(target);
         Order updatedOrder = orderRepository.save(order);
-        logger.info("Order {} status updated to {}", orderId, newStatus);
+        orderOutbox.append(OrderEvent.builder()
+                .type(OrderEventType.ORDER_STATUS_CHANGED)
+                .orderId(orderId)
+                .userId(order.getUser().getId())
+                .previousStatus(current)
+                .status(target)
+                .totalAmount(order.getTotalAmount())
+                .occurredAt(LocalDateTime.now())
+                .build());
+        logger.info("Order {} status updated from {} to {}", orderId, current, target);
         return convertToDto(updatedOrder);
     }
 
-    private boolean isValidStatus(String status) {
-        return List.of("PENDING", "PROCESSING", "SHIPPED", "DELIVERED", "CANCELLED").contains(status.toUpperCase());
+    private OrderDTO convertToDto(Order order) {
+        return convertToDto(order, order.getOrderItems());
     }
 
-    private OrderDTO convertToDto(Order order) {
-        List<OrderDTO.OrderItemDTO> itemDTOs = order.getOrderItems().stream()
+    private OrderDTO convertToDto(Order order, List<OrderItem> orderItems) {
+        List<OrderDTO.OrderItemDTO> itemDTOs = orderItems.stream()
                 .map(item -> OrderDTO.OrderItemDTO.builder()
                         .id(item.getId())
                         .productId(item.getProduct().getId())
@@ -144,7 +181,7 @@ public class OrderService {
                 .orderItems(itemDTOs)
                 .totalAmount(order.getTotalAmount())
                 .shippingAddress(order.getShippingAddress())
-                .orderStatus(order.getOrderStatus())
+                .orderStatus(order.getOrderStatus().name())
                 .orderDate(order.getOrderDate())
                 .updatedAt(order.getUpdatedAt())
                 .build();
@@ -0,0 +1,360 @@
+package com.alx.ecommerce.product.cache;
+
+import com.alx.ecommerce.order.service.CartService;
+import com.alx.ecommerce.product.dto.ProductDTO;
+import com.alx.ecommerce.util.TransactionCallbacks;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Dependency-tracked invalidation of the product caches.
+ * <p>
+ * Whenever a product page or category listing is cached, the cache entry is recorded in Redis sets under each
+ * product id, category id and sort property it depends on. A product write then only touches the entries that
+ * contain that product: its {@code productById} entry and category listing are patched in place with the new DTO,
+ * the pages containing it are evicted, and pages sorted by a property that changed are evicted as the product may
+ * have moved into them. Only creating or deleting a product still drops every page, since it shifts page
+ * boundaries. The index lives in Redis so that it covers entries cached by every node.
+ * <p>
+ * Invalidation runs after the transaction commits. A reader that loaded the old row before the commit may still
+ * cache it after the invalidation has run, so entries are filled through {@link #cached}: every invalidation first
+ * bumps a shared write counter, and an entry loaded while the counter moved is evicted again once it is cached and
+ * recorded. Besides the per-cache hit/miss metrics ({@code cache.gets}), {@code product.cache.evictions.per.write} records how many
+ * entries each write evicted and {@code product.cache.patches} how many were patched instead.
+ */
+@Component
+public class ProductCacheInvalidator {
+
+    public static final String PRODUCTS = "products";
+    public static final String PRODUCT_BY_ID = "productById";
+    public static final String PRODUCTS_BY_CATEGORY = "productsByCategory";
+
+    private static final Logger logger = LoggerFactory.getLogger(ProductCacheInvalidator.class);
+    private static final String DEPS_PREFIX = "product-cache:deps:";
+    private static final String SEPARATOR = "|";
+    private static final String WRITES_KEY = DEPS_PREFIX + "writes";
+
+    private final CacheManager cacheManager;
+    private final StringRedisTemplate redisTemplate;
+    private final DistributionSummary evictionsPerWrite;
+    private final Counter patches;
+
+    @Value("${product-cache.dependency-ttl-seconds:3900}")
+    private long dependencyTtlSeconds; // Slightly longer than the cache TTL, so no live entry outlives its record
+
+    public ProductCacheInvalidator(CacheManager cacheManager, StringRedisTemplate redisTemplate, MeterRegistry meterRegistry) {
+        this.cacheManager = cacheManager;
+        this.redisTemplate = redisTemplate;
+        this.evictionsPerWrite = DistributionSummary.builder("product.cache.evictions.per.write")
+                .description("Product cache entries evicted by one product or category write")
+                .register(meterRegistry);
+        this.patches = Counter.builder("product.cache.patches")
+                .description("Product cache entries updated in place instead of evicted")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Cache key of a catalog page, shared by the cache and the dependency index.
+     */
+    public static String pageKey(Pageable pageable) {
+        return pageable.getPageNumber() + ":" + pageable.getPageSize() + ":" + pageable.getSort();
+    }
+
+    /**
+     * Returns the entry cached under {@code key}, or loads it, caches it and hands it to {@code recorder} to record
+     * its dependencies. If a product write was invalidated while the entry was loading, the invalidation may have
+     * run before the entry was cached or recorded, so the entry is evicted again; the next read loads it afresh.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T cached(String cacheName, Object key, Supplier<T> loader, Consumer<T> recorder) {
+        Cache cache = cacheManager.getCache(cacheName);
+        Cache.ValueWrapper hit = cache != null ? cache.get(key) : null;
+        if (hit != null) {
+            return (T) hit.get();
+        }
+        String writesBefore = redisTemplate.opsForValue().get(WRITES_KEY);
+        T value = loader.get();
+        if (cache != null) {
+            cache.put(key, value);
+            recorder.accept(value);
+            if (!Objects.equals(writesBefore, redisTemplate.opsForValue().get(WRITES_KEY))) {
+                cache.evict(key);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Records what a catalog page being cached depends on.
+     */
+    public void recordPage(Pageable pageable, Collection<ProductDTO> products) {
+        String entry = entry(PRODUCTS, pageKey(pageable));
+        List<String> sets = new ArrayList<>();
+        for (ProductDTO product : products) {
+            sets.add(productDeps(product.getId()));
+            sets.add(categoryDeps(product.getCategoryId()));
+        }
+        for (Sort.Order order : pageable.getSort()) {
+            sets.add(sortDeps(order.getProperty()));
+        }
+        record(entry, sets);
+    }
+
+    /**
+     * Records what a category listing being cached depends on.
+     */
+    public void recordCategoryListing(Long categoryId, Collection<ProductDTO> products) {
+        List<String> sets = new ArrayList<>();
+        sets.add(categoryDeps(categoryId));
+        products.forEach(product -> sets.add(productDeps(product.getId())));
+        record(entry(PRODUCTS_BY_CATEGORY, String.valueOf(categoryId)), sets);
+    }
+
+    /**
+     * Records that a cached single product carries its category's name.
+     */
+    public void recordProduct(ProductDTO product) {
+        record(entry(PRODUCT_BY_ID, String.valueOf(product.getId())), List.of(categoryDeps(product.getCategoryId())));
+    }
+
+    public void productCreated(ProductDTO created) {
+        invalidateAfterCommit(() -> {
+            int evicted = clear(PRODUCTS);
+            evicted += evict(PRODUCTS_BY_CATEGORY, created.getCategoryId()) ? 1 : 0;
+            evictionsPerWrite.record(evicted);
+        });
+    }
+
+    /**
+     * @param before the product as it was before the write.
+     * @param after  the product as written.
+     */
+    public void productUpdated(ProductDTO before, ProductDTO after) {
+        invalidateAfterCommit(() -> {
+            int evicted = 0;
+            boolean categoryChanged = !Objects.equals(before.getCategoryId(), after.getCategoryId());
+
+            Set<String> dependents = new LinkedHashSet<>(members(productDeps(after.getId())));
+            Set<String> sortSets = new HashSet<>();
+            for (String property : changedProperties(before, after)) {
+                sortSets.add(sortDeps(property));
+                dependents.addAll(members(sortDeps(property)));
+            }
+            for (String entry : dependents) {
+                String cacheName = entry.substring(0, entry.indexOf(SEPARATOR));
+                String key = entry.substring(entry.indexOf(SEPARATOR) + 1);
+                if (PRODUCTS_BY_CATEGORY.equals(cacheName) && !categoryChanged
+                        && patchListing(Long.valueOf(key), after)) {
+                    continue;
+                }
+                evicted += evictEntry(entry) ? 1 : 0;
+            }
+            if (categoryChanged) {
+                evicted += evict(PRODUCTS_BY_CATEGORY, after.getCategoryId()) ? 1 : 0;
+            }
+            if (patch(PRODUCT_BY_ID, after.getId(), after)) {
+                // The put restarts the entry's TTL and it may now show another category: record it again
+                if (categoryChanged) {
+                    redisTemplate.opsForSet().remove(categoryDeps(before.getCategoryId()),
+                            entry(PRODUCT_BY_ID, String.valueOf(after.getId())));
+                }
+                recordProduct(after);
+            }
+            sortSets.forEach(redisTemplate::delete);
+            evictionsPerWrite.record(evicted);
+        });
+    }
+
+    public void productDeleted(Long productId) {
+        invalidateAfterCommit(() -> {
+            int evicted = clear(PRODUCTS);
+            for (String entry : members(productDeps(productId))) {
+                if (!entry.startsWith(PRODUCTS + SEPARATOR)) {
+                    evicted += evictEntry(entry) ? 1 : 0;
+                }
+            }
+            evicted += evict(PRODUCT_BY_ID, productId) ? 1 : 0;
+            redisTemplate.delete(productDeps(productId));
+            evictionsPerWrite.record(evicted);
+        });
+    }
+
+    /**
+     * Drops every product cache entry at once, for bulk writes that touch too many products to track one by one.
+     * Cached carts carry product names, prices and stock too, so they are dropped as well. Dependency records left
+     * behind only point at entries that are gone, and expire with their TTL.
+     */
+    public void catalogChanged() {
+        invalidateAfterCommit(() -> evictionsPerWrite.record(clear(PRODUCTS) + clear(PRODUCT_BY_ID)
+                + clear(PRODUCTS_BY_CATEGORY) + clear(CartService.CARTS_CACHE)));
+    }
+
+    /**
+     * Evicts every cached product entry that shows the category's name.
+     */
+    public void categoryChanged(Long categoryId) {
+        invalidateAfterCommit(() -> {
+            int evicted = 0;
+            for (String entry : members(categoryDeps(categoryId))) {
+                evicted += evictEntry(entry) ? 1 : 0;
+            }
+            redisTemplate.delete(categoryDeps(categoryId));
+            evictionsPerWrite.record(evicted);
+        });
+    }
+
+    /**
+     * Runs an invalidation once the transaction commits, after bumping the write counter {@link #cached} checks.
+     */
+    private void invalidateAfterCommit(Runnable invalidation) {
+        TransactionCallbacks.afterCommit(() -> {
+            redisTemplate.opsForValue().increment(WRITES_KEY);
+            invalidation.run();
+        });
+    }
+
+    /**
+     * Properties a catalog page may be sorted by whose value differs between the two versions.
+     */
+    static Set<String> changedProperties(ProductDTO before, ProductDTO after) {
+        Set<String> changed = new HashSet<>();
+        addIfChanged(changed, "name", before, after, ProductDTO::getName);
+        addIfChanged(changed, "sku", before, after, ProductDTO::getSku);
+        addIfChanged(changed, "description", before, after, ProductDTO::getDescription);
+        addIfChanged(changed, "price", before, after, ProductDTO::getPrice);
+        addIfChanged(changed, "stockQuantity", before, after, ProductDTO::getStockQuantity);
+        addIfChanged(changed, "imageUrl", before, after, ProductDTO::getImageUrl);
+        addIfChanged(changed, "categoryId", before, after, ProductDTO::getCategoryId);
+        addIfChanged(changed, "category", before, after, ProductDTO::getCategoryId);
+        addIfChanged(changed, "updatedAt", before, after, ProductDTO::getUpdatedAt);
+        return changed;
+    }
+
+    private static void addIfChanged(Set<String> changed, String property, ProductDTO before, ProductDTO after,
+                                     Function<ProductDTO, Object> getter) {
+        Object a = getter.apply(before);
+        Object b = getter.apply(after);
+        // compareTo for BigDecimal, so 10.0 and 10.00 are the same price
+        boolean same = a instanceof Comparable && b != null && a.getClass() == b.getClass()
+                ? compare(a, b) == 0 : Objects.equals(a, b);
+        if (!same) {
+            changed.add(property);
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static int compare(Object a, Object b) {
+        return ((Comparable) a).compareTo(b);
+    }
+
+    private boolean patchListing(Long categoryId, ProductDTO product) {
+        Cache cache = cacheManager.getCache(PRODUCTS_BY_CATEGORY);
+        Cache.ValueWrapper cached = cache != null ? cache.get(categoryId) : null;
+        if (cached == null || !(cached.get() instanceof List)) {
+            return cached == null; // Already gone: nothing to evict
+        }
+        List<ProductDTO> patched = new ArrayList<>();
+        for (Object item : (List<?>) cached.get()) {
+            ProductDTO dto = (ProductDTO) item;
+            patched.add(Objects.equals(dto.getId(), product.getId()) ? product : dto);
+        }
+        cache.put(categoryId, patched);
+        patches.increment();
+        return true;
+    }
+
+    private boolean patch(String cacheName, Long key, ProductDTO product) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            return false;
+        }
+        cache.put(key, product);
+        patches.increment();
+        return true;
+    }
+
+    private boolean evictEntry(String entry) {
+        int separator = entry.indexOf(SEPARATOR);
+        String cacheName = entry.substring(0, separator);
+        String key = entry.substring(separator + 1);
+        // Page keys are strings, the other caches are keyed by id
+        return evict(cacheName, PRODUCTS.equals(cacheName) ? key : Long.valueOf(key));
+    }
+
+    private boolean evict(String cacheName, Object key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            return false;
+        }
+        cache.evict(key); // Not evictIfPresent: RedisCache cannot tell whether the key existed
+        return true;
+    }
+
+    private int clear(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.clear();
+        }
+        return 1; // Count a whole-cache clear once, the number of pages it held is unknown
+    }
+
+    private Set<String> members(String set) {
+        Set<String> members = redisTemplate.opsForSet().members(set);
+        return members != null ? members : Set.of();
+    }
+
+    private void record(String entry, Collection<String> sets) {
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection redis = (StringRedisConnection) connection;
+                for (String set : new LinkedHashSet<>(sets)) {
+                    redis.sAdd(set, entry);
+                    redis.expire(set, dependencyTtlSeconds);
+                }
+                return null;
+            });
+        } catch (RuntimeException e) {
+            // The entry could then miss a targeted eviction; it still expires with the cache TTL
+            logger.warn("Failed to record cache dependencies of {}: {}", entry, e.getMessage());
+        }
+    }
+
+    private static String entry(String cacheName, String key) {
+        return cacheName + SEPARATOR + key;
+    }
+
+    private static String productDeps(Long productId) {
+        return DEPS_PREFIX + "product:" + productId;
+    }
+
+    private static String categoryDeps(Long categoryId) {
+        return DEPS_PREFIX + "category:" + categoryId;
+    }
+
+    private static String sortDeps(String property) {
+        return DEPS_PREFIX + "sort:" + property;
+    }
+}
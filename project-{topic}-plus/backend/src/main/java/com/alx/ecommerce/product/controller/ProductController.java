@@ -2,7 +2,11 @@ package com.alx.ecommerce.product.controller;
 
 import com.alx.ecommerce.common.ApiResponse;
 import com.alx.ecommerce.product.dto.ProductDTO;
+import com.alx.ecommerce.product.dto.ProductImportReportDTO;
+import com.alx.ecommerce.product.dto.ProductSearchResultDTO;
+import com.alx.ecommerce.product.service.ProductCatalogTransferService;
 import com.alx.ecommerce.product.service.ProductService;
+import com.alx.ecommerce.product.transfer.CatalogFormat;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -11,11 +15,17 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
 import java.util.List;
 
 @RestController
@@ -25,6 +35,7 @@ import java.util.List;
 public class ProductController {
 
     private final ProductService productService;
+    private final ProductCatalogTransferService productCatalogTransferService;
 
     @PostMapping
     @PreAuthorize("hasRole('ADMIN')")
@@ -57,10 +68,15 @@ public class ProductController {
     }
 
     @GetMapping("/search")
-    @Operation(summary = "Search products by keyword", description = "Searches for products matching a keyword in their name or description.")
-    public ResponseEntity<ApiResponse<List<ProductDTO>>> searchProducts(@RequestParam String keyword) {
-        List<ProductDTO> products = productService.searchProducts(keyword);
-        return new ResponseEntity<>(new ApiResponse<>(true, "Products found", products), HttpStatus.OK);
+    @Operation(summary = "Search products by keyword", description = "Full-text search over product names and descriptions, ranked by relevance, with category and price range facets. Tolerates a typo per word and matches the last word as a prefix.")
+    public ResponseEntity<ApiResponse<ProductSearchResultDTO>> searchProducts(@RequestParam String keyword,
+                                                                              @RequestParam(required = false) Long categoryId,
+                                                                              @RequestParam(required = false) BigDecimal minPrice,
+                                                                              @RequestParam(required = false) BigDecimal maxPrice,
+                                                                              @RequestParam(defaultValue = "0") int page,
+                                                                              @RequestParam(defaultValue = "20") int size) {
+        ProductSearchResultDTO result = productService.searchProducts(keyword, categoryId, minPrice, maxPrice, page, size);
+        return new ResponseEntity<>(new ApiResponse<>(true, "Products found", result), HttpStatus.OK);
     }
 
     @PutMapping("/{id}")
@@ -80,4 +96,29 @@ public class ProductController {
         productService.deleteProduct(id);
         return new ResponseEntity<>(new ApiResponse<>(true, "Product deleted successfully"), HttpStatus.NO_CONTENT);
     }
-}
\ No newline at end of file
+
+    @PostMapping("/import")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Bulk import products", description = "Streams a CSV (with header) or JSONL request body with the columns sku, name, description, price, stock_quantity, image_url and category (name) or category_id, and creates or updates products by SKU. Invalid rows are skipped and reported by line. Requires ADMIN role.")
+    @SecurityRequirement(name = "bearerAuth")
+    public ResponseEntity<ApiResponse<ProductImportReportDTO>> importProducts(@RequestParam(defaultValue = "csv") String format,
+                                                                              InputStream body) throws IOException {
+        ProductImportReportDTO report = productCatalogTransferService.importCatalog(body, CatalogFormat.from(format));
+        String message = report.getRowsFailed() == 0 ? "Products imported successfully"
+                : "Products imported with " + report.getRowsFailed() + " failed rows";
+        return new ResponseEntity<>(new ApiResponse<>(true, message, report), HttpStatus.OK);
+    }
+
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Export all products", description = "Streams the whole catalog as CSV or JSONL in the import format. Requires ADMIN role.")
+    @SecurityRequirement(name = "bearerAuth")
+    public ResponseEntity<StreamingResponseBody> exportProducts(@RequestParam(defaultValue = "csv") String format) {
+        CatalogFormat catalogFormat = CatalogFormat.from(format);
+        StreamingResponseBody body = out -> productCatalogTransferService.exportCatalog(out, catalogFormat);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"products." + catalogFormat.getFileExtension() + "\"")
+                .contentType(MediaType.parseMediaType(catalogFormat.getContentType()))
+                .body(body);
+    }
+}
@@ -0,0 +1,20 @@
+package com.alx.ecommerce.product.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FacetCountDTO {
+    private Long categoryId; // Set for category facets
+    private String categoryName;
+    private BigDecimal minPrice; // Set for price range facets, inclusive
+    private BigDecimal maxPrice; // Exclusive, null for the open-ended last range
+    private int count;
+}
@@ -0,0 +1,30 @@
+package com.alx.ecommerce.product.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductImportReportDTO {
+    private long rowsRead;
+    private long rowsUpserted; // Created or updated by SKU
+    private long rowsFailed;
+    private long durationMs;
+    private List<RowError> errors; // The first rows that failed, up to the configured limit
+    private boolean errorsTruncated;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+        private long line;
+        private String sku;
+        private String message;
+    }
+}
@@ -0,0 +1,21 @@
+package com.alx.ecommerce.product.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductSearchResultDTO {
+    private List<ProductDTO> products; // Most relevant first
+    private long totalHits;
+    private int page;
+    private int size;
+    private List<FacetCountDTO> categories;
+    private List<FacetCountDTO> priceRanges;
+}
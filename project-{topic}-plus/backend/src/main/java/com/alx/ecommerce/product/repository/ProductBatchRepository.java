@@ -0,0 +1,103 @@
+package com.alx.ecommerce.product.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Set-based catalog writes and reads for bulk import and export. Going through JPA would cost a SKU lookup, a
+ * category lookup and an insert or update per product, since {@code IDENTITY} ids prevent insert batching.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProductBatchRepository {
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO products (name, sku, description, price, stock_quantity, image_url, category_id, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP) " +
+            "ON CONFLICT (sku) DO UPDATE SET name = EXCLUDED.name, description = EXCLUDED.description, " +
+            "price = EXCLUDED.price, stock_quantity = EXCLUDED.stock_quantity, image_url = EXCLUDED.image_url, " +
+            "category_id = EXCLUDED.category_id, updated_at = CURRENT_TIMESTAMP";
+
+    // Same columns and order as CatalogFormat.COLUMNS
+    private static final String EXPORT_SQL =
+            "SELECT p.sku, p.name, p.description, p.price, p.stock_quantity, p.image_url, c.name " +
+            "FROM products p JOIN categories c ON c.id = p.category_id ORDER BY p.id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Inserts the products, or updates those whose SKU already exists, as one JDBC batch. Runs on the connection of
+     * the current transaction.
+     */
+    public int upsertAll(List<ProductUpsert> products) {
+        if (products.isEmpty()) {
+            return 0;
+        }
+        int[] counts = jdbcTemplate.batchUpdate(UPSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement statement, int i) throws SQLException {
+                ProductUpsert product = products.get(i);
+                statement.setString(1, product.getName());
+                statement.setString(2, product.getSku());
+                statement.setString(3, product.getDescription());
+                statement.setBigDecimal(4, product.getPrice());
+                statement.setInt(5, product.getStockQuantity());
+                statement.setString(6, product.getImageUrl());
+                statement.setLong(7, product.getCategoryId());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return products.size();
+            }
+        });
+        return Arrays.stream(counts).map(count -> count < 0 ? 1 : count).sum(); // SUCCESS_NO_INFO counts as one row
+    }
+
+    /**
+     * Streams every product in id order through a forward-only cursor, {@code fetchSize} rows at a time. PostgreSQL
+     * only uses a cursor inside a transaction, so call this from a read-only one.
+     *
+     * @param row receives the values of each product in {@code CatalogFormat.COLUMNS} order.
+     * @return the number of products streamed.
+     */
+    public long streamCatalog(int fetchSize, Consumer<List<Object>> row) {
+        long[] count = {0};
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(EXPORT_SQL, ResultSet.TYPE_FORWARD_ONLY,
+                    ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            return statement;
+        }, (RowCallbackHandler) rs -> {
+            row.accept(Arrays.<Object>asList(rs.getString(1), rs.getString(2), rs.getString(3), rs.getBigDecimal(4),
+                    rs.getInt(5), rs.getString(6), rs.getString(7)));
+            count[0]++;
+        });
+        return count[0];
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class ProductUpsert {
+        private String sku;
+        private String name;
+        private String description;
+        private BigDecimal price;
+        private int stockQuantity;
+        private String imageUrl;
+        private long categoryId;
+    }
+}
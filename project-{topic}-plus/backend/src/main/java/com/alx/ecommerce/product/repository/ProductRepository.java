@@ -1,10 +1,13 @@
 package com.alx.ecommerce.product.repository;
 
 import com.alx.ecommerce.product.model.Product;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,7 +16,14 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     Optional<Product> findBySku(String sku);
     List<Product> findByCategoryId(Long categoryId);
 
-    // Example of a custom query for searching products
-    @Query("SELECT p FROM Product p WHERE lower(p.name) LIKE lower(concat('%', :keyword, '%')) OR lower(p.description) LIKE lower(concat('%', :keyword, '%'))")
-    List<Product> searchProducts(String keyword);
+    // [id, name, description, price, categoryId] rows for building the search index, in id order (keyset paging)
+    @Query("SELECT p.id, p.name, p.description, p.price, p.category.id FROM Product p WHERE p.id > :afterId ORDER BY p.id")
+    List<Object[]> findSearchDocumentsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT p FROM Product p JOIN FETCH p.category WHERE p.id IN :ids")
+    List<Product> findAllWithCategoryByIdIn(@Param("ids") Collection<Long> ids);
+
+    // [productId, stockQuantity] rows for the inventory stock ledger
+    @Query("SELECT p.id, p.stockQuantity FROM Product p WHERE p.id IN :ids")
+    List<Object[]> findStockByIdIn(@Param("ids") Collection<Long> ids);
 }
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.alx.ecommerce.product.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+/**
+ * The searchable part of a product, as fed to the {@link ProductSearchIndex}.
+ */
+@Data
+@AllArgsConstructor
+public class ProductDocument {
+    private long productId;
+    private String name;
+    private String description;
+    private long categoryId;
+    private BigDecimal price;
+}
@@ -0,0 +1,542 @@
+package com.alx.ecommerce.product.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * Embedded inverted index over product names and descriptions.
+ * <p>
+ * Terms are lower-cased runs of letters and digits; name terms weigh {@value #NAME_WEIGHT}x description terms.
+ * All query terms must match (AND). The last query term also matches as a prefix (search-as-you-type), and a term
+ * that is not in the dictionary matches terms one edit away (insertion, deletion, substitution or transposition),
+ * found through a deletion-neighbourhood map instead of scanning the vocabulary. Hits are ranked with BM25.
+ * <p>
+ * Each search also returns facet counts by category and by price range. As usual for facets, the category counts
+ * ignore the category filter and the price counts ignore the price filter.
+ * <p>
+ * Updates are applied in place (a replaced or deleted product leaves a tombstone until the next {@link #rebuild}),
+ * searches run concurrently under a read lock.
+ */
+@Component
+public class ProductSearchIndex {
+
+    static final float NAME_WEIGHT = 3f;
+    /** Upper bounds (exclusive) of the price facet ranges; the last range is open-ended. */
+    public static final BigDecimal[] PRICE_RANGE_BOUNDS = {
+            new BigDecimal("25"), new BigDecimal("50"), new BigDecimal("100"), new BigDecimal("250"),
+            new BigDecimal("500"), new BigDecimal("1000")
+    };
+
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    private static final float PREFIX_WEIGHT = 0.8f;
+    private static final float FUZZY_WEIGHT = 0.6f;
+    private static final int MAX_EXPANSIONS = 64;
+    private static final int MIN_PREFIX_LENGTH = 2;
+    private static final int MIN_FUZZY_LENGTH = 4;
+    private static final int MAX_TERM_LENGTH = 64;
+    private static final int MAX_RESULT_WINDOW = 10_000;
+    private static final long[] PRICE_RANGE_BOUNDS_CENTS = Arrays.stream(PRICE_RANGE_BOUNDS)
+            .mapToLong(ProductSearchIndex::toCents)
+            .toArray();
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private Segment segment = new Segment();
+    private List<Consumer<Segment>> pendingDuringRebuild;
+
+    /**
+     * Adds the product, or replaces its previous version.
+     */
+    public void index(ProductDocument document) {
+        write(s -> s.add(document));
+    }
+
+    public void remove(long productId) {
+        write(s -> s.remove(productId));
+    }
+
+    /**
+     * Replaces the index contents with the documents passed to the sink by {@code loader}. Searches keep using the
+     * old contents until the new ones are complete, and updates made meanwhile are applied to both, so nothing
+     * committed during a rebuild is lost. Rebuilds run one at a time; a second caller waits for the running one to
+     * finish, then loads again.
+     */
+    public void rebuild(Consumer<Consumer<ProductDocument>> loader) {
+        rebuildLock.lock();
+        try {
+            lock.writeLock().lock();
+            try {
+                pendingDuringRebuild = new ArrayList<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            Segment fresh = new Segment();
+            boolean loaded = false;
+            try {
+                loader.accept(fresh::add);
+                loaded = true;
+            } finally {
+                lock.writeLock().lock();
+                try {
+                    if (loaded) {
+                        pendingDuringRebuild.forEach(op -> op.accept(fresh));
+                        segment = fresh;
+                    }
+                    pendingDuringRebuild = null;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return segment.alive;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Share of index slots taken by replaced or deleted products; a rebuild reclaims them.
+     */
+    public double tombstoneRatio() {
+        lock.readLock().lock();
+        try {
+            return segment.count == 0 ? 0 : 1.0 - (double) segment.alive / segment.count;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Result search(ProductSearchQuery query) {
+        List<String> tokens = new ArrayList<>(new LinkedHashSet<>(tokenize(query.getText())));
+        int size = Math.min(Math.max(1, query.getSize()), MAX_RESULT_WINDOW);
+        // In long: a large page number must not overflow into a negative window
+        long from = (long) Math.max(0, query.getPage()) * size;
+        int window = (int) Math.min(from + size, MAX_RESULT_WINDOW);
+        boolean pastWindow = from >= MAX_RESULT_WINDOW; // Such a page is empty; totals and facets are still counted
+        long minCents = query.getMinPrice() != null ? toCents(query.getMinPrice()) : Long.MIN_VALUE;
+        long maxCents = query.getMaxPrice() != null ? toCents(query.getMaxPrice()) : Long.MAX_VALUE;
+
+        lock.readLock().lock();
+        try {
+            Segment s = segment;
+            if (tokens.isEmpty() || s.alive == 0) {
+                return Result.empty(PRICE_RANGE_BOUNDS.length + 1);
+            }
+
+            List<Matches> perToken = new ArrayList<>(tokens.size());
+            for (int i = 0; i < tokens.size(); i++) {
+                Matches matches = s.match(tokens.get(i), i == tokens.size() - 1);
+                if (matches.size == 0) {
+                    return Result.empty(PRICE_RANGE_BOUNDS.length + 1);
+                }
+                perToken.add(matches);
+            }
+            perToken.sort(Comparator.comparingInt(m -> m.size));
+            Matches matches = perToken.get(0);
+            for (int i = 1; i < perToken.size() && matches.size > 0; i++) {
+                matches = matches.intersect(perToken.get(i));
+            }
+
+            Map<Long, Integer> categoryCounts = new HashMap<>();
+            int[] priceRangeCounts = new int[PRICE_RANGE_BOUNDS.length + 1];
+            PriorityQueue<Hit> top = new PriorityQueue<>(window + 1, RANKING.reversed());
+            long total = 0;
+            for (int i = 0; i < matches.size; i++) {
+                int doc = matches.docs[i];
+                long cents = s.priceCents[doc];
+                long category = s.categoryIds[doc];
+                boolean priceOk = cents >= minCents && cents <= maxCents;
+                boolean categoryOk = query.getCategoryId() == null || query.getCategoryId() == category;
+                if (priceOk) {
+                    categoryCounts.merge(category, 1, Integer::sum);
+                }
+                if (categoryOk) {
+                    priceRangeCounts[priceRange(cents)]++;
+                }
+                if (priceOk && categoryOk) {
+                    total++;
+                    if (!pastWindow) {
+                        top.add(new Hit(s.productIds[doc], matches.scores[i]));
+                        if (top.size() > window) {
+                            top.poll();
+                        }
+                    }
+                }
+            }
+
+            List<Hit> ranked = new ArrayList<>(top);
+            ranked.sort(RANKING);
+            int start = (int) Math.min(from, ranked.size());
+            return new Result(new ArrayList<>(ranked.subList(start, ranked.size())), total, categoryCounts, priceRangeCounts);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static final Comparator<Hit> RANKING = Comparator.comparingDouble(Hit::getScore).reversed()
+            .thenComparingLong(Hit::getProductId);
+
+    private void write(Consumer<Segment> op) {
+        lock.writeLock().lock();
+        try {
+            op.accept(segment);
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(op);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean wordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                if (i - start <= MAX_TERM_LENGTH) {
+                    tokens.add(text.substring(start, i).toLowerCase());
+                }
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    private static int priceRange(long cents) {
+        int index = Arrays.binarySearch(PRICE_RANGE_BOUNDS_CENTS, cents);
+        return index >= 0 ? index + 1 : -index - 1;
+    }
+
+    private static long toCents(BigDecimal price) {
+        return price.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    /**
+     * True if {@code a} and {@code b} differ by at most one insertion, deletion, substitution or transposition.
+     */
+    static boolean withinOneEdit(String a, String b) {
+        int la = a.length();
+        int lb = b.length();
+        if (Math.abs(la - lb) > 1) {
+            return false;
+        }
+        int i = 0;
+        while (i < la && i < lb && a.charAt(i) == b.charAt(i)) {
+            i++;
+        }
+        if (la == lb) {
+            if (i == la) {
+                return true;
+            }
+            if (a.regionMatches(i + 1, b, i + 1, la - i - 1)) {
+                return true; // substitution
+            }
+            return i + 1 < la && a.charAt(i) == b.charAt(i + 1) && a.charAt(i + 1) == b.charAt(i)
+                    && a.regionMatches(i + 2, b, i + 2, la - i - 2); // transposition
+        }
+        return la > lb ? a.regionMatches(i + 1, b, i, lb - i) : b.regionMatches(i + 1, a, i, la - i);
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class Hit {
+        private long productId;
+        private float score;
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class Result {
+        private List<Hit> hits;
+        private long totalHits;
+        private Map<Long, Integer> categoryCounts;
+        /** Counts per range of {@link #PRICE_RANGE_BOUNDS}, plus one for the open-ended last range. */
+        private int[] priceRangeCounts;
+
+        static Result empty(int priceRanges) {
+            return new Result(Collections.emptyList(), 0, Collections.emptyMap(), new int[priceRanges]);
+        }
+    }
+
+    /**
+     * Documents matching one query term (or its expansions), sorted by slot, with their BM25 contribution.
+     */
+    private static final class Matches {
+        private final int[] docs;
+        private final float[] scores;
+        private final int size;
+
+        private Matches(int[] docs, float[] scores, int size) {
+            this.docs = docs;
+            this.scores = scores;
+            this.size = size;
+        }
+
+        private Matches intersect(Matches other) {
+            int[] docs = new int[Math.min(size, other.size)];
+            float[] scores = new float[docs.length];
+            int n = 0;
+            int i = 0;
+            int j = 0;
+            while (i < size && j < other.size) {
+                if (this.docs[i] < other.docs[j]) {
+                    i++;
+                } else if (this.docs[i] > other.docs[j]) {
+                    j++;
+                } else {
+                    docs[n] = this.docs[i];
+                    scores[n++] = this.scores[i++] + other.scores[j++];
+                }
+            }
+            return new Matches(docs, scores, n);
+        }
+    }
+
+    private static final class Postings {
+        private int[] docs = new int[4];
+        private float[] frequencies = new float[4];
+        private int size;
+        private int live;
+
+        private void add(int doc, float frequency) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            docs[size] = doc;
+            frequencies[size++] = frequency;
+            live++;
+        }
+    }
+
+    /**
+     * One generation of the index. Slots are assigned in insertion order, so postings lists stay sorted by
+     * appending; replaced and deleted products are only marked dead.
+     */
+    private static final class Segment {
+        private final TreeMap<String, Postings> terms = new TreeMap<>();
+        private final Map<String, List<String>> deletions = new HashMap<>();
+        private final Map<Long, Integer> slotByProduct = new HashMap<>();
+        private final BitSet dead = new BitSet();
+        private long[] productIds = new long[16];
+        private long[] categoryIds = new long[16];
+        private long[] priceCents = new long[16];
+        private float[] lengths = new float[16];
+        private String[][] termsBySlot = new String[16][];
+        private int count;
+        private int alive;
+        private double totalLength;
+
+        private void add(ProductDocument document) {
+            remove(document.getProductId());
+
+            Map<String, Float> frequencies = new LinkedHashMap<>();
+            tokenize(document.getName()).forEach(t -> frequencies.merge(t, NAME_WEIGHT, Float::sum));
+            tokenize(document.getDescription()).forEach(t -> frequencies.merge(t, 1f, Float::sum));
+            float length = 0;
+            for (float f : frequencies.values()) {
+                length += f;
+            }
+
+            int slot = count++;
+            ensureCapacity(count);
+            productIds[slot] = document.getProductId();
+            categoryIds[slot] = document.getCategoryId();
+            priceCents[slot] = document.getPrice() != null ? toCents(document.getPrice()) : 0;
+            lengths[slot] = length;
+            termsBySlot[slot] = frequencies.keySet().toArray(new String[0]);
+            frequencies.forEach((term, frequency) -> postingsFor(term).add(slot, frequency));
+
+            slotByProduct.put(document.getProductId(), slot);
+            alive++;
+            totalLength += length;
+        }
+
+        private void remove(long productId) {
+            Integer slot = slotByProduct.remove(productId);
+            if (slot == null) {
+                return;
+            }
+            dead.set(slot);
+            alive--;
+            totalLength -= lengths[slot];
+            for (String term : termsBySlot[slot]) {
+                terms.get(term).live--;
+            }
+            termsBySlot[slot] = null;
+        }
+
+        private Postings postingsFor(String term) {
+            Postings postings = terms.get(term);
+            if (postings == null) {
+                postings = new Postings();
+                terms.put(term, postings);
+                if (term.length() >= MIN_FUZZY_LENGTH - 1) {
+                    for (String deletion : deletionsOf(term)) {
+                        deletions.computeIfAbsent(deletion, d -> new ArrayList<>(2)).add(term);
+                    }
+                }
+            }
+            return postings;
+        }
+
+        /**
+         * Documents matching {@code token}: the exact term, its completions if {@code prefix}, or - when neither
+         * exists - terms one edit away.
+         */
+        private Matches match(String token, boolean prefix) {
+            Map<String, Float> expansions = new LinkedHashMap<>();
+            Postings exact = terms.get(token);
+            if (exact != null && exact.live > 0) {
+                expansions.put(token, 1f);
+            }
+            if (prefix && token.length() >= MIN_PREFIX_LENGTH) {
+                topByLiveCount(terms.subMap(token, false, token + Character.MAX_VALUE, false).keySet())
+                        .forEach(term -> expansions.putIfAbsent(term, PREFIX_WEIGHT));
+            }
+            if (expansions.isEmpty() && token.length() >= MIN_FUZZY_LENGTH) {
+                topByLiveCount(fuzzyCandidates(token)).forEach(term -> expansions.put(term, FUZZY_WEIGHT));
+            }
+            if (expansions.isEmpty()) {
+                return new Matches(new int[0], new float[0], 0);
+            }
+
+            double averageLength = totalLength / Math.max(1, alive);
+            if (expansions.size() == 1) {
+                Map.Entry<String, Float> only = expansions.entrySet().iterator().next();
+                return score(terms.get(only.getKey()), only.getValue(), averageLength);
+            }
+            // Several alternatives for one query term: union, keeping the best score per document
+            List<Matches> parts = new ArrayList<>(expansions.size());
+            int total = 0;
+            for (Map.Entry<String, Float> e : expansions.entrySet()) {
+                Matches part = score(terms.get(e.getKey()), e.getValue(), averageLength);
+                parts.add(part);
+                total += part.size;
+            }
+            long[] packed = new long[total];
+            int n = 0;
+            for (Matches part : parts) {
+                for (int i = 0; i < part.size; i++) {
+                    // Slot in the high bits, score bits (non-negative float) in the low bits: sorts by slot, then score
+                    packed[n++] = ((long) part.docs[i] << 32) | (Float.floatToRawIntBits(part.scores[i]) & 0xFFFFFFFFL);
+                }
+            }
+            Arrays.sort(packed);
+            int[] docs = new int[total];
+            float[] scores = new float[total];
+            int size = 0;
+            for (int i = 0; i < total; i++) {
+                int doc = (int) (packed[i] >>> 32);
+                float score = Float.intBitsToFloat((int) packed[i]);
+                if (size > 0 && docs[size - 1] == doc) {
+                    scores[size - 1] = score; // Later entry of the same slot has the higher score
+                } else {
+                    docs[size] = doc;
+                    scores[size++] = score;
+                }
+            }
+            return new Matches(docs, scores, size);
+        }
+
+        private Matches score(Postings postings, float weight, double averageLength) {
+            int[] docs = new int[postings.live];
+            float[] scores = new float[postings.live];
+            double idf = Math.log(1 + (alive - postings.live + 0.5) / (postings.live + 0.5));
+            int n = 0;
+            for (int i = 0; i < postings.size; i++) {
+                int doc = postings.docs[i];
+                if (dead.get(doc)) {
+                    continue;
+                }
+                float tf = postings.frequencies[i];
+                double norm = K1 * (1 - B + B * lengths[doc] / averageLength);
+                docs[n] = doc;
+                scores[n++] = (float) (weight * idf * tf * (K1 + 1) / (tf + norm));
+            }
+            return new Matches(docs, scores, n);
+        }
+
+        private Set<String> fuzzyCandidates(String token) {
+            Set<String> candidates = new LinkedHashSet<>();
+            candidates.addAll(deletions.getOrDefault(token, List.of())); // token is missing a character
+            for (String deletion : deletionsOf(token)) {
+                if (terms.containsKey(deletion)) {
+                    candidates.add(deletion); // token has an extra character
+                }
+                candidates.addAll(deletions.getOrDefault(deletion, List.of())); // substitution or transposition
+            }
+            candidates.removeIf(term -> !withinOneEdit(token, term));
+            return candidates;
+        }
+
+        private List<String> topByLiveCount(Iterable<String> candidates) {
+            List<String> live = new ArrayList<>();
+            for (String term : candidates) {
+                if (terms.get(term).live > 0) {
+                    live.add(term);
+                }
+            }
+            if (live.size() > MAX_EXPANSIONS) {
+                live.sort(Comparator.comparingInt((String term) -> terms.get(term).live).reversed());
+                return live.subList(0, MAX_EXPANSIONS);
+            }
+            return live;
+        }
+
+        private static Set<String> deletionsOf(String term) {
+            Set<String> result = new LinkedHashSet<>();
+            for (int i = 0; i < term.length(); i++) {
+                result.add(term.substring(0, i) + term.substring(i + 1));
+            }
+            return result;
+        }
+
+        private void ensureCapacity(int needed) {
+            if (needed <= productIds.length) {
+                return;
+            }
+            int capacity = Math.max(needed, productIds.length * 2);
+            productIds = Arrays.copyOf(productIds, capacity);
+            categoryIds = Arrays.copyOf(categoryIds, capacity);
+            priceCents = Arrays.copyOf(priceCents, capacity);
+            lengths = Arrays.copyOf(lengths, capacity);
+            termsBySlot = Arrays.copyOf(termsBySlot, capacity);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.alx.ecommerce.product.search;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+/**
+ * Query against the {@link ProductSearchIndex}. Filters are optional ({@code null} means "any").
+ */
+@Data
+@Builder
+public class ProductSearchQuery {
+    private String text;
+    private Long categoryId;
+    private BigDecimal minPrice; // inclusive
+    private BigDecimal maxPrice; // inclusive
+    private int page;
+    private int size;
+}
@@ -1,6 +1,7 @@
 package com.alx.ecommerce.product.service;
 
 import com.alx.ecommerce.common.exceptions.ResourceNotFoundException;
+import com.alx.ecommerce.product.cache.ProductCacheInvalidator;
 import com.alx.ecommerce.product.dto.CategoryDTO;
 import com.alx.ecommerce.product.model.Category;
 import com.alx.ecommerce.product.repository.CategoryRepository;
@@ -21,6 +22,7 @@ public class CategoryService {
 
     private static final Logger logger = LoggerFactory.getLogger(CategoryService.class);
     private final CategoryRepository categoryRepository;
+    private final ProductCacheInvalidator productCacheInvalidator;
 
     @CacheEvict(value = "categories", allEntries = true)
     @Transactional
@@ -69,6 +71,7 @@ public class CategoryService {
         existingCategory.setDescription(categoryDTO.getDescription());
         existingCategory.setImageUrl(categoryDTO.getImageUrl());
         Category updatedCategory = categoryRepository.save(existingCategory);
+        productCacheInvalidator.categoryChanged(id); // Cached products show the category name
         logger.info("Category updated: {}", updatedCategory.getName());
         return convertToDto(updatedCategory);
     }
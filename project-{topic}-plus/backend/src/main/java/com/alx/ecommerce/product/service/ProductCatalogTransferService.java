@@ -0,0 +1,223 @@
+package com.alx.ecommerce.product.service;
+
+import com.alx.ecommerce.inventory.service.InventoryReservationService;
+import com.alx.ecommerce.product.cache.ProductCacheInvalidator;
+import com.alx.ecommerce.product.dto.ProductImportReportDTO;
+import com.alx.ecommerce.product.model.Category;
+import com.alx.ecommerce.product.repository.CategoryRepository;
+import com.alx.ecommerce.product.repository.ProductBatchRepository;
+import com.alx.ecommerce.product.transfer.CatalogFormat;
+import com.alx.ecommerce.product.transfer.CatalogReader;
+import com.alx.ecommerce.product.transfer.CatalogRecord;
+import com.alx.ecommerce.product.transfer.CatalogWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Bulk catalog import and export.
+ * <p>
+ * The import streams the file, resolves categories from a map loaded once, and upserts products by SKU in JDBC
+ * batches, each in its own transaction, so a large feed neither holds a long transaction nor loses the work done
+ * before a failure. Re-running the same file is safe. Rows that fail validation or the database constraints are
+ * reported by line and skipped. Caches, the search index and the stock ledger are refreshed once at the end instead
+ * of per product.
+ */
+@Service
+@RequiredArgsConstructor
+public class ProductCatalogTransferService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProductCatalogTransferService.class);
+
+    private final ProductBatchRepository productBatchRepository;
+    private final CategoryRepository categoryRepository;
+    private final ProductCacheInvalidator productCacheInvalidator;
+    private final ProductSearchService productSearchService;
+    private final InventoryReservationService inventoryReservationService;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${product-catalog.import.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${product-catalog.import.max-reported-errors:1000}")
+    private int maxReportedErrors;
+
+    @Value("${product-catalog.export.fetch-size:1000}")
+    private int exportFetchSize;
+
+    public ProductImportReportDTO importCatalog(InputStream in, CatalogFormat format) throws IOException {
+        long start = System.currentTimeMillis();
+        Map<String, Long> categoryIds = loadCategoryIds();
+        ImportProgress progress = new ImportProgress();
+        List<ProductBatchRepository.ProductUpsert> batch = new ArrayList<>(batchSize);
+        List<Long> batchLines = new ArrayList<>(batchSize);
+
+        try (CatalogReader reader = new CatalogReader(in, format, objectMapper)) {
+            CatalogRecord record;
+            while ((record = reader.next()) != null) {
+                progress.rowsRead++;
+                if (record.getError() != null) {
+                    progress.fail(record.getLine(), null, record.getError());
+                    continue;
+                }
+                try {
+                    batch.add(toUpsert(record, categoryIds));
+                    batchLines.add(record.getLine());
+                } catch (IllegalArgumentException e) {
+                    progress.fail(record.getLine(), record.get("sku"), e.getMessage());
+                }
+                if (batch.size() >= batchSize) {
+                    writeBatch(batch, batchLines, progress);
+                    batch = new ArrayList<>(batchSize);
+                    batchLines = new ArrayList<>(batchSize);
+                }
+            }
+            writeBatch(batch, batchLines, progress);
+        } finally {
+            // Batches commit one by one, so an import that fails part way has still changed the catalog
+            if (progress.rowsUpserted > 0) {
+                productCacheInvalidator.catalogChanged();
+                productSearchService.rebuildIndex();
+                inventoryReservationService.reconcileLedger();
+            }
+        }
+        long durationMs = System.currentTimeMillis() - start;
+        logger.info("Catalog import finished in {} ms: {} rows read, {} upserted, {} failed",
+                durationMs, progress.rowsRead, progress.rowsUpserted, progress.rowsFailed);
+        return ProductImportReportDTO.builder()
+                .rowsRead(progress.rowsRead)
+                .rowsUpserted(progress.rowsUpserted)
+                .rowsFailed(progress.rowsFailed)
+                .durationMs(durationMs)
+                .errors(progress.errors)
+                .errorsTruncated(progress.rowsFailed > progress.errors.size())
+                .build();
+    }
+
+    /**
+     * Writes the whole catalog in id order, reading it through a database cursor.
+     *
+     * @return the number of products written.
+     */
+    @Transactional(readOnly = true) // PostgreSQL only streams a result set inside a transaction
+    public long exportCatalog(OutputStream out, CatalogFormat format) throws IOException {
+        CatalogWriter writer = new CatalogWriter(out, format, objectMapper);
+        long rows = productBatchRepository.streamCatalog(exportFetchSize, writer::write);
+        writer.flush();
+        logger.info("Catalog export wrote {} products as {}", rows, format);
+        return rows;
+    }
+
+    private void writeBatch(List<ProductBatchRepository.ProductUpsert> batch, List<Long> lines, ImportProgress progress) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> productBatchRepository.upsertAll(batch));
+            progress.rowsUpserted += batch.size();
+        } catch (DataAccessException e) {
+            // One bad row, or a SKU repeated within a rewritten multi-row insert, fails the whole batch;
+            // write the rows one by one to find and report it
+            logger.warn("Catalog import batch ending at line {} failed, retrying row by row: {}",
+                    lines.get(lines.size() - 1), e.getMessage());
+            for (int i = 0; i < batch.size(); i++) {
+                ProductBatchRepository.ProductUpsert product = batch.get(i);
+                try {
+                    transactionTemplate.executeWithoutResult(status -> productBatchRepository.upsertAll(List.of(product)));
+                    progress.rowsUpserted++;
+                } catch (DataAccessException rowError) {
+                    progress.fail(lines.get(i), product.getSku(), NestedExceptionUtils.getMostSpecificCause(rowError).getMessage());
+                }
+            }
+        }
+        logger.info("Catalog import progress: {} rows read, {} upserted, {} failed",
+                progress.rowsRead, progress.rowsUpserted, progress.rowsFailed);
+    }
+
+    private Map<String, Long> loadCategoryIds() {
+        Map<String, Long> categoryIds = new HashMap<>();
+        for (Category category : categoryRepository.findAll()) {
+            categoryIds.put(category.getName().trim().toLowerCase(Locale.ROOT), category.getId());
+            categoryIds.put("#" + category.getId(), category.getId());
+        }
+        return categoryIds;
+    }
+
+    /**
+     * @throws IllegalArgumentException naming the first invalid field.
+     */
+    private static ProductBatchRepository.ProductUpsert toUpsert(CatalogRecord record, Map<String, Long> categoryIds) {
+        String sku = required(record, "sku");
+        String name = required(record, "name");
+        String description = required(record, "description");
+        BigDecimal price;
+        int stockQuantity;
+        try {
+            price = new BigDecimal(required(record, "price").trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("price is not a number: " + record.get("price"));
+        }
+        try {
+            stockQuantity = Integer.parseInt(required(record, "stock_quantity").trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("stock_quantity is not a whole number: " + record.get("stock_quantity"));
+        }
+        if (price.signum() < 0 || stockQuantity < 0) {
+            throw new IllegalArgumentException("price and stock_quantity must be non-negative");
+        }
+
+        // Categories are referenced by name, or by id in a category_id column
+        String categoryId = record.get("category_id");
+        Long resolved = categoryId != null && !categoryId.isBlank()
+                ? categoryIds.get("#" + categoryId.trim())
+                : categoryIds.get(required(record, "category").trim().toLowerCase(Locale.ROOT));
+        if (resolved == null) {
+            throw new IllegalArgumentException("Unknown category: " + (categoryId != null && !categoryId.isBlank()
+                    ? categoryId : record.get("category")));
+        }
+
+        String imageUrl = record.get("image_url");
+        return new ProductBatchRepository.ProductUpsert(sku.trim(), name.trim(), description, price, stockQuantity,
+                imageUrl == null || imageUrl.isBlank() ? null : imageUrl.trim(), resolved);
+    }
+
+    private static String required(CatalogRecord record, String column) {
+        String value = record.get(column);
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException(column + " is required");
+        }
+        return value;
+    }
+
+    private class ImportProgress {
+        private long rowsRead;
+        private long rowsUpserted;
+        private long rowsFailed;
+        private final List<ProductImportReportDTO.RowError> errors = new ArrayList<>();
+
+        private void fail(long line, String sku, String message) {
+            rowsFailed++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new ProductImportReportDTO.RowError(line, sku, message));
+            }
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.alx.ecommerce.product.service;
+
+import com.alx.ecommerce.product.model.Product;
+import com.alx.ecommerce.product.repository.ProductRepository;
+import com.alx.ecommerce.product.search.ProductDocument;
+import com.alx.ecommerce.product.search.ProductSearchIndex;
+import com.alx.ecommerce.product.search.ProductSearchQuery;
+import com.alx.ecommerce.util.TransactionCallbacks;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Keeps the {@link ProductSearchIndex} in sync with the {@code products} table.
+ * <p>
+ * The index is built from the database at startup and then fed by {@link ProductService} writes once their
+ * transaction has committed, so rolled-back changes never become searchable. Replaced and deleted products leave
+ * tombstones in the index; a periodic rebuild reclaims them once they make up a noticeable share.
+ */
+@Service
+@RequiredArgsConstructor
+public class ProductSearchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProductSearchService.class);
+
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductRepository productRepository;
+
+    @Value("${search.products.rebuild-batch-size:5000}")
+    private int rebuildBatchSize;
+
+    @Value("${search.products.max-tombstone-ratio:0.2}")
+    private double maxTombstoneRatio;
+
+    public ProductSearchIndex.Result search(ProductSearchQuery query) {
+        return productSearchIndex.search(query);
+    }
+
+    public void indexAfterCommit(Product product) {
+        ProductDocument document = new ProductDocument(product.getId(), product.getName(), product.getDescription(),
+                product.getCategory().getId(), product.getPrice());
+        TransactionCallbacks.afterCommit(() -> productSearchIndex.index(document));
+    }
+
+    public void removeAfterCommit(Long productId) {
+        TransactionCallbacks.afterCommit(() -> productSearchIndex.remove(productId));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIndex() {
+        long start = System.currentTimeMillis();
+        productSearchIndex.rebuild(sink -> {
+            long lastId = 0;
+            List<Object[]> rows;
+            do {
+                rows = productRepository.findSearchDocumentsAfter(lastId, PageRequest.of(0, rebuildBatchSize));
+                for (Object[] row : rows) {
+                    lastId = (Long) row[0];
+                    sink.accept(new ProductDocument(lastId, (String) row[1], (String) row[2], (Long) row[4],
+                            (BigDecimal) row[3]));
+                }
+            } while (rows.size() == rebuildBatchSize);
+        });
+        logger.info("Product search index built with {} products in {} ms", productSearchIndex.size(),
+                System.currentTimeMillis() - start);
+    }
+
+    @Scheduled(fixedDelayString = "${search.products.compaction-check-ms:300000}")
+    public void compactIndex() {
+        if (productSearchIndex.tombstoneRatio() > maxTombstoneRatio) {
+            rebuildIndex();
+        }
+    }
+}
@@ -1,22 +1,33 @@
 package com.alx.ecommerce.product.service;
 
 import com.alx.ecommerce.common.exceptions.ResourceNotFoundException;
+import com.alx.ecommerce.inventory.service.InventoryReservationService;
+import com.alx.ecommerce.order.service.CartService;
+import com.alx.ecommerce.product.cache.ProductCacheInvalidator;
+import com.alx.ecommerce.product.dto.FacetCountDTO;
 import com.alx.ecommerce.product.dto.ProductDTO;
+import com.alx.ecommerce.product.dto.ProductSearchResultDTO;
 import com.alx.ecommerce.product.model.Category;
 import com.alx.ecommerce.product.model.Product;
 import com.alx.ecommerce.product.repository.CategoryRepository;
 import com.alx.ecommerce.product.repository.ProductRepository;
+import com.alx.ecommerce.product.search.ProductSearchIndex;
+import com.alx.ecommerce.product.search.ProductSearchQuery;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -24,10 +35,14 @@ import java.util.stream.Collectors;
 public class ProductService {
 
     private static final Logger logger = LoggerFactory.getLogger(ProductService.class);
+    private static final int MAX_SEARCH_PAGE_SIZE = 100;
     private final ProductRepository productRepository;
     private final CategoryRepository categoryRepository;
+    private final InventoryReservationService inventoryReservationService;
+    private final ProductSearchService productSearchService;
+    private final ProductCacheInvalidator productCacheInvalidator;
+    private final CartService cartService;
 
-    @CacheEvict(value = {"products", "productById", "productsByCategory"}, allEntries = true)
     @Transactional
     public ProductDTO createProduct(ProductDTO productDTO) {
         Category category = categoryRepository.findById(productDTO.getCategoryId())
@@ -47,45 +62,108 @@ public class ProductService {
                 .category(category)
                 .build();
         Product savedProduct = productRepository.save(product);
+        productSearchService.indexAfterCommit(savedProduct);
+        ProductDTO created = convertToDto(savedProduct);
+        productCacheInvalidator.productCreated(created);
         logger.info("Product created: {} (SKU: {})", savedProduct.getName(), savedProduct.getSku());
-        return convertToDto(savedProduct);
+        return created;
     }
 
-    @Cacheable(value = "products", key = "{#pageable.pageNumber, #pageable.pageSize, #pageable.sort}")
     public Page<ProductDTO> getAllProducts(Pageable pageable) {
-        logger.debug("Fetching all products from database (or cache if available)");
-        return productRepository.findAll(pageable).map(this::convertToDto);
+        return productCacheInvalidator.cached(ProductCacheInvalidator.PRODUCTS, ProductCacheInvalidator.pageKey(pageable), () -> {
+            logger.debug("Fetching all products from database");
+            return productRepository.findAll(pageable).map(this::convertToDto);
+        }, page -> productCacheInvalidator.recordPage(pageable, page.getContent()));
     }
 
-    @Cacheable(value = "productById", key = "#id")
     public ProductDTO getProductById(Long id) {
-        logger.debug("Fetching product by ID: {} from database (or cache if available)", id);
-        Product product = productRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Product", "id", id));
-        return convertToDto(product);
+        return productCacheInvalidator.cached(ProductCacheInvalidator.PRODUCT_BY_ID, id, () -> {
+            logger.debug("Fetching product by ID: {} from database", id);
+            Product product = productRepository.findById(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("Product", "id", id));
+            return convertToDto(product);
+        }, productCacheInvalidator::recordProduct);
     }
 
-    @Cacheable(value = "productsByCategory", key = "#categoryId")
     public List<ProductDTO> getProductsByCategoryId(Long categoryId) {
-        logger.debug("Fetching products by category ID: {} from database (or cache if available)", categoryId);
-        List<Product> products = productRepository.findByCategoryId(categoryId);
-        if (products.isEmpty() && !categoryRepository.existsById(categoryId)) {
-            throw new ResourceNotFoundException("Category", "id", categoryId);
-        }
-        return products.stream().map(this::convertToDto).collect(Collectors.toList());
+        return productCacheInvalidator.cached(ProductCacheInvalidator.PRODUCTS_BY_CATEGORY, categoryId, () -> {
+            logger.debug("Fetching products by category ID: {} from database", categoryId);
+            List<Product> products = productRepository.findByCategoryId(categoryId);
+            if (products.isEmpty() && !categoryRepository.existsById(categoryId)) {
+                throw new ResourceNotFoundException("Category", "id", categoryId);
+            }
+            return products.stream().map(this::convertToDto).collect(Collectors.toList());
+        }, products -> productCacheInvalidator.recordCategoryListing(categoryId, products));
     }
 
-    public List<ProductDTO> searchProducts(String keyword) {
+    /**
+     * Full-text search over product names and descriptions, ranked by relevance, with facet counts by category and
+     * price range.
+     *
+     * @param keyword free text; the last word also matches as a prefix and misspelt words match within one edit.
+     * @param categoryId optional category filter.
+     * @param minPrice optional lower price bound, inclusive.
+     * @param maxPrice optional upper price bound, inclusive.
+     */
+    public ProductSearchResultDTO searchProducts(String keyword, Long categoryId, BigDecimal minPrice, BigDecimal maxPrice,
+                                                 int page, int size) {
         logger.debug("Searching products with keyword: {}", keyword);
-        List<Product> products = productRepository.searchProducts(keyword);
-        return products.stream().map(this::convertToDto).collect(Collectors.toList());
+        page = Math.max(page, 0);
+        size = Math.min(Math.max(size, 1), MAX_SEARCH_PAGE_SIZE);
+        ProductSearchIndex.Result result = productSearchService.search(ProductSearchQuery.builder()
+                .text(keyword)
+                .categoryId(categoryId)
+                .minPrice(minPrice)
+                .maxPrice(maxPrice)
+                .page(page)
+                .size(size)
+                .build());
+
+        // Load only the requested page, then restore the index ranking
+        List<Long> ids = result.getHits().stream().map(ProductSearchIndex.Hit::getProductId).collect(Collectors.toList());
+        Map<Long, Product> productsById = productRepository.findAllWithCategoryByIdIn(ids).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+        List<ProductDTO> products = ids.stream()
+                .map(productsById::get)
+                .filter(Objects::nonNull) // Deleted after the search ran
+                .map(this::convertToDto)
+                .collect(Collectors.toList());
+
+        Map<Long, String> categoryNames = categoryRepository.findAllById(result.getCategoryCounts().keySet()).stream()
+                .collect(Collectors.toMap(Category::getId, Category::getName));
+        List<FacetCountDTO> categories = result.getCategoryCounts().entrySet().stream()
+                .map(e -> FacetCountDTO.builder()
+                        .categoryId(e.getKey())
+                        .categoryName(categoryNames.get(e.getKey()))
+                        .count(e.getValue())
+                        .build())
+                .sorted(Comparator.comparingInt(FacetCountDTO::getCount).reversed())
+                .collect(Collectors.toList());
+        List<FacetCountDTO> priceRanges = new ArrayList<>();
+        BigDecimal[] bounds = ProductSearchIndex.PRICE_RANGE_BOUNDS;
+        for (int i = 0; i < result.getPriceRangeCounts().length; i++) {
+            priceRanges.add(FacetCountDTO.builder()
+                    .minPrice(i == 0 ? BigDecimal.ZERO : bounds[i - 1])
+                    .maxPrice(i < bounds.length ? bounds[i] : null)
+                    .count(result.getPriceRangeCounts()[i])
+                    .build());
+        }
+
+        return ProductSearchResultDTO.builder()
+                .products(products)
+                .totalHits(result.getTotalHits())
+                .page(page)
+                .size(size)
+                .categories(categories)
+                .priceRanges(priceRanges)
+                .build();
     }
 
-    @CacheEvict(value = {"products", "productById", "productsByCategory"}, allEntries = true)
     @Transactional
     public ProductDTO updateProduct(Long id, ProductDTO productDTO) {
         Product existingProduct = productRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Product", "id", id));
+        ProductDTO before = convertToDto(existingProduct);
 
         Category category = categoryRepository.findById(productDTO.getCategoryId())
                 .orElseThrow(() -> new ResourceNotFoundException("Category", "id", productDTO.getCategoryId()));
@@ -101,18 +179,30 @@ public class ProductService {
         existingProduct.setStockQuantity(productDTO.getStockQuantity());
         existingProduct.setImageUrl(productDTO.getImageUrl());
         existingProduct.setCategory(category);
-        Product updatedProduct = productRepository.save(existingProduct);
+        // Flushed so the DTO cached and returned below carries the updatedAt set by the write
+        Product updatedProduct = productRepository.saveAndFlush(existingProduct);
+        inventoryReservationService.refreshAfterCommit(id); // Stock level may have been changed by hand
+        productSearchService.indexAfterCommit(updatedProduct);
+        ProductDTO updated = convertToDto(updatedProduct);
+        productCacheInvalidator.productUpdated(before, updated); // Evicts only entries containing this product
+        if (!Objects.equals(before.getName(), updated.getName()) || !Objects.equals(before.getImageUrl(), updated.getImageUrl())
+                || before.getPrice().compareTo(updated.getPrice()) != 0) {
+            cartService.evictCartsContaining(id); // Cached carts still show the old product
+        }
         logger.info("Product updated: {} (SKU: {})", updatedProduct.getName(), updatedProduct.getSku());
-        return convertToDto(updatedProduct);
+        return updated;
     }
 
-    @CacheEvict(value = {"products", "productById", "productsByCategory"}, allEntries = true)
     @Transactional
     public void deleteProduct(Long id) {
         if (!productRepository.existsById(id)) {
             throw new ResourceNotFoundException("Product", "id", id);
         }
+        cartService.evictCartsContaining(id);
         productRepository.deleteById(id);
+        inventoryReservationService.refreshAfterCommit(id);
+        productSearchService.removeAfterCommit(id);
+        productCacheInvalidator.productDeleted(id);
         logger.info("Product deleted with ID: {}", id);
     }
 
@@ -0,0 +1,56 @@
+package com.alx.ecommerce.product.transfer;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * File formats accepted by the catalog import and produced by the export. Both carry the same {@link #COLUMNS}, so
+ * an export can be edited and imported again.
+ */
+@Getter
+public enum CatalogFormat {
+    CSV("text/csv", "csv"),
+    JSONL("application/x-ndjson", "jsonl"); // One JSON object per line
+
+    public static final List<String> COLUMNS =
+            List.of("sku", "name", "description", "price", "stock_quantity", "image_url", "category");
+
+    private final String contentType;
+    private final String fileExtension;
+
+    CatalogFormat(String contentType, String fileExtension) {
+        this.contentType = contentType;
+        this.fileExtension = fileExtension;
+    }
+
+    public static CatalogFormat from(String value) {
+        if (value != null) {
+            switch (value.trim().toLowerCase(Locale.ROOT)) {
+                case "csv":
+                    return CSV;
+                case "jsonl":
+                case "ndjson":
+                    return JSONL;
+                default:
+                    break;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported catalog format: " + value + ". Use csv or jsonl.");
+    }
+
+    /**
+     * Header or JSON key as used for lookups: lower case without separators, so {@code stock_quantity},
+     * {@code stockQuantity} and {@code Stock Quantity} all name the same column.
+     */
+    public static String normalizeColumn(String name) {
+        StringBuilder normalized = new StringBuilder(name.length());
+        for (char c : name.toCharArray()) {
+            if (Character.isLetterOrDigit(c)) {
+                normalized.append(Character.toLowerCase(c));
+            }
+        }
+        return normalized.toString();
+    }
+}
@@ -0,0 +1,168 @@
+package com.alx.ecommerce.product.transfer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads a catalog file one row at a time, so the import never holds more than a batch in memory.
+ * <p>
+ * CSV follows RFC 4180: the first row is the header, fields may be quoted, quoted fields may contain commas, line
+ * breaks and doubled quotes. JSONL has one object per line. Blank lines are skipped in both. A row that cannot be
+ * parsed is returned with an error rather than failing the whole file.
+ */
+public class CatalogReader implements Closeable {
+
+    private final BufferedReader reader;
+    private final CatalogFormat format;
+    private final ObjectMapper objectMapper;
+    private List<String> header;
+    private long line; // Line breaks consumed so far
+
+    public CatalogReader(InputStream in, CatalogFormat format, ObjectMapper objectMapper) {
+        this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), 64 * 1024);
+        this.format = format;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * @return the next row, or {@code null} at the end of the file.
+     */
+    public CatalogRecord next() throws IOException {
+        return format == CatalogFormat.CSV ? nextCsvRecord() : nextJsonRecord();
+    }
+
+    private CatalogRecord nextCsvRecord() throws IOException {
+        if (header == null) {
+            List<String> names = readCsvRow();
+            if (names == null) {
+                return null;
+            }
+            header = new ArrayList<>(names.size());
+            for (String name : names) {
+                header.add(CatalogFormat.normalizeColumn(name)); // Also drops a byte order mark
+            }
+        }
+        while (true) {
+            long startLine = line + 1;
+            List<String> values;
+            try {
+                values = readCsvRow();
+            } catch (IllegalStateException e) {
+                return new CatalogRecord(startLine, Map.of(), e.getMessage());
+            }
+            if (values == null) {
+                return null;
+            }
+            if (values.size() == 1 && values.get(0).isBlank()) {
+                continue;
+            }
+            if (values.size() > header.size()) {
+                return new CatalogRecord(startLine, Map.of(),
+                        "Expected at most " + header.size() + " columns but found " + values.size());
+            }
+            Map<String, String> fields = new LinkedHashMap<>();
+            for (int i = 0; i < values.size(); i++) {
+                fields.put(header.get(i), values.get(i));
+            }
+            return new CatalogRecord(startLine, fields, null);
+        }
+    }
+
+    /**
+     * @return the fields of the next CSV row, or {@code null} at the end of the file.
+     * @throws IllegalStateException if the file ends inside a quoted field.
+     */
+    private List<String> readCsvRow() throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean read = false;
+        int c;
+        while ((c = reader.read()) != -1) {
+            read = true;
+            if (quoted) {
+                if (c == '"') {
+                    reader.mark(1);
+                    int following = reader.read();
+                    if (following == '"') {
+                        field.append('"'); // Escaped quote
+                    } else {
+                        quoted = false;
+                        if (following != -1) {
+                            reader.reset();
+                        }
+                    }
+                } else {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                line++;
+                fields.add(field.toString());
+                return fields;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+        }
+        if (!read) {
+            return null;
+        }
+        if (quoted) {
+            throw new IllegalStateException("Unterminated quoted field");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private CatalogRecord nextJsonRecord() throws IOException {
+        String text;
+        while ((text = reader.readLine()) != null) {
+            line++;
+            if (text.isBlank()) {
+                continue;
+            }
+            JsonNode node;
+            try {
+                node = objectMapper.readTree(text);
+            } catch (JsonProcessingException e) {
+                return new CatalogRecord(line, Map.of(), "Malformed JSON: " + e.getOriginalMessage());
+            }
+            if (!node.isObject()) {
+                return new CatalogRecord(line, Map.of(), "Expected a JSON object");
+            }
+            Map<String, String> fields = new LinkedHashMap<>();
+            for (Iterator<Map.Entry<String, JsonNode>> it = node.fields(); it.hasNext(); ) {
+                Map.Entry<String, JsonNode> entry = it.next();
+                JsonNode value = entry.getValue();
+                fields.put(CatalogFormat.normalizeColumn(entry.getKey()), value.isNull() ? null : value.asText());
+            }
+            return new CatalogRecord(line, fields, null);
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,22 @@
+package com.alx.ecommerce.product.transfer;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.Map;
+
+/**
+ * One row of an imported catalog file, keyed by {@link CatalogFormat#normalizeColumn(String) normalized} column.
+ * A row that could not be parsed has no fields and an {@code error}.
+ */
+@Data
+@AllArgsConstructor
+public class CatalogRecord {
+    private long line; // 1-based line the row starts on, for error reports
+    private Map<String, String> fields;
+    private String error;
+
+    public String get(String column) {
+        return fields.get(CatalogFormat.normalizeColumn(column));
+    }
+}
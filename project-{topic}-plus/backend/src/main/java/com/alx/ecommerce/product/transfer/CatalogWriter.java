@@ -0,0 +1,76 @@
+package com.alx.ecommerce.product.transfer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes catalog rows in {@link CatalogFormat#COLUMNS} order as they are produced. The output is buffered but
+ * never held in full, so it can be fed straight from a database cursor.
+ */
+public class CatalogWriter implements Flushable {
+
+    private final BufferedWriter writer;
+    private final CatalogFormat format;
+    private final ObjectMapper objectMapper;
+
+    public CatalogWriter(OutputStream out, CatalogFormat format, ObjectMapper objectMapper) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        this.format = format;
+        this.objectMapper = objectMapper;
+        if (format == CatalogFormat.CSV) {
+            writer.write(String.join(",", CatalogFormat.COLUMNS));
+            writer.write('\n');
+        }
+    }
+
+    /**
+     * @param values one value per column; {@code null} is written as an empty CSV field or a JSON null.
+     */
+    public void write(List<?> values) {
+        try {
+            if (format == CatalogFormat.CSV) {
+                for (int i = 0; i < values.size(); i++) {
+                    if (i > 0) {
+                        writer.write(',');
+                    }
+                    writer.write(csvField(values.get(i)));
+                }
+            } else {
+                Map<String, Object> row = new LinkedHashMap<>();
+                for (int i = 0; i < values.size(); i++) {
+                    row.put(CatalogFormat.COLUMNS.get(i), values.get(i));
+                }
+                writer.write(objectMapper.writeValueAsString(row));
+            }
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // Rows are written from a JDBC row callback, which cannot throw
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    static String csvField(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value instanceof BigDecimal decimal ? decimal.toPlainString() : value.toString();
+        boolean needsQuotes = text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0
+                || text.indexOf('\r') >= 0 || (!text.isEmpty() && text.charAt(0) == ' ');
+        return needsQuotes ? '"' + text.replace("\"", "\"\"") + '"' : text;
+    }
+}
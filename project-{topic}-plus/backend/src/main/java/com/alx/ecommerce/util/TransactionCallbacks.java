@@ -0,0 +1,33 @@
+package com.alx.ecommerce.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Deferral of in-memory updates to the end of the current transaction.
+ * The product caches and the search index apply catalogue writes through it, so a rolled-back write never
+ * reaches them.
+ */
+public final class TransactionCallbacks {
+
+    private TransactionCallbacks() {
+    }
+
+    /**
+     * Runs an action once the current transaction commits, or right away outside a transaction.
+     * The action is dropped when the transaction rolls back.
+     * @param action The action to run.
+     */
+    public static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -3,9 +3,11 @@ package com.alxchat;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableCaching // Enable Spring's caching abstraction
+@EnableScheduling // Periodic presence flush
 public class AlxChatApplication {
 
     public static void main(String[] args) {
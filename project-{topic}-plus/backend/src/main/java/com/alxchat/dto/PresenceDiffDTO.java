@@ -0,0 +1,18 @@
+package com.alxchat.dto;
+
+import com.alxchat.model.UserStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PresenceDiffDTO {
+    private Long roomId;
+    private Map<String, UserStatus> changes; // username -> new status, only users whose status changed
+}
@@ -4,12 +4,20 @@ import com.alxchat.model.ChatRoom;
 import com.alxchat.model.RoomParticipant;
 import com.alxchat.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface RoomParticipantRepository extends JpaRepository<RoomParticipant, Long> {
     boolean existsByRoomAndUser(ChatRoom room, User user);
     Optional<RoomParticipant> findByRoomAndUser(ChatRoom room, User user);
+
+    // Returns [roomId, username] pairs for every room the given users participate in
+    @Query("SELECT rp.room.id, rp.user.username FROM RoomParticipant rp WHERE rp.user.username IN :usernames")
+    List<Object[]> findRoomIdsAndUsernamesByUsernames(@Param("usernames") Collection<String> usernames);
 }
\ No newline at end of file
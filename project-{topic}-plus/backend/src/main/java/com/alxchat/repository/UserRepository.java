@@ -1,13 +1,27 @@
 package com.alxchat.repository;
 
 import com.alxchat.model.User;
+import com.alxchat.model.UserStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByUsername(String username);
     boolean existsByUsername(String username);
+
+    // Set-based status write used by the presence flush; rows already in the target status are not touched
+    @Modifying
+    @Query("UPDATE User u SET u.status = :status WHERE u.username IN :usernames AND u.status <> :status")
+    int updateStatusByUsernames(@Param("status") UserStatus status, @Param("usernames") Collection<String> usernames);
+
+    @Query("SELECT u.id FROM User u WHERE u.username IN :usernames")
+    List<Long> findIdsByUsernames(@Param("usernames") Collection<String> usernames);
 }
\ No newline at end of file
@@ -0,0 +1,107 @@
+package com.alxchat.service;
+
+import com.alxchat.dto.PresenceDiffDTO;
+import com.alxchat.model.UserStatus;
+import com.alxchat.repository.RoomParticipantRepository;
+import com.alxchat.repository.UserRepository;
+import com.alxchat.websocket.PresenceRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Persists and broadcasts presence changes collected by {@link PresenceRegistry}.
+ * <p>
+ * Instead of one SELECT + UPDATE per connect/disconnect, each flush issues at most one UPDATE per status,
+ * one id lookup for cache eviction and one membership query, then sends a single diff per affected room
+ * to /topic/room/{roomId}/presence. Changes whose write fails are handed back to the registry and retried on the
+ * next flush; nothing is evicted or broadcast for them.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PresenceService {
+
+    private final PresenceRegistry presenceRegistry;
+    private final UserRepository userRepository;
+    private final RoomParticipantRepository roomParticipantRepository;
+    private final CacheManager cacheManager;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${presence.debounce-ms:5000}")
+    private long debounceMillis;
+
+    public void onSessionConnected(String username, String sessionId) {
+        presenceRegistry.sessionOpened(username, sessionId, System.currentTimeMillis());
+    }
+
+    public void onSessionDisconnected(String username, String sessionId) {
+        presenceRegistry.sessionClosed(username, sessionId, System.currentTimeMillis());
+    }
+
+    public UserStatus getStatus(String username) {
+        return presenceRegistry.getStatus(username);
+    }
+
+    @Scheduled(fixedDelayString = "${presence.flush-interval-ms:2000}")
+    public void flush() {
+        Map<String, UserStatus> settled = presenceRegistry.drainSettled(System.currentTimeMillis(), debounceMillis);
+        if (settled.isEmpty()) {
+            return;
+        }
+
+        Map<UserStatus, List<String>> byStatus = new EnumMap<>(UserStatus.class);
+        settled.forEach((username, status) -> byStatus.computeIfAbsent(status, s -> new ArrayList<>()).add(username));
+        try {
+            // Committed here, so a failure at commit is caught below as well
+            transactionTemplate.executeWithoutResult(tx -> byStatus.forEach((status, usernames) -> {
+                int updated = userRepository.updateStatusByUsernames(status, usernames);
+                log.debug("Presence flush: {} of {} users updated to {}", updated, usernames.size(), status);
+            }));
+        } catch (RuntimeException e) {
+            presenceRegistry.restore(settled);
+            log.warn("Presence flush failed, {} status changes will be retried", settled.size(), e);
+            return;
+        }
+
+        evictCachedUsers(settled);
+        broadcastDiffs(settled);
+    }
+
+    // The "users" cache is keyed both by id and by username (see UserService)
+    private void evictCachedUsers(Map<String, UserStatus> settled) {
+        Cache users = cacheManager.getCache("users");
+        if (users == null) {
+            return;
+        }
+        settled.keySet().forEach(users::evict);
+        userRepository.findIdsByUsernames(settled.keySet()).forEach(users::evict);
+    }
+
+    private void broadcastDiffs(Map<String, UserStatus> settled) {
+        Map<Long, Map<String, UserStatus>> changesByRoom = new HashMap<>();
+        for (Object[] row : roomParticipantRepository.findRoomIdsAndUsernamesByUsernames(settled.keySet())) {
+            Long roomId = (Long) row[0];
+            String username = (String) row[1];
+            changesByRoom.computeIfAbsent(roomId, id -> new LinkedHashMap<>()).put(username, settled.get(username));
+        }
+        changesByRoom.forEach((roomId, changes) -> messagingTemplate.convertAndSend(
+                "/topic/room/" + roomId + "/presence",
+                PresenceDiffDTO.builder().roomId(roomId).changes(changes).build()));
+        log.info("Presence flush: {} status changes sent to {} rooms", settled.size(), changesByRoom.size());
+    }
+}
@@ -0,0 +1,119 @@
+package com.alxchat.websocket;
+
+import com.alxchat.model.UserStatus;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory presence state for connected users.
+ * <p>
+ * Each user is tracked by the set of STOMP session ids they currently hold, so a user with two tabs open
+ * stays ONLINE until the last one closes. Status flips are not persisted immediately: a flip only becomes
+ * "settled" once it has held for the debounce window, which lets reconnect storms and quick tab reloads
+ * collapse into nothing instead of an OFFLINE/ONLINE write pair.
+ */
+@Component
+public class PresenceRegistry {
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    public void sessionOpened(String username, String sessionId, long nowMillis) {
+        entries.compute(username, (name, entry) -> {
+            Entry e = entry != null ? entry : new Entry();
+            synchronized (e) {
+                if (e.sessionIds.isEmpty()) {
+                    e.lastFlipAt = nowMillis;
+                }
+                e.sessionIds.add(sessionId);
+            }
+            return e;
+        });
+    }
+
+    public void sessionClosed(String username, String sessionId, long nowMillis) {
+        entries.computeIfPresent(username, (name, e) -> {
+            synchronized (e) {
+                // Disconnect events can be delivered more than once per session; only the first one counts
+                if (e.sessionIds.remove(sessionId) && e.sessionIds.isEmpty()) {
+                    e.lastFlipAt = nowMillis;
+                }
+            }
+            return e;
+        });
+    }
+
+    public UserStatus getStatus(String username) {
+        return getSessionCount(username) > 0 ? UserStatus.ONLINE : UserStatus.OFFLINE;
+    }
+
+    public int getSessionCount(String username) {
+        Entry e = entries.get(username);
+        if (e == null) {
+            return 0;
+        }
+        synchronized (e) {
+            return e.sessionIds.size();
+        }
+    }
+
+    /**
+     * Collects every user whose effective status differs from the last drained one and has been stable for at
+     * least {@code debounceMillis}. Drained users are marked as persisted; fully offline users are dropped from
+     * the registry so it only holds connected (or recently connected) users. A caller that fails to write the
+     * drained changes hands them back through {@link #restore(Map)}.
+     */
+    public Map<String, UserStatus> drainSettled(long nowMillis, long debounceMillis) {
+        Map<String, UserStatus> settled = new LinkedHashMap<>();
+        Iterator<Map.Entry<String, Entry>> it = entries.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<String, Entry> mapEntry = it.next();
+            String username = mapEntry.getKey();
+            Entry e = mapEntry.getValue();
+            synchronized (e) {
+                UserStatus current = e.sessionIds.isEmpty() ? UserStatus.OFFLINE : UserStatus.ONLINE;
+                if (nowMillis - e.lastFlipAt < debounceMillis) {
+                    continue; // Still flapping, look again on the next drain
+                }
+                if (current != e.persistedStatus) {
+                    settled.put(username, current);
+                    e.persistedStatus = current;
+                }
+            }
+            // Remove only if no session re-appeared in the meantime
+            entries.computeIfPresent(username, (name, existing) -> {
+                synchronized (existing) {
+                    return existing.sessionIds.isEmpty() && existing.persistedStatus == UserStatus.OFFLINE ? null : existing;
+                }
+            });
+        }
+        return settled;
+    }
+
+    /**
+     * Forgets that drained changes were persisted, so the next drain reports the users' current status again.
+     * Users dropped as offline are tracked again for that purpose.
+     */
+    public void restore(Map<String, UserStatus> drained) {
+        drained.forEach((username, status) -> entries.compute(username, (name, entry) -> {
+            Entry e = entry != null ? entry : new Entry(); // An offline user, already settled
+            synchronized (e) {
+                if (e.persistedStatus == status) {
+                    e.persistedStatus = null; // The DB value is unknown again
+                }
+            }
+            return e;
+        }));
+    }
+
+    private static final class Entry {
+        private final Set<String> sessionIds = new HashSet<>();
+        private long lastFlipAt;
+        private UserStatus persistedStatus; // null until the first drain: the DB value is unknown
+    }
+}
@@ -1,28 +1,22 @@
 package com.alxchat.websocket;
 
-import com.alxchat.model.User;
-import com.alxchat.model.UserStatus;
-import com.alxchat.service.UserService;
+import com.alxchat.service.PresenceService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
-import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
-import org.springframework.messaging.simp.SimpMessageType;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
-import org.springframework.messaging.support.GenericMessage;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.messaging.SessionConnectedEvent;
 import org.springframework.web.socket.messaging.SessionDisconnectEvent;
 
 import java.security.Principal;
-import java.util.Optional;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class WebSocketEventListener {
 
-    private final UserService userService;
+    private final PresenceService presenceService;
 
     @EventListener
     public void handleWebSocketConnectListener(SessionConnectedEvent event) {
@@ -32,11 +26,8 @@ public class WebSocketEventListener {
         if (principal != null) {
             String username = principal.getName();
             log.info("WebSocket connected: {}", username);
-            // Update user status to ONLINE
-            User user = userService.getUserByUsername(username);
-            if (user != null) {
-                userService.updateUserStatus(user.getId(), UserStatus.ONLINE);
-            }
+            // Presence is tracked in memory; the status write happens in the next PresenceService flush
+            presenceService.onSessionConnected(username, headerAccessor.getSessionId());
         }
     }
 
@@ -48,11 +39,7 @@ public class WebSocketEventListener {
         if (principal != null) {
             String username = principal.getName();
             log.info("WebSocket disconnected: {}", username);
-            // Update user status to OFFLINE
-            User user = userService.getUserByUsername(username);
-            if (user != null) {
-                userService.updateUserStatus(user.getId(), UserStatus.OFFLINE);
-            }
+            presenceService.onSessionDisconnected(username, event.getSessionId());
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,18 @@
+-- Order events written with the order change and delivered by the outbox relay
+CREATE TABLE order_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    order_id BIGINT NOT NULL,
+    event_type VARCHAR(50) NOT NULL,
+    payload TEXT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    last_error VARCHAR(1000),
+    created_at TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    published_at TIMESTAMP WITHOUT TIME ZONE
+);
+
+-- The relay only scans undelivered events, the cleanup only delivered ones
+CREATE INDEX idx_order_outbox_pending ON order_outbox (id) WHERE status = 'PENDING';
+CREATE INDEX idx_order_outbox_published_at ON order_outbox (published_at) WHERE status = 'PUBLISHED';
+CREATE INDEX idx_order_outbox_order_id ON order_outbox (order_id);
@@ -0,0 +1,2 @@
+-- The relay holds an event back while an earlier event of the same order is undelivered
+CREATE INDEX idx_order_outbox_undelivered_order ON order_outbox (order_id, id) WHERE status <> 'PUBLISHED';
@@ -0,0 +1,87 @@
+package com.alx.ecommerce.common.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TwoTierCacheTest {
+
+    private ConcurrentMapCache remote;
+    private List<String> published;
+    private TwoTierCache cache;
+
+    @BeforeEach
+    void setUp() {
+        remote = new ConcurrentMapCache("productById", false);
+        published = new ArrayList<>();
+        cache = new TwoTierCache("productById", Caffeine.newBuilder().maximumSize(100).build(), remote,
+                (name, key) -> published.add(name + ":" + key));
+    }
+
+    @Test
+    @DisplayName("Should serve from the local tier after the first remote hit")
+    void get_PromotesRemoteHitsToLocal() {
+        remote.put(101L, "laptop");
+
+        assertEquals("laptop", cache.get(101L).get());
+        remote.evict(101L); // Second read must not need Redis
+        assertEquals("laptop", cache.get(101L).get());
+
+        assertEquals(2, cache.hitCount());
+        assertEquals(1, cache.localHitCount());
+        assertNull(cache.get(102L));
+        assertEquals(1, cache.missCount());
+    }
+
+    @Test
+    @DisplayName("Should write and evict both tiers and announce it to other nodes")
+    void putAndEvict_BothTiersAndPublish() {
+        cache.put(101L, "laptop");
+        assertEquals("laptop", remote.get(101L).get());
+
+        cache.evict(101L);
+        assertNull(remote.get(101L));
+        assertNull(cache.get(101L));
+        assertEquals(List.of("productById:101", "productById:101"), published);
+
+        cache.clear();
+        assertEquals("productById:null", published.get(2));
+    }
+
+    @Test
+    @DisplayName("Should drop local entries when another node invalidates them")
+    void invalidateLocal_FromOtherNode() {
+        cache.put(101L, "laptop");
+        remote.put(101L, "laptop v2"); // Written by another node
+
+        cache.invalidateLocal("101");
+
+        assertEquals("laptop v2", cache.get(101L).get());
+    }
+
+    @Test
+    @DisplayName("Should load a missing value once and store it in both tiers")
+    void get_WithLoader() {
+        AtomicInteger loads = new AtomicInteger();
+
+        assertEquals("loaded", cache.get(7L, () -> {
+            loads.incrementAndGet();
+            return "loaded";
+        }));
+        assertEquals("loaded", cache.get(7L, () -> {
+            loads.incrementAndGet();
+            return "reloaded";
+        }));
+
+        assertEquals(1, loads.get());
+        assertEquals("loaded", remote.get(7L).get());
+    }
+}
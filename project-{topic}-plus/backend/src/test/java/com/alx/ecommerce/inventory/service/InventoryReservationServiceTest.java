@@ -0,0 +1,149 @@
+package com.alx.ecommerce.inventory.service;
+
+import com.alx.ecommerce.product.repository.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class InventoryReservationServiceTest {
+
+    @Mock
+    private ProductRepository productRepository;
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private StockLedger stockLedger;
+    private InventoryReservationService service;
+
+    @BeforeEach
+    void setUp() {
+        stockLedger = new StockLedger();
+        service = new InventoryReservationService(stockLedger, productRepository, jdbcTemplate);
+        ReflectionTestUtils.setField(service, "reservationTtlMs", 120_000L);
+        ReflectionTestUtils.setField(service, "idleEvictionMs", 600_000L);
+        lenient().when(productRepository.findStockByIdIn(anyCollection()))
+                .thenReturn(List.<Object[]>of(new Object[]{1L, 10}));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should refuse to reserve outside a transaction")
+    void reserveForCurrentTransaction_NoTransaction_Throws() {
+        assertThrows(IllegalStateException.class, () -> service.reserveForCurrentTransaction(Map.of(1L, 2)));
+        assertNull(stockLedger.getAvailable(1L));
+    }
+
+    @Test
+    @DisplayName("Should deduct in the database and confirm the reservation on commit")
+    void reserveForCurrentTransaction_Commit_KeepsStockDeducted() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(new int[]{1});
+        TransactionSynchronizationManager.initSynchronization();
+
+        service.reserveForCurrentTransaction(Map.of(1L, 3));
+        assertEquals(3, stockLedger.getHeld(1L));
+
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        assertEquals(7, stockLedger.getAvailable(1L));
+        assertEquals(0, stockLedger.getHeld(1L));
+        verify(jdbcTemplate).batchUpdate(anyString(), argThat((List<Object[]> args) ->
+                args.size() == 1 && args.get(0)[0].equals(3) && args.get(0)[1].equals(1L)));
+    }
+
+    @Test
+    @DisplayName("Should return the stock when the transaction rolls back")
+    void reserveForCurrentTransaction_Rollback_ReturnsStock() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(new int[]{1});
+        TransactionSynchronizationManager.initSynchronization();
+
+        service.reserveForCurrentTransaction(Map.of(1L, 3));
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertEquals(10, stockLedger.getAvailable(1L));
+        assertEquals(0, stockLedger.getHeld(1L));
+    }
+
+    @Test
+    @DisplayName("Should fail when the database has less stock than the ledger")
+    void deductStock_DatabaseShort_Throws() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(new int[]{0});
+        TransactionSynchronizationManager.initSynchronization();
+
+        IllegalArgumentException thrown = assertThrows(IllegalArgumentException.class,
+                () -> service.reserveForCurrentTransaction(Map.of(1L, 3)));
+        assertEquals("Not enough stock for product ID: 1", thrown.getMessage());
+
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+        assertEquals(0, stockLedger.getHeld(1L));
+    }
+
+    @Test
+    @DisplayName("Should reject a reservation over the available stock without touching the database")
+    void reserve_InsufficientStock_Throws() {
+        assertThrows(IllegalArgumentException.class, () -> service.reserve(Map.of(1L, 11)));
+        assertThrows(IllegalArgumentException.class, () -> service.reserve(Map.of(1L, 0)));
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("Should expire stale reservations but not those bound to a running transaction")
+    void expireReservations_SkipsTransactionBound() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(new int[]{1});
+        ReflectionTestUtils.setField(service, "reservationTtlMs", -1L);
+        service.reserve(Map.of(1L, 2));
+        TransactionSynchronizationManager.initSynchronization();
+        service.reserveForCurrentTransaction(Map.of(1L, 3));
+
+        service.expireReservations();
+
+        assertEquals(3, stockLedger.getHeld(1L)); // Only the transaction's hold is left
+        assertEquals(7, stockLedger.getAvailable(1L));
+
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+        assertEquals(0, stockLedger.getHeld(1L));
+        assertEquals(7, stockLedger.getAvailable(1L));
+    }
+
+    @Test
+    @DisplayName("Should reset tracked products from the database on reconcile")
+    void reconcileLedger_ReloadsStock() {
+        service.reserve(Map.of(1L, 2));
+        when(productRepository.findStockByIdIn(anyCollection())).thenReturn(List.<Object[]>of(new Object[]{1L, 20}));
+
+        service.reconcileLedger();
+
+        assertEquals(18, stockLedger.getAvailable(1L));
+        assertEquals(2, stockLedger.getHeld(1L));
+    }
+
+    private void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+}
@@ -0,0 +1,142 @@
+package com.alx.ecommerce.inventory.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StockLedgerTest {
+
+    private StockLedger stockLedger;
+    private AtomicInteger loads;
+    private Function<Collection<Long>, Map<Long, Integer>> loader;
+
+    @BeforeEach
+    void setUp() {
+        stockLedger = new StockLedger();
+        loads = new AtomicInteger();
+        loader = ids -> {
+            loads.incrementAndGet();
+            return Map.of(1L, 10, 2L, 3);
+        };
+    }
+
+    @Test
+    @DisplayName("Should reserve all quantities and load stock only once")
+    void reserve_Success() {
+        assertNull(stockLedger.reserve(Map.of(1L, 4, 2L, 1), loader));
+        assertNull(stockLedger.reserve(Map.of(1L, 1), loader));
+
+        assertEquals(5, stockLedger.getAvailable(1L));
+        assertEquals(5, stockLedger.getHeld(1L));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("Should reserve nothing when any product is short")
+    void reserve_InsufficientStock_RollsBackOtherProducts() {
+        assertEquals(2L, stockLedger.reserve(Map.of(1L, 4, 2L, 5), loader));
+
+        assertEquals(10, stockLedger.getAvailable(1L));
+        assertEquals(0, stockLedger.getHeld(1L));
+        assertEquals(3, stockLedger.getAvailable(2L));
+    }
+
+    @Test
+    @DisplayName("Should treat unknown products as out of stock")
+    void reserve_UnknownProduct_Rejected() {
+        assertEquals(99L, stockLedger.reserve(Map.of(99L, 1), loader));
+    }
+
+    @Test
+    @DisplayName("Should return stock on release and keep it deducted on commit")
+    void releaseAndCommit() {
+        stockLedger.reserve(Map.of(1L, 4), loader);
+        stockLedger.release(Map.of(1L, 4));
+        assertEquals(10, stockLedger.getAvailable(1L));
+
+        stockLedger.reserve(Map.of(1L, 4), loader);
+        stockLedger.commit(Map.of(1L, 4));
+        assertEquals(6, stockLedger.getAvailable(1L));
+        assertEquals(0, stockLedger.getHeld(1L));
+    }
+
+    @Test
+    @DisplayName("Should recompute available stock from the database minus held reservations")
+    void reconcile_SubtractsHeld() {
+        stockLedger.reserve(Map.of(1L, 4, 2L, 1), loader);
+
+        assertEquals(1, stockLedger.reconcile(List.of(1L, 2L), ids -> Map.of(1L, 20)));
+
+        assertEquals(16, stockLedger.getAvailable(1L));
+        assertNull(stockLedger.getAvailable(2L)); // Deleted product is dropped
+    }
+
+    @Test
+    @DisplayName("Should not over-count when a reservation commits while the database is read")
+    void reconcile_StaleSnapshot_Skipped() {
+        stockLedger.reserve(Map.of(1L, 4), loader);
+
+        // The database still has 10 when read, then the order commits: stock 6, nothing held
+        int reset = stockLedger.reconcile(List.of(1L), ids -> {
+            stockLedger.commit(Map.of(1L, 4));
+            return Map.of(1L, 10);
+        });
+
+        assertEquals(0, reset);
+        assertEquals(6, stockLedger.getAvailable(1L)); // Not 10 - 0
+        assertEquals(0, stockLedger.getHeld(1L));
+
+        assertEquals(1, stockLedger.reconcile(List.of(1L), ids -> Map.of(1L, 6)));
+        assertEquals(6, stockLedger.getAvailable(1L));
+    }
+
+    @Test
+    @DisplayName("Should keep products with reservations in flight on evict")
+    void evict_KeepsHeldProducts() {
+        stockLedger.reserve(Map.of(1L, 4, 2L, 1), loader);
+        stockLedger.commit(Map.of(2L, 1));
+
+        stockLedger.evict(1L);
+        stockLedger.evict(2L);
+
+        assertNotNull(stockLedger.getAvailable(1L));
+        assertNull(stockLedger.getAvailable(2L));
+    }
+
+    @Test
+    @DisplayName("Should never oversell under concurrent reservations")
+    void reserve_Concurrent_NeverOversells() throws InterruptedException {
+        Function<Collection<Long>, Map<Long, Integer>> hotProduct = ids -> Map.of(7L, 100);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger succeeded = new AtomicInteger();
+        for (int i = 0; i < 1000; i++) {
+            pool.submit(() -> {
+                start.await();
+                if (stockLedger.reserve(Map.of(7L, 1), hotProduct) == null) {
+                    succeeded.incrementAndGet();
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(100, succeeded.get());
+        assertEquals(0, stockLedger.getAvailable(7L));
+        assertEquals(100, stockLedger.getHeld(7L));
+    }
+}
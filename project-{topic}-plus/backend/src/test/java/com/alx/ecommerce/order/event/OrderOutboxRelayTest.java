@@ -0,0 +1,155 @@
+package com.alx.ecommerce.order.event;
+
+import com.alx.ecommerce.order.model.OrderOutboxEvent;
+import com.alx.ecommerce.order.model.OrderStatus;
+import com.alx.ecommerce.order.model.OutboxStatus;
+import com.alx.ecommerce.order.repository.OrderOutboxRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "order.outbox.poll-interval-ms=3600000", // Only the explicit publishPending() calls deliver
+        "order.outbox.max-attempts=2",
+        "order.outbox.retry-backoff-ms=0"
+})
+@ImportAutoConfiguration({JacksonAutoConfiguration.class, TransactionAutoConfiguration.class})
+@Import({OrderOutboxRelay.class, OrderOutboxRelayTest.RecordingConsumer.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // The relay commits its own transactions
+class OrderOutboxRelayTest {
+
+    @Autowired
+    private OrderOutboxRelay relay;
+    @Autowired
+    private OrderOutboxRepository outboxRepository;
+    @Autowired
+    private RecordingConsumer consumer;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @AfterEach
+    void tearDown() {
+        outboxRepository.deleteAll();
+        consumer.received.clear();
+        consumer.failing = false;
+        consumer.failingOrders.clear();
+    }
+
+    @Test
+    @DisplayName("Should deliver due events in order and mark them published")
+    void publishPending_DeliversInOrder() throws Exception {
+        OrderOutboxEvent first = saveEvent(1L, LocalDateTime.now().minusSeconds(1));
+        OrderOutboxEvent second = saveEvent(2L, LocalDateTime.now().minusSeconds(1));
+
+        assertEquals(2, relay.publishPending());
+
+        assertEquals(List.of(1L, 2L), consumer.received.stream().map(OrderEvent::getOrderId).toList());
+        assertEquals(first.getId(), consumer.received.get(0).getEventId());
+        OrderOutboxEvent stored = outboxRepository.findById(second.getId()).orElseThrow();
+        assertEquals(OutboxStatus.PUBLISHED, stored.getStatus());
+        assertNotNull(stored.getPublishedAt());
+        assertEquals(0, relay.publishPending()); // Nothing is delivered twice
+    }
+
+    @Test
+    @DisplayName("Should not deliver events before their next attempt time")
+    void publishPending_SkipsEventsNotDue() throws Exception {
+        saveEvent(1L, LocalDateTime.now().plusMinutes(5));
+
+        assertEquals(0, relay.publishPending());
+        assertTrue(consumer.received.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should retry a failing event and mark it failed after the maximum attempts")
+    void publishPending_ConsumerFails_RetriesThenGivesUp() throws Exception {
+        OrderOutboxEvent event = saveEvent(1L, LocalDateTime.now().minusSeconds(1));
+        consumer.failing = true;
+
+        assertEquals(0, relay.publishPending());
+        OrderOutboxEvent afterFirst = outboxRepository.findById(event.getId()).orElseThrow();
+        assertEquals(OutboxStatus.PENDING, afterFirst.getStatus());
+        assertEquals(1, afterFirst.getAttempts());
+        assertTrue(afterFirst.getLastError().contains("consumer down"));
+
+        assertEquals(0, relay.publishPending());
+        assertEquals(OutboxStatus.FAILED, outboxRepository.findById(event.getId()).orElseThrow().getStatus());
+        assertEquals(0, relay.publishPending()); // Failed events are not picked up again
+    }
+
+    @Test
+    @DisplayName("Should hold back an order's later events while an earlier one is retried or failed")
+    void publishPending_FailedEvent_StopsItsOrderOnly() throws Exception {
+        OrderOutboxEvent placed = saveEvent(1L, LocalDateTime.now().minusSeconds(1));
+        OrderOutboxEvent paid = saveEvent(1L, LocalDateTime.now().minusSeconds(1));
+        OrderOutboxEvent otherOrder = saveEvent(2L, LocalDateTime.now().minusSeconds(1));
+        consumer.failingOrders.add(1L);
+
+        assertEquals(1, relay.publishPending()); // Order 2 is not held up
+        assertEquals(0, outboxRepository.findById(paid.getId()).orElseThrow().getAttempts());
+        assertEquals(0, relay.publishPending());
+        assertEquals(OutboxStatus.FAILED, outboxRepository.findById(placed.getId()).orElseThrow().getStatus());
+
+        consumer.failingOrders.clear();
+        assertEquals(0, relay.publishPending()); // Still behind the failed event
+        assertEquals(OutboxStatus.PENDING, outboxRepository.findById(paid.getId()).orElseThrow().getStatus());
+
+        OrderOutboxEvent reset = outboxRepository.findById(placed.getId()).orElseThrow();
+        reset.setStatus(OutboxStatus.PENDING);
+        outboxRepository.save(reset);
+        assertEquals(2, relay.publishPending());
+        assertEquals(List.of(otherOrder.getId(), placed.getId(), paid.getId()),
+                consumer.received.stream().map(OrderEvent::getEventId).toList());
+    }
+
+    private OrderOutboxEvent saveEvent(Long orderId, LocalDateTime nextAttemptAt) throws Exception {
+        OrderEvent event = OrderEvent.builder()
+                .type(OrderEventType.ORDER_PLACED)
+                .orderId(orderId)
+                .userId(1L)
+                .status(OrderStatus.PENDING)
+                .totalAmount(new BigDecimal("10.00"))
+                .occurredAt(LocalDateTime.now())
+                .build();
+        return outboxRepository.save(OrderOutboxEvent.builder()
+                .orderId(orderId)
+                .eventType(event.getType())
+                .payload(objectMapper.writeValueAsString(event))
+                .status(OutboxStatus.PENDING)
+                .nextAttemptAt(nextAttemptAt)
+                .build());
+    }
+
+    static class RecordingConsumer implements OrderEventConsumer {
+        final List<OrderEvent> received = new CopyOnWriteArrayList<>();
+        final Set<Long> failingOrders = ConcurrentHashMap.newKeySet();
+        volatile boolean failing;
+
+        @Override
+        public void onOrderEvent(OrderEvent event) {
+            if (failing || failingOrders.contains(event.getOrderId())) {
+                throw new IllegalStateException("consumer down");
+            }
+            received.add(event);
+        }
+    }
+}
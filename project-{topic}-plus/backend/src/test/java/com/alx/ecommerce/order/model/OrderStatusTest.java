@@ -0,0 +1,38 @@
+package com.alx.ecommerce.order.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderStatusTest {
+
+    @Test
+    @DisplayName("Should allow the main path and cancellation before shipping")
+    void canTransitionTo_AllowedTransitions() {
+        assertTrue(OrderStatus.PENDING.canTransitionTo(OrderStatus.PAID));
+        assertTrue(OrderStatus.PAID.canTransitionTo(OrderStatus.SHIPPED));
+        assertTrue(OrderStatus.SHIPPED.canTransitionTo(OrderStatus.DELIVERED));
+        assertTrue(OrderStatus.PENDING.canTransitionTo(OrderStatus.CANCELLED));
+        assertTrue(OrderStatus.PAID.canTransitionTo(OrderStatus.CANCELLED));
+    }
+
+    @Test
+    @DisplayName("Should reject skipping payment, going backwards and leaving final states")
+    void canTransitionTo_RejectedTransitions() {
+        assertFalse(OrderStatus.PENDING.canTransitionTo(OrderStatus.SHIPPED));
+        assertFalse(OrderStatus.SHIPPED.canTransitionTo(OrderStatus.PAID));
+        assertFalse(OrderStatus.SHIPPED.canTransitionTo(OrderStatus.CANCELLED));
+        assertFalse(OrderStatus.DELIVERED.canTransitionTo(OrderStatus.CANCELLED));
+        assertFalse(OrderStatus.CANCELLED.canTransitionTo(OrderStatus.PENDING));
+        assertFalse(OrderStatus.PAID.canTransitionTo(OrderStatus.PAID));
+    }
+
+    @Test
+    @DisplayName("Should parse statuses case-insensitively and reject unknown ones")
+    void from_ParsesStatus() {
+        assertEquals(OrderStatus.PAID, OrderStatus.from(" paid "));
+        assertThrows(IllegalArgumentException.class, () -> OrderStatus.from("REFUNDED"));
+        assertThrows(IllegalArgumentException.class, () -> OrderStatus.from(null));
+    }
+}
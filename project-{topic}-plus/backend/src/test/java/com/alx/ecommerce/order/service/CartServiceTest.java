@@ -11,6 +11,7 @@ import com.alx.ecommerce.product.model.Product;
 import com.alx.ecommerce.product.repository.ProductRepository;
 import com.alx.ecommerce.user.model.User;
 import com.alx.ecommerce.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -18,6 +19,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -41,6 +46,8 @@ class CartServiceTest {
     private ProductRepository productRepository;
     @Mock
     private UserRepository userRepository;
+    @Mock
+    private CacheManager cacheManager;
 
     @InjectMocks
     private CartService cartService;
@@ -50,9 +57,12 @@ class CartServiceTest {
     private Product product2;
     private Cart cart;
     private CartItem cartItem1;
+    private ConcurrentMapCache cartsCache;
 
     @BeforeEach
     void setUp() {
+        cartsCache = new ConcurrentMapCache(CartService.CARTS_CACHE);
+        lenient().when(cacheManager.getCache(CartService.CARTS_CACHE)).thenReturn(cartsCache);
         user = User.builder().id(1L).username("testuser").email("test@example.com").password("pass").build();
         product1 = Product.builder().id(101L).name("Laptop").sku("LAP001").price(new BigDecimal("1200.00")).stockQuantity(10).build();
         product2 = Product.builder().id(102L).name("Mouse").sku("MOU001").price(new BigDecimal("25.00")).stockQuantity(20).build();
@@ -62,13 +72,20 @@ class CartServiceTest {
         cart.getCartItems().add(cartItem1);
     }
 
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
     @Test
     @DisplayName("Should add a new item to an empty cart")
     void addToCart_NewCartAndItem_Success() {
         AddToCartRequest request = new AddToCartRequest(product2.getId(), 1);
-        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
         when(productRepository.findById(product2.getId())).thenReturn(Optional.of(product2));
-        when(cartRepository.findByUser(user)).thenReturn(Optional.empty()); // No cart exists
+        when(cartRepository.findWithItemsByUserId(user.getId())).thenReturn(Optional.empty()); // No cart exists
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
         when(cartRepository.save(any(Cart.class))).thenAnswer(invocation -> {
             Cart newCart = invocation.getArgument(0);
             newCart.setId(2L);
@@ -94,10 +111,8 @@ class CartServiceTest {
     @DisplayName("Should increase quantity of an existing item in cart")
     void addToCart_ExistingItem_IncreaseQuantity() {
         AddToCartRequest request = new AddToCartRequest(product1.getId(), 1);
-        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
         when(productRepository.findById(product1.getId())).thenReturn(Optional.of(product1));
-        when(cartRepository.findByUser(user)).thenReturn(Optional.of(cart)); // Cart already exists
-        when(cartItemRepository.findByCartAndProduct(cart, product1)).thenReturn(Optional.of(cartItem1));
+        when(cartRepository.findWithItemsByUserId(user.getId())).thenReturn(Optional.of(cart)); // Cart already exists
         when(cartItemRepository.save(any(CartItem.class))).thenReturn(cartItem1);
 
         CartDTO result = cartService.addToCart(user.getId(), request);
@@ -107,20 +122,18 @@ class CartServiceTest {
         assertEquals(3, result.getCartItems().get(0).getQuantity()); // Quantity increased from 2 to 3
         verify(cartRepository, never()).save(any(Cart.class)); // No new cart created
         verify(cartItemRepository, times(1)).save(any(CartItem.class));
+        verifyNoInteractions(userRepository); // The user is only loaded when a cart has to be created
     }
 
     @Test
     @DisplayName("Should add a new item to an existing cart")
     void addToCart_ExistingCartNewItem_Success() {
         AddToCartRequest request = new AddToCartRequest(product2.getId(), 1);
-        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
         when(productRepository.findById(product2.getId())).thenReturn(Optional.of(product2));
-        when(cartRepository.findByUser(user)).thenReturn(Optional.of(cart));
-        when(cartItemRepository.findByCartAndProduct(cart, product2)).thenReturn(Optional.empty()); // New item
+        when(cartRepository.findWithItemsByUserId(user.getId())).thenReturn(Optional.of(cart));
         when(cartItemRepository.save(any(CartItem.class))).thenAnswer(invocation -> {
             CartItem newItem = invocation.getArgument(0);
             newItem.setId(2L);
-            cart.getCartItems().add(newItem); // Simulate adding to cart's items
             return newItem;
         });
 
@@ -138,7 +151,6 @@ class CartServiceTest {
     void addToCart_NotEnoughStock_ThrowsException() {
         AddToCartRequest request = new AddToCartRequest(product1.getId(), 15); // Request more than available
         product1.setStockQuantity(10); // Ensure stock is set
-        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
         when(productRepository.findById(product1.getId())).thenReturn(Optional.of(product1));
 
         assertThrows(IllegalArgumentException.class, () -> cartService.addToCart(user.getId(), request));
@@ -149,8 +161,7 @@ class CartServiceTest {
     @Test
     @DisplayName("Should retrieve cart for existing user")
     void getCartByUserId_ExistingCart_Success() {
-        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
-        when(cartRepository.findByUser(user)).thenReturn(Optional.of(cart));
+        when(cartRepository.findWithItemsByUserId(user.getId())).thenReturn(Optional.of(cart));
 
         CartDTO result = cartService.getCartByUserId(user.getId());
 
@@ -163,8 +174,8 @@ class CartServiceTest {
     @Test
     @DisplayName("Should return empty cart DTO for user without a cart")
     void getCartByUserId_NoCartForUser_ReturnsEmptyCartDTO() {
-        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
-        when(cartRepository.findByUser(user)).thenReturn(Optional.empty());
+        when(cartRepository.findWithItemsByUserId(user.getId())).thenReturn(Optional.empty());
+        when(userRepository.existsById(user.getId())).thenReturn(true);
 
         CartDTO result = cartService.getCartByUserId(user.getId());
 
@@ -174,13 +185,19 @@ class CartServiceTest {
         assertEquals(BigDecimal.ZERO, result.getTotalAmount());
     }
 
+    @Test
+    @DisplayName("Should throw exception for unknown user without a cart")
+    void getCartByUserId_UnknownUser_ThrowsException() {
+        when(cartRepository.findWithItemsByUserId(anyLong())).thenReturn(Optional.empty());
+        when(userRepository.existsById(anyLong())).thenReturn(false);
+
+        assertThrows(ResourceNotFoundException.class, () -> cartService.getCartByUserId(99L));
+    }
+
     @Test
     @DisplayName("Should update quantity of existing cart item")
     void updateCartItemQuantity_Success() {
-        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
-        when(cartRepository.findByUser(user)).thenReturn(Optional.of(cart));
-        when(productRepository.findById(product1.getId())).thenReturn(Optional.of(product1));
-        when(cartItemRepository.findByCartAndProduct(cart, product1)).thenReturn(Optional.of(cartItem1));
+        when(cartRepository.findWithItemsByUserId(user.getId())).thenReturn(Optional.of(cart));
         when(cartItemRepository.save(any(CartItem.class))).thenReturn(cartItem1); // return the modified item
 
         CartDTO result = cartService.updateCartItemQuantity(user.getId(), product1.getId(), 5);
@@ -188,15 +205,23 @@ class CartServiceTest {
         assertNotNull(result);
         assertEquals(5, result.getCartItems().get(0).getQuantity());
         verify(cartItemRepository, times(1)).save(cartItem1);
+        verifyNoInteractions(productRepository); // Product comes with the cart
+    }
+
+    @Test
+    @DisplayName("Should throw exception when updating a product that is not in the cart")
+    void updateCartItemQuantity_ItemNotInCart_ThrowsException() {
+        when(cartRepository.findWithItemsByUserId(user.getId())).thenReturn(Optional.of(cart));
+
+        assertThrows(ResourceNotFoundException.class,
+                () -> cartService.updateCartItemQuantity(user.getId(), product2.getId(), 1));
+        verify(cartItemRepository, never()).save(any(CartItem.class));
     }
 
     @Test
     @DisplayName("Should remove cart item if quantity is 0 or less")
     void updateCartItemQuantity_ZeroQuantity_RemovesItem() {
-        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
-        when(cartRepository.findByUser(user)).thenReturn(Optional.of(cart));
-        when(productRepository.findById(product1.getId())).thenReturn(Optional.of(product1));
-        when(cartItemRepository.findByCartAndProduct(cart, product1)).thenReturn(Optional.of(cartItem1));
+        when(cartRepository.findWithItemsByUserId(user.getId())).thenReturn(Optional.of(cart));
         doNothing().when(cartItemRepository).delete(cartItem1);
 
         CartDTO result = cartService.updateCartItemQuantity(user.getId(), product1.getId(), 0);
@@ -209,10 +234,7 @@ class CartServiceTest {
     @Test
     @DisplayName("Should remove an item from cart")
     void removeCartItem_Success() {
-        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
-        when(cartRepository.findByUser(user)).thenReturn(Optional.of(cart));
-        when(productRepository.findById(product1.getId())).thenReturn(Optional.of(product1));
-        when(cartItemRepository.findByCartAndProduct(cart, product1)).thenReturn(Optional.of(cartItem1));
+        when(cartRepository.findWithItemsByUserId(user.getId())).thenReturn(Optional.of(cart));
         doNothing().when(cartItemRepository).delete(cartItem1);
 
         CartDTO result = cartService.removeCartItem(user.getId(), product1.getId());
@@ -224,18 +246,68 @@ class CartServiceTest {
     }
 
     @Test
-    @DisplayName("Should clear all items from the cart")
+    @DisplayName("Should clear all items from the cart with one bulk delete")
     void clearCart_Success() {
-        CartItem cartItem2 = CartItem.builder().id(2L).cart(cart).product(product2).quantity(1).priceAtTimeOfAddition(product2.getPrice()).build();
-        cart.getCartItems().add(cartItem2);
+        when(cartItemRepository.deleteAllByUserId(user.getId())).thenReturn(2);
 
-        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
-        when(cartRepository.findByUser(user)).thenReturn(Optional.of(cart));
-        doNothing().when(cartItemRepository).deleteAll(anyList());
+        cartsCache.put(user.getId(), CartDTO.builder().userId(user.getId()).build());
 
         cartService.clearCart(user.getId());
 
-        assertTrue(cart.getCartItems().isEmpty()); // Verify cart's item list is empty
-        verify(cartItemRepository, times(1)).deleteAll(anyList());
+        assertNull(cartsCache.get(user.getId()));
+        verify(cartItemRepository, times(1)).deleteAllByUserId(user.getId());
+        verifyNoMoreInteractions(cartItemRepository);
+        verifyNoInteractions(cartRepository);
+    }
+
+    @Test
+    @DisplayName("Should cache the updated cart only once the transaction commits")
+    void removeCartItem_CachesAfterCommit() {
+        when(cartRepository.findWithItemsByUserId(user.getId())).thenReturn(Optional.of(cart));
+        TransactionSynchronizationManager.initSynchronization();
+
+        CartDTO result = cartService.removeCartItem(user.getId(), product1.getId());
+
+        assertNull(cartsCache.get(user.getId()));
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+        assertSame(result, cartsCache.get(user.getId()).get());
+    }
+
+    @Test
+    @DisplayName("Should leave the cached cart alone when the transaction rolls back")
+    void updateCartItemQuantity_RolledBack_KeepsCachedCart() {
+        CartDTO cached = CartDTO.builder().userId(user.getId()).cartItems(List.of()).build();
+        cartsCache.put(user.getId(), cached);
+        when(cartRepository.findWithItemsByUserId(user.getId())).thenReturn(Optional.of(cart));
+        TransactionSynchronizationManager.initSynchronization();
+
+        cartService.updateCartItemQuantity(user.getId(), product1.getId(), 5);
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertSame(cached, cartsCache.get(user.getId()).get());
+    }
+
+    @Test
+    @DisplayName("Should evict the cached carts containing a product")
+    void evictCartsContaining_EvictsListedUsers() {
+        cartsCache.put(1L, CartDTO.builder().userId(1L).build());
+        cartsCache.put(2L, CartDTO.builder().userId(2L).build());
+        cartsCache.put(3L, CartDTO.builder().userId(3L).build());
+        when(cartItemRepository.findCartUserIdsByProductId(101L)).thenReturn(List.of(1L, 3L));
+
+        cartService.evictCartsContaining(101L);
+
+        assertNull(cartsCache.get(1L));
+        assertNotNull(cartsCache.get(2L));
+        assertNull(cartsCache.get(3L));
+    }
+
+    private void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        if (status == TransactionSynchronization.STATUS_COMMITTED) {
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+        }
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,133 @@
+package com.alx.ecommerce.order.service;
+
+import com.alx.ecommerce.inventory.service.InventoryReservationService;
+import com.alx.ecommerce.order.dto.OrderDTO;
+import com.alx.ecommerce.order.event.OrderEventType;
+import com.alx.ecommerce.order.event.OrderOutbox;
+import com.alx.ecommerce.order.model.Cart;
+import com.alx.ecommerce.order.model.CartItem;
+import com.alx.ecommerce.order.model.Order;
+import com.alx.ecommerce.order.model.OrderItem;
+import com.alx.ecommerce.order.model.OrderStatus;
+import com.alx.ecommerce.order.repository.CartRepository;
+import com.alx.ecommerce.order.repository.OrderItemBatchRepository;
+import com.alx.ecommerce.order.repository.OrderRepository;
+import com.alx.ecommerce.product.model.Product;
+import com.alx.ecommerce.user.model.User;
+import com.alx.ecommerce.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderServiceTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+    @Mock
+    private CartRepository cartRepository;
+    @Mock
+    private OrderItemBatchRepository orderItemBatchRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private CartService cartService;
+    @Mock
+    private InventoryReservationService inventoryReservationService;
+    @Mock
+    private OrderOutbox orderOutbox;
+
+    @InjectMocks
+    private OrderService orderService;
+
+    private User user;
+    private Cart cart;
+
+    @BeforeEach
+    void setUp() {
+        user = User.builder().id(1L).username("testuser").email("test@example.com").password("pass").build();
+        cart = Cart.builder().id(1L).user(user).cartItems(new ArrayList<>()).build();
+        for (long id = 1; id <= 50; id++) {
+            Product product = Product.builder().id(100 + id).name("Product " + id).price(new BigDecimal("10.00")).stockQuantity(5).build();
+            cart.getCartItems().add(CartItem.builder().id(id).cart(cart).product(product).quantity(2).priceAtTimeOfAddition(product.getPrice()).build());
+        }
+    }
+
+    @Test
+    @DisplayName("Should place an order for a large cart with batched writes")
+    void placeOrder_Success() {
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+        when(cartRepository.findWithItemsByUserId(user.getId())).thenReturn(Optional.of(cart));
+        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> {
+            Order order = invocation.getArgument(0);
+            order.setId(7L);
+            return order;
+        });
+
+        OrderDTO result = orderService.placeOrder(user.getId(), "1 Main St");
+
+        assertEquals(7L, result.getId());
+        assertEquals(50, result.getOrderItems().size());
+        assertEquals(new BigDecimal("1000.00"), result.getTotalAmount());
+        verify(inventoryReservationService, times(1)).reserveForCurrentTransaction(argThat((Map<Long, Integer> quantities) -> quantities.size() == 50));
+        verify(orderItemBatchRepository, times(1)).insertAll(eq(7L), argThat((List<OrderItem> items) -> items.size() == 50));
+        verify(orderRepository, times(1)).save(argThat(order -> order.getOrderItems().isEmpty())); // No per-item cascade
+        verify(cartService, times(1)).clearCart(user.getId());
+        verify(orderOutbox, times(1)).append(argThat(event -> event.getType() == OrderEventType.ORDER_PLACED
+                && event.getOrderId().equals(7L) && event.getLines().size() == 50));
+    }
+
+    @Test
+    @DisplayName("Should reject an order for an empty cart")
+    void placeOrder_EmptyCart_ThrowsException() {
+        cart.getCartItems().clear();
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+        when(cartRepository.findWithItemsByUserId(user.getId())).thenReturn(Optional.of(cart));
+
+        assertThrows(IllegalArgumentException.class, () -> orderService.placeOrder(user.getId(), "1 Main St"));
+        verifyNoInteractions(inventoryReservationService, orderItemBatchRepository, orderOutbox);
+    }
+
+    @Test
+    @DisplayName("Should move a pending order to paid and record the change")
+    void updateOrderStatus_AllowedTransition_Success() {
+        Order order = Order.builder().id(7L).user(user).orderItems(new ArrayList<>()).totalAmount(new BigDecimal("20.00"))
+                .shippingAddress("1 Main St").orderStatus(OrderStatus.PENDING).build();
+        when(orderRepository.findByIdForUpdate(7L)).thenReturn(Optional.of(order));
+        when(orderRepository.save(order)).thenReturn(order);
+
+        OrderDTO result = orderService.updateOrderStatus(7L, "paid");
+
+        assertEquals("PAID", result.getOrderStatus());
+        verify(orderOutbox, times(1)).append(argThat(event -> event.getType() == OrderEventType.ORDER_STATUS_CHANGED
+                && event.getPreviousStatus() == OrderStatus.PENDING && event.getStatus() == OrderStatus.PAID));
+    }
+
+    @Test
+    @DisplayName("Should reject shipping an order that has not been paid")
+    void updateOrderStatus_SkippedTransition_ThrowsException() {
+        Order order = Order.builder().id(7L).user(user).orderItems(new ArrayList<>()).totalAmount(new BigDecimal("20.00"))
+                .shippingAddress("1 Main St").orderStatus(OrderStatus.PENDING).build();
+        when(orderRepository.findByIdForUpdate(7L)).thenReturn(Optional.of(order));
+
+        assertThrows(IllegalArgumentException.class, () -> orderService.updateOrderStatus(7L, "SHIPPED"));
+        assertEquals(OrderStatus.PENDING, order.getOrderStatus());
+        verify(orderRepository, never()).save(any(Order.class));
+        verifyNoInteractions(orderOutbox);
+    }
+}
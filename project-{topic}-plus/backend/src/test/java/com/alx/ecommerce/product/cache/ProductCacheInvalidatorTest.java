@@ -0,0 +1,202 @@
+package com.alx.ecommerce.product.cache;
+
+import com.alx.ecommerce.order.service.CartService;
+import com.alx.ecommerce.product.dto.ProductDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductCacheInvalidatorTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+    @Mock
+    private SetOperations<String, String> setOperations;
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private ConcurrentMapCacheManager cacheManager;
+    private SimpleMeterRegistry meterRegistry;
+    private ProductCacheInvalidator invalidator;
+
+    private final String nameSortedPage = ProductCacheInvalidator.pageKey(PageRequest.of(0, 10, Sort.by("name")));
+    private final String otherPage = ProductCacheInvalidator.pageKey(PageRequest.of(1, 10, Sort.by("name")));
+    private final String priceSortedPage = ProductCacheInvalidator.pageKey(PageRequest.of(0, 10, Sort.by("price")));
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new ConcurrentMapCacheManager(ProductCacheInvalidator.PRODUCTS,
+                ProductCacheInvalidator.PRODUCT_BY_ID, ProductCacheInvalidator.PRODUCTS_BY_CATEGORY, CartService.CARTS_CACHE);
+        meterRegistry = new SimpleMeterRegistry();
+        invalidator = new ProductCacheInvalidator(cacheManager, redisTemplate, meterRegistry);
+        lenient().when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        cache(ProductCacheInvalidator.PRODUCTS).put(nameSortedPage, "page 0");
+        cache(ProductCacheInvalidator.PRODUCTS).put(otherPage, "page 1");
+        cache(ProductCacheInvalidator.PRODUCTS).put(priceSortedPage, "page 0 by price");
+        cache(ProductCacheInvalidator.PRODUCTS_BY_CATEGORY).put(1L, List.of(product(101L, 1L, "10.00", 5), product(102L, 1L, "20.00", 1)));
+        cache(ProductCacheInvalidator.PRODUCTS_BY_CATEGORY).put(2L, List.of(product(201L, 2L, "5.00", 9)));
+        lenient().when(setOperations.members("product-cache:deps:product:101"))
+                .thenReturn(Set.of("products|" + nameSortedPage, "productsByCategory|1"));
+        lenient().when(setOperations.members("product-cache:deps:sort:price")).thenReturn(Set.of("products|" + priceSortedPage));
+    }
+
+    private Cache cache(String name) {
+        return cacheManager.getCache(name);
+    }
+
+    private ProductDTO product(Long id, Long categoryId, String price, int stock) {
+        return ProductDTO.builder().id(id).name("Product " + id).categoryId(categoryId)
+                .price(new BigDecimal(price)).stockQuantity(stock).build();
+    }
+
+    @Test
+    @DisplayName("Should evict only pages containing the product and patch its other entries on a stock update")
+    void productUpdated_StockChange() {
+        ProductDTO after = product(101L, 1L, "10.00", 4);
+
+        invalidator.productUpdated(product(101L, 1L, "10.00", 5), after);
+
+        assertNull(cache(ProductCacheInvalidator.PRODUCTS).get(nameSortedPage));
+        assertNotNull(cache(ProductCacheInvalidator.PRODUCTS).get(otherPage));
+        assertNotNull(cache(ProductCacheInvalidator.PRODUCTS).get(priceSortedPage));
+        assertEquals(after, cache(ProductCacheInvalidator.PRODUCT_BY_ID).get(101L).get());
+        List<?> listing = (List<?>) cache(ProductCacheInvalidator.PRODUCTS_BY_CATEGORY).get(1L).get();
+        assertEquals(4, ((ProductDTO) listing.get(0)).getStockQuantity());
+        assertEquals(1.0, meterRegistry.summary("product.cache.evictions.per.write").totalAmount());
+    }
+
+    @Test
+    @DisplayName("Should also evict pages sorted by a changed property")
+    void productUpdated_SortPropertyChange() {
+        invalidator.productUpdated(product(101L, 1L, "10.00", 5), product(101L, 1L, "12.50", 5));
+
+        assertNull(cache(ProductCacheInvalidator.PRODUCTS).get(priceSortedPage));
+        assertNotNull(cache(ProductCacheInvalidator.PRODUCTS).get(otherPage));
+        verify(redisTemplate).delete("product-cache:deps:sort:price");
+    }
+
+    @Test
+    @DisplayName("Should evict both category listings when the product moves category")
+    void productUpdated_CategoryChange() {
+        invalidator.productUpdated(product(101L, 1L, "10.00", 5), product(101L, 2L, "10.00", 5));
+
+        assertNull(cache(ProductCacheInvalidator.PRODUCTS_BY_CATEGORY).get(1L));
+        assertNull(cache(ProductCacheInvalidator.PRODUCTS_BY_CATEGORY).get(2L));
+    }
+
+    @Test
+    @DisplayName("Should move the patched product entry to the new category's dependencies")
+    @SuppressWarnings("unchecked")
+    void productUpdated_CategoryChange_RecordsPatchedEntry() {
+        invalidator.productUpdated(product(101L, 1L, "10.00", 5), product(101L, 2L, "10.00", 5));
+
+        verify(setOperations).remove("product-cache:deps:category:1", "productById|101");
+        ArgumentCaptor<RedisCallback<Object>> callback = ArgumentCaptor.forClass(RedisCallback.class);
+        verify(redisTemplate).executePipelined(callback.capture());
+        StringRedisConnection connection = mock(StringRedisConnection.class);
+        callback.getValue().doInRedis(connection);
+        verify(connection).sAdd("product-cache:deps:category:2", "productById|101");
+        verify(connection, never()).sAdd(eq("product-cache:deps:category:1"), any(String[].class));
+    }
+
+    @Test
+    @DisplayName("Should drop every product entry and cached cart when the whole catalog changes")
+    void catalogChanged() {
+        cache(ProductCacheInvalidator.PRODUCT_BY_ID).put(101L, product(101L, 1L, "10.00", 5));
+        cache(CartService.CARTS_CACHE).put(7L, "cart of user 7");
+
+        invalidator.catalogChanged();
+
+        assertNull(cache(ProductCacheInvalidator.PRODUCTS).get(nameSortedPage));
+        assertNull(cache(ProductCacheInvalidator.PRODUCT_BY_ID).get(101L));
+        assertNull(cache(ProductCacheInvalidator.PRODUCTS_BY_CATEGORY).get(2L));
+        assertNull(cache(CartService.CARTS_CACHE).get(7L));
+        verify(valueOperations).increment("product-cache:deps:writes");
+    }
+
+    @Test
+    @DisplayName("Should drop all pages but only the product's own entries on delete")
+    void productDeleted() {
+        cache(ProductCacheInvalidator.PRODUCT_BY_ID).put(101L, product(101L, 1L, "10.00", 5));
+
+        invalidator.productDeleted(101L);
+
+        assertNull(cache(ProductCacheInvalidator.PRODUCTS).get(otherPage));
+        assertNull(cache(ProductCacheInvalidator.PRODUCT_BY_ID).get(101L));
+        assertNull(cache(ProductCacheInvalidator.PRODUCTS_BY_CATEGORY).get(1L));
+        assertNotNull(cache(ProductCacheInvalidator.PRODUCTS_BY_CATEGORY).get(2L));
+    }
+
+    @Test
+    @DisplayName("Should load, cache and record an entry on a miss, and serve it from the cache after")
+    void cached_LoadsOnceAndRecords() {
+        when(valueOperations.get("product-cache:deps:writes")).thenReturn("7");
+        List<ProductDTO> recorded = new ArrayList<>();
+
+        ProductDTO loaded = invalidator.cached(ProductCacheInvalidator.PRODUCT_BY_ID, 101L,
+                () -> product(101L, 1L, "10.00", 5), recorded::add);
+        ProductDTO again = invalidator.cached(ProductCacheInvalidator.PRODUCT_BY_ID, 101L,
+                () -> fail("Should have been served from the cache"), recorded::add);
+
+        assertSame(loaded, again);
+        assertEquals(List.of(loaded), recorded);
+    }
+
+    @Test
+    @DisplayName("Should not keep an entry loaded while a product write was being invalidated")
+    void cached_EvictsEntryLoadedAcrossAWrite() {
+        when(valueOperations.get("product-cache:deps:writes")).thenReturn("7", "8");
+
+        ProductDTO loaded = invalidator.cached(ProductCacheInvalidator.PRODUCT_BY_ID, 101L,
+                () -> product(101L, 1L, "10.00", 5), product -> { });
+
+        assertEquals(101L, loaded.getId());
+        assertNull(cache(ProductCacheInvalidator.PRODUCT_BY_ID).get(101L));
+    }
+
+    @Test
+    @DisplayName("Should bump the write counter before invalidating")
+    void productDeleted_BumpsWriteCounterFirst() {
+        invalidator.productDeleted(101L);
+
+        InOrder inOrder = inOrder(valueOperations, setOperations);
+        inOrder.verify(valueOperations).increment("product-cache:deps:writes");
+        inOrder.verify(setOperations).members("product-cache:deps:product:101");
+    }
+
+    @Test
+    @DisplayName("Should only report properties whose value changed")
+    void changedProperties() {
+        ProductDTO before = product(101L, 1L, "10.0", 5);
+        ProductDTO after = product(101L, 1L, "10.00", 3);
+
+        assertEquals(Set.of("stockQuantity"), ProductCacheInvalidator.changedProperties(before, after));
+    }
+}
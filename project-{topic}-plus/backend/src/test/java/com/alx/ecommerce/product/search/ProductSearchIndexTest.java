@@ -0,0 +1,167 @@
+package com.alx.ecommerce.product.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductSearchIndexTest {
+
+    private ProductSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ProductSearchIndex();
+        index.index(new ProductDocument(1L, "Gaming Laptop", "Powerful laptop with a fast GPU", 1L, new BigDecimal("1200.00")));
+        index.index(new ProductDocument(2L, "Laptop Bag", "Padded bag for laptops up to 15 inches", 2L, new BigDecimal("45.00")));
+        index.index(new ProductDocument(3L, "Wireless Mouse", "Ergonomic mouse, works with any laptop", 1L, new BigDecimal("25.00")));
+        index.index(new ProductDocument(4L, "Coffee Mug", "Ceramic mug", 3L, new BigDecimal("9.99")));
+    }
+
+    private List<Long> ids(ProductSearchIndex.Result result) {
+        return result.getHits().stream().map(ProductSearchIndex.Hit::getProductId).collect(Collectors.toList());
+    }
+
+    private ProductSearchQuery.ProductSearchQueryBuilder query(String text) {
+        return ProductSearchQuery.builder().text(text).page(0).size(10);
+    }
+
+    @Test
+    @DisplayName("Should rank name matches above description matches")
+    void search_RanksNameMatchesFirst() {
+        ProductSearchIndex.Result result = index.search(query("laptop").build());
+
+        assertEquals(3, result.getTotalHits());
+        assertEquals(3L, ids(result).get(2));
+    }
+
+    @Test
+    @DisplayName("Should require every query term to match")
+    void search_AllTermsRequired() {
+        assertEquals(List.of(2L), ids(index.search(query("laptop bag").build())));
+        assertEquals(0, index.search(query("laptop coffee").build()).getTotalHits());
+    }
+
+    @Test
+    @DisplayName("Should match the last term as a prefix and tolerate one typo")
+    void search_PrefixAndTypoTolerance() {
+        assertEquals(List.of(4L), ids(index.search(query("cof").build())));
+        assertEquals(List.of(3L), ids(index.search(query("wireles mosue").build())));
+        assertEquals(List.of(4L), ids(index.search(query("ceramik").build())));
+    }
+
+    @Test
+    @DisplayName("Should filter and count facets independently of their own filter")
+    void search_FiltersAndFacets() {
+        ProductSearchIndex.Result result = index.search(query("laptop").categoryId(1L)
+                .maxPrice(new BigDecimal("100")).build());
+
+        assertEquals(List.of(3L), ids(result));
+        assertEquals(1, result.getCategoryCounts().get(1L)); // Price filter applies, category filter does not
+        assertEquals(1, result.getCategoryCounts().get(2L));
+        assertEquals(1, result.getPriceRangeCounts()[1]); // 25.00 falls in [25, 50)
+        assertEquals(1, result.getPriceRangeCounts()[6]); // 1200.00 in the open-ended range
+    }
+
+    @Test
+    @DisplayName("Should page through ranked hits")
+    void search_Pagination() {
+        ProductSearchIndex.Result all = index.search(query("laptop").build());
+        ProductSearchIndex.Result second = index.search(query("laptop").page(1).size(2).build());
+
+        assertEquals(3, second.getTotalHits());
+        assertEquals(List.of(ids(all).get(2)), ids(second));
+    }
+
+    @Test
+    @DisplayName("Should return an empty page past the result window, even for huge page numbers")
+    void search_PagesPastTheResultWindow() {
+        ProductSearchIndex.Result deep = index.search(query("laptop").page(5_000).size(2).build());
+        ProductSearchIndex.Result overflowing = index.search(query("laptop").page(Integer.MAX_VALUE).size(100).build());
+
+        assertTrue(deep.getHits().isEmpty());
+        assertTrue(overflowing.getHits().isEmpty());
+        assertEquals(3, overflowing.getTotalHits());
+    }
+
+    @Test
+    @DisplayName("Should reflect updates and deletes, and reclaim tombstones on rebuild")
+    void updateRemoveAndRebuild() {
+        index.index(new ProductDocument(4L, "Travel Mug", "Steel mug", 3L, new BigDecimal("19.99")));
+        index.remove(2L);
+
+        assertEquals(0, index.search(query("ceramic").build()).getTotalHits());
+        assertEquals(List.of(4L), ids(index.search(query("travel").build())));
+        assertEquals(List.of(1L, 3L), ids(index.search(query("laptop").build())));
+        assertTrue(index.tombstoneRatio() > 0);
+
+        index.rebuild(sink -> sink.accept(new ProductDocument(5L, "Desk Lamp", "LED lamp", 4L, new BigDecimal("30"))));
+
+        assertEquals(1, index.size());
+        assertEquals(0.0, index.tombstoneRatio());
+        assertEquals(List.of(5L), ids(index.search(query("lamp").build())));
+    }
+
+    @Test
+    @DisplayName("Should keep updates made while two rebuilds overlap")
+    void rebuild_Concurrent_KeepsUpdates() throws Exception {
+        ProductDocument lamp = new ProductDocument(5L, "Desk Lamp", "LED lamp", 4L, new BigDecimal("30"));
+        ProductDocument floorLamp = new ProductDocument(6L, "Floor Lamp", "Tall lamp", 4L, new BigDecimal("80"));
+        CountDownLatch firstLoading = new CountDownLatch(1);
+        CountDownLatch finishFirst = new CountDownLatch(1);
+        List<String> loads = Collections.synchronizedList(new ArrayList<>());
+
+        Thread first = new Thread(() -> index.rebuild(sink -> {
+            loads.add("first");
+            sink.accept(lamp);
+            firstLoading.countDown();
+            try {
+                finishFirst.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            loads.add("first done");
+        }));
+        Thread second = new Thread(() -> index.rebuild(sink -> {
+            loads.add("second");
+            sink.accept(lamp);
+            sink.accept(floorLamp); // Committed by then
+        }));
+        first.start();
+        assertTrue(firstLoading.await(5, TimeUnit.SECONDS));
+        second.start();
+        while (second.getState() == Thread.State.NEW || second.getState() == Thread.State.RUNNABLE) {
+            Thread.onSpinWait(); // Until parked on the rebuild lock
+        }
+
+        index.index(floorLamp);
+        finishFirst.countDown();
+        first.join(5000);
+        second.join(5000);
+
+        assertEquals(List.of("first", "first done", "second"), loads);
+        assertEquals(List.of(5L, 6L), ids(index.search(query("lamp").build())));
+        assertEquals(2, index.size());
+        index.index(new ProductDocument(7L, "Lamp Shade", "Linen", 4L, new BigDecimal("15")));
+        assertEquals(3, index.size()); // No rebuild left half-open
+    }
+
+    @Test
+    @DisplayName("Should recognise single-edit variants")
+    void withinOneEdit() {
+        assertTrue(ProductSearchIndex.withinOneEdit("mouse", "mosue"));
+        assertTrue(ProductSearchIndex.withinOneEdit("mouse", "mose"));
+        assertTrue(ProductSearchIndex.withinOneEdit("mouse", "mousse"));
+        assertTrue(ProductSearchIndex.withinOneEdit("mouse", "house"));
+        assertFalse(ProductSearchIndex.withinOneEdit("mouse", "moist"));
+    }
+}
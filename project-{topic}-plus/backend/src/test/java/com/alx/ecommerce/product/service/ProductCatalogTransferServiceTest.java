@@ -0,0 +1,143 @@
+package com.alx.ecommerce.product.service;
+
+import com.alx.ecommerce.inventory.service.InventoryReservationService;
+import com.alx.ecommerce.product.cache.ProductCacheInvalidator;
+import com.alx.ecommerce.product.dto.ProductImportReportDTO;
+import com.alx.ecommerce.product.model.Category;
+import com.alx.ecommerce.product.repository.CategoryRepository;
+import com.alx.ecommerce.product.repository.ProductBatchRepository;
+import com.alx.ecommerce.product.transfer.CatalogFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductCatalogTransferServiceTest {
+
+    @Mock
+    private ProductBatchRepository productBatchRepository;
+    @Mock
+    private CategoryRepository categoryRepository;
+    @Mock
+    private ProductCacheInvalidator productCacheInvalidator;
+    @Mock
+    private ProductSearchService productSearchService;
+    @Mock
+    private InventoryReservationService inventoryReservationService;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @InjectMocks
+    private ProductCatalogTransferService service;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "batchSize", 2);
+        ReflectionTestUtils.setField(service, "maxReportedErrors", 10);
+        when(categoryRepository.findAll()).thenReturn(List.of(Category.builder().id(3L).name("Kitchen").build()));
+        lenient().doAnswer(invocation -> {
+            invocation.<Consumer<Object>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @Test
+    @DisplayName("Should upsert valid rows in batches, report invalid ones and refresh caches once")
+    @SuppressWarnings("unchecked")
+    void importCatalog_BatchesRowsAndReportsErrors() throws Exception {
+        String csv = "sku,name,description,price,stock_quantity,category\n" +
+                "A-1,Mug,Blue mug,4.50,10,kitchen\n" +
+                "A-2,Cup,Small cup,-1,10,Kitchen\n" +
+                "A-3,Pan,Steel pan,20,3,Garden\n" +
+                "A-4,Pot,Big pot,30,2,Kitchen\n" +
+                "A-5,Lid,Glass lid,5,1,Kitchen\n";
+
+        ProductImportReportDTO report = service.importCatalog(stream(csv), CatalogFormat.CSV);
+
+        assertEquals(5, report.getRowsRead());
+        assertEquals(3, report.getRowsUpserted());
+        assertEquals(2, report.getRowsFailed());
+        assertEquals(List.of(3L, 4L), report.getErrors().stream().map(ProductImportReportDTO.RowError::getLine).toList());
+        assertTrue(report.getErrors().get(1).getMessage().contains("Garden"));
+
+        ArgumentCaptor<List<ProductBatchRepository.ProductUpsert>> batches = ArgumentCaptor.forClass(List.class);
+        verify(productBatchRepository, times(2)).upsertAll(batches.capture());
+        assertEquals(List.of("A-1", "A-4"), batches.getAllValues().get(0).stream().map(ProductBatchRepository.ProductUpsert::getSku).toList());
+        assertEquals(3L, batches.getAllValues().get(0).get(0).getCategoryId());
+        verify(productCacheInvalidator, times(1)).catalogChanged();
+        verify(productSearchService, times(1)).rebuildIndex();
+    }
+
+    @Test
+    @DisplayName("Should retry a failed batch row by row and report only the failing row")
+    void importCatalog_BatchFails_IsolatesBadRow() throws Exception {
+        when(productBatchRepository.upsertAll(anyList())).thenAnswer(invocation -> {
+            List<ProductBatchRepository.ProductUpsert> rows = invocation.getArgument(0);
+            if (rows.stream().anyMatch(row -> row.getSku().equals("A-2"))) {
+                throw new DataIntegrityViolationException("value too long");
+            }
+            return rows.size();
+        });
+
+        ProductImportReportDTO report = service.importCatalog(stream(
+                "{\"sku\":\"A-1\",\"name\":\"Mug\",\"description\":\"d\",\"price\":1,\"stockQuantity\":1,\"categoryId\":3}\n" +
+                "{\"sku\":\"A-2\",\"name\":\"Cup\",\"description\":\"d\",\"price\":1,\"stockQuantity\":1,\"categoryId\":3}\n"),
+                CatalogFormat.JSONL);
+
+        assertEquals(1, report.getRowsUpserted());
+        assertEquals(1, report.getRowsFailed());
+        assertEquals("A-2", report.getErrors().get(0).getSku());
+        verify(productBatchRepository, times(3)).upsertAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Should still refresh caches when the file breaks off after some batches were written")
+    void importCatalog_FailsPartWay_RefreshesWrittenRows() {
+        String csv = "sku,name,description,price,stock_quantity,category\n" +
+                "A-1,Mug,Blue mug,4.50,10,Kitchen\n" +
+                "A-2,Cup,Small cup,2,10,Kitchen\n" +
+                "A-3,\"Pan,Steel pan,20,3,Kitchen\n";
+
+        assertThrows(IllegalStateException.class, () -> service.importCatalog(stream(csv), CatalogFormat.CSV));
+
+        verify(productBatchRepository, times(1)).upsertAll(anyList());
+        verify(productCacheInvalidator, times(1)).catalogChanged();
+        verify(productSearchService, times(1)).rebuildIndex();
+        verify(inventoryReservationService, times(1)).reconcileLedger();
+    }
+
+    @Test
+    @DisplayName("Should not touch caches when nothing was imported")
+    void importCatalog_NothingValid_SkipsRefresh() throws Exception {
+        ProductImportReportDTO report = service.importCatalog(stream("sku,name\nA-1,Mug\n"), CatalogFormat.CSV);
+
+        assertEquals(1, report.getRowsFailed());
+        verifyNoInteractions(productBatchRepository, productCacheInvalidator, productSearchService);
+    }
+
+    private static ByteArrayInputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,11 +1,17 @@
 package com.alx.ecommerce.product.service;
 
 import com.alx.ecommerce.common.exceptions.ResourceNotFoundException;
+import com.alx.ecommerce.inventory.service.InventoryReservationService;
+import com.alx.ecommerce.order.service.CartService;
+import com.alx.ecommerce.product.cache.ProductCacheInvalidator;
 import com.alx.ecommerce.product.dto.ProductDTO;
+import com.alx.ecommerce.product.dto.ProductSearchResultDTO;
 import com.alx.ecommerce.product.model.Category;
 import com.alx.ecommerce.product.model.Product;
 import com.alx.ecommerce.product.repository.CategoryRepository;
 import com.alx.ecommerce.product.repository.ProductRepository;
+import com.alx.ecommerce.product.search.ProductSearchIndex;
+import com.alx.ecommerce.product.search.ProductSearchQuery;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -22,7 +28,10 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -36,6 +45,14 @@ class ProductServiceTest {
     private ProductRepository productRepository;
     @Mock
     private CategoryRepository categoryRepository;
+    @Mock
+    private InventoryReservationService inventoryReservationService;
+    @Mock
+    private ProductSearchService productSearchService;
+    @Mock
+    private ProductCacheInvalidator productCacheInvalidator;
+    @Mock
+    private CartService cartService;
 
     @InjectMocks
     private ProductService productService;
@@ -83,6 +100,18 @@ class ProductServiceTest {
                 .build();
     }
 
+    /**
+     * Lets reads through the product cache go to the loader, as on a cache miss.
+     */
+    @SuppressWarnings("unchecked")
+    private void missCache() {
+        when(productCacheInvalidator.cached(any(), any(), any(), any())).thenAnswer(invocation -> {
+            Object value = invocation.getArgument(2, Supplier.class).get();
+            invocation.getArgument(3, Consumer.class).accept(value);
+            return value;
+        });
+    }
+
     @Test
     @DisplayName("Should create a new product successfully")
     void createProduct_Success() {
@@ -126,6 +155,7 @@ class ProductServiceTest {
     @Test
     @DisplayName("Should retrieve product by ID successfully")
     void getProductById_Success() {
+        missCache();
         when(productRepository.findById(101L)).thenReturn(Optional.of(product));
 
         ProductDTO result = productService.getProductById(101L);
@@ -138,6 +168,7 @@ class ProductServiceTest {
     @Test
     @DisplayName("Should throw exception if product not found by ID")
     void getProductById_NotFound_ThrowsException() {
+        missCache();
         when(productRepository.findById(anyLong())).thenReturn(Optional.empty());
 
         assertThrows(ResourceNotFoundException.class, () -> productService.getProductById(999L));
@@ -146,6 +177,7 @@ class ProductServiceTest {
     @Test
     @DisplayName("Should retrieve all products with pagination")
     void getAllProducts_Success() {
+        missCache();
         Pageable pageable = PageRequest.of(0, 10);
         Page<Product> productPage = new PageImpl<>(List.of(product), pageable, 1);
         when(productRepository.findAll(pageable)).thenReturn(productPage);
@@ -173,14 +205,15 @@ class ProductServiceTest {
         when(productRepository.findById(101L)).thenReturn(Optional.of(product));
         when(categoryRepository.findById(1L)).thenReturn(Optional.of(category));
         when(productRepository.findBySku("LAP001")).thenReturn(Optional.of(product)); // SKU hasn't changed
-        when(productRepository.save(any(Product.class))).thenReturn(product);
+        when(productRepository.saveAndFlush(any(Product.class))).thenReturn(product);
 
         ProductDTO result = productService.updateProduct(101L, updatedProductDTO);
 
         assertNotNull(result);
         assertEquals("Updated Laptop", result.getName());
         assertEquals(new BigDecimal("1300.00"), result.getPrice());
-        verify(productRepository, times(1)).save(any(Product.class));
+        verify(productRepository, times(1)).saveAndFlush(any(Product.class));
+        verify(cartService).evictCartsContaining(101L); // Name and price changed
     }
 
     @Test
@@ -191,6 +224,7 @@ class ProductServiceTest {
 
         assertDoesNotThrow(() -> productService.deleteProduct(101L));
         verify(productRepository, times(1)).deleteById(101L);
+        verify(cartService).evictCartsContaining(101L);
     }
 
     @Test
@@ -205,6 +239,7 @@ class ProductServiceTest {
     @Test
     @DisplayName("Should return products by category ID")
     void getProductsByCategoryId_Success() {
+        missCache();
         when(categoryRepository.existsById(1L)).thenReturn(true);
         when(productRepository.findByCategoryId(1L)).thenReturn(List.of(product));
 
@@ -219,6 +254,7 @@ class ProductServiceTest {
     @Test
     @DisplayName("Should return empty list for category with no products but existing category ID")
     void getProductsByCategoryId_NoProductsButCategoryExists_ReturnsEmptyList() {
+        missCache();
         when(categoryRepository.existsById(1L)).thenReturn(true);
         when(productRepository.findByCategoryId(1L)).thenReturn(Collections.emptyList());
 
@@ -231,6 +267,7 @@ class ProductServiceTest {
     @Test
     @DisplayName("Should throw ResourceNotFoundException for non-existent category ID")
     void getProductsByCategoryId_CategoryNotFound_ThrowsException() {
+        missCache();
         when(categoryRepository.existsById(99L)).thenReturn(false);
         when(productRepository.findByCategoryId(99L)).thenReturn(Collections.emptyList());
 
@@ -240,13 +277,19 @@ class ProductServiceTest {
     @Test
     @DisplayName("Should search products by keyword")
     void searchProducts_Success() {
-        when(productRepository.searchProducts(anyString())).thenReturn(List.of(product));
+        when(productSearchService.search(any(ProductSearchQuery.class))).thenReturn(new ProductSearchIndex.Result(
+                List.of(new ProductSearchIndex.Hit(101L, 2.5f)), 1, Map.of(1L, 1), new int[]{0, 0, 0, 0, 0, 0, 1}));
+        when(productRepository.findAllWithCategoryByIdIn(List.of(101L))).thenReturn(List.of(product));
+        when(categoryRepository.findAllById(any())).thenReturn(List.of(category));
 
-        List<ProductDTO> results = productService.searchProducts("laptop");
+        ProductSearchResultDTO result = productService.searchProducts("laptop", null, null, null, 0, 20);
 
-        assertNotNull(results);
-        assertFalse(results.isEmpty());
-        assertEquals(1, results.size());
-        assertEquals("Laptop", results.get(0).getName());
+        assertNotNull(result);
+        assertEquals(1, result.getTotalHits());
+        assertEquals(1, result.getProducts().size());
+        assertEquals("Laptop", result.getProducts().get(0).getName());
+        assertEquals("Electronics", result.getCategories().get(0).getCategoryName());
+        assertEquals(1, result.getPriceRanges().get(6).getCount());
+        assertNull(result.getPriceRanges().get(6).getMaxPrice());
     }
 }
\ No newline at end of file
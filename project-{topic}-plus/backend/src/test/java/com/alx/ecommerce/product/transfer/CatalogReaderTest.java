@@ -0,0 +1,89 @@
+package com.alx.ecommerce.product.transfer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CatalogReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("Should read quoted CSV fields with commas, quotes and line breaks and track line numbers")
+    void next_Csv_ParsesQuotedFields() throws IOException {
+        String csv = "\uFEFFsku,Name,Stock Quantity\r\n" +
+                "A-1,\"Mug, large\",5\r\n" +
+                "\n" +
+                "A-2,\"Says \"\"hi\"\"\non two lines\",\n" +
+                "A-3,Plain,7";
+
+        List<CatalogRecord> records = readAll(csv, CatalogFormat.CSV);
+
+        assertEquals(3, records.size());
+        assertEquals("Mug, large", records.get(0).get("name"));
+        assertEquals("5", records.get(0).get("stock_quantity"));
+        assertEquals(2, records.get(0).getLine());
+        assertEquals("Says \"hi\"\non two lines", records.get(1).get("name"));
+        assertEquals("", records.get(1).get("stockQuantity"));
+        assertEquals(4, records.get(1).getLine());
+        assertEquals("A-3", records.get(2).get("sku"));
+        assertEquals(6, records.get(2).getLine());
+    }
+
+    @Test
+    @DisplayName("Should report malformed rows instead of failing the file")
+    void next_MalformedRows_ReturnsErrors() throws IOException {
+        List<CatalogRecord> csv = readAll("sku,name\nA-1,Mug,extra\nA-2,\"unterminated", CatalogFormat.CSV);
+        assertNotNull(csv.get(0).getError());
+        assertNotNull(csv.get(1).getError());
+
+        List<CatalogRecord> jsonl = readAll("{\"sku\":\"A-1\",\"stockQuantity\":5,\"imageUrl\":null}\n[1]\n{broken\n",
+                CatalogFormat.JSONL);
+        assertEquals(3, jsonl.size());
+        assertEquals("5", jsonl.get(0).get("stock_quantity"));
+        assertNull(jsonl.get(0).get("image_url"));
+        assertNotNull(jsonl.get(1).getError());
+        assertEquals(3, jsonl.get(2).getLine());
+        assertNotNull(jsonl.get(2).getError());
+    }
+
+    @Test
+    @DisplayName("Should read back what the writer exported")
+    void writerOutput_RoundTrips() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CatalogWriter writer = new CatalogWriter(out, CatalogFormat.CSV, objectMapper);
+        writer.write(Arrays.asList("A-1", "Mug, \"large\"", "Line one\nline two", new BigDecimal("1E+1"), 5, null, "Kitchen"));
+        writer.flush();
+
+        CatalogRecord record = readAll(out.toString(StandardCharsets.UTF_8), CatalogFormat.CSV).get(0);
+
+        assertEquals("Mug, \"large\"", record.get("name"));
+        assertEquals("Line one\nline two", record.get("description"));
+        assertEquals("10", record.get("price"));
+        assertEquals("", record.get("image_url"));
+        assertEquals("Kitchen", record.get("category"));
+    }
+
+    private List<CatalogRecord> readAll(String content, CatalogFormat format) throws IOException {
+        List<CatalogRecord> records = new ArrayList<>();
+        try (CatalogReader reader = new CatalogReader(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)),
+                format, objectMapper)) {
+            CatalogRecord record;
+            while ((record = reader.next()) != null) {
+                records.add(record);
+            }
+        }
+        return records;
+    }
+}
@@ -0,0 +1,91 @@
+package com.alxchat.websocket;
+
+import com.alxchat.model.UserStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PresenceRegistry Unit Tests")
+class PresenceRegistryTest {
+
+    private static final long DEBOUNCE = 5_000;
+
+    private PresenceRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new PresenceRegistry();
+    }
+
+    @Test
+    @DisplayName("Connect is persisted once the debounce window has passed")
+    void testConnect_SettlesAfterDebounce() {
+        registry.sessionOpened("alice", "s1", 0);
+
+        assertTrue(registry.drainSettled(1_000, DEBOUNCE).isEmpty());
+        assertEquals(Map.of("alice", UserStatus.ONLINE), registry.drainSettled(DEBOUNCE, DEBOUNCE));
+        assertTrue(registry.drainSettled(2 * DEBOUNCE, DEBOUNCE).isEmpty());
+    }
+
+    @Test
+    @DisplayName("User stays ONLINE until the last session closes")
+    void testMultipleSessions_ReferenceCounted() {
+        registry.sessionOpened("alice", "s1", 0);
+        registry.sessionOpened("alice", "s2", 0);
+        registry.drainSettled(DEBOUNCE, DEBOUNCE);
+
+        registry.sessionClosed("alice", "s1", DEBOUNCE + 1);
+        assertEquals(UserStatus.ONLINE, registry.getStatus("alice"));
+        assertTrue(registry.drainSettled(3 * DEBOUNCE, DEBOUNCE).isEmpty());
+
+        registry.sessionClosed("alice", "s2", 3 * DEBOUNCE);
+        assertEquals(UserStatus.OFFLINE, registry.getStatus("alice"));
+        assertEquals(Map.of("alice", UserStatus.OFFLINE), registry.drainSettled(5 * DEBOUNCE, DEBOUNCE));
+        assertEquals(0, registry.getSessionCount("alice"));
+    }
+
+    @Test
+    @DisplayName("Reconnect within the debounce window produces no status change")
+    void testFlap_Collapses() {
+        registry.sessionOpened("alice", "s1", 0);
+        registry.drainSettled(DEBOUNCE, DEBOUNCE);
+
+        registry.sessionClosed("alice", "s1", 10_000);
+        registry.sessionOpened("alice", "s2", 10_500);
+
+        assertTrue(registry.drainSettled(20_000, DEBOUNCE).isEmpty());
+        assertEquals(UserStatus.ONLINE, registry.getStatus("alice"));
+    }
+
+    @Test
+    @DisplayName("Restored changes are drained again, including users dropped as offline")
+    void testRestore_DrainsAgain() {
+        registry.sessionOpened("alice", "s1", 0);
+        registry.sessionOpened("bob", "s2", 0);
+        registry.drainSettled(DEBOUNCE, DEBOUNCE);
+        registry.sessionClosed("bob", "s2", DEBOUNCE);
+
+        Map<String, UserStatus> failed = registry.drainSettled(2 * DEBOUNCE, DEBOUNCE);
+        assertEquals(Map.of("bob", UserStatus.OFFLINE), failed);
+        registry.restore(failed);
+
+        assertEquals(Map.of("bob", UserStatus.OFFLINE), registry.drainSettled(3 * DEBOUNCE, DEBOUNCE));
+        assertTrue(registry.drainSettled(4 * DEBOUNCE, DEBOUNCE).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Duplicate disconnect events are ignored")
+    void testDuplicateDisconnect_Ignored() {
+        registry.sessionOpened("alice", "s1", 0);
+        registry.sessionOpened("alice", "s2", 0);
+
+        registry.sessionClosed("alice", "s1", 100);
+        registry.sessionClosed("alice", "s1", 200);
+
+        assertEquals(1, registry.getSessionCount("alice"));
+    }
+}
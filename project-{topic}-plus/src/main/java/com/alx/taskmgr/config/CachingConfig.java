@@ -31,7 +31,7 @@ public class CachingConfig {
         CaffeineCacheManager cacheManager = new CaffeineCacheManager();
         // Define cache for categories with a specific expiration policy
         cacheManager.setCaffeine(caffeineCacheBuilder());
-        cacheManager.setCacheNames(java.util.Arrays.asList("categoriesCache", "tasksCache")); // Define cache names
+        cacheManager.setCacheNames(java.util.Arrays.asList("categoriesCache")); // Tasks are cached by TaskCache
         return cacheManager;
     }
 
@@ -48,7 +48,7 @@ public class CachingConfig {
                 .initialCapacity(100) // Initial capacity of the cache
                 .maximumSize(1000)    // Maximum number of entries in the cache
                 .expireAfterAccess(10, TimeUnit.MINUTES) // Entries expire 10 minutes after last access
-                .weakKeys()           // Allow keys to be garbage collected when there are no other strong references to them
+                // No weakKeys(): weak keys are compared by identity, so equal Long or String keys built per request never hit
                 .recordStats();       // Record cache statistics (hits, misses, etc.)
     }
 }
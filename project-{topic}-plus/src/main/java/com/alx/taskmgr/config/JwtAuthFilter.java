@@ -1,16 +1,22 @@
 ```java
 package com.alx.taskmgr.config;
 
+import com.alx.taskmgr.entity.User;
+import com.alx.taskmgr.security.JwtPrincipal;
+import com.alx.taskmgr.security.JwtVerifier;
 import com.alx.taskmgr.service.JwtService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
@@ -22,11 +28,16 @@ import java.io.IOException;
  * JWT Authentication Filter. This filter intercepts every incoming request
  * to validate JWT tokens and set up Spring Security's authentication context.
  * It extends OncePerRequestFilter to ensure it's executed only once per request.
+ * Tokens carrying the user id and roles are authenticated without a database lookup.
+ * Every authenticated request carries a {@link JwtPrincipal}, whichever kind of token it came with.
  */
 @Component
 @RequiredArgsConstructor
 public class JwtAuthFilter extends OncePerRequestFilter {
 
+    private static final Logger logger = LoggerFactory.getLogger(JwtAuthFilter.class);
+
+    private final JwtVerifier jwtVerifier;
     private final JwtService jwtService;
     private final UserDetailsService userDetailsService;
 
@@ -48,29 +59,33 @@ public class JwtAuthFilter extends OncePerRequestFilter {
             @NonNull FilterChain filterChain
     ) throws ServletException, IOException {
         final String authHeader = request.getHeader("Authorization");
-        final String jwt;
-        final String userEmail;
 
         // 1. Check if Authorization header is present and starts with "Bearer "
-        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+        if (authHeader == null || !authHeader.startsWith("Bearer ")
+                || SecurityContextHolder.getContext().getAuthentication() != null) {
             filterChain.doFilter(request, response);
             return;
         }
 
-        // 2. Extract JWT token
-        jwt = authHeader.substring(7);
-        userEmail = jwtService.extractUsername(jwt); // Extract username (email) from JWT
-
-        // 3. Validate token and authenticate if user is not already authenticated
-        if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(userEmail);
-
-            if (jwtService.isTokenValid(jwt, userDetails)) {
+        // 2. Extract and verify the JWT token; the signature is checked once and the result is cached per token
+        final String jwt = authHeader.substring(7);
+        try {
+            JwtPrincipal principal = jwtVerifier.verify(jwt);
+            if (principal == null) {
+                // 3. Tokens issued before the id and roles claims were added still need the user record
+                User user = (User) userDetailsService.loadUserByUsername(jwtService.extractUsername(jwt));
+                if (jwtService.isTokenValid(jwt, user)) {
+                    // Described the same way as newer tokens, so controllers always get a JwtPrincipal
+                    principal = new JwtPrincipal(user.getId(), user.getEmail(), user.getRoles(),
+                            jwtService.extractClaim(jwt, Claims::getExpiration).toInstant());
+                }
+            }
+            if (principal != null) {
                 // Create authentication token
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                        userDetails,
+                        principal,
                         null,
-                        userDetails.getAuthorities()
+                        principal.getAuthorities()
                 );
                 // Set authentication details from the request
                 authToken.setDetails(
@@ -79,6 +94,9 @@ public class JwtAuthFilter extends OncePerRequestFilter {
                 // Set the authentication in Spring Security's context
                 SecurityContextHolder.getContext().setAuthentication(authToken);
             }
+        } catch (JwtException | IllegalArgumentException e) {
+            // Invalid or expired token: continue unauthenticated and let the entry point answer 401
+            logger.debug("Rejected JWT: {}", e.getMessage());
         }
         // 4. Continue with the filter chain
         filterChain.doFilter(request, response);
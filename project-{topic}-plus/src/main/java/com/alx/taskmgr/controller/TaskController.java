@@ -1,8 +1,12 @@
 ```java
 package com.alx.taskmgr.controller;
 
+import com.alx.taskmgr.dto.task.TaskBulkStatusRequest;
+import com.alx.taskmgr.dto.task.TaskPageResponse;
+import com.alx.taskmgr.dto.task.TaskQueryRequest;
 import com.alx.taskmgr.dto.task.TaskRequest;
 import com.alx.taskmgr.dto.task.TaskResponse;
+import com.alx.taskmgr.security.JwtPrincipal;
 import com.alx.taskmgr.service.TaskService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -16,7 +20,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -38,7 +42,7 @@ public class TaskController {
      * Creates a new task for the authenticated user.
      *
      * @param request        The TaskRequest containing task details.
-     * @param authentication The Spring Security Authentication object, providing current user details.
+     * @param principal      The authenticated user, as described by its token.
      * @return ResponseEntity with the created TaskResponse.
      */
     @Operation(summary = "Create a new task",
@@ -50,9 +54,8 @@ public class TaskController {
                })
     @PostMapping
     @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
-    public ResponseEntity<TaskResponse> createTask(@Valid @RequestBody TaskRequest request, Authentication authentication) {
-        String userEmail = authentication.getName();
-        TaskResponse response = taskService.createTask(request, userEmail);
+    public ResponseEntity<TaskResponse> createTask(@Valid @RequestBody TaskRequest request, @AuthenticationPrincipal JwtPrincipal principal) {
+        TaskResponse response = taskService.createTask(request, principal.getId());
         return new ResponseEntity<>(response, HttpStatus.CREATED);
     }
 
@@ -60,7 +63,7 @@ public class TaskController {
      * Retrieves all tasks for the authenticated user.
      * ADMINs can retrieve all tasks in the system if 'ownerId' is not specified or for a specific user.
      *
-     * @param authentication The Spring Security Authentication object.
+     * @param principal      The authenticated user, as described by its token.
      * @param ownerId        Optional. If provided by an ADMIN, retrieves tasks for that specific user.
      * @return ResponseEntity with a list of TaskResponse.
      */
@@ -75,29 +78,50 @@ public class TaskController {
     @GetMapping
     @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
     public ResponseEntity<List<TaskResponse>> getAllTasks(
-            Authentication authentication,
+            @AuthenticationPrincipal JwtPrincipal principal,
             @RequestParam(required = false) Long ownerId) {
         List<TaskResponse> tasks;
-        if (ownerId != null && authentication.getAuthorities().stream().anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN"))) {
+        if (ownerId != null && principal.getAuthorities().stream().anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN"))) {
             // Admin can view tasks of any user
             tasks = taskService.getAllTasksByOwnerId(ownerId);
-        } else if (ownerId != null && !authentication.getAuthorities().stream().anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN"))) {
+        } else if (ownerId != null && !principal.getAuthorities().stream().anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN"))) {
             // Non-admin trying to specify ownerId is forbidden
             return new ResponseEntity<>(HttpStatus.FORBIDDEN);
         } else {
             // Regular user gets their own tasks
-            String userEmail = authentication.getName();
-            tasks = taskService.getAllTasksForUser(userEmail);
+            tasks = taskService.getAllTasksForUser(principal.getId());
         }
         return ResponseEntity.ok(tasks);
     }
 
+    /**
+     * Queries one page of the authenticated user's tasks.
+     * Filters by status, category and due-date range; pages follow each other by the cursor of the previous page.
+     *
+     * @param query          Filters, page size (1-200, default 50) and the cursor returned with the previous page.
+     * @param principal      The authenticated user, as described by its token.
+     * @return ResponseEntity with the page and the cursor of the next page.
+     */
+    @Operation(summary = "Query a page of the authenticated user's tasks",
+               responses = {
+                   @ApiResponse(responseCode = "200", description = "Successfully retrieved the page",
+                                content = @Content(mediaType = "application/json", schema = @Schema(implementation = TaskPageResponse.class))),
+                   @ApiResponse(responseCode = "400", description = "Invalid filter, page size or cursor"),
+                   @ApiResponse(responseCode = "401", description = "Unauthorized")
+               })
+    @GetMapping("/query")
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    public ResponseEntity<TaskPageResponse> queryTasks(@Valid TaskQueryRequest query, @AuthenticationPrincipal JwtPrincipal principal) {
+        TaskPageResponse page = taskService.queryTasks(query, principal.getId());
+        return ResponseEntity.ok(page);
+    }
+
     /**
      * Retrieves a task by its ID.
      * Only the owner of the task or an ADMIN can access it.
      *
      * @param id             The ID of the task to retrieve.
-     * @param authentication The Spring Security Authentication object.
+     * @param principal      The authenticated user, as described by its token.
      * @return ResponseEntity with the TaskResponse.
      */
     @Operation(summary = "Get task by ID",
@@ -110,9 +134,8 @@ public class TaskController {
                })
     @GetMapping("/{id}")
     @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
-    public ResponseEntity<TaskResponse> getTaskById(@PathVariable Long id, Authentication authentication) {
-        String userEmail = authentication.getName();
-        TaskResponse response = taskService.getTaskById(id, userEmail, authentication.getAuthorities());
+    public ResponseEntity<TaskResponse> getTaskById(@PathVariable Long id, @AuthenticationPrincipal JwtPrincipal principal) {
+        TaskResponse response = taskService.getTaskById(id, principal.getId(), principal.getAuthorities());
         return ResponseEntity.ok(response);
     }
 
@@ -122,7 +145,7 @@ public class TaskController {
      *
      * @param id             The ID of the task to update.
      * @param request        The TaskRequest containing updated task data.
-     * @param authentication The Spring Security Authentication object.
+     * @param principal      The authenticated user, as described by its token.
      * @return ResponseEntity with the updated TaskResponse.
      */
     @Operation(summary = "Update an existing task",
@@ -136,18 +159,39 @@ public class TaskController {
                })
     @PutMapping("/{id}")
     @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
-    public ResponseEntity<TaskResponse> updateTask(@PathVariable Long id, @Valid @RequestBody TaskRequest request, Authentication authentication) {
-        String userEmail = authentication.getName();
-        TaskResponse response = taskService.updateTask(id, request, userEmail, authentication.getAuthorities());
+    public ResponseEntity<TaskResponse> updateTask(@PathVariable Long id, @Valid @RequestBody TaskRequest request, @AuthenticationPrincipal JwtPrincipal principal) {
+        TaskResponse response = taskService.updateTask(id, request, principal.getId(), principal.getAuthorities());
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Sets the status of several tasks at once.
+     * Only the owner of every task or an ADMIN can update them; the batch is updated as a whole or not at all.
+     *
+     * @param request        The IDs of the tasks (at most 1000) and their new status.
+     * @param principal      The authenticated user, as described by its token.
+     * @return ResponseEntity with no content upon a successful update.
+     */
+    @Operation(summary = "Set the status of several tasks",
+               responses = {
+                   @ApiResponse(responseCode = "204", description = "Tasks updated successfully"),
+                   @ApiResponse(responseCode = "400", description = "Invalid input"),
+                   @ApiResponse(responseCode = "401", description = "Unauthorized, or the user does not own one of the tasks"),
+                   @ApiResponse(responseCode = "404", description = "A task was not found")
+               })
+    @PutMapping("/bulk/status")
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    public ResponseEntity<Void> updateTaskStatuses(@Valid @RequestBody TaskBulkStatusRequest request, @AuthenticationPrincipal JwtPrincipal principal) {
+        taskService.updateTaskStatuses(request, principal.getId(), principal.getAuthorities());
+        return ResponseEntity.noContent().build();
+    }
+
     /**
      * Deletes a task by its ID.
      * Only the owner of the task or an ADMIN can delete it.
      *
      * @param id             The ID of the task to delete.
-     * @param authentication The Spring Security Authentication object.
+     * @param principal      The authenticated user, as described by its token.
      * @return ResponseEntity with no content upon successful deletion.
      */
     @Operation(summary = "Delete a task",
@@ -159,9 +203,8 @@ public class TaskController {
                })
     @DeleteMapping("/{id}")
     @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
-    public ResponseEntity<Void> deleteTask(@PathVariable Long id, Authentication authentication) {
-        String userEmail = authentication.getName();
-        taskService.deleteTask(id, userEmail, authentication.getAuthorities());
+    public ResponseEntity<Void> deleteTask(@PathVariable Long id, @AuthenticationPrincipal JwtPrincipal principal) {
+        taskService.deleteTask(id, principal.getId(), principal.getAuthorities());
         return ResponseEntity.noContent().build();
     }
 }
@@ -0,0 +1,30 @@
+```java
+package com.alx.taskmgr.dto.task;
+
+import com.alx.taskmgr.entity.TaskStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for setting the status of several tasks at once.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskBulkStatusRequest {
+    @NotEmpty(message = "Task IDs cannot be empty")
+    @Size(max = 1000, message = "At most 1000 tasks can be updated at once")
+    private List<@NotNull Long> taskIds;
+
+    @NotNull(message = "Task status cannot be null")
+    private TaskStatus status;
+}
+```
@@ -0,0 +1,23 @@
+```java
+package com.alx.taskmgr.dto.task;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for one page of a task query.
+ * Contains the tasks of the page and the cursor to pass for the next page, null on the last page.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskPageResponse {
+    private List<TaskSummaryResponse> items;
+    private String nextCursor;
+}
+```
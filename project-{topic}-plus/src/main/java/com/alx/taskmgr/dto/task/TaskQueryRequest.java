@@ -0,0 +1,40 @@
+```java
+package com.alx.taskmgr.dto.task;
+
+import com.alx.taskmgr.entity.TaskStatus;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for the filters and position of a task query, bound from request parameters.
+ * Every filter is optional; the due-date range includes dueFrom and excludes dueTo.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskQueryRequest {
+    private TaskStatus status;
+    private Long categoryId;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime dueFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime dueTo;
+
+    private String cursor;
+
+    @Min(value = 1, message = "Page size must be at least 1")
+    @Max(value = 200, message = "Page size cannot exceed 200")
+    @Builder.Default
+    private int size = 50;
+}
+```
@@ -0,0 +1,28 @@
+```java
+package com.alx.taskmgr.dto.task;
+
+import com.alx.taskmgr.entity.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for one row of a task query.
+ * Built directly by a JPQL constructor expression, so reading it hydrates no Task, User or Category entity.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskSummaryResponse {
+    private Long id;
+    private String title;
+    private TaskStatus status;
+    private LocalDateTime dueDate;
+    private Long categoryId;
+    private String categoryName;
+}
+```
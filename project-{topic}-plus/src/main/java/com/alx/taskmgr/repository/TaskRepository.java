@@ -1,10 +1,18 @@
 ```java
 package com.alx.taskmgr.repository;
 
+import com.alx.taskmgr.dto.task.TaskSummaryResponse;
 import com.alx.taskmgr.entity.Task;
+import com.alx.taskmgr.entity.TaskStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -33,5 +41,90 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
      * @return An Optional containing the found Task if it matches both IDs, or empty if not found or not owned by the user.
      */
     Optional<Task> findByIdAndOwnerId(Long taskId, Long ownerId);
+
+    /**
+     * Finds the owners of a batch of tasks in one query, without loading the tasks.
+     *
+     * @param taskIds The IDs of the tasks.
+     * @return The ID and owner ID of each task found; missing tasks have no row.
+     */
+    @Query("SELECT t.id AS id, t.owner.id AS ownerId FROM Task t WHERE t.id IN :taskIds")
+    List<TaskOwnerView> findOwnersByIdIn(@Param("taskIds") Collection<Long> taskIds);
+
+    /**
+     * Sets the status of a batch of tasks in one statement.
+     * The statement bypasses {@code @UpdateTimestamp}, so the caller passes the update time.
+     *
+     * @param taskIds The IDs of the tasks.
+     * @param status The new status.
+     * @param updatedAt The update time.
+     * @return The number of tasks updated.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.status = :status, t.updatedAt = :updatedAt WHERE t.id IN :taskIds")
+    int updateStatusByIdIn(@Param("taskIds") Collection<Long> taskIds,
+                           @Param("status") TaskStatus status,
+                           @Param("updatedAt") LocalDateTime updatedAt);
+
+    // Keyset pages of an owner's tasks in (dueDate, id) order. The position is a plain range on the index columns,
+    // dueDate >= start and then (dueDate > start or id > afterId), so the scan starts at the cursor in the V3 indexes.
+    // Rows are built as DTOs, so no entity is hydrated.
+    String PAGE_SELECT = "SELECT new com.alx.taskmgr.dto.task.TaskSummaryResponse("
+            + "t.id, t.title, t.status, t.dueDate, c.id, c.name) "
+            + "FROM Task t JOIN t.category c ";
+    String PAGE_RANGE = "AND t.dueDate >= :startDueDate AND t.dueDate < :endDueDate "
+            + "AND (t.dueDate > :startDueDate OR t.id > :afterId) "
+            + "AND (:status IS NULL OR t.status = :status) "
+            + "ORDER BY t.dueDate ASC, t.id ASC";
+
+    /**
+     * Reads one page of an owner's tasks, served by idx_tasks_owner_due_date_id.
+     *
+     * @param ownerId The ID of the owner.
+     * @param status The status to match, or null for any.
+     * @param startDueDate The due date of the last row of the previous page, or the start of the range.
+     * @param endDueDate The exclusive end of the due-date range.
+     * @param afterId The ID of the last row of the previous page, or 0 on the first page.
+     * @param pageable The page size; the page number is always 0.
+     * @return The rows of the page.
+     */
+    @Query(PAGE_SELECT + "WHERE t.owner.id = :ownerId " + PAGE_RANGE)
+    List<TaskSummaryResponse> findPageByOwnerId(@Param("ownerId") Long ownerId,
+                                                @Param("status") TaskStatus status,
+                                                @Param("startDueDate") LocalDateTime startDueDate,
+                                                @Param("endDueDate") LocalDateTime endDueDate,
+                                                @Param("afterId") Long afterId,
+                                                Pageable pageable);
+
+    /**
+     * Reads one page of an owner's tasks in one category, served by idx_tasks_owner_category_due_date_id.
+     * A separate query, rather than an optional filter, lets the category be part of the index range.
+     *
+     * @param ownerId The ID of the owner.
+     * @param categoryId The ID of the category.
+     * @param status The status to match, or null for any.
+     * @param startDueDate The due date of the last row of the previous page, or the start of the range.
+     * @param endDueDate The exclusive end of the due-date range.
+     * @param afterId The ID of the last row of the previous page, or 0 on the first page.
+     * @param pageable The page size; the page number is always 0.
+     * @return The rows of the page.
+     */
+    @Query(PAGE_SELECT + "WHERE t.owner.id = :ownerId AND c.id = :categoryId " + PAGE_RANGE)
+    List<TaskSummaryResponse> findPageByOwnerIdAndCategoryId(@Param("ownerId") Long ownerId,
+                                                             @Param("categoryId") Long categoryId,
+                                                             @Param("status") TaskStatus status,
+                                                             @Param("startDueDate") LocalDateTime startDueDate,
+                                                             @Param("endDueDate") LocalDateTime endDueDate,
+                                                             @Param("afterId") Long afterId,
+                                                             Pageable pageable);
+
+    /**
+     * A task's ID and its owner's ID.
+     */
+    interface TaskOwnerView {
+        Long getId();
+
+        Long getOwnerId();
+    }
 }
 ```
\ No newline at end of file
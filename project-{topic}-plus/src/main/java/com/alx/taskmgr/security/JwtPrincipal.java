@@ -0,0 +1,92 @@
+```java
+package com.alx.taskmgr.security;
+
+import com.alx.taskmgr.entity.Role;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The authenticated user as described by a verified JWT.
+ * Built from the token's claims alone, so authenticating a request does not load the user from the database.
+ * Immutable, which lets one instance be shared by every request carrying the same token.
+ */
+@Getter
+public class JwtPrincipal implements UserDetails {
+
+    private final Long id;
+    private final String email;
+    private final Set<Role> roles;
+    private final Instant expiresAt;
+    private final List<GrantedAuthority> authorities; // Computed once instead of on every getAuthorities() call
+
+    /**
+     * Creates a principal for a verified token.
+     *
+     * @param id        The user's ID, from the "uid" claim.
+     * @param email     The user's email, from the subject.
+     * @param roles     The user's roles, from the "roles" claim.
+     * @param expiresAt The token's expiration time.
+     */
+    public JwtPrincipal(Long id, String email, Set<Role> roles, Instant expiresAt) {
+        this.id = id;
+        this.email = email;
+        this.roles = Set.copyOf(roles);
+        this.expiresAt = expiresAt;
+        this.authorities = roles.stream()
+                .map(role -> (GrantedAuthority) new SimpleGrantedAuthority(role.name()))
+                .toList();
+    }
+
+    /**
+     * Checks whether the token this principal was built from has expired.
+     *
+     * @param now The current time.
+     * @return True if the token is expired, false otherwise.
+     */
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public String getPassword() {
+        return null; // Never known from a token
+    }
+
+    @Override
+    public String getUsername() {
+        return email; // Same as User: the email is the username
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return true;
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+}
+```
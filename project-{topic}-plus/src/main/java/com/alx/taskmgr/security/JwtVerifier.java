@@ -0,0 +1,121 @@
+```java
+package com.alx.taskmgr.security;
+
+import com.alx.taskmgr.entity.Role;
+import com.alx.taskmgr.service.JwtService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HexFormat;
+import java.util.Set;
+
+/**
+ * Turns a bearer token into a {@link JwtPrincipal}, verifying its signature at most once per token.
+ * Clients send the same token on every request until it expires, so verified principals are cached
+ * until the token's own expiration. Entries are keyed by a SHA-256 digest of the token, so the cache
+ * never holds usable credentials.
+ */
+@Component
+public class JwtVerifier {
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    });
+
+    private final JwtService jwtService;
+    private final Cache<String, JwtPrincipal> verified;
+
+    /**
+     * Creates the verifier and its cache.
+     *
+     * @param jwtService The service holding the signing key and the parser.
+     * @param cacheSize  The maximum number of verified tokens to remember.
+     */
+    public JwtVerifier(JwtService jwtService,
+                       @Value("${application.security.jwt.verified-cache-size:100000}") long cacheSize) {
+        this.jwtService = jwtService;
+        this.verified = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfter(new Expiry<String, JwtPrincipal>() {
+                    @Override
+                    public long expireAfterCreate(String key, JwtPrincipal value, long currentTime) {
+                        return Math.max(0L, Duration.between(Instant.now(), value.getExpiresAt()).toNanos());
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, JwtPrincipal value, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, JwtPrincipal value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * Verifies a token, reusing an earlier verification of the same token while it is still unexpired.
+     *
+     * @param token The JWT token from the Authorization header.
+     * @return The principal, or null if the token is valid but lacks the user id or roles claims
+     * (tokens issued before those claims were added); callers then fall back to loading the user.
+     * @throws io.jsonwebtoken.JwtException If the token is malformed, tampered with or expired.
+     * @throws IllegalArgumentException    If the token is empty.
+     */
+    public JwtPrincipal verify(String token) {
+        String key = digest(token);
+        JwtPrincipal cached = verified.getIfPresent(key);
+        if (cached != null && !cached.isExpired(Instant.now())) { // The cache evicts lazily, so check again
+            return cached;
+        }
+        // Parsed outside the cache's compute so failures and legacy tokens are never cached
+        JwtPrincipal principal = parse(token);
+        if (principal != null) {
+            verified.put(key, principal);
+        }
+        return principal;
+    }
+
+    /**
+     * Verifies a token and builds its principal without consulting the cache.
+     *
+     * @param token The JWT token.
+     * @return The principal, or null if the token lacks the user id or roles claims.
+     * @throws io.jsonwebtoken.JwtException If the token is malformed, tampered with or expired.
+     */
+    public JwtPrincipal parse(String token) {
+        Claims claims = jwtService.extractAllClaims(token);
+        Number userId = claims.get(JwtService.USER_ID_CLAIM, Number.class);
+        Object roleNames = claims.get(JwtService.ROLES_CLAIM);
+        if (userId == null || !(roleNames instanceof Collection<?> names) || claims.getExpiration() == null) {
+            return null;
+        }
+        Set<Role> roles = EnumSet.noneOf(Role.class);
+        for (Object name : names) {
+            roles.add(Role.valueOf(String.valueOf(name)));
+        }
+        return new JwtPrincipal(userId.longValue(), claims.getSubject(), roles, claims.getExpiration().toInstant());
+    }
+
+    private static String digest(String token) {
+        return HexFormat.of().formatHex(SHA_256.get().digest(token.getBytes(StandardCharsets.UTF_8)));
+    }
+}
+```
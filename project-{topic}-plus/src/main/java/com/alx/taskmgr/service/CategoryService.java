@@ -25,6 +25,7 @@ import java.util.stream.Collectors;
 public class CategoryService {
 
     private final CategoryRepository categoryRepository;
+    private final TaskCache taskCache;
 
     /**
      * Creates a new category.
@@ -100,6 +101,7 @@ public class CategoryService {
 
         category.setName(request.getName());
         Category updatedCategory = categoryRepository.save(category);
+        taskCache.invalidateAll(); // Cached tasks embed the category name
         return mapToResponse(updatedCategory);
     }
 
@@ -117,6 +119,7 @@ public class CategoryService {
             throw new ResourceNotFoundException("Category not found with ID: " + id);
         }
         categoryRepository.deleteById(id);
+        taskCache.invalidateAll(); // The category's tasks were deleted with it
     }
 
     /**
@@ -1,11 +1,14 @@
 ```java
 package com.alx.taskmgr.service;
 
+import com.alx.taskmgr.entity.User;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
@@ -15,14 +18,20 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Service class for handling JSON Web Tokens (JWT).
  * Provides methods for generating, validating, and extracting information from JWTs.
+ * The signing key and the parser are built once at startup and shared, as both are thread-safe.
  */
 @Service
 public class JwtService {
 
+    // Claims that let a request be authenticated from the token alone, see JwtVerifier
+    public static final String USER_ID_CLAIM = "uid";
+    public static final String ROLES_CLAIM = "roles";
+
     // Secret key for signing JWT tokens, loaded from application.yml
     @Value("${application.security.jwt.secret-key}")
     private String secretKey;
@@ -31,6 +40,18 @@ public class JwtService {
     @Value("${application.security.jwt.expiration}")
     private long jwtExpiration;
 
+    private Key signInKey;
+    private JwtParser jwtParser;
+
+    /**
+     * Derives the signing key and builds the parser once, instead of on every token operation.
+     */
+    @PostConstruct
+    void init() {
+        signInKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+        jwtParser = Jwts.parserBuilder().setSigningKey(signInKey).build();
+    }
+
     /**
      * Extracts the username (subject) from a JWT token.
      *
@@ -56,12 +77,18 @@ public class JwtService {
 
     /**
      * Generates a JWT token for a given UserDetails.
+     * For a {@link User}, the user id and roles are added as claims so later requests need no user lookup.
      *
      * @param userDetails The UserDetails object representing the authenticated user.
      * @return The generated JWT token.
      */
     public String generateToken(UserDetails userDetails) {
-        return generateToken(new HashMap<>(), userDetails);
+        Map<String, Object> claims = new HashMap<>();
+        if (userDetails instanceof User user && user.getId() != null) {
+            claims.put(USER_ID_CLAIM, user.getId());
+            claims.put(ROLES_CLAIM, user.getRoles().stream().map(Enum::name).sorted().collect(Collectors.toList()));
+        }
+        return generateToken(claims, userDetails);
     }
 
     /**
@@ -81,7 +108,7 @@ public class JwtService {
                 .setSubject(userDetails.getUsername())
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + jwtExpiration))
-                .signWith(getSignInKey(), SignatureAlgorithm.HS256)
+                .signWith(signInKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
@@ -94,54 +121,19 @@ public class JwtService {
      * @return True if the token is valid, false otherwise.
      */
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
-    }
-
-    /**
-     * Checks if a JWT token has expired.
-     *
-     * @param token The JWT token.
-     * @return True if the token is expired, false otherwise.
-     */
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+        final Claims claims = extractAllClaims(token); // One parse checks the signature and the expiration
+        return claims.getSubject().equals(userDetails.getUsername()) && claims.getExpiration().after(new Date());
     }
 
     /**
-     * Extracts the expiration date from a JWT token.
-     *
-     * @param token The JWT token.
-     * @return The expiration Date of the token.
-     */
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
-    }
-
-    /**
-     * Extracts all claims from a JWT token.
+     * Verifies a JWT token's signature and expiration and returns its claims, parsing it exactly once.
      *
      * @param token The JWT token.
      * @return The Claims object containing all claims.
+     * @throws io.jsonwebtoken.JwtException If the token is malformed, tampered with or expired.
      */
-    private Claims extractAllClaims(String token) {
-        return Jwts
-                .parserBuilder()
-                .setSigningKey(getSignInKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-    }
-
-    /**
-     * Retrieves the signing key used for JWT operations.
-     * The key is derived from the base64 encoded secret key.
-     *
-     * @return The signing Key.
-     */
-    private Key getSignInKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
+    public Claims extractAllClaims(String token) {
+        return jwtParser.parseClaimsJws(token).getBody();
     }
 }
 ```
\ No newline at end of file
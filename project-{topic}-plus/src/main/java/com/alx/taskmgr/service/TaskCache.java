@@ -0,0 +1,209 @@
+```java
+package com.alx.taskmgr.service;
+
+import com.alx.taskmgr.dto.category.CategoryResponse;
+import com.alx.taskmgr.dto.task.TaskResponse;
+import com.alx.taskmgr.dto.user.UserResponse;
+import com.alx.taskmgr.util.TransactionCallbacks;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Cache of task responses, keyed by task ID and by owner ID.
+ * Writes update the cached entries of the affected task and owner in place instead of clearing the
+ * whole cache, so one user's changes never cost other users their cached lists.
+ * Updates are applied after the surrounding transaction commits.
+ * Responses are mutable, so the cache stores its own copies and hands out fresh copies on every read.
+ */
+@Component
+public class TaskCache {
+
+    private final Cache<Long, TaskResponse> tasksById;
+    private final Cache<Long, List<TaskResponse>> tasksByOwner; // Immutable lists, replaced on every change
+
+    /**
+     * Creates the caches.
+     *
+     * @param maximumSize The maximum number of entries in each cache.
+     */
+    public TaskCache(@Value("${application.cache.tasks.maximum-size:10000}") long maximumSize) {
+        this.tasksById = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(10, TimeUnit.MINUTES)
+                .recordStats()
+                .build();
+        this.tasksByOwner = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(10, TimeUnit.MINUTES)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Returns a cached task, loading it on a miss.
+     *
+     * @param taskId The ID of the task.
+     * @param loader Loads the task; may throw, in which case nothing is cached.
+     * @return The task.
+     */
+    public TaskResponse getTask(Long taskId, Function<Long, TaskResponse> loader) {
+        return copy(tasksById.get(taskId, id -> copy(loader.apply(id))));
+    }
+
+    /**
+     * Returns the cached tasks of an owner, loading them on a miss.
+     *
+     * @param ownerId The ID of the owner.
+     * @param loader  Loads the owner's tasks; may throw, in which case nothing is cached.
+     * @return A list of copies of the owner's tasks.
+     */
+    public List<TaskResponse> getOwnerTasks(Long ownerId, Function<Long, List<TaskResponse>> loader) {
+        return copy(tasksByOwner.get(ownerId, id -> copy(loader.apply(id))));
+    }
+
+    /**
+     * Records a created or updated task: replaces it in the task cache and in its owner's cached list.
+     * An owner list that is not cached stays uncached.
+     *
+     * @param saved The saved task.
+     */
+    public void taskSaved(TaskResponse saved) {
+        TaskResponse task = copy(saved); // The caller may still modify its response before the commit
+        Long ownerId = task.getOwner().getId();
+        TransactionCallbacks.afterCommit(() -> {
+            tasksById.put(task.getId(), task);
+            // Atomic per owner, and idempotent, so it is also correct on a list loaded concurrently with the write
+            tasksByOwner.asMap().computeIfPresent(ownerId, (id, tasks) -> {
+                List<TaskResponse> updated = new ArrayList<>(tasks.size() + 1);
+                boolean replaced = false;
+                for (TaskResponse cached : tasks) {
+                    if (Objects.equals(cached.getId(), task.getId())) {
+                        updated.add(task);
+                        replaced = true;
+                    } else {
+                        updated.add(cached);
+                    }
+                }
+                if (!replaced) {
+                    updated.add(task);
+                }
+                return List.copyOf(updated);
+            });
+        });
+    }
+
+    /**
+     * Records a deleted task: drops it from the task cache and from its owner's cached list.
+     *
+     * @param taskId  The ID of the deleted task.
+     * @param ownerId The ID of the task's owner.
+     */
+    public void taskDeleted(Long taskId, Long ownerId) {
+        TransactionCallbacks.afterCommit(() -> {
+            tasksById.invalidate(taskId);
+            tasksByOwner.asMap().computeIfPresent(ownerId, (id, tasks) -> tasks.stream()
+                    .filter(cached -> !Objects.equals(cached.getId(), taskId))
+                    .toList());
+        });
+    }
+
+    /**
+     * Records tasks changed by a bulk update: drops them and their owners' cached lists, which are
+     * reloaded on their next read. Other owners keep their cached lists.
+     *
+     * @param taskIds  The IDs of the changed tasks.
+     * @param ownerIds The IDs of their owners.
+     */
+    public void tasksChanged(Collection<Long> taskIds, Collection<Long> ownerIds) {
+        TransactionCallbacks.afterCommit(() -> {
+            tasksById.invalidateAll(taskIds);
+            tasksByOwner.invalidateAll(ownerIds);
+        });
+    }
+
+    /**
+     * Drops every cached task. Cached tasks embed their category, so this is used when a category
+     * is renamed or deleted, which is rare.
+     */
+    public void invalidateAll() {
+        TransactionCallbacks.afterCommit(() -> {
+            tasksById.invalidateAll();
+            tasksByOwner.invalidateAll();
+        });
+    }
+
+    /**
+     * Returns the hit and miss counts of the task-by-ID cache.
+     *
+     * @return The cache statistics.
+     */
+    public CacheStats taskStats() {
+        return tasksById.stats();
+    }
+
+    /**
+     * Returns the hit and miss counts of the tasks-by-owner cache.
+     *
+     * @return The cache statistics.
+     */
+    public CacheStats ownerStats() {
+        return tasksByOwner.stats();
+    }
+
+    private static List<TaskResponse> copy(List<TaskResponse> tasks) {
+        return tasks.stream().map(TaskCache::copy).toList();
+    }
+
+    private static TaskResponse copy(TaskResponse task) {
+        if (task == null) {
+            return null;
+        }
+        return TaskResponse.builder()
+                .id(task.getId())
+                .title(task.getTitle())
+                .description(task.getDescription())
+                .dueDate(task.getDueDate())
+                .status(task.getStatus())
+                .createdAt(task.getCreatedAt())
+                .updatedAt(task.getUpdatedAt())
+                .category(copy(task.getCategory()))
+                .owner(copy(task.getOwner()))
+                .build();
+    }
+
+    private static CategoryResponse copy(CategoryResponse category) {
+        if (category == null) {
+            return null;
+        }
+        return CategoryResponse.builder()
+                .id(category.getId())
+                .name(category.getName())
+                .build();
+    }
+
+    private static UserResponse copy(UserResponse user) {
+        if (user == null) {
+            return null;
+        }
+        return UserResponse.builder()
+                .id(user.getId())
+                .fullName(user.getFullName())
+                .email(user.getEmail())
+                .roles(user.getRoles() != null ? Set.copyOf(user.getRoles()) : null)
+                .createdAt(user.getCreatedAt())
+                .updatedAt(user.getUpdatedAt())
+                .build();
+    }
+}
+```
@@ -1,8 +1,12 @@
 ```java
 package com.alx.taskmgr.service;
 
+import com.alx.taskmgr.dto.task.TaskBulkStatusRequest;
+import com.alx.taskmgr.dto.task.TaskPageResponse;
+import com.alx.taskmgr.dto.task.TaskQueryRequest;
 import com.alx.taskmgr.dto.task.TaskRequest;
 import com.alx.taskmgr.dto.task.TaskResponse;
+import com.alx.taskmgr.dto.task.TaskSummaryResponse;
 import com.alx.taskmgr.dto.category.CategoryResponse;
 import com.alx.taskmgr.dto.user.UserResponse;
 import com.alx.taskmgr.entity.Category;
@@ -16,44 +20,53 @@ import com.alx.taskmgr.repository.TaskRepository;
 import com.alx.taskmgr.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
 import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
  * Service class for managing tasks.
  * Provides business logic for CRUD operations on tasks, with authorization checks and caching.
+ * Callers pass the user ID carried by the token, so checking who owns a task needs no user lookup.
+ * Tasks are cached by ID and by owner in {@link TaskCache}; writes update only the entries they affect.
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j // For logging
 public class TaskService {
 
+    // Bounds of the due-date range when the query gives none; both fit every supported database
+    private static final LocalDateTime EARLIEST_DUE_DATE = LocalDateTime.of(1, 1, 1, 0, 0);
+    private static final LocalDateTime LATEST_DUE_DATE = LocalDateTime.of(9999, 12, 31, 0, 0);
+
     private final TaskRepository taskRepository;
     private final UserRepository userRepository;
     private final CategoryRepository categoryRepository;
+    private final TaskCache taskCache;
 
     /**
      * Creates a new task for the specified user.
      *
      * @param request The TaskRequest containing task details.
-     * @param userEmail The email of the authenticated user creating the task.
+     * @param userId The ID of the authenticated user creating the task, from its token.
      * @return The created TaskResponse.
      * @throws ResourceNotFoundException If the category or user specified is not found.
      * @throws BadRequestException If the due date is in the past.
      */
     @Transactional
-    @CacheEvict(value = "tasksCache", allEntries = true) // Clear relevant caches on new task creation
-    public TaskResponse createTask(TaskRequest request, String userEmail) {
-        User owner = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found with email: " + userEmail));
+    public TaskResponse createTask(TaskRequest request, Long userId) {
+        User owner = userRepository.findById(userId) // Loaded anyway to map the owner into the response
+                .orElseThrow(() -> new ResourceNotFoundException("User not found with ID: " + userId));
 
         Category category = categoryRepository.findById(request.getCategoryId())
                 .orElseThrow(() -> new ResourceNotFoundException("Category not found with ID: " + request.getCategoryId()));
@@ -74,25 +87,20 @@ public class TaskService {
 
         Task savedTask = taskRepository.save(task);
         log.info("Task created: {}", savedTask.getId());
-        return mapToResponse(savedTask);
+        TaskResponse response = mapToResponse(savedTask);
+        taskCache.taskSaved(response); // Appended to the owner's cached list, if any
+        return response;
     }
 
     /**
      * Retrieves all tasks for a specific user.
      *
-     * @param userEmail The email of the user whose tasks are to be retrieved.
+     * @param userId The ID of the user whose tasks are to be retrieved, from its token.
      * @return A list of TaskResponse for the user.
-     * @throws ResourceNotFoundException If the user is not found.
      */
-    @Cacheable(value = "tasksCache", key = "#userEmail") // Cache tasks per user
     @Transactional(readOnly = true)
-    public List<TaskResponse> getAllTasksForUser(String userEmail) {
-        User owner = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found with email: " + userEmail));
-
-        return taskRepository.findByOwnerId(owner.getId()).stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+    public List<TaskResponse> getAllTasksForUser(Long userId) {
+        return taskCache.getOwnerTasks(userId, this::loadTasksByOwnerId); // Cached per owner ID
     }
 
     /**
@@ -104,41 +112,74 @@ public class TaskService {
      */
     @Transactional(readOnly = true)
     public List<TaskResponse> getAllTasksByOwnerId(Long ownerId) {
-        if (!userRepository.existsById(ownerId)) {
-            throw new ResourceNotFoundException("User not found with ID: " + ownerId);
-        }
-        return taskRepository.findByOwnerId(ownerId).stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        // Shares the per-owner cache; the owner is only looked up on a miss
+        return taskCache.getOwnerTasks(ownerId, id -> {
+            if (!userRepository.existsById(id)) {
+                throw new ResourceNotFoundException("User not found with ID: " + id);
+            }
+            return loadTasksByOwnerId(id);
+        });
     }
 
+    /**
+     * Queries one page of the user's tasks, filtered by status, category and due-date range, in (dueDate, id) order.
+     * The page is read by keyset, so its cost does not grow with the position, and rows are read as DTOs
+     * instead of mapping every task with its owner and category. Pages are not cached.
+     *
+     * @param query Filters, page size and the cursor returned with the previous page, if any.
+     * @param userId The ID of the authenticated user, from its token.
+     * @return The page and the cursor of the next page, or a null cursor on the last page.
+     * @throws BadRequestException If the cursor is malformed.
+     */
+    @Transactional(readOnly = true)
+    public TaskPageResponse queryTasks(TaskQueryRequest query, Long userId) {
+        LocalDateTime start = query.getDueFrom() != null ? query.getDueFrom() : EARLIEST_DUE_DATE;
+        Long afterId = 0L; // IDs are positive
+        if (query.getCursor() != null && !query.getCursor().isEmpty()) {
+            Cursor after = decodeCursor(query.getCursor());
+            start = after.dueDate();
+            afterId = after.id();
+        }
+        LocalDateTime end = query.getDueTo() != null ? query.getDueTo() : LATEST_DUE_DATE;
+        // One extra row tells whether another page follows, without a count query
+        PageRequest limit = PageRequest.of(0, query.getSize() + 1);
+
+        List<TaskSummaryResponse> rows = query.getCategoryId() != null
+                ? taskRepository.findPageByOwnerIdAndCategoryId(userId, query.getCategoryId(), query.getStatus(),
+                        start, end, afterId, limit)
+                : taskRepository.findPageByOwnerId(userId, query.getStatus(), start, end, afterId, limit);
+
+        if (rows.size() <= query.getSize()) {
+            return new TaskPageResponse(rows, null);
+        }
+        List<TaskSummaryResponse> items = List.copyOf(rows.subList(0, query.getSize()));
+        TaskSummaryResponse last = items.get(items.size() - 1);
+        return new TaskPageResponse(items, encodeCursor(last.getDueDate(), last.getId()));
+    }
 
     /**
      * Retrieves a single task by its ID, with authorization check.
      * Only the task owner or an ADMIN can view the task.
+     * The task is cached by ID, but the check runs on every call, including cache hits.
      *
      * @param taskId The ID of the task to retrieve.
-     * @param userEmail The email of the authenticated user.
+     * @param userId The ID of the authenticated user, from its token.
      * @param authorities The authorities (roles) of the authenticated user.
      * @return The TaskResponse for the found task.
      * @throws ResourceNotFoundException If the task is not found.
      * @throws UnauthorizedException If the user is not authorized to view the task.
      */
-    @Cacheable(value = "tasksCache", key = "#taskId") // Cache single task by ID
     @Transactional(readOnly = true)
-    public TaskResponse getTaskById(Long taskId, String userEmail, Collection<? extends GrantedAuthority> authorities) {
-        User requestingUser = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found with email: " + userEmail));
-
-        Task task = taskRepository.findById(taskId)
-                .orElseThrow(() -> new ResourceNotFoundException("Task not found with ID: " + taskId));
+    public TaskResponse getTaskById(Long taskId, Long userId, Collection<? extends GrantedAuthority> authorities) {
+        TaskResponse task = taskCache.getTask(taskId, id -> mapToResponse(taskRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Task not found with ID: " + id))));
 
         // Check if the requesting user is the owner or an ADMIN
         boolean isAdmin = authorities.stream().anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN"));
-        if (!task.getOwner().getId().equals(requestingUser.getId()) && !isAdmin) {
+        if (!task.getOwner().getId().equals(userId) && !isAdmin) {
             throw new UnauthorizedException("You are not authorized to view this task.");
         }
-        return mapToResponse(task);
+        return task;
     }
 
     /**
@@ -147,7 +188,7 @@ public class TaskService {
      *
      * @param taskId The ID of the task to update.
      * @param request The TaskRequest containing updated task details.
-     * @param userEmail The email of the authenticated user performing the update.
+     * @param userId The ID of the authenticated user performing the update, from its token.
      * @param authorities The authorities (roles) of the authenticated user.
      * @return The updated TaskResponse.
      * @throws ResourceNotFoundException If the task or category is not found.
@@ -155,17 +196,13 @@ public class TaskService {
      * @throws BadRequestException If the due date is in the past.
      */
     @Transactional
-    @CacheEvict(value = {"tasksCache", "tasksCache::#taskId"}, allEntries = true) // Clear specific and general caches
-    public TaskResponse updateTask(Long taskId, TaskRequest request, String userEmail, Collection<? extends GrantedAuthority> authorities) {
-        User requestingUser = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found with email: " + userEmail));
-
+    public TaskResponse updateTask(Long taskId, TaskRequest request, Long userId, Collection<? extends GrantedAuthority> authorities) {
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found with ID: " + taskId));
 
         // Authorization check
         boolean isAdmin = authorities.stream().anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN"));
-        if (!task.getOwner().getId().equals(requestingUser.getId()) && !isAdmin) {
+        if (!task.getOwner().getId().equals(userId) && !isAdmin) {
             throw new UnauthorizedException("You are not authorized to update this task.");
         }
 
@@ -184,7 +221,45 @@ public class TaskService {
 
         Task updatedTask = taskRepository.save(task);
         log.info("Task updated: {}", updatedTask.getId());
-        return mapToResponse(updatedTask);
+        TaskResponse response = mapToResponse(updatedTask);
+        taskCache.taskSaved(response); // Replaced in its own entry and in the owner's cached list
+        return response;
+    }
+
+    /**
+     * Sets the status of several tasks at once.
+     * Only the owner of every task or an ADMIN can update them. The owners are read in one query and
+     * the tasks are updated with one statement; the batch is updated as a whole or not at all.
+     *
+     * @param request The IDs of the tasks and their new status.
+     * @param userId The ID of the authenticated user performing the update, from its token.
+     * @param authorities The authorities (roles) of the authenticated user.
+     * @throws ResourceNotFoundException If a task is not found.
+     * @throws UnauthorizedException If the user is not authorized to update one of the tasks.
+     */
+    @Transactional
+    public void updateTaskStatuses(TaskBulkStatusRequest request, Long userId, Collection<? extends GrantedAuthority> authorities) {
+        List<Long> taskIds = request.getTaskIds().stream().distinct().toList();
+        List<TaskRepository.TaskOwnerView> owners = taskRepository.findOwnersByIdIn(taskIds);
+        if (owners.size() != taskIds.size()) {
+            Set<Long> found = owners.stream().map(TaskRepository.TaskOwnerView::getId).collect(Collectors.toSet());
+            Long missing = taskIds.stream().filter(id -> !found.contains(id)).findFirst().orElseThrow();
+            throw new ResourceNotFoundException("Task not found with ID: " + missing);
+        }
+
+        // Authorization check, for every task of the batch
+        boolean isAdmin = authorities.stream().anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN"));
+        if (!isAdmin && !owners.stream().allMatch(owner -> owner.getOwnerId().equals(userId))) {
+            throw new UnauthorizedException("You are not authorized to update these tasks.");
+        }
+
+        int updated = taskRepository.updateStatusByIdIn(taskIds, request.getStatus(), LocalDateTime.now());
+        if (updated != taskIds.size()) { // A task was deleted since its owner was read
+            throw new ResourceNotFoundException("Some of the tasks were deleted during the update.");
+        }
+        Set<Long> ownerIds = owners.stream().map(TaskRepository.TaskOwnerView::getOwnerId).collect(Collectors.toSet());
+        taskCache.tasksChanged(taskIds, ownerIds);
+        log.info("Status of {} tasks set to {}", updated, request.getStatus());
     }
 
     /**
@@ -192,30 +267,76 @@ public class TaskService {
      * Only the task owner or an ADMIN can delete the task.
      *
      * @param taskId The ID of the task to delete.
-     * @param userEmail The email of the authenticated user performing the deletion.
+     * @param userId The ID of the authenticated user performing the deletion, from its token.
      * @param authorities The authorities (roles) of the authenticated user.
      * @throws ResourceNotFoundException If the task is not found.
      * @throws UnauthorizedException If the user is not authorized to delete the task.
      */
     @Transactional
-    @CacheEvict(value = {"tasksCache", "tasksCache::#taskId"}, allEntries = true) // Clear specific and general caches
-    public void deleteTask(Long taskId, String userEmail, Collection<? extends GrantedAuthority> authorities) {
-        User requestingUser = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found with email: " + userEmail));
-
+    public void deleteTask(Long taskId, Long userId, Collection<? extends GrantedAuthority> authorities) {
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found with ID: " + taskId));
 
         // Authorization check
         boolean isAdmin = authorities.stream().anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN"));
-        if (!task.getOwner().getId().equals(requestingUser.getId()) && !isAdmin) {
+        if (!task.getOwner().getId().equals(userId) && !isAdmin) {
             throw new UnauthorizedException("You are not authorized to delete this task.");
         }
 
         taskRepository.delete(task);
+        taskCache.taskDeleted(taskId, task.getOwner().getId());
         log.info("Task deleted: {}", taskId);
     }
 
+    /**
+     * Loads an owner's tasks from the database, for the per-owner cache.
+     *
+     * @param ownerId The ID of the owner.
+     * @return The owner's tasks as TaskResponse DTOs.
+     */
+    private List<TaskResponse> loadTasksByOwnerId(Long ownerId) {
+        return taskRepository.findByOwnerId(ownerId).stream()
+                .map(this::mapToResponse)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Encodes the position after a row as an opaque, URL-safe cursor.
+     *
+     * @param dueDate The row's due date.
+     * @param id The row's ID.
+     * @return The cursor.
+     */
+    private static String encodeCursor(LocalDateTime dueDate, Long id) {
+        String position = dueDate + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor produced by {@link #encodeCursor}.
+     *
+     * @param cursor The cursor from a previous page.
+     * @return The position after which the next page starts.
+     * @throws BadRequestException If the cursor is malformed.
+     */
+    private static Cursor decodeCursor(String cursor) {
+        try {
+            String[] position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|", -1);
+            if (position.length != 2) {
+                throw new BadRequestException("Invalid cursor.");
+            }
+            return new Cursor(LocalDateTime.parse(position[0]), Long.valueOf(position[1]));
+        } catch (IllegalArgumentException | DateTimeParseException e) { // Also thrown for bad Base64 and numbers
+            throw new BadRequestException("Invalid cursor.", e);
+        }
+    }
+
+    /**
+     * Position of the last row of a page: its due date and its ID.
+     */
+    private record Cursor(LocalDateTime dueDate, Long id) {
+    }
+
     /**
      * Helper method to map a Task entity to a TaskResponse DTO.
      * This includes mapping related User and Category entities to their respective DTOs.
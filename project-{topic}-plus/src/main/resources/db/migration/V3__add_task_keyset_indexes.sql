@@ -0,0 +1,9 @@
+```sql
+-- V3__add_task_keyset_indexes.sql
+
+-- Composite indexes for the keyset-paginated task query (GET /api/v1/tasks/query).
+-- Each matches the query's ORDER BY due_date, id within one owner, or one owner and category,
+-- so a page is a range scan that starts at the cursor and stops after LIMIT rows.
+CREATE INDEX idx_tasks_owner_due_date_id ON tasks(owner_id, due_date, id);
+CREATE INDEX idx_tasks_owner_category_due_date_id ON tasks(owner_id, category_id, due_date, id);
+```
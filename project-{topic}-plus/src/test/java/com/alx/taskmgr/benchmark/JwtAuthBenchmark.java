@@ -0,0 +1,98 @@
+```java
+package com.alx.taskmgr.benchmark;
+
+import com.alx.taskmgr.entity.Role;
+import com.alx.taskmgr.entity.User;
+import com.alx.taskmgr.security.JwtPrincipal;
+import com.alx.taskmgr.security.JwtVerifier;
+import com.alx.taskmgr.service.JwtService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Date;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Microbenchmark of the work the JWT filter does per request.
+ * {@code legacyTriplePass} replays the old filter: three parses, each decoding the key and building a parser.
+ * Not a unit test (surefire skips it); run {@link #main(String[])} from the IDE, or after {@code mvn test-compile}:
+ * <pre>
+ * mvn dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ * java -cp target/test-classes:target/classes:$(cat target/cp.txt) org.openjdk.jmh.Main JwtAuthBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthBenchmark {
+
+    private static final String SECRET = "c3VwZXJzZWNyZXRrZXl0aGF0aXNhdGxlYXN0MjU2Yml0bG9uZ2ZvcnRlc3RzMTIzNDU2Nzg5MA==";
+
+    private JwtVerifier jwtVerifier;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        JwtService jwtService = new JwtService();
+        ReflectionTestUtils.setField(jwtService, "secretKey", SECRET);
+        ReflectionTestUtils.setField(jwtService, "jwtExpiration", 3_600_000L);
+        ReflectionTestUtils.invokeMethod(jwtService, "init");
+        jwtVerifier = new JwtVerifier(jwtService, 10_000);
+        token = jwtService.generateToken(User.builder()
+                .id(1L)
+                .email("bench@example.com")
+                .password("hashed")
+                .roles(Set.of(Role.ROLE_USER))
+                .build());
+    }
+
+    @Benchmark
+    public boolean legacyTriplePass() {
+        String subject = legacyClaims(token).getSubject(); // extractUsername
+        return subject.equals(legacyClaims(token).getSubject()) // isTokenValid
+                && legacyClaims(token).getExpiration().after(new Date()); // isTokenExpired
+    }
+
+    @Benchmark
+    public JwtPrincipal singleParse() {
+        return jwtVerifier.parse(token);
+    }
+
+    @Benchmark
+    public JwtPrincipal cachedVerify() {
+        return jwtVerifier.verify(token);
+    }
+
+    private static Claims legacyClaims(String jwt) {
+        return Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET)))
+                .build()
+                .parseClaimsJws(jwt)
+                .getBody();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(JwtAuthBenchmark.class.getSimpleName()).build()).run();
+    }
+}
+```
@@ -11,6 +11,7 @@ import com.alx.taskmgr.entity.Role;
 import com.alx.taskmgr.entity.TaskStatus;
 import com.alx.taskmgr.exception.ResourceNotFoundException;
 import com.alx.taskmgr.exception.UnauthorizedException;
+import com.alx.taskmgr.security.JwtPrincipal;
 import com.alx.taskmgr.service.TaskService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.json.JsonMapper;
@@ -24,9 +25,9 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.FilterType;
 import org.springframework.http.MediaType;
-import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Set;
@@ -34,10 +35,10 @@ import java.util.Set;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyLong;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -49,7 +50,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * API (Controller) tests for {@link TaskController} using Spring MockMvc.
  * Focuses on testing the HTTP endpoints for task management, including authorization.
  * Uses {@link WebMvcTest} to load web-related components, excluding JWT filter for simplicity
- * as we are using {@link WithMockUser} for authentication context.
+ * as each request is authenticated with the {@link JwtPrincipal} the filter would have built from its token.
  */
 @WebMvcTest(controllers = TaskController.class,
         excludeFilters = @ComponentScan.Filter(
@@ -65,6 +66,10 @@ class TaskControllerTest {
     @MockBean
     private TaskService taskService; // Mock the service layer
 
+    private final JwtPrincipal userPrincipal = new JwtPrincipal(1L, "user@example.com", Set.of(Role.ROLE_USER), Instant.MAX);
+    private final JwtPrincipal anotherPrincipal = new JwtPrincipal(2L, "another@example.com", Set.of(Role.ROLE_USER), Instant.MAX);
+    private final JwtPrincipal adminPrincipal = new JwtPrincipal(3L, "admin@example.com", Set.of(Role.ROLE_ADMIN), Instant.MAX);
+
     private UserResponse testUserResponse;
     private CategoryResponse testCategoryResponse;
     private TaskRequest taskRequest;
@@ -112,13 +117,13 @@ class TaskControllerTest {
 
     @Test
     @DisplayName("Should create a new task and return 201 Created")
-    @WithMockUser(username = "user@example.com", roles = {"USER"})
     void createTask_Success_Returns201() throws Exception {
         // Given
-        when(taskService.createTask(any(TaskRequest.class), anyString())).thenReturn(taskResponse);
+        when(taskService.createTask(any(TaskRequest.class), anyLong())).thenReturn(taskResponse);
 
         // When & Then
         mockMvc.perform(post("/api/v1/tasks")
+                        .with(user(userPrincipal))
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(taskRequest)))
                 .andExpect(status().isCreated())
@@ -129,7 +134,6 @@ class TaskControllerTest {
 
     @Test
     @DisplayName("Should return 400 Bad Request for invalid task creation input")
-    @WithMockUser(username = "user@example.com", roles = {"USER"})
     void createTask_InvalidInput_Returns400() throws Exception {
         // Given
         taskRequest.setTitle(""); // Invalid title
@@ -137,6 +141,7 @@ class TaskControllerTest {
 
         // When & Then
         mockMvc.perform(post("/api/v1/tasks")
+                        .with(user(userPrincipal))
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(taskRequest)))
                 .andExpect(status().isBadRequest())
@@ -147,13 +152,13 @@ class TaskControllerTest {
 
     @Test
     @DisplayName("Should retrieve all tasks for authenticated user and return 200 OK")
-    @WithMockUser(username = "user@example.com", roles = {"USER"})
     void getAllTasks_User_Success_Returns200() throws Exception {
         // Given
-        when(taskService.getAllTasksForUser(anyString())).thenReturn(List.of(taskResponse));
+        when(taskService.getAllTasksForUser(anyLong())).thenReturn(List.of(taskResponse));
 
         // When & Then
-        mockMvc.perform(get("/api/v1/tasks"))
+        mockMvc.perform(get("/api/v1/tasks")
+                        .with(user(userPrincipal)))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$[0].id").value(taskResponse.getId()))
                 .andExpect(jsonPath("$[0].title").value(taskResponse.getTitle()));
@@ -161,13 +166,13 @@ class TaskControllerTest {
 
     @Test
     @DisplayName("Should retrieve all tasks for a specific owner by Admin and return 200 OK")
-    @WithMockUser(username = "admin@example.com", roles = {"ADMIN"})
     void getAllTasks_AdminWithOwnerId_Success_Returns200() throws Exception {
         // Given
         when(taskService.getAllTasksByOwnerId(anyLong())).thenReturn(List.of(taskResponse));
 
         // When & Then
-        mockMvc.perform(get("/api/v1/tasks").param("ownerId", testUserResponse.getId().toString()))
+        mockMvc.perform(get("/api/v1/tasks").param("ownerId", testUserResponse.getId().toString())
+                        .with(user(adminPrincipal)))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$[0].id").value(taskResponse.getId()))
                 .andExpect(jsonPath("$[0].owner.id").value(testUserResponse.getId()));
@@ -175,22 +180,22 @@ class TaskControllerTest {
 
     @Test
     @DisplayName("Should forbid non-admin user from requesting tasks for another ownerId")
-    @WithMockUser(username = "user@example.com", roles = {"USER"})
     void getAllTasks_UserWithOwnerId_Returns403() throws Exception {
         // When & Then
-        mockMvc.perform(get("/api/v1/tasks").param("ownerId", testUserResponse.getId().toString()))
+        mockMvc.perform(get("/api/v1/tasks").param("ownerId", testUserResponse.getId().toString())
+                        .with(user(userPrincipal)))
                 .andExpect(status().isForbidden());
     }
 
     @Test
     @DisplayName("Should retrieve a task by ID for owner and return 200 OK")
-    @WithMockUser(username = "user@example.com", roles = {"USER"})
     void getTaskById_Owner_Success_Returns200() throws Exception {
         // Given
-        when(taskService.getTaskById(anyLong(), anyString(), anyCollection())).thenReturn(taskResponse);
+        when(taskService.getTaskById(anyLong(), anyLong(), anyCollection())).thenReturn(taskResponse);
 
         // When & Then
-        mockMvc.perform(get("/api/v1/tasks/{id}", taskResponse.getId()))
+        mockMvc.perform(get("/api/v1/tasks/{id}", taskResponse.getId())
+                        .with(user(userPrincipal)))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.id").value(taskResponse.getId()))
                 .andExpect(jsonPath("$.title").value(taskResponse.getTitle()));
@@ -198,43 +203,43 @@ class TaskControllerTest {
 
     @Test
     @DisplayName("Should return 404 Not Found when getting non-existent task")
-    @WithMockUser(username = "user@example.com", roles = {"USER"})
     void getTaskById_NotFound_Returns404() throws Exception {
         // Given
-        when(taskService.getTaskById(anyLong(), anyString(), anyCollection()))
+        when(taskService.getTaskById(anyLong(), anyLong(), anyCollection()))
                 .thenThrow(new ResourceNotFoundException("Task not found with ID: 999"));
 
         // When & Then
-        mockMvc.perform(get("/api/v1/tasks/{id}", 999L))
+        mockMvc.perform(get("/api/v1/tasks/{id}", 999L)
+                        .with(user(userPrincipal)))
                 .andExpect(status().isNotFound())
                 .andExpect(jsonPath("$.message").value("Task not found with ID: 999"));
     }
 
     @Test
     @DisplayName("Should return 403 Forbidden when non-owner/non-admin tries to get task")
-    @WithMockUser(username = "another@example.com", roles = {"USER"})
     void getTaskById_Unauthorized_Returns403() throws Exception {
         // Given
-        when(taskService.getTaskById(anyLong(), anyString(), anyCollection()))
+        when(taskService.getTaskById(anyLong(), anyLong(), anyCollection()))
                 .thenThrow(new UnauthorizedException("You are not authorized to view this task."));
 
         // When & Then
-        mockMvc.perform(get("/api/v1/tasks/{id}", taskResponse.getId()))
+        mockMvc.perform(get("/api/v1/tasks/{id}", taskResponse.getId())
+                        .with(user(anotherPrincipal)))
                 .andExpect(status().isForbidden())
                 .andExpect(jsonPath("$.message").value("You are not authorized to view this task."));
     }
 
     @Test
     @DisplayName("Should update an existing task by owner and return 200 OK")
-    @WithMockUser(username = "user@example.com", roles = {"USER"})
     void updateTask_Owner_Success_Returns200() throws Exception {
         // Given
         TaskRequest updateRequest = taskRequest.toBuilder().title("Updated Task").status(TaskStatus.COMPLETED).build();
         TaskResponse updatedResponse = taskResponse.toBuilder().title("Updated Task").status(TaskStatus.COMPLETED).build();
-        when(taskService.updateTask(anyLong(), any(TaskRequest.class), anyString(), anyCollection())).thenReturn(updatedResponse);
+        when(taskService.updateTask(anyLong(), any(TaskRequest.class), anyLong(), anyCollection())).thenReturn(updatedResponse);
 
         // When & Then
-        mockMvc.perform(put("/api/v1/tasks/{id}", taskResponse.getId())
+        mockMvc.perform(put("/api/v1/tasks/{id}", taskResponse.getId()
+                        .with(user(userPrincipal)))
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(updateRequest)))
                 .andExpect(status().isOk())
@@ -245,40 +250,40 @@ class TaskControllerTest {
 
     @Test
     @DisplayName("Should delete a task by owner and return 204 No Content")
-    @WithMockUser(username = "user@example.com", roles = {"USER"})
     void deleteTask_Owner_Success_Returns204() throws Exception {
         // Given
-        doNothing().when(taskService).deleteTask(anyLong(), anyString(), anyCollection());
+        doNothing().when(taskService).deleteTask(anyLong(), anyLong(), anyCollection());
 
         // When & Then
-        mockMvc.perform(delete("/api/v1/tasks/{id}", taskResponse.getId()))
+        mockMvc.perform(delete("/api/v1/tasks/{id}", taskResponse.getId())
+                        .with(user(userPrincipal)))
                 .andExpect(status().isNoContent());
     }
 
     @Test
     @DisplayName("Should return 403 Forbidden when non-owner/non-admin tries to delete task")
-    @WithMockUser(username = "another@example.com", roles = {"USER"})
     void deleteTask_Unauthorized_Returns403() throws Exception {
         // Given
         doThrow(new UnauthorizedException("You are not authorized to delete this task."))
-                .when(taskService).deleteTask(anyLong(), anyString(), anyCollection());
+                .when(taskService).deleteTask(anyLong(), anyLong(), anyCollection());
 
         // When & Then
-        mockMvc.perform(delete("/api/v1/tasks/{id}", taskResponse.getId()))
+        mockMvc.perform(delete("/api/v1/tasks/{id}", taskResponse.getId())
+                        .with(user(anotherPrincipal)))
                 .andExpect(status().isForbidden())
                 .andExpect(jsonPath("$.message").value("You are not authorized to delete this task."));
     }
 
     @Test
     @DisplayName("Should return 404 Not Found when deleting non-existent task")
-    @WithMockUser(username = "user@example.com", roles = {"USER"})
     void deleteTask_NotFound_Returns404() throws Exception {
         // Given
         doThrow(new ResourceNotFoundException("Task not found with ID: 999"))
-                .when(taskService).deleteTask(anyLong(), anyString(), anyCollection());
+                .when(taskService).deleteTask(anyLong(), anyLong(), anyCollection());
 
         // When & Then
-        mockMvc.perform(delete("/api/v1/tasks/{id}", 999L))
+        mockMvc.perform(delete("/api/v1/tasks/{id}", 999L)
+                        .with(user(userPrincipal)))
                 .andExpect(status().isNotFound())
                 .andExpect(jsonPath("$.message").value("Task not found with ID: 999"));
     }
@@ -0,0 +1,92 @@
+```java
+package com.alx.taskmgr.security;
+
+import com.alx.taskmgr.entity.Role;
+import com.alx.taskmgr.entity.User;
+import com.alx.taskmgr.service.JwtService;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.HashMap;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests for {@link JwtVerifier}.
+ * Uses a real {@link JwtService} so tokens are signed and verified end to end.
+ */
+class JwtVerifierTest {
+
+    private static final String SECRET = "c3VwZXJzZWNyZXRrZXl0aGF0aXNhdGxlYXN0MjU2Yml0bG9uZ2ZvcnRlc3RzMTIzNDU2Nzg5MA==";
+
+    private JwtService jwtService;
+    private JwtVerifier jwtVerifier;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        jwtService = jwtService(60_000);
+        jwtVerifier = new JwtVerifier(jwtService, 100);
+        user = User.builder()
+                .id(42L)
+                .email("jane@example.com")
+                .fullName("Jane Doe")
+                .password("hashed")
+                .roles(Set.of(Role.ROLE_USER, Role.ROLE_ADMIN))
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should build the principal from the token claims without loading the user")
+    void verify_ValidToken_ReturnsPrincipal() {
+        JwtPrincipal principal = jwtVerifier.verify(jwtService.generateToken(user));
+
+        assertThat(principal.getId()).isEqualTo(42L);
+        assertThat(principal.getUsername()).isEqualTo("jane@example.com");
+        assertThat(principal.getRoles()).containsExactlyInAnyOrder(Role.ROLE_USER, Role.ROLE_ADMIN);
+        assertThat(principal.getAuthorities()).extracting("authority").containsExactlyInAnyOrder("ROLE_USER", "ROLE_ADMIN");
+    }
+
+    @Test
+    @DisplayName("Should reuse the verified principal for repeated requests with the same token")
+    void verify_SameToken_ReturnsCachedPrincipal() {
+        String token = jwtService.generateToken(user);
+
+        assertThat(jwtVerifier.verify(token)).isSameAs(jwtVerifier.verify(token));
+        assertThat(jwtVerifier.parse(token)).isNotSameAs(jwtVerifier.verify(token));
+    }
+
+    @Test
+    @DisplayName("Should reject tampered and expired tokens")
+    void verify_InvalidToken_Throws() {
+        String token = jwtService.generateToken(user);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        assertThrows(JwtException.class, () -> jwtVerifier.verify(tampered));
+        assertThrows(JwtException.class, () -> jwtVerifier.verify(jwtService(-1_000).generateToken(user)));
+        assertThrows(IllegalArgumentException.class, () -> jwtVerifier.verify(""));
+    }
+
+    @Test
+    @DisplayName("Should return null for tokens issued without the user id and roles claims")
+    void verify_LegacyToken_ReturnsNull() {
+        String legacy = jwtService.generateToken(new HashMap<>(), user);
+
+        assertThat(jwtVerifier.verify(legacy)).isNull();
+        assertThat(jwtService.isTokenValid(legacy, user)).isTrue();
+    }
+
+    private static JwtService jwtService(long expiration) {
+        JwtService service = new JwtService();
+        ReflectionTestUtils.setField(service, "secretKey", SECRET);
+        ReflectionTestUtils.setField(service, "jwtExpiration", expiration);
+        ReflectionTestUtils.invokeMethod(service, "init");
+        return service;
+    }
+}
+```
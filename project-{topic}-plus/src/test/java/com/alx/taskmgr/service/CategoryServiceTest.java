@@ -40,6 +40,8 @@ class CategoryServiceTest {
     private CategoryRepository categoryRepository;
     @Mock
     private CacheManager cacheManager; // Mock CacheManager if needed, or use a simple one for local tests
+    @Mock
+    private TaskCache taskCache;
 
     @InjectMocks
     private CategoryService categoryService;
@@ -0,0 +1,144 @@
+```java
+package com.alx.taskmgr.service;
+
+import com.alx.taskmgr.dto.task.TaskResponse;
+import com.alx.taskmgr.dto.user.UserResponse;
+import com.alx.taskmgr.entity.TaskStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link TaskCache}.
+ * Covers the in-place maintenance of cached owner lists, the isolation of cached responses from callers,
+ * and measures the hit ratio on a mixed workload.
+ */
+class TaskCacheTest {
+
+    @Test
+    @DisplayName("Should append, replace and remove tasks in a cached owner list without reloading it")
+    void ownerList_MaintainedIncrementally() {
+        TaskCache cache = new TaskCache(100);
+        AtomicInteger loads = new AtomicInteger();
+        cache.getOwnerTasks(1L, id -> {
+            loads.incrementAndGet();
+            return List.of(task(10L, 1L, "a"));
+        });
+
+        cache.taskSaved(task(11L, 1L, "b"));
+        cache.taskSaved(task(10L, 1L, "a2"));
+        cache.taskDeleted(11L, 1L);
+        cache.taskSaved(task(20L, 2L, "other owner")); // Owner 2 has no cached list
+
+        List<TaskResponse> tasks = cache.getOwnerTasks(1L, id -> {
+            loads.incrementAndGet();
+            return List.of();
+        });
+        assertThat(tasks).extracting(TaskResponse::getTitle).containsExactly("a2");
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(cache.getOwnerTasks(2L, id -> List.of())).isEmpty();
+        assertThat(cache.getTask(20L, id -> null).getTitle()).isEqualTo("other owner");
+    }
+
+    @Test
+    @DisplayName("Should drop bulk-changed tasks and their owners' lists, and keep other owners' lists")
+    void tasksChanged_DropsAffectedEntriesOnly() {
+        TaskCache cache = new TaskCache(100);
+        AtomicInteger loads = new AtomicInteger();
+        cache.getOwnerTasks(1L, id -> {
+            loads.incrementAndGet();
+            return List.of(task(10L, 1L, "a"));
+        });
+        cache.getOwnerTasks(2L, id -> {
+            loads.incrementAndGet();
+            return List.of(task(20L, 2L, "b"));
+        });
+        cache.getTask(10L, id -> task(10L, 1L, "a"));
+
+        cache.tasksChanged(List.of(10L), List.of(1L));
+
+        assertThat(cache.getTask(10L, id -> task(10L, 1L, "a reloaded")).getTitle()).isEqualTo("a reloaded");
+        assertThat(cache.getOwnerTasks(1L, id -> {
+            loads.incrementAndGet();
+            return List.of(task(10L, 1L, "a reloaded"));
+        })).extracting(TaskResponse::getTitle).containsExactly("a reloaded");
+        assertThat(cache.getOwnerTasks(2L, id -> List.of())).extracting(TaskResponse::getTitle).containsExactly("b");
+        assertThat(loads.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should not let callers modify cached responses")
+    void responses_AreCopies() {
+        TaskCache cache = new TaskCache(100);
+        TaskResponse saved = task(10L, 1L, "a");
+        cache.getOwnerTasks(1L, id -> List.of());
+        cache.taskSaved(saved);
+
+        saved.setTitle("changed after saving");
+        cache.getTask(10L, id -> null).setTitle("changed after reading");
+        cache.getOwnerTasks(1L, id -> List.of()).get(0).getOwner().setFullName("changed");
+
+        TaskResponse cached = cache.getTask(10L, id -> null);
+        assertThat(cached.getTitle()).isEqualTo("a");
+        assertThat(cache.getOwnerTasks(1L, id -> List.of()).get(0).getOwner().getFullName()).isEqualTo("Owner 1");
+    }
+
+    @Test
+    @DisplayName("Should keep a high hit ratio under writes, unlike clearing the whole cache on each write")
+    void mixedWorkload_HitRatio() {
+        TaskCache targeted = new TaskCache(10_000);
+        TaskCache clearedOnWrite = new TaskCache(10_000);
+
+        runWorkload(targeted, false);
+        runWorkload(clearedOnWrite, true);
+
+        // 200 users with 5 tasks each, 10,000 operations of which 5% are updates
+        assertThat(targeted.ownerStats().hitRate()).isGreaterThan(0.9);
+        assertThat(targeted.taskStats().hitRate()).isGreaterThan(0.7);
+        assertThat(clearedOnWrite.ownerStats().hitRate()).isLessThan(0.3);
+        assertThat(clearedOnWrite.taskStats().hitRate()).isLessThan(0.3);
+    }
+
+    private static void runWorkload(TaskCache cache, boolean clearOnWrite) {
+        int users = 200;
+        int tasksPerUser = 5;
+        Random random = new Random(42);
+        for (int i = 0; i < 10_000; i++) {
+            long ownerId = random.nextInt(users) + 1;
+            long taskId = ownerId * 100 + random.nextInt(tasksPerUser);
+            int operation = random.nextInt(100);
+            if (operation < 5) {
+                cache.taskSaved(task(taskId, ownerId, "updated " + i));
+                if (clearOnWrite) {
+                    cache.invalidateAll();
+                }
+            } else if (operation < 50) {
+                cache.getOwnerTasks(ownerId, id -> {
+                    List<TaskResponse> tasks = new ArrayList<>();
+                    for (int t = 0; t < tasksPerUser; t++) {
+                        tasks.add(task(id * 100 + t, id, "loaded"));
+                    }
+                    return tasks;
+                });
+            } else {
+                cache.getTask(taskId, id -> task(id, ownerId, "loaded"));
+            }
+        }
+    }
+
+    private static TaskResponse task(Long id, Long ownerId, String title) {
+        return TaskResponse.builder()
+                .id(id)
+                .title(title)
+                .status(TaskStatus.PENDING)
+                .owner(UserResponse.builder().id(ownerId).fullName("Owner " + ownerId).build())
+                .build();
+    }
+}
+```
@@ -1,8 +1,12 @@
 ```java
 package com.alx.taskmgr.service;
 
+import com.alx.taskmgr.dto.task.TaskBulkStatusRequest;
+import com.alx.taskmgr.dto.task.TaskPageResponse;
+import com.alx.taskmgr.dto.task.TaskQueryRequest;
 import com.alx.taskmgr.dto.task.TaskRequest;
 import com.alx.taskmgr.dto.task.TaskResponse;
+import com.alx.taskmgr.dto.task.TaskSummaryResponse;
 import com.alx.taskmgr.entity.Category;
 import com.alx.taskmgr.entity.Role;
 import com.alx.taskmgr.entity.Task;
@@ -20,7 +24,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
 import java.time.LocalDateTime;
@@ -33,7 +39,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 /**
@@ -49,6 +56,8 @@ class TaskServiceTest {
     private UserRepository userRepository;
     @Mock
     private CategoryRepository categoryRepository;
+    @Spy
+    private TaskCache taskCache = new TaskCache(100); // Real cache, so each test starts empty
 
     @InjectMocks
     private TaskService taskService;
@@ -113,19 +122,19 @@ class TaskServiceTest {
     @DisplayName("Should successfully create a new task")
     void createTask_Success() {
         // Given
-        when(userRepository.findByEmail(testUser.getEmail())).thenReturn(Optional.of(testUser));
+        when(userRepository.findById(testUser.getId())).thenReturn(Optional.of(testUser));
         when(categoryRepository.findById(testCategory.getId())).thenReturn(Optional.of(testCategory));
         when(taskRepository.save(any(Task.class))).thenReturn(testTask);
 
         // When
-        TaskResponse response = taskService.createTask(taskRequest, testUser.getEmail());
+        TaskResponse response = taskService.createTask(taskRequest, testUser.getId());
 
         // Then
         assertThat(response).isNotNull();
         assertThat(response.getTitle()).isEqualTo(taskRequest.getTitle());
         assertThat(response.getOwner().getEmail()).isEqualTo(testUser.getEmail());
         assertThat(response.getCategory().getName()).isEqualTo(testCategory.getName());
-        verify(userRepository, times(1)).findByEmail(testUser.getEmail());
+        verify(userRepository, times(1)).findById(testUser.getId());
         verify(categoryRepository, times(1)).findById(testCategory.getId());
         verify(taskRepository, times(1)).save(any(Task.class));
     }
@@ -134,11 +143,11 @@ class TaskServiceTest {
     @DisplayName("Should throw ResourceNotFoundException when creating task with non-existent user")
     void createTask_UserNotFound_ThrowsException() {
         // Given
-        when(userRepository.findByEmail(anyString())).thenReturn(Optional.empty());
+        when(userRepository.findById(anyLong())).thenReturn(Optional.empty());
 
         // When & Then
-        assertThrows(ResourceNotFoundException.class, () -> taskService.createTask(taskRequest, "nonexistent@example.com"));
-        verify(userRepository, times(1)).findByEmail(anyString());
+        assertThrows(ResourceNotFoundException.class, () -> taskService.createTask(taskRequest, 999L));
+        verify(userRepository, times(1)).findById(999L);
         verify(categoryRepository, never()).findById(anyLong());
         verify(taskRepository, never()).save(any(Task.class));
     }
@@ -147,12 +156,12 @@ class TaskServiceTest {
     @DisplayName("Should throw ResourceNotFoundException when creating task with non-existent category")
     void createTask_CategoryNotFound_ThrowsException() {
         // Given
-        when(userRepository.findByEmail(testUser.getEmail())).thenReturn(Optional.of(testUser));
+        when(userRepository.findById(testUser.getId())).thenReturn(Optional.of(testUser));
         when(categoryRepository.findById(anyLong())).thenReturn(Optional.empty());
 
         // When & Then
-        assertThrows(ResourceNotFoundException.class, () -> taskService.createTask(taskRequest, testUser.getEmail()));
-        verify(userRepository, times(1)).findByEmail(testUser.getEmail());
+        assertThrows(ResourceNotFoundException.class, () -> taskService.createTask(taskRequest, testUser.getId()));
+        verify(userRepository, times(1)).findById(testUser.getId());
         verify(categoryRepository, times(1)).findById(testCategory.getId());
         verify(taskRepository, never()).save(any(Task.class));
     }
@@ -162,14 +171,14 @@ class TaskServiceTest {
     void createTask_PastDueDate_ThrowsException() {
         // Given
         taskRequest.setDueDate(LocalDateTime.now().minusDays(1)); // Set due date in the past
-        when(userRepository.findByEmail(testUser.getEmail())).thenReturn(Optional.of(testUser));
+        when(userRepository.findById(testUser.getId())).thenReturn(Optional.of(testUser));
         when(categoryRepository.findById(testCategory.getId())).thenReturn(Optional.of(testCategory));
 
         // When & Then
         BadRequestException exception = assertThrows(BadRequestException.class,
-                () -> taskService.createTask(taskRequest, testUser.getEmail()));
+                () -> taskService.createTask(taskRequest, testUser.getId()));
         assertThat(exception.getMessage()).contains("Due date cannot be in the past.");
-        verify(userRepository, times(1)).findByEmail(testUser.getEmail());
+        verify(userRepository, times(1)).findById(testUser.getId());
         verify(categoryRepository, times(1)).findById(testCategory.getId());
         verify(taskRepository, never()).save(any(Task.class));
     }
@@ -179,17 +188,16 @@ class TaskServiceTest {
     @DisplayName("Should retrieve all tasks for a specific user")
     void getAllTasksForUser_Success() {
         // Given
-        when(userRepository.findByEmail(testUser.getEmail())).thenReturn(Optional.of(testUser));
         when(taskRepository.findByOwnerId(testUser.getId())).thenReturn(List.of(testTask));
 
         // When
-        List<TaskResponse> responses = taskService.getAllTasksForUser(testUser.getEmail());
+        List<TaskResponse> responses = taskService.getAllTasksForUser(testUser.getId());
 
         // Then
         assertThat(responses).isNotNull();
         assertThat(responses).hasSize(1);
         assertThat(responses.get(0).getTitle()).isEqualTo(testTask.getTitle());
-        verify(userRepository, times(1)).findByEmail(testUser.getEmail());
+        verifyNoInteractions(userRepository);
         verify(taskRepository, times(1)).findByOwnerId(testUser.getId());
     }
 
@@ -197,17 +205,16 @@ class TaskServiceTest {
     @DisplayName("Should retrieve a task by ID for owner")
     void getTaskById_Owner_Success() {
         // Given
-        when(userRepository.findByEmail(testUser.getEmail())).thenReturn(Optional.of(testUser));
         when(taskRepository.findById(testTask.getId())).thenReturn(Optional.of(testTask));
 
         // When
-        TaskResponse response = taskService.getTaskById(testTask.getId(), testUser.getEmail(), userAuthorities);
+        TaskResponse response = taskService.getTaskById(testTask.getId(), testUser.getId(), userAuthorities);
 
         // Then
         assertThat(response).isNotNull();
         assertThat(response.getId()).isEqualTo(testTask.getId());
         assertThat(response.getTitle()).isEqualTo(testTask.getTitle());
-        verify(userRepository, times(1)).findByEmail(testUser.getEmail());
+        verifyNoInteractions(userRepository);
         verify(taskRepository, times(1)).findById(testTask.getId());
     }
 
@@ -215,17 +222,16 @@ class TaskServiceTest {
     @DisplayName("Should retrieve a task by ID for admin")
     void getTaskById_Admin_Success() {
         // Given
-        when(userRepository.findByEmail(adminUser.getEmail())).thenReturn(Optional.of(adminUser));
         when(taskRepository.findById(testTask.getId())).thenReturn(Optional.of(testTask));
 
         // When
-        TaskResponse response = taskService.getTaskById(testTask.getId(), adminUser.getEmail(), adminAuthorities);
+        TaskResponse response = taskService.getTaskById(testTask.getId(), adminUser.getId(), adminAuthorities);
 
         // Then
         assertThat(response).isNotNull();
         assertThat(response.getId()).isEqualTo(testTask.getId());
         assertThat(response.getTitle()).isEqualTo(testTask.getTitle());
-        verify(userRepository, times(1)).findByEmail(adminUser.getEmail());
+        verifyNoInteractions(userRepository);
         verify(taskRepository, times(1)).findById(testTask.getId());
     }
 
@@ -234,13 +240,30 @@ class TaskServiceTest {
     void getTaskById_Unauthorized_ThrowsException() {
         // Given
         User anotherUser = User.builder().id(99L).email("another@example.com").build();
-        when(userRepository.findByEmail(anotherUser.getEmail())).thenReturn(Optional.of(anotherUser));
         when(taskRepository.findById(testTask.getId())).thenReturn(Optional.of(testTask));
 
         // When & Then
         assertThrows(UnauthorizedException.class,
-                () -> taskService.getTaskById(testTask.getId(), anotherUser.getEmail(), userAuthorities));
-        verify(userRepository, times(1)).findByEmail(anotherUser.getEmail());
+                () -> taskService.getTaskById(testTask.getId(), anotherUser.getId(), userAuthorities));
+        verifyNoInteractions(userRepository);
+        verify(taskRepository, times(1)).findById(testTask.getId());
+    }
+
+    @Test
+    @DisplayName("Should serve a cached task from memory but still reject non-owners")
+    void getTaskById_CachedTask_StillChecksOwnership() {
+        // Given
+        User anotherUser = User.builder().id(99L).email("another@example.com").build();
+        when(taskRepository.findById(testTask.getId())).thenReturn(Optional.of(testTask));
+
+        // When
+        TaskResponse first = taskService.getTaskById(testTask.getId(), testUser.getId(), userAuthorities);
+        TaskResponse second = taskService.getTaskById(testTask.getId(), testUser.getId(), userAuthorities);
+
+        // Then
+        assertThat(second).isEqualTo(first).isNotSameAs(first); // A copy, so callers cannot change the cached task
+        assertThrows(UnauthorizedException.class,
+                () -> taskService.getTaskById(testTask.getId(), anotherUser.getId(), userAuthorities));
         verify(taskRepository, times(1)).findById(testTask.getId());
     }
 
@@ -248,13 +271,12 @@ class TaskServiceTest {
     @DisplayName("Should throw ResourceNotFoundException when getting non-existent task by ID")
     void getTaskById_NotFound_ThrowsException() {
         // Given
-        when(userRepository.findByEmail(testUser.getEmail())).thenReturn(Optional.of(testUser));
         when(taskRepository.findById(anyLong())).thenReturn(Optional.empty());
 
         // When & Then
         assertThrows(ResourceNotFoundException.class,
-                () -> taskService.getTaskById(999L, testUser.getEmail(), userAuthorities));
-        verify(userRepository, times(1)).findByEmail(testUser.getEmail());
+                () -> taskService.getTaskById(999L, testUser.getId(), userAuthorities));
+        verifyNoInteractions(userRepository);
         verify(taskRepository, times(1)).findById(999L);
     }
 
@@ -269,7 +291,6 @@ class TaskServiceTest {
                 .status(TaskStatus.COMPLETED)
                 .categoryId(testCategory.getId())
                 .build();
-        when(userRepository.findByEmail(testUser.getEmail())).thenReturn(Optional.of(testUser));
         when(taskRepository.findById(testTask.getId())).thenReturn(Optional.of(testTask));
         when(categoryRepository.findById(testCategory.getId())).thenReturn(Optional.of(testCategory));
         when(taskRepository.save(any(Task.class))).thenReturn(testTask.toBuilder()
@@ -280,14 +301,14 @@ class TaskServiceTest {
                 .build());
 
         // When
-        TaskResponse response = taskService.updateTask(testTask.getId(), updateRequest, testUser.getEmail(), userAuthorities);
+        TaskResponse response = taskService.updateTask(testTask.getId(), updateRequest, testUser.getId(), userAuthorities);
 
         // Then
         assertThat(response).isNotNull();
         assertThat(response.getTitle()).isEqualTo("Updated Title");
         assertThat(response.getDescription()).isEqualTo("Updated Description");
         assertThat(response.getStatus()).isEqualTo(TaskStatus.COMPLETED);
-        verify(userRepository, times(1)).findByEmail(testUser.getEmail());
+        verifyNoInteractions(userRepository);
         verify(taskRepository, times(1)).findById(testTask.getId());
         verify(categoryRepository, times(1)).findById(testCategory.getId());
         verify(taskRepository, times(1)).save(any(Task.class));
@@ -304,7 +325,6 @@ class TaskServiceTest {
                 .status(TaskStatus.IN_PROGRESS)
                 .categoryId(testCategory.getId())
                 .build();
-        when(userRepository.findByEmail(adminUser.getEmail())).thenReturn(Optional.of(adminUser));
         when(taskRepository.findById(testTask.getId())).thenReturn(Optional.of(testTask));
         when(categoryRepository.findById(testCategory.getId())).thenReturn(Optional.of(testCategory));
         when(taskRepository.save(any(Task.class))).thenReturn(testTask.toBuilder()
@@ -315,13 +335,13 @@ class TaskServiceTest {
                 .build());
 
         // When
-        TaskResponse response = taskService.updateTask(testTask.getId(), updateRequest, adminUser.getEmail(), adminAuthorities);
+        TaskResponse response = taskService.updateTask(testTask.getId(), updateRequest, adminUser.getId(), adminAuthorities);
 
         // Then
         assertThat(response).isNotNull();
         assertThat(response.getTitle()).isEqualTo("Admin Updated Title");
         assertThat(response.getStatus()).isEqualTo(TaskStatus.IN_PROGRESS);
-        verify(userRepository, times(1)).findByEmail(adminUser.getEmail());
+        verifyNoInteractions(userRepository);
         verify(taskRepository, times(1)).findById(testTask.getId());
         verify(categoryRepository, times(1)).findById(testCategory.getId());
         verify(taskRepository, times(1)).save(any(Task.class));
@@ -332,13 +352,12 @@ class TaskServiceTest {
     void updateTask_Unauthorized_ThrowsException() {
         // Given
         User anotherUser = User.builder().id(99L).email("another@example.com").build();
-        when(userRepository.findByEmail(anotherUser.getEmail())).thenReturn(Optional.of(anotherUser));
         when(taskRepository.findById(testTask.getId())).thenReturn(Optional.of(testTask));
 
         // When & Then
         assertThrows(UnauthorizedException.class,
-                () -> taskService.updateTask(testTask.getId(), taskRequest, anotherUser.getEmail(), userAuthorities));
-        verify(userRepository, times(1)).findByEmail(anotherUser.getEmail());
+                () -> taskService.updateTask(testTask.getId(), taskRequest, anotherUser.getId(), userAuthorities));
+        verifyNoInteractions(userRepository);
         verify(taskRepository, times(1)).findById(testTask.getId());
         verify(categoryRepository, never()).findById(anyLong());
         verify(taskRepository, never()).save(any(Task.class));
@@ -348,31 +367,93 @@ class TaskServiceTest {
     @DisplayName("Should throw ResourceNotFoundException when updating non-existent task")
     void updateTask_TaskNotFound_ThrowsException() {
         // Given
-        when(userRepository.findByEmail(testUser.getEmail())).thenReturn(Optional.of(testUser));
         when(taskRepository.findById(anyLong())).thenReturn(Optional.empty());
 
         // When & Then
         assertThrows(ResourceNotFoundException.class,
-                () -> taskService.updateTask(999L, taskRequest, testUser.getEmail(), userAuthorities));
-        verify(userRepository, times(1)).findByEmail(testUser.getEmail());
+                () -> taskService.updateTask(999L, taskRequest, testUser.getId(), userAuthorities));
+        verifyNoInteractions(userRepository);
         verify(taskRepository, times(1)).findById(999L);
         verify(categoryRepository, never()).findById(anyLong());
         verify(taskRepository, never()).save(any(Task.class));
     }
 
+    @Test
+    @DisplayName("Should set the status of the owner's tasks with one update")
+    void updateTaskStatuses_Owner_Success() {
+        // Given
+        TaskBulkStatusRequest request = new TaskBulkStatusRequest(List.of(100L, 101L, 100L), TaskStatus.COMPLETED);
+        when(taskRepository.findOwnersByIdIn(List.of(100L, 101L)))
+                .thenReturn(List.of(ownerView(100L, testUser.getId()), ownerView(101L, testUser.getId())));
+        when(taskRepository.updateStatusByIdIn(eq(List.of(100L, 101L)), eq(TaskStatus.COMPLETED), any(LocalDateTime.class)))
+                .thenReturn(2);
+
+        // When
+        taskService.updateTaskStatuses(request, testUser.getId(), userAuthorities);
+
+        // Then
+        verify(taskRepository, never()).findById(anyLong());
+        verify(taskRepository, times(1)).updateStatusByIdIn(eq(List.of(100L, 101L)), eq(TaskStatus.COMPLETED), any(LocalDateTime.class));
+        verify(taskCache, times(1)).tasksChanged(List.of(100L, 101L), Set.of(testUser.getId()));
+    }
+
+    @Test
+    @DisplayName("Should let an admin set the status of other users' tasks")
+    void updateTaskStatuses_Admin_Success() {
+        // Given
+        TaskBulkStatusRequest request = new TaskBulkStatusRequest(List.of(100L), TaskStatus.COMPLETED);
+        when(taskRepository.findOwnersByIdIn(List.of(100L))).thenReturn(List.of(ownerView(100L, testUser.getId())));
+        when(taskRepository.updateStatusByIdIn(eq(List.of(100L)), eq(TaskStatus.COMPLETED), any(LocalDateTime.class)))
+                .thenReturn(1);
+
+        // When
+        taskService.updateTaskStatuses(request, adminUser.getId(), adminAuthorities);
+
+        // Then
+        verify(taskCache, times(1)).tasksChanged(List.of(100L), Set.of(testUser.getId()));
+    }
+
+    @Test
+    @DisplayName("Should reject the whole batch when the user does not own one of the tasks")
+    void updateTaskStatuses_Unauthorized_ThrowsException() {
+        // Given
+        TaskBulkStatusRequest request = new TaskBulkStatusRequest(List.of(100L, 101L), TaskStatus.COMPLETED);
+        when(taskRepository.findOwnersByIdIn(List.of(100L, 101L)))
+                .thenReturn(List.of(ownerView(100L, testUser.getId()), ownerView(101L, 99L)));
+
+        // When & Then
+        assertThrows(UnauthorizedException.class,
+                () -> taskService.updateTaskStatuses(request, testUser.getId(), userAuthorities));
+        verify(taskRepository, never()).updateStatusByIdIn(any(), any(), any());
+        verify(taskCache, never()).tasksChanged(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should throw ResourceNotFoundException when one of the tasks does not exist")
+    void updateTaskStatuses_TaskNotFound_ThrowsException() {
+        // Given
+        TaskBulkStatusRequest request = new TaskBulkStatusRequest(List.of(100L, 999L), TaskStatus.COMPLETED);
+        when(taskRepository.findOwnersByIdIn(List.of(100L, 999L))).thenReturn(List.of(ownerView(100L, testUser.getId())));
+
+        // When & Then
+        ResourceNotFoundException thrown = assertThrows(ResourceNotFoundException.class,
+                () -> taskService.updateTaskStatuses(request, testUser.getId(), userAuthorities));
+        assertThat(thrown.getMessage()).isEqualTo("Task not found with ID: 999");
+        verify(taskRepository, never()).updateStatusByIdIn(any(), any(), any());
+    }
+
     @Test
     @DisplayName("Should successfully delete a task by owner")
     void deleteTask_Owner_Success() {
         // Given
-        when(userRepository.findByEmail(testUser.getEmail())).thenReturn(Optional.of(testUser));
         when(taskRepository.findById(testTask.getId())).thenReturn(Optional.of(testTask));
         doNothing().when(taskRepository).delete(any(Task.class));
 
         // When
-        taskService.deleteTask(testTask.getId(), testUser.getEmail(), userAuthorities);
+        taskService.deleteTask(testTask.getId(), testUser.getId(), userAuthorities);
 
         // Then
-        verify(userRepository, times(1)).findByEmail(testUser.getEmail());
+        verifyNoInteractions(userRepository);
         verify(taskRepository, times(1)).findById(testTask.getId());
         verify(taskRepository, times(1)).delete(any(Task.class));
     }
@@ -381,15 +462,14 @@ class TaskServiceTest {
     @DisplayName("Should successfully delete a task by admin")
     void deleteTask_Admin_Success() {
         // Given
-        when(userRepository.findByEmail(adminUser.getEmail())).thenReturn(Optional.of(adminUser));
         when(taskRepository.findById(testTask.getId())).thenReturn(Optional.of(testTask));
         doNothing().when(taskRepository).delete(any(Task.class));
 
         // When
-        taskService.deleteTask(testTask.getId(), adminUser.getEmail(), adminAuthorities);
+        taskService.deleteTask(testTask.getId(), adminUser.getId(), adminAuthorities);
 
         // Then
-        verify(userRepository, times(1)).findByEmail(adminUser.getEmail());
+        verifyNoInteractions(userRepository);
         verify(taskRepository, times(1)).findById(testTask.getId());
         verify(taskRepository, times(1)).delete(any(Task.class));
     }
@@ -399,13 +479,12 @@ class TaskServiceTest {
     void deleteTask_Unauthorized_ThrowsException() {
         // Given
         User anotherUser = User.builder().id(99L).email("another@example.com").build();
-        when(userRepository.findByEmail(anotherUser.getEmail())).thenReturn(Optional.of(anotherUser));
         when(taskRepository.findById(testTask.getId())).thenReturn(Optional.of(testTask));
 
         // When & Then
         assertThrows(UnauthorizedException.class,
-                () -> taskService.deleteTask(testTask.getId(), anotherUser.getEmail(), userAuthorities));
-        verify(userRepository, times(1)).findByEmail(anotherUser.getEmail());
+                () -> taskService.deleteTask(testTask.getId(), anotherUser.getId(), userAuthorities));
+        verifyNoInteractions(userRepository);
         verify(taskRepository, times(1)).findById(testTask.getId());
         verify(taskRepository, never()).delete(any(Task.class));
     }
@@ -414,15 +493,84 @@ class TaskServiceTest {
     @DisplayName("Should throw ResourceNotFoundException when deleting non-existent task")
     void deleteTask_TaskNotFound_ThrowsException() {
         // Given
-        when(userRepository.findByEmail(testUser.getEmail())).thenReturn(Optional.of(testUser));
         when(taskRepository.findById(anyLong())).thenReturn(Optional.empty());
 
         // When & Then
         assertThrows(ResourceNotFoundException.class,
-                () -> taskService.deleteTask(999L, testUser.getEmail(), userAuthorities));
-        verify(userRepository, times(1)).findByEmail(testUser.getEmail());
+                () -> taskService.deleteTask(999L, testUser.getId(), userAuthorities));
+        verifyNoInteractions(userRepository);
         verify(taskRepository, times(1)).findById(999L);
         verify(taskRepository, never()).delete(any(Task.class));
     }
+
+    @Test
+    @DisplayName("Should page through a category's tasks with a cursor that resumes after the last row")
+    void queryTasks_ByCategory_ResumesFromCursor() {
+        // Given
+        LocalDateTime due = LocalDateTime.of(2024, 3, 1, 12, 0);
+        TaskSummaryResponse first = new TaskSummaryResponse(1L, "First", TaskStatus.PENDING, due, testCategory.getId(), "Work");
+        TaskSummaryResponse second = new TaskSummaryResponse(2L, "Second", TaskStatus.PENDING, due, testCategory.getId(), "Work");
+        TaskQueryRequest query = TaskQueryRequest.builder().categoryId(testCategory.getId()).size(1).build();
+        when(taskRepository.findPageByOwnerIdAndCategoryId(eq(1L), eq(10L), isNull(), any(), any(), eq(0L), eq(PageRequest.of(0, 2))))
+                .thenReturn(List.of(first, second));
+
+        // When
+        TaskPageResponse page = taskService.queryTasks(query, testUser.getId());
+
+        // Then
+        assertThat(page.getItems()).containsExactly(first);
+        assertThat(page.getNextCursor()).isNotNull();
+
+        // Given the cursor of the first page
+        query.setCursor(page.getNextCursor());
+        when(taskRepository.findPageByOwnerIdAndCategoryId(eq(1L), eq(10L), isNull(), eq(due), any(), eq(1L), eq(PageRequest.of(0, 2))))
+                .thenReturn(List.of(second));
+
+        // When
+        TaskPageResponse lastPage = taskService.queryTasks(query, testUser.getId());
+
+        // Then
+        assertThat(lastPage.getItems()).containsExactly(second);
+        assertThat(lastPage.getNextCursor()).isNull();
+        verify(taskRepository, never()).findPageByOwnerId(any(), any(), any(), any(), any(), any());
+        verify(taskRepository, never()).findByOwnerId(anyLong());
+    }
+
+    @Test
+    @DisplayName("Should pass the due date range and status to the owner query and reject a malformed cursor")
+    void queryTasks_RangeAndInvalidCursor() {
+        // Given
+        LocalDateTime from = LocalDateTime.of(2024, 1, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2024, 2, 1, 0, 0);
+        TaskQueryRequest query = TaskQueryRequest.builder().status(TaskStatus.COMPLETED).dueFrom(from).dueTo(to).build();
+        when(taskRepository.findPageByOwnerId(1L, TaskStatus.COMPLETED, from, to, 0L, PageRequest.of(0, 51)))
+                .thenReturn(List.of());
+
+        // When
+        TaskPageResponse page = taskService.queryTasks(query, testUser.getId());
+
+        // Then
+        assertThat(page.getItems()).isEmpty();
+        assertThat(page.getNextCursor()).isNull();
+
+        // When & Then
+        query.setCursor("not a cursor");
+        assertThrows(BadRequestException.class, () -> taskService.queryTasks(query, testUser.getId()));
+        verify(taskRepository, times(1)).findPageByOwnerId(any(), any(), any(), any(), any(), any());
+    }
+
+    private static TaskRepository.TaskOwnerView ownerView(Long id, Long ownerId) {
+        return new TaskRepository.TaskOwnerView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Long getOwnerId() {
+                return ownerId;
+            }
+        };
+    }
 }
-```
\ No newline at end of file
+```
@@ -1,6 +1,7 @@
 package com.alx.taskmgr.config;
 
 import com.alx.taskmgr.service.UserService;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -54,6 +55,9 @@ public class SecurityConfig {
                 .authorizeHttpRequests(authorize -> authorize
                         // Allow unauthenticated access to auth endpoints and Swagger UI
                         .requestMatchers("/api/auth/**", "/swagger-ui/**", "/v3/api-docs/**", "/actuator/**").permitAll()
+                        // Completing a server-sent event stream re-dispatches the request, which the JWT filter skips;
+                        // the stream was authorized when it was opened
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         // All other requests require authentication
                         .anyRequest().authenticated()
                 )
@@ -0,0 +1,48 @@
+package com.alx.taskmgr.controller;
+
+import com.alx.taskmgr.dto.activity.ActivityPageResponse;
+import com.alx.taskmgr.dto.activity.ActivityQueryRequest;
+import com.alx.taskmgr.service.ActivityService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * REST Controller for a project's activity log.
+ */
+@RestController
+@RequestMapping("/api/projects/{projectId}/activity")
+@RequiredArgsConstructor
+public class ActivityController {
+
+    private final ActivityService activityService;
+
+    /**
+     * Retrieves one page of a project's activity, newest first.
+     * @param projectId The ID of the project.
+     * @param query Page size and cursor, from request parameters.
+     * @return ResponseEntity with the page and the cursor of the next one.
+     */
+    @GetMapping
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    public ResponseEntity<ActivityPageResponse> getProjectActivity(@PathVariable Long projectId,
+                                                                   @Valid ActivityQueryRequest query) {
+        ActivityPageResponse page = activityService.getProjectActivity(projectId, query);
+        return ResponseEntity.ok(page);
+    }
+
+    /**
+     * Streams a project's activity as server-sent events named "activity", with the event ID as SSE id.
+     * @param projectId The ID of the project.
+     * @return The event stream.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    public SseEmitter streamProjectActivity(@PathVariable Long projectId) {
+        return activityService.streamProjectActivity(projectId);
+    }
+}
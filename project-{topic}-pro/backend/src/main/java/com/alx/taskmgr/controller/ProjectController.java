@@ -2,6 +2,7 @@ package com.alx.taskmgr.controller;
 
 import com.alx.taskmgr.dto.project.ProjectCreateRequest;
 import com.alx.taskmgr.dto.project.ProjectResponse;
+import com.alx.taskmgr.dto.project.ProjectStatisticsResponse;
 import com.alx.taskmgr.service.ProjectService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -57,6 +58,18 @@ public class ProjectController {
         return ResponseEntity.ok(projects);
     }
 
+    /**
+     * Retrieves the task statistics of a project for its dashboard.
+     * @param id The ID of the project.
+     * @return ResponseEntity with ProjectStatisticsResponse DTO.
+     */
+    @GetMapping("/{id}/statistics")
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    public ResponseEntity<ProjectStatisticsResponse> getProjectStatistics(@PathVariable Long id) {
+        ProjectStatisticsResponse statistics = projectService.getProjectStatistics(id);
+        return ResponseEntity.ok(statistics);
+    }
+
     /**
      * Updates an existing project.
      * @param id The ID of the project to update.
@@ -1,6 +1,12 @@
 package com.alx.taskmgr.controller;
 
+import com.alx.taskmgr.dto.task.TaskBulkAssignRequest;
+import com.alx.taskmgr.dto.task.TaskBulkCreateRequest;
+import com.alx.taskmgr.dto.task.TaskBulkDeleteRequest;
+import com.alx.taskmgr.dto.task.TaskBulkStatusRequest;
 import com.alx.taskmgr.dto.task.TaskCreateRequest;
+import com.alx.taskmgr.dto.task.TaskPageResponse;
+import com.alx.taskmgr.dto.task.TaskQueryRequest;
 import com.alx.taskmgr.dto.task.TaskResponse;
 import com.alx.taskmgr.dto.task.TaskUpdateRequest;
 import com.alx.taskmgr.service.TaskService;
@@ -70,6 +76,19 @@ public class TaskController {
         return ResponseEntity.ok(tasks);
     }
 
+    /**
+     * Queries one page of tasks of a project, or of the tasks assigned to the current user when no projectId
+     * is given, filtered by status and due-date range and ordered by due date.
+     * @param query Filters, page size (1-200, default 50) and the cursor returned with the previous page.
+     * @return ResponseEntity with the page and the cursor of the next page.
+     */
+    @GetMapping("/query")
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    public ResponseEntity<TaskPageResponse> queryTasks(@Valid TaskQueryRequest query) {
+        TaskPageResponse page = taskService.queryTasks(query);
+        return ResponseEntity.ok(page);
+    }
+
     /**
      * Updates an existing task.
      * @param id The ID of the task to update.
@@ -94,4 +113,52 @@ public class TaskController {
         taskService.deleteTask(id);
         return ResponseEntity.noContent().build();
     }
-}
\ No newline at end of file
+
+    /**
+     * Creates many tasks at once.
+     * @param request TaskBulkCreateRequest DTO with up to 1000 tasks.
+     * @return ResponseEntity with the created tasks' details, in request order.
+     */
+    @PostMapping("/bulk")
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    public ResponseEntity<List<TaskResponse>> createTasks(@Valid @RequestBody TaskBulkCreateRequest request) {
+        List<TaskResponse> newTasks = taskService.createTasks(request);
+        return new ResponseEntity<>(newTasks, HttpStatus.CREATED);
+    }
+
+    /**
+     * Sets the status of many tasks at once.
+     * @param request TaskBulkStatusRequest DTO with the task IDs and the new status.
+     * @return ResponseEntity indicating success.
+     */
+    @PutMapping("/bulk/status")
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    public ResponseEntity<Void> updateTaskStatuses(@Valid @RequestBody TaskBulkStatusRequest request) {
+        taskService.updateTaskStatuses(request);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Reassigns or unassigns many tasks at once.
+     * @param request TaskBulkAssignRequest DTO with the task IDs and the new assignee's ID.
+     * @return ResponseEntity indicating success.
+     */
+    @PutMapping("/bulk/assignee")
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    public ResponseEntity<Void> reassignTasks(@Valid @RequestBody TaskBulkAssignRequest request) {
+        taskService.reassignTasks(request);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Deletes many tasks at once. Uses POST because request bodies on DELETE are not reliably supported.
+     * @param request TaskBulkDeleteRequest DTO with the IDs of the tasks to delete.
+     * @return ResponseEntity indicating success.
+     */
+    @PostMapping("/bulk/delete")
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    public ResponseEntity<Void> deleteTasks(@Valid @RequestBody TaskBulkDeleteRequest request) {
+        taskService.deleteTasks(request);
+        return ResponseEntity.noContent().build();
+    }
+}
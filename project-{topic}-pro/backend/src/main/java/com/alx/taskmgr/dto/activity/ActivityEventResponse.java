@@ -0,0 +1,23 @@
+package com.alx.taskmgr.dto.activity;
+
+import com.alx.taskmgr.entity.enums.ActivityType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+
+/**
+ * DTO for one entry of a project's activity log.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ActivityEventResponse {
+    private Long id;
+    private Long projectId;
+    private Long taskId;
+    private Long actorId;
+    private ActivityType type;
+    private String summary;
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,18 @@
+package com.alx.taskmgr.dto.activity;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.List;
+
+/**
+ * DTO for one page of a project's activity log, newest first.
+ * nextCursor is null on the last page; otherwise it is passed back as the cursor of the next request.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ActivityPageResponse {
+    private List<ActivityEventResponse> items;
+    private Long nextCursor;
+}
@@ -0,0 +1,18 @@
+package com.alx.taskmgr.dto.activity;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+
+/**
+ * DTO for the position of an activity log query, bound from request parameters.
+ * Without a cursor the page starts at the newest event.
+ */
+@Data
+public class ActivityQueryRequest {
+    private Long cursor;
+
+    @Min(value = 1, message = "Page size must be at least 1")
+    @Max(value = 200, message = "Page size cannot exceed 200")
+    private int size = 50;
+}
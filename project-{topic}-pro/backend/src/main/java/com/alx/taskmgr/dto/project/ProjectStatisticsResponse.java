@@ -0,0 +1,19 @@
+package com.alx.taskmgr.dto.project;
+
+import com.alx.taskmgr.entity.enums.TaskStatus;
+import lombok.Data;
+import java.util.Map;
+
+/**
+ * DTO for the task statistics of a project dashboard.
+ * Overdue tasks are open (neither completed nor cancelled) tasks whose due date has passed.
+ */
+@Data
+public class ProjectStatisticsResponse {
+    private Long projectId;
+    private long totalTasks;
+    private Map<TaskStatus, Long> tasksByStatus;
+    private Map<Long, Map<TaskStatus, Long>> tasksByAssignee; // Keyed by assignee ID
+    private long unassignedTasks;
+    private long overdueTasks;
+}
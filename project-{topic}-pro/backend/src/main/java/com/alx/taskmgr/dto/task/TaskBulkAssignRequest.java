@@ -0,0 +1,18 @@
+package com.alx.taskmgr.dto.task;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+import java.util.List;
+
+/**
+ * DTO for reassigning many tasks in one request. A null assignedToId unassigns them.
+ */
+@Data
+public class TaskBulkAssignRequest {
+    @NotEmpty(message = "At least one task ID is required")
+    @Size(max = 1000, message = "Cannot reassign more than 1000 tasks at once")
+    private List<Long> taskIds;
+
+    private Long assignedToId;
+}
@@ -0,0 +1,17 @@
+package com.alx.taskmgr.dto.task;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+import java.util.List;
+
+/**
+ * DTO for creating many tasks in one request.
+ */
+@Data
+public class TaskBulkCreateRequest {
+    @NotEmpty(message = "At least one task is required")
+    @Size(max = 1000, message = "Cannot create more than 1000 tasks at once")
+    private List<@Valid TaskCreateRequest> tasks;
+}
@@ -0,0 +1,16 @@
+package com.alx.taskmgr.dto.task;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+import java.util.List;
+
+/**
+ * DTO for deleting many tasks in one request.
+ */
+@Data
+public class TaskBulkDeleteRequest {
+    @NotEmpty(message = "At least one task ID is required")
+    @Size(max = 1000, message = "Cannot delete more than 1000 tasks at once")
+    private List<Long> taskIds;
+}
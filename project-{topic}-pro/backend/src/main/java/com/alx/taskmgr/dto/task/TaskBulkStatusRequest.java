@@ -0,0 +1,21 @@
+package com.alx.taskmgr.dto.task;
+
+import com.alx.taskmgr.entity.enums.TaskStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+import java.util.List;
+
+/**
+ * DTO for setting the status of many tasks in one request.
+ */
+@Data
+public class TaskBulkStatusRequest {
+    @NotEmpty(message = "At least one task ID is required")
+    @Size(max = 1000, message = "Cannot update more than 1000 tasks at once")
+    private List<Long> taskIds;
+
+    @NotNull(message = "Status is required")
+    private TaskStatus status;
+}
@@ -0,0 +1,18 @@
+package com.alx.taskmgr.dto.task;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.List;
+
+/**
+ * DTO for one page of a task query.
+ * nextCursor is null on the last page; otherwise it is passed back as the cursor of the next request.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskPageResponse {
+    private List<TaskSummaryResponse> items;
+    private String nextCursor;
+}
@@ -0,0 +1,30 @@
+package com.alx.taskmgr.dto.task;
+
+import com.alx.taskmgr.entity.enums.TaskStatus;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.format.annotation.DateTimeFormat;
+import java.time.LocalDateTime;
+
+/**
+ * DTO for the filters and position of a task query, bound from request parameters.
+ * Without a projectId the query covers the tasks assigned to the current user.
+ */
+@Data
+public class TaskQueryRequest {
+    private Long projectId;
+    private TaskStatus status;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime dueFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime dueTo;
+
+    private String cursor;
+
+    @Min(value = 1, message = "Page size must be at least 1")
+    @Max(value = 200, message = "Page size cannot exceed 200")
+    private int size = 50;
+}
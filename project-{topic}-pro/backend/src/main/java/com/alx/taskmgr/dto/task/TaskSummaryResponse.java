@@ -0,0 +1,24 @@
+package com.alx.taskmgr.dto.task;
+
+import com.alx.taskmgr.entity.enums.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+
+/**
+ * DTO for one row of a task query page.
+ * Built directly by the query's constructor expression, so no task, project or user entity is loaded.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskSummaryResponse {
+    private Long id;
+    private String title;
+    private TaskStatus status;
+    private Long projectId;
+    private Long assignedToId;
+    private String assignedToUsername;
+    private LocalDateTime dueDate;
+}
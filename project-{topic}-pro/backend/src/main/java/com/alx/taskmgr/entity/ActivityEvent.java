@@ -0,0 +1,43 @@
+package com.alx.taskmgr.entity;
+
+import com.alx.taskmgr.entity.enums.ActivityType;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Represents one entry of a project's activity log.
+ * Entries are only ever inserted; they reference projects, tasks and users by ID so they outlive them.
+ */
+@Entity
+@Table(name = "activity_events")
+@Getter
+@Setter
+public class ActivityEvent {
+    // Pooled sequence IDs let Hibernate batch the inserts of a flush; V7 sets the sequence to step by 50
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "activity_events_id_seq")
+    @SequenceGenerator(name = "activity_events_id_seq", sequenceName = "activity_events_id_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "project_id", nullable = false, updatable = false)
+    private Long projectId;
+
+    @Column(name = "task_id", updatable = false)
+    private Long taskId;
+
+    @Column(name = "actor_id", updatable = false)
+    private Long actorId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, updatable = false)
+    private ActivityType type;
+
+    @Column(length = 500, updatable = false)
+    private String summary;
+
+    @Column(name = "occurred_at", nullable = false, updatable = false)
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,17 @@
+package com.alx.taskmgr.entity.enums;
+
+/**
+ * Enum for defining the kind of change recorded in the activity log.
+ */
+public enum ActivityType {
+    PROJECT_CREATED,
+    PROJECT_UPDATED,
+    PROJECT_DELETED,
+    COLLABORATOR_ADDED,
+    COLLABORATOR_REMOVED,
+    TASK_CREATED,
+    TASK_UPDATED,
+    TASK_STATUS_CHANGED,
+    TASK_REASSIGNED,
+    TASK_DELETED
+}
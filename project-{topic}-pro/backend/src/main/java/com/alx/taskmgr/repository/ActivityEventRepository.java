@@ -0,0 +1,28 @@
+package com.alx.taskmgr.repository;
+
+import com.alx.taskmgr.dto.activity.ActivityEventResponse;
+import com.alx.taskmgr.entity.ActivityEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository for ActivityEvent entity.
+ */
+@Repository
+public interface ActivityEventRepository extends JpaRepository<ActivityEvent, Long> {
+
+    // Keyset page of one project's events, newest first; a range scan on the (project_id, id) key of its partition.
+    // A null beforeId starts at the newest event.
+    @Query("SELECT new com.alx.taskmgr.dto.activity.ActivityEventResponse("
+            + "e.id, e.projectId, e.taskId, e.actorId, e.type, e.summary, e.occurredAt) "
+            + "FROM ActivityEvent e WHERE e.projectId = :projectId AND (:beforeId IS NULL OR e.id < :beforeId) "
+            + "ORDER BY e.id DESC")
+    List<ActivityEventResponse> findPageByProjectId(@Param("projectId") Long projectId,
+                                                    @Param("beforeId") Long beforeId,
+                                                    Pageable pageable);
+}
@@ -2,9 +2,12 @@ package com.alx.taskmgr.repository;
 
 import com.alx.taskmgr.entity.Project;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repository for Project entity.
@@ -14,4 +17,11 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
     List<Project> findByOwnerId(Long ownerId);
     List<Project> findByCollaborators_Id(Long userId);
     List<Project> findByOwnerIdOrCollaborators_Id(Long ownerId, Long collaboratorId);
+
+    // ID-only lookups for ProjectAccessIndex; neither loads a project or user entity
+    @Query("SELECT p.owner.id FROM Project p WHERE p.id = :projectId")
+    Optional<Long> findOwnerIdById(@Param("projectId") Long projectId);
+
+    @Query("SELECT c.id FROM Project p JOIN p.collaborators c WHERE p.id = :projectId")
+    List<Long> findCollaboratorIdsById(@Param("projectId") Long projectId);
 }
\ No newline at end of file
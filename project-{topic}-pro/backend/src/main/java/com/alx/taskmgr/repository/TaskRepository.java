@@ -1,10 +1,19 @@
 package com.alx.taskmgr.repository;
 
+import com.alx.taskmgr.dto.task.TaskSummaryResponse;
 import com.alx.taskmgr.entity.Task;
+import com.alx.taskmgr.entity.User;
 import com.alx.taskmgr.entity.enums.TaskStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -15,4 +24,152 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     List<Task> findByProjectId(Long projectId);
     List<Task> findByAssignedToId(Long assignedToId);
     List<Task> findByProjectIdAndStatus(Long projectId, TaskStatus status);
-}
\ No newline at end of file
+
+    // Keyset pages ordered by (dueDate, id), undated tasks last, read in two parts from the (scope, due_date, id)
+    // indexes of V3: dated tasks after a start position, then undated tasks by ID. Both keyset conditions are plain
+    // ranges on the index columns, so the scan starts at the cursor. Rows are built as DTOs, so no entity is hydrated.
+    String PAGE_SELECT = "SELECT new com.alx.taskmgr.dto.task.TaskSummaryResponse("
+            + "t.id, t.title, t.status, t.project.id, a.id, a.username, t.dueDate) "
+            + "FROM Task t LEFT JOIN t.assignedTo a ";
+    String DATED_PAGE = "AND t.dueDate >= :startDueDate AND t.dueDate < :endDueDate "
+            + "AND (t.dueDate > :startDueDate OR t.id > :afterId) "
+            + "AND (:status IS NULL OR t.status = :status) "
+            + "ORDER BY t.dueDate ASC, t.id ASC";
+    String UNDATED_PAGE = "AND t.dueDate IS NULL AND t.id > :afterId "
+            + "AND (:status IS NULL OR t.status = :status) "
+            + "ORDER BY t.id ASC";
+
+    @Query(PAGE_SELECT + "WHERE t.project.id = :projectId " + DATED_PAGE)
+    List<TaskSummaryResponse> findDatedPageByProjectId(@Param("projectId") Long projectId,
+                                                       @Param("status") TaskStatus status,
+                                                       @Param("startDueDate") LocalDateTime startDueDate,
+                                                       @Param("endDueDate") LocalDateTime endDueDate,
+                                                       @Param("afterId") Long afterId,
+                                                       Pageable pageable);
+
+    @Query(PAGE_SELECT + "WHERE t.project.id = :projectId " + UNDATED_PAGE)
+    List<TaskSummaryResponse> findUndatedPageByProjectId(@Param("projectId") Long projectId,
+                                                         @Param("status") TaskStatus status,
+                                                         @Param("afterId") Long afterId,
+                                                         Pageable pageable);
+
+    @Query(PAGE_SELECT + "WHERE t.assignedTo.id = :assignedToId " + DATED_PAGE)
+    List<TaskSummaryResponse> findDatedPageByAssignedToId(@Param("assignedToId") Long assignedToId,
+                                                          @Param("status") TaskStatus status,
+                                                          @Param("startDueDate") LocalDateTime startDueDate,
+                                                          @Param("endDueDate") LocalDateTime endDueDate,
+                                                          @Param("afterId") Long afterId,
+                                                          Pageable pageable);
+
+    @Query(PAGE_SELECT + "WHERE t.assignedTo.id = :assignedToId " + UNDATED_PAGE)
+    List<TaskSummaryResponse> findUndatedPageByAssignedToId(@Param("assignedToId") Long assignedToId,
+                                                            @Param("status") TaskStatus status,
+                                                            @Param("afterId") Long afterId,
+                                                            Pageable pageable);
+
+    // Bulk operations: lock the rows, one ID-only read to authorize the batch, then one set-based statement for
+    // all tasks. The statements bypass auditing, so callers pass updatedAt.
+
+    // Held until commit, so the state read next is still current when the statement applies; ordered by ID so
+    // that overlapping batches lock in the same order instead of deadlocking
+    @Query(value = "SELECT id FROM tasks WHERE id IN (:ids) ORDER BY id FOR UPDATE", nativeQuery = true)
+    List<Long> lockByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT t.id AS id, t.project.id AS projectId, a.id AS assignedToId, t.status AS status, t.dueDate AS dueDate "
+            + "FROM Task t LEFT JOIN t.assignedTo a WHERE t.id IN :ids")
+    List<TaskRefView> findRefsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("UPDATE Task t SET t.status = :status, t.updatedAt = :updatedAt WHERE t.id IN :ids")
+    int updateStatusByIdIn(@Param("ids") Collection<Long> ids,
+                           @Param("status") TaskStatus status,
+                           @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Modifying
+    @Query("UPDATE Task t SET t.assignedTo = :assignedTo, t.updatedAt = :updatedAt WHERE t.id IN :ids")
+    int updateAssignedToByIdIn(@Param("ids") Collection<Long> ids,
+                               @Param("assignedTo") User assignedTo,
+                               @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Modifying
+    @Query("DELETE FROM Task t WHERE t.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * ID-only view of a task: its project and assignee, enough to authorize and invalidate caches,
+     * plus the status and due date that ProjectStatistics counts.
+     */
+    interface TaskRefView {
+        Long getId();
+        Long getProjectId();
+        Long getAssignedToId();
+        TaskStatus getStatus();
+        LocalDateTime getDueDate();
+    }
+
+    // Due dates for DueDateReminderScheduler: a range scan on idx_tasks_due_date, and a reload by ID
+    @Query("SELECT t.id AS id, t.dueDate AS dueDate, t.status AS status FROM Task t "
+            + "WHERE t.dueDate >= :from AND t.dueDate < :to AND t.status NOT IN :closed")
+    List<TaskDueView> findDueBetween(@Param("from") LocalDateTime from,
+                                     @Param("to") LocalDateTime to,
+                                     @Param("closed") Collection<TaskStatus> closed);
+
+    @Query("SELECT t.id AS id, t.dueDate AS dueDate, t.status AS status FROM Task t WHERE t.id IN :ids")
+    List<TaskDueView> findDueByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Reminder claims (V8): marks the open tasks due by :dueBy whose reminder was not yet sent for their current due
+    // date, and returns them. Concurrent claims of a task wait on its row lock and then no longer match, so each
+    // reminder is claimed once across instances. An UPDATE ... RETURNING, hence run as a query and not @Modifying.
+    @Transactional
+    @Query(value = "UPDATE tasks SET due_soon_reminded_for = due_date WHERE id IN (:ids) AND status NOT IN (:closed) "
+            + "AND due_date <= :dueBy AND due_soon_reminded_for IS DISTINCT FROM due_date "
+            + "RETURNING id, due_date AS dueDate, status", nativeQuery = true)
+    List<TaskDueView> claimDueSoonReminders(@Param("ids") Collection<Long> ids,
+                                            @Param("dueBy") LocalDateTime dueBy,
+                                            @Param("closed") Collection<String> closed);
+
+    @Transactional
+    @Query(value = "UPDATE tasks SET overdue_reminded_for = due_date WHERE id IN (:ids) AND status NOT IN (:closed) "
+            + "AND due_date <= :dueBy AND overdue_reminded_for IS DISTINCT FROM due_date "
+            + "RETURNING id, due_date AS dueDate, status", nativeQuery = true)
+    List<TaskDueView> claimOverdueReminders(@Param("ids") Collection<Long> ids,
+                                            @Param("dueBy") LocalDateTime dueBy,
+                                            @Param("closed") Collection<String> closed);
+
+    /**
+     * ID-only view of a task's due date and status.
+     */
+    interface TaskDueView {
+        Long getId();
+        LocalDateTime getDueDate();
+        TaskStatus getStatus();
+    }
+
+    // Reconciliation of ProjectStatistics: counts of one project, served by idx_tasks_project_status_assignee (V6)
+    // and by idx_tasks_project_due_date_id (V3)
+    @Query("SELECT t.status AS status, a.id AS assignedToId, COUNT(t) AS count FROM Task t LEFT JOIN t.assignedTo a "
+            + "WHERE t.project.id = :projectId GROUP BY t.status, a.id")
+    List<TaskCountView> countByProjectIdGroupByStatusAndAssignee(@Param("projectId") Long projectId);
+
+    @Query("SELECT t.dueDate AS dueDate, COUNT(t) AS count FROM Task t "
+            + "WHERE t.project.id = :projectId AND t.dueDate IS NOT NULL AND t.status NOT IN :closed GROUP BY t.dueDate")
+    List<DueDateCountView> countOpenByProjectIdGroupByDueDate(@Param("projectId") Long projectId,
+                                                              @Param("closed") Collection<TaskStatus> closed);
+
+    /**
+     * Number of a project's tasks with one status and assignee; the assignee is null for unassigned tasks.
+     */
+    interface TaskCountView {
+        TaskStatus getStatus();
+        Long getAssignedToId();
+        Long getCount();
+    }
+
+    /**
+     * Number of a project's open tasks due at one time.
+     */
+    interface DueDateCountView {
+        LocalDateTime getDueDate();
+        Long getCount();
+    }
+}
@@ -0,0 +1,287 @@
+package com.alx.taskmgr.service;
+
+import com.alx.taskmgr.dto.activity.ActivityEventResponse;
+import com.alx.taskmgr.entity.ActivityEvent;
+import com.alx.taskmgr.entity.enums.ActivityType;
+import com.alx.taskmgr.repository.ActivityEventRepository;
+import com.alx.taskmgr.util.TransactionCallbacks;
+import com.alx.taskmgr.util.UserContext;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Append-only activity log of project and task changes.
+ * Services record events once their transaction commits; recording only enqueues the event in memory, so it
+ * adds no statement to the write. A single writer thread drains the queue and inserts whatever accumulated in
+ * one transaction, as JDBC batches, then hands the saved events to the live tail, which pushes them to the
+ * server-sent event streams of their project on a separate thread so a slow client cannot hold up writing.
+ * The queue is bounded: when the database falls that far behind, new events are dropped and counted rather
+ * than slowing down requests. Events still queued when the application stops are flushed first, but those of
+ * a crashed instance are lost.
+ */
+@Component
+public class ActivityLog {
+
+    private static final Logger logger = LoggerFactory.getLogger(ActivityLog.class);
+    private static final Duration RETRY_DELAY = Duration.ofSeconds(5);
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final ActivityEventRepository activityEventRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<ActivityEvent> queue;
+    private final int batchSize;
+    private final Duration tailTimeout;
+    private final Clock clock;
+    private final ExecutorService writer;
+    private final ExecutorService tail;
+    private final Map<Long, Set<SseEmitter>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicLong dropped = new AtomicLong();
+
+    @Autowired
+    public ActivityLog(ActivityEventRepository activityEventRepository,
+                       PlatformTransactionManager transactionManager,
+                       @Value("${activity-log.queue-capacity:10000}") int queueCapacity,
+                       @Value("${activity-log.batch-size:500}") int batchSize,
+                       @Value("${activity-log.tail-timeout:30m}") Duration tailTimeout) {
+        this(activityEventRepository, new TransactionTemplate(transactionManager), queueCapacity, batchSize, tailTimeout,
+                Clock.systemDefaultZone(), daemonThread("activity-log-writer"), daemonThread("activity-log-tail"));
+    }
+
+    ActivityLog(ActivityEventRepository activityEventRepository, TransactionTemplate transactionTemplate,
+                int queueCapacity, int batchSize, Duration tailTimeout, Clock clock,
+                ExecutorService writer, ExecutorService tail) {
+        this.activityEventRepository = activityEventRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.tailTimeout = tailTimeout;
+        this.clock = clock;
+        this.writer = writer;
+        this.tail = tail;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        writer.execute(this::writeLoop);
+    }
+
+    /**
+     * Stops the writer, flushing what is still queued, and closes the live tail streams.
+     */
+    @PreDestroy
+    public void stop() {
+        writer.shutdownNow();
+        try {
+            writer.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush(); // Anything the writer had not taken yet
+        tail.shutdown();
+        subscribers.values().forEach(emitters -> emitters.forEach(SseEmitter::complete));
+        subscribers.clear();
+    }
+
+    /**
+     * Records an event by the current user once the surrounding transaction commits; a rolled-back change
+     * leaves no trace.
+     * @param projectId The ID of the project the event belongs to.
+     * @param taskId The ID of the task concerned, or null for project events.
+     * @param type The kind of change.
+     * @param summary A short description of the change.
+     */
+    public void record(Long projectId, Long taskId, ActivityType type, String summary) {
+        ActivityEvent event = new ActivityEvent();
+        event.setProjectId(projectId);
+        event.setTaskId(taskId);
+        event.setActorId(UserContext.getCurrentUserId());
+        event.setType(type);
+        event.setSummary(summary != null && summary.length() > 500 ? summary.substring(0, 500) : summary);
+        event.setOccurredAt(LocalDateTime.now(clock));
+        TransactionCallbacks.afterCommit(() -> {
+            if (type == ActivityType.COLLABORATOR_REMOVED || type == ActivityType.PROJECT_DELETED) {
+                closeStreams(projectId);
+            }
+            if (!queue.offer(event)) {
+                long total = dropped.incrementAndGet();
+                if (total == 1 || total % 1000 == 0) { // Once per 1000 so a backlog does not flood the log
+                    logger.warn("Activity log queue is full, {} events dropped so far", total);
+                }
+            }
+        });
+    }
+
+    /**
+     * Opens a live stream of a project's events as they are written. Does not check that the caller may see
+     * the project; as that is only checked when a stream is opened, all streams of a project are closed once a
+     * collaborator is removed or the project is deleted, and the clients still allowed to see it reconnect.
+     * @param projectId The ID of the project.
+     * @return The emitter, completed after the tail timeout; clients reconnect and page back for any gap.
+     */
+    public SseEmitter subscribe(Long projectId) {
+        SseEmitter emitter = new SseEmitter(tailTimeout.toMillis());
+        subscribers.compute(projectId, (id, emitters) -> {
+            Set<SseEmitter> updated = emitters != null ? emitters : new CopyOnWriteArraySet<>();
+            updated.add(emitter);
+            return updated;
+        });
+        Runnable unsubscribe = () -> unsubscribe(projectId, emitter);
+        emitter.onCompletion(unsubscribe);
+        emitter.onTimeout(unsubscribe);
+        emitter.onError(e -> unsubscribe.run());
+        return emitter;
+    }
+
+    /**
+     * Returns the number of events waiting to be written.
+     * @return The queue length.
+     */
+    public int pending() {
+        return queue.size();
+    }
+
+    /**
+     * Writes everything queued so far on the calling thread.
+     * @return The number of events written.
+     */
+    int flush() {
+        int written = 0;
+        List<ActivityEvent> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            write(batch);
+            written += batch.size();
+            batch.clear();
+        }
+        return written;
+    }
+
+    private void writeLoop() {
+        List<ActivityEvent> batch = new ArrayList<>(batchSize);
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                batch.add(queue.take()); // Sleeps while nothing happens
+                queue.drainTo(batch, batchSize - 1); // Events recorded meanwhile go in the same transaction
+                write(batch);
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        write(batch); // An event taken just before the interrupt
+    }
+
+    private void write(List<ActivityEvent> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        for (int attempt = 1; ; attempt++) {
+            List<ActivityEvent> saved;
+            try {
+                saved = transactionTemplate.execute(status -> activityEventRepository.saveAll(batch));
+            } catch (RuntimeException e) {
+                batch.forEach(event -> event.setId(null)); // IDs of a rolled-back insert are not reused
+                if (attempt == MAX_ATTEMPTS) {
+                    logger.error("Could not write {} activity events, dropping them", batch.size(), e);
+                    return;
+                }
+                logger.warn("Could not write {} activity events, retrying in {}", batch.size(), RETRY_DELAY, e);
+                try {
+                    Thread.sleep(RETRY_DELAY.toMillis());
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt(); // Shutting down: the remaining attempts do not wait
+                }
+                continue;
+            }
+            publish(saved);
+            return;
+        }
+    }
+
+    private void publish(List<ActivityEvent> saved) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        List<ActivityEventResponse> events = saved.stream().map(ActivityLog::toResponse).toList();
+        try {
+            tail.execute(() -> events.forEach(this::send));
+        } catch (RuntimeException e) {
+            logger.debug("Live activity tail is stopped", e);
+        }
+    }
+
+    private void send(ActivityEventResponse event) {
+        Set<SseEmitter> emitters = subscribers.get(event.getProjectId());
+        if (emitters == null) {
+            return;
+        }
+        for (SseEmitter emitter : emitters) {
+            try {
+                emitter.send(SseEmitter.event()
+                        .id(String.valueOf(event.getId()))
+                        .name("activity")
+                        .data(event));
+            } catch (IOException | IllegalStateException e) {
+                unsubscribe(event.getProjectId(), emitter); // Client went away
+                emitter.completeWithError(e);
+            }
+        }
+    }
+
+    private void closeStreams(Long projectId) {
+        Set<SseEmitter> emitters = subscribers.remove(projectId);
+        if (emitters != null) {
+            emitters.forEach(SseEmitter::complete);
+        }
+    }
+
+    private void unsubscribe(Long projectId, SseEmitter emitter) {
+        subscribers.computeIfPresent(projectId, (id, emitters) -> {
+            emitters.remove(emitter);
+            return emitters.isEmpty() ? null : emitters;
+        });
+    }
+
+    /**
+     * Maps an ActivityEvent entity to an ActivityEventResponse DTO.
+     * @param event The ActivityEvent entity.
+     * @return ActivityEventResponse DTO.
+     */
+    static ActivityEventResponse toResponse(ActivityEvent event) {
+        return new ActivityEventResponse(event.getId(), event.getProjectId(), event.getTaskId(), event.getActorId(),
+                event.getType(), event.getSummary(), event.getOccurredAt());
+    }
+
+    private static ExecutorService daemonThread(String name) {
+        return Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
@@ -0,0 +1,77 @@
+package com.alx.taskmgr.service;
+
+import com.alx.taskmgr.dto.activity.ActivityEventResponse;
+import com.alx.taskmgr.dto.activity.ActivityPageResponse;
+import com.alx.taskmgr.dto.activity.ActivityQueryRequest;
+import com.alx.taskmgr.exception.ResourceNotFoundException;
+import com.alx.taskmgr.exception.UnauthorizedException;
+import com.alx.taskmgr.repository.ActivityEventRepository;
+import com.alx.taskmgr.util.UserContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+
+/**
+ * Service for reading a project's activity log, page by page or as a live stream.
+ * Events are written by {@link ActivityLog}; one recorded a moment ago may not be visible to a page yet.
+ */
+@Service
+@RequiredArgsConstructor
+public class ActivityService {
+
+    private final ActivityEventRepository activityEventRepository;
+    private final ProjectAccessIndex projectAccessIndex;
+    private final ActivityLog activityLog;
+
+    /**
+     * Retrieves one page of a project's activity, newest first.
+     * The current user must be a collaborator or owner of the project.
+     * The page is read by keyset, so its cost does not grow with the position.
+     * @param projectId The ID of the project.
+     * @param query Page size and the cursor returned with the previous page, if any.
+     * @return The page and the cursor of the next page, or a null cursor on the last page.
+     * @throws ResourceNotFoundException if the project is not found.
+     * @throws UnauthorizedException if the current user is not authorized for the project.
+     */
+    @Transactional(readOnly = true)
+    public ActivityPageResponse getProjectActivity(Long projectId, ActivityQueryRequest query) {
+        checkMember(projectId);
+        // One extra row tells whether another page follows, without a count query
+        List<ActivityEventResponse> rows = activityEventRepository.findPageByProjectId(projectId, query.getCursor(),
+                PageRequest.of(0, query.getSize() + 1));
+
+        if (rows.size() <= query.getSize()) {
+            return new ActivityPageResponse(rows, null);
+        }
+        List<ActivityEventResponse> items = List.copyOf(rows.subList(0, query.getSize()));
+        return new ActivityPageResponse(items, items.get(items.size() - 1).getId());
+    }
+
+    /**
+     * Opens a live stream of a project's activity as it is written.
+     * The current user must be a collaborator or owner of the project when the stream is opened. The stream is
+     * closed when a collaborator is removed from the project or the project is deleted, so that reconnecting
+     * checks again.
+     * @param projectId The ID of the project.
+     * @return The server-sent event emitter.
+     * @throws ResourceNotFoundException if the project is not found.
+     * @throws UnauthorizedException if the current user is not authorized for the project.
+     */
+    public SseEmitter streamProjectActivity(Long projectId) {
+        checkMember(projectId);
+        return activityLog.subscribe(projectId);
+    }
+
+    private void checkMember(Long projectId) {
+        if (!projectAccessIndex.exists(projectId)) {
+            throw new ResourceNotFoundException("Project not found with id: " + projectId);
+        }
+        if (!projectAccessIndex.isMember(projectId, UserContext.getCurrentUserId())) {
+            throw new UnauthorizedException("You are not authorized to view the activity of this project.");
+        }
+    }
+}
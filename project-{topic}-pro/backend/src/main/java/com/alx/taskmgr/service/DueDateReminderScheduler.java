@@ -0,0 +1,360 @@
+package com.alx.taskmgr.service;
+
+import com.alx.taskmgr.entity.Task;
+import com.alx.taskmgr.entity.enums.TaskStatus;
+import com.alx.taskmgr.repository.TaskRepository;
+import com.alx.taskmgr.util.DueDates;
+import com.alx.taskmgr.util.TransactionCallbacks;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Emits due-soon and overdue reminders for open tasks without polling the tasks table.
+ * Pending reminders of the tasks due within a rolling horizon are kept in memory, ordered by when they fire;
+ * the horizon is loaded with one range scan on the due_date index and extended shortly before it runs out.
+ * {@link TaskService} reports changes once they commit, at O(log n) each. A single timer thread sleeps until
+ * the earliest reminder or the end of the horizon, so nothing runs while no reminder is due.
+ * Each reminder is claimed in the database right before it is sent, with a conditional UPDATE that only matches
+ * open tasks that are due and not yet reminded for their current due date (V8). This drops tasks changed or
+ * deleted elsewhere, e.g. through another instance or by deleting their project, and lets several instances
+ * run the scheduler side by side, and restart, without sending a reminder twice. A claimed reminder whose
+ * delivery fails is not retried.
+ */
+@Component
+public class DueDateReminderScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(DueDateReminderScheduler.class);
+    private static final Set<TaskStatus> CLOSED = EnumSet.of(TaskStatus.COMPLETED, TaskStatus.CANCELLED);
+    private static final List<String> CLOSED_NAMES = CLOSED.stream().map(Enum::name).toList(); // For native queries
+    private static final Duration RETRY_DELAY = Duration.ofMinutes(1);
+    private static final int CHECK_BATCH_SIZE = 1000;
+
+    private final TaskRepository taskRepository;
+    private final TaskReminderNotifier notifier;
+    private final Duration dueSoonWindow;
+    private final Duration horizon;
+    private final Clock clock;
+    private final ScheduledExecutorService timer;
+
+    // All guarded by this. The queue and the map always hold the same reminders, at most one per task.
+    private final TreeSet<Reminder> queue = new TreeSet<>(
+            Comparator.comparing(Reminder::fireAt).thenComparing(Reminder::taskId));
+    private final Map<Long, Reminder> byTaskId = new HashMap<>();
+    private LocalDateTime loadedUntil; // Tasks due at or after this are not loaded yet; null before the first load
+    private Map<Long, TaskDue> changedDuringScan; // Non-null while a horizon scan runs outside the lock
+    private ScheduledFuture<?> wakeUp;
+    private LocalDateTime wakeUpAt;
+
+    @Autowired
+    public DueDateReminderScheduler(TaskRepository taskRepository,
+                                    TaskReminderNotifier notifier,
+                                    @Value("${task-reminders.due-soon-window:24h}") Duration dueSoonWindow,
+                                    @Value("${task-reminders.horizon:7d}") Duration horizon) {
+        this(taskRepository, notifier, dueSoonWindow, horizon, Clock.systemDefaultZone(),
+                Executors.newSingleThreadScheduledExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "task-reminders");
+                    thread.setDaemon(true);
+                    return thread;
+                }));
+    }
+
+    DueDateReminderScheduler(TaskRepository taskRepository, TaskReminderNotifier notifier, Duration dueSoonWindow,
+                             Duration horizon, Clock clock, ScheduledExecutorService timer) {
+        if (horizon.compareTo(dueSoonWindow) <= 0) {
+            throw new IllegalArgumentException("task-reminders.horizon must be longer than task-reminders.due-soon-window");
+        }
+        this.taskRepository = taskRepository;
+        this.notifier = notifier;
+        this.dueSoonWindow = dueSoonWindow;
+        this.horizon = horizon;
+        this.clock = clock;
+        this.timer = timer;
+    }
+
+    /**
+     * Loads the first horizon on the timer thread, so startup does not wait for it.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        timer.execute(this::fire);
+    }
+
+    @PreDestroy
+    public void stop() {
+        timer.shutdownNow();
+    }
+
+    /**
+     * Records created or updated tasks once the surrounding transaction commits.
+     * A task whose due date did not change keeps its progress, so editing it does not repeat a reminder.
+     * @param tasks The saved tasks.
+     */
+    public void tasksChanged(Collection<Task> tasks) {
+        List<TaskDue> changes = tasks.stream()
+                .map(task -> new TaskDue(task.getId(), task.getDueDate(), task.getStatus()))
+                .toList();
+        TransactionCallbacks.afterCommit(() -> {
+            synchronized (this) {
+                LocalDateTime now = now();
+                changes.forEach(change -> {
+                    noteDuringScan(change);
+                    track(change.taskId(), change.dueDate(), change.status(), now);
+                });
+                scheduleWakeUp(now, false);
+            }
+        });
+    }
+
+    /**
+     * Forgets deleted tasks once the surrounding transaction commits.
+     * @param taskIds The IDs of the deleted tasks.
+     */
+    public void tasksRemoved(Collection<Long> taskIds) {
+        List<Long> ids = List.copyOf(taskIds);
+        TransactionCallbacks.afterCommit(() -> {
+            synchronized (this) {
+                ids.forEach(taskId -> {
+                    noteDuringScan(new TaskDue(taskId, null, null));
+                    untrack(taskId);
+                });
+            }
+        });
+    }
+
+    /**
+     * Records a status change of many tasks once the surrounding transaction commits. Closing tasks drops
+     * their reminders; reopening them needs their due dates, which are read on the timer thread.
+     * @param taskIds The IDs of the changed tasks.
+     * @param status Their new status.
+     */
+    public void statusChanged(Collection<Long> taskIds, TaskStatus status) {
+        if (CLOSED.contains(status)) {
+            tasksRemoved(taskIds);
+            return;
+        }
+        List<Long> ids = List.copyOf(taskIds);
+        TransactionCallbacks.afterCommit(() -> timer.execute(() -> reload(ids)));
+    }
+
+    /**
+     * Timer callback: loads the next part of the horizon when it is about to run out, emits every reminder
+     * that is due, and schedules the next wake-up. The horizon is scanned outside the lock, so committing
+     * requests never wait on the database through {@link #tasksChanged}; the rows are merged under it.
+     */
+    void fire() {
+        LocalDateTime scanFrom = null;
+        LocalDateTime scanTo = null;
+        synchronized (this) {
+            wakeUp = null;
+            wakeUpAt = null;
+            LocalDateTime now = now();
+            if (loadedUntil == null || !now.isBefore(loadedUntil.minus(dueSoonWindow))) {
+                scanFrom = loadedUntil != null ? loadedUntil : now;
+                scanTo = now.plus(horizon);
+                changedDuringScan = new HashMap<>();
+            }
+        }
+        List<TaskRepository.TaskDueView> rows = null;
+        boolean loadFailed = false;
+        if (scanTo != null) {
+            try {
+                rows = taskRepository.findDueBetween(scanFrom, scanTo, CLOSED);
+            } catch (RuntimeException e) {
+                logger.warn("Could not load task due dates, retrying in {}", RETRY_DELAY, e);
+                loadFailed = true;
+            }
+        }
+
+        List<Reminder> fired = new ArrayList<>();
+        synchronized (this) {
+            LocalDateTime now = now();
+            if (scanTo != null) {
+                Map<Long, TaskDue> changed = changedDuringScan;
+                changedDuringScan = null;
+                if (rows != null) {
+                    mergeHorizon(scanTo, rows, changed, now);
+                }
+            }
+            while (!queue.isEmpty() && !queue.first().fireAt().isAfter(now)) {
+                Reminder reminder = queue.pollFirst();
+                byTaskId.remove(reminder.taskId());
+                fired.add(reminder);
+                if (reminder.kind() == TaskReminder.Kind.DUE_SOON) {
+                    // Fires in this same batch if the task is already overdue
+                    add(new Reminder(reminder.taskId(), reminder.dueDate(), TaskReminder.Kind.OVERDUE, reminder.dueDate()));
+                }
+            }
+            scheduleWakeUp(now, loadFailed);
+        }
+        if (!fired.isEmpty()) {
+            send(fired);
+        }
+    }
+
+    /**
+     * Returns the number of pending reminders.
+     * @return The number of tasks with a pending reminder.
+     */
+    public synchronized int size() {
+        return byTaskId.size();
+    }
+
+    // The scan may have read a task before a change that committed while it ran. Such changes were ignored by
+    // track() if the task was past the old horizon, so they are applied again over the scanned rows.
+    private void mergeHorizon(LocalDateTime to, List<TaskRepository.TaskDueView> rows, Map<Long, TaskDue> changed,
+                              LocalDateTime now) {
+        loadedUntil = to; // Only once the scan succeeded, and before track(), which ignores tasks past it
+        rows.stream()
+                .filter(row -> !changed.containsKey(row.getId()))
+                .forEach(row -> track(row.getId(), row.getDueDate(), row.getStatus(), now));
+        changed.values().forEach(change -> track(change.taskId(), change.dueDate(), change.status(), now));
+    }
+
+    private void noteDuringScan(TaskDue change) {
+        if (changedDuringScan != null) {
+            changedDuringScan.put(change.taskId(), change);
+        }
+    }
+
+    private void reload(List<Long> taskIds) {
+        List<TaskRepository.TaskDueView> rows;
+        try {
+            rows = taskRepository.findDueByIdIn(taskIds);
+        } catch (RuntimeException e) {
+            logger.warn("Could not reload the due dates of {} tasks", taskIds.size(), e);
+            return;
+        }
+        synchronized (this) {
+            LocalDateTime now = now();
+            rows.forEach(row -> track(row.getId(), row.getDueDate(), row.getStatus(), now));
+            scheduleWakeUp(now, false);
+        }
+    }
+
+    private void track(Long taskId, LocalDateTime dueDate, TaskStatus status, LocalDateTime now) {
+        boolean open = dueDate != null && !CLOSED.contains(status);
+        Reminder existing = byTaskId.get(taskId);
+        if (existing != null && open && DueDates.same(existing.dueDate(), dueDate)) {
+            return;
+        }
+        untrack(taskId);
+        // Tasks past the horizon are picked up by the range scan that extends it
+        if (!open || !dueDate.isAfter(now) || loadedUntil == null || !dueDate.isBefore(loadedUntil)) {
+            return;
+        }
+        LocalDateTime dueSoonAt = dueDate.minus(dueSoonWindow);
+        add(new Reminder(taskId, dueDate, TaskReminder.Kind.DUE_SOON, dueSoonAt.isAfter(now) ? dueSoonAt : now));
+    }
+
+    private void add(Reminder reminder) {
+        queue.add(reminder);
+        byTaskId.put(reminder.taskId(), reminder);
+    }
+
+    private void untrack(Long taskId) {
+        Reminder removed = byTaskId.remove(taskId);
+        if (removed != null) {
+            queue.remove(removed);
+        }
+    }
+
+    // Wakes up for the earliest reminder or for the next horizon load, whichever comes first
+    private void scheduleWakeUp(LocalDateTime now, boolean retryLoad) {
+        if (loadedUntil == null && !retryLoad) {
+            return; // The first load has not run yet
+        }
+        LocalDateTime next = retryLoad ? now.plus(RETRY_DELAY) : loadedUntil.minus(dueSoonWindow);
+        if (!queue.isEmpty() && queue.first().fireAt().isBefore(next)) {
+            next = queue.first().fireAt();
+        }
+        if (wakeUpAt != null && !next.isBefore(wakeUpAt)) {
+            return;
+        }
+        if (wakeUp != null) {
+            wakeUp.cancel(false);
+        }
+        long delayMillis = Math.max(0, Duration.between(now, next).toMillis());
+        wakeUp = timer.schedule(this::fire, delayMillis, TimeUnit.MILLISECONDS);
+        wakeUpAt = next;
+    }
+
+    // Sends the reminders this instance claims; the claims drop tasks deleted, closed or rescheduled without
+    // this instance knowing, and reminders another instance already sent
+    private void send(List<Reminder> fired) {
+        try {
+            LocalDateTime now = now();
+            List<TaskReminder> reminders = new ArrayList<>(fired.size());
+            for (int start = 0; start < fired.size(); start += CHECK_BATCH_SIZE) {
+                List<Reminder> chunk = fired.subList(start, Math.min(start + CHECK_BATCH_SIZE, fired.size()));
+                Map<Long, TaskRepository.TaskDueView> dueSoon = claim(chunk, TaskReminder.Kind.DUE_SOON,
+                        ids -> taskRepository.claimDueSoonReminders(ids, now.plus(dueSoonWindow), CLOSED_NAMES));
+                Map<Long, TaskRepository.TaskDueView> overdue = claim(chunk, TaskReminder.Kind.OVERDUE,
+                        ids -> taskRepository.claimOverdueReminders(ids, now, CLOSED_NAMES));
+                for (Reminder reminder : chunk) {
+                    TaskRepository.TaskDueView row = (reminder.kind() == TaskReminder.Kind.DUE_SOON ? dueSoon : overdue)
+                            .get(reminder.taskId());
+                    if (row != null) {
+                        reminders.add(new TaskReminder(reminder.taskId(), row.getDueDate(), reminder.kind()));
+                    }
+                }
+            }
+            if (!reminders.isEmpty()) {
+                notifier.notify(reminders);
+            }
+        } catch (RuntimeException e) {
+            logger.error("Could not send {} task reminders", fired.size(), e);
+        }
+    }
+
+    private static Map<Long, TaskRepository.TaskDueView> claim(
+            List<Reminder> chunk, TaskReminder.Kind kind,
+            Function<Set<Long>, List<TaskRepository.TaskDueView>> claimer) {
+        Set<Long> ids = chunk.stream()
+                .filter(reminder -> reminder.kind() == kind)
+                .map(Reminder::taskId)
+                .collect(Collectors.toSet());
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        return claimer.apply(ids).stream()
+                .collect(Collectors.toMap(TaskRepository.TaskDueView::getId, Function.identity()));
+    }
+
+    private LocalDateTime now() {
+        return LocalDateTime.now(clock);
+    }
+
+    private record TaskDue(Long taskId, LocalDateTime dueDate, TaskStatus status) {
+    }
+
+    /**
+     * The next reminder of one task: when it fires and what it says.
+     */
+    private record Reminder(Long taskId, LocalDateTime dueDate, TaskReminder.Kind kind, LocalDateTime fireAt) {
+    }
+}
@@ -0,0 +1,23 @@
+package com.alx.taskmgr.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Default {@link TaskReminderNotifier}: logs each batch. Replace this bean to deliver reminders to users.
+ */
+@Component
+public class LoggingTaskReminderNotifier implements TaskReminderNotifier {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoggingTaskReminderNotifier.class);
+
+    @Override
+    public void notify(List<TaskReminder> reminders) {
+        long overdue = reminders.stream().filter(reminder -> reminder.kind() == TaskReminder.Kind.OVERDUE).count();
+        logger.info("Task reminders: {} due soon, {} overdue", reminders.size() - overdue, overdue);
+        reminders.forEach(reminder -> logger.debug("Task {} {} (due {})", reminder.taskId(), reminder.kind(), reminder.dueDate()));
+    }
+}
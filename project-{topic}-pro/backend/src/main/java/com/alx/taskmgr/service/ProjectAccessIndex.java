@@ -0,0 +1,119 @@
+package com.alx.taskmgr.service;
+
+import com.alx.taskmgr.entity.Project;
+import com.alx.taskmgr.entity.User;
+import com.alx.taskmgr.repository.ProjectRepository;
+import com.alx.taskmgr.util.TransactionCallbacks;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-memory index of who may work on each project: the owner's ID and the sorted collaborator IDs.
+ * Authorization checks answer from memory instead of loading the project and its collaborators collection.
+ * A missing entry is loaded once with two ID-only queries; {@link ProjectService} replaces entries after
+ * membership changes commit. Entries also expire after ten minutes, which bounds how long a change made
+ * through another instance stays invisible here.
+ */
+@Component
+public class ProjectAccessIndex {
+
+    private final ProjectRepository projectRepository;
+    private final Cache<Long, ProjectAccess> projects;
+
+    public ProjectAccessIndex(ProjectRepository projectRepository,
+                              @Value("${project-access.max-projects:100000}") long maxProjects) {
+        this.projectRepository = projectRepository;
+        this.projects = Caffeine.newBuilder()
+                .maximumSize(maxProjects)
+                .expireAfterWrite(10, TimeUnit.MINUTES)
+                .build();
+    }
+
+    /**
+     * Checks whether a project exists, without loading it.
+     * @param projectId The ID of the project.
+     * @return True if the project exists.
+     */
+    public boolean exists(Long projectId) {
+        return find(projectId) != null;
+    }
+
+    /**
+     * Checks whether a user is the owner or a collaborator of a project.
+     * @param projectId The ID of the project.
+     * @param userId The ID of the user.
+     * @return True if the user may work on the project, false otherwise or if the project does not exist.
+     */
+    public boolean isMember(Long projectId, Long userId) {
+        ProjectAccess access = find(projectId);
+        return access != null && access.isMember(userId);
+    }
+
+    /**
+     * Checks whether a user owns a project.
+     * @param projectId The ID of the project.
+     * @param userId The ID of the user.
+     * @return True if the user is the owner, false otherwise or if the project does not exist.
+     */
+    public boolean isOwner(Long projectId, Long userId) {
+        ProjectAccess access = find(projectId);
+        return access != null && access.ownerId().equals(userId);
+    }
+
+    /**
+     * Records a project's current owner and collaborators. The entry is published once the surrounding
+     * transaction commits, so a rolled-back change never grants access.
+     * @param project The saved project.
+     */
+    public void projectChanged(Project project) {
+        if (project == null || project.getId() == null || project.getOwner() == null) {
+            return;
+        }
+        Long projectId = project.getId();
+        ProjectAccess access = new ProjectAccess(project.getOwner().getId(),
+                toSortedArray(project.getCollaborators().stream().map(User::getId).toList()));
+        TransactionCallbacks.afterCommit(() -> projects.put(projectId, access));
+    }
+
+    /**
+     * Forgets a deleted project once the surrounding transaction commits.
+     * @param projectId The ID of the deleted project.
+     */
+    public void projectDeleted(Long projectId) {
+        TransactionCallbacks.afterCommit(() -> projects.invalidate(projectId));
+    }
+
+    private ProjectAccess find(Long projectId) {
+        if (projectId == null) {
+            return null;
+        }
+        // Unknown projects are not remembered, so a project is found as soon as it exists
+        return projects.get(projectId, id -> projectRepository.findOwnerIdById(id)
+                .map(ownerId -> new ProjectAccess(ownerId, toSortedArray(projectRepository.findCollaboratorIdsById(id))))
+                .orElse(null));
+    }
+
+    // Eight bytes per collaborator whatever the user IDs; a bitset would grow with the largest ID instead
+    private static long[] toSortedArray(Collection<Long> userIds) {
+        return userIds.stream().mapToLong(Long::longValue).sorted().distinct().toArray();
+    }
+
+    /**
+     * Access entry of one project. The array is never modified once the entry is built.
+     */
+    private record ProjectAccess(Long ownerId, long[] collaboratorIds) {
+
+        boolean isMember(Long userId) {
+            if (userId == null) {
+                return false;
+            }
+            return userId.equals(ownerId) || Arrays.binarySearch(collaboratorIds, userId) >= 0;
+        }
+    }
+}
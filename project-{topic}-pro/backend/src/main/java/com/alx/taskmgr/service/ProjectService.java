@@ -2,9 +2,11 @@ package com.alx.taskmgr.service;
 
 import com.alx.taskmgr.dto.project.ProjectCreateRequest;
 import com.alx.taskmgr.dto.project.ProjectResponse;
+import com.alx.taskmgr.dto.project.ProjectStatisticsResponse;
 import com.alx.taskmgr.dto.user.UserResponse;
 import com.alx.taskmgr.entity.Project;
 import com.alx.taskmgr.entity.User;
+import com.alx.taskmgr.entity.enums.ActivityType;
 import com.alx.taskmgr.exception.ResourceNotFoundException;
 import com.alx.taskmgr.exception.UnauthorizedException;
 import com.alx.taskmgr.repository.ProjectRepository;
@@ -30,6 +32,10 @@ public class ProjectService {
 
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
+    private final ProjectAccessIndex projectAccessIndex;
+    private final TaskCache taskCache;
+    private final ProjectStatistics projectStatistics;
+    private final ActivityLog activityLog;
 
     /**
      * Creates a new project. The current authenticated user becomes the owner.
@@ -53,6 +59,8 @@ public class ProjectService {
         project.getCollaborators().add(owner); // Owner is also a collaborator by default
 
         Project savedProject = projectRepository.save(project);
+        projectAccessIndex.projectChanged(savedProject);
+        activityLog.record(savedProject.getId(), null, ActivityType.PROJECT_CREATED, "Created project '" + savedProject.getName() + "'");
         return mapToProjectResponse(savedProject);
     }
 
@@ -71,8 +79,7 @@ public class ProjectService {
                 .orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + id));
 
         // Check if the current user is the owner or a collaborator
-        if (!project.getOwner().getId().equals(currentUserId) &&
-            project.getCollaborators().stream().noneMatch(c -> c.getId().equals(currentUserId))) {
+        if (!projectAccessIndex.isMember(id, currentUserId)) {
             throw new UnauthorizedException("You are not authorized to view this project.");
         }
 
@@ -92,6 +99,28 @@ public class ProjectService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Retrieves the task statistics of a project: counts by status, by assignee and of overdue tasks.
+     * They are served from memory, so the cost does not depend on the number of tasks.
+     * @param id The ID of the project.
+     * @return ProjectStatisticsResponse DTO.
+     * @throws ResourceNotFoundException if the project is not found.
+     * @throws UnauthorizedException if the current user is not authorized to view the project.
+     */
+    @Transactional(readOnly = true)
+    public ProjectStatisticsResponse getProjectStatistics(Long id) {
+        Long currentUserId = UserContext.getCurrentUserId();
+        if (!projectAccessIndex.exists(id)) {
+            throw new ResourceNotFoundException("Project not found with id: " + id);
+        }
+
+        if (!projectAccessIndex.isMember(id, currentUserId)) {
+            throw new UnauthorizedException("You are not authorized to view this project.");
+        }
+
+        return projectStatistics.get(id);
+    }
+
     /**
      * Updates an existing project. Only the owner can update.
      * @param id The ID of the project to update.
@@ -118,6 +147,7 @@ public class ProjectService {
         project.setDescription(request.getDescription());
 
         Project updatedProject = projectRepository.save(project);
+        activityLog.record(id, null, ActivityType.PROJECT_UPDATED, "Updated project '" + updatedProject.getName() + "'");
         return mapToProjectResponse(updatedProject);
     }
 
@@ -148,6 +178,8 @@ public class ProjectService {
 
         project.getCollaborators().add(collaborator);
         Project updatedProject = projectRepository.save(project);
+        projectAccessIndex.projectChanged(updatedProject);
+        activityLog.record(projectId, null, ActivityType.COLLABORATOR_ADDED, "Added collaborator " + collaborator.getUsername());
         return mapToProjectResponse(updatedProject);
     }
 
@@ -183,6 +215,8 @@ public class ProjectService {
 
         project.getCollaborators().remove(collaborator);
         Project updatedProject = projectRepository.save(project);
+        projectAccessIndex.projectChanged(updatedProject);
+        activityLog.record(projectId, null, ActivityType.COLLABORATOR_REMOVED, "Removed collaborator " + collaborator.getUsername());
         return mapToProjectResponse(updatedProject);
     }
 
@@ -207,6 +241,10 @@ public class ProjectService {
         }
 
         projectRepository.delete(project);
+        projectAccessIndex.projectDeleted(id);
+        taskCache.projectDeleted(id); // Its tasks were deleted with it
+        projectStatistics.projectDeleted(id);
+        activityLog.record(id, null, ActivityType.PROJECT_DELETED, "Deleted project '" + project.getName() + "'");
     }
 
     /**
@@ -0,0 +1,322 @@
+package com.alx.taskmgr.service;
+
+import com.alx.taskmgr.dto.project.ProjectStatisticsResponse;
+import com.alx.taskmgr.entity.Task;
+import com.alx.taskmgr.entity.enums.TaskStatus;
+import com.alx.taskmgr.repository.TaskRepository;
+import com.alx.taskmgr.util.DueDates;
+import com.alx.taskmgr.util.TransactionCallbacks;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-memory task statistics per project: counts by status, by assignee and status, and of overdue tasks.
+ * A project's counters are loaded with two GROUP BY queries the first time its dashboard is read; after that
+ * {@link TaskService} applies every task change as a delta once it commits, so reading them never touches the
+ * tasks table. Overdue tasks are counted by moving due dates that have passed out of a sorted map of upcoming
+ * ones, which costs O(1) per task over its lifetime.
+ * Changes made through another instance, and the rare change racing with a load, are not seen as deltas; a
+ * background pass re-runs the GROUP BY queries for every loaded project and replaces its counters, which
+ * bounds that drift to the reconcile interval. Projects whose dashboard is not read are dropped after an hour:
+ * only reads extend a project's lifetime, not deltas or reconciliation, which look their counters up quietly.
+ */
+@Component
+public class ProjectStatistics {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProjectStatistics.class);
+    private static final Set<TaskStatus> CLOSED = EnumSet.of(TaskStatus.COMPLETED, TaskStatus.CANCELLED);
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+    private static final long UNREAD_TTL_NANOS = TimeUnit.HOURS.toNanos(1);
+
+    private final TaskRepository taskRepository;
+    private final Duration reconcileInterval;
+    private final Clock clock;
+    private final ScheduledExecutorService reconciler;
+    private final Cache<Long, Counters> projects;
+
+    @Autowired
+    public ProjectStatistics(TaskRepository taskRepository,
+                             @Value("${project-stats.max-projects:10000}") long maxProjects,
+                             @Value("${project-stats.reconcile-interval:5m}") Duration reconcileInterval) {
+        this(taskRepository, maxProjects, reconcileInterval, Clock.systemDefaultZone(), Ticker.systemTicker(),
+                Executors.newSingleThreadScheduledExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "project-stats");
+                    thread.setDaemon(true);
+                    return thread;
+                }));
+    }
+
+    ProjectStatistics(TaskRepository taskRepository, long maxProjects, Duration reconcileInterval, Clock clock,
+                      Ticker ticker, ScheduledExecutorService reconciler) {
+        this.taskRepository = taskRepository;
+        this.reconcileInterval = reconcileInterval;
+        this.clock = clock;
+        this.reconciler = reconciler;
+        this.projects = Caffeine.newBuilder()
+                .maximumSize(maxProjects)
+                .expireAfter(new Expiry<Long, Counters>() {
+                    @Override
+                    public long expireAfterCreate(Long projectId, Counters counters, long currentTime) {
+                        return UNREAD_TTL_NANOS;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(Long projectId, Counters counters, long currentTime, long currentDuration) {
+                        return currentDuration; // Replaced by reconciliation, which is not a read
+                    }
+
+                    @Override
+                    public long expireAfterRead(Long projectId, Counters counters, long currentTime, long currentDuration) {
+                        return UNREAD_TTL_NANOS;
+                    }
+                })
+                .ticker(ticker)
+                .build();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        long intervalMillis = reconcileInterval.toMillis();
+        reconciler.scheduleWithFixedDelay(this::reconcile, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        reconciler.shutdownNow();
+    }
+
+    /**
+     * Returns the statistics of a project, loading its counters on the first read.
+     * Does not check that the project exists or that the caller may see it.
+     * @param projectId The ID of the project.
+     * @return The project's statistics.
+     */
+    public ProjectStatisticsResponse get(Long projectId) {
+        Counters counters = projects.get(projectId, this::load);
+        synchronized (counters) {
+            return counters.toResponse(projectId, now());
+        }
+    }
+
+    /**
+     * Applies task changes to the counters of their projects once the surrounding transaction commits.
+     * A change is the task's state before it, counted out, and its state after it, counted in; creations have
+     * no before state and deletions no after state. Projects whose counters are not loaded are skipped.
+     * @param before The states of the changed tasks before the change.
+     * @param after The states of the changed tasks after the change.
+     */
+    public void tasksChanged(Collection<TaskState> before, Collection<TaskState> after) {
+        List<TaskState> removed = List.copyOf(before);
+        List<TaskState> added = List.copyOf(after);
+        if (removed.isEmpty() && added.isEmpty()) {
+            return;
+        }
+        TransactionCallbacks.afterCommit(() -> {
+            removed.forEach(state -> apply(state, -1));
+            added.forEach(state -> apply(state, 1));
+        });
+    }
+
+    /**
+     * Forgets a deleted project once the surrounding transaction commits.
+     * @param projectId The ID of the deleted project.
+     */
+    public void projectDeleted(Long projectId) {
+        TransactionCallbacks.afterCommit(() -> projects.invalidate(projectId));
+    }
+
+    /**
+     * Reconciler callback: reloads the counters of every loaded project and replaces them. A project whose
+     * counters changed while its queries ran keeps them and is reconciled on the next pass instead.
+     */
+    void reconcile() {
+        for (Long projectId : List.copyOf(projects.asMap().keySet())) {
+            Counters current = projects.policy().getIfPresentQuietly(projectId);
+            if (current == null) {
+                continue;
+            }
+            long version;
+            synchronized (current) {
+                version = current.version;
+            }
+            try {
+                Counters fresh = load(projectId);
+                synchronized (current) {
+                    if (current.version == version && projects.asMap().replace(projectId, current, fresh)) {
+                        current.retired = true; // Deltas that already looked it up retry on the replacement
+                    }
+                }
+            } catch (RuntimeException e) {
+                logger.warn("Could not reconcile the statistics of project {}", projectId, e);
+            }
+        }
+    }
+
+    private void apply(TaskState state, int sign) {
+        while (true) {
+            Counters counters = projects.policy().getIfPresentQuietly(state.projectId());
+            if (counters == null) {
+                return; // Loaded from the database, with this change, on the next read
+            }
+            synchronized (counters) {
+                if (!counters.retired) {
+                    counters.add(state, sign);
+                    return;
+                }
+            }
+        }
+    }
+
+    private Counters load(Long projectId) {
+        Counters counters = new Counters(now());
+        for (TaskRepository.TaskCountView row : taskRepository.countByProjectIdGroupByStatusAndAssignee(projectId)) {
+            counters.count(row.getStatus(), row.getAssignedToId(), row.getCount());
+        }
+        for (TaskRepository.DueDateCountView row : taskRepository.countOpenByProjectIdGroupByDueDate(projectId, CLOSED)) {
+            counters.countDue(row.getDueDate(), row.getCount());
+        }
+        return counters;
+    }
+
+    private LocalDateTime now() {
+        return LocalDateTime.now(clock);
+    }
+
+    /**
+     * The counted properties of a task.
+     * @param projectId The ID of the task's project.
+     * @param assigneeId The ID of the task's assignee, or null.
+     * @param status The task's status.
+     * @param dueDate The task's due date, or null.
+     */
+    public record TaskState(Long projectId, Long assigneeId, TaskStatus status, LocalDateTime dueDate) {
+
+        public static TaskState of(Task task) {
+            return new TaskState(task.getProject().getId(),
+                    task.getAssignedTo() != null ? task.getAssignedTo().getId() : null,
+                    task.getStatus(), task.getDueDate());
+        }
+
+        public static TaskState of(TaskRepository.TaskRefView ref) {
+            return new TaskState(ref.getProjectId(), ref.getAssignedToId(), ref.getStatus(), ref.getDueDate());
+        }
+    }
+
+    /**
+     * Counters of one project, guarded by their own monitor.
+     */
+    private static final class Counters {
+        private final long[] byStatus = new long[STATUSES.length];
+        private final Map<Long, long[]> byAssignee = new HashMap<>();
+        private long unassigned;
+        // Open tasks due before overdueFrom are counted in overdue, the others by due date in upcoming
+        private long overdue;
+        private final TreeMap<LocalDateTime, Long> upcoming = new TreeMap<>();
+        private LocalDateTime overdueFrom;
+        private long version; // Bumped by every delta
+        private boolean retired; // Replaced by reconciliation
+
+        Counters(LocalDateTime now) {
+            this.overdueFrom = now.truncatedTo(ChronoUnit.MILLIS);
+        }
+
+        void count(TaskStatus status, Long assigneeId, long count) {
+            byStatus[status.ordinal()] += count;
+            if (assigneeId == null) {
+                unassigned += count;
+            } else {
+                long[] counts = byAssignee.computeIfAbsent(assigneeId, id -> new long[STATUSES.length]);
+                counts[status.ordinal()] += count;
+                if (isZero(counts)) {
+                    byAssignee.remove(assigneeId);
+                }
+            }
+        }
+
+        void countDue(LocalDateTime dueDate, long count) {
+            LocalDateTime key = DueDates.normalize(dueDate); // A saved entity's due date matches its stored one
+            if (key.isBefore(overdueFrom)) {
+                overdue += count;
+                return;
+            }
+            upcoming.merge(key, count, (a, b) -> a + b == 0 ? null : a + b);
+        }
+
+        void add(TaskState state, int sign) {
+            version++;
+            count(state.status(), state.assigneeId(), sign);
+            if (state.dueDate() != null && !CLOSED.contains(state.status())) {
+                countDue(state.dueDate(), sign);
+            }
+        }
+
+        ProjectStatisticsResponse toResponse(Long projectId, LocalDateTime now) {
+            // Due dates that have passed since the last read become overdue
+            LocalDateTime until = now.truncatedTo(ChronoUnit.MILLIS);
+            if (until.isAfter(overdueFrom)) {
+                while (!upcoming.isEmpty() && upcoming.firstKey().isBefore(until)) {
+                    overdue += upcoming.pollFirstEntry().getValue();
+                }
+                overdueFrom = until;
+            }
+
+            ProjectStatisticsResponse response = new ProjectStatisticsResponse();
+            response.setProjectId(projectId);
+            long total = 0;
+            for (long count : byStatus) {
+                total += count;
+            }
+            response.setTotalTasks(total);
+            response.setTasksByStatus(toMap(byStatus));
+            Map<Long, Map<TaskStatus, Long>> assignees = new HashMap<>();
+            byAssignee.forEach((assigneeId, counts) -> assignees.put(assigneeId, toMap(counts)));
+            response.setTasksByAssignee(assignees);
+            response.setUnassignedTasks(unassigned);
+            response.setOverdueTasks(overdue);
+            return response;
+        }
+
+        private static Map<TaskStatus, Long> toMap(long[] counts) {
+            Map<TaskStatus, Long> map = new EnumMap<>(TaskStatus.class);
+            for (TaskStatus status : STATUSES) {
+                map.put(status, counts[status.ordinal()]);
+            }
+            return map;
+        }
+
+        private static boolean isZero(long[] counts) {
+            for (long count : counts) {
+                if (count != 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
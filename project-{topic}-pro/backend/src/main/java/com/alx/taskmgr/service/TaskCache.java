@@ -0,0 +1,242 @@
+package com.alx.taskmgr.service;
+
+import com.alx.taskmgr.dto.task.TaskResponse;
+import com.alx.taskmgr.dto.user.UserResponse;
+import com.alx.taskmgr.util.TransactionCallbacks;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Cache of task responses keyed by task ID, by project ID and by assignee ID.
+ * A write updates only the entries of the task, its project and the assignees involved, in place,
+ * instead of clearing the caches for every user. Updates are applied after the transaction commits.
+ * Authorization is not part of the cached values; callers check it on every read.
+ * Responses are mutable, so the cache stores its own copies and hands out fresh copies on every read.
+ */
+@Component
+public class TaskCache {
+
+    private final Cache<Long, TaskResponse> tasksById;
+    private final Cache<Long, List<TaskResponse>> tasksByProject; // Immutable lists, replaced on every change
+    private final Cache<Long, List<TaskResponse>> tasksByAssignee;
+
+    public TaskCache(@Value("${task-cache.maximum-size:10000}") long maximumSize) {
+        this.tasksById = newCache(maximumSize);
+        this.tasksByProject = newCache(maximumSize);
+        this.tasksByAssignee = newCache(maximumSize);
+    }
+
+    /**
+     * Returns a cached task, loading it on a miss.
+     * @param taskId The ID of the task.
+     * @param loader Loads the task; may throw, in which case nothing is cached.
+     * @return The task.
+     */
+    public TaskResponse getTask(Long taskId, Function<Long, TaskResponse> loader) {
+        return copy(tasksById.get(taskId, id -> copy(loader.apply(id))));
+    }
+
+    /**
+     * Returns the cached tasks of a project, loading them on a miss.
+     * @param projectId The ID of the project.
+     * @param loader Loads the project's tasks.
+     * @return An unmodifiable list of the project's tasks.
+     */
+    public List<TaskResponse> getProjectTasks(Long projectId, Function<Long, List<TaskResponse>> loader) {
+        return copy(tasksByProject.get(projectId, id -> copy(loader.apply(id))));
+    }
+
+    /**
+     * Returns the cached tasks assigned to a user, loading them on a miss.
+     * @param assigneeId The ID of the user.
+     * @param loader Loads the user's assigned tasks.
+     * @return An unmodifiable list of the user's assigned tasks.
+     */
+    public List<TaskResponse> getAssignedTasks(Long assigneeId, Function<Long, List<TaskResponse>> loader) {
+        return copy(tasksByAssignee.get(assigneeId, id -> copy(loader.apply(id))));
+    }
+
+    /**
+     * Records a created or updated task in its own entry, its project's list and its assignee's list,
+     * and removes it from the list of a previous assignee. Lists that are not cached stay uncached.
+     * @param task The saved task.
+     * @param previousAssigneeId The assignee before the change, or null.
+     */
+    public void taskSaved(TaskResponse saved, Long previousAssigneeId) {
+        TaskResponse task = copy(saved); // The caller may still modify its response before the commit
+        Long assigneeId = task.getAssignedTo() != null ? task.getAssignedTo().getId() : null;
+        TransactionCallbacks.afterCommit(() -> {
+            tasksById.put(task.getId(), task);
+            upsert(tasksByProject.asMap(), task.getProjectId(), task);
+            if (previousAssigneeId != null && !previousAssigneeId.equals(assigneeId)) {
+                remove(tasksByAssignee.asMap(), previousAssigneeId, task.getId());
+            }
+            if (assigneeId != null) {
+                upsert(tasksByAssignee.asMap(), assigneeId, task);
+            }
+        });
+    }
+
+    /**
+     * Removes a deleted task from its own entry and from its project's and assignee's lists.
+     * @param taskId The ID of the deleted task.
+     * @param projectId The ID of the task's project.
+     * @param assigneeId The ID of the task's assignee, or null.
+     */
+    public void taskDeleted(Long taskId, Long projectId, Long assigneeId) {
+        TransactionCallbacks.afterCommit(() -> {
+            tasksById.invalidate(taskId);
+            remove(tasksByProject.asMap(), projectId, taskId);
+            if (assigneeId != null) {
+                remove(tasksByAssignee.asMap(), assigneeId, taskId);
+            }
+        });
+    }
+
+    /**
+     * Drops every cached task of a deleted project. Deleting a project is rare, so scanning the
+     * per-task and per-assignee entries for its tasks is acceptable.
+     * @param projectId The ID of the deleted project.
+     */
+    public void projectDeleted(Long projectId) {
+        TransactionCallbacks.afterCommit(() -> {
+            tasksByProject.invalidate(projectId);
+            tasksById.asMap().values().removeIf(task -> projectId.equals(task.getProjectId()));
+            tasksByAssignee.asMap().replaceAll((assigneeId, tasks) -> tasks.stream()
+                    .filter(task -> !projectId.equals(task.getProjectId()))
+                    .toList());
+        });
+    }
+
+    /**
+     * Drops the entries touched by a bulk operation: the tasks themselves and the lists of their projects
+     * and assignees, old and new. One invalidation per batch is cheaper than patching each list per task.
+     * @param taskIds The IDs of the changed tasks.
+     * @param projectIds The IDs of their projects.
+     * @param assigneeIds The IDs of every assignee whose list changed.
+     */
+    public void tasksChanged(Collection<Long> taskIds, Collection<Long> projectIds, Collection<Long> assigneeIds) {
+        TransactionCallbacks.afterCommit(() -> {
+            tasksById.invalidateAll(taskIds);
+            tasksByProject.invalidateAll(projectIds);
+            tasksByAssignee.invalidateAll(assigneeIds);
+        });
+    }
+
+    /**
+     * Drops every cached task that embeds a changed or deleted user as its assignee, together with the lists
+     * holding them, so that no response keeps a stale username or email.
+     * @param userId The ID of the user.
+     */
+    public void userChanged(Long userId) {
+        TransactionCallbacks.afterCommit(() -> {
+            tasksByAssignee.invalidate(userId);
+            tasksById.asMap().values().removeIf(task -> isAssignedTo(task, userId));
+            tasksByProject.asMap().values().removeIf(tasks -> tasks.stream().anyMatch(task -> isAssignedTo(task, userId)));
+        });
+    }
+
+    /**
+     * Drops every cached entry.
+     */
+    public void invalidateAll() {
+        tasksById.invalidateAll();
+        tasksByProject.invalidateAll();
+        tasksByAssignee.invalidateAll();
+    }
+
+    public CacheStats taskStats() {
+        return tasksById.stats();
+    }
+
+    public CacheStats projectStats() {
+        return tasksByProject.stats();
+    }
+
+    public CacheStats assigneeStats() {
+        return tasksByAssignee.stats();
+    }
+
+    // Atomic per key and idempotent, so it is also correct on a list that was loaded concurrently with the write
+    private static void upsert(ConcurrentMap<Long, List<TaskResponse>> lists, Long key, TaskResponse task) {
+        lists.computeIfPresent(key, (id, tasks) -> {
+            List<TaskResponse> updated = new ArrayList<>(tasks.size() + 1);
+            boolean replaced = false;
+            for (TaskResponse cached : tasks) {
+                if (Objects.equals(cached.getId(), task.getId())) {
+                    updated.add(task);
+                    replaced = true;
+                } else {
+                    updated.add(cached);
+                }
+            }
+            if (!replaced) {
+                updated.add(task);
+            }
+            return List.copyOf(updated);
+        });
+    }
+
+    private static void remove(ConcurrentMap<Long, List<TaskResponse>> lists, Long key, Long taskId) {
+        lists.computeIfPresent(key, (id, tasks) -> tasks.stream()
+                .filter(cached -> !Objects.equals(cached.getId(), taskId))
+                .toList());
+    }
+
+    private static boolean isAssignedTo(TaskResponse task, Long userId) {
+        return task.getAssignedTo() != null && userId.equals(task.getAssignedTo().getId());
+    }
+
+    private static List<TaskResponse> copy(List<TaskResponse> tasks) {
+        return tasks.stream().map(TaskCache::copy).toList();
+    }
+
+    private static TaskResponse copy(TaskResponse task) {
+        if (task == null) {
+            return null;
+        }
+        TaskResponse copy = new TaskResponse();
+        copy.setId(task.getId());
+        copy.setTitle(task.getTitle());
+        copy.setDescription(task.getDescription());
+        copy.setStatus(task.getStatus());
+        copy.setProjectId(task.getProjectId());
+        copy.setAssignedTo(copy(task.getAssignedTo()));
+        copy.setDueDate(task.getDueDate());
+        copy.setCreatedAt(task.getCreatedAt());
+        copy.setUpdatedAt(task.getUpdatedAt());
+        return copy;
+    }
+
+    private static UserResponse copy(UserResponse user) {
+        if (user == null) {
+            return null;
+        }
+        UserResponse copy = new UserResponse();
+        copy.setId(user.getId());
+        copy.setUsername(user.getUsername());
+        copy.setEmail(user.getEmail());
+        copy.setCreatedAt(user.getCreatedAt());
+        copy.setUpdatedAt(user.getUpdatedAt());
+        return copy;
+    }
+
+    private static <V> Cache<Long, V> newCache(long maximumSize) {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(10, TimeUnit.MINUTES) // Same expiry as the other caches in CacheConfig
+                .recordStats()
+                .build();
+    }
+}
@@ -0,0 +1,17 @@
+package com.alx.taskmgr.service;
+
+import java.time.LocalDateTime;
+
+/**
+ * A reminder about an open task's due date, emitted by {@link DueDateReminderScheduler}.
+ * @param taskId The ID of the task.
+ * @param dueDate The task's due date.
+ * @param kind Whether the task is due soon or overdue.
+ */
+public record TaskReminder(Long taskId, LocalDateTime dueDate, Kind kind) {
+
+    public enum Kind {
+        DUE_SOON,
+        OVERDUE
+    }
+}
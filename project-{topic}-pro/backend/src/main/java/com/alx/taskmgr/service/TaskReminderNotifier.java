@@ -0,0 +1,17 @@
+package com.alx.taskmgr.service;
+
+import java.util.List;
+
+/**
+ * Receives the reminders emitted by {@link DueDateReminderScheduler}.
+ * Called on the scheduler's timer thread with every reminder that came due at the same time, so
+ * implementations should hand slow work (e-mail, push) off rather than block.
+ */
+public interface TaskReminderNotifier {
+
+    /**
+     * Delivers a batch of reminders.
+     * @param reminders The reminders, never empty.
+     */
+    void notify(List<TaskReminder> reminders);
+}
@@ -1,12 +1,20 @@
 package com.alx.taskmgr.service;
 
+import com.alx.taskmgr.dto.task.TaskBulkAssignRequest;
+import com.alx.taskmgr.dto.task.TaskBulkCreateRequest;
+import com.alx.taskmgr.dto.task.TaskBulkDeleteRequest;
+import com.alx.taskmgr.dto.task.TaskBulkStatusRequest;
 import com.alx.taskmgr.dto.task.TaskCreateRequest;
+import com.alx.taskmgr.dto.task.TaskPageResponse;
+import com.alx.taskmgr.dto.task.TaskQueryRequest;
 import com.alx.taskmgr.dto.task.TaskResponse;
+import com.alx.taskmgr.dto.task.TaskSummaryResponse;
 import com.alx.taskmgr.dto.task.TaskUpdateRequest;
 import com.alx.taskmgr.dto.user.UserResponse;
 import com.alx.taskmgr.entity.Project;
 import com.alx.taskmgr.entity.Task;
 import com.alx.taskmgr.entity.User;
+import com.alx.taskmgr.entity.enums.ActivityType;
 import com.alx.taskmgr.entity.enums.TaskStatus;
 import com.alx.taskmgr.exception.ResourceNotFoundException;
 import com.alx.taskmgr.exception.UnauthorizedException;
@@ -15,26 +23,47 @@ import com.alx.taskmgr.repository.TaskRepository;
 import com.alx.taskmgr.repository.UserRepository;
 import com.alx.taskmgr.util.UserContext;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.Caching;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
  * Service for managing task operations.
+ * Reads go through {@link TaskCache}, keyed by task, project and assignee; writes update only the entries
+ * they affect. Authorization is checked on every call, cache hits included.
+ * Every write also reports the counted state of its tasks before and after it to {@link ProjectStatistics},
+ * and records one event per task in the {@link ActivityLog}.
  */
 @Service
 @RequiredArgsConstructor
 public class TaskService {
 
+    // Bounds of the dated part of a task query when no due-date range is given; both fit every supported database
+    private static final LocalDateTime EARLIEST_DUE_DATE = LocalDateTime.of(1, 1, 1, 0, 0);
+    private static final LocalDateTime LATEST_DUE_DATE = LocalDateTime.of(9999, 12, 31, 0, 0);
+
     private final TaskRepository taskRepository;
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
+    private final ProjectAccessIndex projectAccessIndex;
+    private final TaskCache taskCache;
+    private final DueDateReminderScheduler dueDateReminderScheduler;
+    private final ProjectStatistics projectStatistics;
+    private final ActivityLog activityLog;
 
     /**
      * Creates a new task within a specified project.
@@ -45,11 +74,6 @@ public class TaskService {
      * @throws UnauthorizedException if the current user is not authorized for the project.
      */
     @Transactional
-    @Caching(evict = {
-            @CacheEvict(value = "tasksByProject", key = "#request.projectId"),
-            @CacheEvict(value = "tasksByUser", allEntries = true),
-            @CacheEvict(value = "taskById", allEntries = true)
-    })
     public TaskResponse createTask(TaskCreateRequest request) {
         Long currentUserId = UserContext.getCurrentUserId();
 
@@ -57,8 +81,7 @@ public class TaskService {
                 .orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + request.getProjectId()));
 
         // Check if current user is owner or collaborator of the project
-        if (!project.getOwner().getId().equals(currentUserId) &&
-            project.getCollaborators().stream().noneMatch(c -> c.getId().equals(currentUserId))) {
+        if (!projectAccessIndex.isMember(project.getId(), currentUserId)) {
             throw new UnauthorizedException("You are not authorized to create tasks in this project.");
         }
 
@@ -67,7 +90,7 @@ public class TaskService {
             assignedTo = userRepository.findById(request.getAssignedToId())
                     .orElseThrow(() -> new ResourceNotFoundException("Assigned user not found with id: " + request.getAssignedToId()));
             // Ensure assigned user is also a collaborator (optional, depending on business logic)
-            if (!project.getCollaborators().contains(assignedTo) && !project.getOwner().equals(assignedTo)) {
+            if (!projectAccessIndex.isMember(project.getId(), assignedTo.getId())) {
                 throw new IllegalArgumentException("Assigned user must be a collaborator or owner of the project.");
             }
         }
@@ -81,7 +104,12 @@ public class TaskService {
         task.setStatus(TaskStatus.OPEN); // Default status
 
         Task savedTask = taskRepository.save(task);
-        return mapToTaskResponse(savedTask);
+        TaskResponse response = mapToTaskResponse(savedTask);
+        taskCache.taskSaved(response, null);
+        dueDateReminderScheduler.tasksChanged(List.of(savedTask));
+        projectStatistics.tasksChanged(List.of(), List.of(ProjectStatistics.TaskState.of(savedTask)));
+        activityLog.record(project.getId(), savedTask.getId(), ActivityType.TASK_CREATED, "Created task '" + savedTask.getTitle() + "'");
+        return response;
     }
 
     /**
@@ -93,19 +121,16 @@ public class TaskService {
      * @throws UnauthorizedException if the current user is not authorized to view the task.
      */
     @Transactional(readOnly = true)
-    @Cacheable(value = "taskById", key = "#id")
     public TaskResponse getTaskById(Long id) {
         Long currentUserId = UserContext.getCurrentUserId();
-        Task task = taskRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
+        TaskResponse task = taskCache.getTask(id, taskId -> mapToTaskResponse(taskRepository.findById(taskId)
+                .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + taskId))));
 
-        Project project = task.getProject();
-        if (!project.getOwner().getId().equals(currentUserId) &&
-            project.getCollaborators().stream().noneMatch(c -> c.getId().equals(currentUserId))) {
+        if (!projectAccessIndex.isMember(task.getProjectId(), currentUserId)) {
             throw new UnauthorizedException("You are not authorized to view this task.");
         }
 
-        return mapToTaskResponse(task);
+        return task;
     }
 
     /**
@@ -117,20 +142,19 @@ public class TaskService {
      * @throws UnauthorizedException if the current user is not authorized for the project.
      */
     @Transactional(readOnly = true)
-    @Cacheable(value = "tasksByProject", key = "#projectId")
     public List<TaskResponse> getTasksByProjectId(Long projectId) {
         Long currentUserId = UserContext.getCurrentUserId();
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + projectId));
+        if (!projectAccessIndex.exists(projectId)) {
+            throw new ResourceNotFoundException("Project not found with id: " + projectId);
+        }
 
-        if (!project.getOwner().getId().equals(currentUserId) &&
-            project.getCollaborators().stream().noneMatch(c -> c.getId().equals(currentUserId))) {
+        if (!projectAccessIndex.isMember(projectId, currentUserId)) {
             throw new UnauthorizedException("You are not authorized to view tasks in this project.");
         }
 
-        return taskRepository.findByProjectId(projectId).stream()
+        return taskCache.getProjectTasks(projectId, id -> taskRepository.findByProjectId(id).stream()
                 .map(this::mapToTaskResponse)
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()));
     }
 
     /**
@@ -138,12 +162,70 @@ public class TaskService {
      * @return List of TaskResponse DTOs.
      */
     @Transactional(readOnly = true)
-    @Cacheable(value = "tasksByUser", key = "#root.methodName + '-' + T(com.alx.taskmgr.util.UserContext).getCurrentUserId()")
     public List<TaskResponse> getTasksAssignedToCurrentUser() {
         Long currentUserId = UserContext.getCurrentUserId();
-        return taskRepository.findByAssignedToId(currentUserId).stream()
+        return taskCache.getAssignedTasks(currentUserId, id -> taskRepository.findByAssignedToId(id).stream()
                 .map(this::mapToTaskResponse)
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Queries one page of tasks, filtered by status and due-date range, in (dueDate, id) order with undated
+     * tasks last. With a projectId the page covers that project, which the current user must belong to;
+     * without one it covers the tasks assigned to the current user.
+     * The page is read by keyset, so its cost does not grow with the position, and rows are read as DTOs.
+     * @param query Filters, page size and the cursor returned with the previous page, if any.
+     * @return The page and the cursor of the next page, or a null cursor on the last page.
+     * @throws ResourceNotFoundException if the project is not found.
+     * @throws UnauthorizedException if the current user is not authorized for the project.
+     * @throws IllegalArgumentException if the cursor is malformed.
+     */
+    @Transactional(readOnly = true)
+    public TaskPageResponse queryTasks(TaskQueryRequest query) {
+        Long currentUserId = UserContext.getCurrentUserId();
+        Cursor after = query.getCursor() != null && !query.getCursor().isEmpty()
+                ? decodeCursor(query.getCursor())
+                : new Cursor(null, null);
+        // One extra row tells whether another page follows, without a count query
+        int limit = query.getSize() + 1;
+        Long projectId = query.getProjectId();
+        if (projectId != null) {
+            if (!projectAccessIndex.exists(projectId)) {
+                throw new ResourceNotFoundException("Project not found with id: " + projectId);
+            }
+            if (!projectAccessIndex.isMember(projectId, currentUserId)) {
+                throw new UnauthorizedException("You are not authorized to view tasks in this project.");
+            }
+        }
+
+        List<TaskSummaryResponse> rows = new ArrayList<>(limit);
+        boolean inUndatedTasks = after.id() != null && after.dueDate() == null;
+        if (!inUndatedTasks) {
+            LocalDateTime start = after.id() != null ? after.dueDate()
+                    : query.getDueFrom() != null ? query.getDueFrom() : EARLIEST_DUE_DATE;
+            LocalDateTime end = query.getDueTo() != null ? query.getDueTo() : LATEST_DUE_DATE;
+            Long afterId = after.id() != null ? after.id() : 0L; // IDs are positive
+            rows.addAll(projectId != null
+                    ? taskRepository.findDatedPageByProjectId(projectId, query.getStatus(), start, end, afterId,
+                            PageRequest.of(0, limit))
+                    : taskRepository.findDatedPageByAssignedToId(currentUserId, query.getStatus(), start, end, afterId,
+                            PageRequest.of(0, limit)));
+        }
+        // Undated tasks follow the dated ones, and never match a due-date range
+        if (rows.size() < limit && query.getDueFrom() == null && query.getDueTo() == null) {
+            Long afterId = inUndatedTasks ? after.id() : 0L;
+            PageRequest remaining = PageRequest.of(0, limit - rows.size());
+            rows.addAll(projectId != null
+                    ? taskRepository.findUndatedPageByProjectId(projectId, query.getStatus(), afterId, remaining)
+                    : taskRepository.findUndatedPageByAssignedToId(currentUserId, query.getStatus(), afterId, remaining));
+        }
+
+        if (rows.size() <= query.getSize()) {
+            return new TaskPageResponse(List.copyOf(rows), null);
+        }
+        List<TaskSummaryResponse> items = rows.subList(0, query.getSize());
+        TaskSummaryResponse last = items.get(items.size() - 1);
+        return new TaskPageResponse(List.copyOf(items), encodeCursor(last.getDueDate(), last.getId()));
     }
 
     /**
@@ -156,22 +238,18 @@ public class TaskService {
      * @throws UnauthorizedException if the current user is not authorized for the project.
      */
     @Transactional
-    @Caching(evict = {
-            @CacheEvict(value = "tasksByProject", key = "#result.projectId"),
-            @CacheEvict(value = "tasksByUser", allEntries = true),
-            @CacheEvict(value = "taskById", key = "#id")
-    })
     public TaskResponse updateTask(Long id, TaskUpdateRequest request) {
         Long currentUserId = UserContext.getCurrentUserId();
         Task task = taskRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
 
         Project project = task.getProject();
-        if (!project.getOwner().getId().equals(currentUserId) &&
-            project.getCollaborators().stream().noneMatch(c -> c.getId().equals(currentUserId))) {
+        if (!projectAccessIndex.isMember(project.getId(), currentUserId)) {
             throw new UnauthorizedException("You are not authorized to update this task.");
         }
 
+        Long previousAssigneeId = task.getAssignedTo() != null ? task.getAssignedTo().getId() : null;
+        ProjectStatistics.TaskState before = ProjectStatistics.TaskState.of(task);
         Optional.ofNullable(request.getTitle()).ifPresent(task::setTitle);
         Optional.ofNullable(request.getDescription()).ifPresent(task::setDescription);
         Optional.ofNullable(request.getStatus()).ifPresent(task::setStatus);
@@ -181,7 +259,7 @@ public class TaskService {
             User assignedTo = userRepository.findById(request.getAssignedToId())
                     .orElseThrow(() -> new ResourceNotFoundException("Assigned user not found with id: " + request.getAssignedToId()));
             // Ensure assigned user is also a collaborator (optional)
-            if (!project.getCollaborators().contains(assignedTo) && !project.getOwner().equals(assignedTo)) {
+            if (!projectAccessIndex.isMember(project.getId(), assignedTo.getId())) {
                 throw new IllegalArgumentException("Assigned user must be a collaborator or owner of the project.");
             }
             task.setAssignedTo(assignedTo);
@@ -194,7 +272,12 @@ public class TaskService {
 
 
         Task updatedTask = taskRepository.save(task);
-        return mapToTaskResponse(updatedTask);
+        TaskResponse response = mapToTaskResponse(updatedTask);
+        taskCache.taskSaved(response, previousAssigneeId); // Moves it between assignee lists if reassigned
+        dueDateReminderScheduler.tasksChanged(List.of(updatedTask));
+        projectStatistics.tasksChanged(List.of(before), List.of(ProjectStatistics.TaskState.of(updatedTask)));
+        activityLog.record(project.getId(), id, ActivityType.TASK_UPDATED, "Updated task '" + updatedTask.getTitle() + "'");
+        return response;
     }
 
     /**
@@ -205,22 +288,264 @@ public class TaskService {
      * @throws UnauthorizedException if the current user is not authorized to delete the task.
      */
     @Transactional
-    @Caching(evict = {
-            @CacheEvict(value = "tasksByProject", key = "#result.project.id", condition = "#result != null"),
-            @CacheEvict(value = "tasksByUser", allEntries = true),
-            @CacheEvict(value = "taskById", key = "#id")
-    })
     public void deleteTask(Long id) {
         Long currentUserId = UserContext.getCurrentUserId();
         Task task = taskRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
 
         Project project = task.getProject();
-        if (!project.getOwner().getId().equals(currentUserId)) {
+        if (!projectAccessIndex.isOwner(project.getId(), currentUserId)) {
             // Only project owner can delete tasks in this implementation
             throw new UnauthorizedException("You are not authorized to delete this task. Only the project owner can.");
         }
         taskRepository.delete(task);
+        taskCache.taskDeleted(id, project.getId(), task.getAssignedTo() != null ? task.getAssignedTo().getId() : null);
+        dueDateReminderScheduler.tasksRemoved(List.of(id));
+        projectStatistics.tasksChanged(List.of(ProjectStatistics.TaskState.of(task)), List.of());
+        activityLog.record(project.getId(), id, ActivityType.TASK_DELETED, "Deleted task '" + task.getTitle() + "'");
+    }
+
+    /**
+     * Creates many tasks in one transaction.
+     * Each distinct project is authorized once and all assignees are loaded with one query; the inserts are
+     * sent in JDBC batches (hibernate.jdbc.batch_size) when the transaction commits.
+     * @param request The tasks to create.
+     * @return TaskResponse DTOs of the created tasks, in request order.
+     * @throws ResourceNotFoundException if a project or assigned user is not found.
+     * @throws UnauthorizedException if the current user is not authorized for one of the projects.
+     */
+    @Transactional
+    public List<TaskResponse> createTasks(TaskBulkCreateRequest request) {
+        Long currentUserId = UserContext.getCurrentUserId();
+        List<TaskCreateRequest> items = request.getTasks();
+
+        Set<Long> projectIds = items.stream().map(TaskCreateRequest::getProjectId).collect(Collectors.toSet());
+        for (Long projectId : projectIds) {
+            if (!projectAccessIndex.exists(projectId)) {
+                throw new ResourceNotFoundException("Project not found with id: " + projectId);
+            }
+            if (!projectAccessIndex.isMember(projectId, currentUserId)) {
+                throw new UnauthorizedException("You are not authorized to create tasks in project " + projectId + ".");
+            }
+        }
+
+        Set<Long> assigneeIds = items.stream()
+                .map(TaskCreateRequest::getAssignedToId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, User> assignees = userRepository.findAllById(assigneeIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        List<Task> tasks = new ArrayList<>(items.size());
+        for (TaskCreateRequest item : items) {
+            User assignedTo = null;
+            if (item.getAssignedToId() != null) {
+                assignedTo = assignees.get(item.getAssignedToId());
+                if (assignedTo == null) {
+                    throw new ResourceNotFoundException("Assigned user not found with id: " + item.getAssignedToId());
+                }
+                if (!projectAccessIndex.isMember(item.getProjectId(), assignedTo.getId())) {
+                    throw new IllegalArgumentException("Assigned user must be a collaborator or owner of the project.");
+                }
+            }
+
+            Task task = new Task();
+            task.setTitle(item.getTitle());
+            task.setDescription(item.getDescription());
+            task.setProject(projectRepository.getReferenceById(item.getProjectId())); // Existence checked above
+            task.setAssignedTo(assignedTo);
+            task.setDueDate(item.getDueDate());
+            task.setStatus(TaskStatus.OPEN);
+            tasks.add(task);
+        }
+
+        List<Task> savedTasks = taskRepository.saveAll(tasks);
+        List<TaskResponse> responses = savedTasks.stream()
+                .map(this::mapToTaskResponse)
+                .collect(Collectors.toList());
+        taskCache.tasksChanged(List.of(), projectIds, assigneeIds);
+        dueDateReminderScheduler.tasksChanged(savedTasks);
+        projectStatistics.tasksChanged(List.of(), savedTasks.stream().map(ProjectStatistics.TaskState::of).toList());
+        savedTasks.forEach(savedTask -> activityLog.record(savedTask.getProject().getId(), savedTask.getId(),
+                ActivityType.TASK_CREATED, "Created task '" + savedTask.getTitle() + "'"));
+        return responses;
+    }
+
+    /**
+     * Sets the status of many tasks with a single update statement.
+     * The current user must be a collaborator or owner of every task's project.
+     * @param request The task IDs and the new status.
+     * @throws ResourceNotFoundException if a task is not found.
+     * @throws UnauthorizedException if the current user is not authorized for one of the projects.
+     */
+    @Transactional
+    public void updateTaskStatuses(TaskBulkStatusRequest request) {
+        List<TaskRepository.TaskRefView> refs = loadAuthorizedTaskRefs(request.getTaskIds(), false,
+                "You are not authorized to update tasks in project ");
+
+        taskRepository.updateStatusByIdIn(request.getTaskIds(), request.getStatus(), LocalDateTime.now());
+        invalidate(refs, null);
+        dueDateReminderScheduler.statusChanged(request.getTaskIds(), request.getStatus());
+        projectStatistics.tasksChanged(states(refs), refs.stream()
+                .map(ref -> new ProjectStatistics.TaskState(ref.getProjectId(), ref.getAssignedToId(), request.getStatus(), ref.getDueDate()))
+                .toList());
+        refs.forEach(ref -> activityLog.record(ref.getProjectId(), ref.getId(), ActivityType.TASK_STATUS_CHANGED,
+                "Status changed from " + ref.getStatus() + " to " + request.getStatus()));
+    }
+
+    /**
+     * Assigns many tasks to one user, or unassigns them, with a single update statement.
+     * The current user must be a collaborator or owner of every task's project, and so must the assignee.
+     * @param request The task IDs and the new assignee's ID, or null to unassign.
+     * @throws ResourceNotFoundException if a task or the assigned user is not found.
+     * @throws UnauthorizedException if the current user is not authorized for one of the projects.
+     */
+    @Transactional
+    public void reassignTasks(TaskBulkAssignRequest request) {
+        List<TaskRepository.TaskRefView> refs = loadAuthorizedTaskRefs(request.getTaskIds(), false,
+                "You are not authorized to update tasks in project ");
+
+        User assignedTo = null;
+        if (request.getAssignedToId() != null) {
+            if (!userRepository.existsById(request.getAssignedToId())) {
+                throw new ResourceNotFoundException("Assigned user not found with id: " + request.getAssignedToId());
+            }
+            for (TaskRepository.TaskRefView ref : refs) {
+                if (!projectAccessIndex.isMember(ref.getProjectId(), request.getAssignedToId())) {
+                    throw new IllegalArgumentException("Assigned user must be a collaborator or owner of the project.");
+                }
+            }
+            assignedTo = userRepository.getReferenceById(request.getAssignedToId());
+        }
+
+        taskRepository.updateAssignedToByIdIn(request.getTaskIds(), assignedTo, LocalDateTime.now());
+        invalidate(refs, request.getAssignedToId());
+        projectStatistics.tasksChanged(states(refs), refs.stream()
+                .map(ref -> new ProjectStatistics.TaskState(ref.getProjectId(), request.getAssignedToId(), ref.getStatus(), ref.getDueDate()))
+                .toList());
+        String assignment = request.getAssignedToId() != null ? "Assigned to user " + request.getAssignedToId() : "Unassigned";
+        refs.forEach(ref -> activityLog.record(ref.getProjectId(), ref.getId(), ActivityType.TASK_REASSIGNED, assignment));
+    }
+
+    /**
+     * Deletes many tasks with a single delete statement.
+     * The current user must be the owner of every task's project.
+     * @param request The IDs of the tasks to delete.
+     * @throws ResourceNotFoundException if a task is not found.
+     * @throws UnauthorizedException if the current user does not own one of the projects.
+     */
+    @Transactional
+    public void deleteTasks(TaskBulkDeleteRequest request) {
+        List<TaskRepository.TaskRefView> refs = loadAuthorizedTaskRefs(request.getTaskIds(), true,
+                "Only the project owner can delete tasks in project ");
+
+        taskRepository.deleteByIdIn(request.getTaskIds());
+        invalidate(refs, null);
+        dueDateReminderScheduler.tasksRemoved(request.getTaskIds());
+        projectStatistics.tasksChanged(states(refs), List.of());
+        refs.forEach(ref -> activityLog.record(ref.getProjectId(), ref.getId(), ActivityType.TASK_DELETED, "Deleted task"));
+    }
+
+    /**
+     * Locks the given tasks, loads their project and assignee IDs with one query and authorizes the current user
+     * once per distinct project. The row locks are held until the transaction ends, so no concurrent write can
+     * change a task between this read and the bulk statement; the cache, statistics and activity deltas
+     * computed from the returned state are therefore exact.
+     * @param taskIds The IDs of the tasks.
+     * @param ownerOnly Whether the current user must own the projects rather than just belong to them.
+     * @param deniedMessage Start of the error message, completed with the project ID.
+     * @return The ID-only views of the tasks.
+     * @throws ResourceNotFoundException if any task is not found.
+     * @throws UnauthorizedException if the current user is not authorized for one of the projects.
+     */
+    private List<TaskRepository.TaskRefView> loadAuthorizedTaskRefs(List<Long> taskIds, boolean ownerOnly, String deniedMessage) {
+        Long currentUserId = UserContext.getCurrentUserId();
+        taskRepository.lockByIdIn(taskIds);
+        List<TaskRepository.TaskRefView> refs = taskRepository.findRefsByIdIn(taskIds);
+
+        Set<Long> missing = new HashSet<>(taskIds);
+        refs.forEach(ref -> missing.remove(ref.getId()));
+        if (!missing.isEmpty()) {
+            throw new ResourceNotFoundException("Tasks not found with ids: " + missing);
+        }
+
+        Set<Long> projectIds = refs.stream().map(TaskRepository.TaskRefView::getProjectId).collect(Collectors.toSet());
+        for (Long projectId : projectIds) {
+            boolean allowed = ownerOnly
+                    ? projectAccessIndex.isOwner(projectId, currentUserId)
+                    : projectAccessIndex.isMember(projectId, currentUserId);
+            if (!allowed) {
+                throw new UnauthorizedException(deniedMessage + projectId + ".");
+            }
+        }
+        return refs;
+    }
+
+    /**
+     * Invalidates the cache entries of a bulk-changed set of tasks in one step.
+     * @param refs The changed tasks, as they were before the change.
+     * @param newAssigneeId The new assignee of all the tasks, or null.
+     */
+    private void invalidate(List<TaskRepository.TaskRefView> refs, Long newAssigneeId) {
+        Set<Long> taskIds = new HashSet<>();
+        Set<Long> projectIds = new HashSet<>();
+        Set<Long> assigneeIds = new HashSet<>();
+        for (TaskRepository.TaskRefView ref : refs) {
+            taskIds.add(ref.getId());
+            projectIds.add(ref.getProjectId());
+            if (ref.getAssignedToId() != null) {
+                assigneeIds.add(ref.getAssignedToId());
+            }
+        }
+        if (newAssigneeId != null) {
+            assigneeIds.add(newAssigneeId);
+        }
+        taskCache.tasksChanged(taskIds, projectIds, assigneeIds);
+    }
+
+    /**
+     * Maps ID-only task views to the state counted by {@link ProjectStatistics}.
+     * @param refs The tasks, as they were before a bulk change.
+     * @return Their counted states.
+     */
+    private static List<ProjectStatistics.TaskState> states(List<TaskRepository.TaskRefView> refs) {
+        return refs.stream().map(ProjectStatistics.TaskState::of).toList();
+    }
+
+    /**
+     * Encodes the position after a row as an opaque, URL-safe cursor.
+     * @param dueDate The row's due date, or null.
+     * @param id The row's ID.
+     * @return The cursor.
+     */
+    private static String encodeCursor(LocalDateTime dueDate, Long id) {
+        String position = (dueDate != null ? dueDate.toString() : "") + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor produced by {@link #encodeCursor}.
+     * @param cursor The cursor from a previous page.
+     * @return The position after which the next page starts.
+     * @throws IllegalArgumentException if the cursor is malformed.
+     */
+    private static Cursor decodeCursor(String cursor) {
+        try {
+            String[] position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|", -1);
+            if (position.length != 2) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            LocalDateTime dueDate = position[0].isEmpty() ? null : LocalDateTime.parse(position[0]);
+            return new Cursor(dueDate, Long.valueOf(position[1])); // NumberFormatException is an IllegalArgumentException
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+
+    /**
+     * Position of the last row of a page: its due date, null for undated tasks, and its ID.
+     */
+    private record Cursor(LocalDateTime dueDate, Long id) {
     }
 
     /**
@@ -34,6 +34,7 @@ public class UserService implements UserDetailsService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final TaskCache taskCache; // Cached tasks embed their assignee's username and email
 
     // In a real application, roles would be managed by a separate RoleRepository
     // For simplicity, we'll hardcode them or manage them in the User Service itself during initialization.
@@ -168,6 +169,7 @@ public class UserService implements UserDetailsService {
             throw new ResourceNotFoundException("User not found with id: " + id);
         }
         userRepository.deleteById(id);
+        taskCache.userChanged(id);
     }
 
     /**
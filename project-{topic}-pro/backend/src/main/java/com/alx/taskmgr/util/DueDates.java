@@ -0,0 +1,35 @@
+package com.alx.taskmgr.util;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Comparison of task due dates as the database stores them.
+ * The database rounds to microseconds, so a due date taken from a saved entity may differ slightly from the
+ * stored one read back later. Components that match the two compare them at millisecond precision.
+ */
+public final class DueDates {
+
+    private DueDates() {
+    }
+
+    /**
+     * Truncates a due date to the precision at which due dates are compared, for use as a key.
+     * @param dueDate The due date.
+     * @return The due date truncated to milliseconds.
+     */
+    public static LocalDateTime normalize(LocalDateTime dueDate) {
+        return dueDate.truncatedTo(ChronoUnit.MILLIS);
+    }
+
+    /**
+     * Tells whether two due dates are the same once stored.
+     * @param a A due date, or null.
+     * @param b Another due date, or null.
+     * @return Whether both are set and less than a millisecond apart.
+     */
+    public static boolean same(LocalDateTime a, LocalDateTime b) {
+        return a != null && b != null && Duration.between(a, b).abs().toMillis() < 1;
+    }
+}
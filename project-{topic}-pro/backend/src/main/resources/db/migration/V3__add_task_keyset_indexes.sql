@@ -0,0 +1,9 @@
+-- Composite indexes for the keyset-paginated task query (GET /api/tasks/query).
+-- Each matches the query's ORDER BY due_date ASC NULLS LAST, id ASC within one project or one assignee,
+-- so a page is read in index order and stops after LIMIT rows instead of sorting every task of the scope.
+CREATE INDEX idx_tasks_project_due_date_id ON tasks(project_id, due_date, id);
+CREATE INDEX idx_tasks_assigned_to_due_date_id ON tasks(assigned_to_id, due_date, id);
+
+-- The single-column indexes are prefixes of the composite ones; keeping them would only slow down writes
+DROP INDEX IF EXISTS idx_tasks_project_id;
+DROP INDEX IF EXISTS idx_tasks_assigned_to_id;
@@ -0,0 +1,4 @@
+-- Tasks now take their IDs from tasks_id_seq through a pooled Hibernate sequence generator (allocationSize = 50)
+-- instead of IDENTITY, so bulk task creation can be sent as batched inserts.
+-- Each nextval reserves the 50 IDs up to the returned value, so the sequence has to step by the same amount.
+ALTER SEQUENCE tasks_id_seq INCREMENT BY 50;
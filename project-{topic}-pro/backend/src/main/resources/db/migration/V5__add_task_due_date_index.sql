@@ -0,0 +1,3 @@
+-- Supports the due-date range scan with which DueDateReminderScheduler loads upcoming deadlines.
+-- The composite indexes of V3 lead with project_id and assigned_to_id, so they cannot serve it.
+CREATE INDEX IF NOT EXISTS idx_tasks_due_date ON tasks(due_date);
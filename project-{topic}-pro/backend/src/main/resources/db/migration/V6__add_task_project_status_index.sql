@@ -0,0 +1,2 @@
+-- Lets ProjectStatistics reconcile a project's counts by status and assignee with an index-only scan.
+CREATE INDEX IF NOT EXISTS idx_tasks_project_status_assignee ON tasks(project_id, status, assigned_to_id);
@@ -0,0 +1,25 @@
+-- Append-only activity log of project and task changes, written in batches by ActivityLog.
+-- Rows are never updated or deleted, and every read is scoped to one project, so the table is hash-partitioned
+-- on project_id: a project's history lives in one partition and a page is an index range scan on (project_id, id).
+-- There are no foreign keys, so the history outlives deleted tasks and projects.
+CREATE SEQUENCE activity_events_id_seq INCREMENT BY 50; -- Pooled by Hibernate (allocationSize = 50) for batched inserts
+
+CREATE TABLE activity_events (
+    id BIGINT NOT NULL,
+    project_id BIGINT NOT NULL,
+    task_id BIGINT,
+    actor_id BIGINT,
+    type VARCHAR(50) NOT NULL,
+    summary VARCHAR(500),
+    occurred_at TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    PRIMARY KEY (project_id, id)
+) PARTITION BY HASH (project_id);
+
+CREATE TABLE activity_events_p0 PARTITION OF activity_events FOR VALUES WITH (MODULUS 8, REMAINDER 0);
+CREATE TABLE activity_events_p1 PARTITION OF activity_events FOR VALUES WITH (MODULUS 8, REMAINDER 1);
+CREATE TABLE activity_events_p2 PARTITION OF activity_events FOR VALUES WITH (MODULUS 8, REMAINDER 2);
+CREATE TABLE activity_events_p3 PARTITION OF activity_events FOR VALUES WITH (MODULUS 8, REMAINDER 3);
+CREATE TABLE activity_events_p4 PARTITION OF activity_events FOR VALUES WITH (MODULUS 8, REMAINDER 4);
+CREATE TABLE activity_events_p5 PARTITION OF activity_events FOR VALUES WITH (MODULUS 8, REMAINDER 5);
+CREATE TABLE activity_events_p6 PARTITION OF activity_events FOR VALUES WITH (MODULUS 8, REMAINDER 6);
+CREATE TABLE activity_events_p7 PARTITION OF activity_events FOR VALUES WITH (MODULUS 8, REMAINDER 7);
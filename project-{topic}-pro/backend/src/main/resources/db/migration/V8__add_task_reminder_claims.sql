@@ -0,0 +1,5 @@
+-- The due date for which each reminder of a task was last sent. DueDateReminderScheduler claims a reminder by
+-- setting its column with a conditional UPDATE before sending it, so with several instances only one of them sends
+-- it, and a restart does not send it again. A rescheduled task no longer matches its claims and is reminded again.
+ALTER TABLE tasks ADD COLUMN due_soon_reminded_for TIMESTAMP WITHOUT TIME ZONE;
+ALTER TABLE tasks ADD COLUMN overdue_reminded_for TIMESTAMP WITHOUT TIME ZONE;
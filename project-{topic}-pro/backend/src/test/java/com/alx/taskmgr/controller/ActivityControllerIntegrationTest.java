@@ -0,0 +1,193 @@
+package com.alx.taskmgr.controller;
+
+import com.alx.taskmgr.dto.auth.LoginRequest;
+import com.alx.taskmgr.dto.user.UserCreateRequest;
+import com.alx.taskmgr.entity.ActivityEvent;
+import com.alx.taskmgr.entity.Project;
+import com.alx.taskmgr.entity.User;
+import com.alx.taskmgr.entity.enums.ActivityType;
+import com.alx.taskmgr.repository.ActivityEventRepository;
+import com.alx.taskmgr.repository.ProjectRepository;
+import com.alx.taskmgr.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for ActivityController using Testcontainers for a real PostgreSQL database.
+ * Events are saved through the repository, as the activity log writes them on a background thread.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Testcontainers
+class ActivityControllerIntegrationTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("testdb")
+            .withUsername("testuser")
+            .withPassword("testpass");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.flyway.enabled", () -> "true");
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ProjectRepository projectRepository;
+    @Autowired
+    private ActivityEventRepository activityEventRepository;
+
+    private String memberToken;
+    private String outsiderToken;
+    private Project project;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        activityEventRepository.deleteAll();
+        projectRepository.deleteAll();
+        userRepository.deleteAll();
+
+        memberToken = signUpAndSignIn("activitymember");
+        outsiderToken = signUpAndSignIn("activityoutsider");
+
+        User member = userRepository.findByUsername("activitymember").orElseThrow();
+        project = new Project();
+        project.setName("Activity Project");
+        project.setOwner(member);
+        project.setCollaborators(Set.of(member));
+        projectRepository.save(project);
+
+        for (int i = 1; i <= 3; i++) {
+            ActivityEvent event = new ActivityEvent();
+            event.setProjectId(project.getId());
+            event.setActorId(member.getId());
+            event.setType(ActivityType.PROJECT_UPDATED);
+            event.setSummary("Update " + i);
+            event.setOccurredAt(LocalDateTime.now());
+            activityEventRepository.save(event);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        activityEventRepository.deleteAll();
+        projectRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should page through a project's activity, newest first")
+    void shouldPageThroughActivity() throws Exception {
+        String firstPage = mockMvc.perform(get("/api/projects/{projectId}/activity", project.getId())
+                        .param("size", "2")
+                        .header("Authorization", "Bearer " + memberToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(2)))
+                .andExpect(jsonPath("$.items[0].summary", is("Update 3")))
+                .andExpect(jsonPath("$.items[1].summary", is("Update 2")))
+                .andReturn().getResponse().getContentAsString();
+        long cursor = objectMapper.readTree(firstPage).get("nextCursor").asLong();
+
+        mockMvc.perform(get("/api/projects/{projectId}/activity", project.getId())
+                        .param("size", "2")
+                        .param("cursor", String.valueOf(cursor))
+                        .header("Authorization", "Bearer " + memberToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].summary", is("Update 1")))
+                .andExpect(jsonPath("$.nextCursor", nullValue()));
+    }
+
+    @Test
+    @DisplayName("Should reject an invalid page size")
+    void shouldRejectInvalidPageSize() throws Exception {
+        mockMvc.perform(get("/api/projects/{projectId}/activity", project.getId())
+                        .param("size", "0")
+                        .header("Authorization", "Bearer " + memberToken))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should return 403 when a non-member reads or streams a project's activity")
+    void shouldReturn403ForNonMember() throws Exception {
+        mockMvc.perform(get("/api/projects/{projectId}/activity", project.getId())
+                        .header("Authorization", "Bearer " + outsiderToken))
+                .andExpect(status().isForbidden());
+
+        mockMvc.perform(get("/api/projects/{projectId}/activity/stream", project.getId())
+                        .header("Authorization", "Bearer " + outsiderToken))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("Should open a live stream for a member of the project")
+    void shouldOpenStreamForMember() throws Exception {
+        mockMvc.perform(get("/api/projects/{projectId}/activity/stream", project.getId())
+                        .accept(MediaType.TEXT_EVENT_STREAM)
+                        .header("Authorization", "Bearer " + memberToken))
+                .andExpect(status().isOk())
+                .andExpect(request().asyncStarted());
+    }
+
+    @Test
+    @DisplayName("Should return 404 for the activity of a non-existent project")
+    void shouldReturn404ForMissingProject() throws Exception {
+        mockMvc.perform(get("/api/projects/{projectId}/activity", 9999L)
+                        .header("Authorization", "Bearer " + memberToken))
+                .andExpect(status().isNotFound());
+    }
+
+    private String signUpAndSignIn(String username) throws Exception {
+        UserCreateRequest signUp = new UserCreateRequest();
+        signUp.setUsername(username);
+        signUp.setEmail(username + "@example.com");
+        signUp.setPassword("password123");
+        mockMvc.perform(post("/api/auth/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(signUp)))
+                .andExpect(status().isCreated());
+
+        LoginRequest signIn = new LoginRequest();
+        signIn.setUsername(username);
+        signIn.setPassword("password123");
+        String response = mockMvc.perform(post("/api/auth/signin")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(signIn)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(response).get("token").asText();
+    }
+}
@@ -0,0 +1,126 @@
+package com.alx.taskmgr.repository;
+
+import com.alx.taskmgr.dto.task.TaskSummaryResponse;
+import com.alx.taskmgr.entity.Project;
+import com.alx.taskmgr.entity.Task;
+import com.alx.taskmgr.entity.User;
+import com.alx.taskmgr.entity.enums.TaskStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for the keyset task queries of TaskRepository, using H2 in-memory database.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@ActiveProfiles("test")
+class TaskRepositoryTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 9, 0);
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private User assignee;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        assignee = new User();
+        assignee.setUsername("assignee");
+        assignee.setEmail("assignee@example.com");
+        assignee.setPassword("password");
+        assignee.setCreatedAt(BASE);
+        entityManager.persist(assignee);
+
+        project = new Project();
+        project.setName("Keyset Project");
+        project.setOwner(assignee);
+        project.setCreatedAt(BASE);
+        entityManager.persist(project);
+    }
+
+    @Test
+    @DisplayName("Should page through tasks in due date order with shared due dates and undated tasks last")
+    void shouldPageByDueDateThenIdWithUndatedLast() {
+        List<Long> expected = new ArrayList<>();
+        expected.add(persistTask(BASE.plusDays(1), TaskStatus.OPEN));
+        expected.add(persistTask(BASE.plusDays(2), TaskStatus.OPEN)); // Three tasks share this due date
+        expected.add(persistTask(BASE.plusDays(2), TaskStatus.OPEN));
+        expected.add(persistTask(BASE.plusDays(2), TaskStatus.OPEN));
+        expected.add(persistTask(BASE.plusDays(3), TaskStatus.OPEN));
+        expected.add(persistTask(null, TaskStatus.OPEN));
+        expected.add(persistTask(null, TaskStatus.OPEN));
+        entityManager.flush();
+        entityManager.clear();
+
+        List<Long> seen = new ArrayList<>();
+        LocalDateTime startDueDate = BASE.minusYears(1);
+        Long afterId = 0L;
+        List<TaskSummaryResponse> page;
+        do {
+            page = taskRepository.findDatedPageByProjectId(project.getId(), null, startDueDate, BASE.plusYears(1),
+                    afterId, PageRequest.of(0, 2));
+            page.forEach(row -> seen.add(row.getId()));
+            if (!page.isEmpty()) {
+                startDueDate = page.get(page.size() - 1).getDueDate();
+                afterId = page.get(page.size() - 1).getId();
+            }
+        } while (page.size() == 2);
+        afterId = 0L;
+        do {
+            page = taskRepository.findUndatedPageByProjectId(project.getId(), null, afterId, PageRequest.of(0, 1));
+            page.forEach(row -> seen.add(row.getId()));
+            if (!page.isEmpty()) {
+                afterId = page.get(0).getId();
+            }
+        } while (!page.isEmpty());
+
+        assertThat(seen).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("Should apply status and due date filters to the tasks of an assignee")
+    void shouldFilterAssignedTasksByStatusAndDueDate() {
+        Long inRange = persistTask(BASE.plusDays(2), TaskStatus.IN_PROGRESS);
+        persistTask(BASE.plusDays(2), TaskStatus.OPEN); // Other status
+        persistTask(BASE.plusDays(10), TaskStatus.IN_PROGRESS); // Outside the range
+        persistTask(null, TaskStatus.IN_PROGRESS); // Undated tasks are not part of the dated query
+        entityManager.flush();
+        entityManager.clear();
+
+        List<TaskSummaryResponse> page = taskRepository.findDatedPageByAssignedToId(assignee.getId(),
+                TaskStatus.IN_PROGRESS, BASE, BASE.plusDays(5), 0L, PageRequest.of(0, 10));
+
+        assertThat(page).extracting(TaskSummaryResponse::getId).containsExactly(inRange);
+        assertThat(page.get(0).getAssignedToUsername()).isEqualTo("assignee");
+        assertThat(page.get(0).getProjectId()).isEqualTo(project.getId());
+    }
+
+    private Long persistTask(LocalDateTime dueDate, TaskStatus status) {
+        Task task = new Task();
+        task.setTitle("Task");
+        task.setStatus(status);
+        task.setProject(project);
+        task.setAssignedTo(assignee);
+        task.setDueDate(dueDate);
+        task.setCreatedAt(BASE);
+        return entityManager.persist(task).getId();
+    }
+}
@@ -0,0 +1,150 @@
+package com.alx.taskmgr.service;
+
+import com.alx.taskmgr.entity.ActivityEvent;
+import com.alx.taskmgr.entity.enums.ActivityType;
+import com.alx.taskmgr.repository.ActivityEventRepository;
+import com.alx.taskmgr.util.UserContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the ActivityLog.
+ * Flushes the queue by hand instead of running the writer thread.
+ */
+@ExtendWith(MockitoExtension.class)
+class ActivityLogTest {
+
+    @Mock
+    private ActivityEventRepository activityEventRepository;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    @Mock
+    private ExecutorService writer;
+    @Mock
+    private ExecutorService tail;
+
+    private MockedStatic<UserContext> mockedUserContext;
+    private ActivityLog activityLog;
+
+    @BeforeEach
+    void setUp() {
+        mockedUserContext = mockStatic(UserContext.class);
+        mockedUserContext.when(UserContext::getCurrentUserId).thenReturn(1L);
+        Clock clock = Clock.fixed(Instant.parse("2024-01-01T00:00:00Z"), ZoneOffset.UTC);
+        activityLog = new ActivityLog(activityEventRepository, transactionTemplate, 3, 2, Duration.ofMinutes(1),
+                clock, writer, tail);
+    }
+
+    @AfterEach
+    void tearDown() {
+        mockedUserContext.close();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should queue events in memory and write them in batches")
+    void shouldWriteQueuedEventsInBatches() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(activityEventRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        activityLog.record(10L, 100L, ActivityType.TASK_CREATED, "Created task 'A'");
+        activityLog.record(10L, 101L, ActivityType.TASK_CREATED, "Created task 'B'");
+        activityLog.record(11L, null, ActivityType.PROJECT_UPDATED, "Updated project 'P'");
+        verifyNoInteractions(activityEventRepository);
+        assertThat(activityLog.pending()).isEqualTo(3);
+
+        assertThat(activityLog.flush()).isEqualTo(3);
+
+        ArgumentCaptor<List<ActivityEvent>> batches = ArgumentCaptor.forClass(List.class);
+        verify(activityEventRepository, times(2)).saveAll(batches.capture());
+        assertThat(batches.getAllValues().get(0)).extracting(ActivityEvent::getTaskId).containsExactly(100L, 101L);
+        assertThat(batches.getAllValues().get(1)).singleElement()
+                .satisfies(event -> {
+                    assertThat(event.getProjectId()).isEqualTo(11L);
+                    assertThat(event.getActorId()).isEqualTo(1L);
+                    assertThat(event.getType()).isEqualTo(ActivityType.PROJECT_UPDATED);
+                });
+        assertThat(activityLog.pending()).isZero();
+        verifyNoInteractions(tail); // Nobody is watching
+    }
+
+    @Test
+    @DisplayName("Should drop events instead of blocking when the queue is full")
+    void shouldDropEventsWhenQueueIsFull() {
+        for (long taskId = 1; taskId <= 5; taskId++) {
+            activityLog.record(10L, taskId, ActivityType.TASK_DELETED, "Deleted task");
+        }
+
+        assertThat(activityLog.pending()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should hand written events of a watched project to the live tail")
+    void shouldPublishWrittenEventsToSubscribers() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(activityEventRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        activityLog.subscribe(10L);
+
+        activityLog.record(10L, 100L, ActivityType.TASK_UPDATED, "Updated task 'A'");
+        activityLog.flush();
+
+        verify(tail).execute(any(Runnable.class));
+    }
+
+    @Test
+    @DisplayName("Should close a project's live streams once a collaborator is removed")
+    void shouldCloseStreamsWhenCollaboratorIsRemoved() throws Exception {
+        SseEmitter watching = activityLog.subscribe(10L);
+        SseEmitter otherProject = activityLog.subscribe(11L);
+
+        activityLog.record(10L, null, ActivityType.COLLABORATOR_REMOVED, "Removed collaborator bob");
+
+        assertThatThrownBy(() -> watching.send("event")).isInstanceOf(IllegalStateException.class);
+        otherProject.send("event"); // Still open
+    }
+
+    @Test
+    @DisplayName("Should close the live streams of a deleted project only after the deletion commits")
+    void shouldCloseStreamsWhenProjectDeletionCommits() throws Exception {
+        SseEmitter watching = activityLog.subscribe(10L);
+        TransactionSynchronizationManager.initSynchronization();
+
+        activityLog.record(10L, null, ActivityType.PROJECT_DELETED, "Deleted project 'P'");
+        watching.send("event"); // Still open while the deletion may roll back
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+
+        assertThatThrownBy(() -> watching.send("event")).isInstanceOf(IllegalStateException.class);
+    }
+}
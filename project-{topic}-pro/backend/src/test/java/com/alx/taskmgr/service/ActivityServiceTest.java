@@ -0,0 +1,142 @@
+package com.alx.taskmgr.service;
+
+import com.alx.taskmgr.dto.activity.ActivityEventResponse;
+import com.alx.taskmgr.dto.activity.ActivityPageResponse;
+import com.alx.taskmgr.dto.activity.ActivityQueryRequest;
+import com.alx.taskmgr.entity.enums.ActivityType;
+import com.alx.taskmgr.exception.ResourceNotFoundException;
+import com.alx.taskmgr.exception.UnauthorizedException;
+import com.alx.taskmgr.repository.ActivityEventRepository;
+import com.alx.taskmgr.util.UserContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the ActivityService.
+ */
+@ExtendWith(MockitoExtension.class)
+class ActivityServiceTest {
+
+    @Mock
+    private ActivityEventRepository activityEventRepository;
+    @Mock
+    private ProjectAccessIndex projectAccessIndex;
+    @Mock
+    private ActivityLog activityLog;
+
+    @InjectMocks
+    private ActivityService activityService;
+
+    private MockedStatic<UserContext> mockedUserContext;
+
+    @BeforeEach
+    void setUp() {
+        mockedUserContext = mockStatic(UserContext.class);
+        mockedUserContext.when(UserContext::getCurrentUserId).thenReturn(1L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        mockedUserContext.close();
+    }
+
+    @Test
+    @DisplayName("Should return a page of activity with the cursor of the next page")
+    void shouldReturnPageWithNextCursor() {
+        when(projectAccessIndex.exists(10L)).thenReturn(true);
+        when(projectAccessIndex.isMember(10L, 1L)).thenReturn(true);
+        when(activityEventRepository.findPageByProjectId(10L, 100L, PageRequest.of(0, 3)))
+                .thenReturn(List.of(event(99L), event(98L), event(97L)));
+
+        ActivityPageResponse page = activityService.getProjectActivity(10L, query(100L, 2));
+
+        assertThat(page.getItems()).extracting(ActivityEventResponse::getId).containsExactly(99L, 98L);
+        assertThat(page.getNextCursor()).isEqualTo(98L);
+    }
+
+    @Test
+    @DisplayName("Should return the last page of activity without a cursor")
+    void shouldReturnLastPageWithoutCursor() {
+        when(projectAccessIndex.exists(10L)).thenReturn(true);
+        when(projectAccessIndex.isMember(10L, 1L)).thenReturn(true);
+        when(activityEventRepository.findPageByProjectId(10L, null, PageRequest.of(0, 3)))
+                .thenReturn(List.of(event(2L), event(1L)));
+
+        ActivityPageResponse page = activityService.getProjectActivity(10L, query(null, 2));
+
+        assertThat(page.getItems()).extracting(ActivityEventResponse::getId).containsExactly(2L, 1L);
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should throw ResourceNotFoundException when reading the activity of a missing project")
+    void shouldThrowWhenProjectIsMissing() {
+        when(projectAccessIndex.exists(10L)).thenReturn(false);
+
+        assertThatThrownBy(() -> activityService.getProjectActivity(10L, query(null, 50)))
+                .isInstanceOf(ResourceNotFoundException.class);
+        verifyNoInteractions(activityEventRepository);
+    }
+
+    @Test
+    @DisplayName("Should throw UnauthorizedException when a non-member reads a project's activity")
+    void shouldThrowWhenReadingAsNonMember() {
+        when(projectAccessIndex.exists(10L)).thenReturn(true);
+        when(projectAccessIndex.isMember(10L, 1L)).thenReturn(false);
+
+        assertThatThrownBy(() -> activityService.getProjectActivity(10L, query(null, 50)))
+                .isInstanceOf(UnauthorizedException.class);
+        verify(activityEventRepository, never()).findPageByProjectId(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should open a live stream for a member of the project")
+    void shouldOpenStreamForMember() {
+        SseEmitter emitter = new SseEmitter();
+        when(projectAccessIndex.exists(10L)).thenReturn(true);
+        when(projectAccessIndex.isMember(10L, 1L)).thenReturn(true);
+        when(activityLog.subscribe(10L)).thenReturn(emitter);
+
+        assertThat(activityService.streamProjectActivity(10L)).isSameAs(emitter);
+    }
+
+    @Test
+    @DisplayName("Should not open a live stream for a non-member")
+    void shouldNotOpenStreamForNonMember() {
+        when(projectAccessIndex.exists(10L)).thenReturn(true);
+        when(projectAccessIndex.isMember(10L, 1L)).thenReturn(false);
+
+        assertThatThrownBy(() -> activityService.streamProjectActivity(10L))
+                .isInstanceOf(UnauthorizedException.class);
+        verifyNoInteractions(activityLog);
+    }
+
+    private static ActivityQueryRequest query(Long cursor, int size) {
+        ActivityQueryRequest query = new ActivityQueryRequest();
+        query.setCursor(cursor);
+        query.setSize(size);
+        return query;
+    }
+
+    private static ActivityEventResponse event(Long id) {
+        return new ActivityEventResponse(id, 10L, null, 1L, ActivityType.PROJECT_UPDATED, "Updated project 'P'",
+                LocalDateTime.of(2024, 1, 1, 0, 0));
+    }
+}
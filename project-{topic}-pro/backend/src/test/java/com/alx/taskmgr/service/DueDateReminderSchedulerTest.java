@@ -0,0 +1,137 @@
+package com.alx.taskmgr.service;
+
+import com.alx.taskmgr.entity.Task;
+import com.alx.taskmgr.entity.enums.TaskStatus;
+import com.alx.taskmgr.repository.TaskRepository;
+import com.alx.taskmgr.support.MutableClock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static com.alx.taskmgr.support.TaskViews.due;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the DueDateReminderScheduler.
+ * Drives the timer callback by hand against a controllable clock.
+ */
+@ExtendWith(MockitoExtension.class)
+class DueDateReminderSchedulerTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @Mock
+    private TaskRepository taskRepository;
+    @Mock
+    private TaskReminderNotifier notifier;
+    @Mock
+    private ScheduledExecutorService timer;
+
+    private MutableClock clock;
+    private DueDateReminderScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(T0);
+        scheduler = new DueDateReminderScheduler(taskRepository, notifier, Duration.ofHours(24), Duration.ofDays(7), clock, timer);
+    }
+
+    @Test
+    @DisplayName("Should load the horizon once and emit due-soon and overdue reminders in batches")
+    void shouldEmitDueSoonAndOverdueRemindersInBatches() {
+        when(taskRepository.findDueBetween(eq(T0), eq(T0.plusDays(7)), any()))
+                .thenReturn(List.of(due(1L, T0.plusHours(48), TaskStatus.OPEN), due(2L, T0.plusHours(12), TaskStatus.OPEN)));
+        when(taskRepository.claimDueSoonReminders(eq(Set.of(2L)), eq(T0.plusHours(24)), any()))
+                .thenReturn(List.of(due(2L, T0.plusHours(12), TaskStatus.OPEN)));
+
+        scheduler.fire(); // Task 2 is already inside the due-soon window
+
+        ArgumentCaptor<List<TaskReminder>> batches = ArgumentCaptor.forClass(List.class);
+        verify(notifier).notify(batches.capture());
+        assertThat(batches.getValue()).containsExactly(new TaskReminder(2L, T0.plusHours(12), TaskReminder.Kind.DUE_SOON));
+        verify(timer).schedule(any(Runnable.class), eq(Duration.ofHours(12).toMillis()), eq(TimeUnit.MILLISECONDS));
+
+        clock.set(T0.plusHours(24));
+        when(taskRepository.claimDueSoonReminders(eq(Set.of(1L)), eq(T0.plusHours(48)), any()))
+                .thenReturn(List.of(due(1L, T0.plusHours(48), TaskStatus.OPEN)));
+        when(taskRepository.claimOverdueReminders(eq(Set.of(2L)), eq(T0.plusHours(24)), any()))
+                .thenReturn(List.of(due(2L, T0.plusHours(12), TaskStatus.OPEN)));
+        scheduler.fire();
+
+        verify(notifier, times(2)).notify(batches.capture());
+        assertThat(batches.getValue()).containsExactly(
+                new TaskReminder(2L, T0.plusHours(12), TaskReminder.Kind.OVERDUE),
+                new TaskReminder(1L, T0.plusHours(48), TaskReminder.Kind.DUE_SOON));
+        assertThat(scheduler.size()).isEqualTo(1); // Task 1's overdue reminder
+        verify(taskRepository, times(1)).findDueBetween(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should track task changes incrementally and drop reminders that cannot be claimed")
+    void shouldTrackChangesAndDropStaleReminders() {
+        when(taskRepository.findDueBetween(any(), any(), any())).thenReturn(List.of());
+        scheduler.fire();
+
+        scheduler.tasksChanged(List.of(task(5L, T0.plusDays(3), TaskStatus.OPEN)));
+        assertThat(scheduler.size()).isEqualTo(1);
+        scheduler.tasksChanged(List.of(task(5L, T0.plusDays(3), TaskStatus.COMPLETED)));
+        assertThat(scheduler.size()).isZero();
+
+        scheduler.tasksChanged(List.of(task(6L, T0.plusHours(30), TaskStatus.OPEN)));
+        scheduler.tasksRemoved(List.of(6L));
+        scheduler.tasksChanged(List.of(task(7L, T0.plusDays(8), TaskStatus.OPEN))); // Past the horizon
+        assertThat(scheduler.size()).isZero();
+
+        scheduler.tasksChanged(List.of(task(8L, T0.plusHours(25), TaskStatus.OPEN)));
+        // Deleted through another instance, or already reminded by one
+        when(taskRepository.claimDueSoonReminders(eq(Set.of(8L)), any(), any())).thenReturn(List.of());
+        clock.set(T0.plusHours(1));
+        scheduler.fire();
+
+        verify(notifier, never()).notify(any());
+        assertThat(scheduler.size()).isEqualTo(1); // Its overdue reminder, which will be dropped the same way
+    }
+
+    @Test
+    @DisplayName("Should scan the horizon outside the lock and keep the changes committed during the scan")
+    void shouldKeepChangesCommittedDuringTheScan() {
+        when(taskRepository.findDueBetween(any(), any(), any())).thenAnswer(invocation -> {
+            assertThat(Thread.holdsLock(scheduler)).isFalse();
+            // Committed while the scan runs, which read the tasks as they were before
+            scheduler.tasksChanged(List.of(task(1L, T0.plusDays(3), TaskStatus.OPEN)));
+            scheduler.tasksRemoved(List.of(2L));
+            return List.of(due(1L, T0.plusDays(2), TaskStatus.OPEN), due(2L, T0.plusDays(2), TaskStatus.OPEN));
+        });
+
+        scheduler.fire();
+        assertThat(scheduler.size()).isEqualTo(1); // Task 1, due on its new date
+
+        clock.set(T0.plusDays(1)); // The due-soon time of task 1's old due date
+        scheduler.fire();
+
+        verify(notifier, never()).notify(any());
+        verify(taskRepository, times(1)).findDueBetween(any(), any(), any());
+    }
+
+    private static Task task(Long id, LocalDateTime dueDate, TaskStatus status) {
+        Task task = new Task();
+        task.setId(id);
+        task.setDueDate(dueDate);
+        task.setStatus(status);
+        return task;
+    }
+}
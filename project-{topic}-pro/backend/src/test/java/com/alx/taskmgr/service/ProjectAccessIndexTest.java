@@ -0,0 +1,132 @@
+package com.alx.taskmgr.service;
+
+import com.alx.taskmgr.entity.Project;
+import com.alx.taskmgr.entity.User;
+import com.alx.taskmgr.repository.ProjectRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the ProjectAccessIndex.
+ */
+@ExtendWith(MockitoExtension.class)
+class ProjectAccessIndexTest {
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    private ProjectAccessIndex projectAccessIndex;
+
+    @BeforeEach
+    void setUp() {
+        projectAccessIndex = new ProjectAccessIndex(projectRepository, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should load a project once and answer owner and collaborator checks from memory")
+    void shouldLoadOnceAndAnswerFromMemory() {
+        when(projectRepository.findOwnerIdById(10L)).thenReturn(Optional.of(1L));
+        when(projectRepository.findCollaboratorIdsById(10L)).thenReturn(List.of(42L, 7L));
+
+        assertThat(projectAccessIndex.isOwner(10L, 1L)).isTrue();
+        assertThat(projectAccessIndex.isOwner(10L, 7L)).isFalse();
+        assertThat(projectAccessIndex.isMember(10L, 1L)).isTrue();
+        assertThat(projectAccessIndex.isMember(10L, 7L)).isTrue();
+        assertThat(projectAccessIndex.isMember(10L, 42L)).isTrue();
+        assertThat(projectAccessIndex.isMember(10L, 8L)).isFalse();
+        assertThat(projectAccessIndex.isMember(10L, null)).isFalse();
+
+        verify(projectRepository, times(1)).findOwnerIdById(10L);
+        verify(projectRepository, times(1)).findCollaboratorIdsById(10L);
+    }
+
+    @Test
+    @DisplayName("Should handle user IDs beyond the int range without allocating by ID")
+    void shouldHandleLargeUserIds() {
+        long large = 5_000_000_000L;
+        when(projectRepository.findOwnerIdById(10L)).thenReturn(Optional.of(1L));
+        when(projectRepository.findCollaboratorIdsById(10L)).thenReturn(List.of(large, Integer.MAX_VALUE + 1L));
+
+        assertThat(projectAccessIndex.isMember(10L, large)).isTrue();
+        assertThat(projectAccessIndex.isMember(10L, Integer.MAX_VALUE + 1L)).isTrue();
+        assertThat(projectAccessIndex.isMember(10L, large - 1)).isFalse();
+        assertThat(projectAccessIndex.isMember(10L, -1L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should not remember projects that do not exist")
+    void shouldNotRememberUnknownProjects() {
+        when(projectRepository.findOwnerIdById(10L)).thenReturn(Optional.empty(), Optional.of(1L));
+
+        assertThat(projectAccessIndex.exists(10L)).isFalse();
+        assertThat(projectAccessIndex.exists(10L)).isTrue();
+        assertThat(projectAccessIndex.exists(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should publish membership changes only after the transaction commits")
+    void shouldPublishChangesAfterCommit() {
+        when(projectRepository.findOwnerIdById(10L)).thenReturn(Optional.of(1L));
+        when(projectRepository.findCollaboratorIdsById(10L)).thenReturn(List.of());
+        assertThat(projectAccessIndex.isMember(10L, 2L)).isFalse();
+
+        TransactionSynchronizationManager.initSynchronization();
+        projectAccessIndex.projectChanged(project(10L, 1L, 2L, 3L));
+        assertThat(projectAccessIndex.isMember(10L, 2L)).isFalse();
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+
+        assertThat(projectAccessIndex.isMember(10L, 2L)).isTrue();
+        assertThat(projectAccessIndex.isMember(10L, 3L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should forget a deleted project")
+    void shouldForgetDeletedProject() {
+        projectAccessIndex.projectChanged(project(10L, 1L, 2L));
+        assertThat(projectAccessIndex.isMember(10L, 2L)).isTrue();
+
+        projectAccessIndex.projectDeleted(10L);
+        when(projectRepository.findOwnerIdById(10L)).thenReturn(Optional.empty());
+
+        assertThat(projectAccessIndex.isMember(10L, 2L)).isFalse();
+    }
+
+    private static Project project(Long id, Long ownerId, Long... collaboratorIds) {
+        Project project = new Project();
+        project.setId(id);
+        project.setOwner(user(ownerId));
+        for (Long collaboratorId : collaboratorIds) {
+            project.getCollaborators().add(user(collaboratorId));
+        }
+        return project;
+    }
+
+    private static User user(Long id) {
+        User user = new User();
+        user.setId(id);
+        return user;
+    }
+}
@@ -0,0 +1,141 @@
+package com.alx.taskmgr.service;
+
+import com.alx.taskmgr.dto.project.ProjectStatisticsResponse;
+import com.alx.taskmgr.entity.enums.TaskStatus;
+import com.alx.taskmgr.repository.TaskRepository;
+import com.alx.taskmgr.support.MutableClock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static com.alx.taskmgr.support.TaskViews.count;
+import static com.alx.taskmgr.support.TaskViews.dueCount;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the ProjectStatistics.
+ * Runs reconciliation by hand against a controllable clock.
+ */
+@ExtendWith(MockitoExtension.class)
+class ProjectStatisticsTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final Long PROJECT_ID = 10L;
+
+    @Mock
+    private TaskRepository taskRepository;
+    @Mock
+    private ScheduledExecutorService reconciler;
+
+    private MutableClock clock;
+    private ProjectStatistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(T0);
+        statistics = new ProjectStatistics(taskRepository, 100, Duration.ofMinutes(5), clock, clock::nanos, reconciler);
+    }
+
+    @Test
+    @DisplayName("Should load counts once and apply task changes as deltas")
+    void shouldLoadOnceAndApplyDeltas() {
+        when(taskRepository.countByProjectIdGroupByStatusAndAssignee(PROJECT_ID))
+                .thenReturn(List.of(count(TaskStatus.OPEN, 2L, 3), count(TaskStatus.COMPLETED, null, 1)));
+        when(taskRepository.countOpenByProjectIdGroupByDueDate(eq(PROJECT_ID), any()))
+                .thenReturn(List.of(dueCount(T0.minusDays(1), 1), dueCount(T0.plusDays(1), 2)));
+
+        ProjectStatisticsResponse loaded = statistics.get(PROJECT_ID);
+        assertThat(loaded.getTotalTasks()).isEqualTo(4);
+        assertThat(loaded.getTasksByAssignee().get(2L)).containsEntry(TaskStatus.OPEN, 3L);
+        assertThat(loaded.getUnassignedTasks()).isEqualTo(1);
+        assertThat(loaded.getOverdueTasks()).isEqualTo(1);
+
+        statistics.tasksChanged(List.of(), List.of(state(3L, TaskStatus.OPEN, T0.plusDays(2)))); // Created
+        statistics.tasksChanged(List.of(state(2L, TaskStatus.OPEN, T0.minusDays(1))),
+                List.of(state(2L, TaskStatus.COMPLETED, T0.minusDays(1)))); // Overdue task completed
+        statistics.tasksChanged(List.of(state(2L, TaskStatus.OPEN, T0.plusDays(1))), List.of()); // Deleted
+
+        ProjectStatisticsResponse updated = statistics.get(PROJECT_ID);
+        assertThat(updated.getTotalTasks()).isEqualTo(4);
+        assertThat(updated.getTasksByStatus()).containsEntry(TaskStatus.OPEN, 2L).containsEntry(TaskStatus.COMPLETED, 2L);
+        assertThat(updated.getTasksByAssignee().get(2L)).containsEntry(TaskStatus.OPEN, 1L).containsEntry(TaskStatus.COMPLETED, 1L);
+        assertThat(updated.getTasksByAssignee().get(3L)).containsEntry(TaskStatus.OPEN, 1L);
+        assertThat(updated.getOverdueTasks()).isZero();
+        verify(taskRepository, times(1)).countByProjectIdGroupByStatusAndAssignee(PROJECT_ID);
+    }
+
+    @Test
+    @DisplayName("Should count tasks as overdue once their due date passes")
+    void shouldCountTasksAsOverdueWhenDue() {
+        when(taskRepository.countByProjectIdGroupByStatusAndAssignee(PROJECT_ID)).thenReturn(List.of());
+        when(taskRepository.countOpenByProjectIdGroupByDueDate(eq(PROJECT_ID), any())).thenReturn(List.of());
+        statistics.get(PROJECT_ID);
+
+        statistics.tasksChanged(List.of(), List.of(state(null, TaskStatus.OPEN, T0.plusHours(1)),
+                state(null, TaskStatus.IN_PROGRESS, T0.plusHours(3)), state(null, TaskStatus.CANCELLED, T0.plusHours(1))));
+        assertThat(statistics.get(PROJECT_ID).getOverdueTasks()).isZero();
+
+        clock.set(T0.plusHours(2));
+        assertThat(statistics.get(PROJECT_ID).getOverdueTasks()).isEqualTo(1);
+
+        statistics.tasksChanged(List.of(state(null, TaskStatus.OPEN, T0.plusHours(1))),
+                List.of(state(null, TaskStatus.OPEN, T0.plusHours(5)))); // Rescheduled
+        assertThat(statistics.get(PROJECT_ID).getOverdueTasks()).isZero();
+        assertThat(statistics.get(PROJECT_ID).getUnassignedTasks()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should replace drifted counts on reconciliation and skip projects that are not loaded")
+    void shouldReconcileLoadedProjects() {
+        when(taskRepository.countByProjectIdGroupByStatusAndAssignee(PROJECT_ID))
+                .thenReturn(List.of(count(TaskStatus.OPEN, null, 1)))
+                .thenReturn(List.of(count(TaskStatus.OPEN, null, 5))); // Tasks added through another instance
+        when(taskRepository.countOpenByProjectIdGroupByDueDate(eq(PROJECT_ID), any())).thenReturn(List.of());
+        statistics.tasksChanged(List.of(), List.of(new ProjectStatistics.TaskState(11L, null, TaskStatus.OPEN, null)));
+
+        assertThat(statistics.get(PROJECT_ID).getTotalTasks()).isEqualTo(1);
+        statistics.reconcile();
+
+        assertThat(statistics.get(PROJECT_ID).getTotalTasks()).isEqualTo(5);
+        verify(taskRepository, never()).countByProjectIdGroupByStatusAndAssignee(11L);
+
+        statistics.projectDeleted(PROJECT_ID);
+        statistics.reconcile();
+        verify(taskRepository, times(2)).countByProjectIdGroupByStatusAndAssignee(PROJECT_ID);
+    }
+
+    @Test
+    @DisplayName("Should drop a project an hour after its last read, however many deltas it received")
+    void shouldDropProjectsUnreadForAnHour() {
+        when(taskRepository.countByProjectIdGroupByStatusAndAssignee(PROJECT_ID)).thenReturn(List.of());
+        when(taskRepository.countOpenByProjectIdGroupByDueDate(eq(PROJECT_ID), any())).thenReturn(List.of());
+        statistics.get(PROJECT_ID);
+
+        clock.set(T0.plusMinutes(50));
+        statistics.get(PROJECT_ID); // Read: kept until 01:50
+        clock.set(T0.plusMinutes(100));
+        statistics.tasksChanged(List.of(), List.of(state(null, TaskStatus.OPEN, null))); // Delta: not a read
+        statistics.reconcile(); // Neither is reconciliation
+        verify(taskRepository, times(2)).countByProjectIdGroupByStatusAndAssignee(PROJECT_ID);
+
+        clock.set(T0.plusMinutes(111));
+        statistics.get(PROJECT_ID);
+        verify(taskRepository, times(3)).countByProjectIdGroupByStatusAndAssignee(PROJECT_ID);
+    }
+
+    private static ProjectStatistics.TaskState state(Long assigneeId, TaskStatus status, LocalDateTime dueDate) {
+        return new ProjectStatistics.TaskState(PROJECT_ID, assigneeId, status, dueDate);
+    }
+}
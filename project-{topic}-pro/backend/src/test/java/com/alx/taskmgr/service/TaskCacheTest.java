@@ -0,0 +1,180 @@
+package com.alx.taskmgr.service;
+
+import com.alx.taskmgr.dto.task.TaskResponse;
+import com.alx.taskmgr.dto.user.UserResponse;
+import com.alx.taskmgr.entity.enums.TaskStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the TaskCache.
+ * Covers the in-place maintenance of the per-project and per-assignee lists, the isolation of cached
+ * responses from callers, and measures the hit ratio on a mixed workload.
+ */
+class TaskCacheTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should append, replace and remove tasks in the cached lists without reloading them")
+    void lists_MaintainedIncrementally() {
+        TaskCache cache = new TaskCache(100);
+        cache.getProjectTasks(1L, id -> load(task(10L, 1L, 7L, "a")));
+        cache.getAssignedTasks(7L, id -> load(task(10L, 1L, 7L, "a")));
+        cache.getAssignedTasks(8L, id -> load());
+
+        cache.taskSaved(task(11L, 1L, 7L, "b"), null);
+        cache.taskSaved(task(10L, 1L, 8L, "a2"), 7L); // Reassigned from 7 to 8
+        cache.taskDeleted(11L, 1L, 7L);
+        cache.taskSaved(task(20L, 2L, 7L, "other project"), null); // Project 2 has no cached list
+
+        assertThat(cache.getProjectTasks(1L, id -> load())).extracting(TaskResponse::getTitle).containsExactly("a2");
+        assertThat(cache.getAssignedTasks(7L, id -> load())).extracting(TaskResponse::getTitle).containsExactly("other project");
+        assertThat(cache.getAssignedTasks(8L, id -> load())).extracting(TaskResponse::getTitle).containsExactly("a2");
+        assertThat(loads.get()).isEqualTo(3);
+        assertThat(cache.getTask(20L, id -> null).getTitle()).isEqualTo("other project");
+        assertThat(cache.getProjectTasks(2L, id -> load())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should apply a write only after the transaction commits")
+    void taskSaved_InTransaction_AppliedOnCommit() {
+        TaskCache cache = new TaskCache(100);
+        cache.getProjectTasks(1L, id -> load(task(10L, 1L, null, "a")));
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.taskSaved(task(10L, 1L, null, "a2"), null);
+        assertThat(cache.getProjectTasks(1L, id -> load())).extracting(TaskResponse::getTitle).containsExactly("a");
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+
+        assertThat(cache.getProjectTasks(1L, id -> load())).extracting(TaskResponse::getTitle).containsExactly("a2");
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should not let callers modify cached responses")
+    void responses_AreCopies() {
+        TaskCache cache = new TaskCache(100);
+        TaskResponse saved = task(10L, 1L, 7L, "a");
+        cache.getProjectTasks(1L, id -> load());
+        cache.taskSaved(saved, null);
+
+        saved.setTitle("changed after saving");
+        cache.getTask(10L, id -> null).setTitle("changed after reading");
+        cache.getProjectTasks(1L, id -> load()).get(0).getAssignedTo().setUsername("changed");
+
+        TaskResponse cached = cache.getTask(10L, id -> null);
+        assertThat(cached.getTitle()).isEqualTo("a");
+        assertThat(cached.getAssignedTo().getUsername()).isEqualTo("user7");
+        assertThat(cache.getProjectTasks(1L, id -> load()).get(0).getAssignedTo().getUsername()).isEqualTo("user7");
+    }
+
+    @Test
+    @DisplayName("Should drop every cached task that embeds a changed user")
+    void userChanged_DropsTasksEmbeddingTheUser() {
+        TaskCache cache = new TaskCache(100);
+        cache.getProjectTasks(1L, id -> load(task(10L, 1L, 7L, "a"), task(11L, 1L, 8L, "b")));
+        cache.getProjectTasks(2L, id -> load(task(20L, 2L, 8L, "c")));
+        cache.getAssignedTasks(7L, id -> load(task(10L, 1L, 7L, "a")));
+        cache.getTask(10L, id -> task(id, 1L, 7L, "a"));
+        cache.getTask(20L, id -> task(id, 2L, 8L, "c"));
+
+        cache.userChanged(7L);
+
+        assertThat(cache.getTask(10L, id -> null)).isNull();
+        assertThat(cache.getTask(20L, id -> null)).isNotNull();
+        assertThat(cache.getAssignedTasks(7L, id -> load())).isEmpty();
+        assertThat(cache.getProjectTasks(1L, id -> load())).isEmpty();
+        assertThat(cache.getProjectTasks(2L, id -> load())).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should keep a high hit ratio under writes, unlike clearing the whole cache on each write")
+    void mixedWorkload_HitRatio() {
+        TaskCache targeted = new TaskCache(10_000);
+        TaskCache clearedOnWrite = new TaskCache(10_000);
+
+        runWorkload(targeted, false);
+        runWorkload(clearedOnWrite, true);
+
+        // 200 projects with one assignee and 5 tasks each, 10,000 operations of which 5% are updates
+        assertThat(targeted.projectStats().hitRate()).isGreaterThan(0.9);
+        assertThat(targeted.assigneeStats().hitRate()).isGreaterThan(0.8);
+        assertThat(targeted.taskStats().hitRate()).isGreaterThan(0.7);
+        assertThat(clearedOnWrite.projectStats().hitRate()).isLessThan(0.3);
+        assertThat(clearedOnWrite.assigneeStats().hitRate()).isLessThan(0.3);
+        assertThat(clearedOnWrite.taskStats().hitRate()).isLessThan(0.3);
+    }
+
+    private static void runWorkload(TaskCache cache, boolean clearOnWrite) {
+        int projects = 200;
+        int tasksPerProject = 5;
+        Random random = new Random(42);
+        for (int i = 0; i < 10_000; i++) {
+            long projectId = random.nextInt(projects) + 1;
+            long assigneeId = projectId + 1000;
+            long taskId = projectId * 100 + random.nextInt(tasksPerProject);
+            int operation = random.nextInt(100);
+            if (operation < 5) {
+                cache.taskSaved(task(taskId, projectId, assigneeId, "updated " + i), assigneeId);
+                if (clearOnWrite) {
+                    cache.invalidateAll();
+                }
+            } else if (operation < 35) {
+                cache.getProjectTasks(projectId, id -> tasks(id, assigneeId, tasksPerProject));
+            } else if (operation < 50) {
+                cache.getAssignedTasks(assigneeId, id -> tasks(projectId, id, tasksPerProject));
+            } else {
+                cache.getTask(taskId, id -> task(id, projectId, assigneeId, "loaded"));
+            }
+        }
+    }
+
+    private List<TaskResponse> load(TaskResponse... tasks) {
+        loads.incrementAndGet();
+        return List.of(tasks);
+    }
+
+    private static List<TaskResponse> tasks(Long projectId, Long assigneeId, int count) {
+        List<TaskResponse> tasks = new ArrayList<>();
+        for (int t = 0; t < count; t++) {
+            tasks.add(task(projectId * 100 + t, projectId, assigneeId, "loaded"));
+        }
+        return tasks;
+    }
+
+    private static TaskResponse task(Long id, Long projectId, Long assigneeId, String title) {
+        TaskResponse task = new TaskResponse();
+        task.setId(id);
+        task.setTitle(title);
+        task.setStatus(TaskStatus.OPEN);
+        task.setProjectId(projectId);
+        if (assigneeId != null) {
+            UserResponse assignee = new UserResponse();
+            assignee.setId(assigneeId);
+            assignee.setUsername("user" + assigneeId);
+            task.setAssignedTo(assignee);
+        }
+        return task;
+    }
+}
@@ -1,11 +1,19 @@
 package com.alx.taskmgr.service;
 
+import com.alx.taskmgr.dto.task.TaskBulkAssignRequest;
+import com.alx.taskmgr.dto.task.TaskBulkCreateRequest;
+import com.alx.taskmgr.dto.task.TaskBulkDeleteRequest;
+import com.alx.taskmgr.dto.task.TaskBulkStatusRequest;
 import com.alx.taskmgr.dto.task.TaskCreateRequest;
+import com.alx.taskmgr.dto.task.TaskPageResponse;
+import com.alx.taskmgr.dto.task.TaskQueryRequest;
 import com.alx.taskmgr.dto.task.TaskResponse;
+import com.alx.taskmgr.dto.task.TaskSummaryResponse;
 import com.alx.taskmgr.dto.task.TaskUpdateRequest;
 import com.alx.taskmgr.entity.Project;
 import com.alx.taskmgr.entity.Task;
 import com.alx.taskmgr.entity.User;
+import com.alx.taskmgr.entity.enums.ActivityType;
 import com.alx.taskmgr.entity.enums.TaskStatus;
 import com.alx.taskmgr.exception.ResourceNotFoundException;
 import com.alx.taskmgr.exception.UnauthorizedException;
@@ -18,22 +26,31 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
+import static com.alx.taskmgr.support.TaskViews.ref;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 /**
@@ -49,6 +66,16 @@ class TaskServiceTest {
     private ProjectRepository projectRepository;
     @Mock
     private UserRepository userRepository;
+    @Mock
+    private ProjectAccessIndex projectAccessIndex;
+    @Mock
+    private DueDateReminderScheduler dueDateReminderScheduler;
+    @Mock
+    private ProjectStatistics projectStatistics;
+    @Mock
+    private ActivityLog activityLog;
+    @Spy
+    private TaskCache taskCache = new TaskCache(100); // Real cache, empty for each test
 
     @InjectMocks
     private TaskService taskService;
@@ -112,6 +139,8 @@ class TaskServiceTest {
         when(projectRepository.findById(project.getId())).thenReturn(Optional.of(project));
         when(userRepository.findById(collaboratorUser.getId())).thenReturn(Optional.of(collaboratorUser));
         when(taskRepository.save(any(Task.class))).thenReturn(task); // Return a mock task
+        when(projectAccessIndex.isMember(project.getId(), currentUser.getId())).thenReturn(true);
+        when(projectAccessIndex.isMember(project.getId(), collaboratorUser.getId())).thenReturn(true);
 
         TaskResponse response = taskService.createTask(request);
 
@@ -146,6 +175,7 @@ class TaskServiceTest {
     @DisplayName("Should get task by ID when authorized")
     void shouldGetTaskByIdWhenAuthorized() {
         when(taskRepository.findById(task.getId())).thenReturn(Optional.of(task));
+        when(projectAccessIndex.isMember(project.getId(), currentUser.getId())).thenReturn(true);
 
         TaskResponse response = taskService.getTaskById(task.getId());
 
@@ -154,6 +184,20 @@ class TaskServiceTest {
         assertThat(response.getTitle()).isEqualTo(task.getTitle());
     }
 
+    @Test
+    @DisplayName("Should serve a cached task but still check project membership on every read")
+    void shouldCheckMembershipOnCachedTask() {
+        when(taskRepository.findById(task.getId())).thenReturn(Optional.of(task));
+        when(projectAccessIndex.isMember(project.getId(), currentUser.getId())).thenReturn(true);
+
+        TaskResponse first = taskService.getTaskById(task.getId());
+        assertThat(taskService.getTaskById(task.getId())).isSameAs(first);
+
+        mockedUserContext.when(UserContext::getCurrentUserId).thenReturn(99L); // Not a member
+        assertThrows(UnauthorizedException.class, () -> taskService.getTaskById(task.getId()));
+        verify(taskRepository, times(1)).findById(task.getId());
+    }
+
     @Test
     @DisplayName("Should throw ResourceNotFoundException when getting non-existent task")
     void shouldThrowResourceNotFoundExceptionWhenGettingNonExistentTask() {
@@ -171,6 +215,7 @@ class TaskServiceTest {
 
         when(taskRepository.findById(task.getId())).thenReturn(Optional.of(task));
         when(taskRepository.save(any(Task.class))).thenReturn(task);
+        when(projectAccessIndex.isMember(project.getId(), currentUser.getId())).thenReturn(true);
 
         TaskResponse response = taskService.updateTask(task.getId(), request);
 
@@ -180,6 +225,24 @@ class TaskServiceTest {
         verify(taskRepository, times(1)).save(any(Task.class));
     }
 
+    @Test
+    @DisplayName("Should report the task's counted state before and after an update to the project statistics")
+    void shouldReportUpdateToProjectStatistics() {
+        TaskUpdateRequest request = new TaskUpdateRequest();
+        request.setStatus(TaskStatus.COMPLETED);
+        LocalDateTime due = task.getDueDate();
+
+        when(taskRepository.findById(task.getId())).thenReturn(Optional.of(task));
+        when(taskRepository.save(any(Task.class))).thenReturn(task);
+        when(projectAccessIndex.isMember(project.getId(), currentUser.getId())).thenReturn(true);
+
+        taskService.updateTask(task.getId(), request);
+
+        verify(projectStatistics).tasksChanged(
+                List.of(new ProjectStatistics.TaskState(project.getId(), collaboratorUser.getId(), TaskStatus.OPEN, due)),
+                List.of(new ProjectStatistics.TaskState(project.getId(), collaboratorUser.getId(), TaskStatus.COMPLETED, due)));
+    }
+
     @Test
     @DisplayName("Should throw UnauthorizedException when updating task in unauthorized project")
     void shouldThrowUnauthorizedExceptionWhenUpdatingTaskInUnauthorizedProject() {
@@ -199,6 +262,7 @@ class TaskServiceTest {
         when(taskRepository.findById(unauthorizedTask.getId())).thenReturn(Optional.of(unauthorizedTask));
 
         assertThrows(UnauthorizedException.class, () -> taskService.updateTask(unauthorizedTask.getId(), request));
+        verify(projectAccessIndex).isMember(unauthorizedProject.getId(), 1L);
         verify(taskRepository, never()).save(any(Task.class));
     }
 
@@ -207,6 +271,7 @@ class TaskServiceTest {
     void shouldDeleteTaskWhenOwner() {
         when(taskRepository.findById(task.getId())).thenReturn(Optional.of(task));
         doNothing().when(taskRepository).delete(any(Task.class));
+        when(projectAccessIndex.isOwner(project.getId(), currentUser.getId())).thenReturn(true);
 
         taskService.deleteTask(task.getId());
 
@@ -226,8 +291,9 @@ class TaskServiceTest {
     @Test
     @DisplayName("Should get tasks by project ID when authorized")
     void shouldGetTasksByProjectIdWhenAuthorized() {
-        when(projectRepository.findById(project.getId())).thenReturn(Optional.of(project));
+        when(projectAccessIndex.exists(project.getId())).thenReturn(true);
         when(taskRepository.findByProjectId(project.getId())).thenReturn(List.of(task));
+        when(projectAccessIndex.isMember(project.getId(), currentUser.getId())).thenReturn(true);
 
         List<TaskResponse> tasks = taskService.getTasksByProjectId(project.getId());
 
@@ -254,4 +320,233 @@ class TaskServiceTest {
         assertThat(tasks).hasSize(1);
         assertThat(tasks.get(0).getAssignedTo().getId()).isEqualTo(currentUser.getId());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should return a cursor that resumes the assigned task query after the last row")
+    void shouldResumeTaskQueryFromCursor() {
+        LocalDateTime due = LocalDateTime.of(2024, 3, 1, 12, 0);
+        TaskSummaryResponse first = new TaskSummaryResponse(1L, "First", TaskStatus.OPEN, project.getId(), 1L, "currentuser", due);
+        TaskSummaryResponse second = new TaskSummaryResponse(2L, "Second", TaskStatus.OPEN, project.getId(), 1L, "currentuser", due);
+        TaskQueryRequest query = new TaskQueryRequest();
+        query.setSize(1);
+
+        when(taskRepository.findDatedPageByAssignedToId(eq(1L), isNull(), any(), any(), eq(0L), eq(PageRequest.of(0, 2))))
+                .thenReturn(List.of(first, second));
+        TaskPageResponse page = taskService.queryTasks(query);
+
+        assertThat(page.getItems()).containsExactly(first);
+        assertThat(page.getNextCursor()).isNotNull();
+
+        query.setCursor(page.getNextCursor());
+        when(taskRepository.findDatedPageByAssignedToId(eq(1L), isNull(), eq(due), any(), eq(1L), eq(PageRequest.of(0, 2))))
+                .thenReturn(List.of(second));
+        TaskPageResponse lastPage = taskService.queryTasks(query);
+
+        assertThat(lastPage.getItems()).containsExactly(second);
+        assertThat(lastPage.getNextCursor()).isNull();
+        verify(taskRepository).findUndatedPageByAssignedToId(1L, null, 0L, PageRequest.of(0, 1));
+    }
+
+    @Test
+    @DisplayName("Should continue a task query with the undated tasks once the dated ones run out")
+    void shouldContinueTaskQueryWithUndatedTasks() {
+        LocalDateTime due = LocalDateTime.of(2024, 3, 1, 12, 0);
+        TaskSummaryResponse dated = new TaskSummaryResponse(5L, "Dated", TaskStatus.OPEN, project.getId(), 1L, "currentuser", due);
+        TaskSummaryResponse undated = new TaskSummaryResponse(3L, "Undated", TaskStatus.OPEN, project.getId(), 1L, "currentuser", null);
+        TaskSummaryResponse lastUndated = new TaskSummaryResponse(4L, "Undated too", TaskStatus.OPEN, project.getId(), 1L, "currentuser", null);
+        TaskQueryRequest query = new TaskQueryRequest();
+        query.setSize(2);
+
+        when(taskRepository.findDatedPageByAssignedToId(eq(1L), isNull(), any(), any(), eq(0L), eq(PageRequest.of(0, 3))))
+                .thenReturn(List.of(dated));
+        when(taskRepository.findUndatedPageByAssignedToId(1L, null, 0L, PageRequest.of(0, 2)))
+                .thenReturn(List.of(undated, lastUndated));
+        TaskPageResponse page = taskService.queryTasks(query);
+
+        assertThat(page.getItems()).containsExactly(dated, undated);
+
+        query.setCursor(page.getNextCursor());
+        when(taskRepository.findUndatedPageByAssignedToId(1L, null, 3L, PageRequest.of(0, 3)))
+                .thenReturn(List.of(lastUndated));
+        TaskPageResponse lastPage = taskService.queryTasks(query);
+
+        assertThat(lastPage.getItems()).containsExactly(lastUndated);
+        assertThat(lastPage.getNextCursor()).isNull();
+        verify(taskRepository, times(1)).findDatedPageByAssignedToId(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should reject a project task query from a non-member and a malformed cursor")
+    void shouldRejectUnauthorizedProjectQueryAndInvalidCursor() {
+        TaskQueryRequest query = new TaskQueryRequest();
+        query.setProjectId(project.getId());
+        when(projectAccessIndex.exists(project.getId())).thenReturn(true);
+        when(projectAccessIndex.isMember(project.getId(), 1L)).thenReturn(false);
+
+        assertThrows(UnauthorizedException.class, () -> taskService.queryTasks(query));
+
+        query.setCursor("not a cursor");
+        assertThrows(IllegalArgumentException.class, () -> taskService.queryTasks(query));
+        verify(taskRepository, never()).findDatedPageByProjectId(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should bulk create tasks resolving each project and assignee once")
+    void shouldBulkCreateTasksResolvingReferencesOnce() {
+        List<TaskCreateRequest> items = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            TaskCreateRequest item = new TaskCreateRequest();
+            item.setTitle("Bulk task " + i);
+            item.setProjectId(project.getId());
+            item.setAssignedToId(collaboratorUser.getId());
+            items.add(item);
+        }
+        TaskBulkCreateRequest request = new TaskBulkCreateRequest();
+        request.setTasks(items);
+
+        when(projectAccessIndex.exists(project.getId())).thenReturn(true);
+        when(projectAccessIndex.isMember(project.getId(), currentUser.getId())).thenReturn(true);
+        when(projectAccessIndex.isMember(project.getId(), collaboratorUser.getId())).thenReturn(true);
+        when(projectRepository.getReferenceById(project.getId())).thenReturn(project);
+        when(userRepository.findAllById(Set.of(collaboratorUser.getId()))).thenReturn(List.of(collaboratorUser));
+        when(taskRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<TaskResponse> responses = taskService.createTasks(request);
+
+        assertThat(responses).extracting(TaskResponse::getTitle).containsExactly("Bulk task 0", "Bulk task 1", "Bulk task 2");
+        assertThat(responses).allSatisfy(response -> assertThat(response.getAssignedTo().getId()).isEqualTo(collaboratorUser.getId()));
+        verify(projectAccessIndex, times(1)).isMember(project.getId(), currentUser.getId());
+        verify(userRepository, times(1)).findAllById(any());
+        verify(userRepository, never()).findById(anyLong());
+        verify(taskRepository, never()).save(any(Task.class));
+    }
+
+    @Test
+    @DisplayName("Should reject a bulk delete unless the user owns every project, and delete nothing")
+    void shouldRejectBulkDeleteWhenNotOwnerOfEveryProject() {
+        TaskBulkDeleteRequest request = new TaskBulkDeleteRequest();
+        request.setTaskIds(List.of(100L, 101L));
+        when(taskRepository.findRefsByIdIn(request.getTaskIds()))
+                .thenReturn(List.of(ref(100L, 10L, null, TaskStatus.OPEN, null), ref(101L, 11L, null, TaskStatus.OPEN, null)));
+        when(projectAccessIndex.isOwner(10L, currentUser.getId())).thenReturn(true);
+        when(projectAccessIndex.isOwner(11L, currentUser.getId())).thenReturn(false);
+
+        assertThrows(UnauthorizedException.class, () -> taskService.deleteTasks(request));
+        verify(taskRepository, never()).deleteByIdIn(any());
+    }
+
+    @Test
+    @DisplayName("Should bulk update statuses with one statement after one membership check per project")
+    void shouldBulkUpdateStatusesAuthorizingEachProjectOnce() {
+        TaskBulkStatusRequest request = new TaskBulkStatusRequest();
+        request.setTaskIds(List.of(100L, 101L));
+        request.setStatus(TaskStatus.COMPLETED);
+        TaskRepository.TaskRefView assigned = ref(100L, 10L, collaboratorUser.getId(), TaskStatus.OPEN, null);
+        TaskRepository.TaskRefView unassigned = ref(101L, 10L, null, TaskStatus.IN_PROGRESS, null);
+        when(taskRepository.findRefsByIdIn(request.getTaskIds())).thenReturn(List.of(assigned, unassigned));
+        when(projectAccessIndex.isMember(10L, currentUser.getId())).thenReturn(true);
+
+        taskService.updateTaskStatuses(request);
+
+        verify(projectAccessIndex, times(1)).isMember(10L, currentUser.getId());
+        InOrder order = inOrder(taskRepository);
+        order.verify(taskRepository).lockByIdIn(request.getTaskIds()); // Before the state the deltas come from is read
+        order.verify(taskRepository).findRefsByIdIn(request.getTaskIds());
+        order.verify(taskRepository).updateStatusByIdIn(eq(request.getTaskIds()), eq(TaskStatus.COMPLETED), any(LocalDateTime.class));
+        verify(taskCache).tasksChanged(Set.of(100L, 101L), Set.of(10L), Set.of(collaboratorUser.getId()));
+        verify(dueDateReminderScheduler).statusChanged(request.getTaskIds(), TaskStatus.COMPLETED);
+        verify(projectStatistics).tasksChanged(
+                List.of(ProjectStatistics.TaskState.of(assigned), ProjectStatistics.TaskState.of(unassigned)),
+                List.of(new ProjectStatistics.TaskState(10L, collaboratorUser.getId(), TaskStatus.COMPLETED, null),
+                        new ProjectStatistics.TaskState(10L, null, TaskStatus.COMPLETED, null)));
+        verify(activityLog).record(eq(10L), eq(100L), eq(ActivityType.TASK_STATUS_CHANGED), anyString());
+        verify(activityLog).record(eq(10L), eq(101L), eq(ActivityType.TASK_STATUS_CHANGED), anyString());
+    }
+
+    @Test
+    @DisplayName("Should reject a bulk status update with a missing task or an unauthorized project, and update nothing")
+    void shouldRejectBulkStatusUpdateWithMissingTaskOrUnauthorizedProject() {
+        TaskBulkStatusRequest request = new TaskBulkStatusRequest();
+        request.setTaskIds(List.of(100L, 101L));
+        request.setStatus(TaskStatus.COMPLETED);
+        when(taskRepository.findRefsByIdIn(request.getTaskIds()))
+                .thenReturn(List.of(ref(100L, 10L, null, TaskStatus.OPEN, null)));
+
+        assertThrows(ResourceNotFoundException.class, () -> taskService.updateTaskStatuses(request));
+
+        when(taskRepository.findRefsByIdIn(request.getTaskIds()))
+                .thenReturn(List.of(ref(100L, 10L, null, TaskStatus.OPEN, null), ref(101L, 11L, null, TaskStatus.OPEN, null)));
+        when(projectAccessIndex.isMember(10L, currentUser.getId())).thenReturn(true);
+        when(projectAccessIndex.isMember(11L, currentUser.getId())).thenReturn(false);
+
+        assertThrows(UnauthorizedException.class, () -> taskService.updateTaskStatuses(request));
+        verify(taskRepository, never()).updateStatusByIdIn(any(), any(), any());
+        verifyNoInteractions(dueDateReminderScheduler, projectStatistics, activityLog);
+    }
+
+    @Test
+    @DisplayName("Should bulk reassign tasks and drop the cached lists of the old and new assignees")
+    void shouldBulkReassignTasks() {
+        User newAssignee = new User();
+        newAssignee.setId(3L);
+        TaskBulkAssignRequest request = new TaskBulkAssignRequest();
+        request.setTaskIds(List.of(100L, 101L));
+        request.setAssignedToId(newAssignee.getId());
+        TaskRepository.TaskRefView assigned = ref(100L, 10L, collaboratorUser.getId(), TaskStatus.OPEN, null);
+        TaskRepository.TaskRefView unassigned = ref(101L, 10L, null, TaskStatus.OPEN, null);
+        when(taskRepository.findRefsByIdIn(request.getTaskIds())).thenReturn(List.of(assigned, unassigned));
+        when(projectAccessIndex.isMember(10L, currentUser.getId())).thenReturn(true);
+        when(projectAccessIndex.isMember(10L, newAssignee.getId())).thenReturn(true);
+        when(userRepository.existsById(newAssignee.getId())).thenReturn(true);
+        when(userRepository.getReferenceById(newAssignee.getId())).thenReturn(newAssignee);
+
+        taskService.reassignTasks(request);
+
+        verify(taskRepository).updateAssignedToByIdIn(eq(request.getTaskIds()), eq(newAssignee), any(LocalDateTime.class));
+        verify(taskCache).tasksChanged(Set.of(100L, 101L), Set.of(10L), Set.of(collaboratorUser.getId(), newAssignee.getId()));
+        verify(projectStatistics).tasksChanged(
+                List.of(ProjectStatistics.TaskState.of(assigned), ProjectStatistics.TaskState.of(unassigned)),
+                List.of(new ProjectStatistics.TaskState(10L, newAssignee.getId(), TaskStatus.OPEN, null),
+                        new ProjectStatistics.TaskState(10L, newAssignee.getId(), TaskStatus.OPEN, null)));
+        verify(activityLog).record(10L, 100L, ActivityType.TASK_REASSIGNED, "Assigned to user 3");
+        verify(activityLog).record(10L, 101L, ActivityType.TASK_REASSIGNED, "Assigned to user 3");
+        verifyNoInteractions(dueDateReminderScheduler);
+    }
+
+    @Test
+    @DisplayName("Should bulk unassign tasks without looking up a user")
+    void shouldBulkUnassignTasks() {
+        TaskBulkAssignRequest request = new TaskBulkAssignRequest();
+        request.setTaskIds(List.of(100L));
+        when(taskRepository.findRefsByIdIn(request.getTaskIds()))
+                .thenReturn(List.of(ref(100L, 10L, collaboratorUser.getId(), TaskStatus.OPEN, null)));
+        when(projectAccessIndex.isMember(10L, currentUser.getId())).thenReturn(true);
+
+        taskService.reassignTasks(request);
+
+        verify(taskRepository).updateAssignedToByIdIn(eq(request.getTaskIds()), isNull(), any(LocalDateTime.class));
+        verify(taskCache).tasksChanged(Set.of(100L), Set.of(10L), Set.of(collaboratorUser.getId()));
+        verify(activityLog).record(10L, 100L, ActivityType.TASK_REASSIGNED, "Unassigned");
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("Should reject a bulk reassignment to a user outside a task's project, and update nothing")
+    void shouldRejectBulkReassignToNonMember() {
+        TaskBulkAssignRequest request = new TaskBulkAssignRequest();
+        request.setTaskIds(List.of(100L, 101L));
+        request.setAssignedToId(3L);
+        when(taskRepository.findRefsByIdIn(request.getTaskIds()))
+                .thenReturn(List.of(ref(100L, 10L, null, TaskStatus.OPEN, null), ref(101L, 11L, null, TaskStatus.OPEN, null)));
+        when(projectAccessIndex.isMember(10L, currentUser.getId())).thenReturn(true);
+        when(projectAccessIndex.isMember(11L, currentUser.getId())).thenReturn(true);
+        when(userRepository.existsById(3L)).thenReturn(true);
+        when(projectAccessIndex.isMember(10L, 3L)).thenReturn(true);
+        when(projectAccessIndex.isMember(11L, 3L)).thenReturn(false);
+
+        assertThrows(IllegalArgumentException.class, () -> taskService.reassignTasks(request));
+        verify(taskRepository, never()).updateAssignedToByIdIn(any(), any(), any());
+        verify(taskCache, never()).tasksChanged(any(), any(), any());
+        verifyNoInteractions(projectStatistics, activityLog);
+    }
+}
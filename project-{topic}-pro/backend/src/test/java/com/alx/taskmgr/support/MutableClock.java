@@ -0,0 +1,46 @@
+package com.alx.taskmgr.support;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Clock for tests that drive time by hand, in UTC. Also serves as a Caffeine ticker through {@link #nanos()}.
+ */
+public final class MutableClock extends Clock {
+
+    private Instant instant;
+
+    public MutableClock(LocalDateTime start) {
+        set(start);
+    }
+
+    public void set(LocalDateTime time) {
+        instant = time.toInstant(ZoneOffset.UTC);
+    }
+
+    /**
+     * @return The current time in nanoseconds since the epoch.
+     */
+    public long nanos() {
+        return TimeUnit.SECONDS.toNanos(instant.getEpochSecond()) + instant.getNano();
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        return this;
+    }
+
+    @Override
+    public Instant instant() {
+        return instant;
+    }
+}
@@ -0,0 +1,97 @@
+package com.alx.taskmgr.support;
+
+import com.alx.taskmgr.entity.enums.TaskStatus;
+import com.alx.taskmgr.repository.TaskRepository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Fixtures for the projection views of TaskRepository, which Spring Data implements at runtime.
+ */
+public final class TaskViews {
+
+    private TaskViews() {
+    }
+
+    public static TaskRepository.TaskRefView ref(Long id, Long projectId, Long assignedToId, TaskStatus status,
+                                                 LocalDateTime dueDate) {
+        return new TaskRepository.TaskRefView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Long getProjectId() {
+                return projectId;
+            }
+
+            @Override
+            public Long getAssignedToId() {
+                return assignedToId;
+            }
+
+            @Override
+            public TaskStatus getStatus() {
+                return status;
+            }
+
+            @Override
+            public LocalDateTime getDueDate() {
+                return dueDate;
+            }
+        };
+    }
+
+    public static TaskRepository.TaskDueView due(Long id, LocalDateTime dueDate, TaskStatus status) {
+        return new TaskRepository.TaskDueView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public LocalDateTime getDueDate() {
+                return dueDate;
+            }
+
+            @Override
+            public TaskStatus getStatus() {
+                return status;
+            }
+        };
+    }
+
+    public static TaskRepository.TaskCountView count(TaskStatus status, Long assignedToId, long count) {
+        return new TaskRepository.TaskCountView() {
+            @Override
+            public TaskStatus getStatus() {
+                return status;
+            }
+
+            @Override
+            public Long getAssignedToId() {
+                return assignedToId;
+            }
+
+            @Override
+            public Long getCount() {
+                return count;
+            }
+        };
+    }
+
+    public static TaskRepository.DueDateCountView dueCount(LocalDateTime dueDate, long count) {
+        return new TaskRepository.DueDateCountView() {
+            @Override
+            public LocalDateTime getDueDate() {
+                return dueDate;
+            }
+
+            @Override
+            public Long getCount() {
+                return count;
+            }
+        };
+    }
+}
@@ -1,24 +1,52 @@
 ```java
 package com.alx.vizflow.config;
 
-import com.github.ben_manes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 @Configuration
 public class CacheConfig {
 
+    public static final String DATASET_PLANS = "datasetPlans";
+    public static final String DATASET_DATA = "datasetData";
+
     @Bean
-    public CacheManager cacheManager() {
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager("users", "datasets", "visualizations"); // Define cache names
+    public CacheManager cacheManager(@Value("${dataset.data-cache.max-values:5000000}") long maxDatasetDataValues) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager("users", "datasets", "visualizations", DATASET_PLANS); // Define cache names
         cacheManager.setCaffeine(Caffeine.newBuilder()
                 .expireAfterWrite(10, TimeUnit.MINUTES) // Cache entries expire after 10 minutes
                 .maximumSize(1000)); // Max 1000 entries
+        // Transformed data ranges from a handful of rows to millions, so it is bounded by size, not entry count
+        cacheManager.registerCustomCache(DATASET_DATA, Caffeine.newBuilder()
+                .expireAfterWrite(10, TimeUnit.MINUTES) // Source data changes show up after at most 10 minutes
+                .maximumWeight(maxDatasetDataValues)
+                .weigher(CacheConfig::cellCount)
+                .build());
         return cacheManager;
     }
+
+    /**
+     * Weighs cached rows by their number of values, plus one per row.
+     */
+    private static int cellCount(Object key, Object value) {
+        if (!(value instanceof List<?> rows)) {
+            return 1;
+        }
+        long cells = rows.size();
+        for (Object row : rows) {
+            if (row instanceof Map<?, ?> values) {
+                cells += values.size();
+            }
+        }
+        return (int) Math.min(cells, Integer.MAX_VALUE);
+    }
 }
-```
\ No newline at end of file
+```
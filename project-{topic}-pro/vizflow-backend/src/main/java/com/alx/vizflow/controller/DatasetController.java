@@ -81,8 +81,7 @@ public class DatasetController {
     public ResponseEntity<List<Map<String, Object>>> getDatasetData(@PathVariable Long id) {
         log.info("Request to get processed data for dataset ID: {}", id);
         try {
-            List<Map<String, Object>> rawData = datasetService.fetchRawData(id);
-            List<Map<String, Object>> processedData = datasetService.applyTransformations(id, rawData);
+            List<Map<String, Object>> processedData = datasetService.getDatasetData(id); // Cached per dataset version
             log.info("Successfully fetched and processed data for dataset ID: {}", id);
             return ResponseEntity.ok(processedData);
         } catch (ResourceNotFoundException e) {
@@ -44,6 +44,10 @@ public class Dataset {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    @Version
+    @Column(nullable = false)
+    private Long version; // Set on insert and bumped by Hibernate on each update; keys the cached plan and data
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
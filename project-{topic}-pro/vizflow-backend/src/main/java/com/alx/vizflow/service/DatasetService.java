@@ -1,23 +1,27 @@
 ```java
 package com.alx.vizflow.service;
 
+import com.alx.vizflow.config.CacheConfig;
 import com.alx.vizflow.exception.ResourceNotFoundException;
 import com.alx.vizflow.model.Dataset;
 import com.alx.vizflow.model.DataSource;
+import com.alx.vizflow.model.Role;
 import com.alx.vizflow.model.User;
 import com.alx.vizflow.repository.DatasetRepository;
 import com.alx.vizflow.repository.DataSourceRepository;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.alx.vizflow.service.transform.ColumnarTable;
+import com.alx.vizflow.service.transform.TransformationPlan;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
+import java.util.concurrent.Callable;
 
 @Service
 @Transactional
@@ -27,11 +31,16 @@ public class DatasetService {
     private final DatasetRepository datasetRepository;
     private final DataSourceRepository dataSourceRepository; // To link datasets to data sources
     private final ObjectMapper objectMapper; // For JSON parsing (schema, transformation)
+    private final Cache planCache; // Compiled transformation logic per dataset version
+    private final Cache dataCache; // Transformed data per dataset version, weighed by size
 
-    public DatasetService(DatasetRepository datasetRepository, DataSourceRepository dataSourceRepository, ObjectMapper objectMapper) {
+    public DatasetService(DatasetRepository datasetRepository, DataSourceRepository dataSourceRepository, ObjectMapper objectMapper,
+                          CacheManager cacheManager) {
         this.datasetRepository = datasetRepository;
         this.dataSourceRepository = dataSourceRepository;
         this.objectMapper = objectMapper;
+        this.planCache = cacheManager.getCache(CacheConfig.DATASET_PLANS);
+        this.dataCache = cacheManager.getCache(CacheConfig.DATASET_DATA);
     }
 
     // --- CRUD Operations ---
@@ -40,9 +49,10 @@ public class DatasetService {
                 .orElseThrow(() -> new ResourceNotFoundException("DataSource not found with id: " + dataSourceId));
         dataset.setDataSource(dataSource);
         dataset.setOwner(currentUser);
+        dataset.setVersion(null); // Set by Hibernate on insert
         // Basic validation for JSON fields
         validateJsonConfig(dataset.getSchemaDefinition(), "Schema definition is invalid JSON");
-        validateJsonConfig(dataset.getTransformationLogic(), "Transformation logic is invalid JSON");
+        compileTransformationLogic(dataset.getTransformationLogic());
 
         return datasetRepository.save(dataset);
     }
@@ -73,9 +83,11 @@ public class DatasetService {
         existingDataset.setQueryOrTable(updatedDataset.getQueryOrTable());
         existingDataset.setSchemaDefinition(updatedDataset.getSchemaDefinition());
         existingDataset.setTransformationLogic(updatedDataset.getTransformationLogic());
+        // Hibernate bumps the version when the change is flushed, retiring the cached plan and data; a concurrent
+        // update of the same version fails with an optimistic locking error instead of being lost
 
         validateJsonConfig(existingDataset.getSchemaDefinition(), "Schema definition is invalid JSON");
-        validateJsonConfig(existingDataset.getTransformationLogic(), "Transformation logic is invalid JSON");
+        compileTransformationLogic(existingDataset.getTransformationLogic());
 
         return datasetRepository.save(existingDataset);
     }
@@ -92,6 +104,21 @@ public class DatasetService {
 
     // --- Data Processing/Query Logic (ALX Focus) ---
 
+    /**
+     * Returns a dataset's data with its transformations applied.
+     * The result is cached per dataset version, so it is computed again once the dataset is updated, or once the
+     * cache entry expires to pick up changes in the source data. Concurrent requests for a version that is not
+     * cached yet wait for a single computation.
+     *
+     * @param datasetId The ID of the dataset.
+     * @return Transformed data, ready for visualization.
+     */
+    public List<Map<String, Object>> getDatasetData(Long datasetId) {
+        Dataset dataset = getDatasetById(datasetId);
+        return getOrCompute(dataCache, DatasetVersion.of(dataset),
+                () -> applyTransformations(dataset, fetchRawTable(dataset)));
+    }
+
     /**
      * Fetches raw data based on the dataset's data source and query.
      * This is a simplified placeholder. In a real system, this would involve:
@@ -101,7 +128,14 @@ public class DatasetService {
      * For now, it returns dummy data.
      */
     public List<Map<String, Object>> fetchRawData(Long datasetId) {
-        Dataset dataset = getDatasetById(datasetId);
+        return fetchRawTable(getDatasetById(datasetId)).toRows();
+    }
+
+    /**
+     * Fetches raw data straight into columns. Each row the source yields is added to a table builder as it is
+     * read, so a large dataset is never held as one map per row on its way to the transformations.
+     */
+    private ColumnarTable fetchRawTable(Dataset dataset) {
         DataSource dataSource = dataset.getDataSource();
 
         log.info("Fetching raw data for dataset: {} from data source: {}", dataset.getName(), dataSource.getName());
@@ -113,7 +147,9 @@ public class DatasetService {
         // if (dataSource.getType().equals("API")) { ... Make HTTP request ... }
 
         // Placeholder for actual data fetching logic
-        // Imagine connecting to 'dataSource.getConnectionDetails()' and running 'dataset.getQueryOrTable()'
+        // Imagine connecting to 'dataSource.getConnectionDetails()' and running 'dataset.getQueryOrTable()': the
+        // column labels of the ResultSetMetaData name the builder's columns, and each row's getObject values go to
+        // addRow, reusing one array
         return generateDummyData(); // Simulate data from a DB/API
     }
 
@@ -126,127 +162,74 @@ public class DatasetService {
      * @return Transformed data, ready for visualization.
      */
     public List<Map<String, Object>> applyTransformations(Long datasetId, List<Map<String, Object>> rawData) {
-        Dataset dataset = getDatasetById(datasetId);
-        String transformationLogicJson = dataset.getTransformationLogic();
+        return applyTransformations(getDatasetById(datasetId), rawData);
+    }
 
-        if (transformationLogicJson == null || transformationLogicJson.isEmpty() || transformationLogicJson.equals("{}")) {
-            log.info("No transformation logic found for dataset {}. Returning raw data.", dataset.getName());
-            return rawData;
+    private List<Map<String, Object>> applyTransformations(Dataset dataset, List<Map<String, Object>> rawData) {
+        if (getTransformationPlan(dataset).isIdentity()) {
+            return rawData; // Nothing to convert
         }
+        return applyTransformations(dataset, ColumnarTable.fromRows(rawData));
+    }
 
-        try {
-            JsonNode logicNode = objectMapper.readTree(transformationLogicJson);
-            // --- ALX: Algorithm Design for Data Transformation ---
-            // This is a complex area, often involving chaining operations.
-            // Example structure of transformationLogicJson:
-            // {
-            //   "filters": [ {"column": "sales", "operator": ">", "value": 100} ],
-            //   "aggregations": [ {"column": "amount", "type": "SUM", "alias": "total_amount", "groupBy": ["category"]} ],
-            //   "renames": [ {"old": "product_name", "new": "Product"} ]
-            // }
-
-            // 1. Filtering (e.g., using Java Streams)
-            List<Map<String, Object>> filteredData = rawData;
-            if (logicNode.has("filters")) {
-                for (JsonNode filter : logicNode.get("filters")) {
-                    String column = filter.get("column").asText();
-                    String operator = filter.get("operator").asText();
-                    JsonNode valueNode = filter.get("value");
-
-                    filteredData = filteredData.stream().filter(row -> {
-                        Object rowValue = row.get(column);
-                        if (rowValue == null) return false;
-                        return evaluateFilter(rowValue, operator, valueNode);
-                    }).collect(Collectors.toList());
-                }
-            }
-            // 2. Aggregation (more complex, requires grouping and reducing)
-            if (logicNode.has("aggregations")) {
-                JsonNode aggregationsNode = logicNode.get("aggregations");
-                for (JsonNode aggregation : aggregationsNode) {
-                    String aggColumn = aggregation.get("column").asText();
-                    String aggType = aggregation.get("type").asText(); // SUM, AVG, COUNT, MIN, MAX
-                    String alias = aggregation.get("alias").asText();
-                    List<String> groupByColumns = StreamSupport.stream(aggregation.get("groupBy").spliterator(), false)
-                            .map(JsonNode::asText)
-                            .collect(Collectors.toList());
-
-                    // This is a simplified example for SUM, needs proper handling for different types and grouping keys
-                    Map<List<Object>, Double> aggregatedResults = filteredData.stream()
-                        .collect(Collectors.groupingBy(
-                            row -> groupByColumns.stream().map(row::get).collect(Collectors.toList()),
-                            Collectors.summingDouble(row -> ((Number) row.getOrDefault(aggColumn, 0)).doubleValue())
-                        ));
-
-                    // Convert aggregated results back to List<Map<String, Object>>
-                    filteredData = aggregatedResults.entrySet().stream().map(entry -> {
-                        Map<String, Object> newRow = new java.util.HashMap<>();
-                        for (int i = 0; i < groupByColumns.size(); i++) {
-                            newRow.put(groupByColumns.get(i), entry.getKey().get(i));
-                        }
-                        newRow.put(alias, entry.getValue());
-                        return newRow;
-                    }).collect(Collectors.toList());
-
-                    // Note: This simple aggregation overwrites filteredData. A real system would need to merge or carefully structure.
-                    break; // Only processing one aggregation for simplicity here
-                }
-            }
+    private List<Map<String, Object>> applyTransformations(Dataset dataset, ColumnarTable rawData) {
+        TransformationPlan plan = getTransformationPlan(dataset);
 
-            // 3. Renaming (simple map operation)
-            List<Map<String, Object>> transformedData = filteredData.stream().map(row -> {
-                Map<String, Object> newRow = new java.util.HashMap<>();
-                if (logicNode.has("renames")) {
-                    for (JsonNode rename : logicNode.get("renames")) {
-                        String oldName = rename.get("old").asText();
-                        String newName = rename.get("new").asText();
-                        if (row.containsKey(oldName)) {
-                            newRow.put(newName, row.get(oldName));
-                        } else { // Keep original if not renamed
-                            newRow.put(oldName, row.get(oldName));
-                        }
-                    }
-                } else {
-                    newRow.putAll(row); // If no renames, keep all columns
-                }
-                return newRow;
-            }).collect(Collectors.toList());
-
-            return transformedData;
+        if (plan.isIdentity()) {
+            log.info("No transformation logic found for dataset {}. Returning raw data.", dataset.getName());
+            return rawData.toRows();
+        }
 
-        } catch (IOException e) {
-            log.error("Failed to parse transformation logic JSON: {}", transformationLogicJson, e);
-            throw new IllegalArgumentException("Invalid transformation logic JSON format.", e);
+        // --- ALX: Algorithm Design for Data Transformation ---
+        // The compiled plan filters, aggregates, renames and projects the typed columns one column at a time (see
+        // TransformationPlan for the JSON structure), and only the result is turned back into rows.
+        try {
+            return plan.execute(rawData).toRows();
+        } catch (IllegalArgumentException e) {
+            throw e; // Logic that does not fit the data, e.g. summing a text column
         } catch (Exception e) {
-            log.error("Error applying transformations for dataset {}: {}", datasetId, e.getMessage(), e);
+            log.error("Error applying transformations for dataset {}: {}", dataset.getId(), e.getMessage(), e);
             throw new RuntimeException("Error during data transformation.", e);
         }
     }
 
+    /**
+     * Returns the compiled transformation logic of a dataset, compiling it once per dataset version.
+     */
+    private TransformationPlan getTransformationPlan(Dataset dataset) {
+        return getOrCompute(planCache, DatasetVersion.of(dataset),
+                () -> compileTransformationLogic(dataset.getTransformationLogic()));
+    }
 
     /**
-     * Utility method to evaluate filter conditions.
-     * ALX: Example of basic logic and condition handling.
+     * Returns a cached value, computing it on a miss. Errors of the computation are rethrown as they are, so that
+     * invalid logic is still reported as a bad request.
      */
-    private boolean evaluateFilter(Object rowValue, String operator, JsonNode filterValueNode) {
+    private static <T> T getOrCompute(Cache cache, Object key, Callable<T> compute) {
         try {
-            switch (operator.toLowerCase()) {
-                case "=":
-                case "==": return String.valueOf(rowValue).equals(filterValueNode.asText());
-                case "!=": return !String.valueOf(rowValue).equals(filterValueNode.asText());
-                case ">": return ((Number) rowValue).doubleValue() > filterValueNode.asDouble();
-                case "<": return ((Number) rowValue).doubleValue() < filterValueNode.asDouble();
-                case ">=": return ((Number) rowValue).doubleValue() >= filterValueNode.asDouble();
-                case "<=": return ((Number) rowValue).doubleValue() <= filterValueNode.asDouble();
-                case "contains": return String.valueOf(rowValue).contains(filterValueNode.asText());
-                // Add more operators as needed (e.g., in, starts_with, ends_with)
-                default:
-                    log.warn("Unsupported filter operator: {}", operator);
-                    return false;
+            return cache.get(key, compute);
+        } catch (Cache.ValueRetrievalException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
             }
-        } catch (ClassCastException e) {
-            log.error("Type mismatch in filter for value '{}' with operator '{}' and filter value '{}'", rowValue, operator, filterValueNode);
-            return false; // Handle type mismatches gracefully
+            throw e;
+        }
+    }
+
+    /**
+     * Parses and compiles transformation logic.
+     *
+     * @throws IllegalArgumentException If the logic is not valid JSON or not a valid transformation.
+     */
+    private TransformationPlan compileTransformationLogic(String transformationLogicJson) {
+        if (transformationLogicJson == null || transformationLogicJson.isBlank()) {
+            return TransformationPlan.identity();
+        }
+        try {
+            return TransformationPlan.compile(objectMapper.readTree(transformationLogicJson));
+        } catch (IOException e) {
+            log.error("Failed to parse transformation logic JSON: {}", transformationLogicJson, e);
+            throw new IllegalArgumentException("Invalid transformation logic JSON format.", e);
         }
     }
 
@@ -269,16 +252,25 @@ public class DatasetService {
      * Generates dummy data for demonstration purposes.
      * This simulates data coming from a connected data source.
      */
-    private List<Map<String, Object>> generateDummyData() {
-        return List.of(
-                Map.of("category", "Electronics", "sales", 1200.0, "units", 50, "region", "North"),
-                Map.of("category", "Electronics", "sales", 800.0, "units", 30, "region", "South"),
-                Map.of("category", "Clothing", "sales", 500.0, "units", 100, "region", "North"),
-                Map.of("category", "Clothing", "sales", 1500.0, "units", 150, "region", "East"),
-                Map.of("category", "Books", "sales", 300.0, "units", 20, "region", "West"),
-                Map.of("category", "Electronics", "sales", 2000.0, "units", 75, "region", "East"),
-                Map.of("category", "Books", "sales", 700.0, "units", 40, "region", "North")
-        );
+    private ColumnarTable generateDummyData() {
+        return ColumnarTable.builder(List.of("category", "sales", "units", "region"), 7)
+                .addRow("Electronics", 1200.0, 50, "North")
+                .addRow("Electronics", 800.0, 30, "South")
+                .addRow("Clothing", 500.0, 100, "North")
+                .addRow("Clothing", 1500.0, 150, "East")
+                .addRow("Books", 300.0, 20, "West")
+                .addRow("Electronics", 2000.0, 75, "East")
+                .addRow("Books", 700.0, 40, "North")
+                .build();
+    }
+
+    /**
+     * Cache key of what is derived from a dataset's definition.
+     */
+    private record DatasetVersion(Long datasetId, long version) {
+        static DatasetVersion of(Dataset dataset) {
+            return new DatasetVersion(dataset.getId(), dataset.getVersion());
+        }
     }
 }
-```
\ No newline at end of file
+```
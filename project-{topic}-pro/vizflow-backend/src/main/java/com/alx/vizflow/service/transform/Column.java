@@ -0,0 +1,43 @@
+```java
+package com.alx.vizflow.service.transform;
+
+/**
+ * One column of a {@link ColumnarTable}: a name and a typed vector of values, one per row.
+ * Columns are immutable once built; operators produce new columns instead of changing them.
+ */
+public abstract class Column {
+
+    private final String name;
+
+    protected Column(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public abstract int size();
+
+    public abstract boolean isNull(int row);
+
+    /**
+     * Returns the value of one row as it appears in row form: the value the table was built from, or Long or
+     * Double in computed columns.
+     */
+    public abstract Object getValue(int row);
+
+    /**
+     * Returns the same values under another name.
+     */
+    public abstract Column rename(String newName);
+
+    /**
+     * Returns a column of the given rows, in the given order.
+     *
+     * @param rows  Row indexes into this column.
+     * @param count Number of indexes of {@code rows} to use.
+     */
+    public abstract Column gather(int[] rows, int count);
+}
+```
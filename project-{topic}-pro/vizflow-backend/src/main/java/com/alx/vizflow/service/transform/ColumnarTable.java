@@ -0,0 +1,307 @@
+```java
+package com.alx.vizflow.service.transform;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An immutable table stored column by column, the input and output of a {@link TransformationPlan}.
+ * A column is numeric when every non-null value in it is a boxed primitive number, text when every one is a
+ * String, and a column of objects otherwise, so that every value comes back from {@link #toRows()} as it was
+ * given; a column missing from some rows is null there.
+ * <p>
+ * A source that yields rows one at a time, such as a JDBC result set, should feed a {@link #builder(List, int)}
+ * so the rows never exist as maps; {@link #fromRows(List)} is for data that is already held as maps.
+ */
+public final class ColumnarTable {
+
+    private final int rowCount;
+    private final List<Column> columns;
+    private final Map<String, Column> byName;
+
+    public ColumnarTable(int rowCount, List<Column> columns) {
+        this.rowCount = rowCount;
+        this.columns = List.copyOf(columns);
+        this.byName = new HashMap<>();
+        for (Column column : columns) {
+            if (column.size() != rowCount) {
+                throw new IllegalArgumentException("Column '" + column.getName() + "' has " + column.size() + " rows, expected " + rowCount);
+            }
+            if (byName.put(column.getName(), column) != null) {
+                throw new IllegalArgumentException("Duplicate column '" + column.getName() + "'");
+            }
+        }
+    }
+
+    public int rowCount() {
+        return rowCount;
+    }
+
+    public List<Column> columns() {
+        return columns;
+    }
+
+    /**
+     * Returns the column with the given name, or null if the table has none.
+     */
+    public Column column(String name) {
+        return byName.get(name);
+    }
+
+    /**
+     * Returns a builder of a table with the given columns, sized for the expected number of rows.
+     */
+    public static Builder builder(List<String> columnNames, int expectedRows) {
+        return new Builder(columnNames, expectedRows);
+    }
+
+    /**
+     * Converts rows into columns in one pass over the values.
+     */
+    public static ColumnarTable fromRows(List<Map<String, Object>> rows) {
+        int rowCount = rows.size();
+        Map<String, ColumnBuilder> builders = new LinkedHashMap<>(); // Columns in order of first appearance
+        // Rows from one source mostly share their key instances and order, so the builder at each position of
+        // the previous row is tried by identity before looking the key up
+        String[] lastKeys = new String[0];
+        ColumnBuilder[] lastBuilders = new ColumnBuilder[0];
+        for (int row = 0; row < rowCount; row++) {
+            Map<String, Object> values = rows.get(row);
+            if (values.size() > lastKeys.length) {
+                lastKeys = Arrays.copyOf(lastKeys, values.size());
+                lastBuilders = Arrays.copyOf(lastBuilders, values.size());
+            }
+            int position = 0;
+            for (Map.Entry<String, Object> entry : values.entrySet()) {
+                String key = entry.getKey();
+                ColumnBuilder builder = lastBuilders[position];
+                if (lastKeys[position] != key) {
+                    builder = builders.get(key);
+                    if (builder == null) {
+                        builder = new ColumnBuilder(key, rowCount);
+                        builders.put(key, builder);
+                    }
+                    lastKeys[position] = key;
+                    lastBuilders[position] = builder;
+                }
+                position++;
+                if (entry.getValue() != null) {
+                    builder.set(row, entry.getValue());
+                }
+            }
+        }
+        List<Column> columns = new ArrayList<>(builders.size());
+        builders.values().forEach(builder -> columns.add(builder.build(rowCount)));
+        return new ColumnarTable(rowCount, columns);
+    }
+
+    /**
+     * Converts the table back into rows; null values are left out of a row's map.
+     */
+    public List<Map<String, Object>> toRows() {
+        List<Map<String, Object>> rows = new ArrayList<>(rowCount);
+        int capacity = (int) (columns.size() / 0.75f) + 1;
+        for (int row = 0; row < rowCount; row++) {
+            Map<String, Object> values = new HashMap<>(capacity);
+            for (Column column : columns) {
+                Object value = column.getValue(row);
+                if (value != null) {
+                    values.put(column.getName(), value);
+                }
+            }
+            rows.add(values);
+        }
+        return rows;
+    }
+
+    /**
+     * Builds a table from rows given as values in column order, typing each column as {@link #fromRows(List)}
+     * does. A row's values are copied out when it is added, so the caller may reuse the array for the next row.
+     */
+    public static final class Builder {
+        private final List<String> columnNames;
+        private final ColumnBuilder[] builders;
+        private int rowCount;
+
+        private Builder(List<String> columnNames, int expectedRows) {
+            if (new HashSet<>(columnNames).size() != columnNames.size()) {
+                throw new IllegalArgumentException("Duplicate column in " + columnNames);
+            }
+            this.columnNames = List.copyOf(columnNames);
+            this.builders = new ColumnBuilder[columnNames.size()];
+            for (int i = 0; i < builders.length; i++) {
+                builders[i] = new ColumnBuilder(columnNames.get(i), Math.max(expectedRows, 0));
+            }
+        }
+
+        /**
+         * Adds a row; a null value leaves its column null in that row.
+         */
+        public Builder addRow(Object... values) {
+            if (values.length != builders.length) {
+                throw new IllegalArgumentException("Row has " + values.length + " values, expected " + builders.length
+                        + " for " + columnNames);
+            }
+            for (int i = 0; i < values.length; i++) {
+                if (values[i] != null) {
+                    builders[i].set(rowCount, values[i]);
+                }
+            }
+            rowCount++;
+            return this;
+        }
+
+        public ColumnarTable build() {
+            List<Column> columns = new ArrayList<>(builders.length);
+            for (ColumnBuilder builder : builders) {
+                columns.add(builder.build(rowCount));
+            }
+            return new ColumnarTable(rowCount, columns);
+        }
+    }
+
+    /**
+     * Accumulates the values of one column. It starts out numeric, becomes text if its first value is a String,
+     * and turns into an object column, boxing what it holds so far, at the first value of another kind. Its
+     * vectors start at the expected row count and double when a row lands past their end.
+     */
+    private static final class ColumnBuilder {
+        private final String name;
+        private int capacity;
+        private final BitSet present = new BitSet();
+        private double[] numbers;
+        private boolean integral = true;
+        private NumericColumn.Type type;
+        private byte[] rowTypes;
+        private int[] codes;
+        private List<String> dictionary;
+        private Map<String, Integer> dictionaryIndex;
+        private Object[] objects;
+
+        ColumnBuilder(String name, int capacity) {
+            this.name = name;
+            this.capacity = capacity;
+            this.numbers = new double[capacity];
+        }
+
+        void set(int row, Object value) {
+            if (row >= capacity) {
+                grow(row + 1);
+            }
+            if (objects == null) {
+                NumericColumn.Type valueType = NumericColumn.Type.of(value);
+                if (valueType != null && numbers != null) {
+                    setNumber(row, ((Number) value).doubleValue(), valueType);
+                    present.set(row);
+                    return;
+                }
+                if (value instanceof String text && (codes != null || present.isEmpty())) {
+                    if (codes == null) {
+                        toText();
+                    }
+                    codes[row] = encode(text);
+                    present.set(row);
+                    return;
+                }
+                toObjects();
+            }
+            objects[row] = value;
+            present.set(row);
+        }
+
+        private void setNumber(int row, double value, NumericColumn.Type valueType) {
+            numbers[row] = value;
+            integral &= valueType.isIntegral();
+            if (type == null) {
+                type = valueType;
+            } else if (valueType != type && rowTypes == null) {
+                rowTypes = new byte[capacity]; // Only columns that mix types pay for a type per row
+                Arrays.fill(rowTypes, (byte) type.ordinal());
+            }
+            if (rowTypes != null) {
+                rowTypes[row] = (byte) valueType.ordinal();
+            }
+        }
+
+        private void grow(int minCapacity) {
+            int oldCapacity = capacity;
+            capacity = Math.max(minCapacity, oldCapacity * 2);
+            if (numbers != null) {
+                numbers = Arrays.copyOf(numbers, capacity);
+            }
+            if (rowTypes != null) {
+                rowTypes = Arrays.copyOf(rowTypes, capacity);
+            }
+            if (codes != null) {
+                codes = Arrays.copyOf(codes, capacity);
+                Arrays.fill(codes, oldCapacity, capacity, StringColumn.NULL_CODE);
+            }
+            if (objects != null) {
+                objects = Arrays.copyOf(objects, capacity);
+            }
+        }
+
+        private void toText() {
+            codes = new int[capacity];
+            Arrays.fill(codes, StringColumn.NULL_CODE);
+            dictionary = new ArrayList<>();
+            dictionaryIndex = new HashMap<>();
+            numbers = null;
+        }
+
+        private void toObjects() {
+            objects = new Object[capacity];
+            NumericColumn.Type[] types = NumericColumn.Type.values();
+            for (int row = present.nextSetBit(0); row >= 0; row = present.nextSetBit(row + 1)) {
+                objects[row] = codes != null ? dictionary.get(codes[row])
+                        : (rowTypes != null ? types[rowTypes[row]] : type).box(numbers[row]);
+            }
+            numbers = null;
+            rowTypes = null;
+            codes = null;
+            dictionary = null;
+            dictionaryIndex = null;
+        }
+
+        private int encode(String value) {
+            Integer code = dictionaryIndex.get(value);
+            if (code == null) {
+                code = dictionary.size();
+                dictionary.add(value);
+                dictionaryIndex.put(value, code);
+            }
+            return code;
+        }
+
+        /**
+         * Returns the column of the first {@code rowCount} rows, null past the last value set. The vectors are
+         * only copied when their length is not the row count.
+         */
+        Column build(int rowCount) {
+            if (rowCount > capacity) {
+                grow(rowCount);
+            }
+            if (objects != null) {
+                return new ObjectColumn(name, objects.length == rowCount ? objects : Arrays.copyOf(objects, rowCount));
+            }
+            if (codes != null) {
+                int[] trimmed = codes.length == rowCount ? codes : Arrays.copyOf(codes, rowCount);
+                return new StringColumn(name, trimmed, Collections.unmodifiableList(dictionary));
+            }
+            BitSet nulls = new BitSet(rowCount);
+            nulls.set(0, rowCount);
+            nulls.andNot(present);
+            double[] trimmed = numbers.length == rowCount ? numbers : Arrays.copyOf(numbers, rowCount);
+            byte[] trimmedTypes = rowTypes == null || rowTypes.length == rowCount ? rowTypes : Arrays.copyOf(rowTypes, rowCount);
+            return new NumericColumn(name, trimmed, nulls, integral, type != null ? type : NumericColumn.Type.LONG, trimmedTypes);
+        }
+    }
+}
+```
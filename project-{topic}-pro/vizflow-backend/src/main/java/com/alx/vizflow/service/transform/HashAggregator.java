@@ -0,0 +1,186 @@
+```java
+package com.alx.vizflow.service.transform;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Group-by with any number of aggregates over column vectors.
+ * Rows are first assigned dense group IDs, one group-by column at a time: each pass hashes the previous
+ * pass's group ID together with the row's code in the next column into a primitive long-to-int map. Each
+ * aggregate is then computed in its own tight loop over primitive arrays indexed by group ID.
+ */
+final class HashAggregator {
+
+    private static final int INITIAL_GROUPS = 1024;
+
+    private HashAggregator() {
+    }
+
+    /**
+     * Aggregates the selected rows of a table.
+     *
+     * @param input      The table.
+     * @param selection  Indexes of the selected rows, or null for all rows.
+     * @param count      Number of selected rows.
+     * @param groupBy    Group-by columns, possibly none for a single global group.
+     * @param aggregates Aggregates to compute per group.
+     * @return One row per group: the group-by columns, then one column per aggregate, named by its alias.
+     */
+    static ColumnarTable aggregate(ColumnarTable input, int[] selection, int count,
+                                   List<Column> groupBy, List<TransformationPlan.Aggregate> aggregates) {
+        int[] groupIds = new int[count]; // Group of the i-th selected row; all 0 without group-by columns
+        int groupCount = 1;
+        int[] firstRows = new int[0];
+        if (!groupBy.isEmpty()) {
+            LongIntHashMap groups = null;
+            for (int k = 0; k < groupBy.size(); k++) {
+                int[] codes = codes(groupBy.get(k), selection, count);
+                groups = new LongIntHashMap(INITIAL_GROUPS);
+                for (int i = 0; i < count; i++) {
+                    long key = k == 0 ? codes[i] : ((long) groupIds[i] << 32) | codes[i];
+                    groupIds[i] = groups.putIfAbsentNext(key);
+                }
+            }
+            groupCount = groups.size();
+            firstRows = new int[groupCount];
+            Arrays.fill(firstRows, -1);
+            for (int i = 0; i < count; i++) {
+                if (firstRows[groupIds[i]] < 0) {
+                    firstRows[groupIds[i]] = selection == null ? i : selection[i];
+                }
+            }
+        }
+
+        List<Column> columns = new ArrayList<>(groupBy.size() + aggregates.size());
+        for (Column column : groupBy) {
+            columns.add(column.gather(firstRows, groupCount));
+        }
+        for (TransformationPlan.Aggregate aggregate : aggregates) {
+            columns.add(compute(aggregate, input, selection, count, groupIds, groupCount));
+        }
+        return new ColumnarTable(groupCount, columns);
+    }
+
+    /**
+     * Maps the selected rows of a group-by column to small int codes, 0 standing for null.
+     */
+    private static int[] codes(Column column, int[] selection, int count) {
+        int[] codes = new int[count];
+        if (column instanceof StringColumn text) {
+            int[] values = text.codes();
+            for (int i = 0; i < count; i++) {
+                codes[i] = values[selection == null ? i : selection[i]] + 1; // NULL_CODE (-1) becomes 0
+            }
+            return codes;
+        }
+        if (column instanceof ObjectColumn objects) {
+            Map<Object, Integer> distinct = new HashMap<>(); // Groups by equals, as the row maps would
+            for (int i = 0; i < count; i++) {
+                Object value = objects.getValue(selection == null ? i : selection[i]);
+                if (value != null) {
+                    codes[i] = distinct.computeIfAbsent(value, key -> distinct.size() + 1);
+                }
+            }
+            return codes;
+        }
+        NumericColumn numeric = (NumericColumn) column;
+        double[] values = numeric.values();
+        BitSet nulls = numeric.nulls();
+        boolean hasNulls = !nulls.isEmpty();
+        LongIntHashMap distinct = new LongIntHashMap(INITIAL_GROUPS);
+        for (int i = 0; i < count; i++) {
+            int row = selection == null ? i : selection[i];
+            if (hasNulls && nulls.get(row)) {
+                continue; // Stays 0
+            }
+            double value = values[row];
+            // -0.0 joins 0.0, and every NaN is one group; neither leaves Long.MIN_VALUE, the map's empty marker
+            long bits = Double.doubleToLongBits(value == 0.0 ? 0.0 : value);
+            codes[i] = distinct.putIfAbsentNext(bits) + 1;
+        }
+        return codes;
+    }
+
+    private static Column compute(TransformationPlan.Aggregate aggregate, ColumnarTable input, int[] selection, int count,
+                                  int[] groupIds, int groupCount) {
+        long[] counts = new long[groupCount];
+        Column source = aggregate.column() == null ? null : input.column(aggregate.column());
+        if (source == null || aggregate.function() == TransformationPlan.AggregateFunction.COUNT) {
+            // COUNT(*), or COUNT of a column: its non-null values
+            for (int i = 0; i < count; i++) {
+                if (source == null || !source.isNull(selection == null ? i : selection[i])) {
+                    counts[groupIds[i]]++;
+                }
+            }
+            double[] values = new double[groupCount];
+            for (int g = 0; g < groupCount; g++) {
+                values[g] = counts[g];
+            }
+            return new NumericColumn(aggregate.alias(), values, new BitSet(), true);
+        }
+
+        // Checked when the plan was bound: numbers, or objects that are all numbers
+        NumericColumn numeric = source instanceof ObjectColumn objects ? objects.toNumeric() : (NumericColumn) source;
+        double[] values = numeric.values();
+        BitSet nulls = numeric.nulls();
+        boolean hasNulls = !nulls.isEmpty();
+        double[] results = new double[groupCount];
+        switch (aggregate.function()) {
+            case SUM, AVG -> {
+                for (int i = 0; i < count; i++) {
+                    int row = selection == null ? i : selection[i];
+                    if (!hasNulls || !nulls.get(row)) {
+                        int g = groupIds[i];
+                        results[g] += values[row];
+                        counts[g]++;
+                    }
+                }
+                if (aggregate.function() == TransformationPlan.AggregateFunction.AVG) {
+                    for (int g = 0; g < groupCount; g++) {
+                        results[g] = counts[g] == 0 ? 0 : results[g] / counts[g];
+                    }
+                }
+            }
+            case MIN -> {
+                Arrays.fill(results, Double.POSITIVE_INFINITY);
+                for (int i = 0; i < count; i++) {
+                    int row = selection == null ? i : selection[i];
+                    if (!hasNulls || !nulls.get(row)) {
+                        int g = groupIds[i];
+                        results[g] = Math.min(results[g], values[row]);
+                        counts[g]++;
+                    }
+                }
+            }
+            case MAX -> {
+                Arrays.fill(results, Double.NEGATIVE_INFINITY);
+                for (int i = 0; i < count; i++) {
+                    int row = selection == null ? i : selection[i];
+                    if (!hasNulls || !nulls.get(row)) {
+                        int g = groupIds[i];
+                        results[g] = Math.max(results[g], values[row]);
+                        counts[g]++;
+                    }
+                }
+            }
+            default -> throw new IllegalStateException("Unexpected aggregate " + aggregate.function());
+        }
+
+        BitSet resultNulls = new BitSet();
+        for (int g = 0; g < groupCount; g++) {
+            if (counts[g] == 0) {
+                resultNulls.set(g); // No value to aggregate, as in SQL
+            }
+        }
+        // MIN and MAX of whole numbers are whole numbers; sums and averages are reported as decimals
+        boolean integral = numeric.isIntegral() && aggregate.function() != TransformationPlan.AggregateFunction.SUM
+                && aggregate.function() != TransformationPlan.AggregateFunction.AVG;
+        return new NumericColumn(aggregate.alias(), results, resultNulls, integral);
+    }
+}
+```
@@ -0,0 +1,80 @@
+```java
+package com.alx.vizflow.service.transform;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing hash map from long keys to int values, without boxing, used to assign dense group IDs.
+ * Long.MIN_VALUE is reserved as the empty-slot marker and cannot be used as a key.
+ */
+final class LongIntHashMap {
+
+    private static final long EMPTY = Long.MIN_VALUE;
+
+    private long[] keys;
+    private int[] values;
+    private int mask;
+    private int size;
+
+    LongIntHashMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(16, expectedSize) * 2 - 1) << 1; // Power of two, load <= 0.5
+        allocate(capacity);
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the value of a key, first mapping it to the current size if it is absent; keys thus get
+     * consecutive values 0, 1, 2... in order of first appearance.
+     */
+    int putIfAbsentNext(long key) {
+        int slot = slot(key);
+        while (true) {
+            long existing = keys[slot];
+            if (existing == key) {
+                return values[slot];
+            }
+            if (existing == EMPTY) {
+                int value = size++;
+                keys[slot] = key;
+                values[slot] = value;
+                if (size * 2 > keys.length) {
+                    grow();
+                }
+                return value;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private int slot(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L; // Fibonacci hashing spreads sequential keys
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(oldKeys.length * 2);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int slot = slot(oldKeys[i]);
+                while (keys[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        Arrays.fill(keys, EMPTY);
+        values = new int[capacity];
+        mask = capacity - 1;
+    }
+}
+```
@@ -0,0 +1,138 @@
+```java
+package com.alx.vizflow.service.transform;
+
+import java.util.BitSet;
+
+/**
+ * A column of numbers stored as a primitive double vector, with a bitset marking null rows.
+ * Values read from rows come back in the boxed type they were given as (Byte, Short, Integer, Long, Float or
+ * Double); a column mixing several of these records the type of each row. Computed columns give back Long when
+ * integral and Double otherwise. Integral values must fit in 53 bits.
+ */
+public final class NumericColumn extends Column {
+
+    /**
+     * The boxed type a value is given back as.
+     */
+    public enum Type {
+        BYTE, SHORT, INTEGER, LONG, FLOAT, DOUBLE;
+
+        private static final Type[] VALUES = values();
+
+        /**
+         * Returns the type of a value, or null if it is not one of the boxed primitive numbers.
+         */
+        static Type of(Object value) {
+            if (value instanceof Double) {
+                return DOUBLE;
+            } else if (value instanceof Long) {
+                return LONG;
+            } else if (value instanceof Integer) {
+                return INTEGER;
+            } else if (value instanceof Float) {
+                return FLOAT;
+            } else if (value instanceof Short) {
+                return SHORT;
+            } else if (value instanceof Byte) {
+                return BYTE;
+            }
+            return null;
+        }
+
+        boolean isIntegral() {
+            return this != FLOAT && this != DOUBLE;
+        }
+
+        Object box(double value) {
+            return switch (this) {
+                case BYTE -> (byte) value;
+                case SHORT -> (short) value;
+                case INTEGER -> (int) value;
+                case LONG -> (long) value;
+                case FLOAT -> (float) value;
+                case DOUBLE -> value;
+            };
+        }
+    }
+
+    private final double[] values;
+    private final BitSet nulls;
+    private final boolean integral;
+    private final Type type;
+    private final byte[] rowTypes; // Ordinal of each row's type when the column mixes types, else null
+
+    public NumericColumn(String name, double[] values, BitSet nulls, boolean integral) {
+        this(name, values, nulls, integral, integral ? Type.LONG : Type.DOUBLE, null);
+    }
+
+    NumericColumn(String name, double[] values, BitSet nulls, boolean integral, Type type, byte[] rowTypes) {
+        super(name);
+        this.values = values;
+        this.nulls = nulls;
+        this.integral = integral;
+        this.type = type;
+        this.rowTypes = rowTypes;
+    }
+
+    /**
+     * The raw vector, shared with this column: operators read it directly and must not modify it.
+     */
+    double[] values() {
+        return values;
+    }
+
+    BitSet nulls() {
+        return nulls;
+    }
+
+    public boolean isIntegral() {
+        return integral;
+    }
+
+    public double getDouble(int row) {
+        return values[row];
+    }
+
+    @Override
+    public int size() {
+        return values.length;
+    }
+
+    @Override
+    public boolean isNull(int row) {
+        return nulls.get(row);
+    }
+
+    @Override
+    public Object getValue(int row) {
+        if (nulls.get(row)) {
+            return null;
+        }
+        return (rowTypes != null ? Type.VALUES[rowTypes[row]] : type).box(values[row]);
+    }
+
+    @Override
+    public Column rename(String newName) {
+        return new NumericColumn(newName, values, nulls, integral, type, rowTypes);
+    }
+
+    @Override
+    public Column gather(int[] rows, int count) {
+        double[] gathered = new double[count];
+        byte[] gatheredTypes = rowTypes != null ? new byte[count] : null;
+        BitSet gatheredNulls = new BitSet();
+        boolean hasNulls = !nulls.isEmpty();
+        for (int i = 0; i < count; i++) {
+            int row = rows[i];
+            gathered[i] = values[row];
+            if (gatheredTypes != null) {
+                gatheredTypes[i] = rowTypes[row];
+            }
+            if (hasNulls && nulls.get(row)) {
+                gatheredNulls.set(i);
+            }
+        }
+        return new NumericColumn(getName(), gathered, gatheredNulls, integral, type, gatheredTypes);
+    }
+}
+```
@@ -0,0 +1,87 @@
+```java
+package com.alx.vizflow.service.transform;
+
+import java.util.BitSet;
+
+/**
+ * A column of values that are neither all plain numbers nor all text: booleans, BigDecimal and BigInteger,
+ * dates, nested maps and lists, or a mix of kinds. The values are kept as given, so they come back unchanged.
+ * A column whose values are all numbers (BigDecimal, say) can still be aggregated, as doubles.
+ */
+public final class ObjectColumn extends Column {
+
+    private final Object[] values;
+    private final boolean numeric;
+
+    public ObjectColumn(String name, Object[] values) {
+        this(name, values, allNumbers(values));
+    }
+
+    private ObjectColumn(String name, Object[] values, boolean numeric) {
+        super(name);
+        this.values = values;
+        this.numeric = numeric;
+    }
+
+    /**
+     * Returns whether every non-null value is a Number.
+     */
+    public boolean isNumeric() {
+        return numeric;
+    }
+
+    /**
+     * Converts the values to doubles for aggregation; only valid when {@link #isNumeric()}.
+     */
+    NumericColumn toNumeric() {
+        double[] doubles = new double[values.length];
+        BitSet nulls = new BitSet(values.length);
+        for (int row = 0; row < values.length; row++) {
+            if (values[row] == null) {
+                nulls.set(row);
+            } else {
+                doubles[row] = ((Number) values[row]).doubleValue();
+            }
+        }
+        return new NumericColumn(getName(), doubles, nulls, false);
+    }
+
+    @Override
+    public int size() {
+        return values.length;
+    }
+
+    @Override
+    public boolean isNull(int row) {
+        return values[row] == null;
+    }
+
+    @Override
+    public Object getValue(int row) {
+        return values[row];
+    }
+
+    @Override
+    public Column rename(String newName) {
+        return new ObjectColumn(newName, values, numeric);
+    }
+
+    @Override
+    public Column gather(int[] rows, int count) {
+        Object[] gathered = new Object[count];
+        for (int i = 0; i < count; i++) {
+            gathered[i] = values[rows[i]];
+        }
+        return new ObjectColumn(getName(), gathered, numeric);
+    }
+
+    private static boolean allNumbers(Object[] values) {
+        for (Object value : values) {
+            if (value != null && !(value instanceof Number)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
+```
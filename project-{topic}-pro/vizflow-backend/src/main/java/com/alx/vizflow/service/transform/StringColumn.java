@@ -0,0 +1,73 @@
+```java
+package com.alx.vizflow.service.transform;
+
+import java.util.List;
+
+/**
+ * A dictionary-encoded text column: each row holds the int code of its value in a shared dictionary,
+ * or -1 for null. Equality filters and grouping compare codes instead of strings.
+ */
+public final class StringColumn extends Column {
+
+    public static final int NULL_CODE = -1;
+
+    private final int[] codes;
+    private final List<String> dictionary;
+
+    public StringColumn(String name, int[] codes, List<String> dictionary) {
+        super(name);
+        this.codes = codes;
+        this.dictionary = dictionary;
+    }
+
+    /**
+     * The raw code vector, shared with this column: operators read it directly and must not modify it.
+     */
+    int[] codes() {
+        return codes;
+    }
+
+    public List<String> dictionary() {
+        return dictionary;
+    }
+
+    /**
+     * Returns the code of a value, or {@link #NULL_CODE} if no row holds it. Scans the dictionary, which is
+     * done once per filter, not once per row.
+     */
+    public int codeOf(String value) {
+        int code = dictionary.indexOf(value);
+        return code >= 0 ? code : NULL_CODE;
+    }
+
+    @Override
+    public int size() {
+        return codes.length;
+    }
+
+    @Override
+    public boolean isNull(int row) {
+        return codes[row] == NULL_CODE;
+    }
+
+    @Override
+    public Object getValue(int row) {
+        int code = codes[row];
+        return code == NULL_CODE ? null : dictionary.get(code);
+    }
+
+    @Override
+    public Column rename(String newName) {
+        return new StringColumn(newName, codes, dictionary);
+    }
+
+    @Override
+    public Column gather(int[] rows, int count) {
+        int[] gathered = new int[count];
+        for (int i = 0; i < count; i++) {
+            gathered[i] = codes[rows[i]];
+        }
+        return new StringColumn(getName(), gathered, dictionary);
+    }
+}
+```
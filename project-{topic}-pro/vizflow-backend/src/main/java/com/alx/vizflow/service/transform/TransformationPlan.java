@@ -0,0 +1,461 @@
+```java
+package com.alx.vizflow.service.transform;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * A dataset's transformation logic, compiled once from its JSON form and executed over column vectors.
+ * <p>
+ * The logic is applied in this order:
+ * <pre>
+ * {
+ *   "filters":      [ {"column": "sales", "operator": ">", "value": 100} ],
+ *   "groupBy":      ["category"],
+ *   "aggregations": [ {"column": "sales", "type": "SUM", "alias": "total_sales"},
+ *                     {"type": "COUNT", "alias": "orders"} ],
+ *   "renames":      [ {"old": "category", "new": "Category"} ],
+ *   "select":       ["Category", "total_sales"]
+ * }
+ * </pre>
+ * Filters narrow a selection vector of row indexes instead of copying rows; rows where the filtered column is
+ * null never match. On a column of objects, equality compares numbers by value and anything else by its text,
+ * and ordering filters only match numbers. Aggregations (SUM, AVG, COUNT, MIN, MAX) share one group-by list, which may also be given
+ * on each aggregation as older datasets do; without aggregations the selected rows pass through whole. Renames
+ * keep the columns they do not mention, and "select" keeps only the listed columns, in that order.
+ * <p>
+ * Malformed logic is rejected with an IllegalArgumentException by {@link #compile(JsonNode)}, and logic that
+ * does not fit the data it runs on (comparing a text column with {@code >}, summing text, an unknown column in
+ * a group-by or select) by {@link #execute(ColumnarTable)}.
+ */
+public final class TransformationPlan {
+
+    private static final TransformationPlan IDENTITY = new TransformationPlan(List.of(), List.of(), List.of(), Map.of(), List.of());
+
+    public enum Operator {
+        EQ, NE, GT, LT, GE, LE, CONTAINS;
+
+        static Operator parse(String symbol) {
+            return switch (symbol.toLowerCase(Locale.ROOT)) {
+                case "=", "==" -> EQ;
+                case "!=" -> NE;
+                case ">" -> GT;
+                case "<" -> LT;
+                case ">=" -> GE;
+                case "<=" -> LE;
+                case "contains" -> CONTAINS;
+                default -> throw new IllegalArgumentException("Unsupported filter operator '" + symbol + "'");
+            };
+        }
+
+        boolean isOrdering() {
+            return this == GT || this == LT || this == GE || this == LE;
+        }
+    }
+
+    public enum AggregateFunction {
+        SUM, AVG, COUNT, MIN, MAX
+    }
+
+    /**
+     * A filter on one column. {@code number} is the value parsed as a number when it is one, else NaN.
+     */
+    public record Filter(String column, Operator operator, String text, double number) {
+    }
+
+    /**
+     * An aggregate over one column; a null column (COUNT only) counts rows.
+     */
+    public record Aggregate(String column, AggregateFunction function, String alias) {
+    }
+
+    private final List<Filter> filters;
+    private final List<String> groupBy;
+    private final List<Aggregate> aggregates;
+    private final Map<String, String> renames;
+    private final List<String> select;
+
+    private TransformationPlan(List<Filter> filters, List<String> groupBy, List<Aggregate> aggregates,
+                               Map<String, String> renames, List<String> select) {
+        this.filters = filters;
+        this.groupBy = groupBy;
+        this.aggregates = aggregates;
+        this.renames = renames;
+        this.select = select;
+    }
+
+    /**
+     * Returns the plan that leaves every table as it is.
+     */
+    public static TransformationPlan identity() {
+        return IDENTITY;
+    }
+
+    /**
+     * Compiles transformation logic.
+     *
+     * @param logic The parsed JSON, or null.
+     * @return The plan; the identity plan when there is no logic.
+     * @throws IllegalArgumentException If the logic is malformed.
+     */
+    public static TransformationPlan compile(JsonNode logic) {
+        if (logic == null || logic.isNull() || logic.isEmpty()) {
+            return IDENTITY;
+        }
+        if (!logic.isObject()) {
+            throw new IllegalArgumentException("Transformation logic must be a JSON object");
+        }
+
+        List<Filter> filters = new ArrayList<>();
+        for (JsonNode filter : array(logic, "filters")) {
+            Operator operator = Operator.parse(requiredText(filter, "operator", "filter"));
+            JsonNode value = filter.get("value");
+            if (value == null || value.isNull() || value.isContainerNode()) {
+                throw new IllegalArgumentException("Filter needs a 'value'");
+            }
+            double number = value.isNumber() ? value.asDouble() : parseNumber(value.asText());
+            if (operator.isOrdering() && Double.isNaN(number)) {
+                throw new IllegalArgumentException("Filter operator '" + filter.get("operator").asText() + "' needs a numeric value");
+            }
+            filters.add(new Filter(requiredText(filter, "column", "filter"), operator, value.asText(), number));
+        }
+
+        List<String> groupBy = logic.has("groupBy") ? texts(logic.get("groupBy"), "groupBy") : null;
+        List<Aggregate> aggregates = new ArrayList<>();
+        for (JsonNode aggregation : array(logic, "aggregations")) {
+            String type = requiredText(aggregation, "type", "aggregation");
+            AggregateFunction function;
+            try {
+                function = AggregateFunction.valueOf(type.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unsupported aggregation type '" + type + "'");
+            }
+            String column = aggregation.hasNonNull("column") ? aggregation.get("column").asText() : null;
+            if (column == null || "*".equals(column)) {
+                if (function != AggregateFunction.COUNT) {
+                    throw new IllegalArgumentException("Aggregation " + function + " needs a 'column'");
+                }
+                column = null;
+            }
+            String alias = aggregation.hasNonNull("alias") ? aggregation.get("alias").asText()
+                    : function.name().toLowerCase(Locale.ROOT) + (column != null ? "_" + column : "");
+            aggregates.add(new Aggregate(column, function, alias));
+
+            if (aggregation.has("groupBy")) {
+                List<String> own = texts(aggregation.get("groupBy"), "groupBy");
+                if (groupBy != null && !groupBy.equals(own)) {
+                    throw new IllegalArgumentException("All aggregations must use the same groupBy columns");
+                }
+                groupBy = own;
+            }
+        }
+        if (groupBy == null) {
+            groupBy = List.of();
+        } else if (aggregates.isEmpty() && !groupBy.isEmpty()) {
+            throw new IllegalArgumentException("groupBy needs at least one aggregation");
+        }
+
+        Map<String, String> renames = new LinkedHashMap<>();
+        for (JsonNode rename : array(logic, "renames")) {
+            renames.put(requiredText(rename, "old", "rename"), requiredText(rename, "new", "rename"));
+        }
+
+        List<String> select = logic.has("select") ? texts(logic.get("select"), "select") : List.of();
+
+        return new TransformationPlan(List.copyOf(filters), List.copyOf(groupBy), List.copyOf(aggregates),
+                renames, List.copyOf(select));
+    }
+
+    /**
+     * Returns whether the plan leaves every table as it is.
+     */
+    public boolean isIdentity() {
+        return filters.isEmpty() && aggregates.isEmpty() && renames.isEmpty() && select.isEmpty();
+    }
+
+    public List<Filter> filters() {
+        return filters;
+    }
+
+    public List<String> groupBy() {
+        return groupBy;
+    }
+
+    public List<Aggregate> aggregates() {
+        return aggregates;
+    }
+
+    /**
+     * Runs the plan over a table.
+     *
+     * @param input The table; it is not modified.
+     * @return The transformed table, sharing unchanged columns with the input.
+     * @throws IllegalArgumentException If the logic does not fit the table's columns.
+     */
+    public ColumnarTable execute(ColumnarTable input) {
+        if (isIdentity()) {
+            return input;
+        }
+
+        int[] selection = null; // Null while every row is selected
+        int count = input.rowCount();
+        for (Filter filter : filters) {
+            boolean all = selection == null;
+            if (all) {
+                selection = new int[count];
+            }
+            count = applyFilter(filter, input.column(filter.column()), selection, count, all);
+        }
+
+        ColumnarTable result;
+        if (!aggregates.isEmpty()) {
+            result = HashAggregator.aggregate(input, selection, count, bindGroupBy(input), bindAggregates(input));
+        } else if (selection == null) {
+            result = input;
+        } else {
+            List<Column> columns = new ArrayList<>(input.columns().size());
+            for (Column column : input.columns()) {
+                columns.add(column.gather(selection, count));
+            }
+            result = new ColumnarTable(count, columns);
+        }
+
+        if (!renames.isEmpty()) {
+            List<Column> columns = new ArrayList<>(result.columns().size());
+            for (Column column : result.columns()) {
+                String newName = renames.get(column.getName());
+                columns.add(newName != null ? column.rename(newName) : column);
+            }
+            result = new ColumnarTable(result.rowCount(), columns);
+        }
+
+        if (!select.isEmpty()) {
+            List<Column> columns = new ArrayList<>(select.size());
+            for (String name : select) {
+                Column column = result.column(name);
+                if (column == null) {
+                    throw new IllegalArgumentException("Unknown column '" + name + "' in select");
+                }
+                columns.add(column);
+            }
+            result = new ColumnarTable(result.rowCount(), columns);
+        }
+        return result;
+    }
+
+    /**
+     * Narrows the selection to the rows that match a filter, compacting it in place.
+     *
+     * @param all Whether every row is still selected, in which case the selection's content is not read.
+     * @return The number of rows still selected.
+     */
+    private static int applyFilter(Filter filter, Column column, int[] selection, int count, boolean all) {
+        if (column == null) {
+            return 0; // Every value is null
+        }
+        if (column instanceof NumericColumn numeric) {
+            return filterNumeric(filter, numeric, selection, count, all);
+        }
+        if (column instanceof ObjectColumn objects) {
+            return filterObjects(filter, objects, selection, count, all);
+        }
+        return filterText(filter, (StringColumn) column, selection, count, all);
+    }
+
+    private static int filterNumeric(Filter filter, NumericColumn column, int[] selection, int count, boolean all) {
+        double[] values = column.values();
+        BitSet nulls = column.nulls();
+        boolean hasNulls = !nulls.isEmpty();
+        Operator operator = filter.operator();
+        double operand = filter.number();
+        if (operator == Operator.CONTAINS) {
+            // Rare on numbers: compare the formatted value, as the row maps would print it
+            int kept = 0;
+            for (int i = 0; i < count; i++) {
+                int row = all ? i : selection[i];
+                if (!(hasNulls && nulls.get(row)) && String.valueOf(column.getValue(row)).contains(filter.text())) {
+                    selection[kept++] = row;
+                }
+            }
+            return kept;
+        }
+        if (Double.isNaN(operand)) {
+            // A text value never equals a number
+            return operator == Operator.NE ? keepNonNull(column, selection, count, all) : 0;
+        }
+        int kept = 0;
+        for (int i = 0; i < count; i++) {
+            int row = all ? i : selection[i];
+            if (hasNulls && nulls.get(row)) {
+                continue;
+            }
+            double value = values[row];
+            boolean match = switch (operator) {
+                case EQ -> value == operand;
+                case NE -> value != operand;
+                case GT -> value > operand;
+                case LT -> value < operand;
+                case GE -> value >= operand;
+                case LE -> value <= operand;
+                default -> false;
+            };
+            if (match) {
+                selection[kept++] = row;
+            }
+        }
+        return kept;
+    }
+
+    private static int filterText(Filter filter, StringColumn column, int[] selection, int count, boolean all) {
+        if (filter.operator().isOrdering()) {
+            throw new IllegalArgumentException("Filter operator on column '" + filter.column() + "' needs numbers, but it holds text");
+        }
+        int[] codes = column.codes();
+        // Evaluate the filter once per distinct value, then per row only look up its code
+        List<String> dictionary = column.dictionary();
+        boolean[] matches = new boolean[dictionary.size()];
+        for (int code = 0; code < matches.length; code++) {
+            String value = dictionary.get(code);
+            matches[code] = switch (filter.operator()) {
+                case EQ -> value.equals(filter.text());
+                case NE -> !value.equals(filter.text());
+                case CONTAINS -> value.contains(filter.text());
+                default -> false;
+            };
+        }
+        int kept = 0;
+        for (int i = 0; i < count; i++) {
+            int row = all ? i : selection[i];
+            int code = codes[row];
+            if (code != StringColumn.NULL_CODE && matches[code]) {
+                selection[kept++] = row;
+            }
+        }
+        return kept;
+    }
+
+    private static int filterObjects(Filter filter, ObjectColumn column, int[] selection, int count, boolean all) {
+        Operator operator = filter.operator();
+        double operand = filter.number();
+        int kept = 0;
+        for (int i = 0; i < count; i++) {
+            int row = all ? i : selection[i];
+            Object value = column.getValue(row);
+            if (value == null) {
+                continue;
+            }
+            boolean match;
+            if (operator == Operator.CONTAINS) {
+                match = String.valueOf(value).contains(filter.text());
+            } else if (value instanceof Number number && !Double.isNaN(operand)) {
+                double v = number.doubleValue();
+                match = switch (operator) {
+                    case EQ -> v == operand;
+                    case NE -> v != operand;
+                    case GT -> v > operand;
+                    case LT -> v < operand;
+                    case GE -> v >= operand;
+                    case LE -> v <= operand;
+                    default -> false;
+                };
+            } else {
+                match = switch (operator) {
+                    case EQ -> String.valueOf(value).equals(filter.text());
+                    case NE -> !String.valueOf(value).equals(filter.text());
+                    default -> false; // Only numbers are ordered
+                };
+            }
+            if (match) {
+                selection[kept++] = row;
+            }
+        }
+        return kept;
+    }
+
+    private static int keepNonNull(Column column, int[] selection, int count, boolean all) {
+        int kept = 0;
+        for (int i = 0; i < count; i++) {
+            int row = all ? i : selection[i];
+            if (!column.isNull(row)) {
+                selection[kept++] = row;
+            }
+        }
+        return kept;
+    }
+
+    private List<Column> bindGroupBy(ColumnarTable input) {
+        List<Column> columns = new ArrayList<>(groupBy.size());
+        for (String name : groupBy) {
+            Column column = input.column(name);
+            if (column == null) {
+                throw new IllegalArgumentException("Unknown column '" + name + "' in groupBy");
+            }
+            columns.add(column);
+        }
+        return columns;
+    }
+
+    private List<Aggregate> bindAggregates(ColumnarTable input) {
+        for (Aggregate aggregate : aggregates) {
+            if (aggregate.column() == null) {
+                continue;
+            }
+            Column column = input.column(aggregate.column());
+            if (column == null) {
+                throw new IllegalArgumentException("Unknown column '" + aggregate.column() + "' in aggregation");
+            }
+            if (aggregate.function() != AggregateFunction.COUNT && !(column instanceof NumericColumn)
+                    && !(column instanceof ObjectColumn objects && objects.isNumeric())) {
+                throw new IllegalArgumentException("Aggregation " + aggregate.function() + " needs numbers, but column '"
+                        + aggregate.column() + "' holds " + (column instanceof StringColumn ? "text" : "other values"));
+            }
+        }
+        return aggregates;
+    }
+
+    private static Iterable<JsonNode> array(JsonNode logic, String field) {
+        JsonNode node = logic.get(field);
+        if (node == null || node.isNull()) {
+            return List.of();
+        }
+        if (!node.isArray()) {
+            throw new IllegalArgumentException("'" + field + "' must be an array");
+        }
+        return node;
+    }
+
+    private static List<String> texts(JsonNode node, String field) {
+        if (node == null || node.isNull()) {
+            return List.of();
+        }
+        if (!node.isArray()) {
+            throw new IllegalArgumentException("'" + field + "' must be an array of column names");
+        }
+        List<String> values = new ArrayList<>(node.size());
+        node.forEach(value -> values.add(value.asText()));
+        return values;
+    }
+
+    private static String requiredText(JsonNode node, String field, String context) {
+        JsonNode value = node.get(field);
+        if (value == null || value.isNull() || value.asText().isBlank()) {
+            throw new IllegalArgumentException("Each " + context + " needs a '" + field + "'");
+        }
+        return value.asText();
+    }
+
+    private static double parseNumber(String text) {
+        try {
+            return Double.parseDouble(text.trim());
+        } catch (NumberFormatException e) {
+            return Double.NaN;
+        }
+    }
+}
+```
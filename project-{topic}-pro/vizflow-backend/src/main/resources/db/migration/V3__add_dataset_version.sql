@@ -0,0 +1,6 @@
+```sql
+-- V3__add_dataset_version.sql
+
+-- Bumped on every change to a dataset's definition; cached plans and results are keyed by it
+ALTER TABLE datasets ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+```
@@ -0,0 +1,157 @@
+```java
+package com.alx.vizflow.benchmark;
+
+import com.alx.vizflow.service.transform.ColumnarTable;
+import com.alx.vizflow.service.transform.TransformationPlan;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Times one dataset request, "SUM of sales per category where sales > 500", over ten million synthetic rows of
+ * four columns, from the source values to the result rows:
+ * <ul>
+ * <li>{@code legacyStreams}: the pipeline DatasetService had before the columnar engine, parsing the JSON on every
+ * call, one stream pass per filter and a List key per row when grouping, over rows held as maps;</li>
+ * <li>{@code columnarFromRows}: the same row maps converted by {@code ColumnarTable.fromRows} before the plan runs;</li>
+ * <li>{@code columnarFromSource}: what a request does now, boxing each row's values as a JDBC {@code getObject}
+ * would and adding them to a {@code ColumnarTable.Builder}, so no map is ever made per row;</li>
+ * <li>{@code columnarExecute}: the compiled plan alone, on a table built during setup.</li>
+ * </ul>
+ * The row maps for the first two are built once in setup and take most of the 8 GB heap the fork is given;
+ * {@code -p rows=1000000} runs a smaller dataset. Start it with {@link #main(String[])}, or through
+ * {@code org.openjdk.jmh.Main TransformationBenchmark -prof gc} on the test classpath to also see the bytes each
+ * variant allocates per request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g") // Ten million row maps take several gigabytes
+public class TransformationBenchmark {
+
+    private static final String LOGIC = """
+            {"filters": [{"column": "sales", "operator": ">", "value": 500}],
+             "aggregations": [{"column": "sales", "type": "SUM", "alias": "total_sales", "groupBy": ["category"]}]}
+            """;
+    private static final String[] CATEGORIES = {"Electronics", "Clothing", "Books", "Toys", "Garden", "Sports", "Food", "Music"};
+    private static final String[] REGIONS = {"North", "South", "East", "West"};
+
+    @Param("10000000")
+    private int rows;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private int[] categories; // The source's values, one array per column
+    private double[] sales;
+    private int[] units;
+    private int[] regions;
+    private List<Map<String, Object>> rawData;
+    private TransformationPlan plan;
+    private ColumnarTable table;
+
+    @Setup
+    public void setUp() throws Exception {
+        SplittableRandom random = new SplittableRandom(42);
+        categories = new int[rows];
+        sales = new double[rows];
+        units = new int[rows];
+        regions = new int[rows];
+        rawData = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            categories[i] = random.nextInt(CATEGORIES.length);
+            sales[i] = Math.round(random.nextDouble(0, 2000) * 100) / 100.0;
+            units[i] = random.nextInt(1, 200);
+            regions[i] = random.nextInt(REGIONS.length);
+            rawData.add(Map.of("category", CATEGORIES[categories[i]], "sales", sales[i], "units", units[i],
+                    "region", REGIONS[regions[i]]));
+        }
+        plan = TransformationPlan.compile(objectMapper.readTree(LOGIC));
+        table = ColumnarTable.fromRows(rawData);
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> legacyStreams() throws Exception {
+        return legacyApply(rawData);
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> columnarFromRows() {
+        return plan.execute(ColumnarTable.fromRows(rawData)).toRows();
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> columnarFromSource() {
+        ColumnarTable.Builder builder = ColumnarTable.builder(List.of("category", "sales", "units", "region"), rows);
+        Object[] row = new Object[4];
+        for (int i = 0; i < rows; i++) {
+            row[0] = CATEGORIES[categories[i]];
+            row[1] = sales[i];
+            row[2] = units[i];
+            row[3] = REGIONS[regions[i]];
+            builder.addRow(row);
+        }
+        return plan.execute(builder.build()).toRows();
+    }
+
+    @Benchmark
+    public ColumnarTable columnarExecute() {
+        return plan.execute(table);
+    }
+
+    private List<Map<String, Object>> legacyApply(List<Map<String, Object>> data) throws Exception {
+        JsonNode logicNode = objectMapper.readTree(LOGIC);
+        List<Map<String, Object>> filteredData = data;
+        for (JsonNode filter : logicNode.get("filters")) {
+            String column = filter.get("column").asText();
+            double value = filter.get("value").asDouble();
+            filteredData = filteredData.stream().filter(row -> {
+                Object rowValue = row.get(column);
+                return rowValue != null && ((Number) rowValue).doubleValue() > value;
+            }).collect(Collectors.toList());
+        }
+        JsonNode aggregation = logicNode.get("aggregations").get(0);
+        String aggColumn = aggregation.get("column").asText();
+        String alias = aggregation.get("alias").asText();
+        List<String> groupByColumns = new ArrayList<>();
+        aggregation.get("groupBy").forEach(column -> groupByColumns.add(column.asText()));
+        Map<List<Object>, Double> aggregatedResults = filteredData.stream()
+                .collect(Collectors.groupingBy(
+                        row -> groupByColumns.stream().map(row::get).collect(Collectors.toList()),
+                        Collectors.summingDouble(row -> ((Number) row.getOrDefault(aggColumn, 0)).doubleValue())));
+        return aggregatedResults.entrySet().stream().map(entry -> {
+            Map<String, Object> newRow = new HashMap<>();
+            for (int i = 0; i < groupByColumns.size(); i++) {
+                newRow.put(groupByColumns.get(i), entry.getKey().get(i));
+            }
+            newRow.put(alias, entry.getValue());
+            return newRow;
+        }).collect(Collectors.toList());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(TransformationBenchmark.class.getSimpleName()).build()).run();
+    }
+}
+```
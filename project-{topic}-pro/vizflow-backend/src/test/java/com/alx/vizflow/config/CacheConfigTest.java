@@ -0,0 +1,47 @@
+```java
+package com.alx.vizflow.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Cache Config Unit Tests")
+class CacheConfigTest {
+
+    @Test
+    void testDatasetDataCache_WeighsRowsByTheirValues() {
+        CacheManager cacheManager = new CacheConfig().cacheManager(10);
+        CaffeineCache dataCache = (CaffeineCache) cacheManager.getCache(CacheConfig.DATASET_DATA);
+
+        dataCache.put("a", List.of(Map.of("x", 1, "y", 2, "z", 3), Map.of("x", 4))); // 2 rows + 4 values
+        assertEquals(6, weightedSize(dataCache));
+
+        dataCache.put("b", List.of(Map.of("x", 1, "y", 2))); // 1 row + 2 values
+        assertEquals(9, weightedSize(dataCache));
+
+        dataCache.put("c", List.of(Map.of("x", 1, "y", 2, "z", 3))); // 4 more go over the maximum of 10
+        dataCache.getNativeCache().cleanUp();
+        assertTrue(weightedSize(dataCache) <= 10);
+        assertTrue(dataCache.getNativeCache().estimatedSize() < 3);
+    }
+
+    @Test
+    void testCacheManager_KnowsDatasetCaches() {
+        CacheManager cacheManager = new CacheConfig().cacheManager(10);
+
+        assertNotNull(cacheManager.getCache(CacheConfig.DATASET_PLANS));
+        assertNotNull(cacheManager.getCache(CacheConfig.DATASET_DATA));
+    }
+
+    private static long weightedSize(CaffeineCache cache) {
+        cache.getNativeCache().cleanUp(); // Weights are applied by the cache's maintenance
+        return cache.getNativeCache().policy().eviction().orElseThrow().weightedSize().orElseThrow();
+    }
+}
+```
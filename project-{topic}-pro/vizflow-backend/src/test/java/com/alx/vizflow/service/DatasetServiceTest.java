@@ -0,0 +1,122 @@
+```java
+package com.alx.vizflow.service;
+
+import com.alx.vizflow.config.CacheConfig;
+import com.alx.vizflow.model.DataSource;
+import com.alx.vizflow.model.Dataset;
+import com.alx.vizflow.model.User;
+import com.alx.vizflow.repository.DataSourceRepository;
+import com.alx.vizflow.repository.DatasetRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Dataset Service Unit Tests")
+class DatasetServiceTest {
+
+    private static final String SUM_BY_CATEGORY = """
+            {"aggregations": [{"column": "sales", "type": "SUM", "alias": "total_sales", "groupBy": ["category"]}]}
+            """;
+    private static final String COUNT_ALL = """
+            {"aggregations": [{"type": "COUNT", "alias": "rows"}]}
+            """;
+
+    @Mock
+    private DatasetRepository datasetRepository;
+    @Mock
+    private DataSourceRepository dataSourceRepository;
+
+    private DatasetService datasetService;
+    private Dataset dataset;
+    private User owner;
+
+    @BeforeEach
+    void setUp() {
+        datasetService = new DatasetService(datasetRepository, dataSourceRepository, new ObjectMapper(),
+                new CacheConfig().cacheManager(1_000_000));
+
+        owner = new User();
+        owner.setId(1L);
+        DataSource dataSource = new DataSource();
+        dataSource.setId(1L);
+        dataSource.setName("Sales DB");
+
+        dataset = new Dataset();
+        dataset.setId(10L);
+        dataset.setName("Sales");
+        dataset.setDataSource(dataSource);
+        dataset.setOwner(owner);
+        dataset.setTransformationLogic(SUM_BY_CATEGORY);
+        dataset.setVersion(0L);
+        when(datasetRepository.findById(10L)).thenReturn(Optional.of(dataset));
+    }
+
+    @Test
+    @DisplayName("Should compute a dataset's data once per version")
+    void testGetDatasetData_CachedPerVersion() {
+        List<Map<String, Object>> first = datasetService.getDatasetData(10L);
+        List<Map<String, Object>> second = datasetService.getDatasetData(10L);
+
+        assertEquals(3, first.size());
+        assertSame(first, second);
+    }
+
+    @Test
+    @DisplayName("Should retire the cached data once the dataset is updated")
+    void testUpdateDataset_RetiresCachedData() {
+        List<Map<String, Object>> before = datasetService.getDatasetData(10L);
+        when(datasetRepository.save(any(Dataset.class))).thenAnswer(invocation -> {
+            Dataset saved = invocation.getArgument(0);
+            saved.setVersion(saved.getVersion() + 1); // As Hibernate does when flushing the update
+            return saved;
+        });
+        Dataset update = new Dataset();
+        update.setName("Sales");
+        update.setTransformationLogic(COUNT_ALL);
+
+        datasetService.updateDataset(10L, update, owner);
+        List<Map<String, Object>> after = datasetService.getDatasetData(10L);
+
+        assertEquals(3, before.size());
+        assertEquals(List.of(Map.of("rows", 7L)), after);
+        assertSame(after, datasetService.getDatasetData(10L));
+    }
+
+    @Test
+    @DisplayName("Should return the source rows as they are without transformation logic")
+    void testGetDatasetData_WithoutLogic() {
+        dataset.setTransformationLogic(null);
+
+        List<Map<String, Object>> data = datasetService.getDatasetData(10L);
+
+        assertEquals(7, data.size());
+        assertEquals(Map.of("category", "Electronics", "sales", 1200.0, "units", 50, "region", "North"), data.get(0));
+        assertEquals(Map.of("category", "Books", "sales", 700.0, "units", 40, "region", "North"), data.get(6));
+    }
+
+    @Test
+    @DisplayName("Should report logic that does not fit the data as invalid, without caching it")
+    void testGetDatasetData_LogicNotFittingTheData() {
+        dataset.setTransformationLogic("""
+                {"aggregations": [{"column": "category", "type": "SUM", "alias": "total"}]}
+                """);
+
+        IllegalArgumentException thrown = assertThrows(IllegalArgumentException.class, () -> datasetService.getDatasetData(10L));
+        assertEquals("Aggregation SUM needs numbers, but column 'category' holds text", thrown.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> datasetService.getDatasetData(10L));
+    }
+}
+```
@@ -0,0 +1,225 @@
+```java
+package com.alx.vizflow.service.transform;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Transformation Plan Unit Tests")
+class TransformationPlanTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private List<Map<String, Object>> rows;
+
+    @BeforeEach
+    void setUp() {
+        rows = List.of(
+                Map.of("category", "Electronics", "sales", 1200.0, "units", 50, "region", "North"),
+                Map.of("category", "Electronics", "sales", 800.0, "units", 30, "region", "South"),
+                Map.of("category", "Clothing", "sales", 500.0, "units", 100, "region", "North"),
+                Map.of("category", "Clothing", "sales", 1500.0, "units", 150, "region", "East"),
+                Map.of("category", "Books", "sales", 300.0, "units", 20, "region", "West"),
+                Map.of("category", "Electronics", "sales", 2000.0, "units", 75, "region", "East"),
+                Map.of("category", "Books", "sales", 700.0, "units", 40, "region", "North")
+        );
+    }
+
+    @Test
+    void testFilterAndRename_KeepsMatchingRowsAndOtherColumns() throws Exception {
+        List<Map<String, Object>> result = run("""
+                {"filters": [{"column": "sales", "operator": ">=", "value": 800},
+                             {"column": "region", "operator": "!=", "value": "East"}],
+                 "renames": [{"old": "category", "new": "Category"}]}
+                """);
+
+        assertEquals(List.of(
+                Map.of("Category", "Electronics", "sales", 1200.0, "units", 50, "region", "North"),
+                Map.of("Category", "Electronics", "sales", 800.0, "units", 30, "region", "South")
+        ), result);
+    }
+
+    @Test
+    void testAggregations_GroupedWithSeveralFunctions() throws Exception {
+        List<Map<String, Object>> result = run("""
+                {"filters": [{"column": "region", "operator": "contains", "value": "th"}],
+                 "groupBy": ["category"],
+                 "aggregations": [{"column": "sales", "type": "SUM", "alias": "total_sales"},
+                                  {"column": "sales", "type": "AVG", "alias": "avg_sales"},
+                                  {"column": "units", "type": "MAX", "alias": "max_units"},
+                                  {"type": "COUNT", "alias": "orders"}]}
+                """);
+
+        assertEquals(List.of(
+                Map.of("category", "Electronics", "total_sales", 2000.0, "avg_sales", 1000.0, "max_units", 50L, "orders", 2L),
+                Map.of("category", "Clothing", "total_sales", 500.0, "avg_sales", 500.0, "max_units", 100L, "orders", 1L),
+                Map.of("category", "Books", "total_sales", 700.0, "avg_sales", 700.0, "max_units", 40L, "orders", 1L)
+        ), result);
+    }
+
+    @Test
+    void testAggregations_LegacyGroupByOnAggregationAndSelect() throws Exception {
+        List<Map<String, Object>> result = run("""
+                {"aggregations": [{"column": "units", "type": "MIN", "alias": "min_units", "groupBy": ["region", "category"]}],
+                 "renames": [{"old": "min_units", "new": "Smallest order"}],
+                 "select": ["Smallest order", "region"]}
+                """);
+
+        assertEquals(7, result.size()); // Groups in order of first appearance
+        assertEquals(Map.of("Smallest order", 30L, "region", "South"), result.get(1));
+        assertEquals(Map.of("Smallest order", 40L, "region", "North"), result.get(6));
+    }
+
+    @Test
+    void testAggregations_WithoutGroupByIncludingNulls() throws Exception {
+        List<Map<String, Object>> withNull = new ArrayList<>(rows);
+        withNull.add(Map.of("category", "Toys"));
+
+        TransformationPlan plan = compile("""
+                {"aggregations": [{"column": "sales", "type": "SUM", "alias": "total"},
+                                  {"column": "sales", "type": "COUNT", "alias": "with_sales"},
+                                  {"type": "COUNT", "alias": "rows"}]}
+                """);
+        List<Map<String, Object>> result = plan.execute(ColumnarTable.fromRows(withNull)).toRows();
+
+        assertEquals(List.of(Map.of("total", 7000.0, "with_sales", 7L, "rows", 8L)), result);
+    }
+
+    @Test
+    void testFilter_KeepsBooleanBigDecimalAndOtherValuesUnchanged() throws Exception {
+        List<Map<String, Object>> typed = List.of(
+                Map.of("active", true, "price", new BigDecimal("19.90"), "day", LocalDate.of(2024, 1, 1),
+                        "tags", List.of("new"), "units", (short) 3, "sales", 10),
+                Map.of("active", false, "price", new BigDecimal("0.10"), "day", LocalDate.of(2024, 1, 2),
+                        "tags", List.of(), "units", (short) 4, "sales", 10.5),
+                Map.of("active", true, "price", new BigDecimal("5"), "day", LocalDate.of(2024, 1, 3),
+                        "tags", List.of("sale", "new"), "units", (short) 5, "sales", 11L));
+
+        List<Map<String, Object>> result = compile("""
+                {"filters": [{"column": "active", "operator": "=", "value": true},
+                             {"column": "price", "operator": ">", "value": 1}]}
+                """).execute(ColumnarTable.fromRows(typed)).toRows();
+
+        assertEquals(List.of(typed.get(0), typed.get(2)), result);
+        assertEquals(BigDecimal.class, result.get(1).get("price").getClass());
+        assertEquals("19.90", result.get(0).get("price").toString()); // Scale kept
+        assertEquals(Integer.class, result.get(0).get("sales").getClass());
+        assertEquals(Long.class, result.get(1).get("sales").getClass());
+    }
+
+    @Test
+    void testAggregations_GroupByBooleanAndSumBigDecimal() throws Exception {
+        List<Map<String, Object>> typed = List.of(
+                Map.of("active", true, "price", new BigDecimal("19.90")),
+                Map.of("active", false, "price", new BigDecimal("0.10")),
+                Map.of("active", true, "price", new BigDecimal("5")));
+
+        List<Map<String, Object>> result = compile("""
+                {"groupBy": ["active"],
+                 "aggregations": [{"column": "price", "type": "SUM", "alias": "total"}]}
+                """).execute(ColumnarTable.fromRows(typed)).toRows();
+
+        assertEquals(List.of(Map.of("active", true, "total", 24.9), Map.of("active", false, "total", 0.1)), result);
+        IllegalArgumentException thrown = assertThrows(IllegalArgumentException.class, () -> compile("""
+                {"aggregations": [{"column": "active", "type": "SUM"}]}
+                """).execute(ColumnarTable.fromRows(typed)));
+        assertEquals("Aggregation SUM needs numbers, but column 'active' holds other values", thrown.getMessage());
+    }
+
+    @Test
+    void testBuilder_TypesColumnsAsFromRows() throws Exception {
+        ColumnarTable.Builder builder = ColumnarTable.builder(List.of("category", "sales", "units", "region"), 2);
+        Object[] row = new Object[4];
+        for (Map<String, Object> values : rows) { // Past the expected rows, reusing one array
+            row[0] = values.get("category");
+            row[1] = values.get("sales");
+            row[2] = values.get("units");
+            row[3] = values.get("region");
+            builder.addRow(row);
+        }
+        ColumnarTable table = builder.build();
+        String logic = """
+                {"groupBy": ["category"], "aggregations": [{"column": "sales", "type": "SUM", "alias": "total"}]}
+                """;
+
+        assertEquals(7, table.rowCount());
+        assertInstanceOf(StringColumn.class, table.column("category"));
+        assertInstanceOf(NumericColumn.class, table.column("sales"));
+        assertEquals(rows, table.toRows());
+        assertEquals(run(logic), compile(logic).execute(table).toRows());
+    }
+
+    @Test
+    void testBuilder_NullAndMixedValues() {
+        ColumnarTable table = ColumnarTable.builder(List.of("name", "count", "flag"), 0)
+                .addRow("a", 1, true)
+                .addRow(null, 2L, "yes")
+                .addRow("c", null, null)
+                .build();
+
+        assertEquals(List.of(
+                Map.of("name", "a", "count", 1, "flag", true),
+                Map.of("count", 2L, "flag", "yes"),
+                Map.of("name", "c")
+        ), table.toRows());
+        assertThrows(IllegalArgumentException.class, () -> ColumnarTable.builder(List.of("a", "b"), 1).addRow("x"));
+        assertThrows(IllegalArgumentException.class, () -> ColumnarTable.builder(List.of("a", "a"), 1));
+    }
+
+    @Test
+    void testExecute_NoMatchingRowsOnUnknownFilterColumn() throws Exception {
+        List<Map<String, Object>> result = run("""
+                {"filters": [{"column": "missing", "operator": "=", "value": "x"}]}
+                """);
+
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void testCompile_RejectsMalformedLogic() throws Exception {
+        assertThrows(IllegalArgumentException.class, () -> compile("""
+                {"filters": [{"column": "sales", "operator": "~", "value": 1}]}
+                """));
+        assertThrows(IllegalArgumentException.class, () -> compile("""
+                {"filters": [{"column": "sales", "operator": ">", "value": "many"}]}
+                """));
+        assertThrows(IllegalArgumentException.class, () -> compile("""
+                {"aggregations": [{"column": "sales", "type": "MEDIAN"}]}
+                """));
+        assertThrows(IllegalArgumentException.class, () -> compile("""
+                {"aggregations": [{"column": "sales", "type": "SUM", "groupBy": ["category"]},
+                                  {"column": "units", "type": "SUM", "groupBy": ["region"]}]}
+                """));
+        assertTrue(compile("{}").isIdentity());
+    }
+
+    @Test
+    void testExecute_RejectsLogicThatDoesNotFitTheData() {
+        IllegalArgumentException thrown = assertThrows(IllegalArgumentException.class, () -> run("""
+                {"aggregations": [{"column": "category", "type": "SUM", "alias": "total"}]}
+                """));
+        assertEquals("Aggregation SUM needs numbers, but column 'category' holds text", thrown.getMessage());
+
+        assertThrows(IllegalArgumentException.class, () -> run("""
+                {"filters": [{"column": "region", "operator": ">", "value": 1}]}
+                """));
+    }
+
+    private List<Map<String, Object>> run(String logic) throws Exception {
+        return compile(logic).execute(ColumnarTable.fromRows(rows)).toRows();
+    }
+
+    private TransformationPlan compile(String logic) throws Exception {
+        return TransformationPlan.compile(objectMapper.readTree(logic));
+    }
+}
+```